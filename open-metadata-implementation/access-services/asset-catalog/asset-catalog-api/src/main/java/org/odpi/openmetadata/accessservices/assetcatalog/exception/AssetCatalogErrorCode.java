@@ -61,6 +61,14 @@ public enum AssetCatalogErrorCode implements ExceptionMessageSet {
             "The system is unable to retrieve assets of an unknown type/s.",
             "Check that the entity type/s provided is/are correct."),
 
+    /**
+     * OMAS-ASSET-CATALOG-500-001 The error indicates that the embedded search index could not be read or updated.
+     */
+    SEARCH_INDEX_FAILURE(500, "OMAS-ASSET-CATALOG-500-001 ",
+            "The search index for OMAS Server {0} could not be updated; error message is {1}",
+            "The system is unable to rebuild the search index. Searches continue to be sent to the metadata repositories.",
+            "Check that the search index directory exists and is writable, then request a rebuild of the search index."),
+
     /**
      * OMAS-ASSET-CATALOG-503-001 The error indicates that the server has received a call to one of its open metadata
      * access services but is unable to process it because the access service is not active for the requested server.
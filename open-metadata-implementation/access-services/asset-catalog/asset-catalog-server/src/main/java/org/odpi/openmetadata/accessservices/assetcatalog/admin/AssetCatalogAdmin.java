@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.assetcatalog.admin;
 
 import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogSearchIndex;
 import org.odpi.openmetadata.accessservices.assetcatalog.listeners.AssetCatalogOMRSTopicListener;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.registration.AccessServiceAdmin;
@@ -14,9 +15,15 @@ import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicCo
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GLOSSARY_TERM;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.SCHEMA_ELEMENT;
+
 /**
  * AssetCatalogAdmin is the class that is called by the OMAG Server to initialize and terminate
  * the Asset Catalog OMAS.  The initialization call provides this OMAS with resources from the
@@ -26,9 +33,11 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
 
     private static final String SUPPORTED_TYPES_FOR_SEARCH   = "SupportedTypesForSearch";
     private static final String ENABLE_INDEX_EVENTS          = "EnableIndexingEvents";
+    private static final String SEARCH_INDEX_DIRECTORY       = "SearchIndexDirectory";
     private AuditLog auditLog;
     private String serverName;
     private AssetCatalogServicesInstance instance;
+    private AssetCatalogSearchIndex searchIndex;
 
 
     /**
@@ -59,18 +68,21 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
 
             List<String> supportedTypesForSearch = getSupportedTypesForSearchOption(accessServiceConfigurationProperties);
 
+            searchIndex = openSearchIndex(accessServiceConfigurationProperties, repositoryConnector, auditLog);
+
             instance = new AssetCatalogServicesInstance(repositoryConnector, supportedZones, auditLog, serverUserName,
                     accessServiceConfigurationProperties.getAccessServiceName(), supportedTypesForSearch,
                     accessServiceConfigurationProperties.getAccessServiceInTopic(),
-                    accessServiceConfigurationProperties.getAccessServiceOutTopic());
+                    accessServiceConfigurationProperties.getAccessServiceOutTopic(), searchIndex);
 
 
             boolean indexingEnabled = this.isIndexingEnabled(accessServiceConfigurationProperties);
 
-            if(indexingEnabled) {
+            if(indexingEnabled || searchIndex != null) {
                 registerListener(accessServiceConfigurationProperties,
                         enterpriseOMRSTopicConnector,
                         repositoryConnector,
+                        indexingEnabled,
                         auditLog);
             }
 
@@ -88,16 +100,20 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
     private void registerListener(AccessServiceConfig accessServiceConfigurationProperties,
                                   OMRSTopicConnector enterpriseOMRSTopicConnector,
                                   OMRSRepositoryConnector repositoryConnector,
+                                  boolean indexingEnabled,
                                   AuditLog auditLog) throws OMAGConfigurationErrorException {
 
         Connection outTopicConnection = accessServiceConfigurationProperties.getAccessServiceOutTopic();
 
         String serviceName = accessServiceConfigurationProperties.getAccessServiceName();
 
-        OpenMetadataTopicConnector outTopicConnector = super.getOutTopicEventBusConnector(
-                outTopicConnection,
-                accessServiceConfigurationProperties.getAccessServiceName(),
-                auditLog);
+        OpenMetadataTopicConnector outTopicConnector = null;
+        if (indexingEnabled) {
+            outTopicConnector = super.getOutTopicEventBusConnector(
+                    outTopicConnection,
+                    accessServiceConfigurationProperties.getAccessServiceName(),
+                    auditLog);
+        }
 
         List<String> supportedZones = this.extractSupportedZones(
                 accessServiceConfigurationProperties.getAccessServiceOptions(),
@@ -114,7 +130,8 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
                 repositoryConnector.getRepositoryValidator(),
                 serverName,
                 supportedZones,
-                supportedTypesForSearch
+                supportedTypesForSearch,
+                searchIndex
                 );
 
         super.registerWithEnterpriseTopic(
@@ -133,6 +150,15 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
             instance.shutdown();
         }
 
+        if (searchIndex != null) {
+            try {
+                searchIndex.close();
+            } catch (IOException error) {
+                auditLog.logException("shutdown",
+                        AssetCatalogAuditCode.SEARCH_INDEX_EXCEPTION.getMessageDefinition(error.getMessage(), serverName), error);
+            }
+        }
+
         if (auditLog != null) {
             final String actionDescription = "shutdown";
 
@@ -140,6 +166,45 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
         }
     }
 
+    /**
+     * Open the embedded search index if a directory for it is configured.  Problems opening the index are logged
+     * and the service continues without it, sending searches to the repositories.
+     *
+     * @param accessServiceConfigurationProperties service configuration object
+     * @param repositoryConnector connector for querying the cohort repositories
+     * @param auditLog audit log component for logging messages.
+     * @return the search index or null if it is not configured
+     */
+    private AssetCatalogSearchIndex openSearchIndex(AccessServiceConfig accessServiceConfigurationProperties,
+                                                    OMRSRepositoryConnector repositoryConnector,
+                                                    AuditLog auditLog) {
+        final String actionDescription = "openSearchIndex";
+
+        if (accessServiceConfigurationProperties.getAccessServiceOptions() == null) {
+            return null;
+        }
+
+        Object indexDirectory = accessServiceConfigurationProperties.getAccessServiceOptions().get(SEARCH_INDEX_DIRECTORY);
+        if (!(indexDirectory instanceof String)) {
+            return null;
+        }
+
+        try {
+            AssetCatalogSearchIndex index = new AssetCatalogSearchIndex((String) indexDirectory,
+                    repositoryConnector.getRepositoryHelper(),
+                    accessServiceConfigurationProperties.getAccessServiceName(),
+                    Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT));
+
+            auditLog.logMessage(actionDescription, AssetCatalogAuditCode.SEARCH_INDEX_OPENED.getMessageDefinition((String) indexDirectory,
+                    Boolean.toString(index.isAvailable())));
+            return index;
+        } catch (IOException error) {
+            auditLog.logException(actionDescription,
+                    AssetCatalogAuditCode.SEARCH_INDEX_EXCEPTION.getMessageDefinition(error.getMessage(), (String) indexDirectory), error);
+            return null;
+        }
+    }
+
     private boolean isIndexingEnabled(AccessServiceConfig accessServiceConfigurationProperties) {
         if (accessServiceConfigurationProperties.getAccessServiceOptions() != null) {
             return (Boolean) accessServiceConfigurationProperties.getAccessServiceOptions().getOrDefault(ENABLE_INDEX_EVENTS, Boolean.FALSE);
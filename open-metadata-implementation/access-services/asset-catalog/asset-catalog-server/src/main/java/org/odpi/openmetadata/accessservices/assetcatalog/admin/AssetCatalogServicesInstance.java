@@ -8,6 +8,7 @@ import org.odpi.openmetadata.accessservices.assetcatalog.converters.AssetCatalog
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogErrorCode;
 import org.odpi.openmetadata.accessservices.assetcatalog.handlers.AssetCatalogHandler;
 import org.odpi.openmetadata.accessservices.assetcatalog.handlers.RelationshipHandler;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogSearchIndex;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogBean;
 import org.odpi.openmetadata.accessservices.assetcatalog.service.ClockService;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
@@ -50,13 +51,15 @@ class AssetCatalogServicesInstance extends OMASServiceInstance {
      * @param auditLog                logging destination
      * @param serverUserName          userId used for server initiated actions
      * @param supportedTypesForSearch default list of supported types for search method
+     * @param searchIndex             embedded search index, or null if it is not configured
      * @throws NewInstanceException a problem occurred during initialization
      */
     AssetCatalogServicesInstance(OMRSRepositoryConnector repositoryConnector, List<String> supportedZones,
                                  AuditLog auditLog, String serverUserName, String sourceName,
                                  List<String> supportedTypesForSearch,
                                  Connection inTopicEventBusConnection,
-                                 Connection outTopicEventBusConnection) throws NewInstanceException {
+                                 Connection outTopicEventBusConnection,
+                                 AssetCatalogSearchIndex searchIndex) throws NewInstanceException {
 
         super(description.getAccessServiceName() + " OMAS",
                 repositoryConnector,
@@ -86,7 +89,7 @@ class AssetCatalogServicesInstance extends OMASServiceInstance {
 
             assetCatalogHandler = new AssetCatalogHandler(serverName, sourceName, invalidParameterHandler,
                     repositoryHandler, repositoryHelper, assetHandler, assetCatalogConverter,  errorHandler,
-                    supportedZones, supportedTypesForSearch, clockService);
+                    supportedZones, supportedTypesForSearch, clockService, searchIndex);
 
             relationshipHandler = new RelationshipHandler(sourceName, invalidParameterHandler, repositoryHandler,
                     repositoryHelper, assetHandler, errorHandler, clockService);
@@ -75,6 +75,33 @@ public enum AssetCatalogAuditCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.TRACE,
             "An event is ignored {0}",
             "The event will not be processed.",
+            "No action is required. This is part of the normal operation of the service."),
+
+    /**
+     * OMAS-ASSET-CATALOG-0007 The search index has been opened.
+     */
+    SEARCH_INDEX_OPENED("OMAS-ASSET-CATALOG-0007",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The Asset Catalog Open Metadata Access Service (OMAS) has opened the search index in {0}; index available for search is {1}",
+            "The search index is kept up to date from the OMRS instance events. It is used to answer searches once it has been rebuilt from the repositories. An index that was not closed cleanly may have lost updates and is not available until it is rebuilt.",
+            "If the index is not available for search, request a rebuild of the search index."),
+
+    /**
+     * OMAS-ASSET-CATALOG-0008 The search index could not be used.
+     */
+    SEARCH_INDEX_EXCEPTION("OMAS-ASSET-CATALOG-0008",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "An exception with message {0} occurred while using the search index in {1}",
+            "The search index may be out of date. Searches are sent to the metadata repositories if the index can not be read.",
+            "Review the exception to determine the source of the error and correct it. Then request a rebuild of the search index."),
+
+    /**
+     * OMAS-ASSET-CATALOG-0009 The search index has been rebuilt.
+     */
+    SEARCH_INDEX_REBUILT("OMAS-ASSET-CATALOG-0009",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Asset Catalog Open Metadata Access Service (OMAS) has rebuilt the search index with {0} entities for server {1}",
+            "The search index now holds the searchable entities from the metadata repositories and is used to answer searches.",
             "No action is required. This is part of the normal operation of the service."),;
 
 
@@ -6,6 +6,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.odpi.openmetadata.accessservices.assetcatalog.converters.AssetCatalogConverter;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogErrorCode;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogException;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogSearchIndex;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogBean;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogItemElement;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.Connection;
@@ -41,9 +42,11 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorExceptio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -142,6 +145,7 @@ public class AssetCatalogHandler {
 
     private static final Logger log = LoggerFactory.getLogger(AssetCatalogHandler.class);
     private static final String THIS_ASSET_IF_A_DIFFERENT_ZONE = "This asset if a different zone: {}";
+    private static final int INDEX_REBUILD_PAGE_SIZE = 500;
 
     private final String serverUserName;
     private final String sourceName;
@@ -157,6 +161,7 @@ public class AssetCatalogHandler {
     private List<String> supportedTypesForSearch = new ArrayList<>(Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT));
 
     private final List<String> supportedZones;
+    private final AssetCatalogSearchIndex searchIndex;
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -179,6 +184,33 @@ public class AssetCatalogHandler {
                                AssetCatalogConverter<AssetCatalogBean> assetCatalogConverter,
                                RepositoryErrorHandler errorHandler, List<String> supportedZones, List<String> supportedTypesForSearch,
                                ClockService clockService) {
+        this(serverUserName, sourceName, invalidParameterHandler, repositoryHandler, repositoryHelper, assetHandler,
+                assetCatalogConverter, errorHandler, supportedZones, supportedTypesForSearch, clockService, null);
+    }
+
+    /**
+     * Construct the handler information needed to interact with the repository services and the optional search index
+     *
+     * @param serverUserName          name of the local server
+     * @param sourceName              name of the component
+     * @param invalidParameterHandler handler for managing parameter errors
+     * @param repositoryHandler       manages calls to the repository services
+     * @param repositoryHelper        provides utilities for manipulating the repository services objects
+     * @param assetHandler            provides utilities for manipulating asset catalog objects using a generic handler
+     * @param assetCatalogConverter   asset catalog bean converter
+     * @param errorHandler            provides common validation routines for the other handler classes
+     * @param supportedZones          configurable list of zones that Asset Catalog is allowed to serve Assets from
+     * @param supportedTypesForSearch configurable list of supported types used for search
+     * @param clockService            clock service
+     * @param searchIndex             embedded search index used to answer searches, or null if not configured
+     */
+    public AssetCatalogHandler(String serverUserName, String sourceName, InvalidParameterHandler invalidParameterHandler,
+                               RepositoryHandler repositoryHandler, OMRSRepositoryHelper repositoryHelper,
+                               OpenMetadataAPIGenericHandler<AssetCatalogBean> assetHandler,
+                               AssetCatalogConverter<AssetCatalogBean> assetCatalogConverter,
+                               RepositoryErrorHandler errorHandler, List<String> supportedZones, List<String> supportedTypesForSearch,
+                               ClockService clockService, AssetCatalogSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
         this.serverUserName = serverUserName;
         this.sourceName = sourceName;
         this.invalidParameterHandler = invalidParameterHandler;
@@ -396,7 +428,6 @@ public class AssetCatalogHandler {
         invalidParameterHandler.validateObject(searchParameters, SEARCH_PARAMETER, methodName);
         invalidParameterHandler.validatePaging(searchParameters.getFrom(), searchParameters.getPageSize(), methodName);
 
-        List<EntityDetail> result;
         Map<String, String> typesAndGUIDsFilter;
         if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
             typesAndGUIDsFilter = commonHandler.getTypesAndGUIDs(userId, searchParameters.getEntityTypes());
@@ -406,9 +437,21 @@ public class AssetCatalogHandler {
                     throw new EntityNotKnownException(messageDefinition, this.getClass().getName(), messageDefinition.getUserAction());
                 }
             }
-             result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesAndGUIDsFilter, methodName);
         } else {
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, defaultSearchTypes, methodName);
+            typesAndGUIDsFilter = defaultSearchTypes;
+        }
+
+        List<EntityDetail> result = null;
+        if (isSearchIndexAvailable(userId, typesAndGUIDsFilter.keySet(), searchParameters)) {
+            try {
+                result = collectIndexedEntitiesByType(userId, searchCriteria, searchParameters, typesAndGUIDsFilter, methodName);
+            } catch (IOException e) {
+                log.error("Unable to use the search index, searching the repositories instead", e);
+            }
+        }
+
+        if (result == null) {
+            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesAndGUIDsFilter, methodName);
         }
 
         SequencingOrder sequencingOrder = searchParameters.getSequencingOrder();
@@ -419,6 +462,49 @@ public class AssetCatalogHandler {
         return results;
     }
 
+    /**
+     * Rebuild the search index from the repositories.  The index is used to answer searches once the rebuild is complete.
+     *
+     * @param userId user identifier that issues the call
+     * @return number of entities added to the index; 0 if the search index is not configured
+     * @throws InvalidParameterException  is thrown by the OMAS when a parameter is null or an invalid value.
+     * @throws PropertyServerException    reporting errors when connecting to a metadata repository or updating the search index
+     * @throws UserNotAuthorizedException is thrown by the OCF when a userId passed on a request is not authorized to perform the requested action.
+     */
+    public int rebuildSearchIndex(String userId) throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        final String methodName = "rebuildSearchIndex";
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        if (searchIndex == null) {
+            return 0;
+        }
+
+        int indexedEntities = 0;
+        try {
+            searchIndex.clear();
+            for (Map.Entry<String, String> typeAndGUID : commonHandler.getTypesAndGUIDs(userId, searchIndex.getIndexedTypes()).entrySet()) {
+                int startFrom = 0;
+                List<EntityDetail> entities;
+                do {
+                    entities = assetHandler.getEntitiesByType(userId, typeAndGUID.getValue(), typeAndGUID.getKey(), null,
+                            false, false, startFrom, INDEX_REBUILD_PAGE_SIZE, clockService.getNow(), methodName);
+                    if (entities != null) {
+                        for (EntityDetail entityDetail : entities) {
+                            searchIndex.updateEntity(entityDetail);
+                        }
+                        indexedEntities += entities.size();
+                        startFrom += entities.size();
+                    }
+                } while (entities != null && entities.size() == INDEX_REBUILD_PAGE_SIZE);
+            }
+            searchIndex.markRebuilt();
+        } catch (IOException e) {
+            throw new PropertyServerException(AssetCatalogErrorCode.SEARCH_INDEX_FAILURE.getMessageDefinition(serverUserName, e.getMessage()),
+                    this.getClass().getName(), methodName, e);
+        }
+        return indexedEntities;
+    }
+
     /**
      *
      * @param userId           user identifier that issues the call
@@ -602,6 +688,77 @@ public class AssetCatalogHandler {
         return new ArrayList<>(searchResults);
     }
 
+    private boolean isSearchIndexAvailable(String userId, Set<String> typeNames, SearchParameters searchParameters) {
+        if (searchIndex == null || !searchIndex.isAvailable() || !searchIndex.isSupported(searchParameters)) {
+            return false;
+        }
+        for (String typeName : typeNames) {
+            if (!searchIndex.isIndexedType(commonHandler.collectSuperTypes(userId, typeName))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the same entities as collectSearchedEntitiesByType, found in the search index rather than the repositories.
+     * Each type is paged separately, on the same property as the repository search, and the entities that the caller
+     * is not allowed to see are skipped before the page is counted so that the pages are not short.
+     */
+    private List<EntityDetail> collectIndexedEntitiesByType(String userId,
+                                                            String searchCriteria,
+                                                            SearchParameters searchParameters,
+                                                            Map<String, String> typesAndGUIDs,
+                                                            String methodName)
+            throws IOException, InvalidParameterException {
+        int pageSize = invalidParameterHandler.validatePaging(searchParameters.getFrom(), searchParameters.getPageSize(), methodName);
+        Date effectiveTime = clockService.getNow();
+
+        List<EntityDetail> result = new ArrayList<>();
+        for (Map.Entry<String, String> typeAndGUID : typesAndGUIDs.entrySet()) {
+            String propertyName = NAME;
+            if (commonHandler.hasDisplayName(userId, typeAndGUID.getValue())) {
+                propertyName = DISPLAY_NAME;
+            }
+
+            Map<String, String> searchPropertyNames = Collections.singletonMap(typeAndGUID.getKey(), propertyName);
+            int skippedEntities = 0;
+            int indexStartFrom = 0;
+            List<EntityDetail> typeResult = new ArrayList<>();
+            List<EntityDetail> indexedEntities;
+            do {
+                indexedEntities = searchIndex.search(searchCriteria, searchPropertyNames, supportedZones, searchParameters,
+                        effectiveTime, indexStartFrom, pageSize);
+                indexStartFrom += indexedEntities.size();
+
+                for (EntityDetail entityDetail : indexedEntities) {
+                    if (!isVisible(userId, entityDetail, typeAndGUID.getKey(), effectiveTime, methodName)) {
+                        continue;
+                    }
+                    if (skippedEntities < searchParameters.getFrom()) {
+                        skippedEntities++;
+                    } else if (typeResult.size() < pageSize) {
+                        typeResult.add(entityDetail);
+                    }
+                }
+            } while (typeResult.size() < pageSize && indexedEntities.size() == pageSize);
+
+            result.addAll(typeResult);
+        }
+        return result;
+    }
+
+    private boolean isVisible(String userId, EntityDetail entityDetail, String typeName, Date effectiveTime, String methodName) {
+        try {
+            assetHandler.validateAnchorEntity(userId, entityDetail.getGUID(), typeName, entityDetail, GUID_PARAMETER,
+                    false, false, false, false, supportedZones, effectiveTime, methodName);
+            return true;
+        } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
+            log.debug("Entity {} from the search index is not visible to the caller", entityDetail.getGUID());
+            return false;
+        }
+    }
+
     private List<AssetCatalogBean> getAssetCatalogBeansAfterValidation(String methodName,
                                                                        List<EntityDetail> entities)
             throws org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException {
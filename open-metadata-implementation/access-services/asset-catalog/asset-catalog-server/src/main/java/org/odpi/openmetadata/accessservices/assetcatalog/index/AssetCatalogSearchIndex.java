@@ -0,0 +1,585 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.body.SearchParameters;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET_ZONE_MEMBERSHIP;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DISPLAY_NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.TYPE_SEQUENCING;
+
+/**
+ * AssetCatalogSearchIndex is an embedded Lucene index of the entities that are returned by the Asset Catalog search.
+ * It is kept up to date from the OMRS instance events received by the AssetCatalogOMRSTopicListener and can be
+ * rebuilt from the repositories on demand.  The index only answers searches once it has been fully built, so until
+ * then the handler continues to search the repositories directly.
+ * <p>
+ * Each document holds the entity itself, its name and display name, its type and super types, its zone membership and
+ * its effectivity dates.  A search matches the same entities as a search of the repositories: the name (or the display
+ * name for the types that have one) either equals the search criteria or, if an exact match is not requested, contains
+ * it.  The index applies the type, zone and effectivity filters at query time and returns the stored entities, so the
+ * caller can check the visibility of each entity and page the results without retrieving the entities again.  Results
+ * are ranked by relevance (exact name, then name prefix, then matching words) unless a sequencing order is requested.
+ * Searches with a sequencing order that the index does not hold are not supported (see {@link #isSupported}) and must
+ * be sent to the repositories.
+ * <p>
+ * Updates are committed in batches, so the index is only reported as available when it is reopened if it was closed
+ * cleanly after its last rebuild.  An index that was not closed cleanly may have lost updates and must be rebuilt.
+ */
+public class AssetCatalogSearchIndex implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetCatalogSearchIndex.class);
+
+    private static final String GUID_FIELD = "guid";
+    private static final String TYPES_FIELD = "types";
+    private static final String ZONES_FIELD = "zones";
+    private static final String ENTITY_FIELD = "entity";
+    private static final String LABEL_FIELD = "label";
+    private static final String LOWER_CASE_LABEL_FIELD = "lowerCaseLabel";
+    private static final String EXACT_FIELD_SUFFIX = ".exact";
+    private static final String LOWER_CASE_FIELD_SUFFIX = ".lowerCase";
+    private static final String SORT_NAME_FIELD = "sortName";
+    private static final String SORT_DISPLAY_NAME_FIELD = "sortDisplayName";
+    private static final String SORT_TYPE_FIELD = "sortType";
+    private static final String EFFECTIVE_FROM_FIELD = "effectiveFrom";
+    private static final String EFFECTIVE_TO_FIELD = "effectiveTo";
+    private static final String ALL_ZONES = "*";
+    private static final String ZONE_MEMBERSHIP = "zoneMembership";
+    private static final String MEMENTO = "Memento";
+    private static final String REBUILD_TIME_PROPERTY = "rebuildTime";
+    private static final String CLOSED_CLEANLY_PROPERTY = "closedCleanly";
+    private static final String FORMAT_VERSION_PROPERTY = "formatVersion";
+
+    /*
+     * Increase the format version whenever the documents change so that an index written by an earlier version is
+     * rebuilt rather than used to answer searches.
+     */
+    private static final String FORMAT_VERSION = "2";
+
+    private static final int COMMIT_INTERVAL = 1000;
+    private static final float EXACT_NAME_BOOST = 10.0f;
+    private static final float NAME_PREFIX_BOOST = 5.0f;
+
+    private final OMRSRepositoryHelper repositoryHelper;
+    private final String sourceName;
+    private final List<String> indexedTypes;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final AtomicInteger uncommittedUpdates = new AtomicInteger(0);
+
+    private volatile boolean available;
+    private volatile String rebuildTime;
+
+    /**
+     * Open (or create) the search index.
+     *
+     * @param indexDirectory   directory on local disk for the index; null for an index held in memory
+     * @param repositoryHelper helper used to extract the properties of the entities
+     * @param sourceName       name of the component using the index
+     * @param indexedTypes     names of the types (and their subtypes) that are stored in the index
+     * @throws IOException the index can not be opened
+     */
+    public AssetCatalogSearchIndex(String indexDirectory, OMRSRepositoryHelper repositoryHelper, String sourceName,
+                                   List<String> indexedTypes) throws IOException {
+        this.repositoryHelper = repositoryHelper;
+        this.sourceName = sourceName;
+        this.indexedTypes = indexedTypes;
+
+        if (indexDirectory == null) {
+            this.directory = new ByteBuffersDirectory();
+        } else {
+            this.directory = FSDirectory.open(Paths.get(indexDirectory));
+        }
+
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+
+        Map<String, String> commitData = getCommitData();
+        this.available = commitData.containsKey(REBUILD_TIME_PROPERTY) && Boolean.parseBoolean(commitData.get(CLOSED_CLEANLY_PROPERTY))
+                && FORMAT_VERSION.equals(commitData.get(FORMAT_VERSION_PROPERTY));
+        this.rebuildTime = available ? commitData.get(REBUILD_TIME_PROPERTY) : null;
+
+        /*
+         * The clean close marker is removed from the committed index straight away so that a crash before the next
+         * clean close leaves the index marked as needing a rebuild.
+         */
+        setCommitData(false);
+        commit();
+    }
+
+    /**
+     * Return whether the index has been fully built and can be used to answer searches.
+     *
+     * @return boolean
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Return the names of the types whose instances (including instances of their subtypes) are stored in the index.
+     *
+     * @return list of type names
+     */
+    public List<String> getIndexedTypes() {
+        return indexedTypes;
+    }
+
+    /**
+     * Return whether a type, identified by its own name and the names of its super types, is stored in the index.
+     *
+     * @param typeNames type name and super type names
+     * @return boolean
+     */
+    public boolean isIndexedType(Collection<String> typeNames) {
+        return CollectionUtils.containsAny(indexedTypes, typeNames);
+    }
+
+    /**
+     * Return whether the index can answer a search with these parameters in the same order as the repositories.
+     * The index holds the name, display name and type of the entities, so it can not order the results by any other
+     * property or by the dates held in the repositories.
+     *
+     * @param searchParameters matching, sequencing and paging options
+     * @return boolean
+     */
+    public boolean isSupported(SearchParameters searchParameters) {
+        SequencingOrder sequencingOrder = searchParameters.getSequencingOrder();
+        String sequencingProperty = searchParameters.getSequencingProperty();
+
+        if (sequencingOrder == SequencingOrder.PROPERTY_ASCENDING || sequencingOrder == SequencingOrder.PROPERTY_DESCENDING) {
+            return getSortField(sequencingProperty) != null;
+        }
+        return sequencingProperty == null && (sequencingOrder == null || sequencingOrder == SequencingOrder.ANY);
+    }
+
+    /**
+     * Add or replace the entity in the index.  Entities whose type is not indexed are ignored, and deleted
+     * entities and entities with the Memento classification are removed.
+     *
+     * @param entityDetail entity from the repository or an instance event
+     * @throws IOException the index could not be updated
+     */
+    public void updateEntity(EntityDetail entityDetail) throws IOException {
+        if (entityDetail == null || entityDetail.getGUID() == null || entityDetail.getType() == null) {
+            return;
+        }
+
+        List<String> typeNames = getTypeNames(entityDetail.getType());
+        if (!isIndexedType(typeNames)) {
+            return;
+        }
+
+        if (entityDetail.getStatus() == InstanceStatus.DELETED || hasClassification(entityDetail, MEMENTO)) {
+            removeEntity(entityDetail.getGUID());
+            return;
+        }
+
+        indexWriter.updateDocument(new Term(GUID_FIELD, entityDetail.getGUID()), buildDocument(entityDetail, typeNames));
+        afterUpdate();
+    }
+
+    /**
+     * Apply a change of type to the index.  The entity is added or replaced if its new type is indexed and removed
+     * if it is not.
+     *
+     * @param entityDetail entity from the retype event
+     * @throws IOException the index could not be updated
+     */
+    public void retypeEntity(EntityDetail entityDetail) throws IOException {
+        if (entityDetail == null || entityDetail.getGUID() == null || entityDetail.getType() == null) {
+            return;
+        }
+
+        if (isIndexedType(getTypeNames(entityDetail.getType()))) {
+            updateEntity(entityDetail);
+        } else {
+            removeEntity(entityDetail.getGUID());
+        }
+    }
+
+    /**
+     * Remove an entity from the index.
+     *
+     * @param guid unique identifier of the entity
+     * @throws IOException the index could not be updated
+     */
+    public void removeEntity(String guid) throws IOException {
+        if (guid == null) {
+            return;
+        }
+
+        indexWriter.deleteDocuments(new Term(GUID_FIELD, guid));
+        afterUpdate();
+    }
+
+    /**
+     * Remove all entities from the index before it is rebuilt.  The index is not available for searches
+     * until the rebuild is completed with a call to markRebuilt.
+     *
+     * @throws IOException the index could not be cleared
+     */
+    public void clear() throws IOException {
+        available = false;
+        rebuildTime = null;
+        indexWriter.deleteAll();
+        setCommitData(false);
+        commit();
+    }
+
+    /**
+     * Record that the index now holds all the indexed entities from the repositories and can be used for searches.
+     *
+     * @throws IOException the index could not be committed
+     */
+    public void markRebuilt() throws IOException {
+        rebuildTime = Long.toString(System.currentTimeMillis());
+        setCommitData(false);
+        commit();
+        available = true;
+    }
+
+    /**
+     * Search the index for the entities whose name (or display name) contains (or matches) the search criteria.
+     *
+     * @param searchCriteria      the text to search for
+     * @param searchPropertyNames the types of entities to return, each mapped to the name of the property that is
+     *                            searched for entities of that type; subtypes are included
+     * @param supportedZones      the zones that the caller is allowed to see; null or empty for all zones
+     * @param searchParameters    matching and sequencing options
+     * @param effectiveTime       time when the entities must be effective; null for any time
+     * @param startFrom           index of the first result to return
+     * @param maxResults          maximum number of results to return
+     * @return the matching entities, in result order
+     * @throws IOException the index could not be searched
+     */
+    public List<EntityDetail> search(String searchCriteria, Map<String, String> searchPropertyNames, List<String> supportedZones,
+                                     SearchParameters searchParameters, Date effectiveTime, int startFrom, int maxResults)
+            throws IOException {
+        Query query = buildQuery(searchCriteria, searchPropertyNames, supportedZones, searchParameters, effectiveTime);
+        Sort sort = getSort(searchParameters);
+
+        searcherManager.maybeRefresh();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int numberOfHits = startFrom + maxResults;
+            TopDocs topDocs = sort == null ? searcher.search(query, numberOfHits) : searcher.search(query, numberOfHits, sort);
+
+            List<EntityDetail> results = new ArrayList<>();
+            for (int i = startFrom; i < topDocs.scoreDocs.length; i++) {
+                Document document = searcher.doc(topDocs.scoreDocs[i].doc);
+                results.add(objectMapper.readValue(document.get(ENTITY_FIELD), EntityDetail.class));
+            }
+            return results;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Commit any outstanding changes and close the index.  The index is marked as closed cleanly so that it is
+     * available for searches when it is reopened.
+     *
+     * @throws IOException the index could not be closed cleanly
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            searcherManager.close();
+            setCommitData(true);
+            indexWriter.close();
+        } finally {
+            directory.close();
+        }
+    }
+
+    private Map<String, String> getCommitData() {
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = indexWriter.getLiveCommitData();
+        if (liveCommitData != null) {
+            for (Map.Entry<String, String> entry : liveCommitData) {
+                commitData.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return commitData;
+    }
+
+    private void setCommitData(boolean closedCleanly) {
+        Map<String, String> commitData = new HashMap<>();
+        commitData.put(FORMAT_VERSION_PROPERTY, FORMAT_VERSION);
+        if (rebuildTime != null) {
+            commitData.put(REBUILD_TIME_PROPERTY, rebuildTime);
+            if (closedCleanly) {
+                commitData.put(CLOSED_CLEANLY_PROPERTY, Boolean.TRUE.toString());
+            }
+        }
+        indexWriter.setLiveCommitData(commitData.entrySet());
+    }
+
+    private void afterUpdate() throws IOException {
+        if (uncommittedUpdates.incrementAndGet() >= COMMIT_INTERVAL) {
+            commit();
+        }
+    }
+
+    private void commit() throws IOException {
+        uncommittedUpdates.set(0);
+        indexWriter.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    private Document buildDocument(EntityDetail entityDetail, List<String> typeNames) throws IOException {
+        final String methodName = "buildDocument";
+        String typeName = entityDetail.getType().getTypeDefName();
+
+        Document document = new Document();
+        document.add(new StringField(GUID_FIELD, entityDetail.getGUID(), Field.Store.YES));
+        document.add(new StoredField(ENTITY_FIELD, objectMapper.writeValueAsString(entityDetail)));
+        document.add(new SortedDocValuesField(SORT_TYPE_FIELD, new BytesRef(typeName.toLowerCase(Locale.ROOT))));
+        typeNames.forEach(name -> document.add(new StringField(TYPES_FIELD, name, Field.Store.NO)));
+
+        InstanceProperties properties = entityDetail.getProperties();
+        String name = repositoryHelper.getStringProperty(sourceName, NAME, properties, methodName);
+        String displayName = repositoryHelper.getStringProperty(sourceName, DISPLAY_NAME, properties, methodName);
+        addSearchProperty(document, NAME, name);
+        addSearchProperty(document, DISPLAY_NAME, displayName);
+
+        if (name != null) {
+            document.add(new SortedDocValuesField(SORT_NAME_FIELD, new BytesRef(name.toLowerCase(Locale.ROOT))));
+        }
+
+        // the label is used to rank the results and, as in the repository search results, falls back to the name
+        String label = displayName == null ? name : displayName;
+        if (label != null) {
+            String lowerCaseLabel = label.toLowerCase(Locale.ROOT);
+            document.add(new TextField(LABEL_FIELD, label, Field.Store.NO));
+            document.add(new StringField(LOWER_CASE_LABEL_FIELD, lowerCaseLabel, Field.Store.NO));
+            document.add(new SortedDocValuesField(SORT_DISPLAY_NAME_FIELD, new BytesRef(lowerCaseLabel)));
+        }
+
+        Date effectiveFrom = properties == null ? null : properties.getEffectiveFromTime();
+        Date effectiveTo = properties == null ? null : properties.getEffectiveToTime();
+        document.add(new LongPoint(EFFECTIVE_FROM_FIELD, effectiveFrom == null ? Long.MIN_VALUE : effectiveFrom.getTime()));
+        document.add(new LongPoint(EFFECTIVE_TO_FIELD, effectiveTo == null ? Long.MAX_VALUE : effectiveTo.getTime()));
+
+        List<String> zones = getZoneMembership(entityDetail.getClassifications());
+        if (CollectionUtils.isEmpty(zones)) {
+            document.add(new StringField(ZONES_FIELD, ALL_ZONES, Field.Store.NO));
+        } else {
+            zones.forEach(zone -> document.add(new StringField(ZONES_FIELD, zone, Field.Store.NO)));
+        }
+
+        return document;
+    }
+
+    private void addSearchProperty(Document document, String propertyName, String value) {
+        if (value != null) {
+            document.add(new StringField(propertyName + EXACT_FIELD_SUFFIX, value, Field.Store.NO));
+            document.add(new StringField(propertyName + LOWER_CASE_FIELD_SUFFIX, value.toLowerCase(Locale.ROOT), Field.Store.NO));
+        }
+    }
+
+    private boolean hasClassification(EntityDetail entityDetail, String classificationName) {
+        if (entityDetail.getClassifications() == null) {
+            return false;
+        }
+        return entityDetail.getClassifications().stream().anyMatch(classification -> classificationName.equals(classification.getName()));
+    }
+
+    private List<String> getTypeNames(InstanceType instanceType) {
+        List<String> typeNames = new ArrayList<>();
+        typeNames.add(instanceType.getTypeDefName());
+        List<TypeDefLink> superTypes = repositoryHelper.getSuperTypes(sourceName, instanceType.getTypeDefName());
+        if (superTypes != null) {
+            for (TypeDefLink superType : superTypes) {
+                typeNames.add(superType.getName());
+            }
+        }
+        return typeNames;
+    }
+
+    private List<String> getZoneMembership(List<Classification> classifications) {
+        final String methodName = "getZoneMembership";
+        if (classifications == null) {
+            return Collections.emptyList();
+        }
+
+        for (Classification classification : classifications) {
+            if (ASSET_ZONE_MEMBERSHIP.equals(classification.getName())) {
+                return repositoryHelper.getStringArrayProperty(sourceName, ZONE_MEMBERSHIP,
+                        classification.getProperties(), methodName);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private Query buildQuery(String searchCriteria, Map<String, String> searchPropertyNames, List<String> supportedZones,
+                             SearchParameters searchParameters, Date effectiveTime) throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+
+        boolean caseInsensitive = searchParameters.getCaseInsensitive();
+        boolean exactMatch = searchParameters.getExactMatch();
+        String value = caseInsensitive ? searchCriteria.toLowerCase(Locale.ROOT) : searchCriteria;
+
+        /*
+         * Each type is matched on its own search property, in the same way as the repositories are searched for it.
+         */
+        BooleanQuery.Builder typesBuilder = new BooleanQuery.Builder();
+        for (Map.Entry<String, String> searchPropertyName : searchPropertyNames.entrySet()) {
+            String field = searchPropertyName.getValue() + (caseInsensitive ? LOWER_CASE_FIELD_SUFFIX : EXACT_FIELD_SUFFIX);
+            Query valueQuery = exactMatch ? new TermQuery(new Term(field, value)) : new WildcardQuery(new Term(field, getContainsPattern(value)));
+
+            BooleanQuery.Builder typeBuilder = new BooleanQuery.Builder();
+            typeBuilder.add(new TermQuery(new Term(TYPES_FIELD, searchPropertyName.getKey())), BooleanClause.Occur.FILTER);
+            typeBuilder.add(valueQuery, BooleanClause.Occur.FILTER);
+            typesBuilder.add(typeBuilder.build(), BooleanClause.Occur.SHOULD);
+        }
+        builder.add(typesBuilder.build(), BooleanClause.Occur.FILTER);
+
+        if (!exactMatch) {
+            String lowerCaseCriteria = searchCriteria.toLowerCase(Locale.ROOT);
+            builder.add(new BoostQuery(new TermQuery(new Term(LOWER_CASE_LABEL_FIELD, lowerCaseCriteria)), EXACT_NAME_BOOST), BooleanClause.Occur.SHOULD);
+            builder.add(new BoostQuery(new PrefixQuery(new Term(LOWER_CASE_LABEL_FIELD, lowerCaseCriteria)), NAME_PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+            for (String word : getWords(analyzer, searchCriteria)) {
+                builder.add(new TermQuery(new Term(LABEL_FIELD, word)), BooleanClause.Occur.SHOULD);
+            }
+        }
+
+        if (CollectionUtils.isNotEmpty(supportedZones)) {
+            List<String> zones = new ArrayList<>(supportedZones);
+            zones.add(ALL_ZONES);
+            builder.add(getAnyOfQuery(ZONES_FIELD, zones), BooleanClause.Occur.FILTER);
+        }
+
+        if (effectiveTime != null) {
+            builder.add(LongPoint.newRangeQuery(EFFECTIVE_FROM_FIELD, Long.MIN_VALUE, effectiveTime.getTime()), BooleanClause.Occur.FILTER);
+            builder.add(LongPoint.newRangeQuery(EFFECTIVE_TO_FIELD, effectiveTime.getTime(), Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Return the wildcard pattern that matches the values that contain the search criteria.  The search criteria is
+     * matched literally, as it is by the contains regular expression used to search the repositories.
+     */
+    private String getContainsPattern(String searchCriteria) {
+        StringBuilder pattern = new StringBuilder().append(WildcardQuery.WILDCARD_STRING);
+        for (char character : searchCriteria.toCharArray()) {
+            if (character == WildcardQuery.WILDCARD_STRING || character == WildcardQuery.WILDCARD_CHAR
+                    || character == WildcardQuery.WILDCARD_ESCAPE) {
+                pattern.append(WildcardQuery.WILDCARD_ESCAPE);
+            }
+            pattern.append(character);
+        }
+        return pattern.append(WildcardQuery.WILDCARD_STRING).toString();
+    }
+
+    private Query getAnyOfQuery(String field, List<String> values) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        values.forEach(value -> builder.add(new TermQuery(new Term(field, value)), BooleanClause.Occur.SHOULD));
+        return builder.build();
+    }
+
+    private List<String> getWords(Analyzer wordsAnalyzer, String text) throws IOException {
+        List<String> words = new ArrayList<>();
+        try (TokenStream tokenStream = wordsAnalyzer.tokenStream(LABEL_FIELD, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                words.add(term.toString());
+            }
+            tokenStream.end();
+        }
+        return words;
+    }
+
+    private Sort getSort(SearchParameters searchParameters) {
+        SequencingOrder sequencingOrder = searchParameters.getSequencingOrder();
+        if (sequencingOrder != SequencingOrder.PROPERTY_ASCENDING && sequencingOrder != SequencingOrder.PROPERTY_DESCENDING) {
+            return null;
+        }
+
+        String sortField = getSortField(searchParameters.getSequencingProperty());
+        if (sortField == null) {
+            return null;
+        }
+
+        // entities without a value come last in both orders, as they do in the repository search results
+        boolean descending = sequencingOrder == SequencingOrder.PROPERTY_DESCENDING;
+        SortField field = new SortField(sortField, SortField.Type.STRING, descending);
+        field.setMissingValue(descending ? SortField.STRING_FIRST : SortField.STRING_LAST);
+        return new Sort(field, SortField.FIELD_SCORE);
+    }
+
+    private String getSortField(String sequencingProperty) {
+        if (TYPE_SEQUENCING.equals(sequencingProperty)) {
+            return SORT_TYPE_FIELD;
+        }
+        if (NAME.equals(sequencingProperty)) {
+            return SORT_NAME_FIELD;
+        }
+        if (DISPLAY_NAME.equals(sequencingProperty)) {
+            return SORT_DISPLAY_NAME_FIELD;
+        }
+        return null;
+    }
+}
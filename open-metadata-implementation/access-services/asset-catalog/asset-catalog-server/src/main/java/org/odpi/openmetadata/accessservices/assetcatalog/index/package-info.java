@@ -0,0 +1,7 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+/**
+ * This package defines the optional embedded search index used to answer the Asset Catalog search requests.
+ */
+package org.odpi.openmetadata.accessservices.assetcatalog.index;
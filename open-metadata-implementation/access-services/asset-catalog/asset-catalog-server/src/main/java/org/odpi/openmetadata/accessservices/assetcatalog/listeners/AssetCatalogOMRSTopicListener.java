@@ -4,6 +4,7 @@ package org.odpi.openmetadata.accessservices.assetcatalog.listeners;
 
 import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
 import org.odpi.openmetadata.accessservices.assetcatalog.converters.AssetCatalogConverter;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogSearchIndex;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogBean;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogEvent;
 import org.odpi.openmetadata.accessservices.assetcatalog.publishers.AssetCatalogSearchPublisher;
@@ -27,7 +28,7 @@ import java.util.List;
 
 /**
  * AssetCatalogOMRSTopicListener receives details of each OMRS event from the cohorts that the local server
- * is connected to. It passes indexing events to the publisher.
+ * is connected to. It passes indexing events to the publisher and keeps the embedded search index up to date.
  */
 public class AssetCatalogOMRSTopicListener extends OMRSTopicListenerBase
 {
@@ -41,18 +42,20 @@ public class AssetCatalogOMRSTopicListener extends OMRSTopicListenerBase
     private final List<String>                                    supportedTypesForSearch;
     private final AssetCatalogSearchPublisher                     publisher;
     private final AssetCatalogConverter<AssetCatalogBean>         converter;
+    private final AssetCatalogSearchIndex                         searchIndex;
 
     /**
      * Instantiates a new Asset catalog OMRS topic listener.
      *
      * @param serviceName             the service name
      * @param auditLog                the audit log
-     * @param outTopicConnector       the out topic connector
+     * @param outTopicConnector       the out topic connector, or null if indexing events are not published
      * @param repositoryHelper        the repository helper
      * @param repositoryValidator     the repository validator
      * @param serverName              the server name
      * @param supportedZones          the supported zones
      * @param supportedTypesForSearch the supported types for search
+     * @param searchIndex             the embedded search index, or null if it is not configured
      */
     public AssetCatalogOMRSTopicListener(String serviceName,
                                          AuditLog auditLog,
@@ -61,16 +64,18 @@ public class AssetCatalogOMRSTopicListener extends OMRSTopicListenerBase
                                          OMRSRepositoryValidator repositoryValidator,
                                          String serverName,
                                          List<String> supportedZones,
-                                         List<String> supportedTypesForSearch
+                                         List<String> supportedTypesForSearch,
+                                         AssetCatalogSearchIndex searchIndex
                                          ) {
             super(serviceName, auditLog);
-            this.publisher = new AssetCatalogSearchPublisher(outTopicConnector);
+            this.publisher = outTopicConnector == null ? null : new AssetCatalogSearchPublisher(outTopicConnector);
             this.serverName = serverName;
             this.supportedZones = supportedZones;
             this.repositoryHelper = repositoryHelper;
             this.repositoryValidator = repositoryValidator;
             this.converter = new AssetCatalogConverter<>(repositoryHelper, serviceName, serverName);
             this.supportedTypesForSearch = supportedTypesForSearch;
+            this.searchIndex = searchIndex;
     }
 
     /**
@@ -102,6 +107,14 @@ public class AssetCatalogOMRSTopicListener extends OMRSTopicListenerBase
         EntityDetail entityDetail = instanceEvent.getEntity();
         Relationship relationship = instanceEvent.getRelationship();
 
+        if (searchIndex != null) {
+            updateSearchIndex(instanceEvent);
+        }
+
+        if (publisher == null) {
+            return;
+        }
+
         try{
 
             switch (instanceEventType) {
@@ -130,6 +143,47 @@ public class AssetCatalogOMRSTopicListener extends OMRSTopicListenerBase
 
     }
 
+    /**
+     * Applies the entity changes described by the event to the search index.
+     *
+     * @param instanceEvent the event that has been received
+     */
+    private void updateSearchIndex(OMRSInstanceEvent instanceEvent) {
+        try {
+            switch (instanceEvent.getInstanceEventType()) {
+                case NEW_ENTITY_EVENT:
+                case UPDATED_ENTITY_EVENT:
+                case UNDONE_ENTITY_EVENT:
+                case CLASSIFIED_ENTITY_EVENT:
+                case RECLASSIFIED_ENTITY_EVENT:
+                case DECLASSIFIED_ENTITY_EVENT:
+                case RESTORED_ENTITY_EVENT:
+                case RE_HOMED_ENTITY_EVENT:
+                case REFRESHED_ENTITY_EVENT:
+                    searchIndex.updateEntity(instanceEvent.getEntity());
+                    break;
+                case RETYPED_ENTITY_EVENT:
+                    searchIndex.retypeEntity(instanceEvent.getEntity());
+                    break;
+                case RE_IDENTIFIED_ENTITY_EVENT:
+                    searchIndex.removeEntity(instanceEvent.getOriginalInstanceGUID());
+                    searchIndex.updateEntity(instanceEvent.getEntity());
+                    break;
+                case DELETED_ENTITY_EVENT:
+                case PURGED_ENTITY_EVENT:
+                case DELETE_PURGED_ENTITY_EVENT:
+                    EntityDetail entity = instanceEvent.getEntity();
+                    searchIndex.removeEntity(entity != null ? entity.getGUID() : instanceEvent.getInstanceGUID());
+                    break;
+                default: break;
+            }
+        } catch (Exception e) {
+            log.error("Unable to update the search index from OMRSTopic event: \n " + instanceEvent, e);
+            auditLog.logException("Update search index",
+                    AssetCatalogAuditCode.SEARCH_INDEX_EXCEPTION.getMessageDefinition(e.getMessage(), serverName), e);
+        }
+    }
+
     /**
      * Publishes the relationship event.
      * @param relationship the relationship to be processed
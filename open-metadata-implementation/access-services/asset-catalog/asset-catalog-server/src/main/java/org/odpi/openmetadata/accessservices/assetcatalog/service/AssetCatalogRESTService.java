@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.assetcatalog.service;
 
 import org.odpi.openmetadata.accessservices.assetcatalog.admin.AssetCatalogInstanceHandler;
+import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
 import org.odpi.openmetadata.accessservices.assetcatalog.handlers.AssetCatalogHandler;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogBean;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.Elements;
@@ -16,6 +17,7 @@ import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.Re
 import org.odpi.openmetadata.accessservices.assetcatalog.util.ExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectionResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.CountResponse;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
@@ -245,6 +247,39 @@ public class AssetCatalogRESTService {
         return response;
     }
 
+    /**
+     * Rebuild the embedded search index from the repositories.
+     *
+     * @param serverName unique identifier for requested server
+     * @param userId     the unique identifier for the user
+     * @return number of entities added to the index or
+     * InvalidParameterException one of the parameters is null or invalid or
+     * UserNotAuthorizedException user not authorized to issue this request or
+     * PropertyServerException problem reading the repositories or updating the search index.
+     */
+    public CountResponse rebuildSearchIndex(String serverName,
+                                            String userId) {
+        String methodName = "rebuildSearchIndex";
+        log.debug(CALLING_METHOD, methodName);
+
+        CountResponse response = new CountResponse();
+        AuditLog auditLog = null;
+
+        try {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+            AssetCatalogHandler assetCatalogHandler = instanceHandler.getAssetCatalogHandler(userId, serverName, methodName);
+            int indexedEntities = assetCatalogHandler.rebuildSearchIndex(userId);
+            response.setCount(indexedEntities);
+            auditLog.logMessage(methodName, AssetCatalogAuditCode.SEARCH_INDEX_REBUILT.getMessageDefinition(Integer.toString(indexedEntities), serverName));
+        } catch (Exception error) {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        log.debug(METHOD_WITH_RESPONSE, methodName, response);
+
+        return response;
+    }
+
     /**
      * Return a list of assets/glossary terms/schema elements matching the type name without the full context.
      * If the typeName is null or doesn't exist, the response contains an empty list.
@@ -10,6 +10,7 @@ import org.mockito.MockitoAnnotations;
 import org.odpi.openmetadata.accessservices.assetcatalog.converters.AssetCatalogConverter;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogErrorCode;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogException;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogSearchIndex;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogBean;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.Classification;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.Elements;
@@ -44,11 +45,21 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorExceptio
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -454,6 +465,57 @@ public class AssetCatalogHandlerTest {
         verify(invalidParameterHandler, times(1)).validateObject(searchParams, "searchParameter", methodName);
     }
 
+    @Test
+    public void searchByTypeFromIndexSkipsInvisibleEntitiesBeforePaging() throws Exception {
+        String methodName = "searchByType";
+        SearchParameters searchParams = mockSearchParams();
+        searchParams.setFrom(1);
+        searchParams.setPageSize(2);
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        when(invalidParameterHandler.validatePaging(1, 2, methodName)).thenReturn(2);
+
+        AssetCatalogSearchIndex searchIndex = mock(AssetCatalogSearchIndex.class);
+        when(searchIndex.isAvailable()).thenReturn(true);
+        when(searchIndex.isSupported(searchParams)).thenReturn(true);
+        when(searchIndex.isIndexedType(any())).thenReturn(true);
+
+        List<EntityDetail> entities = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            EntityDetail entityDetail = new EntityDetail();
+            entityDetail.setGUID("guid-" + i);
+            entityDetail.setType(mockInstanceType(ASSET_TYPE, ASSET_TYPE_GUID));
+            entities.add(entityDetail);
+            when(assetCatalogConverter.buildAssetElements(entityDetail)).thenReturn(getElementsFromEntity(entityDetail));
+        }
+
+        Map<String, String> searchPropertyNames = Collections.singletonMap(ASSET_TYPE, NAME);
+        when(searchIndex.search(eq(SEARCH_CRITERIA), eq(searchPropertyNames), isNull(), eq(searchParams), any(), eq(0), eq(2)))
+                .thenReturn(entities.subList(0, 2));
+        when(searchIndex.search(eq(SEARCH_CRITERIA), eq(searchPropertyNames), isNull(), eq(searchParams), any(), eq(2), eq(2)))
+                .thenReturn(entities.subList(2, 4));
+        when(searchIndex.search(eq(SEARCH_CRITERIA), eq(searchPropertyNames), isNull(), eq(searchParams), any(), eq(4), eq(2)))
+                .thenReturn(entities.subList(4, 5));
+
+        // the second entity is not visible to the caller, so the page starts at the third
+        when(assetHandler.validateAnchorEntity(eq(USER), eq("guid-1"), eq(ASSET_TYPE), eq(entities.get(1)), anyString(),
+                eq(false), eq(false), eq(false), eq(false), isNull(), any(), eq(methodName)))
+                .thenThrow(new InvalidParameterException(AssetCatalogErrorCode.SERVICE_NOT_INITIALIZED.getMessageDefinition(SERVER_NAME),
+                        this.getClass().getName(), methodName, GUID_PARAMETER));
+
+        AssetCatalogHandler indexedHandler = new AssetCatalogHandler(SERVER_NAME, SERVER_NAME, invalidParameterHandler,
+                repositoryHandler, repositoryHelper, assetHandler, assetCatalogConverter, errorHandler, null, null,
+                clockService, searchIndex);
+
+        List<Elements> elements = indexedHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+
+        assertEquals(Set.of("guid-2", "guid-3"), elements.stream().map(Elements::getGuid).collect(Collectors.toSet()));
+        verify(assetHandler, never()).getEntitiesByValue(anyString(), anyString(), anyString(), anyString(), anyString(),
+                any(), anyBoolean(), anyBoolean(), any(), any(), anyBoolean(), anyBoolean(), any(), any(), anyInt(), anyInt(),
+                any(), anyString());
+        verify(assetHandler, never()).getEntityFromRepository(anyString(), anyString(), anyString(), any(), any(), any(),
+                anyBoolean(), anyBoolean(), any(), anyString());
+    }
+
     private Elements getElementsFromEntity(EntityDetail mockedEntity) {
         if (mockedEntity == null) {
             return null;
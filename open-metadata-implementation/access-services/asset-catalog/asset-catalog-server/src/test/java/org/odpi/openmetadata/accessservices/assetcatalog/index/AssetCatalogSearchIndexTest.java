@@ -0,0 +1,338 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.index;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.body.SearchParameters;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AssetCatalogSearchIndexTest {
+
+    private static final String SOURCE_NAME = "Asset Catalog OMAS";
+    private static final String ASSET = "Asset";
+    private static final String GLOSSARY_TERM = "GlossaryTerm";
+    private static final String DATABASE = "Database";
+    private static final String NAME = "name";
+    private static final String DISPLAY_NAME = "displayName";
+    private static final Map<String, String> ASSET_TYPE = Collections.singletonMap(ASSET, NAME);
+    private static final Map<String, String> ALL_TYPES = Map.of(ASSET, NAME, GLOSSARY_TERM, DISPLAY_NAME);
+
+    private final OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class);
+    private AssetCatalogSearchIndex searchIndex;
+
+    @Before
+    public void before() throws IOException {
+        TypeDefLink assetType = new TypeDefLink();
+        assetType.setName(ASSET);
+        when(repositoryHelper.getSuperTypes(SOURCE_NAME, DATABASE)).thenReturn(Collections.singletonList(assetType));
+        when(repositoryHelper.getStringProperty(eq(SOURCE_NAME), anyString(), any(), anyString())).thenAnswer(invocation -> {
+            InstanceProperties properties = invocation.getArgument(2);
+            String propertyName = invocation.getArgument(1);
+            return properties == null || properties.getPropertyValue(propertyName) == null ? null :
+                    properties.getPropertyValue(propertyName).valueAsString();
+        });
+        when(repositoryHelper.getStringArrayProperty(eq(SOURCE_NAME), eq("zoneMembership"), any(), anyString()))
+                .thenReturn(Collections.singletonList("quarantine"));
+
+        searchIndex = new AssetCatalogSearchIndex(null, repositoryHelper, SOURCE_NAME, Arrays.asList(ASSET, GLOSSARY_TERM));
+    }
+
+    @After
+    public void after() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    public void searchRanksExactAndPrefixMatchesFirst() throws IOException {
+        searchIndex.updateEntity(mockEntity("1", DATABASE, NAME, "Customer data warehouse", false));
+        searchIndex.updateEntity(mockEntity("2", DATABASE, NAME, "Customer", false));
+        searchIndex.updateEntity(mockEntity("3", GLOSSARY_TERM, DISPLAY_NAME, "Retail customer", false));
+        searchIndex.updateEntity(mockEntity("4", GLOSSARY_TERM, DISPLAY_NAME, "Supplier", false));
+        searchIndex.markRebuilt();
+
+        assertTrue(searchIndex.isAvailable());
+        assertEquals(Arrays.asList("2", "1", "3"), search("customer", ALL_TYPES, null, new SearchParameters()));
+    }
+
+    @Test
+    public void searchFiltersByTypeZoneAndPage() throws IOException {
+        searchIndex.updateEntity(mockEntity("1", DATABASE, NAME, "Sales one", false));
+        searchIndex.updateEntity(mockEntity("2", DATABASE, NAME, "Sales two", true));
+        searchIndex.updateEntity(mockEntity("3", DATABASE, NAME, "Sales three", false));
+        searchIndex.updateEntity(mockEntity("4", GLOSSARY_TERM, DISPLAY_NAME, "Sales", false));
+
+        SearchParameters searchParameters = new SearchParameters();
+        searchParameters.setSequencingProperty(NAME);
+        searchParameters.setSequencingOrder(SequencingOrder.PROPERTY_ASCENDING);
+
+        assertEquals(Arrays.asList("1", "3"), search("sales", ASSET_TYPE, Collections.singletonList("research"), searchParameters));
+        assertEquals(Collections.singletonList("3"), getGUIDs(searchIndex.search("sales", ASSET_TYPE,
+                Arrays.asList("research", "quarantine"), searchParameters, null, 1, 1)));
+    }
+
+    @Test
+    public void removedEntitiesAreNotReturned() throws IOException {
+        searchIndex.updateEntity(mockEntity("1", DATABASE, NAME, "Orders", false));
+        searchIndex.updateEntity(mockEntity("2", DATABASE, NAME, "Orders archive", false));
+        searchIndex.removeEntity("1");
+
+        assertEquals(Collections.singletonList("2"), search("orders", ASSET_TYPE, null, new SearchParameters()));
+
+        EntityDetail memento = mockEntity("2", DATABASE, NAME, "Orders archive", false);
+        Classification mementoClassification = new Classification();
+        mementoClassification.setName("Memento");
+        memento.setClassifications(Collections.singletonList(mementoClassification));
+        searchIndex.updateEntity(memento);
+
+        assertTrue(search("orders", ASSET_TYPE, null, new SearchParameters()).isEmpty());
+
+        searchIndex.updateEntity(mockEntity("3", DATABASE, NAME, "Orders", false));
+        searchIndex.clear();
+        assertFalse(searchIndex.isAvailable());
+        assertTrue(search("orders", ASSET_TYPE, null, new SearchParameters()).isEmpty());
+    }
+
+    @Test
+    public void retypedEntitiesAreRemovedWhenTheirTypeIsNotIndexed() throws IOException {
+        searchIndex.updateEntity(mockEntity("1", DATABASE, NAME, "Orders", false));
+        searchIndex.retypeEntity(mockEntity("1", "Process", NAME, "Orders", false));
+
+        assertTrue(search("orders", ALL_TYPES, null, new SearchParameters()).isEmpty());
+
+        searchIndex.retypeEntity(mockEntity("1", GLOSSARY_TERM, DISPLAY_NAME, "Orders", false));
+
+        assertEquals(Collections.singletonList("1"), search("orders", ALL_TYPES, null, new SearchParameters()));
+    }
+
+    @Test
+    public void searchMatchesSubstringsLikeTheRepositories() throws IOException {
+        searchIndex.updateEntity(mockEntity("1", DATABASE, NAME, "Customer data warehouse", false));
+        searchIndex.updateEntity(mockEntity("2", DATABASE, NAME, "Supplier", false));
+        searchIndex.updateEntity(mockEntity("3", DATABASE, NAME, "Cost*Centre", false));
+        searchIndex.updateEntity(mockEntity("4", DATABASE, NAME, "Cost and Centre", false));
+
+        assertEquals(Collections.singletonList("1"), search("cust", ASSET_TYPE, null, new SearchParameters()));
+        assertEquals(Collections.singletonList("1"), search("ware", ASSET_TYPE, null, new SearchParameters()));
+        assertEquals(Collections.singletonList("1"), search("data wa", ASSET_TYPE, null, new SearchParameters()));
+        assertEquals(Collections.singletonList("1"), search("stomer", ASSET_TYPE, null, new SearchParameters()));
+        assertEquals(Collections.singletonList("3"), search("t*C", ASSET_TYPE, null, new SearchParameters()));
+        assertTrue(search("t?C", ASSET_TYPE, null, new SearchParameters()).isEmpty());
+
+        SearchParameters caseSensitive = new SearchParameters();
+        caseSensitive.setCaseInsensitive(false);
+
+        assertTrue(search("data Wa", ASSET_TYPE, null, caseSensitive).isEmpty());
+        assertEquals(Collections.singletonList("1"), search("Customer d", ASSET_TYPE, null, caseSensitive));
+    }
+
+    @Test
+    public void exactMatchMatchesTheWholeValue() throws IOException {
+        searchIndex.updateEntity(mockEntity("1", DATABASE, NAME, "Customer data warehouse", false));
+        searchIndex.updateEntity(mockEntity("2", DATABASE, NAME, "Customer", false));
+
+        SearchParameters exactMatch = new SearchParameters();
+        exactMatch.setExactMatch(true);
+
+        assertEquals(Collections.singletonList("2"), search("customer", ASSET_TYPE, null, exactMatch));
+
+        exactMatch.setCaseInsensitive(false);
+
+        assertTrue(search("customer", ASSET_TYPE, null, exactMatch).isEmpty());
+        assertEquals(Collections.singletonList("2"), search("Customer", ASSET_TYPE, null, exactMatch));
+    }
+
+    @Test
+    public void searchMatchesTheSearchPropertyOfEachType() throws IOException {
+        EntityDetail entityDetail = mockEntity("1", DATABASE, NAME, "Sales database", false);
+        setProperty(entityDetail, DISPLAY_NAME, "Orders");
+        searchIndex.updateEntity(entityDetail);
+
+        assertTrue(search("orders", ASSET_TYPE, null, new SearchParameters()).isEmpty());
+        assertEquals(Collections.singletonList("1"), search("orders", Collections.singletonMap(ASSET, DISPLAY_NAME), null,
+                new SearchParameters()));
+        assertTrue(search("sales", Collections.singletonMap(ASSET, DISPLAY_NAME), null, new SearchParameters()).isEmpty());
+    }
+
+    @Test
+    public void searchSortsMissingValuesLast() throws IOException {
+        EntityDetail first = mockEntity("1", DATABASE, DISPLAY_NAME, "Sales b", false);
+        setProperty(first, NAME, "a");
+        EntityDetail second = mockEntity("2", DATABASE, DISPLAY_NAME, "Sales a", false);
+        setProperty(second, NAME, "B");
+        searchIndex.updateEntity(first);
+        searchIndex.updateEntity(second);
+        searchIndex.updateEntity(mockEntity("3", DATABASE, DISPLAY_NAME, "Sales c", false));
+
+        Map<String, String> displayName = Collections.singletonMap(ASSET, DISPLAY_NAME);
+        SearchParameters searchParameters = new SearchParameters();
+        searchParameters.setSequencingProperty(NAME);
+        searchParameters.setSequencingOrder(SequencingOrder.PROPERTY_ASCENDING);
+
+        assertEquals(Arrays.asList("1", "2", "3"), search("sales", displayName, null, searchParameters));
+
+        searchParameters.setSequencingOrder(SequencingOrder.PROPERTY_DESCENDING);
+        assertEquals(Arrays.asList("2", "1", "3"), search("sales", displayName, null, searchParameters));
+
+        searchParameters.setSequencingProperty(DISPLAY_NAME);
+        assertEquals(Arrays.asList("3", "1", "2"), search("sales", displayName, null, searchParameters));
+    }
+
+    @Test
+    public void searchReturnsOnlyEffectiveEntities() throws IOException {
+        EntityDetail expired = mockEntity("1", DATABASE, NAME, "Orders", false);
+        InstanceProperties properties = expired.getProperties();
+        properties.setEffectiveToTime(new Date(1000));
+        expired.setProperties(properties);
+        searchIndex.updateEntity(expired);
+        searchIndex.updateEntity(mockEntity("2", DATABASE, NAME, "Orders archive", false));
+
+        assertEquals(Collections.singletonList("2"), getGUIDs(searchIndex.search("orders", ASSET_TYPE, null,
+                new SearchParameters(), new Date(), 0, 10)));
+        assertEquals(Arrays.asList("1", "2"), getGUIDs(searchIndex.search("orders", ASSET_TYPE, null,
+                new SearchParameters(), new Date(500), 0, 10)));
+    }
+
+    @Test
+    public void searchReturnsTheIndexedEntities() throws IOException {
+        EntityDetail entityDetail = mockEntity("1", DATABASE, NAME, "Orders", true);
+        searchIndex.updateEntity(entityDetail);
+
+        List<EntityDetail> results = searchIndex.search("orders", ASSET_TYPE, null, new SearchParameters(), null, 0, 10);
+
+        assertEquals(Collections.singletonList(entityDetail), results);
+    }
+
+    @Test
+    public void onlySequencingHeldByTheIndexIsSupported() {
+        SearchParameters searchParameters = new SearchParameters();
+        assertTrue(searchIndex.isSupported(searchParameters));
+
+        searchParameters.setSequencingOrder(SequencingOrder.PROPERTY_DESCENDING);
+        searchParameters.setSequencingProperty("type");
+        assertTrue(searchIndex.isSupported(searchParameters));
+
+        searchParameters.setSequencingProperty("qualifiedName");
+        assertFalse(searchIndex.isSupported(searchParameters));
+
+        searchParameters.setSequencingOrder(SequencingOrder.CREATION_DATE_RECENT);
+        searchParameters.setSequencingProperty(null);
+        assertFalse(searchIndex.isSupported(searchParameters));
+    }
+
+    @Test
+    public void indexIsOnlyAvailableAfterCleanClose() throws IOException {
+        Path indexDirectory = Files.createTempDirectory("asset-catalog-index");
+        Path crashedIndexDirectory = Files.createTempDirectory("asset-catalog-crashed-index");
+        try {
+            AssetCatalogSearchIndex fileIndex = new AssetCatalogSearchIndex(indexDirectory.toString(), repositoryHelper,
+                    SOURCE_NAME, Arrays.asList(ASSET, GLOSSARY_TERM));
+            assertFalse(fileIndex.isAvailable());
+            fileIndex.updateEntity(mockEntity("1", DATABASE, NAME, "Orders", false));
+            fileIndex.markRebuilt();
+            fileIndex.updateEntity(mockEntity("2", DATABASE, NAME, "Orders archive", false));
+
+            // A copy of the committed files is what is left if the server stops without closing the index.
+            try (Stream<Path> files = Files.list(indexDirectory)) {
+                for (Path file : files.filter(file -> !file.getFileName().toString().equals("write.lock")).collect(Collectors.toList())) {
+                    Files.copy(file, crashedIndexDirectory.resolve(file.getFileName()));
+                }
+            }
+            fileIndex.close();
+
+            AssetCatalogSearchIndex crashedIndex = new AssetCatalogSearchIndex(crashedIndexDirectory.toString(), repositoryHelper,
+                    SOURCE_NAME, Arrays.asList(ASSET, GLOSSARY_TERM));
+            assertFalse(crashedIndex.isAvailable());
+            crashedIndex.close();
+
+            AssetCatalogSearchIndex reopenedIndex = new AssetCatalogSearchIndex(indexDirectory.toString(), repositoryHelper,
+                    SOURCE_NAME, Arrays.asList(ASSET, GLOSSARY_TERM));
+            assertTrue(reopenedIndex.isAvailable());
+            assertEquals(2, reopenedIndex.search("orders", ASSET_TYPE, null, new SearchParameters(), null, 0, 10).size());
+            reopenedIndex.close();
+        } finally {
+            deleteDirectory(indexDirectory);
+            deleteDirectory(crashedIndexDirectory);
+        }
+    }
+
+    private List<String> search(String searchCriteria, Map<String, String> searchPropertyNames, List<String> supportedZones,
+                                SearchParameters searchParameters) throws IOException {
+        return getGUIDs(searchIndex.search(searchCriteria, searchPropertyNames, supportedZones, searchParameters, null, 0, 100));
+    }
+
+    private List<String> getGUIDs(List<EntityDetail> entities) {
+        return entities.stream().map(EntityDetail::getGUID).collect(Collectors.toList());
+    }
+
+    private void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private EntityDetail mockEntity(String guid, String typeName, String propertyName, String name, boolean quarantined) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName(typeName);
+        entityDetail.setType(instanceType);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty(propertyName, mockStringValue(name));
+        entityDetail.setProperties(properties);
+
+        if (quarantined) {
+            Classification classification = new Classification();
+            classification.setName("AssetZoneMembership");
+            entityDetail.setClassifications(Collections.singletonList(classification));
+        }
+        return entityDetail;
+    }
+
+    private void setProperty(EntityDetail entityDetail, String propertyName, String value) {
+        InstanceProperties properties = entityDetail.getProperties();
+        properties.setProperty(propertyName, mockStringValue(value));
+        entityDetail.setProperties(properties);
+    }
+
+    private PrimitivePropertyValue mockStringValue(String value) {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(value);
+        return propertyValue;
+    }
+}
@@ -13,6 +13,7 @@ import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.*;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetCatalogResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.service.AssetCatalogRESTService;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectionResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.CountResponse;
 import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -148,6 +149,20 @@ public class AssetCatalogEntityResource {
         return assetService.searchByType(serverName, userId, searchCriteria, searchParameters);
     }
 
+    /**
+     * Rebuild the embedded search index from the repositories
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     the unique identifier for the user
+     * @return number of entities added to the search index
+     */
+    @PostMapping(path = "/search-index/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "rebuildSearchIndex", description = "Rebuilds the search index used to answer searches from the repositories")
+    public CountResponse rebuildSearchIndex(@PathVariable("serverName") String serverName,
+                                            @PathVariable("userId") String userId) {
+        return assetService.rebuildSearchIndex(serverName, userId);
+    }
+
     /**
      * Return a list of assets by asset type name without any additional search criteria
      * The list includes also subtypes
@@ -9,6 +9,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * ExternalIdentifierManagerInterface provides the interface for managing external identifiers.
@@ -138,4 +139,28 @@ public interface ExternalIdentifierManagerInterface
                                                          int    pageSize) throws InvalidParameterException,
                                                                                  UserNotAuthorizedException,
                                                                                  PropertyServerException;
+
+
+    /**
+     * Return the unique identifiers of the open metadata elements that are correlated with each of a list of
+     * external identifiers from the same asset manager.
+     *
+     * @param userId calling user
+     * @param assetManagerGUID unique identifier of software capability representing the caller
+     * @param assetManagerName unique name of software capability representing the caller
+     * @param externalIdentifiers identifiers of elements in the external asset manager
+     *
+     * @return map of external identifier to the unique identifiers of its open metadata elements - identifiers with no
+     * correlated elements are omitted; null if none of the identifiers are correlated
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    Map<String, List<String>> getElementGUIDsForExternalIdentifiers(String       userId,
+                                                                    String       assetManagerGUID,
+                                                                    String       assetManagerName,
+                                                                    List<String> externalIdentifiers) throws InvalidParameterException,
+                                                                                                             UserNotAuthorizedException,
+                                                                                                             PropertyServerException;
 }
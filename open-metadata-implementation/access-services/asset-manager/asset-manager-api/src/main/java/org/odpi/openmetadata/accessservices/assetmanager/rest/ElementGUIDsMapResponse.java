@@ -0,0 +1,152 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.assetmanager.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * ElementGUIDsMapResponse is a response object for passing back the unique identifiers of the open metadata elements
+ * that are correlated with each of a list of external identifiers, or an exception if the request failed.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ElementGUIDsMapResponse extends AssetManagerOMASAPIResponse
+{
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Map<String, List<String>> elementGUIDs = null;
+
+
+    /**
+     * Default constructor
+     */
+    public ElementGUIDsMapResponse()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public ElementGUIDsMapResponse(ElementGUIDsMapResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            elementGUIDs = template.getElementGUIDs();
+        }
+    }
+
+
+    /**
+     * Return the map of external identifier to the unique identifiers of its open metadata elements.
+     *
+     * @return result object
+     */
+    public Map<String, List<String>> getElementGUIDs()
+    {
+        if (elementGUIDs == null)
+        {
+            return null;
+        }
+        else if (elementGUIDs.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new HashMap<>(elementGUIDs);
+        }
+    }
+
+
+    /**
+     * Set up the map of external identifier to the unique identifiers of its open metadata elements.
+     *
+     * @param elementGUIDs result object
+     */
+    public void setElementGUIDs(Map<String, List<String>> elementGUIDs)
+    {
+        this.elementGUIDs = elementGUIDs;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "ElementGUIDsMapResponse{" +
+                "elementGUIDs=" + elementGUIDs +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        ElementGUIDsMapResponse that = (ElementGUIDsMapResponse) objectToCompare;
+        return Objects.equals(elementGUIDs, that.elementGUIDs);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), elementGUIDs);
+    }
+}
@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetmanager.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * ExternalIdentifiersRequestBody carries a list of external identifiers from an asset manager along with the
+ * effective time for the query.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ExternalIdentifiersRequestBody extends EffectiveTimeQueryRequestBody
+{
+    private List<String> externalIdentifiers = null;
+
+
+    /**
+     * Default constructor
+     */
+    public ExternalIdentifiersRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public ExternalIdentifiersRequestBody(ExternalIdentifiersRequestBody template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            externalIdentifiers = template.getExternalIdentifiers();
+        }
+    }
+
+
+    /**
+     * Return the identifiers of the elements in the asset manager.
+     *
+     * @return list of identifiers
+     */
+    public List<String> getExternalIdentifiers()
+    {
+        if (externalIdentifiers == null)
+        {
+            return null;
+        }
+        else if (externalIdentifiers.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(externalIdentifiers);
+        }
+    }
+
+
+    /**
+     * Set up the identifiers of the elements in the asset manager.
+     *
+     * @param externalIdentifiers list of identifiers
+     */
+    public void setExternalIdentifiers(List<String> externalIdentifiers)
+    {
+        this.externalIdentifiers = externalIdentifiers;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "ExternalIdentifiersRequestBody{" +
+                       "externalIdentifiers=" + externalIdentifiers +
+                       ", effectiveTime=" + getEffectiveTime() +
+                       ", assetManagerGUID='" + getAssetManagerGUID() + '\'' +
+                       ", assetManagerName='" + getAssetManagerName() + '\'' +
+                       '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (! super.equals(objectToCompare))
+        {
+            return false;
+        }
+        ExternalIdentifiersRequestBody that = (ExternalIdentifiersRequestBody) objectToCompare;
+        return Objects.equals(externalIdentifiers, that.externalIdentifiers);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), externalIdentifiers);
+    }
+}
@@ -19,8 +19,10 @@ import org.odpi.openmetadata.accessservices.assetmanager.properties.TemplateProp
 import org.odpi.openmetadata.accessservices.assetmanager.rest.AssetManagerIdentifiersRequestBody;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.ClassificationRequestBody;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.EffectiveTimeQueryRequestBody;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementGUIDsMapResponse;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementHeadersResponse;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementStubsResponse;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ExternalIdentifiersRequestBody;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.FindByPropertiesRequestBody;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.GlossaryTermRelationshipRequestBody;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.MetadataCorrelationHeadersResponse;
@@ -875,6 +877,57 @@ public class AssetManagerBaseClient implements ExternalIdentifierManagerInterfac
     }
 
 
+    /**
+     * Return the unique identifiers of the open metadata elements that are correlated with each of a list of
+     * external identifiers from the same asset manager.
+     *
+     * @param userId calling user
+     * @param assetManagerGUID unique identifier of software server capability representing the caller
+     * @param assetManagerName unique name of software server capability representing the caller
+     * @param externalIdentifiers identifiers of elements in the external asset manager
+     *
+     * @return map of external identifier to the unique identifiers of its open metadata elements - identifiers with no
+     * correlated elements are omitted; null if none of the identifiers are correlated
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    @Override
+    public Map<String, List<String>> getElementGUIDsForExternalIdentifiers(String       userId,
+                                                                           String       assetManagerGUID,
+                                                                           String       assetManagerName,
+                                                                           List<String> externalIdentifiers) throws InvalidParameterException,
+                                                                                                                    UserNotAuthorizedException,
+                                                                                                                    PropertyServerException
+    {
+        final String methodName                       = "getElementGUIDsForExternalIdentifiers";
+        final String externalIdentifiersParameterName = "externalIdentifiers";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(assetManagerGUID, assetManagerGUIDParameterName, methodName);
+        invalidParameterHandler.validateName(assetManagerName, assetManagerNameParameterName, methodName);
+        invalidParameterHandler.validateStringArray(externalIdentifiers, externalIdentifiersParameterName, methodName);
+
+        final String urlTemplate = serverPlatformURLRoot + urlTemplatePrefix + "/asset-managers/external-identifiers/open-metadata-element-guids";
+
+        ExternalIdentifiersRequestBody requestBody = new ExternalIdentifiersRequestBody();
+
+        requestBody.setAssetManagerGUID(assetManagerGUID);
+        requestBody.setAssetManagerName(assetManagerName);
+        requestBody.setExternalIdentifiers(externalIdentifiers);
+        requestBody.setEffectiveTime(new Date());
+
+        ElementGUIDsMapResponse restResult = restClient.callElementGUIDsMapPostRESTCall(methodName,
+                                                                                        urlTemplate,
+                                                                                        requestBody,
+                                                                                        serverName,
+                                                                                        userId);
+
+        return restResult.getElementGUIDs();
+    }
+
+
     /**
      * Check that the supplied external identifier matches the element GUID.
      *
@@ -123,6 +123,7 @@ public class AssetManagerAdmin extends AccessServiceAdmin
                                                                                    serverUserName,
                                                                                    eventPublisher,
                                                                                    instance.getAssetHandler(),
+                                                                                   instance.getExternalIdentifierHandler(),
                                                                                    supportedZones,
                                                                                    outTopicAuditLog),
                                                  auditLog);
@@ -1088,6 +1088,11 @@ public class SchemaExchangeHandler extends ExchangeHandlerBase
                                                                                        effectiveTime,
                                                                                        methodName);
 
+        /*
+         * A schema type with many attributes has many relationships to page through before the parent is found.
+         */
+        iterator.setPrefetchPages(1);
+
         while (iterator.moreToReceive())
         {
             Relationship relationship = iterator.getNext();
@@ -1102,6 +1107,8 @@ public class SchemaExchangeHandler extends ExchangeHandlerBase
             {
                 final String parentGUIDParameterName = "relationship.getEntityOneProxy().getGUID()";
 
+                iterator.close();
+
                 EntityDetail parentEntity = schemaTypeHandler.getEntityFromRepository(userId,
                                                                                       relationship.getEntityOneProxy().getGUID(),
                                                                                       parentGUIDParameterName,
@@ -4,10 +4,13 @@ package org.odpi.openmetadata.accessservices.assetmanager.listener;
 
 import org.odpi.openmetadata.accessservices.assetmanager.events.AssetManagerEventType;
 import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.AssetElement;
+import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.MetadataCorrelationHeader;
 import org.odpi.openmetadata.accessservices.assetmanager.outtopic.AssetManagerOutTopicPublisher;
 import org.odpi.openmetadata.commonservices.generichandlers.AssetHandler;
+import org.odpi.openmetadata.commonservices.generichandlers.ExternalIdentifierHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
@@ -23,16 +26,18 @@ import java.util.List;
 
 /**
  * AssetManagerOMRSTopicListener received details of each OMRS event from the cohorts that the local server
- * is connected to.  It passes NEW_ENTITY_EVENTs to the publisher.
+ * is connected to.  It passes NEW_ENTITY_EVENTs to the publisher.  Changes to external identifiers are also passed
+ * to the external identifier handler so that it can refresh its correlation index.
  */
 public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
 {
     private static final Logger log = LoggerFactory.getLogger(AssetManagerOMRSTopicListener.class);
 
-    private final AssetManagerOutTopicPublisher eventPublisher;
-    private final AssetHandler<AssetElement>    assetHandler;
-    private final String                        localServerUserId;
-    private final List<String>                  supportedZones;
+    private final AssetManagerOutTopicPublisher                                       eventPublisher;
+    private final AssetHandler<AssetElement>                                          assetHandler;
+    private final ExternalIdentifierHandler<MetadataCorrelationHeader, ElementHeader> externalIdentifierHandler;
+    private final String                                                              localServerUserId;
+    private final List<String>                                                        supportedZones;
 
 
     /**
@@ -42,19 +47,22 @@ public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
      * @param localServerUserId userId used by this server for metadata governance
      * @param eventPublisher this is the out topic publisher
      * @param assetHandler handler for retrieving asset information
+     * @param externalIdentifierHandler handler for external identifiers
      * @param supportedZones list of zones that the access service is allowed to serve instances from.
      * @param auditLog logging destination
      */
-    public AssetManagerOMRSTopicListener(String                        serviceName,
-                                         String                        localServerUserId,
-                                         AssetManagerOutTopicPublisher eventPublisher,
-                                         AssetHandler<AssetElement>    assetHandler,
-                                         List<String>                  supportedZones,
-                                         AuditLog                      auditLog)
+    public AssetManagerOMRSTopicListener(String                                                              serviceName,
+                                         String                                                              localServerUserId,
+                                         AssetManagerOutTopicPublisher                                       eventPublisher,
+                                         AssetHandler<AssetElement>                                          assetHandler,
+                                         ExternalIdentifierHandler<MetadataCorrelationHeader, ElementHeader> externalIdentifierHandler,
+                                         List<String>                                                        supportedZones,
+                                         AuditLog                                                            auditLog)
     {
         super(serviceName, auditLog);
 
         this.assetHandler = assetHandler;
+        this.externalIdentifierHandler = externalIdentifierHandler;
         this.localServerUserId = localServerUserId;
         this.eventPublisher = eventPublisher;
         this.supportedZones = supportedZones;
@@ -117,6 +125,8 @@ public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
     {
         log.debug("Received updated Entity event from: " + sourceName);
 
+        this.refreshCorrelationIndex(newEntity);
+
         EntityDetail eventEntity = this.entityOfInterest(localServerUserId, newEntity, null);
 
         if (eventEntity != null)
@@ -515,6 +525,8 @@ public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
     {
         log.debug("Receiving deleted Entity event from: " + sourceName);
 
+        this.refreshCorrelationIndex(entity);
+
         EntityDetail eventEntity = this.entityOfInterest(localServerUserId, entity, null);
 
         if (eventEntity != null)
@@ -551,6 +563,8 @@ public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
     {
         log.debug("Processing delete-purge entity event from: " + sourceName);
 
+        this.refreshCorrelationIndex(entity);
+
         EntityDetail eventEntity = this.entityOfInterest(localServerUserId, entity, null);
 
         if (eventEntity != null)
@@ -790,6 +804,8 @@ public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
     {
         log.debug("Receiving updated relationship event from: " + sourceName);
 
+        this.refreshCorrelationIndex(newRelationship);
+
         this.processRelationshipEvent(AssetManagerEventType.ELEMENT_UPDATED, newRelationship, oldRelationship);
     }
 
@@ -821,6 +837,8 @@ public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
     {
         log.debug("Receiving deleted relationship event from: " + sourceName);
 
+        this.refreshCorrelationIndex(relationship);
+
         this.processRelationshipEvent(AssetManagerEventType.ELEMENT_DELETED, relationship, null);
     }
 
@@ -847,6 +865,8 @@ public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
     {
         log.debug("Receiving delete-purge relationship event from: " + sourceName);
 
+        this.refreshCorrelationIndex(relationship);
+
         this.processRelationshipEvent(AssetManagerEventType.ELEMENT_DELETED, relationship, null);
     }
 
@@ -1041,6 +1061,38 @@ public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
     }
 
 
+    /**
+     * Pass a change to an external identifier to the external identifier handler so any correlations it
+     * holds for the entity are refreshed.
+     *
+     * @param entity changed entity
+     */
+    private void refreshCorrelationIndex(EntityDetail entity)
+    {
+        if ((entity != null) && (entity.getType() != null) &&
+            (OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME.equals(entity.getType().getTypeDefName())))
+        {
+            externalIdentifierHandler.invalidateCorrelations(entity.getGUID());
+        }
+    }
+
+
+    /**
+     * Pass a change to the relationship between an external identifier and its scope to the external identifier
+     * handler so any correlations it holds for the external identifier are refreshed.
+     *
+     * @param relationship changed relationship
+     */
+    private void refreshCorrelationIndex(Relationship relationship)
+    {
+        if ((relationship != null) && (relationship.getType() != null) && (relationship.getEntityTwoProxy() != null) &&
+            (OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_NAME.equals(relationship.getType().getTypeDefName())))
+        {
+            externalIdentifierHandler.invalidateCorrelations(relationship.getEntityTwoProxy().getGUID());
+        }
+    }
+
+
     /**
      * A relationship event needs processing.
      *
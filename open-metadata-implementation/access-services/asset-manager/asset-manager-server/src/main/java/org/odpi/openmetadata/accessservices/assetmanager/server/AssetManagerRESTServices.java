@@ -9,7 +9,9 @@ import org.odpi.openmetadata.accessservices.assetmanager.properties.KeyPattern;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.MetadataCorrelationProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.SynchronizationDirection;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.EffectiveTimeQueryRequestBody;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementGUIDsMapResponse;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementHeadersResponse;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ExternalIdentifiersRequestBody;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.MetadataCorrelationHeadersResponse;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.UpdateRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
@@ -948,4 +950,85 @@ public class AssetManagerRESTServices
 
         return response;
     }
+
+
+    /**
+     * Return the unique identifiers of the open metadata elements that are correlated with each of a list of
+     * external identifiers from the same asset manager.  This lets an integration connector resolve a batch of
+     * identifiers in one call.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId calling user
+     * @param forLineage return elements marked with the Memento classification?
+     * @param forDuplicateProcessing do not merge elements marked as duplicates?
+     * @param requestBody asset manager identifiers and the list of external identifiers
+     *
+     * @return map of external identifier to the unique identifiers of its open metadata elements or
+     * InvalidParameterException  one of the parameters is invalid
+     * UserNotAuthorizedException user not authorized to issue this request
+     * PropertyServerException    problem accessing the property server
+     */
+    public ElementGUIDsMapResponse getElementGUIDsForExternalIdentifiers(String                         serverName,
+                                                                         String                         userId,
+                                                                         boolean                        forLineage,
+                                                                         boolean                        forDuplicateProcessing,
+                                                                         ExternalIdentifiersRequestBody requestBody)
+    {
+        final String methodName = "getElementGUIDsForExternalIdentifiers";
+        final String assetManagerGUIDParameterName    = "assetManagerGUID";
+        final String externalIdentifiersParameterName = "externalIdentifiers";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        ElementGUIDsMapResponse response = new ElementGUIDsMapResponse();
+        AuditLog                auditLog = null;
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            if (requestBody != null)
+            {
+                ExternalIdentifierHandler<MetadataCorrelationHeader, ElementHeader> handler = instanceHandler.getExternalIdentifierHandler(userId,
+                                                                                                                                           serverName,
+                                                                                                                                           methodName);
+
+                response.setElementGUIDs(handler.getElementGUIDsForExternalIdentifiers(userId,
+                                                                                       requestBody.getAssetManagerGUID(),
+                                                                                       assetManagerGUIDParameterName,
+                                                                                       OpenMetadataAPIMapper.ASSET_MANAGER_TYPE_NAME,
+                                                                                       requestBody.getAssetManagerName(),
+                                                                                       requestBody.getExternalIdentifiers(),
+                                                                                       externalIdentifiersParameterName,
+                                                                                       forLineage,
+                                                                                       forDuplicateProcessing,
+                                                                                       requestBody.getEffectiveTime(),
+                                                                                       methodName));
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            restExceptionHandler.captureInvalidParameterException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            restExceptionHandler.capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            restExceptionHandler.captureUserNotAuthorizedException(response, error);
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
 }
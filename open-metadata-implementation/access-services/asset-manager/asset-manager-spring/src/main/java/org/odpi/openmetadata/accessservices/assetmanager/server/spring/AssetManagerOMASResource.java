@@ -7,7 +7,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.AssetManagerProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.MetadataCorrelationProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.EffectiveTimeQueryRequestBody;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementGUIDsMapResponse;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementHeadersResponse;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ExternalIdentifiersRequestBody;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.MetadataCorrelationHeadersResponse;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.UpdateRequestBody;
 import org.odpi.openmetadata.accessservices.assetmanager.server.AssetManagerRESTServices;
@@ -260,6 +262,35 @@ public class AssetManagerOMASResource
     }
 
 
+    /**
+     * Return the unique identifiers of the open metadata elements that are correlated with each of a list of
+     * external identifiers from the same asset manager.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId calling user
+     * @param forLineage return elements marked with the Memento classification?
+     * @param forDuplicateProcessing do not merge elements marked as duplicates?
+     * @param requestBody asset manager identifiers and the list of external identifiers
+     *
+     * @return map of external identifier to the unique identifiers of its open metadata elements or
+     * InvalidParameterException  one of the parameters is invalid
+     * UserNotAuthorizedException user not authorized to issue this request
+     * PropertyServerException    problem accessing the property server
+     */
+    @PostMapping(path = "/asset-managers/external-identifiers/open-metadata-element-guids")
+
+    public ElementGUIDsMapResponse getElementGUIDsForExternalIdentifiers(@PathVariable String                         serverName,
+                                                                         @PathVariable String                         userId,
+                                                                         @RequestParam (required = false, defaultValue = "false")
+                                                                                       boolean                        forLineage,
+                                                                         @RequestParam (required = false, defaultValue = "false")
+                                                                                       boolean                        forDuplicateProcessing,
+                                                                         @RequestBody  ExternalIdentifiersRequestBody requestBody)
+    {
+        return restAPI.getElementGUIDsForExternalIdentifiers(serverName, userId, forLineage, forDuplicateProcessing, requestBody);
+    }
+
+
     /**
      * Assemble the correlation headers attached to the supplied element guid.
      *
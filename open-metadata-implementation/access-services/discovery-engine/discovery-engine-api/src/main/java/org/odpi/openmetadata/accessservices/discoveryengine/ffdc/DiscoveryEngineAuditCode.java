@@ -66,7 +66,19 @@ public enum DiscoveryEngineAuditCode implements AuditLogMessageSet
              OMRSAuditLogRecordSeverity.INFO,
             "Log message for asset {0} from discovery service {1}: {2}",
             "A discovery service has logged a message about an asset.",
-            "Review the message to ensure no action is required.")
+            "Review the message to ensure no action is required."),
+
+    QUEUED_ANNOTATION_DISCARDED("OMAS-DISCOVERY-ENGINE-0014",
+             OMRSAuditLogRecordSeverity.ERROR,
+            "The queued {0} annotation for discovery report {1} could not be stored and has been discarded.  The {2} exception was returned with message {3}",
+            "The annotation store client removes the failing annotation from its write-behind queue and continues to store the annotations queued after it.",
+            "Review the error message to determine why the annotation was rejected.  Correct the discovery service and rerun it if the annotation is needed."),
+
+    QUEUED_ANNOTATION_FLUSH_FAILED("OMAS-DISCOVERY-ENGINE-0015",
+             OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The timed store of the queued annotations for discovery report {0} failed with a {1} exception and message {2}",
+            "The annotations stay in the write-behind queue of the annotation store client and are sent again by the next flush.",
+            "Review the error message to determine the cause of the problem.  It is typically a problem connecting to the metadata server.")
     ;
 
     private final AuditLogMessageDefinition messageDefinition;
@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.discoveryengine.client;
 
+import org.odpi.openmetadata.accessservices.discoveryengine.ffdc.DiscoveryEngineAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
@@ -12,8 +14,13 @@ import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
 import org.odpi.openmetadata.frameworks.discovery.properties.DataFieldLink;
 import org.odpi.openmetadata.frameworks.discovery.properties.RelatedDataField;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * DiscoveryAnnotationStoreClient provides a client-side implementation of the ODF DiscoveryAnnotationStore
@@ -24,7 +31,27 @@ import java.util.Map;
  */
 public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
 {
+    /*
+     * Shared by all annotation stores to send queued annotations that have waited for the flush interval.
+     */
+    private static final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "DiscoveryAnnotationStoreFlush");
+
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
     private final DiscoveryEngineClient discoveryEngineClient;    /* Initialized in constructor */
+    private final int                   annotationBatchSize;      /* Initialized in constructor */
+    private final long                  annotationFlushInterval;  /* Initialized in constructor */
+    private final AuditLog              auditLog;                 /* Initialized in constructor */
+
+    private final List<Annotation>      queuedAnnotations = new ArrayList<>();
+    private       long                  oldestQueuedTime  = 0L;
+    private       ScheduledFuture<?>    scheduledFlush    = null;
+    private final Object                flushLock         = new Object();
 
 
     /**
@@ -39,10 +66,39 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
                                           String                assetGUID,
                                           DiscoveryAnalysisReportClient discoveryAnalysisReportClient,
                                           DiscoveryEngineClient discoveryEngineClient)
+    {
+        this(userId, assetGUID, discoveryAnalysisReportClient, discoveryEngineClient, 0, 0L, null);
+    }
+
+
+    /**
+     * Constructor sets up the key parameters for accessing the annotations store, along with the write-behind
+     * settings used by queueAnnotationForDiscoveryReport.  Queued annotations are sent to the Discovery Engine OMAS
+     * in a single request once annotationBatchSize annotations are queued, or by a background timer once the oldest
+     * queued annotation has waited for annotationFlushInterval milliseconds.
+     *
+     * @param userId calling user
+     * @param assetGUID unique identifier of the asset that the annotations should be attached to
+     * @param discoveryAnalysisReportClient discovery report that is linked to the annotations.
+     * @param discoveryEngineClient client for calling REST APIs
+     * @param annotationBatchSize maximum number of annotations to queue (0 or 1 means annotations are not queued)
+     * @param annotationFlushInterval maximum milliseconds an annotation waits in the queue (0 means no limit)
+     * @param auditLog logging destination for annotations that could not be stored (may be null)
+     */
+    public DiscoveryAnnotationStoreClient(String                        userId,
+                                          String                        assetGUID,
+                                          DiscoveryAnalysisReportClient discoveryAnalysisReportClient,
+                                          DiscoveryEngineClient         discoveryEngineClient,
+                                          int                           annotationBatchSize,
+                                          long                          annotationFlushInterval,
+                                          AuditLog                      auditLog)
     {
         super(userId, assetGUID, discoveryAnalysisReportClient);
 
-        this.discoveryEngineClient = discoveryEngineClient;
+        this.discoveryEngineClient   = discoveryEngineClient;
+        this.annotationBatchSize     = annotationBatchSize;
+        this.annotationFlushInterval = annotationFlushInterval;
+        this.auditLog                = auditLog;
     }
 
 
@@ -206,6 +262,248 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The annotations are sent to the Discovery Engine OMAS in a single request.
+     *
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding an annotation to the annotation store.
+     */
+    @Override
+    public List<String>  addAnnotationsToDiscoveryReport(List<Annotation> annotations) throws InvalidParameterException,
+                                                                                            UserNotAuthorizedException,
+                                                                                            PropertyServerException
+    {
+        return discoveryEngineClient.addAnnotationsToDiscoveryReport(userId, discoveryReport.getDiscoveryReportGUID(), annotations);
+    }
+
+
+    /**
+     * Add a new annotation to the annotation store without waiting for its unique identifier.  If write-behind is
+     * configured, the annotation is queued and sent with other queued annotations in a single request.
+     *
+     * @param annotation annotation object
+     * @throws InvalidParameterException the annotation, or a previously queued annotation, is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    @Override
+    public void  queueAnnotationForDiscoveryReport(Annotation annotation) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 PropertyServerException
+    {
+        if (annotationBatchSize <= 1)
+        {
+            this.addAnnotationToDiscoveryReport(annotation);
+            return;
+        }
+
+        boolean flushNeeded;
+
+        synchronized (queuedAnnotations)
+        {
+            long now = System.currentTimeMillis();
+
+            if (queuedAnnotations.isEmpty())
+            {
+                oldestQueuedTime = now;
+            }
+
+            queuedAnnotations.add(annotation);
+            this.scheduleFlush();
+
+            flushNeeded = (queuedAnnotations.size() >= annotationBatchSize) ||
+                          ((annotationFlushInterval > 0) && (now - oldestQueuedTime >= annotationFlushInterval));
+        }
+
+        if (flushNeeded)
+        {
+            this.flushQueuedAnnotations();
+        }
+    }
+
+
+    /**
+     * Send any queued annotations to the Discovery Engine OMAS in a single request.  The annotations stay in the queue
+     * until the request has stored them.  If an annotation is rejected, the annotations stored in front of it are
+     * removed from the queue, the failing annotation is discarded and logged, and the annotations after it are sent
+     * again.  If the request fails without identifying a failing annotation, the annotations stay in the queue for
+     * the next flush and the exception is thrown.
+     *
+     * @return list of unique identifiers of the annotations stored by this call in the order they were queued
+     * @throws InvalidParameterException the annotations could not be sent
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    @Override
+    public List<String>  flushQueuedAnnotations() throws InvalidParameterException,
+                                                         UserNotAuthorizedException,
+                                                         PropertyServerException
+    {
+        /*
+         * Only one flush is in progress at a time so that an annotation is not sent twice.
+         */
+        synchronized (flushLock)
+        {
+            List<String> storedAnnotationGUIDs = new ArrayList<>();
+
+            while (true)
+            {
+                List<Annotation> annotations;
+
+                synchronized (queuedAnnotations)
+                {
+                    if (queuedAnnotations.isEmpty())
+                    {
+                        return storedAnnotationGUIDs;
+                    }
+
+                    annotations = new ArrayList<>(queuedAnnotations);
+                }
+
+                try
+                {
+                    storedAnnotationGUIDs.addAll(this.addAnnotationsToDiscoveryReport(annotations));
+
+                    this.removeQueuedAnnotations(annotations.size());
+
+                    return storedAnnotationGUIDs;
+                }
+                catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException error)
+                {
+                    Map<String, Object> relatedProperties = error.getRelatedProperties();
+
+                    if ((relatedProperties == null) ||
+                        (! (relatedProperties.get(ANNOTATION_INDEX_PROPERTY_NAME) instanceof Number)) ||
+                        (((Number)relatedProperties.get(ANNOTATION_INDEX_PROPERTY_NAME)).intValue() >= annotations.size()))
+                    {
+                        throw error;
+                    }
+
+                    int failingAnnotationIndex = ((Number)relatedProperties.get(ANNOTATION_INDEX_PROPERTY_NAME)).intValue();
+
+                    if (relatedProperties.get(ANNOTATION_GUIDS_PROPERTY_NAME) instanceof List)
+                    {
+                        for (Object annotationGUID : (List<?>)relatedProperties.get(ANNOTATION_GUIDS_PROPERTY_NAME))
+                        {
+                            storedAnnotationGUIDs.add(annotationGUID.toString());
+                        }
+                    }
+
+                    this.removeQueuedAnnotations(failingAnnotationIndex + 1);
+                    this.logDiscardedAnnotation(annotations.get(failingAnnotationIndex), error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Log an annotation that the annotation store rejected and that is removed from the queue.
+     *
+     * @param annotation discarded annotation
+     * @param error exception returned when the annotation was stored
+     */
+    private void logDiscardedAnnotation(Annotation annotation,
+                                        Exception  error)
+    {
+        final String actionDescription = "Store queued annotations";
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(actionDescription,
+                                DiscoveryEngineAuditCode.QUEUED_ANNOTATION_DISCARDED.getMessageDefinition(annotation.getAnnotationType(),
+                                                                                                          discoveryReport.getDiscoveryReportGUID(),
+                                                                                                          error.getClass().getName(),
+                                                                                                          error.getMessage()));
+        }
+    }
+
+
+    /**
+     * Send the queued annotations once the oldest of them has waited for the flush interval.  This runs on the flush
+     * scheduler's thread so a failure is logged rather than thrown.
+     */
+    private void timedFlush()
+    {
+        final String actionDescription = "Store queued annotations";
+
+        synchronized (queuedAnnotations)
+        {
+            scheduledFlush = null;
+        }
+
+        try
+        {
+            this.flushQueuedAnnotations();
+        }
+        catch (Exception error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logException(actionDescription,
+                                      DiscoveryEngineAuditCode.QUEUED_ANNOTATION_FLUSH_FAILED.getMessageDefinition(discoveryReport.getDiscoveryReportGUID(),
+                                                                                                                   error.getClass().getName(),
+                                                                                                                   error.getMessage()),
+                                      error.toString(),
+                                      error);
+            }
+
+            synchronized (queuedAnnotations)
+            {
+                this.scheduleFlush();
+            }
+        }
+    }
+
+
+    /**
+     * Start the timer that sends the queued annotations once the oldest of them has waited for the flush interval.
+     * The caller holds the queuedAnnotations lock.
+     */
+    private void scheduleFlush()
+    {
+        if ((annotationFlushInterval > 0) && (scheduledFlush == null) && (! queuedAnnotations.isEmpty()))
+        {
+            long delay = Math.max(0L, oldestQueuedTime + annotationFlushInterval - System.currentTimeMillis());
+
+            scheduledFlush = flushScheduler.schedule(this::timedFlush, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Remove the annotations at the front of the queue once they are stored or discarded.  Annotations queued while
+     * they were being sent remain, and the timer is restarted for them.
+     *
+     * @param removedAnnotationCount number of annotations to remove
+     */
+    private void removeQueuedAnnotations(int removedAnnotationCount)
+    {
+        synchronized (queuedAnnotations)
+        {
+            queuedAnnotations.subList(0, removedAnnotationCount).clear();
+
+            if (queuedAnnotations.isEmpty())
+            {
+                if (scheduledFlush != null)
+                {
+                    scheduledFlush.cancel(false);
+                    scheduledFlush = null;
+                }
+            }
+            else
+            {
+                oldestQueuedTime = System.currentTimeMillis();
+                this.scheduleFlush();
+            }
+        }
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -931,6 +931,49 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * If one of the annotations can not be stored, the related properties of the exception identify the failing
+     * annotation and the annotations stored in front of it.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding an annotation to the annotation store.
+     */
+    List<String>  addAnnotationsToDiscoveryReport(String           userId,
+                                                  String           discoveryReportGUID,
+                                                  List<Annotation> annotations) throws InvalidParameterException,
+                                                                                       UserNotAuthorizedException,
+                                                                                       PropertyServerException
+    {
+        final String   methodName = "addAnnotationsToDiscoveryReport";
+        final String   annotationsParameterName = "annotations";
+        final String   reportGUIDParameterName = "discoveryReportGUID";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/discovery-analysis-reports/{2}/annotations/multiple";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(discoveryReportGUID, reportGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        AnnotationListRequestBody requestBody = new AnnotationListRequestBody();
+
+        requestBody.setAnnotations(annotations);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId,
+                                                                          discoveryReportGUID);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
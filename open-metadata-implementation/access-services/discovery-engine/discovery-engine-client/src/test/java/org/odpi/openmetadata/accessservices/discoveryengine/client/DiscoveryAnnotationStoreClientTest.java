@@ -0,0 +1,323 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.discoveryengine.client;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Test the write-behind queue of DiscoveryAnnotationStoreClient.  The Discovery Engine OMAS is replaced by a mock
+ * client that records the annotations sent in each request.
+ */
+public class DiscoveryAnnotationStoreClientTest
+{
+    private static final String userId              = "testUser";
+    private static final String discoveryReportGUID = "test-report-guid";
+
+    private DiscoveryEngineClient         discoveryEngineClient = null;
+    private DiscoveryAnalysisReportClient discoveryReport       = null;
+    private AuditLog                      auditLog              = null;
+    private List<List<String>>            requests              = null;
+    private List<PropertyServerException> failures              = null;
+
+
+    /**
+     * Set up the mock clients.  Each request to store a list of annotations fails with the next queued failure,
+     * or is recorded and succeeds if there are none.
+     *
+     * @throws Exception problem setting up the mocks
+     */
+    @BeforeMethod public void createClients() throws Exception
+    {
+        discoveryEngineClient = mock(DiscoveryEngineClient.class);
+        discoveryReport       = mock(DiscoveryAnalysisReportClient.class);
+        auditLog              = mock(AuditLog.class);
+        requests              = new ArrayList<>();
+        failures              = new ArrayList<>();
+
+        when(discoveryReport.getDiscoveryReportGUID()).thenReturn(discoveryReportGUID);
+
+        when(discoveryEngineClient.addAnnotationsToDiscoveryReport(eq(userId), eq(discoveryReportGUID), anyList())).thenAnswer(invocation ->
+        {
+            if (! failures.isEmpty())
+            {
+                throw failures.remove(0);
+            }
+
+            List<Annotation> annotations     = invocation.getArgument(2);
+            List<String>     annotationTypes = new ArrayList<>();
+            List<String>     annotationGUIDs = new ArrayList<>();
+
+            for (Annotation annotation : annotations)
+            {
+                annotationTypes.add(annotation.getAnnotationType());
+                annotationGUIDs.add(annotation.getAnnotationType() + "-guid");
+            }
+
+            synchronized (requests)
+            {
+                requests.add(annotationTypes);
+            }
+
+            return annotationGUIDs;
+        });
+    }
+
+
+    /**
+     * Return an annotation store client with the requested write-behind settings.
+     *
+     * @param annotationBatchSize maximum number of queued annotations
+     * @param annotationFlushInterval maximum milliseconds an annotation waits in the queue
+     * @return annotation store client
+     */
+    private DiscoveryAnnotationStoreClient getAnnotationStore(int  annotationBatchSize,
+                                                              long annotationFlushInterval)
+    {
+        return new DiscoveryAnnotationStoreClient(userId,
+                                                  "test-asset-guid",
+                                                  discoveryReport,
+                                                  discoveryEngineClient,
+                                                  annotationBatchSize,
+                                                  annotationFlushInterval,
+                                                  auditLog);
+    }
+
+
+    /**
+     * Return an annotation of the requested type.
+     *
+     * @param annotationType type of annotation
+     * @return annotation
+     */
+    private Annotation getAnnotation(String annotationType)
+    {
+        Annotation annotation = new Annotation();
+
+        annotation.setAnnotationType(annotationType);
+
+        return annotation;
+    }
+
+
+    /**
+     * Return an exception from a request that stored the requested number of annotations.
+     *
+     * @param storedAnnotationCount number of annotations stored before the failure (null if not known)
+     * @return exception
+     */
+    private PropertyServerException getFailure(Integer storedAnnotationCount)
+    {
+        Map<String, Object> relatedProperties = null;
+
+        if (storedAnnotationCount != null)
+        {
+            relatedProperties = Collections.singletonMap(DiscoveryAnnotationStore.ANNOTATION_INDEX_PROPERTY_NAME, storedAnnotationCount);
+        }
+
+        return new PropertyServerException(OCFErrorCode.NULL_CONNECTION.getMessageDefinition(),
+                                           this.getClass().getName(),
+                                           "addAnnotationsToDiscoveryReport",
+                                           relatedProperties);
+    }
+
+
+    /**
+     * Annotations are sent in one request once the batch is full, and flush sends what is left.
+     *
+     * @throws Exception problem storing the annotations
+     */
+    @Test public void testBatchSize() throws Exception
+    {
+        DiscoveryAnnotationStoreClient annotationStore = getAnnotationStore(3, 0L);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("First"));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Second"));
+
+        assertTrue(requests.isEmpty());
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Third"));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Fourth"));
+
+        assertEquals(requests, Collections.singletonList(Arrays.asList("First", "Second", "Third")));
+        assertEquals(annotationStore.flushQueuedAnnotations(), Collections.singletonList("Fourth-guid"));
+        assertTrue(annotationStore.flushQueuedAnnotations().isEmpty());
+        assertEquals(requests.size(), 2);
+    }
+
+
+    /**
+     * Queued annotations are sent by the timer once the oldest has waited for the flush interval, even when no
+     * further annotation is queued.
+     *
+     * @throws Exception problem storing the annotations
+     */
+    @Test public void testTimedFlush() throws Exception
+    {
+        DiscoveryAnnotationStoreClient annotationStore = getAnnotationStore(10, 50L);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("First"));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Second"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (System.currentTimeMillis() < deadline)
+        {
+            synchronized (requests)
+            {
+                if (! requests.isEmpty())
+                {
+                    break;
+                }
+            }
+
+            Thread.sleep(10);
+        }
+
+        synchronized (requests)
+        {
+            assertEquals(requests, Collections.singletonList(Arrays.asList("First", "Second")));
+        }
+
+        assertTrue(annotationStore.flushQueuedAnnotations().isEmpty());
+    }
+
+
+    /**
+     * An annotation that has waited for the flush interval is sent at the latest on the next call to queue an
+     * annotation.
+     *
+     * @throws Exception problem storing the annotations
+     */
+    @Test public void testFlushInterval() throws Exception
+    {
+        DiscoveryAnnotationStoreClient annotationStore = getAnnotationStore(10, 1L);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("First"));
+
+        Thread.sleep(10);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Second"));
+
+        synchronized (requests)
+        {
+            assertEquals(requests.get(0).get(0), "First");
+        }
+    }
+
+
+    /**
+     * A batch size of one or less stores each annotation as it is queued.
+     *
+     * @throws Exception problem storing the annotation
+     */
+    @Test public void testNoQueuing() throws Exception
+    {
+        DiscoveryAnnotationStoreClient annotationStore = getAnnotationStore(0, 0L);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("First"));
+
+        verify(discoveryEngineClient).addAnnotationToDiscoveryReport(eq(userId), eq(discoveryReportGUID), any());
+        verify(discoveryEngineClient, never()).addAnnotationsToDiscoveryReport(any(), any(), anyList());
+    }
+
+
+    /**
+     * Annotations stay queued when the request fails so the next flush sends them again.
+     *
+     * @throws Exception problem storing the annotations
+     */
+    @Test public void testFailedFlush() throws Exception
+    {
+        DiscoveryAnnotationStoreClient annotationStore = getAnnotationStore(10, 0L);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("First"));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Second"));
+
+        failures.add(getFailure(null));
+
+        try
+        {
+            annotationStore.flushQueuedAnnotations();
+            fail("Expected a PropertyServerException");
+        }
+        catch (PropertyServerException error)
+        {
+            assertTrue(requests.isEmpty());
+        }
+
+        assertEquals(annotationStore.flushQueuedAnnotations(), Arrays.asList("First-guid", "Second-guid"));
+        assertEquals(requests, Collections.singletonList(Arrays.asList("First", "Second")));
+    }
+
+
+    /**
+     * A rejected annotation is logged and discarded, and the annotations after it are stored by the same flush.
+     *
+     * @throws Exception problem storing the annotations
+     */
+    @Test public void testPartiallyFailedFlush() throws Exception
+    {
+        DiscoveryAnnotationStoreClient annotationStore = getAnnotationStore(10, 0L);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("First"));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Second"));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Third"));
+
+        failures.add(getFailure(1));
+
+        assertEquals(annotationStore.flushQueuedAnnotations(), Collections.singletonList("Third-guid"));
+        assertEquals(requests, Collections.singletonList(Collections.singletonList("Third")));
+        assertTrue(annotationStore.flushQueuedAnnotations().isEmpty());
+
+        verify(auditLog).logMessage(any(String.class), any(AuditLogMessageDefinition.class));
+    }
+
+
+    /**
+     * Each rejected annotation is discarded in turn, including the first and last in the queue.
+     *
+     * @throws Exception problem storing the annotations
+     */
+    @Test public void testRepeatedlyFailedFlush() throws Exception
+    {
+        DiscoveryAnnotationStoreClient annotationStore = getAnnotationStore(10, 0L);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("First"));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Second"));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("Third"));
+
+        failures.add(getFailure(0));
+        failures.add(getFailure(1));
+
+        assertTrue(annotationStore.flushQueuedAnnotations().isEmpty());
+        assertTrue(requests.isEmpty());
+
+        verify(auditLog, times(2)).logMessage(any(String.class), any(AuditLogMessageDefinition.class));
+    }
+}
@@ -10,10 +10,15 @@ import org.odpi.openmetadata.commonservices.ffdc.rest.*;
 import org.odpi.openmetadata.accessservices.discoveryengine.rest.*;
 import org.odpi.openmetadata.commonservices.generichandlers.*;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
 import org.odpi.openmetadata.frameworks.discovery.properties.*;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -883,6 +888,77 @@ public class DiscoveryEngineRESTServices
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The annotations are stored in order.  If one of them can not be stored, the response contains the exception
+     * for that annotation along with the unique identifiers of the annotations stored in front of it.  The position of the
+     * failing annotation and these identifiers are also included in the exception properties so that they are available
+     * to callers that receive the exception.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param requestBody list of annotation objects
+     *
+     * @return list of unique identifiers of the new annotations or
+     *  InvalidParameterException one of the annotations is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem adding an annotation to the annotation store.
+     */
+    public  GUIDListResponse  addAnnotationsToDiscoveryReport(String                    serverName,
+                                                              String                    userId,
+                                                              String                    discoveryReportGUID,
+                                                              AnnotationListRequestBody requestBody)
+    {
+        final String methodName = "addAnnotationsToDiscoveryReport";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog         auditLog        = null;
+        GUIDListResponse response        = new GUIDListResponse();
+        List<String>     annotationGUIDs = new ArrayList<>();
+
+        try
+        {
+            if (requestBody == null)
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+
+            AnnotationHandler<Annotation> handler = instanceHandler.getAnnotationHandler(userId, serverName, methodName);
+
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            handler.addAnnotationsToDiscoveryReport(userId,
+                                                    discoveryReportGUID,
+                                                    requestBody.getAnnotations(),
+                                                    annotationGUIDs,
+                                                    methodName);
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+
+            Map<String, Object> exceptionProperties = new HashMap<>();
+
+            if (response.getExceptionProperties() != null)
+            {
+                exceptionProperties.putAll(response.getExceptionProperties());
+            }
+
+            exceptionProperties.put(DiscoveryAnnotationStore.ANNOTATION_INDEX_PROPERTY_NAME, annotationGUIDs.size());
+            exceptionProperties.put(DiscoveryAnnotationStore.ANNOTATION_GUIDS_PROPERTY_NAME, new ArrayList<>(annotationGUIDs));
+
+            response.setExceptionProperties(exceptionProperties);
+        }
+
+        response.setGUIDs(annotationGUIDs);
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -0,0 +1,67 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.discoveryengine.server;
+
+import org.odpi.openmetadata.accessservices.discoveryengine.rest.AnnotationListRequestBody;
+import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Test that the addAnnotationsToDiscoveryReport REST API reports how far it got when it is unable to store the
+ * annotations.
+ */
+public class DiscoveryEngineRESTServicesTest
+{
+    private final DiscoveryEngineRESTServices restServices = new DiscoveryEngineRESTServices();
+
+
+    /**
+     * Check that the response carries an exception for a request that stored no annotations.
+     *
+     * @param response response from the REST API
+     */
+    private void validateFailedResponse(GUIDListResponse response)
+    {
+        assertNotNull(response.getExceptionClassName());
+        assertTrue((response.getGUIDs() == null) || (response.getGUIDs().isEmpty()));
+        assertEquals(response.getExceptionProperties().get(DiscoveryAnnotationStore.ANNOTATION_INDEX_PROPERTY_NAME), 0);
+        assertEquals(response.getExceptionProperties().get(DiscoveryAnnotationStore.ANNOTATION_GUIDS_PROPERTY_NAME), Collections.emptyList());
+    }
+
+
+    /**
+     * A request without a request body fails before any annotation is stored.
+     */
+    @Test public void testNoRequestBody()
+    {
+        validateFailedResponse(restServices.addAnnotationsToDiscoveryReport("TestServer",
+                                                                            "testUser",
+                                                                            "test-report-guid",
+                                                                            null));
+    }
+
+
+    /**
+     * A request for a server that is not running fails before any annotation is stored.
+     */
+    @Test public void testUnknownServer()
+    {
+        AnnotationListRequestBody requestBody = new AnnotationListRequestBody();
+
+        requestBody.setAnnotations(Collections.singletonList(new Annotation()));
+
+        validateFailedResponse(restServices.addAnnotationsToDiscoveryReport("UnknownServer",
+                                                                            "testUser",
+                                                                            "test-report-guid",
+                                                                            requestBody));
+    }
+}
@@ -447,6 +447,33 @@ public class DiscoveryMetadataStoreResource
     }
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param requestBody list of annotation objects
+     *
+     * @return list of unique identifiers of the new annotations or
+     *  InvalidParameterException one of the annotations is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem adding an annotation to the annotation store.
+     */
+    @PostMapping(path = "/discovery-analysis-reports/{discoveryReportGUID}/annotations/multiple")
+
+    public  GUIDListResponse  addAnnotationsToDiscoveryReport(@PathVariable String                    serverName,
+                                                              @PathVariable String                    userId,
+                                                              @PathVariable String                    discoveryReportGUID,
+                                                              @RequestBody  AnnotationListRequestBody requestBody)
+    {
+        return restAPI.addAnnotationsToDiscoveryReport(serverName,
+                                                       userId,
+                                                       discoveryReportGUID,
+                                                       requestBody);
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
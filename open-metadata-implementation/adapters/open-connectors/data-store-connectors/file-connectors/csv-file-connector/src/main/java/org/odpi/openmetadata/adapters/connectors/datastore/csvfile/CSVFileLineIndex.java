@@ -0,0 +1,523 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CSVFileLineIndex records the byte offset of the start of each line in a CSV file so that any line can be
+ * read without scanning the lines in front of it.  The index is built with a single pass over the file and
+ * is only valid while the length and last modified time of the file are unchanged.  Files that fit in a
+ * single memory mapped buffer are read through the mapping; larger files are read with positional reads on
+ * a file channel that stays open until the index is closed.
+ * The index can optionally be saved to, and reloaded from, an index file so that it survives a restart.
+ */
+class CSVFileLineIndex implements Closeable
+{
+    private static final int  indexFileMagicNumber = 0x43535649;
+    private static final int  scanBufferSize       = 64 * 1024;
+
+    private final    File             file;
+    private final    long             fileLength;
+    private final    long             lastModified;
+    private final    long[]           lineOffsets;
+    private final    int              lineCount;
+    private volatile MappedByteBuffer mappedFile  = null;
+    private volatile FileChannel      fileChannel = null;
+    private volatile boolean          closed      = false;
+
+
+    /**
+     * Constructor used once the line offsets are known.
+     *
+     * @param file file that is indexed
+     * @param fileLength length of the file when it was indexed
+     * @param lastModified last modified time of the file when it was indexed
+     * @param lineOffsets byte offset of the start of each line
+     * @param lineCount number of lines that are returned to the caller
+     * @param maxMappedLength largest file that is memory mapped
+     * @throws IOException unable to open the file
+     */
+    private CSVFileLineIndex(File   file,
+                             long   fileLength,
+                             long   lastModified,
+                             long[] lineOffsets,
+                             int    lineCount,
+                             long   maxMappedLength) throws IOException
+    {
+        this.file = file;
+        this.fileLength = fileLength;
+        this.lastModified = lastModified;
+        this.lineOffsets = lineOffsets;
+        this.lineCount = lineCount;
+
+        if (fileLength > 0)
+        {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+
+            if (fileLength <= maxMappedLength)
+            {
+                /*
+                 * The mapping remains valid once the channel is closed.
+                 */
+                try (channel)
+                {
+                    this.mappedFile = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileLength);
+                }
+            }
+            else
+            {
+                this.fileChannel = channel;
+            }
+        }
+    }
+
+
+    /**
+     * Return the index for the file.  A saved index is used if it matches the current state of the file; otherwise
+     * the file is scanned and the resulting index is saved (if an index file is supplied).
+     *
+     * @param file file to index
+     * @param indexFile file used to save the index between runs - may be null
+     * @return index
+     * @throws IOException unable to read the file
+     */
+    static CSVFileLineIndex getIndex(File file,
+                                     File indexFile) throws IOException
+    {
+        return getIndex(file, indexFile, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Return the index for the file, choosing the size of the largest file that is read through a memory mapping.
+     *
+     * @param file file to index
+     * @param indexFile file used to save the index between runs - may be null
+     * @param maxMappedLength largest file that is memory mapped - larger files are read through a file channel
+     * @return index
+     * @throws IOException unable to read the file
+     */
+    static CSVFileLineIndex getIndex(File file,
+                                     File indexFile,
+                                     long maxMappedLength) throws IOException
+    {
+        long fileLength   = file.length();
+        long lastModified = file.lastModified();
+
+        if ((indexFile != null) && (indexFile.exists()))
+        {
+            CSVFileLineIndex savedIndex = loadIndex(file, indexFile, fileLength, lastModified, maxMappedLength);
+
+            if (savedIndex != null)
+            {
+                return savedIndex;
+            }
+        }
+
+        CSVFileLineIndex newIndex = buildIndex(file, fileLength, lastModified, maxMappedLength);
+
+        if (indexFile != null)
+        {
+            newIndex.save(indexFile);
+        }
+
+        return newIndex;
+    }
+
+
+    /**
+     * Return whether the index still describes the file.
+     *
+     * @return boolean flag
+     */
+    boolean isCurrent()
+    {
+        return (file.length() == fileLength) && (file.lastModified() == lastModified);
+    }
+
+
+    /**
+     * Return the number of lines in the file.  Trailing blank lines are not counted.
+     *
+     * @return count
+     */
+    int getLineCount()
+    {
+        return lineCount;
+    }
+
+
+    /**
+     * Return the requested lines from the file, without their line terminators.  The first line is line 0.
+     *
+     * @param startLine first line to return
+     * @param maxLines maximum number of lines to return
+     * @param charset character set of the file
+     * @return list of lines (empty if the start line is beyond the end of the file)
+     * @throws IOException unable to read the file
+     */
+    List<String> readLines(int     startLine,
+                           int     maxLines,
+                           Charset charset) throws IOException
+    {
+        List<String> lines = new ArrayList<>();
+
+        if ((startLine < 0) || (startLine >= lineCount) || (maxLines <= 0))
+        {
+            return lines;
+        }
+
+        int              endLine    = (int)Math.min((long)startLine + maxLines, lineCount);
+        MappedByteBuffer mappedView = mappedFile;
+        FileChannel      channel    = fileChannel;
+
+        if (closed)
+        {
+            throw new IOException("The line index for file " + file.getPath() + " is closed");
+        }
+
+        ByteBuffer mappedBuffer = (mappedView == null) ? null : mappedView.duplicate();
+
+        for (int line = startLine; line < endLine; line++)
+        {
+            ByteBuffer lineBuffer;
+
+            if (mappedBuffer != null)
+            {
+                lineBuffer = this.getLineBuffer(mappedBuffer, line);
+            }
+            else
+            {
+                lineBuffer = this.readLineBuffer(channel, line);
+            }
+
+            lines.add(new String(lineBuffer.array(), lineBuffer.arrayOffset(), this.getLineLength(lineBuffer), charset));
+        }
+
+        return lines;
+    }
+
+
+    /**
+     * Copy a line, including its line terminator, from the memory mapped file.
+     *
+     * @param mappedBuffer view of the memory mapped file
+     * @param line line number
+     * @return buffer holding the line
+     */
+    private ByteBuffer getLineBuffer(ByteBuffer mappedBuffer,
+                                     int        line)
+    {
+        byte[] lineBytes = new byte[(int)(this.getLineEnd(line) - lineOffsets[line])];
+
+        mappedBuffer.position((int)lineOffsets[line]);
+        mappedBuffer.get(lineBytes);
+
+        return ByteBuffer.wrap(lineBytes);
+    }
+
+
+    /**
+     * Read a line, including its line terminator, with positional reads on the file channel.  Positional reads do
+     * not change the channel's position so the channel can be shared by concurrent readers.
+     *
+     * @param channel open channel for the file
+     * @param line line number
+     * @return buffer holding the line
+     * @throws IOException unable to read the file
+     */
+    private ByteBuffer readLineBuffer(FileChannel channel,
+                                      int         line) throws IOException
+    {
+        ByteBuffer buffer   = ByteBuffer.allocate((int)(this.getLineEnd(line) - lineOffsets[line]));
+        long       position = lineOffsets[line];
+
+        while (buffer.hasRemaining())
+        {
+            int bytesRead = channel.read(buffer, position);
+
+            if (bytesRead < 0)
+            {
+                throw new IOException("Unexpected end of file " + file.getPath());
+            }
+
+            position = position + bytesRead;
+        }
+
+        return buffer;
+    }
+
+
+    /**
+     * Return the offset after the end of a line, including its line terminator.
+     *
+     * @param line line number
+     * @return byte offset
+     */
+    private long getLineEnd(int line)
+    {
+        return (line + 1 < lineOffsets.length) ? lineOffsets[line + 1] : fileLength;
+    }
+
+
+    /**
+     * Return the length of the line held in the buffer in bytes, excluding its line terminator.
+     *
+     * @param lineBuffer buffer holding a whole line
+     * @return byte count
+     */
+    private int getLineLength(ByteBuffer lineBuffer)
+    {
+        byte[] lineBytes = lineBuffer.array();
+        int    start     = lineBuffer.arrayOffset();
+        int    end       = start + lineBuffer.capacity();
+
+        if ((end > start) && (lineBytes[end - 1] == '\n'))
+        {
+            end--;
+        }
+
+        if ((end > start) && (lineBytes[end - 1] == '\r'))
+        {
+            end--;
+        }
+
+        return end - start;
+    }
+
+
+    /**
+     * Release the memory mapped view of the file and close the file channel.  The index can not be read once
+     * it is closed.  The memory mapping itself is removed when the buffer is garbage collected.
+     *
+     * @throws IOException unable to close the file channel
+     */
+    @Override
+    public void close() throws IOException
+    {
+        FileChannel channel = fileChannel;
+
+        closed = true;
+        mappedFile = null;
+        fileChannel = null;
+
+        if (channel != null)
+        {
+            channel.close();
+        }
+    }
+
+
+    /**
+     * Scan the file to locate the start of each line.  Line terminators may be \n, \r\n or \r.
+     *
+     * @param file file to scan
+     * @param fileLength length of the file
+     * @param lastModified last modified time of the file
+     * @param maxMappedLength largest file that is memory mapped
+     * @return new index
+     * @throws IOException unable to read the file
+     */
+    private static CSVFileLineIndex buildIndex(File file,
+                                               long fileLength,
+                                               long lastModified,
+                                               long maxMappedLength) throws IOException
+    {
+        long[]  offsets        = new long[1024];
+        int     offsetCount    = 0;
+        int     nonBlankLines  = 0;
+        boolean lineIsBlank    = true;
+        boolean previousWasCR  = false;
+        long    position       = 0;
+
+        if (fileLength > 0)
+        {
+            offsets[offsetCount++] = 0;
+        }
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r"))
+        {
+            FileChannel channel = randomAccessFile.getChannel();
+            ByteBuffer  buffer  = ByteBuffer.allocate(scanBufferSize);
+
+            while (channel.read(buffer) > 0)
+            {
+                buffer.flip();
+
+                while (buffer.hasRemaining())
+                {
+                    byte character = buffer.get();
+                    long nextLineStart = -1;
+
+                    if (character == '\n')
+                    {
+                        if (previousWasCR)
+                        {
+                            /*
+                             * \r\n - the line start was recorded at the \r so move it past the \n.
+                             */
+                            offsets[offsetCount - 1] = position + 1;
+                        }
+                        else
+                        {
+                            nextLineStart = position + 1;
+                        }
+
+                        previousWasCR = false;
+                    }
+                    else if (character == '\r')
+                    {
+                        nextLineStart = position + 1;
+                        previousWasCR = true;
+                    }
+                    else
+                    {
+                        previousWasCR = false;
+
+                        if (! Character.isWhitespace((char)(character & 0xFF)))
+                        {
+                            lineIsBlank = false;
+                        }
+                    }
+
+                    if (nextLineStart >= 0)
+                    {
+                        if (! lineIsBlank)
+                        {
+                            nonBlankLines = offsetCount;
+                        }
+
+                        lineIsBlank = true;
+
+                        if (offsetCount == offsets.length)
+                        {
+                            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                        }
+
+                        offsets[offsetCount++] = nextLineStart;
+                    }
+
+                    position++;
+                }
+
+                buffer.clear();
+            }
+        }
+
+        if (! lineIsBlank)
+        {
+            nonBlankLines = offsetCount;
+        }
+
+        /*
+         * Remove the entry for the position after the final line terminator.
+         */
+        if ((offsetCount > 0) && (offsets[offsetCount - 1] >= fileLength))
+        {
+            offsetCount--;
+        }
+
+        return new CSVFileLineIndex(file, fileLength, lastModified, Arrays.copyOf(offsets, offsetCount), Math.min(nonBlankLines, offsetCount), maxMappedLength);
+    }
+
+
+    /**
+     * Load a saved index.  Null is returned if the saved index does not match the file.
+     *
+     * @param file file that is indexed
+     * @param indexFile saved index
+     * @param fileLength current length of the file
+     * @param lastModified current last modified time of the file
+     * @param maxMappedLength largest file that is memory mapped
+     * @return index or null
+     * @throws IOException unable to read the index file
+     */
+    private static CSVFileLineIndex loadIndex(File file,
+                                              File indexFile,
+                                              long fileLength,
+                                              long lastModified,
+                                              long maxMappedLength) throws IOException
+    {
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile.toPath()))))
+        {
+            if ((inputStream.readInt() != indexFileMagicNumber) ||
+                        (inputStream.readLong() != fileLength) ||
+                        (inputStream.readLong() != lastModified))
+            {
+                return null;
+            }
+
+            int    lineCount   = inputStream.readInt();
+            long[] lineOffsets = new long[inputStream.readInt()];
+
+            for (int i = 0; i < lineOffsets.length; i++)
+            {
+                lineOffsets[i] = inputStream.readLong();
+            }
+
+            return new CSVFileLineIndex(file, fileLength, lastModified, lineOffsets, lineCount, maxMappedLength);
+        }
+        catch (IOException error)
+        {
+            /*
+             * The index file is damaged - it is rebuilt by the caller.
+             */
+            return null;
+        }
+    }
+
+
+    /**
+     * Save the index so that it can be reused.  The index is written to a temporary file first so that
+     * a partially written index file is never read.
+     *
+     * @param indexFile destination
+     * @throws IOException unable to write the index file
+     */
+    private void save(File indexFile) throws IOException
+    {
+        File parentDirectory = indexFile.getAbsoluteFile().getParentFile();
+
+        if ((parentDirectory != null) && (! parentDirectory.exists()))
+        {
+            Files.createDirectories(parentDirectory.toPath());
+        }
+
+        File tempFile = new File(indexFile.getPath() + ".tmp");
+
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()))))
+        {
+            outputStream.writeInt(indexFileMagicNumber);
+            outputStream.writeLong(fileLength);
+            outputStream.writeLong(lastModified);
+            outputStream.writeInt(lineCount);
+            outputStream.writeInt(lineOffsets.length);
+
+            for (long lineOffset : lineOffsets)
+            {
+                outputStream.writeLong(lineOffset);
+            }
+        }
+
+        Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
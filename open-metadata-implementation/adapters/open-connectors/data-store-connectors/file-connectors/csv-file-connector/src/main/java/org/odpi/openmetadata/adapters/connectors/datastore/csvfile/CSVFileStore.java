@@ -8,6 +8,7 @@ import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.except
 import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.ffdc.exception.FileReadException;
 
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -42,8 +43,7 @@ public interface CSVFileStore extends BasicFileStore
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The file is scanned when it is first opened, or after it changes.
      *
      * @return count
      * @throws FileException there is a problem accessing the file
@@ -74,4 +74,29 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Return a batch of data records.  The first record is record 0.  If the first line of the file is the column
+     * names then record 0 is the line following the column names.
+     *
+     * @param startRecordNumber first record to return
+     * @param recordCount maximum number of records to return
+     * @return list of records, each record is a list of column values; null if the start record is beyond the end of the file
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    List<List<String>> readRecords(int  startRecordNumber,
+                                   int  recordCount) throws FileException, FileReadException;
+
+
+    /**
+     * Return an iterator that steps through the data records in the file, a batch at a time.
+     *
+     * @param batchSize maximum number of records returned on each call to next()
+     * @return iterator over batches of records
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or scan the file.
+     */
+    Iterator<List<List<String>>> getRecordBatches(int batchSize) throws FileException, FileReadException;
 }
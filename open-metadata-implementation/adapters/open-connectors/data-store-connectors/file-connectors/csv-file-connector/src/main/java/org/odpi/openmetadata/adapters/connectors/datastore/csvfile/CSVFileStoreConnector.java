@@ -7,6 +7,7 @@ import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.BasicFileSt
 import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.exception.FileException;
 import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.ffdc.CSVFileConnectorErrorCode;
 import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.ffdc.exception.FileReadException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.slf4j.Logger;
@@ -14,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.*;
 
 
@@ -29,6 +31,12 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
 
+    /*
+     * Variables used to locate records without rescanning the file.
+     */
+    private String            lineIndexDirectory = null;
+    private CSVFileLineIndex  lineIndex          = null;
+
     /*
      * Variables used for logging and debug.
      */
@@ -54,6 +62,7 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             Object  columnNamesProperty   = configurationProperties.get(CSVFileStoreProvider.columnNamesProperty);
             Object  delimiterCharProperty = configurationProperties.get(CSVFileStoreProvider.delimiterCharacterProperty);
             Object  quoteCharProperty     = configurationProperties.get(CSVFileStoreProvider.quoteCharacterProperty);
+            Object  lineIndexDirectoryProperty = configurationProperties.get(CSVFileStoreProvider.lineIndexDirectoryProperty);
 
             if (columnNamesProperty != null)
             {
@@ -79,6 +88,11 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             {
                 quoteChar = (char)quoteCharProperty;
             }
+
+            if (lineIndexDirectoryProperty != null)
+            {
+                lineIndexDirectory = lineIndexDirectoryProperty.toString();
+            }
         }
 
         if (endpoint != null)
@@ -127,8 +141,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The file is scanned once to build an index of the
+     * start of each line.  The index is reused until the file changes.
      *
      * @return count
      * @throws FileException problem accessing the file
@@ -138,31 +152,11 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
-
-        File fileStore = getFile(methodName);
-
-        try (Scanner scanner  = new Scanner(fileStore))
-        {
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
+        long rowCount = getLineIndex(methodName).getLineCount();
 
-            if ((rowCount > 0) && (columnNames == null))
-            {
-                rowCount = rowCount - 1;
-            }
-        }
-        catch (IOException  error)
+        if ((rowCount > 0) && (columnNames == null))
         {
-            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
-                                                                                                               error.getMessage()),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        error,
-                                        fileStoreName);
+            rowCount = rowCount - 1;
         }
 
         return rowCount;
@@ -220,6 +214,47 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Return a batch of data records.  The first record is record 0.  If the first line of the file is the column
+     * names then record 0 is the line following the column names.
+     *
+     * @param startRecordNumber first record to return
+     * @param recordCount maximum number of records to return
+     * @return list of records, each record is a list of column values; null if the start record is beyond the end of the file
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    public List<List<String>> readRecords(int  startRecordNumber,
+                                          int  recordCount) throws FileException, FileReadException
+    {
+        final String  methodName = "readRecords";
+
+        if (columnNames == null)
+        {
+            return readRows(startRecordNumber + 1, recordCount, methodName);
+        }
+        else
+        {
+            return readRows(startRecordNumber, recordCount, methodName);
+        }
+    }
+
+
+    /**
+     * Return an iterator that steps through the data records in the file, a batch at a time.  This avoids
+     * holding the whole file in memory when processing large files.
+     *
+     * @param batchSize maximum number of records returned on each call to next()
+     * @return iterator over batches of records
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or scan the file.
+     */
+    public Iterator<List<List<String>>> getRecordBatches(int batchSize) throws FileException, FileReadException
+    {
+        return new RecordBatchIterator(batchSize, getRecordCount());
+    }
+
+
     /**
      * Return the requested row in the file.  The first record is record 0.
      *
@@ -232,32 +267,66 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String>      readRow(int     recordLocation,
                                       String  methodName) throws FileException, FileReadException
     {
+        CSVFileLineIndex index = getLineIndex(methodName);
 
-        File fileStore = super.getFile(methodName);
-
-        try (Scanner scanner = new Scanner(fileStore))
+        if ((recordLocation < 0) || (recordLocation >= index.getLineCount()))
         {
-
-            int rowCounter = 0;
-            while (scanner.hasNext())
-            {
-                if (rowCounter == recordLocation)
-                {
-                    return parseRecord(scanner.nextLine());
-                }
-                else
-                {
-                    scanner.nextLine();
-                }
-                rowCounter ++;
-            }
-
             throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
                                                                                                       Integer.toString(recordLocation)),
                                         this.getClass().getName(),
                                         methodName,
                                         fileStoreName);
+        }
+
+        try
+        {
+            return parseRecord(index.readLines(recordLocation, 1, Charset.defaultCharset()).get(0));
+        }
+        catch (IOException  error)
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                               error.getMessage()),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        error,
+                                        fileStoreName);
+        }
+    }
+
+
+    /**
+     * Return the requested rows in the file.  The first record is record 0.
+     *
+     * @param startLocation first row to return
+     * @param rowCount maximum number of rows to return
+     * @param methodName name of calling method
+     * @return list of records, or null if the start location is beyond the end of the file
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    private List<List<String>> readRows(int     startLocation,
+                                        int     rowCount,
+                                        String  methodName) throws FileException, FileReadException
+    {
+        CSVFileLineIndex index = getLineIndex(methodName);
+
+        try
+        {
+            List<String> lines = index.readLines(startLocation, rowCount, Charset.defaultCharset());
+
+            if (lines.isEmpty())
+            {
+                return null;
+            }
+
+            List<List<String>> records = new ArrayList<>();
+
+            for (String line : lines)
+            {
+                records.add(parseRecord(line));
+            }
 
+            return records;
         }
         catch (IOException  error)
         {
@@ -271,6 +340,74 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Return the index of the start of each line in the file.  The index is built on first use and rebuilt
+     * whenever the file changes.  If a line index directory is configured, the index is saved there so that it
+     * can be reused by later instances of the connector.
+     *
+     * @param methodName name of calling method
+     * @return line index
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or scan the file.
+     */
+    private synchronized CSVFileLineIndex getLineIndex(String  methodName) throws FileException, FileReadException
+    {
+        File fileStore = super.getFile(methodName);
+
+        if ((lineIndex == null) || (! lineIndex.isCurrent()))
+        {
+            File indexFile = null;
+
+            if (lineIndexDirectory != null)
+            {
+                indexFile = new File(lineIndexDirectory,
+                                     fileStore.getName() + "-" + Integer.toHexString(fileStore.getAbsolutePath().hashCode()) + ".lineindex");
+            }
+
+            this.closeLineIndex();
+
+            try
+            {
+                lineIndex = CSVFileLineIndex.getIndex(fileStore, indexFile);
+            }
+            catch (IOException  error)
+            {
+                lineIndex = null;
+
+                throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                                   error.getMessage()),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            error,
+                                            fileStoreName);
+            }
+        }
+
+        return lineIndex;
+    }
+
+
+    /**
+     * Release the file resources held by the line index, if there is one.
+     */
+    private synchronized void closeLineIndex()
+    {
+        if (lineIndex != null)
+        {
+            try
+            {
+                lineIndex.close();
+            }
+            catch (IOException  error)
+            {
+                log.debug("Ignoring unexpected exception " + error.getClass().getSimpleName() + " with message " + error.getMessage());
+            }
+
+            lineIndex = null;
+        }
+    }
+
+
     /**
      * Step through the record, character by character, extracting each column and enduring that escaped double quotes
      * and other tricks found in CSV files are handled.
@@ -378,6 +515,85 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             log.debug("Ignoring unexpected exception " + exec.getClass().getSimpleName() + " with message " + exec.getMessage());
         }
 
+        this.closeLineIndex();
+
         log.debug("Closing Structured File Store");
     }
+
+
+    /**
+     * RecordBatchIterator returns the data records from the file in batches.  Read errors are returned as
+     * OCFRuntimeExceptions since the iterator methods can not throw checked exceptions.
+     */
+    private class RecordBatchIterator implements Iterator<List<List<String>>>
+    {
+        private final int   batchSize;
+        private final long  recordCount;
+        private       int   nextRecord = 0;
+
+
+        /**
+         * Constructor.
+         *
+         * @param batchSize maximum number of records in each batch
+         * @param recordCount number of records in the file
+         */
+        RecordBatchIterator(int  batchSize,
+                            long recordCount)
+        {
+            this.batchSize   = Math.max(batchSize, 1);
+            this.recordCount = recordCount;
+        }
+
+
+        /**
+         * Return whether there are more records to read.
+         *
+         * @return boolean flag
+         */
+        @Override
+        public boolean hasNext()
+        {
+            return nextRecord < recordCount;
+        }
+
+
+        /**
+         * Return the next batch of records.
+         *
+         * @return list of records
+         */
+        @Override
+        public List<List<String>> next()
+        {
+            final String methodName = "next";
+
+            if (! hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            try
+            {
+                List<List<String>> records = readRecords(nextRecord, batchSize);
+
+                if (records == null)
+                {
+                    throw new NoSuchElementException();
+                }
+
+                nextRecord = nextRecord + records.size();
+
+                return records;
+            }
+            catch (FileException | FileReadException error)
+            {
+                throw new OCFRuntimeException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                                     error.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error);
+            }
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that CSVFileLineIndex returns the same lines whether the file is memory mapped or read through its file
+ * channel, and that a closed index can not be read.
+ */
+public class CSVFileLineIndexTest
+{
+    private static final String       fileContents  = "Name,Value\nfirst,1\r\nsecond,2\rthird,3\n\n";
+    private static final List<String> expectedLines = List.of("Name,Value", "first,1", "second,2", "third,3");
+
+    private File csvFile = null;
+
+
+    /**
+     * Write a file that uses each type of line terminator and ends with a blank line.
+     *
+     * @throws IOException unable to write the file
+     */
+    @BeforeMethod public void createFile() throws IOException
+    {
+        csvFile = File.createTempFile("test-line-index", ".csv");
+
+        Files.writeString(csvFile.toPath(), fileContents, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Remove the file.
+     *
+     * @throws IOException unable to remove the file
+     */
+    @AfterMethod public void removeFile() throws IOException
+    {
+        Files.deleteIfExists(csvFile.toPath());
+    }
+
+
+    /**
+     * Lines are read from the memory mapped file.
+     *
+     * @throws IOException unable to read the file
+     */
+    @Test public void testMappedFile() throws IOException
+    {
+        try (CSVFileLineIndex index = CSVFileLineIndex.getIndex(csvFile, null))
+        {
+            assertEquals(index.getLineCount(), expectedLines.size());
+            assertEquals(index.readLines(0, 10, StandardCharsets.UTF_8), expectedLines);
+            assertEquals(index.readLines(2, 1, StandardCharsets.UTF_8), List.of("second,2"));
+        }
+    }
+
+
+    /**
+     * Files too large to map are read through one file channel that is reused for every read.
+     *
+     * @throws IOException unable to read the file
+     */
+    @Test public void testUnmappedFile() throws IOException
+    {
+        try (CSVFileLineIndex index = CSVFileLineIndex.getIndex(csvFile, null, 0))
+        {
+            assertEquals(index.getLineCount(), expectedLines.size());
+            assertEquals(index.readLines(0, 10, StandardCharsets.UTF_8), expectedLines);
+
+            for (int line = 0; line < expectedLines.size(); line++)
+            {
+                assertEquals(index.readLines(line, 1, StandardCharsets.UTF_8), List.of(expectedLines.get(line)));
+            }
+        }
+    }
+
+
+    /**
+     * Once the index is closed it releases the file and can no longer be read.
+     *
+     * @throws IOException unable to read the file
+     */
+    @Test public void testClosedIndex() throws IOException
+    {
+        for (long maxMappedLength : new long[]{Integer.MAX_VALUE, 0})
+        {
+            CSVFileLineIndex index = CSVFileLineIndex.getIndex(csvFile, null, maxMappedLength);
+
+            index.close();
+
+            try
+            {
+                index.readLines(0, 1, StandardCharsets.UTF_8);
+                fail("A closed index was read");
+            }
+            catch (IOException expected)
+            {
+                // the file is released
+            }
+
+            index.close();
+        }
+    }
+}
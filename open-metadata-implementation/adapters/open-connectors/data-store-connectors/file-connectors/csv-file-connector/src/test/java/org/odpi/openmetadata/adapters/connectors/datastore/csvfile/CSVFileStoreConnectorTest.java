@@ -10,9 +10,13 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.*;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -206,6 +210,91 @@ public class CSVFileStoreConnectorTest
         }
     }
 
+    @Test public void testRecordBatches()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(resourcesDirectory + simpleColumnsWithColumnNamesFile));
+            connector.start();
+
+            long                         recordCount   = connector.getRecordCount();
+            long                         recordNumber  = 0;
+            Iterator<List<List<String>>> recordBatches = connector.getRecordBatches(7);
+
+            while (recordBatches.hasNext())
+            {
+                List<List<String>> records = recordBatches.next();
+
+                assertTrue(records.size() <= 7);
+
+                for (List<String> record : records)
+                {
+                    assertEquals(record, connector.readRecord((int)recordNumber));
+                    recordNumber++;
+                }
+            }
+
+            assertEquals(recordNumber, recordCount);
+            assertNull(connector.readRecords((int)recordCount, 10));
+
+            connector.disconnect();
+        }
+        catch (Exception  error)
+        {
+            assertTrue(false);
+        }
+    }
+
+    @Test public void testSavedLineIndex()
+    {
+        try
+        {
+            File                indexDirectory          = Files.createTempDirectory("csv-line-index").toFile();
+            Connection          connectionBean          = getConnection(resourcesDirectory + complexColumnsWithColumnNamesFile);
+            Map<String, Object> configurationProperties = new HashMap<>();
+
+            configurationProperties.put(CSVFileStoreProvider.lineIndexDirectoryProperty, indexDirectory.getPath());
+            connectionBean.setConfigurationProperties(configurationProperties);
+
+            CSVFileStoreConnector firstConnector = new CSVFileStoreConnector();
+
+            firstConnector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connectionBean));
+            firstConnector.start();
+
+            long         recordCount = firstConnector.getRecordCount();
+            List<String> lastRecord  = firstConnector.readRecord((int)recordCount - 1);
+
+            firstConnector.disconnect();
+
+            File[] indexFiles = indexDirectory.listFiles();
+
+            assertTrue((indexFiles != null) && (indexFiles.length == 1));
+
+            CSVFileStoreConnector secondConnector = new CSVFileStoreConnector();
+
+            secondConnector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connectionBean));
+            secondConnector.start();
+
+            assertEquals(secondConnector.getRecordCount(), recordCount);
+            assertEquals(secondConnector.readRecord((int)recordCount - 1), lastRecord);
+
+            secondConnector.disconnect();
+
+            for (File indexFile : indexFiles)
+            {
+                Files.delete(indexFile.toPath());
+            }
+
+            Files.delete(indexDirectory.toPath());
+        }
+        catch (Exception  error)
+        {
+            assertTrue(false);
+        }
+    }
+
     @Test public void testNullFileName()
     {
         CSVFileStoreConnector connector = new CSVFileStoreConnector();
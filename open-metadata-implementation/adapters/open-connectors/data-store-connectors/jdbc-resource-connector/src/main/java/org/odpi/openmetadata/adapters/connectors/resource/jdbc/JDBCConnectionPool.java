@@ -0,0 +1,726 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.resource.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JDBCConnectionPool keeps a bounded set of physical database connections that are lent to callers of the connector's
+ * data source.  The caller receives a proxy for the physical connection.  Closing the proxy returns the physical connection
+ * to the pool.  Idle connections are validated before they are lent out again and replaced if they are no longer valid.
+ * <br><br>
+ * Each physical connection keeps a cache of the idle prepared statements that have been created through it.  A caller that
+ * prepares SQL that has an idle statement in the cache receives a proxy for that statement.  Closing the proxy clears the
+ * statement's parameters and puts it back in the cache.  When a connection is returned to the pool, its transaction is
+ * rolled back and its auto-commit, transaction isolation and read-only settings are restored.
+ */
+class JDBCConnectionPool
+{
+    /**
+     * Creates new physical connections for the pool.
+     */
+    interface PhysicalConnectionFactory
+    {
+        /**
+         * Create a new physical connection to the database.
+         *
+         * @return connection
+         * @throws SQLException unable to connect
+         */
+        Connection getPhysicalConnection() throws SQLException;
+    }
+
+
+    private final PhysicalConnectionFactory connectionFactory;
+    private final String                    databaseName;
+    private final int                       maxPoolSize;
+    private final int                       validationTimeout;
+    private final long                      maxWaitTime;
+    private final int                       statementCacheSize;
+
+    private final Deque<PooledConnection>   idleConnections  = new ArrayDeque<>();
+    private final List<PooledConnection>    allConnections   = new ArrayList<>();
+    private       boolean                   isShutdown       = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param connectionFactory creates new physical connections
+     * @param databaseName name of the database for error messages
+     * @param maxPoolSize maximum number of physical connections
+     * @param validationTimeout seconds to wait when validating an idle connection (0 means no validation)
+     * @param maxWaitTime milliseconds to wait for a connection when all connections are in use
+     * @param statementCacheSize maximum number of prepared statements cached for each connection (0 means no caching)
+     */
+    JDBCConnectionPool(PhysicalConnectionFactory connectionFactory,
+                       String                    databaseName,
+                       int                       maxPoolSize,
+                       int                       validationTimeout,
+                       long                      maxWaitTime,
+                       int                       statementCacheSize)
+    {
+        this.connectionFactory  = connectionFactory;
+        this.databaseName       = databaseName;
+        this.maxPoolSize        = maxPoolSize;
+        this.validationTimeout  = validationTimeout;
+        this.maxWaitTime        = maxWaitTime;
+        this.statementCacheSize = statementCacheSize;
+    }
+
+
+    /**
+     * Lend a connection to the caller.  The caller must close the returned connection to give it back to the pool.
+     *
+     * @return connection proxy
+     * @throws SQLException the pool is shutdown, no connection became available within the wait time or
+     *                      a new connection could not be created
+     */
+    Connection getConnection() throws SQLException
+    {
+        long deadline = System.currentTimeMillis() + maxWaitTime;
+
+        while (true)
+        {
+            PooledConnection pooledConnection = null;
+            boolean          createNew        = false;
+
+            synchronized (this)
+            {
+                if (isShutdown)
+                {
+                    throw new SQLException("The connection pool for database " + databaseName + " is shutdown");
+                }
+
+                if (! idleConnections.isEmpty())
+                {
+                    pooledConnection = idleConnections.pop();
+                }
+                else if (allConnections.size() < maxPoolSize)
+                {
+                    pooledConnection = new PooledConnection();
+                    allConnections.add(pooledConnection);
+                    createNew = true;
+                }
+                else
+                {
+                    long waitTime = deadline - System.currentTimeMillis();
+
+                    if (waitTime <= 0)
+                    {
+                        throw new SQLTransientConnectionException("All " + maxPoolSize + " connections to database " + databaseName +
+                                                                  " are in use and none was returned within " + maxWaitTime + " milliseconds");
+                    }
+
+                    try
+                    {
+                        this.wait(waitTime);
+                    }
+                    catch (InterruptedException error)
+                    {
+                        Thread.currentThread().interrupt();
+                        throw new SQLTransientConnectionException("Interrupted while waiting for a connection to database " + databaseName, error);
+                    }
+
+                    continue;
+                }
+            }
+
+            if (createNew)
+            {
+                try
+                {
+                    pooledConnection.setPhysicalConnection(connectionFactory.getPhysicalConnection());
+                }
+                catch (SQLException | RuntimeException error)
+                {
+                    this.discard(pooledConnection);
+                    throw error;
+                }
+            }
+            else if (! this.isValid(pooledConnection))
+            {
+                this.discard(pooledConnection);
+                continue;
+            }
+
+            return pooledConnection.lend();
+        }
+    }
+
+
+    /**
+     * Return the number of physical connections currently held by the pool.
+     *
+     * @return count
+     */
+    synchronized int getConnectionCount()
+    {
+        return allConnections.size();
+    }
+
+
+    /**
+     * Return the number of physical connections that are not lent out.
+     *
+     * @return count
+     */
+    synchronized int getIdleConnectionCount()
+    {
+        return idleConnections.size();
+    }
+
+
+    /**
+     * Close all the physical connections.  Connections that are lent out are closed too.
+     *
+     * @return number of connections closed
+     */
+    int shutdown()
+    {
+        List<PooledConnection> connectionsToClose;
+
+        synchronized (this)
+        {
+            isShutdown = true;
+            connectionsToClose = new ArrayList<>(allConnections);
+            allConnections.clear();
+            idleConnections.clear();
+            this.notifyAll();
+        }
+
+        for (PooledConnection pooledConnection : connectionsToClose)
+        {
+            pooledConnection.closePhysicalConnection();
+        }
+
+        return connectionsToClose.size();
+    }
+
+
+    /**
+     * Check that an idle connection still works.
+     *
+     * @param pooledConnection connection to test
+     * @return boolean flag
+     */
+    private boolean isValid(PooledConnection pooledConnection)
+    {
+        try
+        {
+            if (pooledConnection.physicalConnection.isClosed())
+            {
+                return false;
+            }
+
+            return (validationTimeout <= 0) || (pooledConnection.physicalConnection.isValid(validationTimeout));
+        }
+        catch (SQLException error)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Remove a connection from the pool and close it.
+     *
+     * @param pooledConnection connection to remove
+     */
+    private void discard(PooledConnection pooledConnection)
+    {
+        synchronized (this)
+        {
+            allConnections.remove(pooledConnection);
+            this.notifyAll();
+        }
+
+        pooledConnection.closePhysicalConnection();
+    }
+
+
+    /**
+     * Called when the caller closes its connection proxy.  Any statements the caller left open are returned to the
+     * statement cache, the current transaction is rolled back and the connection settings that the caller may have
+     * changed are reset to the values the physical connection had when it was created.
+     *
+     * @param pooledConnection connection to return to the pool
+     */
+    private void release(PooledConnection pooledConnection)
+    {
+        boolean reusable;
+
+        pooledConnection.returnLentStatements();
+
+        try
+        {
+            Connection physicalConnection = pooledConnection.physicalConnection;
+
+            reusable = ! physicalConnection.isClosed();
+
+            if (reusable)
+            {
+                if (! physicalConnection.getAutoCommit())
+                {
+                    physicalConnection.rollback();
+                }
+
+                if (physicalConnection.getAutoCommit() != pooledConnection.defaultAutoCommit)
+                {
+                    physicalConnection.setAutoCommit(pooledConnection.defaultAutoCommit);
+                }
+
+                if (physicalConnection.getTransactionIsolation() != pooledConnection.defaultTransactionIsolation)
+                {
+                    physicalConnection.setTransactionIsolation(pooledConnection.defaultTransactionIsolation);
+                }
+
+                if (physicalConnection.isReadOnly() != pooledConnection.defaultReadOnly)
+                {
+                    physicalConnection.setReadOnly(pooledConnection.defaultReadOnly);
+                }
+            }
+        }
+        catch (SQLException error)
+        {
+            reusable = false;
+        }
+
+        synchronized (this)
+        {
+            if (reusable && (! isShutdown) && (allConnections.contains(pooledConnection)))
+            {
+                idleConnections.push(pooledConnection);
+                this.notifyAll();
+                return;
+            }
+        }
+
+        this.discard(pooledConnection);
+    }
+
+
+    /**
+     * PooledConnection holds a physical connection and its statement cache.  The cache only holds statements that
+     * are not in use.  A statement is removed from the cache while a caller is using it and put back when the caller
+     * closes it.  This means overlapping uses of the same SQL each have their own physical statement and eviction
+     * never closes a statement that a caller is using.
+     */
+    private class PooledConnection
+    {
+        private Connection                             physicalConnection          = null;
+        private boolean                                defaultAutoCommit           = true;
+        private int                                    defaultTransactionIsolation = Connection.TRANSACTION_NONE;
+        private boolean                                defaultReadOnly             = false;
+        private boolean                                isClosed                    = false;
+        private final Map<String, PreparedStatement>  idleStatements              = new LinkedHashMap<>(16, 0.75f, true);
+        private final List<CachedStatementHandler>    lentStatements              = new ArrayList<>();
+
+
+        /**
+         * Save the physical connection and the settings that are restored each time the connection is returned to the pool.
+         *
+         * @param physicalConnection new physical connection
+         * @throws SQLException unable to retrieve the connection's settings
+         */
+        void setPhysicalConnection(Connection physicalConnection) throws SQLException
+        {
+            this.physicalConnection          = physicalConnection;
+            this.defaultAutoCommit           = physicalConnection.getAutoCommit();
+            this.defaultTransactionIsolation = physicalConnection.getTransactionIsolation();
+            this.defaultReadOnly             = physicalConnection.isReadOnly();
+        }
+
+
+        /**
+         * Return a new proxy for this connection.  The proxy is only able to return the connection to the pool once.
+         *
+         * @return connection proxy
+         */
+        Connection lend()
+        {
+            return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                      new Class<?>[]{Connection.class},
+                                                      new LentConnectionHandler(this));
+        }
+
+
+        /**
+         * Take an idle prepared statement for the SQL from the cache, or prepare a new one if there is none.
+         * The caller receives a proxy that is only able to return the statement to the cache once.
+         *
+         * @param sql SQL command
+         * @param lentConnection connection proxy that the caller used to prepare the statement
+         * @return prepared statement proxy
+         * @throws SQLException unable to prepare the statement
+         */
+        synchronized PreparedStatement prepareCachedStatement(String     sql,
+                                                              Connection lentConnection) throws SQLException
+        {
+            PreparedStatement preparedStatement = idleStatements.remove(sql);
+
+            if ((preparedStatement == null) || (preparedStatement.isClosed()))
+            {
+                preparedStatement = physicalConnection.prepareStatement(sql);
+            }
+
+            CachedStatementHandler statementHandler = new CachedStatementHandler(this, sql, preparedStatement, lentConnection);
+
+            lentStatements.add(statementHandler);
+
+            return (PreparedStatement)Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                                                             new Class<?>[]{PreparedStatement.class},
+                                                             statementHandler);
+        }
+
+
+        /**
+         * Called when the caller closes a statement proxy.  The statement is cleared and added to the idle statements
+         * unless there is already an idle statement for the same SQL.  If the cache is then too big, the least recently
+         * used idle statement is closed.
+         *
+         * @param statementHandler handler for the statement proxy
+         */
+        synchronized void returnStatement(CachedStatementHandler statementHandler)
+        {
+            lentStatements.remove(statementHandler);
+
+            PreparedStatement preparedStatement = statementHandler.preparedStatement;
+
+            try
+            {
+                if (preparedStatement.isClosed())
+                {
+                    return;
+                }
+
+                if (isClosed || idleStatements.containsKey(statementHandler.sql))
+                {
+                    preparedStatement.close();
+                    return;
+                }
+
+                preparedStatement.clearParameters();
+                preparedStatement.clearBatch();
+            }
+            catch (SQLException error)
+            {
+                closeStatement(preparedStatement);
+                return;
+            }
+
+            idleStatements.put(statementHandler.sql, preparedStatement);
+
+            Iterator<PreparedStatement> oldestStatements = idleStatements.values().iterator();
+
+            while (idleStatements.size() > statementCacheSize)
+            {
+                PreparedStatement evictedStatement = oldestStatements.next();
+
+                oldestStatements.remove();
+                closeStatement(evictedStatement);
+            }
+        }
+
+
+        /**
+         * Return any statements that the caller did not close before closing its connection proxy.
+         */
+        void returnLentStatements()
+        {
+            List<CachedStatementHandler> openStatements;
+
+            synchronized (this)
+            {
+                openStatements = new ArrayList<>(lentStatements);
+            }
+
+            for (CachedStatementHandler statementHandler : openStatements)
+            {
+                statementHandler.close();
+            }
+        }
+
+
+        /**
+         * Close the cached statements, the statements still in use and the physical connection.
+         */
+        synchronized void closePhysicalConnection()
+        {
+            isClosed = true;
+
+            for (PreparedStatement preparedStatement : idleStatements.values())
+            {
+                closeStatement(preparedStatement);
+            }
+
+            idleStatements.clear();
+
+            for (CachedStatementHandler statementHandler : lentStatements)
+            {
+                statementHandler.isClosed.set(true);
+                closeStatement(statementHandler.preparedStatement);
+            }
+
+            lentStatements.clear();
+
+            try
+            {
+                if ((physicalConnection != null) && (! physicalConnection.isClosed()))
+                {
+                    physicalConnection.close();
+                }
+            }
+            catch (Exception error)
+            {
+                // Ignore error - the connection may be in error already.
+            }
+        }
+
+
+        /**
+         * Close a physical statement.
+         *
+         * @param preparedStatement statement to close
+         */
+        private void closeStatement(PreparedStatement preparedStatement)
+        {
+            try
+            {
+                preparedStatement.close();
+            }
+            catch (Exception error)
+            {
+                // Ignore error - the statement is no longer needed.
+            }
+        }
+    }
+
+
+    /**
+     * CachedStatementHandler implements the statement proxy given to the caller for one use of a cached statement.
+     */
+    private static class CachedStatementHandler implements InvocationHandler
+    {
+        private final PooledConnection  pooledConnection;
+        private final String            sql;
+        private final PreparedStatement preparedStatement;
+        private final Connection        lentConnection;
+        private final AtomicBoolean     isClosed = new AtomicBoolean(false);
+
+
+        /**
+         * Constructor.
+         *
+         * @param pooledConnection connection that owns the statement
+         * @param sql SQL command
+         * @param preparedStatement physical statement
+         * @param lentConnection connection proxy that the caller used to prepare the statement
+         */
+        CachedStatementHandler(PooledConnection  pooledConnection,
+                               String            sql,
+                               PreparedStatement preparedStatement,
+                               Connection        lentConnection)
+        {
+            this.pooledConnection  = pooledConnection;
+            this.sql               = sql;
+            this.preparedStatement = preparedStatement;
+            this.lentConnection    = lentConnection;
+        }
+
+
+        /**
+         * Return the statement to the cache the first time this is called.
+         */
+        void close()
+        {
+            if (isClosed.compareAndSet(false, true))
+            {
+                pooledConnection.returnStatement(this);
+            }
+        }
+
+
+        /**
+         * Pass the call to the physical statement unless it is one of the methods that the cache manages.
+         *
+         * @param proxy statement proxy
+         * @param method method called
+         * @param args arguments
+         * @return result of the method
+         * @throws Throwable exception from the method
+         */
+        @Override
+        public Object invoke(Object   proxy,
+                             Method   method,
+                             Object[] args) throws Throwable
+        {
+            switch (method.getName())
+            {
+                case "close" ->
+                {
+                    this.close();
+                    return null;
+                }
+                case "isClosed" ->
+                {
+                    return isClosed.get() || preparedStatement.isClosed();
+                }
+                case "equals" ->
+                {
+                    return proxy == args[0];
+                }
+                case "hashCode" ->
+                {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" ->
+                {
+                    return "Cached statement for " + sql;
+                }
+            }
+
+            if (isClosed.get())
+            {
+                throw new SQLException("Statement " + sql + " is closed");
+            }
+
+            if ("getConnection".equals(method.getName()))
+            {
+                return lentConnection;
+            }
+
+            return JDBCConnectionPool.invoke(preparedStatement, method, args);
+        }
+    }
+
+
+    /**
+     * LentConnectionHandler implements the connection proxy given to the caller.
+     */
+    private class LentConnectionHandler implements InvocationHandler
+    {
+        private final PooledConnection pooledConnection;
+        private       boolean          isClosed = false;
+
+
+        /**
+         * Constructor.
+         *
+         * @param pooledConnection connection that is lent out
+         */
+        LentConnectionHandler(PooledConnection pooledConnection)
+        {
+            this.pooledConnection = pooledConnection;
+        }
+
+
+        /**
+         * Pass the call to the physical connection unless it is one of the methods that the pool manages.
+         *
+         * @param proxy connection proxy
+         * @param method method called
+         * @param args arguments
+         * @return result of the method
+         * @throws Throwable exception from the method
+         */
+        @Override
+        public Object invoke(Object   proxy,
+                             Method   method,
+                             Object[] args) throws Throwable
+        {
+            String methodName = method.getName();
+
+            switch (methodName)
+            {
+                case "close" ->
+                {
+                    synchronized (this)
+                    {
+                        if (! isClosed)
+                        {
+                            isClosed = true;
+                            release(pooledConnection);
+                        }
+                    }
+
+                    return null;
+                }
+                case "isClosed" ->
+                {
+                    synchronized (this)
+                    {
+                        return isClosed || pooledConnection.physicalConnection.isClosed();
+                    }
+                }
+                case "equals" ->
+                {
+                    return proxy == args[0];
+                }
+                case "hashCode" ->
+                {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" ->
+                {
+                    return "Pooled connection to " + databaseName;
+                }
+            }
+
+            synchronized (this)
+            {
+                if (isClosed)
+                {
+                    throw new SQLException("Connection to database " + databaseName + " is closed");
+                }
+            }
+
+            if ("prepareStatement".equals(methodName) && (method.getParameterCount() == 1) && (statementCacheSize > 0))
+            {
+                return pooledConnection.prepareCachedStatement((String)args[0], (Connection)proxy);
+            }
+
+            return JDBCConnectionPool.invoke(pooledConnection.physicalConnection, method, args);
+        }
+    }
+
+
+    /**
+     * Call the method on the target object, unwrapping any exception.
+     *
+     * @param target object to call
+     * @param method method to call
+     * @param args arguments
+     * @return result of the method
+     * @throws Throwable exception from the method
+     */
+    private static Object invoke(Object   target,
+                                 Method   method,
+                                 Object[] args) throws Throwable
+    {
+        try
+        {
+            return method.invoke(target, args);
+        }
+        catch (InvocationTargetException error)
+        {
+            throw error.getCause();
+        }
+    }
+}
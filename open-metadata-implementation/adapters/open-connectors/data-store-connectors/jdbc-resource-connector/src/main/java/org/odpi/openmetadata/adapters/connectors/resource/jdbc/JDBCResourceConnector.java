@@ -23,6 +23,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -35,14 +36,20 @@ import java.util.Map;
  * {@link ConnectorBase#getConnection()}.
  * <br><br>
  * The DataSource can be used directly.  There are also selected methods to issue common SQL statements to the database.
+ * <br><br>
+ * If the jdbcConnectionPoolMaxSize configuration property is set, the connections returned by the DataSource come from a pool
+ * that is shared by all the data sources of the connector.  Closing one of these connections returns it to the pool.
  */
 public class JDBCResourceConnector extends ConnectorBase implements AuditLoggingComponent,
                                                                     VirtualConnectorExtension
 {
-    private AuditLog                        auditLog           = null;
-    private String                          jdbcDatabaseName   = null;
-    private String                          jdbcDatabaseURL    = null;
-    private List<Connector>                 embeddedConnectors = null;
+    private AuditLog                        auditLog             = null;
+    private String                          jdbcDatabaseName     = null;
+    private String                          jdbcDatabaseURL      = null;
+    private List<Connector>                 embeddedConnectors   = null;
+    private JDBCConnectionPool              connectionPool       = null;
+    private int                             insertBatchSize      = 100;
+    private int                             insertCommitInterval = 0;
 
     private final List<JDBCConnectorAsDataSource> knownDataSources   = new ArrayList<>();
 
@@ -156,6 +163,9 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
                 }
             }
 
+            insertBatchSize = this.getIntegerOption(configurationProperties, JDBCResourceConnectorProvider.JDBC_INSERT_BATCH_SIZE, insertBatchSize);
+            insertCommitInterval = this.getIntegerOption(configurationProperties, JDBCResourceConnectorProvider.JDBC_INSERT_COMMIT_INTERVAL, insertCommitInterval);
+
             Object driverManagerClassName = configurationProperties.get(JDBCResourceConnectorProvider.JDBC_DRIVER_MANAGER_CLASS_NAME);
 
             if (driverManagerClassName != null)
@@ -174,7 +184,91 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
                                                         methodName);
                 }
             }
+
+            int connectionPoolMaxSize = this.getIntegerOption(configurationProperties, JDBCResourceConnectorProvider.JDBC_CONNECTION_POOL_MAX_SIZE, 0);
+
+            if (connectionPoolMaxSize > 0)
+            {
+                int statementCacheSize = this.getIntegerOption(configurationProperties, JDBCResourceConnectorProvider.JDBC_STATEMENT_CACHE_SIZE, 0);
+
+                connectionPool = new JDBCConnectionPool(this::getPhysicalConnection,
+                                                        jdbcDatabaseName,
+                                                        connectionPoolMaxSize,
+                                                        this.getIntegerOption(configurationProperties, JDBCResourceConnectorProvider.JDBC_CONNECTION_VALIDATION_TIMEOUT, 5),
+                                                        this.getIntegerOption(configurationProperties, JDBCResourceConnectorProvider.JDBC_CONNECTION_POOL_WAIT_TIME, 30000),
+                                                        statementCacheSize);
+
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        JDBCAuditCode.CONNECTION_POOL_STARTED.getMessageDefinition(jdbcDatabaseName,
+                                                                                                   Integer.toString(connectionPoolMaxSize),
+                                                                                                   Integer.toString(statementCacheSize)));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the integer value of a configuration property.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or is not an integer
+     * @return value
+     */
+    private int getIntegerOption(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 int                 defaultValue)
+    {
+        Object option = configurationProperties.get(propertyName);
+
+        if (option != null)
+        {
+            try
+            {
+                return Integer.parseInt(option.toString().trim());
+            }
+            catch (NumberFormatException error)
+            {
+                // Use the default value.
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Create a new connection to the database using the endpoint and security properties from the connection.
+     *
+     * @return new database connection
+     * @throws SQLException unable to connect to the database
+     */
+    private Connection getPhysicalConnection() throws SQLException
+    {
+        final String methodName = "getPhysicalConnection";
+
+        Connection jdbcConnection;
+
+        if ((connectionProperties.getUserId() == null) || (connectionProperties.getClearPassword() == null))
+        {
+            jdbcConnection = DriverManager.getConnection(connectionProperties.getEndpoint().getAddress());
+        }
+        else
+        {
+            jdbcConnection = DriverManager.getConnection(connectionProperties.getEndpoint().getAddress(),
+                                                         connectionBean.getUserId(),
+                                                         connectionBean.getClearPassword());
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName, JDBCAuditCode.CONNECTOR_CONNECTED_TO_DATABASE.getMessageDefinition(jdbcDatabaseName));
         }
+
+        return jdbcConnection;
     }
 
 
@@ -279,6 +373,178 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
 
         PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand);
 
+        this.setInsertParameters(preparedStatement, columnNameValueMap);
+
+        int rowsInserted = preparedStatement.executeUpdate();
+
+        if ((rowsInserted > 1) && (auditLog != null))
+        {
+            auditLog.logMessage(methodName,
+                                JDBCAuditCode.UNEXPECTED_ROW_COUNT_FROM_DATABASE.getMessageDefinition(jdbcDatabaseName,
+                                                                                                      Integer.toString(rowsInserted),
+                                                                                                      sqlCommand));
+        }
+
+        preparedStatement.close();
+    }
+
+
+    /**
+     * Insert a list of rows into a table.  The rows are sent to the database in batches (see the jdbcInsertBatchSize configuration
+     * property).  Consecutive rows with the same columns share a prepared statement.  If the jdbcInsertCommitInterval configuration
+     * property is set and the connection is in auto-commit mode, the rows are inserted in transactions that are committed after each
+     * interval; otherwise the transaction mode of the connection is left to the caller.
+     *
+     * @param jdbcConnection connection to send the request
+     * @param tableName name of the table where the rows are to be added
+     * @param rows list of rows; each row is a map of column names, values and types
+     * @return number of rows inserted
+     * @throws SQLException problem executing the command
+     */
+    public int insertRowsIntoTable(Connection                       jdbcConnection,
+                                   String                           tableName,
+                                   List<Map<String, JDBCDataValue>> rows) throws SQLException
+    {
+        if ((rows == null) || (rows.isEmpty()))
+        {
+            return 0;
+        }
+
+        boolean manageTransactions = (insertCommitInterval > 0) && (jdbcConnection.getAutoCommit());
+
+        if (manageTransactions)
+        {
+            jdbcConnection.setAutoCommit(false);
+        }
+
+        try
+        {
+            String            currentSQLCommand = null;
+            PreparedStatement preparedStatement = null;
+            int               rowsInBatch       = 0;
+            int               rowsSinceCommit   = 0;
+            int               rowsInserted      = 0;
+
+            for (Map<String, JDBCDataValue> columnNameValueMap : rows)
+            {
+                String sqlCommand = "INSERT INTO " + tableName + this.getInsertColumnList(columnNameValueMap) + " ON CONFLICT DO NOTHING";
+
+                if (! sqlCommand.equals(currentSQLCommand))
+                {
+                    if (preparedStatement != null)
+                    {
+                        rowsInserted = rowsInserted + this.executeInsertBatch(preparedStatement, rowsInBatch, currentSQLCommand);
+                        rowsInBatch = 0;
+                        preparedStatement.close();
+                    }
+
+                    currentSQLCommand = sqlCommand;
+                    preparedStatement = jdbcConnection.prepareStatement(sqlCommand);
+                }
+
+                this.setInsertParameters(preparedStatement, columnNameValueMap);
+                preparedStatement.addBatch();
+                rowsInBatch++;
+                rowsSinceCommit++;
+
+                if ((rowsInBatch >= insertBatchSize) || (manageTransactions && (rowsSinceCommit >= insertCommitInterval)))
+                {
+                    rowsInserted = rowsInserted + this.executeInsertBatch(preparedStatement, rowsInBatch, currentSQLCommand);
+                    rowsInBatch = 0;
+                }
+
+                if (manageTransactions && (rowsSinceCommit >= insertCommitInterval))
+                {
+                    jdbcConnection.commit();
+                    rowsSinceCommit = 0;
+                }
+            }
+
+            rowsInserted = rowsInserted + this.executeInsertBatch(preparedStatement, rowsInBatch, currentSQLCommand);
+            preparedStatement.close();
+
+            if (manageTransactions)
+            {
+                jdbcConnection.commit();
+            }
+
+            return rowsInserted;
+        }
+        catch (SQLException error)
+        {
+            if (manageTransactions)
+            {
+                jdbcConnection.rollback();
+            }
+
+            throw error;
+        }
+        finally
+        {
+            if (manageTransactions)
+            {
+                jdbcConnection.setAutoCommit(true);
+            }
+        }
+    }
+
+
+    /**
+     * Send the batched rows to the database.
+     *
+     * @param preparedStatement statement with the batched rows
+     * @param rowsInBatch number of rows in the batch
+     * @param sqlCommand SQL command for messages
+     * @return number of rows inserted
+     * @throws SQLException problem executing the command
+     */
+    private int executeInsertBatch(PreparedStatement preparedStatement,
+                                   int               rowsInBatch,
+                                   String            sqlCommand) throws SQLException
+    {
+        final String methodName = "insertRowsIntoTable";
+
+        if (rowsInBatch == 0)
+        {
+            return 0;
+        }
+
+        int rowsInserted = 0;
+
+        for (int rowCount : preparedStatement.executeBatch())
+        {
+            if (rowCount > 0)
+            {
+                rowsInserted = rowsInserted + rowCount;
+            }
+            else if (rowCount == Statement.SUCCESS_NO_INFO)
+            {
+                rowsInserted++;
+            }
+        }
+
+        if ((rowsInserted > rowsInBatch) && (auditLog != null))
+        {
+            auditLog.logMessage(methodName,
+                                JDBCAuditCode.UNEXPECTED_ROW_COUNT_FROM_DATABASE.getMessageDefinition(jdbcDatabaseName,
+                                                                                                      Integer.toString(rowsInserted),
+                                                                                                      sqlCommand));
+        }
+
+        return rowsInserted;
+    }
+
+
+    /**
+     * Set the values of the columns into the parameters of an INSERT statement.
+     *
+     * @param preparedStatement INSERT statement
+     * @param columnNameValueMap column names, values and types
+     * @throws SQLException problem setting a parameter
+     */
+    private void setInsertParameters(PreparedStatement          preparedStatement,
+                                     Map<String, JDBCDataValue> columnNameValueMap) throws SQLException
+    {
         int parameterIndex = 1;
         for (String columnName : columnNameValueMap.keySet())
         {
@@ -300,18 +566,6 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
 
             parameterIndex++;
         }
-
-        int rowsInserted = preparedStatement.executeUpdate();
-
-        if ((rowsInserted > 1) && (auditLog != null))
-        {
-            auditLog.logMessage(methodName,
-                                JDBCAuditCode.UNEXPECTED_ROW_COUNT_FROM_DATABASE.getMessageDefinition(jdbcDatabaseName,
-                                                                                                      Integer.toString(rowsInserted),
-                                                                                                      sqlCommand));
-        }
-
-        preparedStatement.close();
     }
 
 
@@ -410,6 +664,22 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
             }
         }
 
+        if (connectionPool != null)
+        {
+            final String methodName = "disconnect";
+
+            int numberOfConnections = connectionPool.shutdown();
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    JDBCAuditCode.CONNECTION_POOL_STOPPING.getMessageDefinition(jdbcDatabaseName,
+                                                                                                Integer.toString(numberOfConnections)));
+            }
+
+            connectionPool = null;
+        }
+
         super.disconnect();
     }
 
@@ -452,29 +722,21 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
 
             try
             {
-                Connection jdbcConnection;
-
-                if ((connectionProperties.getUserId() == null) || (connectionProperties.getClearPassword() == null))
-                {
-                    jdbcConnection = DriverManager.getConnection(connectionProperties.getEndpoint().getAddress());
-                }
-                else
+                /*
+                 * Pooled connections are closed by the pool when the connector disconnects.
+                 */
+                if (connectionPool != null)
                 {
-                    jdbcConnection = DriverManager.getConnection(connectionProperties.getEndpoint().getAddress(),
-                                                                 connectionBean.getUserId(),
-                                                                 connectionBean.getClearPassword());
+                    return connectionPool.getConnection();
                 }
 
+                Connection jdbcConnection = getPhysicalConnection();
+
                 if (jdbcConnection != null)
                 {
                     this.knownConnections.add(jdbcConnection);
                 }
 
-                if (auditLog != null)
-                {
-                    auditLog.logMessage(methodName, JDBCAuditCode.CONNECTOR_CONNECTED_TO_DATABASE.getMessageDefinition(databaseName));
-                }
-
                 return jdbcConnection;
             }
             catch (SQLException error)
@@ -54,6 +54,41 @@ public class JDBCResourceConnectorProvider extends ConnectorProviderBase
      */
     public static final String JDBC_DATABASE_NAME = "jdbcDatabaseName";
 
+    /**
+     * Sets the maximum number of database connections that are pooled by the data source.  Connections are reused once they are
+     * closed by the caller.  The default value is 0 which means that each request for a connection creates a new connection to the database.
+     */
+    public static final String JDBC_CONNECTION_POOL_MAX_SIZE = "jdbcConnectionPoolMaxSize";
+
+    /**
+     * Sets the time in seconds that the connection pool will wait while checking that an idle connection is still valid.
+     * The default value is 5.  A value of 0 turns off validation.
+     */
+    public static final String JDBC_CONNECTION_VALIDATION_TIMEOUT = "jdbcConnectionValidationTimeout";
+
+    /**
+     * Sets the maximum time in milliseconds that a request for a connection waits when all pooled connections are in use.
+     * The default value is 30000.
+     */
+    public static final String JDBC_CONNECTION_POOL_WAIT_TIME = "jdbcConnectionPoolWaitTime";
+
+    /**
+     * Sets the maximum number of prepared statements cached for each pooled connection.  The default value is 0 which means
+     * that prepared statements are not cached.  This property is only used if the connection pool is enabled.
+     */
+    public static final String JDBC_STATEMENT_CACHE_SIZE = "jdbcStatementCacheSize";
+
+    /**
+     * Sets the number of rows that are sent to the database in each batch by insertRowsIntoTable.  The default value is 100.
+     */
+    public static final String JDBC_INSERT_BATCH_SIZE = "jdbcInsertBatchSize";
+
+    /**
+     * Sets the number of rows inserted by insertRowsIntoTable between each commit.  The default value is 0 which means that the
+     * transaction mode of the caller's connection is left unchanged.
+     */
+    public static final String JDBC_INSERT_COMMIT_INTERVAL = "jdbcInsertCommitInterval";
+
 
     /*
      * Class of the connector.
@@ -87,6 +122,12 @@ public class JDBCResourceConnectorProvider extends ConnectorProviderBase
         recognizedConfigurationProperties.add(JDBC_DRIVER_MANAGER_CLASS_NAME);
         recognizedConfigurationProperties.add(JDBC_CONNECTION_TIMEOUT);
         recognizedConfigurationProperties.add(JDBC_DATABASE_NAME);
+        recognizedConfigurationProperties.add(JDBC_CONNECTION_POOL_MAX_SIZE);
+        recognizedConfigurationProperties.add(JDBC_CONNECTION_VALIDATION_TIMEOUT);
+        recognizedConfigurationProperties.add(JDBC_CONNECTION_POOL_WAIT_TIME);
+        recognizedConfigurationProperties.add(JDBC_STATEMENT_CACHE_SIZE);
+        recognizedConfigurationProperties.add(JDBC_INSERT_BATCH_SIZE);
+        recognizedConfigurationProperties.add(JDBC_INSERT_COMMIT_INTERVAL);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         /*
@@ -40,13 +40,22 @@ public enum JDBCAuditCode implements AuditLogMessageSet
                                     "No specific action is required.  This message is to confirm that the configuration of the connector is sufficient to connect to the database."),
 
     /**
-     * JDBC-RESOURCE-CONNECTOR-0002 - The JDBC resource connector has connected to database {0}
+     * JDBC-RESOURCE-CONNECTOR-0003 - The JDBC resource connector for database {0} has received {1} results from query {2}
      */
     UNEXPECTED_ROW_COUNT_FROM_DATABASE("JDBC-RESOURCE-CONNECTOR-0003",
                                     OMRSAuditLogRecordSeverity.INFO,
                                     "The JDBC resource connector for database {0} has received {1} results from query {2}",
-                                    "The connector is designed provide a standard interface to a relational database that supports Java Database Connectivity (JDBC).  This message confirms that the connector has successfully connected to the database.  The number of times that this message is emitted by a connector indicates how many database connections it is using.",
-                                    "No specific action is required.  This message is to confirm that the configuration of the connector is sufficient to connect to the database."),
+                                    "The connector has received a row count from the database that is larger than the number of rows that it sent in the request.  The processing continues.",
+                                    "Check the definition of the table in the database to understand why additional rows are being affected by the request."),
+
+    /**
+     * JDBC-RESOURCE-CONNECTOR-0004 - The JDBC resource connector for database {0} will pool up to {1} connection(s) and cache up to {2} prepared statement(s) for each connection
+     */
+    CONNECTION_POOL_STARTED("JDBC-RESOURCE-CONNECTOR-0004",
+                            OMRSAuditLogRecordSeverity.INFO,
+                            "The JDBC resource connector for database {0} will pool up to {1} connection(s) and cache up to {2} prepared statement(s) for each connection",
+                            "The connector reuses database connections once they are closed by the caller rather than creating a new connection for each request.  New connections are only created when all of the pooled connections are in use.",
+                            "No specific action is required.  The size of the pool is set with the jdbcConnectionPoolMaxSize configuration property and the size of the statement cache is set with the jdbcStatementCacheSize configuration property."),
 
     /**
      * JDBC-RESOURCE-CONNECTOR-0009 - JDBC resource connector is closing all {0} connection(s) to database {1} and is shutting down
@@ -57,6 +66,15 @@ public enum JDBCAuditCode implements AuditLogMessageSet
                        "The connector has been requested to disconnect from the database and is ensuring all connections are closed.  This message is output by each data source that was created by the connector.  Therefore the number of times that this message is emitted indicates the number of data sources were created by the connector.",
                        "No action is required unless there are errors that follow indicating that there were problems shutting down."),
 
+    /**
+     * JDBC-RESOURCE-CONNECTOR-0010 - The JDBC resource connector for database {0} is closing all {1} pooled connection(s) and is shutting down
+     */
+    CONNECTION_POOL_STOPPING("JDBC-RESOURCE-CONNECTOR-0010",
+                             OMRSAuditLogRecordSeverity.INFO,
+                             "The JDBC resource connector for database {0} is closing all {1} pooled connection(s) and is shutting down",
+                             "The connector has been requested to disconnect from the database and is closing the connections in its connection pool, along with any prepared statements that were cached for these connections.",
+                             "No action is required.  If the number of pooled connections is consistently lower than the jdbcConnectionPoolMaxSize configuration property, the pool size can be reduced."),
+
 
 
     ;
@@ -0,0 +1,719 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.resource.jdbc;
+
+import org.odpi.openmetadata.adapters.connectors.resource.jdbc.properties.JDBCDataValue;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Test the connection pool, statement cache and batch inserts of the JDBC resource connector.  The database is simulated by
+ * a stand-in JDBC driver that records the calls made to it and adds a delay to each new connection to mimic the handshake
+ * with a real database server.
+ */
+public class JDBCResourceConnectorTest
+{
+    private static final String databaseURL      = "jdbc:egeria-stand-in:test";
+    private static final long   handshakeLatency = 5;
+    private static final int    benchmarkRows    = 200;
+
+    private final StandInDriver standInDriver = new StandInDriver();
+
+
+    /**
+     * Register the stand-in driver.
+     *
+     * @throws SQLException registration failed
+     */
+    @BeforeClass
+    public void registerDriver() throws SQLException
+    {
+        DriverManager.registerDriver(standInDriver);
+    }
+
+
+    /**
+     * Remove the stand-in driver.
+     *
+     * @throws SQLException deregistration failed
+     */
+    @AfterClass
+    public void deregisterDriver() throws SQLException
+    {
+        DriverManager.deregisterDriver(standInDriver);
+    }
+
+
+    /**
+     * Closed connections are reused by the pool rather than reconnecting to the database.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testPooledConnectionsAreReused() throws Exception
+    {
+        JDBCResourceConnector connector  = getConnector(2, 0, 100, 0);
+        DataSource            dataSource = connector.getDataSource();
+        int                   startCount = standInDriver.connectionsOpened.get();
+
+        Connection connection1 = dataSource.getConnection();
+        connection1.close();
+        assertTrue(connection1.isClosed());
+
+        Connection connection2 = dataSource.getConnection();
+        Connection connection3 = dataSource.getConnection();
+
+        assertNotSame(connection1, connection2);
+        assertEquals(standInDriver.connectionsOpened.get() - startCount, 2);
+
+        connection2.close();
+        connection3.close();
+
+        for (int i = 0; i < 10; i++)
+        {
+            dataSource.getConnection().close();
+        }
+
+        assertEquals(standInDriver.connectionsOpened.get() - startCount, 2);
+
+        connector.disconnect();
+
+        assertEquals(standInDriver.connectionsOpen.get(), 0);
+    }
+
+
+    /**
+     * A caller waits for a connection when the pool is fully used and gives up after the wait time.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testPoolWaitTime() throws Exception
+    {
+        JDBCResourceConnector connector  = getConnector(1, 0, 100, 0);
+        DataSource            dataSource = connector.getDataSource();
+
+        Connection connection = dataSource.getConnection();
+
+        try
+        {
+            dataSource.getConnection();
+            fail("Pool should have been exhausted");
+        }
+        catch (SQLTransientConnectionException expected)
+        {
+            // expected
+        }
+
+        Thread releaser = new Thread(() ->
+                                     {
+                                         try
+                                         {
+                                             Thread.sleep(20);
+                                             connection.close();
+                                         }
+                                         catch (Exception error)
+                                         {
+                                             // ignore
+                                         }
+                                     });
+        releaser.start();
+
+        dataSource.getConnection().close();
+        releaser.join();
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * Connections that are no longer valid are replaced when they are taken from the pool.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testInvalidConnectionIsReplaced() throws Exception
+    {
+        JDBCResourceConnector connector  = getConnector(1, 0, 100, 0);
+        DataSource            dataSource = connector.getDataSource();
+        int                   startCount = standInDriver.connectionsOpened.get();
+
+        Connection connection = dataSource.getConnection();
+        connection.unwrap(StandInConnection.class).valid = false;
+        connection.close();
+
+        dataSource.getConnection().close();
+
+        assertEquals(standInDriver.connectionsOpened.get() - startCount, 2);
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * Prepared statements are reused on a pooled connection.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testStatementCache() throws Exception
+    {
+        JDBCResourceConnector connector  = getConnector(1, 5, 100, 0);
+        DataSource            dataSource = connector.getDataSource();
+        int                   startCount = standInDriver.statementsPrepared.get();
+
+        for (int i = 0; i < 20; i++)
+        {
+            try (Connection connection = dataSource.getConnection())
+            {
+                connector.insertRowIntoTable(connection, "test_table", getRow(i));
+            }
+        }
+
+        assertEquals(standInDriver.statementsPrepared.get() - startCount, 1);
+
+        connector.disconnect();
+
+        assertEquals(standInDriver.statementsOpen.get(), 0);
+    }
+
+
+    /**
+     * Rows are sent in batches and committed at the commit interval.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testBatchInsert() throws Exception
+    {
+        JDBCResourceConnector connector  = getConnector(1, 5, 100, 100);
+        int                   batchCount = standInDriver.batchesExecuted.get();
+        int                   commits    = standInDriver.commits.get();
+        List<Map<String, JDBCDataValue>> rows = new ArrayList<>();
+
+        for (int i = 0; i < 250; i++)
+        {
+            rows.add(getRow(i));
+        }
+
+        try (Connection connection = connector.getDataSource().getConnection())
+        {
+            assertEquals(connector.insertRowsIntoTable(connection, "test_table", rows), 250);
+            assertTrue(connection.getAutoCommit());
+        }
+
+        assertEquals(standInDriver.batchesExecuted.get() - batchCount, 3);
+        assertEquals(standInDriver.commits.get() - commits, 3);
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * Overlapping uses of the same SQL on one connection each have their own physical statement.  Only one of them
+     * is kept in the cache when they are closed.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testOverlappingStatementUses() throws Exception
+    {
+        JDBCResourceConnector connector     = getConnector(1, 5, 100, 0);
+        int                   preparedCount = standInDriver.statementsPrepared.get();
+        int                   openCount     = standInDriver.statementsOpen.get();
+
+        try (Connection connection = connector.getDataSource().getConnection())
+        {
+            PreparedStatement statement1 = connection.prepareStatement("INSERT 1");
+            PreparedStatement statement2 = connection.prepareStatement("INSERT 1");
+
+            assertNotSame(statement1.unwrap(PreparedStatement.class), statement2.unwrap(PreparedStatement.class));
+            assertEquals(standInDriver.statementsPrepared.get() - preparedCount, 2);
+
+            statement1.close();
+            assertTrue(statement1.isClosed());
+            assertFalse(statement2.isClosed());
+            assertEquals(statement2.executeUpdate(), 1);
+
+            statement2.close();
+            assertEquals(standInDriver.statementsOpen.get() - openCount, 1);
+
+            try
+            {
+                statement1.executeUpdate();
+                fail("Statement should be closed");
+            }
+            catch (SQLException expected)
+            {
+                // expected
+            }
+
+            connection.prepareStatement("INSERT 1").close();
+            assertEquals(standInDriver.statementsPrepared.get() - preparedCount, 2);
+        }
+
+        connector.disconnect();
+
+        assertEquals(standInDriver.statementsOpen.get(), 0);
+    }
+
+
+    /**
+     * Only idle statements are evicted from the cache.  Statements that are in use stay open.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testEvictionSkipsStatementsInUse() throws Exception
+    {
+        JDBCResourceConnector connector = getConnector(1, 1, 100, 0);
+        int                   openCount = standInDriver.statementsOpen.get();
+
+        try (Connection connection = connector.getDataSource().getConnection())
+        {
+            PreparedStatement inUseStatement = connection.prepareStatement("INSERT A");
+
+            connection.prepareStatement("INSERT B").close();
+            connection.prepareStatement("INSERT C").close();
+
+            assertFalse(inUseStatement.isClosed());
+            assertEquals(inUseStatement.executeUpdate(), 1);
+            assertEquals(standInDriver.statementsOpen.get() - openCount, 2);
+
+            inUseStatement.close();
+            assertEquals(standInDriver.statementsOpen.get() - openCount, 1);
+        }
+
+        connector.disconnect();
+
+        assertEquals(standInDriver.statementsOpen.get(), 0);
+    }
+
+
+    /**
+     * A cached statement returns the caller's connection proxy rather than the physical connection, and is returned
+     * to the cache when the caller closes the connection without closing the statement.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testCachedStatementConnection() throws Exception
+    {
+        JDBCResourceConnector connector     = getConnector(1, 5, 100, 0);
+        DataSource            dataSource    = connector.getDataSource();
+        int                   preparedCount = standInDriver.statementsPrepared.get();
+
+        Connection        connection = dataSource.getConnection();
+        PreparedStatement statement  = connection.prepareStatement("INSERT 1");
+
+        assertSame(statement.getConnection(), connection);
+
+        connection.close();
+
+        assertTrue(statement.isClosed());
+
+        try (Connection nextConnection = dataSource.getConnection())
+        {
+            nextConnection.prepareStatement("INSERT 1").close();
+        }
+        catch (SQLTransientConnectionException error)
+        {
+            fail("Connection was not returned to the pool");
+        }
+
+        connector.disconnect();
+
+        assertEquals(standInDriver.statementsPrepared.get() - preparedCount, 1);
+        assertEquals(standInDriver.statementsOpen.get(), 0);
+    }
+
+
+    /**
+     * The settings that a caller changes on a connection are reset when it is returned to the pool.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testConnectionSettingsAreReset() throws Exception
+    {
+        JDBCResourceConnector connector  = getConnector(1, 0, 100, 0);
+        DataSource            dataSource = connector.getDataSource();
+
+        try (Connection connection = dataSource.getConnection())
+        {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            connection.setReadOnly(true);
+        }
+
+        try (Connection connection = dataSource.getConnection())
+        {
+            assertTrue(connection.getAutoCommit());
+            assertEquals(connection.getTransactionIsolation(), Connection.TRANSACTION_READ_COMMITTED);
+            assertFalse(connection.isReadOnly());
+        }
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * Configuration properties that are not integers are replaced by their default values.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testBadIntegerOption() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(JDBCResourceConnectorProvider.JDBC_CONNECTION_POOL_MAX_SIZE, "2");
+        configurationProperties.put(JDBCResourceConnectorProvider.JDBC_STATEMENT_CACHE_SIZE, "many");
+        configurationProperties.put(JDBCResourceConnectorProvider.JDBC_INSERT_COMMIT_INTERVAL, "");
+
+        JDBCResourceConnector connector     = getConnector(configurationProperties);
+        int                   preparedCount = standInDriver.statementsPrepared.get();
+
+        for (int i = 0; i < 3; i++)
+        {
+            try (Connection connection = connector.getDataSource().getConnection())
+            {
+                connector.insertRowIntoTable(connection, "test_table", getRow(i));
+            }
+        }
+
+        assertEquals(standInDriver.statementsPrepared.get() - preparedCount, 3);
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * Compare inserting rows with a new connection for each row against the pool with batched inserts.  The pooled
+     * connector connects to the database once and sends the rows in batches.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test
+    public void testBenchmark() throws Exception
+    {
+        List<Map<String, JDBCDataValue>> rows = new ArrayList<>();
+
+        for (int i = 0; i < benchmarkRows; i++)
+        {
+            rows.add(getRow(i));
+        }
+
+        JDBCResourceConnector unpooledConnector  = getConnector(0, 0, 100, 0);
+        DataSource            unpooledDataSource = unpooledConnector.getDataSource();
+        int                   connectionCount    = standInDriver.connectionsOpened.get();
+
+        for (Map<String, JDBCDataValue> row : rows)
+        {
+            try (Connection connection = unpooledDataSource.getConnection())
+            {
+                unpooledConnector.insertRowIntoTable(connection, "test_table", row);
+            }
+        }
+
+        unpooledConnector.disconnect();
+
+        assertEquals(standInDriver.connectionsOpened.get() - connectionCount, benchmarkRows);
+
+        JDBCResourceConnector pooledConnector  = getConnector(4, 10, 100, 0);
+        DataSource            pooledDataSource = pooledConnector.getDataSource();
+        int                   batchCount       = standInDriver.batchesExecuted.get();
+
+        connectionCount = standInDriver.connectionsOpened.get();
+
+        for (int i = 0; i < rows.size(); i = i + 20)
+        {
+            try (Connection connection = pooledDataSource.getConnection())
+            {
+                assertEquals(pooledConnector.insertRowsIntoTable(connection, "test_table", rows.subList(i, Math.min(i + 20, rows.size()))), 20);
+            }
+        }
+
+        pooledConnector.disconnect();
+
+        assertEquals(standInDriver.connectionsOpened.get() - connectionCount, 1);
+        assertEquals(standInDriver.batchesExecuted.get() - batchCount, benchmarkRows / 20);
+    }
+
+
+    /**
+     * Create and start a connector for the stand-in database.
+     *
+     * @param poolSize maximum pool size
+     * @param statementCacheSize statements to cache for each connection
+     * @param waitTime time to wait for a pooled connection
+     * @param commitInterval rows between commits for batch inserts
+     * @return started connector
+     * @throws Exception problem starting the connector
+     */
+    private JDBCResourceConnector getConnector(int  poolSize,
+                                               int  statementCacheSize,
+                                               long waitTime,
+                                               int  commitInterval) throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(JDBCResourceConnectorProvider.JDBC_CONNECTION_POOL_MAX_SIZE, poolSize);
+        configurationProperties.put(JDBCResourceConnectorProvider.JDBC_STATEMENT_CACHE_SIZE, statementCacheSize);
+        configurationProperties.put(JDBCResourceConnectorProvider.JDBC_CONNECTION_POOL_WAIT_TIME, waitTime);
+        configurationProperties.put(JDBCResourceConnectorProvider.JDBC_INSERT_COMMIT_INTERVAL, commitInterval);
+
+        return getConnector(configurationProperties);
+    }
+
+
+    /**
+     * Create and start a connector for the stand-in database with the supplied configuration properties.
+     *
+     * @param configurationProperties configuration properties for the connection
+     * @return started connector
+     * @throws Exception problem starting the connector
+     */
+    private JDBCResourceConnector getConnector(Map<String, Object> configurationProperties) throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress(databaseURL);
+
+        org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection connection = new org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection();
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        JDBCResourceConnector connector = new JDBCResourceConnector();
+
+        connector.initialize("TestConnector", new ConnectionProperties(connection));
+        connector.start();
+
+        return connector;
+    }
+
+
+    /**
+     * Return a row to insert.
+     *
+     * @param rowNumber number of the row
+     * @return column names and values
+     */
+    private Map<String, JDBCDataValue> getRow(int rowNumber)
+    {
+        Map<String, JDBCDataValue> row = new HashMap<>();
+
+        row.put("identifier", new JDBCDataValue(Integer.toString(rowNumber), Types.VARCHAR));
+        row.put("sequence", new JDBCDataValue(rowNumber, Types.INTEGER));
+
+        return row;
+    }
+
+
+    /**
+     * StandInDriver simulates a database.
+     */
+    public static class StandInDriver implements Driver
+    {
+        final AtomicInteger connectionsOpened  = new AtomicInteger(0);
+        final AtomicInteger connectionsOpen    = new AtomicInteger(0);
+        final AtomicInteger statementsPrepared = new AtomicInteger(0);
+        final AtomicInteger statementsOpen     = new AtomicInteger(0);
+        final AtomicInteger batchesExecuted    = new AtomicInteger(0);
+        final AtomicInteger commits            = new AtomicInteger(0);
+
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException
+        {
+            if (! acceptsURL(url))
+            {
+                return null;
+            }
+
+            try
+            {
+                Thread.sleep(handshakeLatency);
+            }
+            catch (InterruptedException error)
+            {
+                throw new SQLException(error);
+            }
+
+            connectionsOpened.incrementAndGet();
+            connectionsOpen.incrementAndGet();
+
+            StandInConnection standInConnection = new StandInConnection(this);
+
+            return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                      new Class<?>[]{Connection.class},
+                                                      (proxy, method, args) -> standInConnection.invoke(method.getName(), args));
+        }
+
+        @Override
+        public boolean acceptsURL(String url)
+        {
+            return databaseURL.equals(url);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info)
+        {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion()
+        {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion()
+        {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant()
+        {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException
+        {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+
+
+    /**
+     * StandInConnection simulates a connection to the database.
+     */
+    static class StandInConnection
+    {
+        private final StandInDriver driver;
+        private       boolean       closed     = false;
+        private       boolean       autoCommit = true;
+        private       int           isolation  = Connection.TRANSACTION_READ_COMMITTED;
+        private       boolean       readOnly   = false;
+        volatile      boolean       valid      = true;
+
+        StandInConnection(StandInDriver driver)
+        {
+            this.driver = driver;
+        }
+
+        Object invoke(String methodName, Object[] args) throws SQLException
+        {
+            switch (methodName)
+            {
+                case "close" ->
+                {
+                    if (! closed)
+                    {
+                        closed = true;
+                        driver.connectionsOpen.decrementAndGet();
+                    }
+                    return null;
+                }
+                case "isClosed" -> { return closed; }
+                case "isValid" -> { return valid && ! closed; }
+                case "unwrap" -> { return this; }
+                case "getAutoCommit" -> { return autoCommit; }
+                case "setAutoCommit" -> { autoCommit = (Boolean)args[0]; return null; }
+                case "getTransactionIsolation" -> { return isolation; }
+                case "setTransactionIsolation" -> { isolation = (Integer)args[0]; return null; }
+                case "isReadOnly" -> { return readOnly; }
+                case "setReadOnly" -> { readOnly = (Boolean)args[0]; return null; }
+                case "commit" -> { driver.commits.incrementAndGet(); return null; }
+                case "rollback" -> { return null; }
+                case "prepareStatement" ->
+                {
+                    if (closed)
+                    {
+                        throw new SQLException("Connection closed");
+                    }
+
+                    driver.statementsPrepared.incrementAndGet();
+                    driver.statementsOpen.incrementAndGet();
+
+                    return newStatement();
+                }
+                case "hashCode" -> { return System.identityHashCode(this); }
+                case "toString" -> { return "StandInConnection"; }
+            }
+
+            throw new SQLFeatureNotSupportedException(methodName);
+        }
+
+        private PreparedStatement newStatement()
+        {
+            final boolean[]       statementClosed = {false};
+            final List<Integer>   batch           = new ArrayList<>();
+
+            return (PreparedStatement)Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                                                             new Class<?>[]{PreparedStatement.class},
+                                                             (proxy, method, args) ->
+                                                             {
+                                                                 switch (method.getName())
+                                                                 {
+                                                                     case "setObject", "clearParameters" -> { return null; }
+                                                                     case "addBatch" -> { batch.add(1); return null; }
+                                                                     case "clearBatch" -> { batch.clear(); return null; }
+                                                                     case "executeUpdate" -> { return 1; }
+                                                                     case "executeBatch" ->
+                                                                     {
+                                                                         driver.batchesExecuted.incrementAndGet();
+                                                                         int[] results = new int[batch.size()];
+                                                                         Arrays.fill(results, 1);
+                                                                         batch.clear();
+                                                                         return results;
+                                                                     }
+                                                                     case "isClosed" -> { return statementClosed[0]; }
+                                                                     case "unwrap" -> { return proxy; }
+                                                                     case "close" ->
+                                                                     {
+                                                                         if (! statementClosed[0])
+                                                                         {
+                                                                             statementClosed[0] = true;
+                                                                             driver.statementsOpen.decrementAndGet();
+                                                                         }
+                                                                         return null;
+                                                                     }
+                                                                     case "hashCode" -> { return System.identityHashCode(proxy); }
+                                                                 }
+
+                                                                 throw new SQLFeatureNotSupportedException(method.getName());
+                                                             });
+        }
+    }
+}
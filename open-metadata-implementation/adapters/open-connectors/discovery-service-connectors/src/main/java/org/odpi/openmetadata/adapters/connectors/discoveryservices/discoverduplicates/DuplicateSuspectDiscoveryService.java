@@ -11,6 +11,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.frameworks.connectors.properties.AssetUniverse;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryAssetCatalogStore;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
 import org.odpi.openmetadata.frameworks.discovery.properties.SuspectDuplicateAnnotation;
 
 import java.util.ArrayList;
@@ -161,7 +162,10 @@ public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
         {
             /*
              * Create a duplicate suspect annotation for each asset found in the suspect duplicate report.
+             * They are stored together in a single request.
              */
+            List<Annotation> annotations = new ArrayList<>();
+
             for (String    suspectGUID : suspectDuplicateReport.keySet())
             {
                 if (suspectGUID != null)
@@ -172,9 +176,11 @@ public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
                     annotation.setSummary("This asset appears to refer to the same physical asset.");
                     annotation.setMatchingPropertyNames(suspectDuplicateReport.get(suspectGUID));
 
-                    annotationStore.addAnnotationToDiscoveryReport(annotation);
+                    annotations.add(annotation);
                 }
             }
+
+            annotationStore.addAnnotationsToDiscoveryReport(annotations);
         }
     }
 }
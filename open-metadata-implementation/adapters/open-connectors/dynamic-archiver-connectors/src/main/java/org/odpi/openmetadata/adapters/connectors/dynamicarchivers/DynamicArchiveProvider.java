@@ -14,14 +14,14 @@ import java.util.List;
  */
 public abstract class DynamicArchiveProvider extends RepositoryGovernanceProvider
 {
-    static final String ARCHIVE_NAME_PROPERTY = "archiveName";
-    static final String ARCHIVE_GUID_PROPERTY = "archiveGUID";
+    public static final String ARCHIVE_NAME_PROPERTY = "archiveName";
+    public static final String ARCHIVE_GUID_PROPERTY = "archiveGUID";
 
-    static final String SNAPSHOT_REQUEST_TYPE    = "snapshot";
-    static final String JOURNALLING_REQUEST_TYPE = "journalling";
+    public static final String SNAPSHOT_REQUEST_TYPE    = "snapshot";
+    public static final String JOURNALLING_REQUEST_TYPE = "journalling";
 
-    static final String ARCHIVING_COMPLETE_GUARD = "archiving-complete";
-    static final String ARCHIVING_FAILED_GUARD   = "archiving-failed";
+    public static final String ARCHIVING_COMPLETE_GUARD = "archiving-complete";
+    public static final String ARCHIVING_FAILED_GUARD   = "archiving-failed";
 
     protected List<String> recognizedConfigurationProperties = new ArrayList<>();
 
@@ -192,6 +192,39 @@ public enum DynamicArchiverConnectorsAuditCode implements AuditLogMessageSet
                                    "exception stack trace to determine why the connector is not able to initiate the process and resolve that issue.  " +
                                    "Use the messages that where subsequently logged during the error handling to discover how to restart the " +
                                    "connector in the integration daemon once the original cause of the error has been corrected."),
+
+    SNAPSHOT_STARTING("DYNAMIC-ARCHIVER-SERVICES-0023",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} archive service is writing a {1} archive called {2} to directory {3} for {4} entity types and {5} relationship types as of {6}",
+                      "The archive service scans the instances of each type in parallel and writes them to a sequence of chunk files.",
+                      "Verify that the archive is written to the expected directory and that it covers the expected types."),
+
+    SNAPSHOT_COMPLETE("DYNAMIC-ARCHIVER-SERVICES-0024",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} archive service has written {1} entities and {2} relationships to {3} chunk files in directory {4}",
+                      "The archive is complete.  The archive service returns an ACTIONED completion status with the snapshot time in the " +
+                              "changesSince request parameter so a following delta archive can start from this point.",
+                      "Load the chunk files in the order of their names to restore the instances in another repository."),
+
+    AS_OF_TIME_NOT_SUPPORTED("DYNAMIC-ARCHIVER-SERVICES-0025",
+                             OMRSAuditLogRecordSeverity.INFO,
+                             "The {0} archive service is unable to retrieve instances as they were at {1} because the repository does not support historical queries.  The exception's message is: {2}",
+                             "The archive service retrieves the current instances and skips those changed after the snapshot started.  Instances deleted during " +
+                                     "the snapshot are missing from the archive.",
+                             "If a fully consistent archive is needed, avoid updating the repository while the archive is written or use a repository that supports historical queries."),
+
+    SNAPSHOT_FAILED("DYNAMIC-ARCHIVER-SERVICES-0026",
+                    OMRSAuditLogRecordSeverity.EXCEPTION,
+                    "The {0} archive service received a {1} exception while writing archive {2} to directory {3}.  The exception's message is: {4}",
+                    "The archive service removes the partially written chunk and returns a FAILED completion status.  The chunk files that were complete are left in the directory.",
+                    "Use the information from the exception to correct the cause of the error, remove the chunk files from the directory and rerun the archive service."),
+
+    NO_CHANGES_SINCE("DYNAMIC-ARCHIVER-SERVICES-0027",
+                     OMRSAuditLogRecordSeverity.ERROR,
+                     "The {0} archive service was asked for a delta archive without a valid changesSince request parameter; the value supplied was {1}",
+                     "The archive service returns an INVALID completion status.",
+                     "Supply the time of the previous archive as the changesSince request parameter in milliseconds since the epoch.  This value is " +
+                             "returned by a previous run of the archive service."),
     ;
 
     private String                     logMessageId;
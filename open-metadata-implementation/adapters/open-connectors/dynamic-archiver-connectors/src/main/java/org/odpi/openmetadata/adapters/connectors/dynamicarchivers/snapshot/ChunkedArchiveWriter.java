@@ -0,0 +1,396 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.dynamicarchivers.snapshot;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+
+/**
+ * ChunkedArchiveWriter writes the contents of an open metadata archive to a sequence of chunk files in a directory.
+ * Each chunk is a complete open metadata archive coded in JSON that holds at most a fixed number of instances, so it can
+ * be loaded by the file based open metadata archive store connector.  The first chunk holds the type store
+ * and each later chunk depends on the chunk before it, so the chunks must be loaded in order.
+ * <br><br>
+ * The instances are written to the chunk file as they are added using the Jackson streaming generator.
+ * Only the instances passed on a single call are held in memory, so the memory used by the writer does not grow
+ * with the size of the archive.  Within a chunk, the entities are written before the relationships.  If entities are
+ * added after relationships, a new chunk is started.
+ * <br><br>
+ * Each chunk is written to a temporary file and renamed when it is complete, so a reader never sees a partial chunk.
+ * The writer refuses to start if the directory already holds chunks for an archive of the same name, since mixing the
+ * chunks of two archives would leave chunks that depend on the wrong archive.
+ * The methods are synchronized so instances can be added from many threads.
+ */
+class ChunkedArchiveWriter
+{
+    static final String chunkFileSuffix = ".json";
+    static final String tempFileSuffix  = ".tmp";
+
+    /*
+     * Names of the sections in the archive's JSON.  These match the names used by the file based archive store connector.
+     */
+    private static final String archivePropertiesSectionName    = "archiveProperties";
+    private static final String archiveTypeStoreSectionName     = "archiveTypeStore";
+    private static final String archiveInstanceStoreSectionName = "archiveInstanceStore";
+    private static final String entitiesSectionName             = "entities";
+    private static final String relationshipsSectionName        = "relationships";
+
+    /*
+     * The archive's objects are written by hand so their type identifiers must be added for the reader.
+     */
+    private static final String typeIdPropertyName         = "class";
+    private static final String archiveTypeId              = "OpenMetadataArchive";
+    private static final String archiveInstanceStoreTypeId = "OpenMetadataArchiveInstanceStore";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final File                          archiveDirectory;
+    private final String                        archiveName;
+    private final OpenMetadataArchiveProperties archiveProperties;
+    private final OpenMetadataArchiveTypeStore  archiveTypeStore;
+    private final int                           maxInstancesPerChunk;
+
+    private final List<File> chunkFiles            = new ArrayList<>();
+    private String           lastChunkGUID         = null;
+    private File             chunkTempFile         = null;
+    private JsonGenerator    chunkGenerator        = null;
+    private String           chunkSection          = null;
+    private boolean          chunkHasRelationships = false;
+    private int              chunkInstanceCount    = 0;
+    private long             entityCount           = 0;
+    private long             relationshipCount     = 0;
+
+
+    /**
+     * Constructor for the writer.  The directory is created if it does not exist.
+     *
+     * @param archiveDirectory directory for the chunk files
+     * @param archiveName name of the archive - used to name the chunk files
+     * @param archiveProperties header properties of the archive - copied into each chunk with a unique GUID
+     * @param archiveTypeStore types to store in the first chunk - may be null
+     * @param maxInstancesPerChunk maximum number of instances in a chunk
+     * @throws FileAlreadyExistsException the directory already holds chunks for an archive with this name
+     * @throws IOException unable to create the directory
+     */
+    ChunkedArchiveWriter(File                          archiveDirectory,
+                         String                        archiveName,
+                         OpenMetadataArchiveProperties archiveProperties,
+                         OpenMetadataArchiveTypeStore  archiveTypeStore,
+                         int                           maxInstancesPerChunk) throws IOException
+    {
+        this.archiveDirectory     = archiveDirectory;
+        this.archiveName          = archiveName;
+        this.archiveProperties    = archiveProperties;
+        this.archiveTypeStore     = archiveTypeStore;
+        this.maxInstancesPerChunk = Math.max(1, maxInstancesPerChunk);
+
+        Files.createDirectories(archiveDirectory.toPath());
+
+        File[] existingChunkFiles = archiveDirectory.listFiles((directory, fileName) -> isChunkFileName(fileName));
+
+        if ((existingChunkFiles != null) && (existingChunkFiles.length > 0))
+        {
+            throw new FileAlreadyExistsException(existingChunkFiles[0].getPath(),
+                                                 null,
+                                                 "directory " + archiveDirectory.getPath() + " already holds chunks for archive " + archiveName);
+        }
+    }
+
+
+    /**
+     * Determine whether a file name is the name of a chunk (or partly written chunk) of this archive.
+     *
+     * @param fileName name of a file in the archive directory
+     * @return boolean flag
+     */
+    private boolean isChunkFileName(String fileName)
+    {
+        return (fileName.startsWith(archiveName + "-")) &&
+               ((fileName.endsWith(chunkFileSuffix)) || (fileName.endsWith(chunkFileSuffix + tempFileSuffix)));
+    }
+
+
+    /**
+     * Return the name of the file for a chunk.
+     *
+     * @param chunkNumber position of the chunk in the archive
+     * @return file
+     */
+    private File getChunkFile(int chunkNumber)
+    {
+        return new File(archiveDirectory, String.format("%s-%05d%s", archiveName, chunkNumber, chunkFileSuffix));
+    }
+
+
+    /**
+     * Start a new chunk file and write its header.
+     *
+     * @throws IOException unable to write the file
+     */
+    private void openChunk() throws IOException
+    {
+        int  chunkNumber = chunkFiles.size();
+        File chunkFile   = getChunkFile(chunkNumber);
+
+        OpenMetadataArchiveProperties chunkProperties = new OpenMetadataArchiveProperties(archiveProperties);
+
+        if ((chunkNumber > 0) || (chunkProperties.getArchiveGUID() == null))
+        {
+            chunkProperties.setArchiveGUID(UUID.randomUUID().toString());
+        }
+        if (chunkNumber > 0)
+        {
+            chunkProperties.setArchiveName(archiveProperties.getArchiveName() + " (part " + (chunkNumber + 1) + ")");
+            chunkProperties.setDependsOnArchives(Collections.singletonList(lastChunkGUID));
+        }
+
+        chunkTempFile  = new File(chunkFile.getPath() + tempFileSuffix);
+        chunkGenerator = OBJECT_MAPPER.getFactory().createGenerator(chunkTempFile, JsonEncoding.UTF8);
+
+        chunkGenerator.writeStartObject();
+        chunkGenerator.writeStringField(typeIdPropertyName, archiveTypeId);
+        chunkGenerator.writeObjectField(archivePropertiesSectionName, chunkProperties);
+
+        if ((chunkNumber == 0) && (archiveTypeStore != null))
+        {
+            chunkGenerator.writeObjectField(archiveTypeStoreSectionName, archiveTypeStore);
+        }
+
+        chunkGenerator.writeFieldName(archiveInstanceStoreSectionName);
+        chunkGenerator.writeStartObject();
+        chunkGenerator.writeStringField(typeIdPropertyName, archiveInstanceStoreTypeId);
+
+        lastChunkGUID         = chunkProperties.getArchiveGUID();
+        chunkSection          = null;
+        chunkHasRelationships = false;
+        chunkInstanceCount    = 0;
+
+        chunkFiles.add(chunkFile);
+    }
+
+
+    /**
+     * Complete the current chunk and move it into place.
+     *
+     * @throws IOException unable to write the file
+     */
+    private void closeChunk() throws IOException
+    {
+        if (chunkSection != null)
+        {
+            chunkGenerator.writeEndArray();
+        }
+
+        chunkGenerator.writeEndObject();
+        chunkGenerator.writeEndObject();
+        chunkGenerator.close();
+
+        File chunkFile = chunkFiles.get(chunkFiles.size() - 1);
+
+        try
+        {
+            Files.move(chunkTempFile.toPath(), chunkFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException error)
+        {
+            Files.move(chunkTempFile.toPath(), chunkFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        chunkGenerator = null;
+        chunkTempFile  = null;
+        chunkSection   = null;
+    }
+
+
+    /**
+     * Make sure the current chunk is positioned in the requested section of the instance store with space for another
+     * instance.  A new chunk is started when the current chunk is full, or when entities follow relationships.
+     *
+     * @param sectionName name of the section
+     * @throws IOException unable to write the file
+     */
+    private void positionChunk(String sectionName) throws IOException
+    {
+        if ((chunkGenerator != null) &&
+            ((chunkInstanceCount >= maxInstancesPerChunk) || (entitiesSectionName.equals(sectionName) && chunkHasRelationships)))
+        {
+            closeChunk();
+        }
+
+        if (chunkGenerator == null)
+        {
+            openChunk();
+        }
+
+        if (! sectionName.equals(chunkSection))
+        {
+            if (chunkSection != null)
+            {
+                chunkGenerator.writeEndArray();
+            }
+
+            chunkGenerator.writeArrayFieldStart(sectionName);
+            chunkSection = sectionName;
+
+            if (relationshipsSectionName.equals(sectionName))
+            {
+                chunkHasRelationships = true;
+            }
+        }
+    }
+
+
+    /**
+     * Add a batch of entities to the archive.
+     *
+     * @param entities entities to add
+     * @throws IOException unable to write the archive
+     */
+    synchronized void addEntities(List<EntityDetail> entities) throws IOException
+    {
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                if (entity != null)
+                {
+                    positionChunk(entitiesSectionName);
+                    chunkGenerator.writeObject(entity);
+                    chunkInstanceCount++;
+                    entityCount++;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Add a batch of relationships to the archive.
+     *
+     * @param relationships relationships to add
+     * @throws IOException unable to write the archive
+     */
+    synchronized void addRelationships(List<Relationship> relationships) throws IOException
+    {
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                if (relationship != null)
+                {
+                    positionChunk(relationshipsSectionName);
+                    chunkGenerator.writeObject(relationship);
+                    chunkInstanceCount++;
+                    relationshipCount++;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Complete the last chunk.  An archive with no instances is still written as a single chunk holding the type store.
+     *
+     * @throws IOException unable to write the archive
+     */
+    synchronized void close() throws IOException
+    {
+        if ((chunkGenerator == null) && (chunkFiles.isEmpty()))
+        {
+            openChunk();
+        }
+
+        if (chunkGenerator != null)
+        {
+            closeChunk();
+        }
+    }
+
+
+    /**
+     * Stop writing the archive after an error.  The partial chunk is removed but completed chunks are left in place.
+     */
+    synchronized void abort()
+    {
+        if (chunkGenerator != null)
+        {
+            try
+            {
+                chunkGenerator.close();
+            }
+            catch (IOException error)
+            {
+                /*
+                 * The file is removed anyway.
+                 */
+            }
+
+            try
+            {
+                Files.deleteIfExists(chunkTempFile.toPath());
+            }
+            catch (IOException error)
+            {
+                /*
+                 * Nothing more can be done.
+                 */
+            }
+
+            chunkFiles.remove(chunkFiles.size() - 1);
+
+            chunkGenerator = null;
+            chunkTempFile  = null;
+            chunkSection   = null;
+        }
+    }
+
+
+    /**
+     * Return the chunk files written so far, in the order they should be loaded.
+     *
+     * @return list of files
+     */
+    synchronized List<File> getChunkFiles()
+    {
+        return new ArrayList<>(chunkFiles);
+    }
+
+
+    /**
+     * Return the number of entities written to the archive.
+     *
+     * @return count
+     */
+    synchronized long getEntityCount()
+    {
+        return entityCount;
+    }
+
+
+    /**
+     * Return the number of relationships written to the archive.
+     *
+     * @return count
+     */
+    synchronized long getRelationshipCount()
+    {
+        return relationshipCount;
+    }
+}
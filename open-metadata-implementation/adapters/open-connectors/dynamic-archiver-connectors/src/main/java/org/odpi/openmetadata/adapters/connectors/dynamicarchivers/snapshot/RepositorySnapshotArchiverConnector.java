@@ -0,0 +1,1071 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.dynamicarchivers.snapshot;
+
+
+import org.odpi.openmetadata.adapters.connectors.dynamicarchivers.DynamicArchiveProvider;
+import org.odpi.openmetadata.adapters.connectors.dynamicarchivers.DynamicArchiveService;
+import org.odpi.openmetadata.adapters.connectors.dynamicarchivers.ffdc.DynamicArchiverConnectorsAuditCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.CompletionStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RepositorySnapshotArchiverConnector writes the instances of the local repository to an open metadata archive.
+ * The archive is a consistent snapshot: the instances are retrieved as they were at the time the service started,
+ * so changes made while the archive is being written are not included.  The snapshot can be limited to
+ * selected types (and their subtypes) and to assets in selected zones.  A "delta" request writes only the instances
+ * that have been created or updated since the time in the changesSince request parameter.  The time of each snapshot
+ * is returned in the changesSince request parameter of the completion status, so a governance action process can chain a
+ * full snapshot and a sequence of deltas.
+ * <br><br>
+ * A delta archive only holds the current state of created and updated instances.  The archive format has no way to
+ * record that an instance was deleted or purged, so these instances are missing from the delta rather than removed
+ * when it is loaded.  Take a new full snapshot to pick up deletions.
+ * <br><br>
+ * Each run writes its chunks to its own subdirectory of the archive directory, named after the archive, the request
+ * type and the snapshot time, so the chunks of a delta never replace those of the snapshot it follows.
+ * <br><br>
+ * The repository returns the instances of a type and all of its subtypes, so only the selected types without a
+ * selected supertype are scanned, and each instance is written if its own type is selected.  This means each
+ * instance is read once.  The scans run page by page on a small thread pool.  The entity types are scanned
+ * before the relationship types so that the entities appear in the archive before the relationships that link them.
+ * Each page is passed to a ChunkedArchiveWriter which writes the instances straight to a sequence of chunk files.
+ * Only one page per thread is held in memory, so the size of the repository does not affect the memory used.
+ */
+public class RepositorySnapshotArchiverConnector extends DynamicArchiveService
+{
+    private static final String defaultArchiveDirectory     = "repository-snapshot";
+    private static final String defaultArchiveName          = "RepositorySnapshot";
+    private static final int    defaultPageSize             = 500;
+    private static final int    defaultScanThreads          = 4;
+    private static final int    defaultMaxInstancesPerChunk = 10000;
+    private static final int    maxZoneCacheSize            = 10000;
+
+    private static final String zoneMembershipPropertyName   = "zoneMembership";
+    private static final String assetZonesClassificationName = "AssetZoneMembership";
+
+    private String       archiveDirectoryName = defaultArchiveDirectory;
+    private String       archiveName          = defaultArchiveName;
+    private String       archiveGUID          = null;
+    private List<String> typeNames            = null;
+    private List<String> zoneNames            = null;
+    private int          pageSize             = defaultPageSize;
+    private int          scanThreads          = defaultScanThreads;
+    private int          maxInstancesPerChunk = defaultMaxInstancesPerChunk;
+    private boolean      localInstancesOnly   = true;
+
+    /*
+     * Values for a single run of the service.
+     */
+    private Date                       snapshotTime              = null;
+    private Long                       changesSince              = null;
+    private String                     localMetadataCollectionId = null;
+    private Set<String>                entityTypeNames           = null;
+    private Set<String>                relationshipTypeNames     = null;
+    private String                     archiveLocation           = null;
+    private ChunkedArchiveWriter       archiveWriter             = null;
+    private volatile boolean           asOfTimeSupported         = true;
+    private final AtomicBoolean        asOfTimeLogged            = new AtomicBoolean(false);
+    private final Map<String, Boolean> entityInZonesCache        = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest)
+        {
+            return size() > maxZoneCacheSize;
+        }
+    });
+
+
+    /**
+     * Indicates that the archive service is completely configured and can begin processing.
+     * The configuration properties are overridden by any matching request parameters.  The archive is written
+     * before this method returns and the completion status is recorded in the context.
+     *
+     * @throws ConnectorCheckedException there is a problem within the archive service.
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        final String methodName = "start";
+
+        super.start();
+
+        Map<String, String> options = new HashMap<>();
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            for (Map.Entry<String, Object> configurationProperty : configurationProperties.entrySet())
+            {
+                if ((configurationProperty.getKey() != null) && (configurationProperty.getValue() != null))
+                {
+                    options.put(configurationProperty.getKey(), configurationProperty.getValue().toString());
+                }
+            }
+        }
+
+        if (repositoryGovernanceContext.getRequestParameters() != null)
+        {
+            options.putAll(repositoryGovernanceContext.getRequestParameters());
+        }
+
+        archiveDirectoryName = getStringOption(options, RepositorySnapshotArchiverProvider.ARCHIVE_DIRECTORY_PROPERTY, defaultArchiveDirectory);
+        archiveName          = getStringOption(options, DynamicArchiveProvider.ARCHIVE_NAME_PROPERTY, defaultArchiveName);
+        archiveGUID          = getStringOption(options, DynamicArchiveProvider.ARCHIVE_GUID_PROPERTY, null);
+        typeNames            = getListOption(options, RepositorySnapshotArchiverProvider.TYPE_NAMES_PROPERTY);
+        zoneNames            = getListOption(options, RepositorySnapshotArchiverProvider.ZONE_NAMES_PROPERTY);
+        pageSize             = getIntOption(options, RepositorySnapshotArchiverProvider.PAGE_SIZE_PROPERTY, defaultPageSize);
+        scanThreads          = getIntOption(options, RepositorySnapshotArchiverProvider.SCAN_THREADS_PROPERTY, defaultScanThreads);
+        maxInstancesPerChunk = getIntOption(options, RepositorySnapshotArchiverProvider.MAX_INSTANCES_PER_CHUNK_PROPERTY, defaultMaxInstancesPerChunk);
+        localInstancesOnly   = Boolean.parseBoolean(getStringOption(options, RepositorySnapshotArchiverProvider.LOCAL_INSTANCES_ONLY_PROPERTY, "true"));
+
+        String changesSinceOption = options.get(RepositorySnapshotArchiverProvider.CHANGES_SINCE_PROPERTY);
+
+        if (RepositorySnapshotArchiverProvider.DELTA_REQUEST_TYPE.equals(repositoryGovernanceContext.getRequestType()))
+        {
+            try
+            {
+                changesSince = Long.parseLong(changesSinceOption);
+            }
+            catch (NumberFormatException error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        DynamicArchiverConnectorsAuditCode.NO_CHANGES_SINCE.getMessageDefinition(repositoryGovernanceServiceName,
+                                                                                                                 changesSinceOption));
+                }
+
+                recordCompletionStatus(CompletionStatus.INVALID,
+                                       DynamicArchiveProvider.ARCHIVING_FAILED_GUARD,
+                                       null,
+                                       DynamicArchiverConnectorsAuditCode.NO_CHANGES_SINCE.getMessageDefinition(repositoryGovernanceServiceName,
+                                                                                                                changesSinceOption).toString());
+                return;
+            }
+        }
+
+        writeArchive();
+    }
+
+
+    /**
+     * Scan the repository and write the archive, then record the completion status.
+     *
+     * @throws ConnectorCheckedException unable to record the completion status
+     */
+    private void writeArchive() throws ConnectorCheckedException
+    {
+        final String methodName = "writeArchive";
+
+        snapshotTime    = new Date();
+        archiveLocation = archiveDirectoryName;
+
+        try
+        {
+            localMetadataCollectionId = repositoryGovernanceContext.getMetadataCollectionId();
+
+            TypeDefGallery typeDefGallery = repositoryGovernanceContext.getAllTypes();
+            List<TypeDef>  typeDefs       = getSortedTypeDefs(typeDefGallery.getTypeDefs());
+
+            List<TypeDef> entityTypeDefs       = getSelectedTypeDefs(typeDefs, TypeDefCategory.ENTITY_DEF);
+            List<TypeDef> relationshipTypeDefs = getSelectedTypeDefs(typeDefs, TypeDefCategory.RELATIONSHIP_DEF);
+
+            entityTypeNames       = getTypeNames(entityTypeDefs);
+            relationshipTypeNames = getTypeNames(relationshipTypeDefs);
+
+            OpenMetadataArchiveTypeStore archiveTypeStore = new OpenMetadataArchiveTypeStore();
+
+            archiveTypeStore.setAttributeTypeDefs(typeDefGallery.getAttributeTypeDefs());
+            archiveTypeStore.setNewTypeDefs(typeDefs);
+
+            String requestType  = changesSince == null ? DynamicArchiveProvider.SNAPSHOT_REQUEST_TYPE : RepositorySnapshotArchiverProvider.DELTA_REQUEST_TYPE;
+            File   runDirectory = new File(archiveDirectoryName, archiveName + "-" + requestType + "-" + snapshotTime.getTime());
+
+            archiveLocation = runDirectory.getPath();
+            archiveWriter = new ChunkedArchiveWriter(runDirectory,
+                                                     archiveName,
+                                                     getSnapshotArchiveProperties(),
+                                                     archiveTypeStore,
+                                                     maxInstancesPerChunk);
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    DynamicArchiverConnectorsAuditCode.SNAPSHOT_STARTING.getMessageDefinition(repositoryGovernanceServiceName,
+                                                                                                              requestType,
+                                                                                                              archiveName,
+                                                                                                              archiveLocation,
+                                                                                                              Integer.toString(entityTypeDefs.size()),
+                                                                                                              Integer.toString(relationshipTypeDefs.size()),
+                                                                                                              snapshotTime.toString()));
+            }
+
+            ExecutorService scanPool = Executors.newFixedThreadPool(Math.max(1, scanThreads));
+
+            try
+            {
+                List<Future<?>> entityScans = new ArrayList<>();
+
+                for (TypeDef typeDef : getScanTypeDefs(entityTypeDefs, entityTypeNames))
+                {
+                    entityScans.add(scanPool.submit(() -> { scanEntities(typeDef); return null; }));
+                }
+
+                waitForScans(entityScans);
+
+                List<Future<?>> relationshipScans = new ArrayList<>();
+
+                for (TypeDef typeDef : getScanTypeDefs(relationshipTypeDefs, relationshipTypeNames))
+                {
+                    relationshipScans.add(scanPool.submit(() -> { scanRelationships(typeDef); return null; }));
+                }
+
+                waitForScans(relationshipScans);
+            }
+            finally
+            {
+                scanPool.shutdownNow();
+            }
+
+            archiveWriter.close();
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    DynamicArchiverConnectorsAuditCode.SNAPSHOT_COMPLETE.getMessageDefinition(repositoryGovernanceServiceName,
+                                                                                                              Long.toString(archiveWriter.getEntityCount()),
+                                                                                                              Long.toString(archiveWriter.getRelationshipCount()),
+                                                                                                              Integer.toString(archiveWriter.getChunkFiles().size()),
+                                                                                                              archiveLocation));
+            }
+
+            Map<String, String> newRequestParameters = new HashMap<>();
+
+            newRequestParameters.put(RepositorySnapshotArchiverProvider.CHANGES_SINCE_PROPERTY, Long.toString(snapshotTime.getTime()));
+            newRequestParameters.put(RepositorySnapshotArchiverProvider.ARCHIVE_DIRECTORY_PROPERTY, archiveDirectoryName);
+            newRequestParameters.put(RepositorySnapshotArchiverProvider.ARCHIVE_LOCATION_PROPERTY, archiveLocation);
+
+            recordCompletionStatus(CompletionStatus.ACTIONED,
+                                   DynamicArchiveProvider.ARCHIVING_COMPLETE_GUARD,
+                                   newRequestParameters,
+                                   DynamicArchiverConnectorsAuditCode.SNAPSHOT_COMPLETE.getMessageDefinition(repositoryGovernanceServiceName,
+                                                                                                             Long.toString(archiveWriter.getEntityCount()),
+                                                                                                             Long.toString(archiveWriter.getRelationshipCount()),
+                                                                                                             Integer.toString(archiveWriter.getChunkFiles().size()),
+                                                                                                             archiveLocation).toString());
+        }
+        catch (Exception error)
+        {
+            if (archiveWriter != null)
+            {
+                archiveWriter.abort();
+            }
+
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      DynamicArchiverConnectorsAuditCode.SNAPSHOT_FAILED.getMessageDefinition(repositoryGovernanceServiceName,
+                                                                                                              error.getClass().getName(),
+                                                                                                              archiveName,
+                                                                                                              archiveLocation,
+                                                                                                              error.getMessage()),
+                                      error);
+            }
+
+            recordCompletionStatus(CompletionStatus.FAILED,
+                                   DynamicArchiveProvider.ARCHIVING_FAILED_GUARD,
+                                   null,
+                                   DynamicArchiverConnectorsAuditCode.SNAPSHOT_FAILED.getMessageDefinition(repositoryGovernanceServiceName,
+                                                                                                           error.getClass().getName(),
+                                                                                                           archiveName,
+                                                                                                           archiveLocation,
+                                                                                                           error.getMessage()).toString());
+        }
+    }
+
+
+    /**
+     * Return the header properties for the archive.
+     *
+     * @return archive properties
+     */
+    private OpenMetadataArchiveProperties getSnapshotArchiveProperties()
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        /*
+         * A delta is a different archive from the snapshot it follows, so the configured GUID is only used for snapshots.
+         */
+        if (changesSince == null)
+        {
+            archiveProperties.setArchiveGUID(archiveGUID);
+        }
+        archiveProperties.setArchiveName(archiveName);
+        archiveProperties.setArchiveType(OpenMetadataArchiveType.REPOSITORY_BACKUP);
+        archiveProperties.setArchiveVersion(Long.toString(snapshotTime.getTime()));
+        archiveProperties.setOriginatorName(repositoryGovernanceServiceName);
+        archiveProperties.setOriginatorLicense(archiveLicense);
+        archiveProperties.setCreationDate(snapshotTime);
+
+        if (changesSince == null)
+        {
+            archiveProperties.setArchiveDescription("Snapshot of repository " + localMetadataCollectionId + " at " + snapshotTime);
+        }
+        else
+        {
+            archiveProperties.setArchiveDescription("Changes to repository " + localMetadataCollectionId + " between " + new Date(changesSince) + " and " + snapshotTime);
+        }
+
+        return archiveProperties;
+    }
+
+
+    /**
+     * Wait for each of the scans to complete.  The first failure is rethrown and the remaining scans are cancelled.
+     *
+     * @param scans futures for the scans
+     * @throws Exception failure from a scan
+     */
+    private void waitForScans(List<Future<?>> scans) throws Exception
+    {
+        try
+        {
+            for (Future<?> scan : scans)
+            {
+                scan.get();
+            }
+        }
+        catch (ExecutionException error)
+        {
+            for (Future<?> scan : scans)
+            {
+                scan.cancel(true);
+            }
+
+            if (error.getCause() instanceof Exception cause)
+            {
+                throw cause;
+            }
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Write the entities of a type and its selected subtypes to the archive.
+     *
+     * @param typeDef type to scan
+     * @throws Exception problem retrieving or writing the entities
+     */
+    private void scanEntities(TypeDef typeDef) throws Exception
+    {
+        PageTracker pageTracker = new PageTracker();
+
+        while (! Thread.currentThread().isInterrupted())
+        {
+            List<EntityDetail> page = findEntities(typeDef.getGUID(), pageTracker.getStartFrom());
+            List<EntityDetail> selectedEntities = new ArrayList<>();
+
+            if (page != null)
+            {
+                for (EntityDetail entity : page)
+                {
+                    if ((pageTracker.checkInstance(entity)) && (isSelectedType(entity, entityTypeNames)) && (isEntityInZones(entity)))
+                    {
+                        selectedEntities.add(entity);
+                    }
+                }
+            }
+
+            archiveWriter.addEntities(selectedEntities);
+
+            if (pageTracker.isLastPage(page))
+            {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Write the relationships of a type and its selected subtypes to the archive.  A relationship is only written if
+     * both of its ends are entities that are selected for the archive.
+     *
+     * @param typeDef type to scan
+     * @throws Exception problem retrieving or writing the relationships
+     */
+    private void scanRelationships(TypeDef typeDef) throws Exception
+    {
+        PageTracker pageTracker = new PageTracker();
+
+        while (! Thread.currentThread().isInterrupted())
+        {
+            List<Relationship> page = findRelationships(typeDef.getGUID(), pageTracker.getStartFrom());
+            List<Relationship> selectedRelationships = new ArrayList<>();
+
+            if (page != null)
+            {
+                for (Relationship relationship : page)
+                {
+                    if ((pageTracker.checkInstance(relationship)) &&
+                        (isSelectedType(relationship, relationshipTypeNames)) &&
+                        (isEndSelected(relationship.getEntityOneProxy())) &&
+                        (isEndSelected(relationship.getEntityTwoProxy())))
+                    {
+                        selectedRelationships.add(relationship);
+                    }
+                }
+            }
+
+            archiveWriter.addRelationships(selectedRelationships);
+
+            if (pageTracker.isLastPage(page))
+            {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Retrieve a page of entities of the requested type as they were at the snapshot time.
+     *
+     * @param typeGUID unique identifier of the type
+     * @param startFrom starting element
+     * @return page of entities
+     * @throws Exception problem with the repository
+     */
+    private List<EntityDetail> findEntities(String typeGUID,
+                                            int    startFrom) throws Exception
+    {
+        if (asOfTimeSupported)
+        {
+            try
+            {
+                return repositoryGovernanceContext.findEntities(typeGUID, null, null, startFrom, null, null, snapshotTime, null, getSequencingOrder(), pageSize);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                logAsOfTimeNotSupported(error);
+            }
+        }
+
+        return repositoryGovernanceContext.findEntities(typeGUID, null, null, startFrom, null, null, null, null, getSequencingOrder(), pageSize);
+    }
+
+
+    /**
+     * Retrieve a page of relationships of the requested type as they were at the snapshot time.
+     *
+     * @param typeGUID unique identifier of the type
+     * @param startFrom starting element
+     * @return page of relationships
+     * @throws Exception problem with the repository
+     */
+    private List<Relationship> findRelationships(String typeGUID,
+                                                 int    startFrom) throws Exception
+    {
+        if (asOfTimeSupported)
+        {
+            try
+            {
+                return repositoryGovernanceContext.findRelationships(typeGUID, null, null, startFrom, null, snapshotTime, null, getSequencingOrder(), pageSize);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                logAsOfTimeNotSupported(error);
+            }
+        }
+
+        return repositoryGovernanceContext.findRelationships(typeGUID, null, null, startFrom, null, null, null, getSequencingOrder(), pageSize);
+    }
+
+
+    /**
+     * Return the order to retrieve the instances in.  A delta archive retrieves the most recently changed instances first
+     * so the scan can stop once it reaches instances that have not changed.
+     *
+     * @return sequencing order
+     */
+    private SequencingOrder getSequencingOrder()
+    {
+        if (changesSince == null)
+        {
+            return SequencingOrder.GUID;
+        }
+
+        return SequencingOrder.LAST_UPDATE_RECENT;
+    }
+
+
+    /**
+     * Switch to retrieving the current instances because the repository can not retrieve instances as they were at a
+     * point in time.  The message is only logged once.
+     *
+     * @param error exception from the repository
+     */
+    private void logAsOfTimeNotSupported(FunctionNotSupportedException error)
+    {
+        final String methodName = "logAsOfTimeNotSupported";
+
+        asOfTimeSupported = false;
+
+        if ((auditLog != null) && (asOfTimeLogged.compareAndSet(false, true)))
+        {
+            auditLog.logMessage(methodName,
+                                DynamicArchiverConnectorsAuditCode.AS_OF_TIME_NOT_SUPPORTED.getMessageDefinition(repositoryGovernanceServiceName,
+                                                                                                                 snapshotTime.toString(),
+                                                                                                                 error.getMessage()));
+        }
+    }
+
+
+    /**
+     * Return the time that an instance was last changed.
+     *
+     * @param instance instance
+     * @return milliseconds since the epoch
+     */
+    private long getChangeTime(InstanceAuditHeader instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime().getTime();
+        }
+        else if (instance.getCreateTime() != null)
+        {
+            return instance.getCreateTime().getTime();
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Determine whether an instance's own type is one of the selected types.
+     *
+     * @param instance instance
+     * @param selectedTypeNames names of the selected types
+     * @return boolean flag
+     */
+    private boolean isSelectedType(InstanceAuditHeader instance,
+                                   Set<String>         selectedTypeNames)
+    {
+        return (instance.getType() != null) && (selectedTypeNames.contains(instance.getType().getTypeDefName()));
+    }
+
+
+    /**
+     * Return the names of a list of types.
+     *
+     * @param typeDefs types
+     * @return set of type names
+     */
+    private Set<String> getTypeNames(List<TypeDef> typeDefs)
+    {
+        Set<String> names = new HashSet<>();
+
+        for (TypeDef typeDef : typeDefs)
+        {
+            names.add(typeDef.getName());
+        }
+
+        return names;
+    }
+
+
+    /**
+     * Return the types to scan.  A scan of a type returns the instances of all of its subtypes too, so only the
+     * selected types whose supertype is not selected are scanned.
+     *
+     * @param selectedTypeDefs selected types
+     * @param selectedTypeNames names of the selected types
+     * @return types to scan
+     */
+    private List<TypeDef> getScanTypeDefs(List<TypeDef> selectedTypeDefs,
+                                          Set<String>   selectedTypeNames)
+    {
+        List<TypeDef> scanTypeDefs = new ArrayList<>();
+
+        for (TypeDef typeDef : selectedTypeDefs)
+        {
+            if ((typeDef.getSuperType() == null) || (! selectedTypeNames.contains(typeDef.getSuperType().getName())))
+            {
+                scanTypeDefs.add(typeDef);
+            }
+        }
+
+        return scanTypeDefs;
+    }
+
+
+    /**
+     * Determine whether an entity belongs to one of the selected zones.  An entity with no zones is not selected when zones
+     * are requested.
+     *
+     * @param entity entity to test
+     * @return boolean flag
+     */
+    private boolean isEntityInZones(EntityDetail entity)
+    {
+        if (zoneNames == null)
+        {
+            return true;
+        }
+
+        List<String> entityZones = new ArrayList<>(getStringArrayProperty(entity.getProperties(), zoneMembershipPropertyName));
+
+        if (entity.getClassifications() != null)
+        {
+            for (Classification classification : entity.getClassifications())
+            {
+                if ((classification != null) && (assetZonesClassificationName.equals(classification.getName())))
+                {
+                    entityZones.addAll(getStringArrayProperty(classification.getProperties(), zoneMembershipPropertyName));
+                }
+            }
+        }
+
+        for (String zoneName : entityZones)
+        {
+            if (zoneNames.contains(zoneName))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Determine whether the entity at the end of a relationship is included in the archive.  When zones are selected, the
+     * entity is retrieved to check its zones.  The results are cached because the same entity is typically at the end
+     * of many relationships.
+     *
+     * @param entityProxy end of the relationship
+     * @return boolean flag
+     * @throws Exception problem with the repository
+     */
+    private boolean isEndSelected(EntityProxy entityProxy) throws Exception
+    {
+        if ((entityProxy == null) || (entityProxy.getType() == null) || (! entityTypeNames.contains(entityProxy.getType().getTypeDefName())))
+        {
+            return false;
+        }
+
+        if (zoneNames == null)
+        {
+            return true;
+        }
+
+        Boolean inZones = entityInZonesCache.get(entityProxy.getGUID());
+
+        if (inZones == null)
+        {
+            try
+            {
+                EntityDetail entity = repositoryGovernanceContext.getEntityDetail(entityProxy.getGUID(), asOfTimeSupported ? snapshotTime : null);
+
+                inZones = (entity != null) && (isEntityInZones(entity));
+            }
+            catch (EntityNotKnownException | EntityProxyOnlyException error)
+            {
+                inZones = false;
+            }
+
+            entityInZonesCache.put(entityProxy.getGUID(), inZones);
+        }
+
+        return inZones;
+    }
+
+
+    /**
+     * Extract the values of an array of strings property.
+     *
+     * @param properties properties of the instance
+     * @param propertyName name of the property
+     * @return list of values - empty if the property is not set
+     */
+    private List<String> getStringArrayProperty(InstanceProperties properties,
+                                                String             propertyName)
+    {
+        List<String> values = new ArrayList<>();
+
+        if (properties != null)
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if ((propertyValue instanceof ArrayPropertyValue arrayPropertyValue) && (arrayPropertyValue.getArrayValues() != null))
+            {
+                Map<String, InstancePropertyValue> arrayValues = arrayPropertyValue.getArrayValues().getInstanceProperties();
+
+                if (arrayValues != null)
+                {
+                    for (InstancePropertyValue arrayValue : arrayValues.values())
+                    {
+                        if ((arrayValue instanceof PrimitivePropertyValue primitivePropertyValue) && (primitivePropertyValue.getPrimitiveValue() != null))
+                        {
+                            values.add(primitivePropertyValue.getPrimitiveValue().toString());
+                        }
+                    }
+                }
+            }
+        }
+
+        return values;
+    }
+
+
+    /**
+     * Return the type definitions ordered so that each type follows its supertype.  This is the order that the
+     * types must be added to a repository when the archive is loaded.
+     *
+     * @param typeDefs type definitions from the repository
+     * @return ordered list
+     */
+    private List<TypeDef> getSortedTypeDefs(List<TypeDef> typeDefs)
+    {
+        List<TypeDef> sortedTypeDefs = new ArrayList<>();
+
+        if (typeDefs != null)
+        {
+            Set<String>   sortedTypeNames   = new HashSet<>();
+            List<TypeDef> remainingTypeDefs = new ArrayList<>(typeDefs);
+            boolean       typeAdded         = true;
+
+            while ((! remainingTypeDefs.isEmpty()) && (typeAdded))
+            {
+                typeAdded = false;
+
+                for (TypeDef typeDef : new ArrayList<>(remainingTypeDefs))
+                {
+                    if ((typeDef.getSuperType() == null) || (sortedTypeNames.contains(typeDef.getSuperType().getName())))
+                    {
+                        sortedTypeDefs.add(typeDef);
+                        sortedTypeNames.add(typeDef.getName());
+                        remainingTypeDefs.remove(typeDef);
+                        typeAdded = true;
+                    }
+                }
+            }
+
+            /*
+             * Any types with a missing supertype are added at the end.
+             */
+            sortedTypeDefs.addAll(remainingTypeDefs);
+        }
+
+        return sortedTypeDefs;
+    }
+
+
+    /**
+     * Return the types in the requested category to scan.  If type names are configured, the named types and all of their
+     * subtypes are selected, otherwise all types in the category are selected.  If none of the configured type names
+     * are in the category, all the types in the category are selected so that, for example, naming entity types archives
+     * all the relationships between them.
+     *
+     * @param typeDefs all type definitions in supertype order
+     * @param category category of types to scan
+     * @return list of types
+     */
+    private List<TypeDef> getSelectedTypeDefs(List<TypeDef>   typeDefs,
+                                              TypeDefCategory category)
+    {
+        List<TypeDef> categoryTypeDefs = new ArrayList<>();
+
+        for (TypeDef typeDef : typeDefs)
+        {
+            if (category.equals(typeDef.getCategory()))
+            {
+                categoryTypeDefs.add(typeDef);
+            }
+        }
+
+        if (typeNames == null)
+        {
+            return categoryTypeDefs;
+        }
+
+        /*
+         * Since the types are in supertype order, a type's supertype is always checked before the type itself.
+         */
+        Set<String>   selectedTypeNames = new HashSet<>();
+        List<TypeDef> selectedTypeDefs  = new ArrayList<>();
+
+        for (TypeDef typeDef : categoryTypeDefs)
+        {
+            if ((typeNames.contains(typeDef.getName())) ||
+                ((typeDef.getSuperType() != null) && (selectedTypeNames.contains(typeDef.getSuperType().getName()))))
+            {
+                selectedTypeNames.add(typeDef.getName());
+                selectedTypeDefs.add(typeDef);
+            }
+        }
+
+        if (selectedTypeDefs.isEmpty())
+        {
+            return categoryTypeDefs;
+        }
+
+        return selectedTypeDefs;
+    }
+
+
+    /**
+     * Return the value of an option as a string.
+     *
+     * @param options combined configuration properties and request parameters
+     * @param optionName name of the option
+     * @param defaultValue value to use if the option is not set
+     * @return option value
+     */
+    private String getStringOption(Map<String, String> options,
+                                   String              optionName,
+                                   String              defaultValue)
+    {
+        String optionValue = options.get(optionName);
+
+        if ((optionValue == null) || (optionValue.isBlank()))
+        {
+            return defaultValue;
+        }
+
+        return optionValue.trim();
+    }
+
+
+    /**
+     * Return the value of a comma separated option as a list.
+     *
+     * @param options combined configuration properties and request parameters
+     * @param optionName name of the option
+     * @return list of values or null if the option is not set
+     */
+    private List<String> getListOption(Map<String, String> options,
+                                       String              optionName)
+    {
+        String optionValue = getStringOption(options, optionName, null);
+
+        if (optionValue == null)
+        {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+
+        for (String value : Arrays.asList(optionValue.split(",")))
+        {
+            if (! value.isBlank())
+            {
+                values.add(value.trim());
+            }
+        }
+
+        return values.isEmpty() ? null : values;
+    }
+
+
+    /**
+     * Return the value of a numeric option.
+     *
+     * @param options combined configuration properties and request parameters
+     * @param optionName name of the option
+     * @param defaultValue value to use if the option is not set or is not a positive number
+     * @return option value
+     */
+    private int getIntOption(Map<String, String> options,
+                             String              optionName,
+                             int                 defaultValue)
+    {
+        String optionValue = getStringOption(options, optionName, null);
+
+        if (optionValue != null)
+        {
+            try
+            {
+                int value = Integer.parseInt(optionValue);
+
+                if (value > 0)
+                {
+                    return value;
+                }
+            }
+            catch (NumberFormatException error)
+            {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Record the completion status of the service with the context.
+     *
+     * @param completionStatus status
+     * @param outputGuard guard for the next actions
+     * @param newRequestParameters request parameters for the next actions
+     * @param completionMessage description of the result
+     * @throws ConnectorCheckedException unable to record the status
+     */
+    private void recordCompletionStatus(CompletionStatus    completionStatus,
+                                        String              outputGuard,
+                                        Map<String, String> newRequestParameters,
+                                        String              completionMessage) throws ConnectorCheckedException
+    {
+        final String methodName = "recordCompletionStatus";
+
+        try
+        {
+            repositoryGovernanceContext.recordCompletionStatus(completionStatus,
+                                                               Collections.singletonList(outputGuard),
+                                                               newRequestParameters,
+                                                               null,
+                                                               completionMessage);
+        }
+        catch (OCFCheckedExceptionBase error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    DynamicArchiverConnectorsAuditCode.UNABLE_TO_SET_COMPLETION_STATUS.getMessageDefinition(repositoryGovernanceServiceName,
+                                                                                                                            error.getClass().getName(),
+                                                                                                                            error.getMessage()));
+            }
+
+            throw new ConnectorCheckedException(error.getReportedErrorMessage(), error);
+        }
+    }
+
+
+    /**
+     * PageTracker steps through the pages of a scan and selects the instances that belong in the archive based on their
+     * home repository and change time.  For a delta archive, the scan stops at the first page where every instance
+     * was last changed before the changesSince time, provided the repository is returning the instances
+     * in the order of their change time.
+     */
+    private class PageTracker
+    {
+        private int     startFrom         = 0;
+        private long    lastChangeTime    = Long.MAX_VALUE;
+        private boolean orderedByChange   = true;
+        private boolean pageHasNewChanges = false;
+
+
+        /**
+         * Return the starting element for the next page.
+         *
+         * @return offset
+         */
+        int getStartFrom()
+        {
+            return startFrom;
+        }
+
+
+        /**
+         * Determine whether an instance belongs in the archive and track the change times of the page.
+         *
+         * @param instance instance from the page
+         * @return boolean flag
+         */
+        boolean checkInstance(InstanceAuditHeader instance)
+        {
+            if (instance == null)
+            {
+                return false;
+            }
+
+            long changeTime = getChangeTime(instance);
+
+            if (changeTime > lastChangeTime)
+            {
+                orderedByChange = false;
+            }
+            lastChangeTime = changeTime;
+
+            if ((changesSince != null) && (changeTime > changesSince))
+            {
+                pageHasNewChanges = true;
+            }
+
+            if ((localInstancesOnly) && (! localMetadataCollectionId.equals(instance.getMetadataCollectionId())))
+            {
+                return false;
+            }
+
+            /*
+             * When the repository could not return the instances as of the snapshot time, instances changed since the
+             * snapshot started are skipped.
+             */
+            if ((! asOfTimeSupported) && (changeTime > snapshotTime.getTime()))
+            {
+                return false;
+            }
+
+            return (changesSince == null) || (changeTime > changesSince);
+        }
+
+
+        /**
+         * Determine whether the scan is complete and step to the next page.
+         *
+         * @param page page just processed
+         * @return boolean flag
+         */
+        boolean isLastPage(List<?> page)
+        {
+            boolean lastPage = (page == null) || (page.size() < pageSize) ||
+                               ((changesSince != null) && (orderedByChange) && (! pageHasNewChanges));
+
+            startFrom         = startFrom + pageSize;
+            pageHasNewChanges = false;
+
+            return lastPage;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.dynamicarchivers.snapshot;
+
+
+import org.odpi.openmetadata.adapters.connectors.dynamicarchivers.DynamicArchiveProvider;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+
+import java.util.ArrayList;
+
+/**
+ * RepositorySnapshotArchiverProvider is the OCF connector provider for the Repository Snapshot Archive Service.
+ * This is an Archive Service as defined by the Repository Governance OMES.
+ */
+public class RepositorySnapshotArchiverProvider extends DynamicArchiveProvider
+{
+    private static final String  connectorTypeGUID          = "e63701c1-1304-4b01-be0f-a552b092624c";
+    private static final String  connectorTypeQualifiedName = "Egeria:ArchiveService:RepositorySnapshot";
+    private static final String  connectorTypeDisplayName   = "Repository Snapshot Archive Service";
+    private static final String  connectorTypeDescription   = "Archive Service that writes a snapshot, or the changes since a point in time, of the " +
+                                                                      "local repository's instances to a chunked open metadata archive.";
+
+    static final String DELTA_REQUEST_TYPE = "delta";
+
+    static final String ARCHIVE_DIRECTORY_PROPERTY       = "archiveDirectory";
+    static final String TYPE_NAMES_PROPERTY              = "typeNames";
+    static final String ZONE_NAMES_PROPERTY              = "zoneNames";
+    static final String CHANGES_SINCE_PROPERTY           = "changesSince";
+    static final String PAGE_SIZE_PROPERTY               = "pageSize";
+    static final String SCAN_THREADS_PROPERTY            = "scanThreads";
+    static final String MAX_INSTANCES_PER_CHUNK_PROPERTY = "maxInstancesPerChunk";
+    static final String LOCAL_INSTANCES_ONLY_PROPERTY    = "localInstancesOnly";
+    static final String ARCHIVE_LOCATION_PROPERTY        = "archiveLocation";
+
+    private static final String connectorClassName = RepositorySnapshotArchiverConnector.class.getName();
+
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * store implementation as well as declare the parameters supported by the archive service.
+     */
+    public RepositorySnapshotArchiverProvider()
+    {
+        super();
+        super.setConnectorClassName(connectorClassName);
+
+        supportedRequestTypes.add(DELTA_REQUEST_TYPE);
+
+        supportedRequestParameters.add(ARCHIVE_DIRECTORY_PROPERTY);
+        supportedRequestParameters.add(TYPE_NAMES_PROPERTY);
+        supportedRequestParameters.add(ZONE_NAMES_PROPERTY);
+        supportedRequestParameters.add(CHANGES_SINCE_PROPERTY);
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeQualifiedName);
+        connectorType.setDisplayName(connectorTypeDisplayName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+        connectorType.setSupportedAssetTypeName(supportedAssetTypeName);
+
+        if (recognizedConfigurationProperties == null)
+        {
+            recognizedConfigurationProperties = new ArrayList<>();
+        }
+        recognizedConfigurationProperties.add(ARCHIVE_DIRECTORY_PROPERTY);
+        recognizedConfigurationProperties.add(TYPE_NAMES_PROPERTY);
+        recognizedConfigurationProperties.add(ZONE_NAMES_PROPERTY);
+        recognizedConfigurationProperties.add(PAGE_SIZE_PROPERTY);
+        recognizedConfigurationProperties.add(SCAN_THREADS_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_INSTANCES_PER_CHUNK_PROPERTY);
+        recognizedConfigurationProperties.add(LOCAL_INSTANCES_ONLY_PROPERTY);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
@@ -0,0 +1,7 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+/**
+ * Repository snapshot archiving service.  It writes a consistent snapshot, or the changes since an earlier snapshot,
+ * of the local repository's instances to a chunked open metadata archive.
+ */
+package org.odpi.openmetadata.adapters.connectors.dynamicarchivers.snapshot;
@@ -0,0 +1,235 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.dynamicarchivers.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the ChunkedArchiveWriter splits the instances into chunks that are each valid open metadata archives,
+ * with the type store in the first chunk and each chunk depending on the one before.
+ */
+public class ChunkedArchiveWriterTest
+{
+    private static final String archiveName = "TestSnapshot";
+
+    private File directory = null;
+
+
+    /**
+     * Create an empty directory for the archive.
+     *
+     * @throws IOException unable to create the directory
+     */
+    @BeforeMethod public void createDirectory() throws IOException
+    {
+        directory = Files.createTempDirectory("chunked-archive").toFile();
+    }
+
+
+    /**
+     * Remove the archive's directory.
+     *
+     * @throws IOException unable to remove the directory
+     */
+    @AfterMethod public void removeDirectory() throws IOException
+    {
+        try (Stream<Path> paths = Files.walk(directory.toPath()))
+        {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList())
+            {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+
+    /**
+     * Return the header properties for the test archive.
+     *
+     * @return archive properties
+     */
+    private OpenMetadataArchiveProperties getArchiveProperties()
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID("test-archive-guid");
+        archiveProperties.setArchiveName(archiveName);
+
+        return archiveProperties;
+    }
+
+
+    /**
+     * Return a list of entities with unique GUIDs.
+     *
+     * @param count number of entities
+     * @return list of entities
+     */
+    private List<EntityDetail> getEntities(int count)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID("entity-" + i);
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return a list of relationships with unique GUIDs.
+     *
+     * @param count number of relationships
+     * @return list of relationships
+     */
+    private List<Relationship> getRelationships(int count)
+    {
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID("relationship-" + i);
+            relationships.add(relationship);
+        }
+
+        return relationships;
+    }
+
+
+    /**
+     * The instances are split into chunks of the requested size, in the order they were added, and the chunks are linked.
+     *
+     * @throws IOException problem with the archive
+     */
+    @Test public void testChunks() throws IOException
+    {
+        ChunkedArchiveWriter writer = new ChunkedArchiveWriter(directory, archiveName, getArchiveProperties(), new OpenMetadataArchiveTypeStore(), 3);
+
+        writer.addEntities(getEntities(4));
+        writer.addRelationships(getRelationships(4));
+        writer.close();
+
+        assertEquals(writer.getEntityCount(), 4);
+        assertEquals(writer.getRelationshipCount(), 4);
+
+        List<File> chunkFiles = writer.getChunkFiles();
+
+        assertEquals(chunkFiles.size(), 3);
+
+        ObjectMapper        objectMapper = new ObjectMapper();
+        OpenMetadataArchive firstChunk   = objectMapper.readValue(chunkFiles.get(0), OpenMetadataArchive.class);
+        OpenMetadataArchive secondChunk  = objectMapper.readValue(chunkFiles.get(1), OpenMetadataArchive.class);
+        OpenMetadataArchive thirdChunk   = objectMapper.readValue(chunkFiles.get(2), OpenMetadataArchive.class);
+
+        assertNotNull(firstChunk.getArchiveTypeStore());
+        assertNull(secondChunk.getArchiveTypeStore());
+        assertEquals(firstChunk.getArchiveProperties().getArchiveGUID(), "test-archive-guid");
+        assertEquals(secondChunk.getArchiveProperties().getDependsOnArchives().get(0), "test-archive-guid");
+        assertEquals(thirdChunk.getArchiveProperties().getDependsOnArchives().get(0), secondChunk.getArchiveProperties().getArchiveGUID());
+
+        assertEquals(firstChunk.getArchiveInstanceStore().getEntities().size(), 3);
+        assertNull(firstChunk.getArchiveInstanceStore().getRelationships());
+        assertEquals(secondChunk.getArchiveInstanceStore().getEntities().get(0).getGUID(), "entity-3");
+        assertEquals(secondChunk.getArchiveInstanceStore().getRelationships().size(), 2);
+        assertEquals(thirdChunk.getArchiveInstanceStore().getRelationships().get(1).getGUID(), "relationship-3");
+
+        try (Stream<Path> paths = Files.list(directory.toPath()))
+        {
+            assertTrue(paths.noneMatch(path -> path.toString().endsWith(ChunkedArchiveWriter.tempFileSuffix)));
+        }
+    }
+
+
+    /**
+     * Entities that follow relationships start a new chunk, and an empty archive is written as a single chunk.
+     *
+     * @throws IOException problem with the archive
+     */
+    @Test public void testSectionsAndEmptyArchive() throws IOException
+    {
+        ChunkedArchiveWriter writer = new ChunkedArchiveWriter(directory, archiveName, getArchiveProperties(), null, 100);
+
+        writer.addEntities(getEntities(1));
+        writer.addRelationships(getRelationships(1));
+        writer.addEntities(getEntities(1));
+        writer.close();
+
+        assertEquals(writer.getChunkFiles().size(), 2);
+
+        ChunkedArchiveWriter emptyWriter = new ChunkedArchiveWriter(new File(directory, "empty"), archiveName, getArchiveProperties(), null, 100);
+
+        emptyWriter.close();
+
+        assertEquals(emptyWriter.getChunkFiles().size(), 1);
+
+        OpenMetadataArchive emptyArchive = new ObjectMapper().readValue(emptyWriter.getChunkFiles().get(0), OpenMetadataArchive.class);
+
+        assertEquals(emptyArchive.getArchiveProperties().getArchiveName(), archiveName);
+    }
+
+
+    /**
+     * A directory that already holds chunks for an archive of the same name is not overwritten.  Other archives
+     * can share the directory.
+     *
+     * @throws IOException problem with the archive
+     */
+    @Test public void testExistingChunksNotOverwritten() throws IOException
+    {
+        ChunkedArchiveWriter writer = new ChunkedArchiveWriter(directory, archiveName, getArchiveProperties(), null, 100);
+
+        writer.addEntities(getEntities(1));
+        writer.close();
+
+        try
+        {
+            new ChunkedArchiveWriter(directory, archiveName, getArchiveProperties(), null, 100);
+            fail("Existing chunks accepted");
+        }
+        catch (FileAlreadyExistsException error)
+        {
+            assertTrue(error.getMessage().contains(archiveName));
+        }
+
+        ChunkedArchiveWriter otherWriter = new ChunkedArchiveWriter(directory, "OtherArchive", getArchiveProperties(), null, 100);
+
+        otherWriter.close();
+
+        assertEquals(otherWriter.getChunkFiles().size(), 1);
+
+        OpenMetadataArchive firstArchive = new ObjectMapper().readValue(writer.getChunkFiles().get(0), OpenMetadataArchive.class);
+
+        assertEquals(firstArchive.getArchiveInstanceStore().getEntities().size(), 1);
+    }
+}
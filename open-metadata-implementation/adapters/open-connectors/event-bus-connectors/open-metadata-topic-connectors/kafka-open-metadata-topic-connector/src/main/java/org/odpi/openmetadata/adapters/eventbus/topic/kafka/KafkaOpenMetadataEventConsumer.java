@@ -14,6 +14,8 @@ import org.apache.kafka.clients.consumer.*;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.GaugeMetric;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,6 +73,10 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     private long countMessagesToProcess = 0;
     private long countMessagesFailedToProcess = 0;
 
+    // Number of records on the topic that the consumer has not yet received - published as a gauge
+    private volatile long consumerLag = 0;
+    private final GaugeMetric consumerLagGauge;
+
 
     /**
      * Constructor for the event consumer.
@@ -117,6 +123,10 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         long messageTimeoutMins = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.CONSUMER_EVENT_PROCESSING_TIMEOUT_MINS);
         this.messageProcessingTimeoutMs = messageTimeoutMins < 0 ? messageTimeoutMins : TimeUnit.MILLISECONDS.convert(messageTimeoutMins, TimeUnit.MINUTES);
 
+        this.consumerLagGauge = PerformanceMetrics.registerGauge(() -> consumerLag,
+                                                                 PerformanceMetrics.KAFKA_CONSUMER_LAG_METRIC,
+                                                                 "topic", topicName,
+                                                                 "serverId", localServerId);
     }
 
     private static boolean getBooleanProperty(Properties p, String name, boolean defaultValue) {
@@ -176,6 +186,8 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
 
                 final Duration pollDuration = Duration.ofMillis(pollTimeout);
                 final ConsumerRecords<String, String> records = consumer.poll(pollDuration);
+
+                updateConsumerLag();
                 
                 log.debug("Found records: {}", records.count());
                 for (ConsumerRecord<String, String> consumerRecord : records)
@@ -317,6 +329,28 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
 
     }
 
+    /**
+     * Total the lag of the assigned partitions using the positions returned by the last poll.
+     * This does not call the Kafka broker.
+     */
+    private void updateConsumerLag()
+    {
+        long totalLag = 0;
+
+        for (TopicPartition partition : consumer.assignment())
+        {
+            OptionalLong partitionLag = consumer.currentLag(partition);
+
+            if (partitionLag.isPresent())
+            {
+                totalLag = totalLag + partitionLag.getAsLong();
+            }
+        }
+
+        consumerLag = totalLag;
+    }
+
+
     private void addUnprocessedEvent(int partition, String topic, KafkaIncomingEvent event) {
         if (isAutoCommitEnabled) {
             return;
@@ -505,6 +539,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     {
         log.debug("Closing consumer");
         stopRunning();
+        PerformanceMetrics.removeMetric(consumerLagGauge);
 
         /*
          * Wake the thread up so it shuts down quicker.
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -81,6 +82,7 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 public class LineageGraphStorageService implements LineageGraph {
 
     private static final Logger log = LoggerFactory.getLogger(LineageGraphStorageService.class);
+    private static final int COMMIT_BATCH_SIZE = 100;
 
     private LineageGraphQueryService helper;
     private GraphHelper graphHelper;
@@ -99,7 +101,33 @@ public class LineageGraphStorageService implements LineageGraph {
      */
     @Override
     public void storeToGraph(Set<GraphContext> graphContext) {
-        graphContext.stream().map(this::getGraphRelationship).forEach(this::storeRelationship);
+        List<GraphRelationship> relationships = graphContext.stream().map(this::getGraphRelationship).collect(Collectors.toList());
+        commitInBatches(this::upsertToGraph, relationships, this::storeRelationship);
+    }
+
+    /**
+     * Applies the consumer to the items, committing up to COMMIT_BATCH_SIZE items in each transaction.
+     * If a batch fails it is rolled back and its items are committed one at a time so that the item
+     * in error is reported through the error handling of the single commit.
+     *
+     * @param consumer     the graph operation for a single item
+     * @param items        the items to apply
+     * @param singleCommit commits a single item and handles its errors
+     * @param <T>          type of the items
+     */
+    <T> void commitInBatches(BiConsumer<GraphTraversalSource, T> consumer, List<T> items, Consumer<T> singleCommit) {
+        for (int start = 0; start < items.size(); start += COMMIT_BATCH_SIZE) {
+            List<T> batch = items.subList(start, Math.min(items.size(), start + COMMIT_BATCH_SIZE));
+            if (batch.size() == 1) {
+                singleCommit.accept(batch.get(0));
+                continue;
+            }
+            BiConsumer<GraphTraversalSource, List<T>> batchConsumer = (g, batchItems) -> batchItems.forEach(item -> consumer.accept(g, item));
+            graphHelper.commit(batchConsumer, batch, e -> {
+                log.debug("Batch of {} graph changes failed, committing them one at a time", batch.size(), e);
+                batch.forEach(singleCommit);
+            });
+        }
     }
 
     private GraphRelationship getGraphRelationship(GraphContext entry) {
@@ -357,7 +385,9 @@ public class LineageGraphStorageService implements LineageGraph {
      */
     @Override
     public void updateClassification(Set<GraphContext> classificationContext) {
-        classificationContext.forEach(context -> this.graphHelper.commit(this::updateClassification, context, this::handleUpdateClassificationException));
+        BiConsumer<GraphTraversalSource, GraphContext> updateClassification = this::updateClassification;
+        commitInBatches(updateClassification, new ArrayList<>(classificationContext),
+                context -> graphHelper.commit(updateClassification, context, this::handleUpdateClassificationException));
     }
 
     private void updateClassification(GraphTraversalSource g, GraphContext graphContext) {
@@ -390,7 +420,8 @@ public class LineageGraphStorageService implements LineageGraph {
     @Override
     public void deleteClassification(Set<GraphContext> classificationContext) {
         BiConsumer<GraphTraversalSource, GraphContext> deleteClassification = this::deleteClassification;
-        classificationContext.forEach(classification -> graphHelper.commit(deleteClassification, classification, this::handleDeleteClassificationException));
+        commitInBatches(deleteClassification, new ArrayList<>(classificationContext),
+                classification -> graphHelper.commit(deleteClassification, classification, this::handleDeleteClassificationException));
     }
 
     private void deleteClassification(GraphTraversalSource g, GraphContext context) {
@@ -0,0 +1,110 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verify how LineageGraphStorageService groups graph changes into transactions.  The graph helper is a mock that
+ * commits the consumer's changes, or passes its exception to the error handler as the real helper does after
+ * rolling back.
+ */
+public class LineageGraphStorageServiceTest {
+
+    private final List<List<Integer>> committedBatches = new ArrayList<>();
+    private final List<Integer> appliedItems = new ArrayList<>();
+    private final List<Integer> singleCommits = new ArrayList<>();
+
+    private LineageGraphStorageService storageService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        GraphHelper graphHelper = mock(GraphHelper.class);
+        GraphTraversalSource g = mock(GraphTraversalSource.class);
+
+        doAnswer(invocation -> {
+            BiConsumer<GraphTraversalSource, Object> consumer = invocation.getArgument(0);
+            Object argument = invocation.getArgument(1);
+            Consumer<Exception> errorHandler = invocation.getArgument(2);
+            List<Integer> itemsBeforeCommit = new ArrayList<>(appliedItems);
+            try {
+                consumer.accept(g, argument);
+                if (argument instanceof List) {
+                    committedBatches.add(new ArrayList<>((List<Integer>) argument));
+                }
+            } catch (Exception e) {
+                appliedItems.clear();
+                appliedItems.addAll(itemsBeforeCommit);
+                errorHandler.accept(e);
+            }
+            return null;
+        }).when(graphHelper).commit(any(BiConsumer.class), any(), any(Consumer.class));
+
+        storageService = new LineageGraphStorageService(graphHelper, null);
+    }
+
+    @Test
+    public void testPartialFinalBatch() {
+        storageService.commitInBatches(this::apply, items(250), singleCommits::add);
+
+        assertEquals(3, committedBatches.size());
+        assertEquals(items(100), committedBatches.get(0));
+        assertEquals(100, committedBatches.get(1).size());
+        assertEquals(IntStream.range(200, 250).boxed().collect(Collectors.toList()), committedBatches.get(2));
+        assertEquals(items(250), appliedItems);
+        assertTrue(singleCommits.isEmpty());
+    }
+
+    @Test
+    public void testFinalBatchOfOneIsCommittedSingly() {
+        storageService.commitInBatches(this::apply, items(201), singleCommits::add);
+
+        assertEquals(2, committedBatches.size());
+        assertEquals(List.of(200), singleCommits);
+    }
+
+    @Test
+    public void testFailureMidBatchCommitsThatBatchOneItemAtATime() {
+        List<Integer> failingBatch = IntStream.range(100, 200).boxed().collect(Collectors.toList());
+
+        storageService.commitInBatches((g, item) -> {
+            if (item == 150) {
+                throw new IllegalStateException("Item " + item + " can not be stored");
+            }
+            apply(g, item);
+        }, items(250), singleCommits::add);
+
+        // the failed batch is rolled back so none of its changes are kept
+        assertEquals(2, committedBatches.size());
+        assertEquals(items(100), committedBatches.get(0));
+        assertEquals(IntStream.range(200, 250).boxed().collect(Collectors.toList()), committedBatches.get(1));
+        assertTrue(appliedItems.stream().noneMatch(failingBatch::contains));
+
+        // every item in the failed batch, including the one in error, is retried on its own and in order
+        assertEquals(failingBatch, singleCommits);
+    }
+
+    private void apply(GraphTraversalSource g, Integer item) {
+        appliedItems.add(item);
+    }
+
+    private static List<Integer> items(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+}
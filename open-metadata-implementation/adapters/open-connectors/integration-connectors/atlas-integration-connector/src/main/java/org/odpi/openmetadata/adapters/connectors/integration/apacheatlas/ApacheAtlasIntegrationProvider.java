@@ -202,6 +202,22 @@ public class ApacheAtlasIntegrationProvider extends IntegrationConnectorProvider
      */
     public static final String RELATED_RELATIONSHIP_IGNORE_LIST_CONFIGURATION_PROPERTY     = "relatedRelationshipIgnoreList";
 
+    /**
+     * The pageFetchConcurrency configuration property sets the number of pages of Apache Atlas entities that are retrieved
+     * at the same time when the connector sweeps through the entities of a particular type.  The entities in each page are
+     * still processed in order, one at a time.  If this value is not set, or is set to 1, pages are retrieved one after another.
+     */
+    public static final String PAGE_FETCH_CONCURRENCY_CONFIGURATION_PROPERTY = "pageFetchConcurrency";
+
+    /**
+     * The fullSynchronizationInterval configuration property sets the number of minutes between full synchronizations of
+     * the entities retrieved from Apache Atlas.  Between full synchronizations, a refresh only retrieves the entities that Apache
+     * Atlas has created or updated since the previous refresh.  Entities that have been deleted in Apache Atlas are not
+     * returned by these searches, so they are reconciled at the next full synchronization.  If this value is not set,
+     * or is set to 0, every refresh is a full synchronization.
+     */
+    public static final String FULL_SYNCHRONIZATION_INTERVAL_CONFIGURATION_PROPERTY = "fullSynchronizationInterval";
+
     /**
      * Constructor used to initialize the ConnectorProvider with the Java class name of the specific
      * store implementation.
@@ -238,6 +254,8 @@ public class ApacheAtlasIntegrationProvider extends IntegrationConnectorProvider
         recognizedConfigurationProperties.add(RELATED_CLASSIFICATION_IGNORE_LIST_CONFIGURATION_PROPERTY);
         recognizedConfigurationProperties.add(RELATED_ENTITY_POLICY_CONFIGURATION_PROPERTY);
         recognizedConfigurationProperties.add(RELATED_RELATIONSHIP_IGNORE_LIST_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(PAGE_FETCH_CONCURRENCY_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(FULL_SYNCHRONIZATION_INTERVAL_CONFIGURATION_PROPERTY);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
@@ -425,6 +425,15 @@ public enum ApacheAtlasAuditCode implements AuditLogMessageSet
                                    "The connector will retry the calls to process related elements on the next refresh.  These related elements are used to augment the metadata attached to the corresponding Apache Atlas entity.",
                                    "Use the information in the exception to determine why it is not possible to process the related elements."),
 
+    /**
+     * APACHE-ATLAS-INTEGRATION-CONNECTOR-0055 - The {0} integration connector processed {1} {2} entities from Apache Atlas during a {3} synchronization in {4} milliseconds using {5} concurrent page requests
+     */
+    ATLAS_ENTITY_SWEEP_COMPLETE("APACHE-ATLAS-INTEGRATION-CONNECTOR-0055",
+                                OMRSAuditLogRecordSeverity.INFO,
+                                "The {0} integration connector processed {1} {2} entities from Apache Atlas during a {3} synchronization in {4} milliseconds using {5} concurrent page requests",
+                                "The connector has retrieved and processed the entities of this type.  An incremental synchronization only retrieves the entities that have changed since the previous synchronization.",
+                                "No action is required.  Use the pageFetchConcurrency and fullSynchronizationInterval configuration properties to adjust the cost of each refresh."),
+
     ;
 
 
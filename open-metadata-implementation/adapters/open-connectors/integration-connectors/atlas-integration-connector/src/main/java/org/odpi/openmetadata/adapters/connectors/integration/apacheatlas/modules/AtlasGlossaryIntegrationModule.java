@@ -18,7 +18,6 @@ import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.Ap
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasErrorCode;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.ApacheAtlasRESTConnector;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntity;
-import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntityHeader;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntityWithExtInfo;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasObjectId;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasRelationship;
@@ -240,53 +239,35 @@ public class AtlasGlossaryIntegrationModule extends AtlasRegisteredIntegrationMo
                  * The Atlas Glossaries are retrieved one at a time. The aim is to look for new glossaries in Apache Atlas that have no presence in
                  * the open metadata ecosystem.
                  */
-                boolean requestedAtlasGlossaryMissing = (atlasGlossaryName != null);
+                List<AtlasEntityWithExtInfo> processedAtlasGlossaries = new ArrayList<>();
 
-                int startFrom = 0;
-                int pageSize  = myContext.getMaxPageSize();
-
-                List<AtlasEntityHeader> atlasSearchResult = atlasClient.getEntitiesForType(atlasGlossaryTypeName, startFrom, pageSize);
-
-                while ((atlasSearchResult != null) && (! atlasSearchResult.isEmpty()))
+                this.processAtlasEntitiesForType(atlasGlossaryTypeName,
+                                                 new String[]{atlasGlossaryTermTypeName, atlasGlossaryCategoryTypeName},
+                                                 atlasGlossaryEntity ->
                 {
-                    /*
-                     * Found new databases - process each one in turn.
-                     */
-                    for (AtlasEntityHeader atlasEntityHeader : atlasSearchResult)
+                    if (atlasGlossaryName == null)
                     {
-                        String atlasGlossaryGUID = atlasEntityHeader.getGuid();
-
-                        AtlasEntityWithExtInfo atlasGlossaryEntity = atlasClient.getEntityByGUID(atlasGlossaryGUID);
-
-                        if (atlasGlossaryName == null)
-                        {
-                            /*
-                             * The connector is configured to synchronize all Atlas glossaries.
-                             */
-                            this.processGlossaryFromAtlas(atlasGlossaryEntity);
-                        }
-                        else if (atlasGlossaryName.equals(this.getAtlasStringProperty(atlasGlossaryEntity.getEntity().getAttributes(), atlasNamePropertyName)))
-                        {
-                            /*
-                             * The specifically requested glossary has been found.
-                             */
-                            this.processGlossaryFromAtlas(atlasGlossaryEntity);
-                            requestedAtlasGlossaryMissing = false;
-                        }
-
                         /*
-                         * Retrieve the next page
+                         * The connector is configured to synchronize all Atlas glossaries.
                          */
-                        startFrom = startFrom + pageSize;
-                        atlasSearchResult = atlasClient.getEntitiesForType(atlasGlossaryTypeName, startFrom, pageSize);
+                        this.processGlossaryFromAtlas(atlasGlossaryEntity);
                     }
-                }
+                    else if (atlasGlossaryName.equals(this.getAtlasStringProperty(atlasGlossaryEntity.getEntity().getAttributes(), atlasNamePropertyName)))
+                    {
+                        /*
+                         * The specifically requested glossary has been found.
+                         */
+                        this.processGlossaryFromAtlas(atlasGlossaryEntity);
+                        processedAtlasGlossaries.add(atlasGlossaryEntity);
+                    }
+                });
 
                 /*
                  * This message means that the specifically requested Atlas glossary has not been found.
-                 * The connector will try again on the next refresh.
+                 * The connector will try again on the next refresh.  With incremental synchronization, the requested glossary
+                 * is only retrieved if it has changed, so the message is only logged after a full synchronization.
                  */
-                if (requestedAtlasGlossaryMissing)
+                if ((atlasGlossaryName != null) && (processedAtlasGlossaries.isEmpty()) && (this.isLastSynchronizationFull(atlasGlossaryTypeName)))
                 {
                     if (auditLog != null)
                     {
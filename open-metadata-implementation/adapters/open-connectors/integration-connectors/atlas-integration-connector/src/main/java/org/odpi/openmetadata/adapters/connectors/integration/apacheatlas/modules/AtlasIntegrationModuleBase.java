@@ -14,6 +14,7 @@ import org.odpi.openmetadata.accessservices.assetmanager.properties.ProcessPrope
 import org.odpi.openmetadata.accessservices.assetmanager.properties.SchemaAttributeProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.SchemaTypeProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.SynchronizationDirection;
+import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ApacheAtlasIntegrationProvider;
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasErrorCode;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.ApacheAtlasRESTConnector;
@@ -47,6 +48,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * AtlasIntegrationModuleBase defines the interface that classes that support the synchronization of particular types of metadata with Apache Atlas.
@@ -92,6 +97,12 @@ public abstract class AtlasIntegrationModuleBase
     private final static String egeriaNameMappingPropertyName = "lastKnownEgeriaDisplayName";
     private final static String modulePropertyName            = "originator";
 
+    /*
+     * The high-water mark for incremental synchronization is moved back by this number of milliseconds to allow for
+     * differences between the clocks of this server and Apache Atlas.
+     */
+    private final static long highWaterMarkOverlap = 60000L;
+
     protected final AuditLog                 auditLog;
     protected final String                   connectorName;
     protected final String                   moduleName;
@@ -107,6 +118,12 @@ public abstract class AtlasIntegrationModuleBase
     protected final CollaborationExchangeService collaborationExchangeService;
     protected final OpenMetadataAccess           openMetadataAccess;
 
+    private final int               pageFetchConcurrency;
+    private final long              fullSynchronizationInterval;
+    private final Map<String, Long> highWaterMarks                 = new HashMap<>();
+    private final Map<String, Long> lastFullSynchronizationTimes   = new HashMap<>();
+    private final Set<String>       incrementallySynchronizedTypes = new HashSet<>();
+
 
 
     /**
@@ -145,6 +162,9 @@ public abstract class AtlasIntegrationModuleBase
         this.collaborationExchangeService = myContext.getCollaborationExchangeService();
         this.openMetadataAccess = myContext.getIntegrationGovernanceContext().getOpenMetadataAccess();
 
+        this.pageFetchConcurrency = (int)this.getNumericConfigurationProperty(ApacheAtlasIntegrationProvider.PAGE_FETCH_CONCURRENCY_CONFIGURATION_PROPERTY, 1);
+        this.fullSynchronizationInterval = this.getNumericConfigurationProperty(ApacheAtlasIntegrationProvider.FULL_SYNCHRONIZATION_INTERVAL_CONFIGURATION_PROPERTY, 0) * 60000L;
+
         /*
          * Deduplication is turned off so that the connector works with the entities it created rather than
          * entities from other systems that have been linked as duplicates.
@@ -156,6 +176,336 @@ public abstract class AtlasIntegrationModuleBase
 
 
 
+    /**
+     * Return the numeric value of a configuration property.
+     *
+     * @param propertyName name of the configuration property
+     * @param defaultValue value to use if the property is not set or is not a number
+     * @return property value
+     */
+    private long getNumericConfigurationProperty(String propertyName,
+                                                 long   defaultValue)
+    {
+        if ((connectionProperties != null) && (connectionProperties.getConfigurationProperties() != null))
+        {
+            Object propertyValue = connectionProperties.getConfigurationProperties().get(propertyName);
+
+            if (propertyValue != null)
+            {
+                try
+                {
+                    return Long.parseLong(propertyValue.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    return defaultValue;
+                }
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+
+    /* ================================================================
+     * Retrieve entities from Apache Atlas
+     */
+
+    /**
+     * AtlasEntityProcessor is implemented by the modules to process each entity retrieved by processAtlasEntitiesForType.
+     */
+    protected interface AtlasEntityProcessor
+    {
+        /**
+         * Synchronize an entity retrieved from Apache Atlas.
+         *
+         * @param atlasEntity entity retrieved from Apache Atlas
+         * @throws InvalidParameterException invalid parameter - probably a logic error
+         * @throws UserNotAuthorizedException security problem
+         * @throws PropertyServerException unable to communicate with Egeria or Apache Atlas
+         */
+        void processAtlasEntity(AtlasEntityWithExtInfo atlasEntity) throws InvalidParameterException,
+                                                                           UserNotAuthorizedException,
+                                                                           PropertyServerException;
+    }
+
+
+    /**
+     * Retrieve the entities of the requested type from Apache Atlas and pass each one to the processor.
+     * If the pageFetchConcurrency configuration property is greater than one, that number of pages (along with the
+     * full entity for each header in the page) are retrieved at the same time.  The entities are passed to the processor
+     * one at a time, in page order, on the caller's thread.
+     * <br><br>
+     * If the fullSynchronizationInterval configuration property is set and this type has been fully synchronized within
+     * that interval, only the entities that Apache Atlas has updated since the previous sweep are retrieved.  The processor
+     * often synchronizes related entities too (such as the tables of a database) and Apache Atlas does not always update
+     * an entity when its related entities change.  Therefore, if any entity of one of the related types has been updated
+     * since the previous sweep, all entities of the requested type are retrieved.
+     * <br><br>
+     * The high-water mark is the start time of the previous sweep, less highWaterMarkOverlap to allow for differences
+     * between the clocks of this server and Apache Atlas.  It is only advanced once a sweep completes without error,
+     * so a failed sweep is repeated in full on the next refresh.
+     *
+     * @param atlasTypeName name of the type of entity to retrieve from Apache Atlas
+     * @param relatedAtlasTypeNames names of the types of the related entities that are synchronized by the processor (may be null)
+     * @param processor processor for each entity
+     * @throws InvalidParameterException invalid parameter - probably a logic error
+     * @throws UserNotAuthorizedException security problem
+     * @throws PropertyServerException unable to communicate with Egeria or Apache Atlas
+     */
+    protected void processAtlasEntitiesForType(String               atlasTypeName,
+                                               String[]             relatedAtlasTypeNames,
+                                               AtlasEntityProcessor processor) throws InvalidParameterException,
+                                                                                      UserNotAuthorizedException,
+                                                                                      PropertyServerException
+    {
+        final String methodName = "processAtlasEntitiesForType(" + atlasTypeName + ")";
+
+        long startTime = System.currentTimeMillis();
+        int  pageSize  = myContext.getMaxPageSize();
+
+        Long highWaterMark           = highWaterMarks.get(atlasTypeName);
+        Long lastFullSynchronization = lastFullSynchronizationTimes.get(atlasTypeName);
+
+        boolean fullSynchronization = (fullSynchronizationInterval <= 0) ||
+                                      (highWaterMark == null) ||
+                                      (lastFullSynchronization == null) ||
+                                      (startTime - lastFullSynchronization >= fullSynchronizationInterval);
+
+        if ((! fullSynchronization) && (relatedAtlasTypeNames != null))
+        {
+            for (String relatedAtlasTypeName : relatedAtlasTypeNames)
+            {
+                List<AtlasEntityHeader> relatedChanges = atlasClient.getEntitiesForType(relatedAtlasTypeName, highWaterMark, 0, 1);
+
+                if ((relatedChanges != null) && (! relatedChanges.isEmpty()))
+                {
+                    fullSynchronization = true;
+                    break;
+                }
+            }
+        }
+
+        int entityCount = 0;
+
+        ExecutorService pageFetcher = null;
+
+        if (pageFetchConcurrency > 1)
+        {
+            pageFetcher = Executors.newFixedThreadPool(pageFetchConcurrency,
+                                                       runnable ->
+                                                       {
+                                                           Thread thread = new Thread(runnable, connectorName + ":" + moduleName + ":AtlasPageFetcher");
+                                                           thread.setDaemon(true);
+                                                           return thread;
+                                                       });
+        }
+
+        try
+        {
+            int     startFrom = 0;
+            boolean morePages = true;
+
+            while (morePages)
+            {
+                List<List<AtlasEntityWithExtInfo>> pages = this.getAtlasEntityPages(pageFetcher,
+                                                                                    atlasTypeName,
+                                                                                    fullSynchronization ? null : highWaterMark,
+                                                                                    startFrom,
+                                                                                    pageSize,
+                                                                                    methodName);
+
+                for (List<AtlasEntityWithExtInfo> page : pages)
+                {
+                    if (page == null)
+                    {
+                        morePages = false;
+                        break;
+                    }
+
+                    for (AtlasEntityWithExtInfo atlasEntity : page)
+                    {
+                        processor.processAtlasEntity(atlasEntity);
+                        entityCount++;
+                    }
+                }
+
+                startFrom = startFrom + (pages.size() * pageSize);
+            }
+        }
+        finally
+        {
+            if (pageFetcher != null)
+            {
+                pageFetcher.shutdownNow();
+            }
+        }
+
+        highWaterMarks.put(atlasTypeName, startTime - highWaterMarkOverlap);
+
+        if (fullSynchronization)
+        {
+            lastFullSynchronizationTimes.put(atlasTypeName, startTime);
+            incrementallySynchronizedTypes.remove(atlasTypeName);
+        }
+        else
+        {
+            incrementallySynchronizedTypes.add(atlasTypeName);
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                ApacheAtlasAuditCode.ATLAS_ENTITY_SWEEP_COMPLETE.getMessageDefinition(connectorName,
+                                                                                                      Integer.toString(entityCount),
+                                                                                                      atlasTypeName,
+                                                                                                      fullSynchronization ? "full" : "incremental",
+                                                                                                      Long.toString(System.currentTimeMillis() - startTime),
+                                                                                                      Integer.toString(Math.max(pageFetchConcurrency, 1))));
+        }
+    }
+
+
+    /**
+     * Return whether the most recent call to processAtlasEntitiesForType for the type retrieved all of its entities.
+     *
+     * @param atlasTypeName name of the type of entity retrieved from Apache Atlas
+     * @return boolean flag
+     */
+    protected boolean isLastSynchronizationFull(String atlasTypeName)
+    {
+        return ! incrementallySynchronizedTypes.contains(atlasTypeName);
+    }
+
+
+    /**
+     * Retrieve the next pages of entities.  Without a page fetcher, a single page is retrieved on the caller's thread.
+     * Otherwise, pageFetchConcurrency consecutive pages are retrieved at the same time.
+     *
+     * @param pageFetcher thread pool to retrieve the pages (or null)
+     * @param atlasTypeName name of the type of entity to retrieve from Apache Atlas
+     * @param updatedSince time in milliseconds of the earliest update to retrieve (null means retrieve all entities)
+     * @param startFrom offset of the first page
+     * @param pageSize size of each page
+     * @param methodName calling method
+     * @return list of pages in order - a null page means there are no more entities
+     * @throws PropertyServerException unable to communicate with Apache Atlas
+     */
+    private List<List<AtlasEntityWithExtInfo>> getAtlasEntityPages(ExecutorService pageFetcher,
+                                                                   String          atlasTypeName,
+                                                                   Long            updatedSince,
+                                                                   int             startFrom,
+                                                                   int             pageSize,
+                                                                   String          methodName) throws PropertyServerException
+    {
+        List<List<AtlasEntityWithExtInfo>> pages = new ArrayList<>();
+
+        if (pageFetcher == null)
+        {
+            pages.add(this.getAtlasEntityPage(atlasTypeName, updatedSince, startFrom, pageSize));
+
+            return pages;
+        }
+
+        List<Future<List<AtlasEntityWithExtInfo>>> pageRequests = new ArrayList<>();
+
+        for (int pageNumber = 0; pageNumber < pageFetchConcurrency; pageNumber++)
+        {
+            final int pageStartFrom = startFrom + (pageNumber * pageSize);
+
+            pageRequests.add(pageFetcher.submit(() -> this.getAtlasEntityPage(atlasTypeName, updatedSince, pageStartFrom, pageSize)));
+        }
+
+        try
+        {
+            for (Future<List<AtlasEntityWithExtInfo>> pageRequest : pageRequests)
+            {
+                pages.add(pageRequest.get());
+            }
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof PropertyServerException propertyServerException)
+            {
+                throw propertyServerException;
+            }
+
+            throw new PropertyServerException(ApacheAtlasErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                             error.getCause().getClass().getName(),
+                                                                                                             methodName,
+                                                                                                             error.getCause().getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error.getCause());
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new PropertyServerException(ApacheAtlasErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                             error.getClass().getName(),
+                                                                                                             methodName,
+                                                                                                             error.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error);
+        }
+        finally
+        {
+            for (Future<List<AtlasEntityWithExtInfo>> pageRequest : pageRequests)
+            {
+                pageRequest.cancel(true);
+            }
+        }
+
+        return pages;
+    }
+
+
+    /**
+     * Retrieve a page of entity headers from Apache Atlas along with the full entity for each header.
+     *
+     * @param atlasTypeName name of the type of entity to retrieve from Apache Atlas
+     * @param updatedSince time in milliseconds of the earliest update to retrieve (null means retrieve all entities)
+     * @param startFrom offset of the page
+     * @param pageSize size of the page
+     * @return list of entities or null if there are no more entities
+     * @throws PropertyServerException unable to communicate with Apache Atlas
+     */
+    private List<AtlasEntityWithExtInfo> getAtlasEntityPage(String  atlasTypeName,
+                                                            Long    updatedSince,
+                                                            int     startFrom,
+                                                            int     pageSize) throws PropertyServerException
+    {
+        List<AtlasEntityHeader> atlasSearchResult;
+
+        if (updatedSince == null)
+        {
+            atlasSearchResult = atlasClient.getEntitiesForType(atlasTypeName, startFrom, pageSize);
+        }
+        else
+        {
+            atlasSearchResult = atlasClient.getEntitiesForType(atlasTypeName, updatedSince, startFrom, pageSize);
+        }
+
+        if ((atlasSearchResult == null) || (atlasSearchResult.isEmpty()))
+        {
+            return null;
+        }
+
+        List<AtlasEntityWithExtInfo> atlasEntities = new ArrayList<>();
+
+        for (AtlasEntityHeader atlasEntityHeader : atlasSearchResult)
+        {
+            atlasEntities.add(atlasClient.getEntityByGUID(atlasEntityHeader.getGuid()));
+        }
+
+        return atlasEntities;
+    }
+
+
+
     /* ================================================================
      * Determine which direction that metadata is flowing
      */
@@ -953,31 +1303,9 @@ public abstract class AtlasIntegrationModuleBase
         /*
          * Retrieve the data sets catalogued in Apache Atlas.  This is turned into an Open Metadata data set entity.
          */
-        int startFrom = 0;
-        int pageSize  = myContext.getMaxPageSize();
-
-        List<AtlasEntityHeader> atlasSearchResult = atlasClient.getEntitiesForType(atlasTypeName, startFrom, pageSize);
-
-        while ((atlasSearchResult != null) && (! atlasSearchResult.isEmpty()))
-        {
-            /*
-             * Found new datasets - process each one in turn.
-             */
-            for (AtlasEntityHeader atlasEntityHeader : atlasSearchResult)
-            {
-                String atlasDataSetGUID = atlasEntityHeader.getGuid();
-
-                AtlasEntityWithExtInfo atlasDataSetEntity = atlasClient.getEntityByGUID(atlasDataSetGUID);
-
-                this.syncAtlasDataSetAsDataSet(atlasDataSetEntity, atlasTypeName, egeriaTypeName);
-            }
-
-            /*
-             * Retrieve the next page
-             */
-            startFrom = startFrom + pageSize;
-            atlasSearchResult = atlasClient.getEntitiesForType(atlasTypeName, startFrom, pageSize);
-        }
+        this.processAtlasEntitiesForType(atlasTypeName,
+                                         null,
+                                         atlasDataSetEntity -> this.syncAtlasDataSetAsDataSet(atlasDataSetEntity, atlasTypeName, egeriaTypeName));
     }
 
 
@@ -11,7 +11,6 @@ import org.odpi.openmetadata.accessservices.assetmanager.properties.Synchronizat
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasErrorCode;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntity;
-import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntityHeader;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntityWithExtInfo;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.ApacheAtlasRESTConnector;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -112,114 +111,95 @@ public class AtlasLineageIntegrationModule extends AtlasIntegrationModuleBase
                 /*
                  * Retrieve the processes catalogued in Apache Atlas.  This is turned into an Open Metadata DeployedSoftwareComponent.
                  */
-                int startFrom = 0;
-                int pageSize  = myContext.getMaxPageSize();
-
-                List<AtlasEntityHeader> atlasSearchResult = atlasClient.getEntitiesForType(atlasProcessTypeName, startFrom, pageSize);
-
-                while ((atlasSearchResult != null) && (! atlasSearchResult.isEmpty()))
+                this.processAtlasEntitiesForType(atlasProcessTypeName,
+                                                 null,
+                                                 atlasProcessEntity ->
                 {
-                    /*
-                     * Found new process - work with each one in turn.
-                     */
-                    for (AtlasEntityHeader atlasEntityHeader : atlasSearchResult)
-                    {
-                        String atlasProcessGUID = atlasEntityHeader.getGuid();
+                    String egeriaProcessGUID = this.syncAtlasProcess(atlasProcessEntity);
 
-                        AtlasEntityWithExtInfo atlasProcessEntity = atlasClient.getEntityByGUID(atlasProcessGUID);
-
-                        String egeriaProcessGUID = this.syncAtlasProcess(atlasProcessEntity);
-
-                        if (egeriaProcessGUID != null)
+                    if (egeriaProcessGUID != null)
+                    {
+                        /*
+                         * Synchronize inputs to the process
+                         */
+                        if ((atlasProcessEntity != null) &&
+                                    (atlasProcessEntity.getEntity() != null) &&
+                                    (atlasProcessEntity.getEntity().getRelationshipAttributes() != null) &&
+                                    (atlasProcessEntity.getEntity().getRelationshipAttributes().get(atlasProcessInputsPropertyName) != null))
                         {
-                            /*
-                             * Synchronize inputs to the process
-                             */
-                            if ((atlasProcessEntity != null) &&
-                                        (atlasProcessEntity.getEntity() != null) &&
-                                        (atlasProcessEntity.getEntity().getRelationshipAttributes() != null) &&
-                                        (atlasProcessEntity.getEntity().getRelationshipAttributes().get(atlasProcessInputsPropertyName) != null))
-                            {
-                                List<AtlasEntityWithExtInfo> atlasInputDataSets = atlasClient.getRelatedEntities(atlasProcessEntity,
-                                                                                                                 atlasProcessInputsPropertyName);
+                            List<AtlasEntityWithExtInfo> atlasInputDataSets = atlasClient.getRelatedEntities(atlasProcessEntity,
+                                                                                                             atlasProcessInputsPropertyName);
 
-                                if (atlasInputDataSets != null)
+                            if (atlasInputDataSets != null)
+                            {
+                                for (AtlasEntityWithExtInfo atlasInputDataSet : atlasInputDataSets)
                                 {
-                                    for (AtlasEntityWithExtInfo atlasInputDataSet : atlasInputDataSets)
+                                    if ((atlasInputDataSet != null) && (atlasInputDataSet.getEntity() != null))
                                     {
-                                        if ((atlasInputDataSet != null) && (atlasInputDataSet.getEntity() != null))
-                                        {
-                                            String egeriaDataSetGUID = syncAtlasDataSetAsDataSet(atlasInputDataSet,
-                                                                                                 atlasInputDataSet.getEntity().getTypeName(),
-                                                                                                 egeriaDataSetTypeName);
-
-                                            /*
-                                             * Set up the lineage relationship
-                                             */
-                                            auditLog.logMessage(methodName,
-                                                                ApacheAtlasAuditCode.ADDING_LINEAGE.getMessageDefinition(connectorName,
-                                                                                                                         egeriaDataSetTypeName,
-                                                                                                                         egeriaDataSetGUID,
-                                                                                                                         egeriaProcessTypeName,
-                                                                                                                         egeriaProcessGUID));
-                                            lineageExchangeService.setupDataFlow(true,
-                                                                                 egeriaDataSetGUID,
-                                                                                 egeriaProcessGUID,
-                                                                                 null,
-                                                                                 null);
-                                        }
+                                        String egeriaDataSetGUID = syncAtlasDataSetAsDataSet(atlasInputDataSet,
+                                                                                             atlasInputDataSet.getEntity().getTypeName(),
+                                                                                             egeriaDataSetTypeName);
+
+                                        /*
+                                         * Set up the lineage relationship
+                                         */
+                                        auditLog.logMessage(methodName,
+                                                            ApacheAtlasAuditCode.ADDING_LINEAGE.getMessageDefinition(connectorName,
+                                                                                                                     egeriaDataSetTypeName,
+                                                                                                                     egeriaDataSetGUID,
+                                                                                                                     egeriaProcessTypeName,
+                                                                                                                     egeriaProcessGUID));
+                                        lineageExchangeService.setupDataFlow(true,
+                                                                             egeriaDataSetGUID,
+                                                                             egeriaProcessGUID,
+                                                                             null,
+                                                                             null);
                                     }
                                 }
                             }
+                        }
 
-                            /*
-                             * Synchronize outputs to the process
-                             */
-                            if ((atlasProcessEntity != null) &&
-                                        (atlasProcessEntity.getEntity() != null) &&
-                                        (atlasProcessEntity.getEntity().getRelationshipAttributes() != null) &&
-                                        (atlasProcessEntity.getEntity().getRelationshipAttributes().get(atlasProcessOutputsPropertyName) != null))
-                            {
-                                List<AtlasEntityWithExtInfo> atlasOutputDataSets = atlasClient.getRelatedEntities(atlasProcessEntity,
-                                                                                                                 atlasProcessOutputsPropertyName);
+                        /*
+                         * Synchronize outputs to the process
+                         */
+                        if ((atlasProcessEntity != null) &&
+                                    (atlasProcessEntity.getEntity() != null) &&
+                                    (atlasProcessEntity.getEntity().getRelationshipAttributes() != null) &&
+                                    (atlasProcessEntity.getEntity().getRelationshipAttributes().get(atlasProcessOutputsPropertyName) != null))
+                        {
+                            List<AtlasEntityWithExtInfo> atlasOutputDataSets = atlasClient.getRelatedEntities(atlasProcessEntity,
+                                                                                                             atlasProcessOutputsPropertyName);
 
-                                if (atlasOutputDataSets != null)
+                            if (atlasOutputDataSets != null)
+                            {
+                                for (AtlasEntityWithExtInfo atlasInputDataSet : atlasOutputDataSets)
                                 {
-                                    for (AtlasEntityWithExtInfo atlasInputDataSet : atlasOutputDataSets)
+                                    if ((atlasInputDataSet != null) && (atlasInputDataSet.getEntity() != null))
                                     {
-                                        if ((atlasInputDataSet != null) && (atlasInputDataSet.getEntity() != null))
-                                        {
-                                            String egeriaDataSetGUID = syncAtlasDataSetAsDataSet(atlasInputDataSet,
-                                                                                                 atlasInputDataSet.getEntity().getTypeName(),
-                                                                                                 egeriaDataSetTypeName);
-
-                                            /*
-                                             * Set up the lineage relationship
-                                             */
-                                            auditLog.logMessage(methodName,
-                                                                ApacheAtlasAuditCode.ADDING_LINEAGE.getMessageDefinition(connectorName,
-                                                                                                                         egeriaProcessTypeName,
-                                                                                                                         egeriaProcessGUID,
-                                                                                                                         egeriaDataSetTypeName,
-                                                                                                                         egeriaDataSetGUID));
-                                            lineageExchangeService.setupDataFlow(true,
-                                                                                 egeriaProcessGUID,
-                                                                                 egeriaDataSetGUID,
-                                                                                 null,
-                                                                                 null);
-                                        }
+                                        String egeriaDataSetGUID = syncAtlasDataSetAsDataSet(atlasInputDataSet,
+                                                                                             atlasInputDataSet.getEntity().getTypeName(),
+                                                                                             egeriaDataSetTypeName);
+
+                                        /*
+                                         * Set up the lineage relationship
+                                         */
+                                        auditLog.logMessage(methodName,
+                                                            ApacheAtlasAuditCode.ADDING_LINEAGE.getMessageDefinition(connectorName,
+                                                                                                                     egeriaProcessTypeName,
+                                                                                                                     egeriaProcessGUID,
+                                                                                                                     egeriaDataSetTypeName,
+                                                                                                                     egeriaDataSetGUID));
+                                        lineageExchangeService.setupDataFlow(true,
+                                                                             egeriaProcessGUID,
+                                                                             egeriaDataSetGUID,
+                                                                             null,
+                                                                             null);
                                     }
                                 }
                             }
                         }
                     }
-
-                    /*
-                     * Retrieve the next page
-                     */
-                    startFrom = startFrom + pageSize;
-                    atlasSearchResult = atlasClient.getEntitiesForType(atlasProcessTypeName, startFrom, pageSize);
-                }
+                });
             }
             catch (Exception error)
             {
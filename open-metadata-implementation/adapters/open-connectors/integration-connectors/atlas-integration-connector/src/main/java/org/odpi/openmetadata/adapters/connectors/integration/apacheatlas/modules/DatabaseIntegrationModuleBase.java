@@ -16,7 +16,6 @@ import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.Ap
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasErrorCode;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.ApacheAtlasRESTConnector;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntity;
-import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntityHeader;
 import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntityWithExtInfo;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
@@ -49,6 +48,7 @@ public abstract class DatabaseIntegrationModuleBase extends AtlasRegisteredInteg
     private final String atlasDatabaseTablesPropertyName;
     private final String atlasDatabaseTableTypeName;
     private final String atlasDatabaseColumnsPropertyName;
+    private final String atlasDatabaseColumnTypeName;
 
 
     /**
@@ -98,6 +98,7 @@ public abstract class DatabaseIntegrationModuleBase extends AtlasRegisteredInteg
         this.atlasDatabaseTablesPropertyName = atlasDatabaseTablesPropertyName;
         this.atlasDatabaseTableTypeName = atlasDatabaseTableTypeName;
         this.atlasDatabaseColumnsPropertyName = atlasDatabaseColumnsPropertyName;
+        this.atlasDatabaseColumnTypeName = atlasDatabaseColumnTypeName;
     }
 
 
@@ -124,86 +125,67 @@ public abstract class DatabaseIntegrationModuleBase extends AtlasRegisteredInteg
                 /*
                  * Retrieve the databases catalogued in Apache Atlas.  They are turned into an Open Metadata DeployedDatabaseSchema entities.
                  */
-                int startFrom = 0;
-                int pageSize  = myContext.getMaxPageSize();
-
-                List<AtlasEntityHeader> atlasSearchResult = atlasClient.getEntitiesForType(atlasDatabaseTypeName, startFrom, pageSize);
-
-                while ((atlasSearchResult != null) && (! atlasSearchResult.isEmpty()))
+                this.processAtlasEntitiesForType(atlasDatabaseTypeName,
+                                                 new String[]{atlasDatabaseTableTypeName, atlasDatabaseColumnTypeName},
+                                                 atlasDatabaseEntity ->
                 {
-                    /*
-                     * Found new databases - process each one in turn.
-                     */
-                    for (AtlasEntityHeader atlasEntityHeader : atlasSearchResult)
-                    {
-                        String atlasDatabaseGUID = atlasEntityHeader.getGuid();
+                    String egeriaDatabaseGUID = this.syncAtlasDatabase(atlasDatabaseEntity);
 
-                        AtlasEntityWithExtInfo atlasDatabaseEntity = atlasClient.getEntityByGUID(atlasDatabaseGUID);
-
-                        String egeriaDatabaseGUID = this.syncAtlasDatabase(atlasDatabaseEntity);
-
-                        if (egeriaDatabaseGUID != null)
+                    if (egeriaDatabaseGUID != null)
+                    {
+                        /*
+                         * Synchronize each table in turn
+                         */
+                        if ((atlasDatabaseEntity != null) &&
+                                    (atlasDatabaseEntity.getEntity() != null) &&
+                                    (atlasDatabaseEntity.getEntity().getRelationshipAttributes() != null) &&
+                                    (atlasDatabaseEntity.getEntity().getRelationshipAttributes().get(atlasDatabaseTablesPropertyName) != null))
                         {
-                            /*
-                             * Synchronize each table in turn
-                             */
-                            if ((atlasDatabaseEntity != null) &&
-                                        (atlasDatabaseEntity.getEntity() != null) &&
-                                        (atlasDatabaseEntity.getEntity().getRelationshipAttributes() != null) &&
-                                        (atlasDatabaseEntity.getEntity().getRelationshipAttributes().get(atlasDatabaseTablesPropertyName) != null))
-                            {
-                                List<AtlasEntityWithExtInfo> atlasDatabaseTables = atlasClient.getRelatedEntities(atlasDatabaseEntity,
-                                                                                                                  atlasDatabaseTablesPropertyName);
+                            List<AtlasEntityWithExtInfo> atlasDatabaseTables = atlasClient.getRelatedEntities(atlasDatabaseEntity,
+                                                                                                              atlasDatabaseTablesPropertyName);
 
-                                if (atlasDatabaseTables != null)
+                            if (atlasDatabaseTables != null)
+                            {
+                                for (AtlasEntityWithExtInfo atlasDatabaseTable : atlasDatabaseTables)
                                 {
-                                    for (AtlasEntityWithExtInfo atlasDatabaseTable : atlasDatabaseTables)
+                                    if ((atlasDatabaseTable != null) && (atlasDatabaseTable.getEntity() != null))
                                     {
-                                        if ((atlasDatabaseTable != null) && (atlasDatabaseTable.getEntity() != null))
-                                        {
-                                            String egeriaDatabaseTableGUID = syncAtlasDatabaseTable(atlasDatabaseTable, egeriaDatabaseGUID);
+                                        String egeriaDatabaseTableGUID = syncAtlasDatabaseTable(atlasDatabaseTable, egeriaDatabaseGUID);
 
-                                            if (egeriaDatabaseTableGUID != null)
+                                        if (egeriaDatabaseTableGUID != null)
+                                        {
+                                            /*
+                                             * Synchronize each column in turn.
+                                             */
+                                            if ((atlasDatabaseTable.getEntity().getRelationshipAttributes() != null) &&
+                                                (atlasDatabaseTable.getEntity().getRelationshipAttributes().get(atlasDatabaseColumnsPropertyName) != null))
                                             {
-                                                /*
-                                                 * Synchronize each column in turn.
-                                                 */
-                                                if ((atlasDatabaseTable.getEntity().getRelationshipAttributes() != null) &&
-                                                    (atlasDatabaseTable.getEntity().getRelationshipAttributes().get(atlasDatabaseColumnsPropertyName) != null))
-                                                {
-                                                    List<AtlasEntityWithExtInfo> atlasDatabaseColumns = atlasClient.getRelatedEntities(
-                                                            atlasDatabaseTable,
-                                                            atlasDatabaseColumnsPropertyName);
+                                                List<AtlasEntityWithExtInfo> atlasDatabaseColumns = atlasClient.getRelatedEntities(
+                                                        atlasDatabaseTable,
+                                                        atlasDatabaseColumnsPropertyName);
 
-                                                    if (atlasDatabaseColumns != null)
+                                                if (atlasDatabaseColumns != null)
+                                                {
+                                                    for (AtlasEntityWithExtInfo atlasDatabaseColumn : atlasDatabaseColumns)
                                                     {
-                                                        for (AtlasEntityWithExtInfo atlasDatabaseColumn : atlasDatabaseColumns)
+                                                        if ((atlasDatabaseColumn != null) && (atlasDatabaseTable.getEntity() != null))
                                                         {
-                                                            if ((atlasDatabaseColumn != null) && (atlasDatabaseTable.getEntity() != null))
-                                                            {
-                                                                syncAtlasDatabaseColumn(atlasDatabaseColumn, egeriaDatabaseTableGUID);
-                                                            }
+                                                            syncAtlasDatabaseColumn(atlasDatabaseColumn, egeriaDatabaseTableGUID);
                                                         }
-
-                                                        this.checkForAdditionalEgeriaColumns(egeriaDatabaseTableGUID, atlasDatabaseColumns);
                                                     }
+
+                                                    this.checkForAdditionalEgeriaColumns(egeriaDatabaseTableGUID, atlasDatabaseColumns);
                                                 }
                                             }
                                         }
                                     }
-
-                                    this.checkForAdditionalEgeriaTables(egeriaDatabaseGUID, atlasDatabaseTables);
                                 }
+
+                                this.checkForAdditionalEgeriaTables(egeriaDatabaseGUID, atlasDatabaseTables);
                             }
                         }
                     }
-
-                    /*
-                     * Retrieve the next page
-                     */
-                    startFrom = startFrom + pageSize;
-                    atlasSearchResult = atlasClient.getEntitiesForType(atlasDatabaseTableTypeName, startFrom, pageSize);
-                }
+                });
             }
             catch (Exception error)
             {
@@ -0,0 +1,354 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.modules;
+
+import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ApacheAtlasIntegrationProvider;
+import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasErrorCode;
+import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.ApacheAtlasRESTConnector;
+import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntity;
+import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntityHeader;
+import org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.properties.AtlasEntityWithExtInfo;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.integration.context.IntegrationGovernanceContext;
+import org.odpi.openmetadata.frameworks.integration.context.OpenMetadataAccess;
+import org.odpi.openmetadata.integrationservices.catalog.connector.CatalogIntegratorContext;
+import org.odpi.openmetadata.integrationservices.catalog.connector.CollaborationExchangeService;
+import org.odpi.openmetadata.integrationservices.catalog.connector.DataAssetExchangeService;
+import org.odpi.openmetadata.integrationservices.catalog.connector.StewardshipExchangeService;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify how AtlasIntegrationModuleBase pages through the entities of a type in Apache Atlas, and when it only
+ * retrieves the entities that have changed.  Apache Atlas is replaced by a mock of ApacheAtlasRESTConnector.
+ */
+public class AtlasIntegrationModuleBaseTest
+{
+    private static final String atlasTypeName        = "hive_db";
+    private static final String relatedAtlasTypeName = "hive_table";
+    private static final int    pageSize             = 2;
+
+    private ApacheAtlasRESTConnector atlasClient = null;
+    private CatalogIntegratorContext myContext   = null;
+
+
+    /**
+     * Set up the mock Apache Atlas client and integration context.
+     *
+     * @throws Exception problem setting up the mocks
+     */
+    @BeforeMethod public void setUp() throws Exception
+    {
+        atlasClient = mock(ApacheAtlasRESTConnector.class);
+        myContext   = mock(CatalogIntegratorContext.class);
+
+        IntegrationGovernanceContext governanceContext            = mock(IntegrationGovernanceContext.class);
+        OpenMetadataAccess           openMetadataAccess           = mock(OpenMetadataAccess.class);
+        DataAssetExchangeService     dataAssetExchangeService     = mock(DataAssetExchangeService.class);
+        StewardshipExchangeService   stewardshipExchangeService   = mock(StewardshipExchangeService.class);
+        CollaborationExchangeService collaborationExchangeService = mock(CollaborationExchangeService.class);
+
+        when(governanceContext.getOpenMetadataAccess()).thenReturn(openMetadataAccess);
+        when(myContext.getIntegrationGovernanceContext()).thenReturn(governanceContext);
+        when(myContext.getDataAssetExchangeService()).thenReturn(dataAssetExchangeService);
+        when(myContext.getStewardshipExchangeService()).thenReturn(stewardshipExchangeService);
+        when(myContext.getCollaborationExchangeService()).thenReturn(collaborationExchangeService);
+        when(myContext.getMaxPageSize()).thenReturn(pageSize);
+
+        when(atlasClient.getEntityByGUID(anyString())).thenAnswer(invocation -> getAtlasEntity(invocation.getArgument(0)));
+    }
+
+
+    /**
+     * Return a module with the requested configuration.
+     *
+     * @param pageFetchConcurrency number of pages to retrieve at once
+     * @param fullSynchronizationInterval minutes between full synchronizations
+     * @return module
+     * @throws Exception problem creating the module
+     */
+    private AtlasIntegrationModuleBase getModule(int pageFetchConcurrency,
+                                                 int fullSynchronizationInterval) throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(ApacheAtlasIntegrationProvider.PAGE_FETCH_CONCURRENCY_CONFIGURATION_PROPERTY, pageFetchConcurrency);
+        configurationProperties.put(ApacheAtlasIntegrationProvider.FULL_SYNCHRONIZATION_INTERVAL_CONFIGURATION_PROPERTY, fullSynchronizationInterval);
+
+        Connection connection = new Connection();
+
+        connection.setConfigurationProperties(configurationProperties);
+
+        return new AtlasIntegrationModuleBase("TestConnector",
+                                              "TestModule",
+                                              new ConnectionProperties(connection),
+                                              mock(AuditLog.class),
+                                              myContext,
+                                              "http://localhost:21000",
+                                              atlasClient,
+                                              null)
+        {
+        };
+    }
+
+
+    /**
+     * Make the mock Apache Atlas return the requested number of entities of the type for a full retrieval.
+     *
+     * @param entityCount number of entities
+     * @throws PropertyServerException problem with the mock
+     */
+    private void setUpEntities(int entityCount) throws PropertyServerException
+    {
+        when(atlasClient.getEntitiesForType(eq(atlasTypeName), anyInt(), anyInt())).thenAnswer(
+                invocation -> getHeaders("entity-", entityCount, invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+
+    /**
+     * Return the requested page of entity headers.
+     *
+     * @param guidPrefix start of each GUID
+     * @param entityCount total number of entities
+     * @param startFrom offset of the page
+     * @param pageSize size of the page
+     * @return list of headers (empty beyond the last entity)
+     */
+    private static List<AtlasEntityHeader> getHeaders(String guidPrefix,
+                                                      int    entityCount,
+                                                      int    startFrom,
+                                                      int    pageSize)
+    {
+        List<AtlasEntityHeader> headers = new ArrayList<>();
+
+        for (int i = startFrom; (i < entityCount) && (i < startFrom + pageSize); i++)
+        {
+            AtlasEntityHeader header = new AtlasEntityHeader();
+
+            header.setGuid(guidPrefix + i);
+            headers.add(header);
+        }
+
+        return headers;
+    }
+
+
+    /**
+     * Return the full entity for a GUID.
+     *
+     * @param guid unique identifier
+     * @return entity
+     */
+    private static AtlasEntityWithExtInfo getAtlasEntity(String guid)
+    {
+        AtlasEntity atlasEntity = new AtlasEntity();
+
+        atlasEntity.setGuid(guid);
+
+        AtlasEntityWithExtInfo atlasEntityWithExtInfo = new AtlasEntityWithExtInfo();
+
+        atlasEntityWithExtInfo.setEntity(atlasEntity);
+
+        return atlasEntityWithExtInfo;
+    }
+
+
+    /**
+     * Run a sweep of the type and return the GUIDs of the entities passed to the processor, in order.
+     *
+     * @param module module to run
+     * @return list of GUIDs
+     * @throws Exception problem in the sweep
+     */
+    private List<String> sweep(AtlasIntegrationModuleBase module) throws Exception
+    {
+        List<String> processedGUIDs = new ArrayList<>();
+
+        module.processAtlasEntitiesForType(atlasTypeName,
+                                           new String[]{ relatedAtlasTypeName },
+                                           atlasEntity -> processedGUIDs.add(atlasEntity.getEntity().getGuid()));
+
+        return processedGUIDs;
+    }
+
+
+    /**
+     * Without a full synchronization interval, every sweep retrieves every page until Apache Atlas returns an empty
+     * page, and the last page may be partly full.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testFullSynchronization() throws Exception
+    {
+        setUpEntities(5);
+
+        AtlasIntegrationModuleBase module = getModule(1, 0);
+
+        assertEquals(sweep(module), List.of("entity-0", "entity-1", "entity-2", "entity-3", "entity-4"));
+        assertEquals(sweep(module), List.of("entity-0", "entity-1", "entity-2", "entity-3", "entity-4"));
+        assertTrue(module.isLastSynchronizationFull(atlasTypeName));
+
+        verify(atlasClient, times(2)).getEntitiesForType(atlasTypeName, 0, pageSize);
+        verify(atlasClient, times(2)).getEntitiesForType(atlasTypeName, 4, pageSize);
+        verify(atlasClient, times(2)).getEntitiesForType(atlasTypeName, 6, pageSize);
+        verify(atlasClient, never()).getEntitiesForType(anyString(), anyLong(), anyInt(), anyInt());
+    }
+
+
+    /**
+     * When the entities exactly fill the pages, the sweep stops at the first empty page.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testExactPageBoundary() throws Exception
+    {
+        setUpEntities(4);
+
+        assertEquals(sweep(getModule(1, 0)), List.of("entity-0", "entity-1", "entity-2", "entity-3"));
+
+        verify(atlasClient).getEntitiesForType(atlasTypeName, 4, pageSize);
+        verify(atlasClient, never()).getEntitiesForType(atlasTypeName, 6, pageSize);
+    }
+
+
+    /**
+     * Pages that are retrieved at the same time are still processed in order, whether the end of the entities falls
+     * within a group of pages or exactly at its end.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testConcurrentPageFetch() throws Exception
+    {
+        setUpEntities(7);
+
+        assertEquals(sweep(getModule(3, 0)), List.of("entity-0", "entity-1", "entity-2", "entity-3", "entity-4", "entity-5", "entity-6"));
+
+        setUpEntities(6);
+
+        assertEquals(sweep(getModule(3, 0)), List.of("entity-0", "entity-1", "entity-2", "entity-3", "entity-4", "entity-5"));
+    }
+
+
+    /**
+     * Within the full synchronization interval, a sweep only retrieves the entities updated since the high-water mark,
+     * which is the start of the previous sweep less the allowance for clock differences.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testIncrementalSynchronization() throws Exception
+    {
+        setUpEntities(5);
+
+        when(atlasClient.getEntitiesForType(eq(atlasTypeName), anyLong(), anyInt(), anyInt())).thenAnswer(
+                invocation -> getHeaders("changed-", 3, invocation.getArgument(2), invocation.getArgument(3)));
+
+        AtlasIntegrationModuleBase module = getModule(1, 60);
+
+        long beforeFirstSweep = System.currentTimeMillis();
+
+        assertEquals(sweep(module).size(), 5);
+
+        long afterFirstSweep = System.currentTimeMillis();
+
+        assertTrue(module.isLastSynchronizationFull(atlasTypeName));
+
+        assertEquals(sweep(module), List.of("changed-0", "changed-1", "changed-2"));
+        assertFalse(module.isLastSynchronizationFull(atlasTypeName));
+
+        ArgumentCaptor<Long> updatedSince = ArgumentCaptor.forClass(Long.class);
+
+        verify(atlasClient).getEntitiesForType(eq(relatedAtlasTypeName), updatedSince.capture(), eq(0), eq(1));
+
+        assertTrue(updatedSince.getValue() >= beforeFirstSweep - 60000L);
+        assertTrue(updatedSince.getValue() <= afterFirstSweep - 60000L);
+
+        verify(atlasClient).getEntitiesForType(atlasTypeName, updatedSince.getValue(), 0, pageSize);
+        verify(atlasClient).getEntitiesForType(atlasTypeName, updatedSince.getValue(), 2, pageSize);
+        verify(atlasClient).getEntitiesForType(atlasTypeName, updatedSince.getValue(), 4, pageSize);
+        verify(atlasClient, never()).getEntitiesForType(atlasTypeName, updatedSince.getValue(), 6, pageSize);
+        verify(atlasClient).getEntitiesForType(atlasTypeName, 0, pageSize);
+    }
+
+
+    /**
+     * A change to an entity of a related type means that all entities of the type are retrieved.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testRelatedChangeForcesFullSynchronization() throws Exception
+    {
+        setUpEntities(3);
+
+        when(atlasClient.getEntitiesForType(eq(relatedAtlasTypeName), anyLong(), anyInt(), anyInt())).thenAnswer(
+                invocation -> getHeaders("table-", 1, invocation.getArgument(2), invocation.getArgument(3)));
+
+        AtlasIntegrationModuleBase module = getModule(1, 60);
+
+        assertEquals(sweep(module).size(), 3);
+        assertEquals(sweep(module), List.of("entity-0", "entity-1", "entity-2"));
+        assertTrue(module.isLastSynchronizationFull(atlasTypeName));
+
+        verify(atlasClient, never()).getEntitiesForType(eq(atlasTypeName), anyLong(), anyInt(), anyInt());
+    }
+
+
+    /**
+     * The high-water mark is not set by a sweep that fails, so the next sweep is a full synchronization.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testFailedSweepIsRepeatedInFull() throws Exception
+    {
+        setUpEntities(3);
+
+        AtlasIntegrationModuleBase module = getModule(1, 60);
+
+        try
+        {
+            module.processAtlasEntitiesForType(atlasTypeName,
+                                               null,
+                                               atlasEntity ->
+                                               {
+                                                   throw new PropertyServerException(ApacheAtlasErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition("TestConnector",
+                                                                                                                                    "TestException",
+                                                                                                                                    "processAtlasEntity",
+                                                                                                                                    "Test failure"),
+                                                                                     this.getClass().getName(),
+                                                                                     "processAtlasEntity");
+                                               });
+            fail("The processor's exception was not returned");
+        }
+        catch (PropertyServerException expected)
+        {
+            // the sweep stops
+        }
+
+        assertEquals(sweep(module).size(), 3);
+        assertTrue(module.isLastSynchronizationFull(atlasTypeName));
+
+        verify(atlasClient, never()).getEntitiesForType(anyString(), anyLong(), anyInt(), anyInt());
+    }
+}
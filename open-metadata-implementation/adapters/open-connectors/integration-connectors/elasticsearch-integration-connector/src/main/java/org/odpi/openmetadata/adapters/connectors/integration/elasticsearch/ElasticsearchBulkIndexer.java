@@ -0,0 +1,343 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import org.odpi.openmetadata.adapters.connectors.integration.elasticsearch.ffdc.ElasticsearchIntegrationConnectorAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * ElasticsearchBulkIndexer batches the documents from the connector into Elasticsearch _bulk requests.
+ * A batch is sent when it reaches the bulk size or when the flush interval expires, whichever comes first.
+ * The number of bulk requests in flight is limited - when the limit is reached, callers adding documents wait for
+ * a request to complete.  Items that Elasticsearch rejects because it is busy (and whole requests that fail) are
+ * retried with an exponential backoff.
+ * <p>
+ * Documents are indexed with external versioning, using the version of the metadata instance.  Elasticsearch keeps
+ * the document with the highest version, so a document that reaches it after a newer copy of the same element
+ * (because it was in a different bulk request, was retried, or came from an older snapshot of the metadata)
+ * is ignored rather than overwriting the newer copy.
+ */
+public class ElasticsearchBulkIndexer {
+    private static final Logger log = LoggerFactory.getLogger(ElasticsearchBulkIndexer.class);
+
+    private static final int CONFLICT            = 409;
+    private static final int TOO_MANY_REQUESTS   = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final ElasticsearchClient      client;
+    private final AuditLog                 auditLog;
+    private final String                   connectorName;
+    private final int                      bulkSize;
+    private final int                      maxConcurrentRequests;
+    private final int                      maxRetries;
+    private final long                     retryBackoffMillis;
+    private final Semaphore                requestPermits;
+    private final ExecutorService          requestExecutor;
+    private final ScheduledExecutorService flushScheduler;
+    private final AtomicLong               indexedCount = new AtomicLong(0);
+    private final AtomicLong               failedCount  = new AtomicLong(0);
+    private final AtomicLong               staleCount   = new AtomicLong(0);
+
+    private List<BulkOperation> pendingOperations = new ArrayList<>();
+
+
+    /**
+     * Constructor sets up the batching and the threads that send the bulk requests.
+     *
+     * @param client Elasticsearch client
+     * @param auditLog logging destination
+     * @param connectorName name of the connector for messages
+     * @param bulkSize maximum number of documents in a bulk request
+     * @param flushIntervalMillis maximum time that a document waits before it is sent
+     * @param maxConcurrentRequests maximum number of bulk requests in flight
+     * @param maxRetries maximum number of times that a rejected document is resent
+     * @param retryBackoffMillis time to wait before the first retry - it doubles for each subsequent retry
+     */
+    public ElasticsearchBulkIndexer(ElasticsearchClient client,
+                                    AuditLog            auditLog,
+                                    String              connectorName,
+                                    int                 bulkSize,
+                                    long                flushIntervalMillis,
+                                    int                 maxConcurrentRequests,
+                                    int                 maxRetries,
+                                    long                retryBackoffMillis) {
+        this.client                = client;
+        this.auditLog              = auditLog;
+        this.connectorName         = connectorName;
+        this.bulkSize              = Math.max(1, bulkSize);
+        this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+        this.maxRetries            = Math.max(0, maxRetries);
+        this.retryBackoffMillis    = Math.max(1, retryBackoffMillis);
+        this.requestPermits        = new Semaphore(this.maxConcurrentRequests);
+        this.requestExecutor       = Executors.newFixedThreadPool(this.maxConcurrentRequests, getThreadFactory("ElasticsearchBulkIndexer"));
+        this.flushScheduler        = Executors.newSingleThreadScheduledExecutor(getThreadFactory("ElasticsearchBulkFlush"));
+
+        if (flushIntervalMillis > 0) {
+            flushScheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Add a document to the next bulk request.  The request is sent if it is now full.
+     *
+     * @param indexName name of the index (or alias) to write to
+     * @param id unique identifier of the document
+     * @param version version of the metadata instance that the document was built from - 0 if it is not known
+     * @param document document to index - it is serialized by the client's JSON mapper
+     */
+    public void index(String indexName, String id, long version, Object document) {
+        BulkOperation       operation = BulkOperation.of(op -> op.index(idx -> idx.index(indexName)
+                                                                                  .id(id)
+                                                                                  .version(Math.max(0L, version))
+                                                                                  .versionType(VersionType.ExternalGte)
+                                                                                  .document(document)));
+        List<BulkOperation> batch     = null;
+
+        synchronized (this) {
+            pendingOperations.add(operation);
+
+            if (pendingOperations.size() >= bulkSize) {
+                batch = pendingOperations;
+                pendingOperations = new ArrayList<>();
+            }
+        }
+
+        if (batch != null) {
+            submit(batch);
+        }
+    }
+
+
+    /**
+     * Send the documents that are waiting for the next bulk request.
+     */
+    public void flush() {
+        List<BulkOperation> batch;
+
+        synchronized (this) {
+            if (pendingOperations.isEmpty()) {
+                return;
+            }
+
+            batch = pendingOperations;
+            pendingOperations = new ArrayList<>();
+        }
+
+        submit(batch);
+    }
+
+
+    /**
+     * Send the waiting documents and wait for all the bulk requests in flight to complete.
+     *
+     * @throws InterruptedException the thread was interrupted while waiting
+     */
+    public void awaitCompletion() throws InterruptedException {
+        flush();
+
+        requestPermits.acquire(maxConcurrentRequests);
+        requestPermits.release(maxConcurrentRequests);
+    }
+
+
+    /**
+     * Send the waiting documents, wait for them to complete and stop the threads.
+     */
+    public void close() {
+        flushScheduler.shutdown();
+
+        try {
+            awaitCompletion();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+
+        requestExecutor.shutdown();
+    }
+
+
+    /**
+     * Return the number of documents that have been successfully indexed.
+     *
+     * @return count
+     */
+    public long getIndexedCount() {
+        return indexedCount.get();
+    }
+
+
+    /**
+     * Return the number of documents that were ignored because the index already held a newer version.
+     *
+     * @return count
+     */
+    public long getStaleCount() {
+        return staleCount.get();
+    }
+
+
+    /**
+     * Return the number of documents that could not be indexed.
+     *
+     * @return count
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+
+    /**
+     * Pass a batch to a request thread.  This waits if the maximum number of requests are already in flight.
+     *
+     * @param batch operations to send
+     */
+    private void submit(List<BulkOperation> batch) {
+        try {
+            requestPermits.acquire();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+
+            /*
+             * Send the batch on this thread rather than lose it.
+             */
+            sendBatch(batch);
+            return;
+        }
+
+        try {
+            requestExecutor.execute(() -> {
+                try {
+                    sendBatch(batch);
+                } finally {
+                    requestPermits.release();
+                }
+            });
+        } catch (RuntimeException rejected) {
+            requestPermits.release();
+
+            /*
+             * The indexer is closing - send the batch on this thread.
+             */
+            sendBatch(batch);
+        }
+    }
+
+
+    /**
+     * Send a batch to Elasticsearch, retrying the items that are rejected because the cluster is busy.
+     *
+     * @param batch operations to send
+     */
+    private void sendBatch(List<BulkOperation> batch) {
+        final String methodName = "sendBatch";
+
+        List<BulkOperation> operations = batch;
+        String              lastError  = null;
+
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            if (attempt > 0) {
+                try {
+                    Thread.sleep(retryBackoffMillis << Math.min(attempt - 1, 16));
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            List<BulkOperation> retryOperations   = new ArrayList<>();
+            List<BulkOperation> requestOperations = operations;
+
+            try {
+                BulkResponse           response = client.bulk(BulkRequest.of(bulk -> bulk.operations(requestOperations)));
+                List<BulkResponseItem> items    = response.items();
+
+                for (int i = 0; i < items.size(); i++) {
+                    BulkResponseItem item = items.get(i);
+
+                    if (item.error() == null) {
+                        indexedCount.incrementAndGet();
+                    } else if (item.status() == CONFLICT) {
+                        /*
+                         * The index already has a newer version of this element.
+                         */
+                        staleCount.incrementAndGet();
+                    } else if ((item.status() == TOO_MANY_REQUESTS) || (item.status() == SERVICE_UNAVAILABLE)) {
+                        retryOperations.add(requestOperations.get(i));
+                        lastError = item.error().reason();
+                    } else {
+                        failedCount.incrementAndGet();
+
+                        if (auditLog != null) {
+                            auditLog.logMessage(methodName,
+                                                ElasticsearchIntegrationConnectorAuditCode.BULK_ITEM_REJECTED.getMessageDefinition(connectorName,
+                                                                                                                                   item.id(),
+                                                                                                                                   item.index(),
+                                                                                                                                   Integer.toString(item.status()),
+                                                                                                                                   item.error().reason()));
+                        }
+                    }
+                }
+            } catch (IOException | ElasticsearchException error) {
+                log.debug("Bulk request failed on attempt " + attempt, error);
+
+                retryOperations = operations;
+                lastError = error.getMessage();
+            }
+
+            if (retryOperations.isEmpty()) {
+                return;
+            }
+
+            operations = retryOperations;
+        }
+
+        failedCount.addAndGet(operations.size());
+
+        if (auditLog != null) {
+            auditLog.logMessage(methodName,
+                                ElasticsearchIntegrationConnectorAuditCode.BULK_REQUEST_FAILED.getMessageDefinition(connectorName,
+                                                                                                                    Integer.toString(operations.size()),
+                                                                                                                    Integer.toString(maxRetries + 1),
+                                                                                                                    lastError));
+        }
+    }
+
+
+    /**
+     * Return a factory for daemon threads so the indexer does not hold up the shutdown of the server.
+     *
+     * @param threadName name for the threads
+     * @return thread factory
+     */
+    private static ThreadFactory getThreadFactory(String threadName) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
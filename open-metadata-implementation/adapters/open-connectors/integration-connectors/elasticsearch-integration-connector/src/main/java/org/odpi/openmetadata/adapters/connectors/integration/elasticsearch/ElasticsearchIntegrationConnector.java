@@ -5,24 +5,31 @@ package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.GetMappingResponse;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import co.elastic.clients.json.JsonData;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.http.HttpHost;
 import org.elasticsearch.client.RestClient;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetCatalogEvent;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.Elements;
 import org.odpi.openmetadata.adapters.connectors.integration.elasticsearch.ffdc.ElasticsearchIntegrationConnectorAuditCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementType;
 import org.odpi.openmetadata.integrationservices.search.connector.SearchIntegratorConnector;
 import org.odpi.openmetadata.integrationservices.search.connector.SearchIntegratorContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -30,19 +37,43 @@ import static org.odpi.openmetadata.adapters.connectors.integration.elasticsearc
 
 
 /**
- * ElasticsearchIntegrationConnector provides common methods for the connector in this module.
+ * ElasticsearchIntegrationConnector copies the assets from the Asset Catalog OMAS into an Elasticsearch index.
+ * The assets from the Asset Catalog OMAS events are written through an ElasticsearchBulkIndexer so they are sent in
+ * batches.  If the fullReindex configuration property is set, the first refresh rebuilds the index by loading all the
+ * assets from the Asset Catalog OMAS into a new index and then switching the index name (an alias) to it.
+ * The value of the fullReindex property is stored in the mapping metadata of the new index, so the rebuild is only
+ * repeated when the property is given a new value.
  */
 public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector {
     private static final Logger log = LoggerFactory.getLogger(ElasticsearchIntegrationConnector.class);
-    private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer();
-    private static final String INDEX_NAME = "indexName";
     private static final String ASSETS_INDEX_NAME = "assets";
 
+    private static final int  DEFAULT_BULK_SIZE               = 500;
+    private static final long DEFAULT_FLUSH_INTERVAL          = 1000L;
+    private static final int  DEFAULT_MAX_CONCURRENT_REQUESTS = 2;
+    private static final int  DEFAULT_MAX_RETRIES             = 5;
+    private static final long DEFAULT_RETRY_BACKOFF           = 100L;
+
+    private static final String QUALIFIED_NAME_PROPERTY = "qualifiedName";
+    private static final String NAME_PROPERTY           = "name";
+    private static final String DISPLAY_NAME_PROPERTY   = "displayName";
+    private static final String DESCRIPTION_PROPERTY    = "description";
+
+    private static final String REINDEX_REQUEST_META    = "egeriaReindexRequest";
+
     private String targetRootURL = null;
     private String targetRootProtocol = null;
     private SearchIntegratorContext myContext = null;
     private ElasticsearchClient client;
+    private ElasticsearchBulkIndexer bulkIndexer = null;
     private String indexName = "test";
+    private int bulkSize = DEFAULT_BULK_SIZE;
+    private long flushInterval = DEFAULT_FLUSH_INTERVAL;
+    private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private long retryBackoff = DEFAULT_RETRY_BACKOFF;
+    private String reindexRequest = null;
+    private volatile String reindexTarget = null;
 
     /**
      * Initialize the connector.
@@ -64,8 +95,71 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
 
         Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
 
-        String configuredIndexName = (String) configurationProperties.get(INDEX_NAME);
+        if (configurationProperties == null) {
+            configurationProperties = new HashMap<>();
+        }
+
+        String configuredIndexName = (String) configurationProperties.get(ElasticsearchIntegrationProvider.INDEX_NAME_CONFIGURATION_PROPERTY);
         this.indexName = Objects.requireNonNullElse(configuredIndexName, ASSETS_INDEX_NAME);
+
+        this.bulkSize = (int) getNumberProperty(configurationProperties,
+                ElasticsearchIntegrationProvider.BULK_SIZE_CONFIGURATION_PROPERTY, DEFAULT_BULK_SIZE);
+        this.flushInterval = getNumberProperty(configurationProperties,
+                ElasticsearchIntegrationProvider.FLUSH_INTERVAL_CONFIGURATION_PROPERTY, DEFAULT_FLUSH_INTERVAL);
+        this.maxConcurrentRequests = (int) getNumberProperty(configurationProperties,
+                ElasticsearchIntegrationProvider.MAX_CONCURRENT_REQUESTS_CONFIGURATION_PROPERTY, DEFAULT_MAX_CONCURRENT_REQUESTS);
+        this.maxRetries = (int) getNumberProperty(configurationProperties,
+                ElasticsearchIntegrationProvider.MAX_RETRIES_CONFIGURATION_PROPERTY, DEFAULT_MAX_RETRIES);
+        this.retryBackoff = getNumberProperty(configurationProperties,
+                ElasticsearchIntegrationProvider.RETRY_BACKOFF_CONFIGURATION_PROPERTY, DEFAULT_RETRY_BACKOFF);
+        this.reindexRequest = getReindexRequest(configurationProperties.get(ElasticsearchIntegrationProvider.FULL_REINDEX_CONFIGURATION_PROPERTY));
+    }
+
+
+    /**
+     * Return the value of the fullReindex configuration property that identifies the rebuild request.
+     * Any value other than false requests a rebuild.
+     *
+     * @param value configured value
+     * @return request identifier or null if no rebuild is requested
+     */
+    private String getReindexRequest(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        String request = value.toString().trim();
+
+        if ((request.isEmpty()) || (Boolean.FALSE.toString().equalsIgnoreCase(request))) {
+            return null;
+        }
+
+        return request;
+    }
+
+
+    /**
+     * Return a numeric configuration property.  The value may be supplied as a number or a string.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or is not a number
+     * @return property value
+     */
+    private long getNumberProperty(Map<String, Object> configurationProperties, String propertyName, long defaultValue) {
+        Object value = configurationProperties.get(propertyName);
+
+        if (value instanceof Number number) {
+            return number.longValue();
+        } else if (value != null) {
+            try {
+                return Long.parseLong(value.toString().trim());
+            } catch (NumberFormatException error) {
+                log.debug("ignoring invalid value " + value + " for configuration property " + propertyName);
+            }
+        }
+
+        return defaultValue;
     }
 
 
@@ -83,18 +177,71 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
 
         initializeElasticSearchClient(methodName);
 
+        bulkIndexer = new ElasticsearchBulkIndexer(client,
+                auditLog,
+                connectorName,
+                bulkSize,
+                flushInterval,
+                maxConcurrentRequests,
+                maxRetries,
+                retryBackoff);
+
         myContext = super.getContext();
 
     }
 
     /**
-     * <p>
+     * Rebuild the index from the Asset Catalog OMAS if this was requested in the configuration properties and the
+     * current index was not built for the same request.  This is only done on the first refresh - the events from
+     * the Asset Catalog OMAS keep the index up-to-date after that.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
     @Override
     public synchronized void refresh() throws ConnectorCheckedException {
         final String methodName = "refresh";
+
+        if (reindexRequest != null) {
+            String request = reindexRequest;
+
+            reindexRequest = null;
+
+            if (request.equals(getCompletedReindexRequest())) {
+                log.debug("index {} has already been rebuilt for request {}", indexName, request);
+            } else {
+                reindex(methodName, request);
+            }
+        }
+    }
+
+
+    /**
+     * Return the rebuild request that the current index was built for.
+     *
+     * @return request identifier or null if the index was not built by a rebuild (or does not exist)
+     */
+    private String getCompletedReindexRequest() {
+        try {
+            if (!client.indices().exists(exists -> exists.index(indexName)).value()) {
+                return null;
+            }
+
+            GetMappingResponse response = client.indices().getMapping(get -> get.index(indexName));
+
+            for (IndexMappingRecord mappingRecord : response.result().values()) {
+                if ((mappingRecord.mappings() != null) && (mappingRecord.mappings().meta() != null)) {
+                    JsonData request = mappingRecord.mappings().meta().get(REINDEX_REQUEST_META);
+
+                    if (request != null) {
+                        return request.to(String.class);
+                    }
+                }
+            }
+        } catch (Exception error) {
+            log.debug("unable to retrieve the mapping for index " + indexName, error);
+        }
+
+        return null;
     }
 
 
@@ -108,6 +255,10 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
         final String methodName = "disconnect";
 
         log.debug("disconnecting");
+        if (bulkIndexer != null) {
+            bulkIndexer.close();
+        }
+
         if (auditLog != null) {
             auditLog.logMessage(methodName,
                     ElasticsearchIntegrationConnectorAuditCode.CONNECTOR_STOPPING.getMessageDefinition(connectorName));
@@ -134,7 +285,9 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
     }
 
     /**
-     * Save the events received from asset catalog to the Elasticsearch service
+     * Save the events received from asset catalog to the Elasticsearch service.  The asset is added to the next
+     * bulk request.  While the index is being rebuilt, the asset is also added to the new index so the change is
+     * not lost when the index name is switched to it.
      *
      * @param assetCatalogEvent the event which contains the asset
      */
@@ -147,14 +300,207 @@ public class ElasticsearchIntegrationConnector extends SearchIntegratorConnector
         if (asset.getGUID() == null) {
             return;
         }
+        if (bulkIndexer == null) {
+            log.debug("ignoring asset {} received before the connector started", asset.getGUID());
+            return;
+        }
         log.debug("saving to elasticsearch {}", asset);
+
+        long version = 0L;
+        if (asset.getVersions() != null) {
+            version = asset.getVersions().getVersion();
+        }
+
+        bulkIndexer.index(indexName, asset.getGUID(), version, asset);
+
+        String newIndexName = reindexTarget;
+        if (newIndexName != null) {
+            bulkIndexer.index(newIndexName, asset.getGUID(), version, asset);
+        }
+    }
+
+
+    /**
+     * Rebuild the index.  A new index is created and all the assets from the Asset Catalog OMAS are loaded into it.
+     * The index name is then made an alias for the new index and the old indexes are deleted.  Searches continue to
+     * use the old index until the switch.  If any documents could not be indexed during the load, the new index is
+     * deleted and the old index is kept.
+     *
+     * @param callingMethodName calling method
+     * @param request identifier of the rebuild request that is recorded in the new index
+     */
+    private void reindex(String callingMethodName, String request) {
+        final String newIndexName = indexName + "-" + System.currentTimeMillis();
+
+        if (auditLog != null) {
+            auditLog.logMessage(callingMethodName,
+                    ElasticsearchIntegrationConnectorAuditCode.REINDEX_STARTING.getMessageDefinition(connectorName, indexName, newIndexName));
+        }
+
+        boolean newIndexCreated = false;
+
         try {
-            String jsonAsset = OBJECT_WRITER.writeValueAsString(asset);
-            client.index(s-> s.index(jsonAsset).index(indexName).id(asset.getGUID()));
+            /*
+             * Refreshing the index while it is loaded slows down the bulk requests.
+             */
+            client.indices().create(create -> create.index(newIndexName)
+                    .settings(settings -> settings.refreshInterval(interval -> interval.time("-1")))
+                    .mappings(mappings -> mappings.meta(REINDEX_REQUEST_META, JsonData.of(request))));
+            newIndexCreated = true;
+
+            long failedCountBeforeLoad = bulkIndexer.getFailedCount();
+
+            reindexTarget = newIndexName;
+
+            int pageSize = myContext.getMaxPageSize();
+            if (pageSize <= 0) {
+                pageSize = bulkSize;
+            }
+
+            long assetCount = 0;
+            int startFrom = 0;
+            List<Elements> assets = myContext.getAssets(startFrom, pageSize);
+
+            while ((assets != null) && (!assets.isEmpty())) {
+                for (Elements element : assets) {
+                    if ((element != null) && (element.getGuid() != null)) {
+                        long version = 0L;
+                        if (element.getVersion() != null) {
+                            version = element.getVersion();
+                        }
 
-        } catch (IOException ioException) {
-            String actionDescription = "The client could not write to the Elasticsearch cluster";
-            auditLog.logException(actionDescription, ElasticsearchIntegrationConnectorAuditCode.IO_EXCEPTION.getMessageDefinition(), ioException);
+                        bulkIndexer.index(newIndexName, element.getGuid(), version, getAsset(element));
+                        assetCount++;
+                    }
+                }
+
+                startFrom = startFrom + pageSize;
+                assets = myContext.getAssets(startFrom, pageSize);
+            }
+
+            bulkIndexer.awaitCompletion();
+
+            long failedCount = bulkIndexer.getFailedCount() - failedCountBeforeLoad;
+            if (failedCount > 0) {
+                throw new IOException(failedCount + " documents could not be indexed during the load");
+            }
+
+            client.indices().putSettings(put -> put.index(newIndexName)
+                    .settings(settings -> settings.refreshInterval(interval -> interval.time("1s"))));
+
+            switchAlias(newIndexName);
+
+            if (auditLog != null) {
+                auditLog.logMessage(callingMethodName,
+                        ElasticsearchIntegrationConnectorAuditCode.REINDEX_COMPLETE.getMessageDefinition(connectorName,
+                                Long.toString(assetCount),
+                                newIndexName,
+                                indexName));
+            }
+        } catch (Exception error) {
+            if (error instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (auditLog != null) {
+                auditLog.logException(callingMethodName,
+                        ElasticsearchIntegrationConnectorAuditCode.REINDEX_FAILED.getMessageDefinition(connectorName,
+                                indexName,
+                                error.getClass().getName(),
+                                error.getMessage()),
+                        error);
+            }
+
+            if (newIndexCreated) {
+                try {
+                    client.indices().delete(delete -> delete.index(newIndexName));
+                } catch (Exception deleteError) {
+                    log.debug("unable to delete index " + newIndexName, deleteError);
+                }
+            }
+        } finally {
+            reindexTarget = null;
         }
     }
+
+
+    /**
+     * Make the index name an alias for the new index in a single update so searches always find an index.
+     * The indexes that the alias pointed to before are deleted.  An index created with the index name before
+     * aliases were used is replaced.
+     *
+     * @param newIndexName name of the new index
+     * @throws IOException problem communicating with Elasticsearch
+     */
+    private void switchAlias(String newIndexName) throws IOException {
+        List<Action> actions = new ArrayList<>();
+        List<String> oldIndexNames = new ArrayList<>();
+
+        if (client.indices().existsAlias(exists -> exists.name(indexName)).value()) {
+            oldIndexNames.addAll(client.indices().getAlias(get -> get.name(indexName)).result().keySet());
+
+            for (String oldIndexName : oldIndexNames) {
+                actions.add(Action.of(action -> action.remove(remove -> remove.index(oldIndexName).alias(indexName))));
+            }
+        } else if (client.indices().exists(exists -> exists.index(indexName)).value()) {
+            actions.add(Action.of(action -> action.removeIndex(remove -> remove.index(indexName))));
+        }
+
+        actions.add(Action.of(action -> action.add(add -> add.index(newIndexName).alias(indexName))));
+
+        client.indices().updateAliases(update -> update.actions(actions));
+
+        for (String oldIndexName : oldIndexNames) {
+            if (!oldIndexName.equals(newIndexName)) {
+                client.indices().delete(delete -> delete.index(oldIndexName));
+            }
+        }
+    }
+
+
+    /**
+     * Convert an asset retrieved from the Asset Catalog OMAS into the same bean that is received in the
+     * Asset Catalog OMAS events so that all the documents in the index have the same structure.
+     *
+     * @param element asset from the Asset Catalog OMAS
+     * @return asset bean
+     */
+    private Asset getAsset(Elements element) {
+        Asset asset = new Asset();
+
+        asset.setGUID(element.getGuid());
+        asset.setURL(element.getUrl());
+
+        if (element.getType() != null) {
+            ElementType elementType = new ElementType();
+
+            elementType.setTypeName(element.getType().getName());
+            elementType.setTypeDescription(element.getType().getDescription());
+            if (element.getType().getVersion() != null) {
+                elementType.setTypeVersion(element.getType().getVersion());
+            }
+            asset.setType(elementType);
+        }
+
+        if (element.getProperties() != null) {
+            Map<String, String> properties = new HashMap<>(element.getProperties());
+
+            asset.setQualifiedName(properties.remove(QUALIFIED_NAME_PROPERTY));
+            asset.setName(properties.remove(NAME_PROPERTY));
+            asset.setDisplayName(properties.remove(DISPLAY_NAME_PROPERTY));
+            asset.setDescription(properties.remove(DESCRIPTION_PROPERTY));
+
+            if (!properties.isEmpty()) {
+                asset.setExtendedProperties(new HashMap<>(properties));
+            }
+        }
+
+        if (asset.getName() == null) {
+            asset.setName(element.getName());
+        }
+
+        asset.setAdditionalProperties(element.getAdditionalProperties());
+
+        return asset;
+    }
 }
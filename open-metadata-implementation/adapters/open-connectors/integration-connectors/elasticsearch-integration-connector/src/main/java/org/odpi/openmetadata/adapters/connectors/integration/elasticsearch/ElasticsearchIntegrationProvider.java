@@ -21,6 +21,13 @@ public class ElasticsearchIntegrationProvider extends IntegrationConnectorProvid
     private static final String connectorTypeDescription   = "Connector used to connect to a Elasticsearch instance and store metadata for search operations";
 
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
+    static final String INDEX_NAME_CONFIGURATION_PROPERTY              = "indexName";
+    static final String BULK_SIZE_CONFIGURATION_PROPERTY               = "bulkSize";
+    static final String FLUSH_INTERVAL_CONFIGURATION_PROPERTY          = "flushIntervalMillis";
+    static final String MAX_CONCURRENT_REQUESTS_CONFIGURATION_PROPERTY = "maxConcurrentRequests";
+    static final String MAX_RETRIES_CONFIGURATION_PROPERTY             = "maxRetries";
+    static final String RETRY_BACKOFF_CONFIGURATION_PROPERTY           = "retryBackoffMillis";
+    static final String FULL_REINDEX_CONFIGURATION_PROPERTY            = "fullReindex";
 
 
     /**
@@ -43,6 +50,13 @@ public class ElasticsearchIntegrationProvider extends IntegrationConnectorProvid
 
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(INDEX_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(BULK_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(FLUSH_INTERVAL_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_CONCURRENT_REQUESTS_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_RETRIES_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(RETRY_BACKOFF_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(FULL_REINDEX_CONFIGURATION_PROPERTY);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
         connectorType.setSupportedAssetTypeName(supportedAssetTypeName);
@@ -34,7 +34,44 @@ public enum ElasticsearchIntegrationConnectorAuditCode implements AuditLogMessag
             OMRSAuditLogRecordSeverity.ERROR,
             "The {0} integration connector could not save data to Elasticsearch",
             "The connector is disconnecting.",
-            "Verify the integrity of the ElasticSearch cluster and the client connection.");
+            "Verify the integrity of the ElasticSearch cluster and the client connection."),
+
+
+    BULK_ITEM_REJECTED("ELASTICSEARCH-INTEGRATION-CONNECTOR-0003",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The {0} integration connector could not index element {1} in index {2} because Elasticsearch returned status {3} with error: {4}",
+            "The element is not added to the search index.  The other elements in the bulk request are not affected.",
+            "Use the error from Elasticsearch to correct the problem with the element or the index mapping.  The element is indexed again when it next changes or when the index is rebuilt."),
+
+
+    BULK_REQUEST_FAILED("ELASTICSEARCH-INTEGRATION-CONNECTOR-0004",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The {0} integration connector gave up indexing {1} elements after {2} attempts.  The last error was: {3}",
+            "The elements are not added to the search index.",
+            "Verify the integrity of the Elasticsearch cluster and that it has the capacity for the indexing load.  " +
+                    "Increase the maxRetries or retryBackoffMillis configuration properties if the cluster is rejecting requests because it is busy.  " +
+                    "Rebuild the index to pick up the missing elements."),
+
+
+    REINDEX_STARTING("ELASTICSEARCH-INTEGRATION-CONNECTOR-0005",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The {0} integration connector is rebuilding the {1} search index from the Asset Catalog OMAS into new index {2}",
+            "The connector creates the new index and loads all of the assets into it.  Searches continue to use the existing index until the load is complete.",
+            "No action is required.  A message is logged when the rebuild is complete."),
+
+
+    REINDEX_COMPLETE("ELASTICSEARCH-INTEGRATION-CONNECTOR-0006",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The {0} integration connector has loaded {1} assets into index {2} and switched the {3} alias to it",
+            "Searches now use the new index.  The previous indexes for the alias have been deleted.",
+            "No action is required."),
+
+
+    REINDEX_FAILED("ELASTICSEARCH-INTEGRATION-CONNECTOR-0007",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The {0} integration connector was unable to rebuild the {1} search index.  The {2} exception was returned with message: {3}",
+            "The new index is deleted and searches continue to use the existing index.",
+            "Use the exception message to correct the problem and then restart the connector to retry the rebuild.");
     private String logMessageId;
     private OMRSAuditLogRecordSeverity severity;
     private String logMessage;
@@ -0,0 +1,247 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Verify the batching, retry and versioning behaviour of ElasticsearchBulkIndexer against a mocked client.
+ */
+public class ElasticsearchBulkIndexerTest {
+    private static final String INDEX_NAME = "assets";
+
+    private ElasticsearchClient        client;
+    private List<BulkRequest>          requests;
+    private Map<String, List<Integer>> itemStatuses;
+    private AtomicInteger              requestFailures;
+
+
+    /**
+     * Set up a client that returns the status queued for each document id (201 when none is queued).
+     *
+     * @throws IOException not thrown by the mock
+     */
+    @BeforeMethod
+    public void setUpClient() throws IOException {
+        client = mock(ElasticsearchClient.class);
+        requests = new CopyOnWriteArrayList<>();
+        itemStatuses = new ConcurrentHashMap<>();
+        requestFailures = new AtomicInteger(0);
+
+        when(client.bulk(any(BulkRequest.class))).thenAnswer(invocation -> {
+            BulkRequest request = invocation.getArgument(0);
+
+            requests.add(request);
+
+            if (requestFailures.getAndUpdate(failures -> Math.max(0, failures - 1)) > 0) {
+                throw new IOException("Connection refused");
+            }
+
+            List<BulkResponseItem> items = new ArrayList<>();
+            boolean errors = false;
+
+            for (BulkOperation operation : request.operations()) {
+                String id = operation.index().id();
+                List<Integer> statuses = itemStatuses.get(id);
+                int status = ((statuses == null) || (statuses.isEmpty())) ? 201 : statuses.remove(0);
+
+                errors = errors || (status >= 300);
+                items.add(getItem(id, status));
+            }
+
+            boolean hasErrors = errors;
+            return BulkResponse.of(response -> response.errors(hasErrors).took(1L).items(items));
+        });
+    }
+
+
+    /**
+     * Build the response item for a document.
+     *
+     * @param id document id
+     * @param status HTTP status for the item
+     * @return response item
+     */
+    private BulkResponseItem getItem(String id, int status) {
+        return BulkResponseItem.of(item -> {
+            item.operationType(OperationType.Index).index(INDEX_NAME).id(id).status(status);
+
+            if (status >= 300) {
+                item.error(ErrorCause.of(error -> error.type("test_exception").reason("status " + status)));
+            }
+
+            return item;
+        });
+    }
+
+
+    /**
+     * Return an indexer that only sends requests when a batch is full or flushed.
+     *
+     * @param bulkSize maximum documents in a request
+     * @param maxRetries maximum retries for rejected documents
+     * @return indexer
+     */
+    private ElasticsearchBulkIndexer getIndexer(int bulkSize, int maxRetries) {
+        return new ElasticsearchBulkIndexer(client, null, "TestConnector", bulkSize, 0L, 1, maxRetries, 1L);
+    }
+
+
+    /**
+     * Documents are sent in batches of the bulk size and the remainder is sent on close.
+     */
+    @Test
+    public void testBatchesBySize() {
+        ElasticsearchBulkIndexer indexer = getIndexer(2, 0);
+
+        for (int i = 0; i < 5; i++) {
+            indexer.index(INDEX_NAME, "guid" + i, 1L, Map.of("name", "asset" + i));
+        }
+
+        indexer.close();
+
+        assertEquals(requests.size(), 3);
+        assertEquals(requests.get(0).operations().size(), 2);
+        assertEquals(requests.get(2).operations().size(), 1);
+        assertEquals(indexer.getIndexedCount(), 5);
+        assertEquals(indexer.getFailedCount(), 0);
+    }
+
+
+    /**
+     * Each document carries the instance version with external versioning.
+     */
+    @Test
+    public void testExternalVersioning() {
+        ElasticsearchBulkIndexer indexer = getIndexer(10, 0);
+
+        indexer.index(INDEX_NAME, "guid1", 7L, Map.of("name", "asset1"));
+        indexer.index(INDEX_NAME, "guid2", -1L, Map.of("name", "asset2"));
+        indexer.close();
+
+        List<BulkOperation> operations = requests.get(0).operations();
+
+        assertEquals(operations.get(0).index().version(), Long.valueOf(7L));
+        assertEquals(operations.get(0).index().versionType(), VersionType.ExternalGte);
+        assertEquals(operations.get(1).index().version(), Long.valueOf(0L));
+    }
+
+
+    /**
+     * A document that Elasticsearch already holds in a newer version is counted as stale, not failed.
+     */
+    @Test
+    public void testVersionConflictIsStale() {
+        itemStatuses.put("guid1", new ArrayList<>(List.of(409)));
+
+        ElasticsearchBulkIndexer indexer = getIndexer(10, 3);
+
+        indexer.index(INDEX_NAME, "guid1", 1L, Map.of("name", "asset1"));
+        indexer.index(INDEX_NAME, "guid2", 1L, Map.of("name", "asset2"));
+        indexer.close();
+
+        assertEquals(requests.size(), 1);
+        assertEquals(indexer.getIndexedCount(), 1);
+        assertEquals(indexer.getStaleCount(), 1);
+        assertEquals(indexer.getFailedCount(), 0);
+    }
+
+
+    /**
+     * Only the documents rejected because the cluster is busy are resent.
+     */
+    @Test
+    public void testBusyItemsAreRetried() {
+        itemStatuses.put("guid1", new ArrayList<>(List.of(429, 503)));
+
+        ElasticsearchBulkIndexer indexer = getIndexer(10, 3);
+
+        indexer.index(INDEX_NAME, "guid1", 1L, Map.of("name", "asset1"));
+        indexer.index(INDEX_NAME, "guid2", 1L, Map.of("name", "asset2"));
+        indexer.close();
+
+        assertEquals(requests.size(), 3);
+        assertEquals(requests.get(1).operations().size(), 1);
+        assertEquals(requests.get(1).operations().get(0).index().id(), "guid1");
+        assertEquals(indexer.getIndexedCount(), 2);
+        assertEquals(indexer.getFailedCount(), 0);
+    }
+
+
+    /**
+     * Documents with other errors are not retried and are counted as failed.
+     */
+    @Test
+    public void testRejectedItemsAreFailed() {
+        itemStatuses.put("guid1", new ArrayList<>(List.of(400)));
+
+        ElasticsearchBulkIndexer indexer = getIndexer(10, 3);
+
+        indexer.index(INDEX_NAME, "guid1", 1L, Map.of("name", "asset1"));
+        indexer.close();
+
+        assertEquals(requests.size(), 1);
+        assertEquals(indexer.getIndexedCount(), 0);
+        assertEquals(indexer.getFailedCount(), 1);
+    }
+
+
+    /**
+     * A request that fails is resent and its documents are counted as failed once the retries are used up.
+     */
+    @Test
+    public void testFailedRequestsAreAbandoned() {
+        requestFailures.set(10);
+
+        ElasticsearchBulkIndexer indexer = getIndexer(10, 2);
+
+        indexer.index(INDEX_NAME, "guid1", 1L, Map.of("name", "asset1"));
+        indexer.index(INDEX_NAME, "guid2", 1L, Map.of("name", "asset2"));
+        indexer.close();
+
+        assertEquals(requests.size(), 3);
+        assertEquals(indexer.getIndexedCount(), 0);
+        assertEquals(indexer.getFailedCount(), 2);
+    }
+
+
+    /**
+     * A request that fails once is resent successfully.
+     */
+    @Test
+    public void testFailedRequestIsRetried() {
+        requestFailures.set(1);
+
+        ElasticsearchBulkIndexer indexer = getIndexer(10, 2);
+
+        indexer.index(INDEX_NAME, "guid1", 1L, Map.of("name", "asset1"));
+        indexer.close();
+
+        assertEquals(requests.size(), 2);
+        assertEquals(indexer.getIndexedCount(), 1);
+        assertEquals(indexer.getFailedCount(), 0);
+    }
+}
@@ -18,7 +18,9 @@ import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties
 import org.odpi.openmetadata.integrationservices.files.connector.FilesIntegratorConnector;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -36,9 +38,15 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     private File              dataFolderFile    = null;
 
 
-    private final Map<String, FileAlterationMonitor> monitors = new HashMap<>();
+    private final Map<String, FileAlterationMonitor>          monitors           = new HashMap<>();
+    private final Map<String, DirectoryWatcher.Registration> watchRegistrations = new HashMap<>();
 
     private static final int POLL_INTERVAL = 500; // milliseconds
+    private static final int QUIET_PERIOD  = 500; // milliseconds
+
+    private int     pollInterval = POLL_INTERVAL;
+    private int     quietPeriod  = QUIET_PERIOD;
+    private boolean usePolling   = false;
 
 
     /**
@@ -74,6 +82,23 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
             }
 
             templateQualifiedName = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+
+            Integer configuredPollInterval = this.getIntegerProperty(configurationProperties,
+                                                                     BasicFilesMonitorIntegrationProviderBase.POLL_INTERVAL_CONFIGURATION_PROPERTY);
+
+            if ((configuredPollInterval != null) && (configuredPollInterval > 0))
+            {
+                pollInterval = configuredPollInterval;
+                usePolling = true;
+            }
+
+            Integer configuredQuietPeriod = this.getIntegerProperty(configurationProperties,
+                                                                    BasicFilesMonitorIntegrationProviderBase.QUIET_PERIOD_CONFIGURATION_PROPERTY);
+
+            if ((configuredQuietPeriod != null) && (configuredQuietPeriod >= 0))
+            {
+                quietPeriod = configuredQuietPeriod;
+            }
         }
 
         /*
@@ -95,6 +120,38 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     }
 
 
+    /**
+     * Return the value of a numeric configuration property.  The value may be supplied as a number or a string.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @return value or null if the property is not set or is not a number
+     */
+    private Integer getIntegerProperty(Map<String, Object> configurationProperties,
+                                       String              propertyName)
+    {
+        Object value = configurationProperties.get(propertyName);
+
+        if (value instanceof Number number)
+        {
+            return number.intValue();
+        }
+        else if (value != null)
+        {
+            try
+            {
+                return Integer.parseInt(value.toString().trim());
+            }
+            catch (NumberFormatException error)
+            {
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the Java File object that provides access to the directory.
      *
@@ -286,7 +343,8 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 
     /**
      * Register a listener for a particular directory (folder).  This results in events whenever there are changes to the files and
-     * folders immediately in this directory.
+     * folders in this directory or any of the directories underneath it.  The shared file system watch service is used unless the
+     * connector is configured to poll, or the file system does not support change notifications.
      *
      * @param directory directory to monitor
      * @param methodName calling method
@@ -294,20 +352,59 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     synchronized void initiateDirectoryMonitoring(File   directory,
                                                   String methodName)
     {
-        FileAlterationObserver observer = new FileAlterationObserver(fileDirectoryName);
-        FileAlterationMonitor  monitor  = new FileAlterationMonitor(POLL_INTERVAL);
+        String directoryPathName = directory.getAbsolutePath();
+
+        if (monitors.containsKey(directoryPathName) || watchRegistrations.containsKey(directoryPathName))
+        {
+            return;
+        }
+
+        if (! usePolling)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_WATCH_STARTING.getMessageDefinition(connectorName,
+                                                                                                                           directoryPathName,
+                                                                                                                           Integer.toString(quietPeriod)));
+            }
+
+            try
+            {
+                DirectoryWatcher watcher = DirectoryWatcher.getWatcher(directory.toPath().getFileSystem());
+
+                watchRegistrations.put(directoryPathName, watcher.register(directory.toPath(), this.getListener(), quietPeriod));
+
+                return;
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_WATCH_UNAVAILABLE.getMessageDefinition(connectorName,
+                                                                                                                                  directoryPathName,
+                                                                                                                                  error.getClass().getName(),
+                                                                                                                                  error.getMessage(),
+                                                                                                                                  Integer.toString(pollInterval)));
+                }
+            }
+        }
+
+        FileAlterationObserver observer = new FileAlterationObserver(directory);
+        FileAlterationMonitor  monitor  = new FileAlterationMonitor(pollInterval);
         FileAlterationListener listener = this.getListener();
 
         observer.addListener(listener);
         monitor.addObserver(observer);
 
-        monitors.put(directory.getName(), monitor);
+        monitors.put(directoryPathName, monitor);
 
         if (auditLog != null)
         {
             auditLog.logMessage(methodName,
                                 BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_MONITORING_STARTING.getMessageDefinition(connectorName,
-                                                                                                                            directory.getAbsolutePath()));
+                                                                                                                            directoryPathName));
         }
 
         try
@@ -321,7 +418,7 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
                 auditLog.logException(methodName,
                                       BasicFilesIntegrationConnectorsAuditCode.UNEXPECTED_EXC_MONITOR_START.getMessageDefinition(error.getClass().getName(),
                                                                                                                                  connectorName,
-                                                                                                                                 directory.getAbsolutePath(),
+                                                                                                                                 directoryPathName,
                                                                                                                                  error.getMessage()),
                                       error);
             }
@@ -330,32 +427,46 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 
 
     /**
-     * Set up the file listener class - this is implemented by the subclasses
+     * Set up the file listener class - this is implemented by the subclasses.  The listener receives each batch of changes
+     * between calls to onStart and onStop.
      *
      * @return file alteration listener implementation
      */
     abstract FileAlterationListenerAdaptor getListener();
 
 
-    synchronized void stopDirectoryMonitoring(String fileName,
+    /**
+     * Stop monitoring a directory that was passed to initiateDirectoryMonitoring.
+     *
+     * @param directoryPathName absolute path name of the directory
+     * @param methodName calling method
+     */
+    synchronized void stopDirectoryMonitoring(String directoryPathName,
                                               String methodName)
     {
-        FileAlterationMonitor monitor = monitors.get(fileName);
+        DirectoryWatcher.Registration registration = watchRegistrations.remove(directoryPathName);
+        FileAlterationMonitor         monitor      = monitors.remove(directoryPathName);
 
-        if (monitor != null)
+        if ((registration != null) || (monitor != null))
         {
-            monitors.remove(fileName, monitor);
-
             if (auditLog != null)
             {
                 auditLog.logMessage(methodName,
                                     BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_MONITORING_STOPPING.getMessageDefinition(connectorName,
-                                                                                                                                fileName));
+                                                                                                                                directoryPathName));
             }
 
             try
             {
-                monitor.stop(POLL_INTERVAL * 2);
+                if (registration != null)
+                {
+                    registration.cancel(quietPeriod * 2L + POLL_INTERVAL);
+                }
+
+                if (monitor != null)
+                {
+                    monitor.stop(pollInterval * 2L);
+                }
             }
             catch (Exception error)
             {
@@ -364,7 +475,7 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
                     auditLog.logException(methodName,
                                           BasicFilesIntegrationConnectorsAuditCode.UNEXPECTED_EXC_MONITOR_STOP.getMessageDefinition(error.getClass().getName(),
                                                                                                                                     connectorName,
-                                                                                                                                    fileName,
+                                                                                                                                    directoryPathName,
                                                                                                                                     error.getMessage()),
                                           error);
                 }
@@ -383,9 +494,17 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     {
         final String methodName = "disconnect";
 
-        for (String fileName : monitors.keySet())
+        List<String> directoryPathNames;
+
+        synchronized (this)
+        {
+            directoryPathNames = new ArrayList<>(monitors.keySet());
+            directoryPathNames.addAll(watchRegistrations.keySet());
+        }
+
+        for (String directoryPathName : directoryPathNames)
         {
-            this.stopDirectoryMonitoring(fileName, methodName);
+            this.stopDirectoryMonitoring(directoryPathName, methodName);
         }
 
         if (auditLog != null)
@@ -20,6 +20,19 @@ class BasicFilesMonitorIntegrationProviderBase extends IntegrationConnectorProvi
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
     static final String ALLOW_CATALOG_DELETE_CONFIGURATION_PROPERTY    = "allowCatalogDelete";
 
+    /**
+     * Milliseconds between scans of the directory.  Setting this property switches the connector from the shared file system
+     * watch service to polling, which is needed for file systems, such as network mounts, that do not report changes made by
+     * other machines.
+     */
+    static final String POLL_INTERVAL_CONFIGURATION_PROPERTY           = "pollInterval";
+
+    /**
+     * Milliseconds that the directory must be free of changes before the changes are processed.  Repeated changes to the
+     * same file during this period are processed once.
+     */
+    static final String QUIET_PERIOD_CONFIGURATION_PROPERTY            = "quietPeriod";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * store implementation.
@@ -61,6 +74,8 @@ class BasicFilesMonitorIntegrationProviderBase extends IntegrationConnectorProvi
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
         recognizedConfigurationProperties.add(ALLOW_CATALOG_DELETE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(POLL_INTERVAL_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(QUIET_PERIOD_CONFIGURATION_PROPERTY);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
         connectorType.setSupportedAssetTypeName(supportedAssetTypeName);
@@ -79,22 +79,22 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
             connector.updateFileInCatalog(file);
         }
 
+        /*
+         * The monitoring covers the subdirectories of the monitored directory so the files in a new directory are
+         * reported to onFileCreate.  The files in a deleted directory are reported to onFileDelete when they are deleted
+         * individually rather than with the directory being moved elsewhere.
+         */
+
         @Override
         public void onDirectoryCreate(File directory)
         {
-            final String methodName = "onDirectoryCreate";
-
             log.debug("Folder created: " + directory.getName());
-            initiateDirectoryMonitoring(directory, methodName);
         }
 
         @Override
         public void onDirectoryDelete(File directory)
         {
-            final String methodName = "onDirectoryDelete";
-
             log.debug("Folder deleted: " + directory.getName());
-            stopDirectoryMonitoring(directory.getName(), methodName);
         }
     }
 
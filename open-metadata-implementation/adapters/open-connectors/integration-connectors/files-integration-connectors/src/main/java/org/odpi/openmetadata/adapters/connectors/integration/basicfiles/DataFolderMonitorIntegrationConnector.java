@@ -4,6 +4,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
 
 import org.apache.commons.io.monitor.FileAlterationListenerAdaptor;
+import org.apache.commons.io.monitor.FileAlterationObserver;
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.FileFolderElement;
 import org.odpi.openmetadata.accessservices.datamanager.properties.FileFolderProperties;
 import org.odpi.openmetadata.adapters.connectors.integration.basicfiles.ffdc.BasicFilesIntegrationConnectorsAuditCode;
@@ -164,60 +165,71 @@ public class DataFolderMonitorIntegrationConnector extends BasicFilesMonitorInte
 
 
     /**
-     * Inner class for the directory listener logic
+     * Inner class for the directory listener logic.  The DataFolder only records the time of the latest change so
+     * the changes reported in a batch (between onStart and onStop) result in a single update to the DataFolder.
      */
     class FileCataloguingListener extends FileAlterationListenerAdaptor
     {
         private final DataFolderMonitorIntegrationConnector connector;
 
+        private File lastFileChanged = null;
+
         FileCataloguingListener(DataFolderMonitorIntegrationConnector connector)
         {
             this.connector = connector;
         }
 
         @Override
-        public void onFileCreate(File file)
+        public void onStart(FileAlterationObserver observer)
         {
-            final String methodName = "onFileCreate";
+            lastFileChanged = null;
+        }
 
+        @Override
+        public void onFileCreate(File file)
+        {
             log.debug("File created: " + file.getName());
-            connector.updateDataFolder(file, new Date(), methodName);
+            lastFileChanged = file;
         }
 
         @Override
         public void onFileDelete(File file)
         {
-            final String methodName = "onFileDelete";
-
             log.debug("File deleted: " + file.getName());
-            connector.updateDataFolder(file, new Date(), methodName);
+            lastFileChanged = file;
         }
 
         @Override
         public void onFileChange(File file)
         {
-            final String methodName = "onFileChange";
-
             log.debug("File changed: " + file.getName());
-            connector.updateDataFolder(file, new Date(), methodName);
+            lastFileChanged = file;
         }
 
         @Override
         public void onDirectoryCreate(File directory)
         {
-            final String methodName = "onDirectoryCreate";
-
             log.debug("Folder created: " + directory.getName());
-            initiateDirectoryMonitoring(directory, methodName);
+            lastFileChanged = directory;
         }
 
         @Override
         public void onDirectoryDelete(File directory)
         {
-            final String methodName = "onDirectoryDelete";
-
             log.debug("Folder deleted: " + directory.getName());
-            stopDirectoryMonitoring(directory.getName(), methodName);
+            lastFileChanged = directory;
+        }
+
+        @Override
+        public void onStop(FileAlterationObserver observer)
+        {
+            final String methodName = "onStop";
+
+            if (lastFileChanged != null)
+            {
+                connector.updateDataFolder(lastFileChanged, new Date(), methodName);
+                lastFileChanged = null;
+            }
         }
     }
 }
@@ -0,0 +1,775 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.monitor.FileAlterationListener;
+import org.apache.commons.io.monitor.FileAlterationObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+
+/**
+ * DirectoryWatcher monitors directory trees using the file system's native change notifications
+ * (java.nio.file.WatchService).  A single watcher, and hence a single background thread, is shared by all the
+ * connectors in the JVM that monitor directories in the same file system.
+ * <br><br>
+ * Each registration covers a root directory and all the directories underneath it.  Directories that are created
+ * later are registered as soon as their creation is reported.  The changes to the files and directories are
+ * coalesced until the registration has seen no further changes for its quiet period, so a file that is written
+ * in many small pieces is reported once.  Each batch of changes is passed to the registration's listener
+ * between calls to onStart and onStop, which is the same sequence that the Apache Commons FileAlterationObserver
+ * uses for each poll, so the same listener works with both mechanisms.
+ * <br><br>
+ * If the file system does not support change notifications, register throws an IOException and the caller
+ * should fall back to polling.
+ */
+class DirectoryWatcher
+{
+    private static final Logger log = LoggerFactory.getLogger(DirectoryWatcher.class);
+
+    /*
+     * Continuously changing directories are still reported after this multiple of the quiet period.
+     */
+    private static final int MAX_BATCH_DELAY_FACTOR = 20;
+
+    private static final Map<FileSystem, DirectoryWatcher> watchers = new HashMap<>();
+
+    /*
+     * Listeners may call the open metadata repositories, so they are not called on the watcher thread.
+     */
+    private static final ExecutorService deliveryService = Executors.newCachedThreadPool(runnable ->
+                                                                                         {
+                                                                                             Thread thread = new Thread(runnable, "BasicFilesWatcherDelivery");
+                                                                                             thread.setDaemon(true);
+                                                                                             return thread;
+                                                                                         });
+
+    private final FileSystem              fileSystem;
+    private final Map<WatchKey, Path>     watchedDirectories = new HashMap<>();
+    private final Map<Path, WatchKey>     directoryKeys      = new HashMap<>();
+    private final List<Registration>      registrations      = new ArrayList<>();
+    private       WatchService            watchService       = null;
+
+
+    /**
+     * Return the shared watcher for a file system.
+     *
+     * @param fileSystem file system of the directories to monitor
+     * @return watcher
+     */
+    static synchronized DirectoryWatcher getWatcher(FileSystem fileSystem)
+    {
+        return watchers.computeIfAbsent(fileSystem, DirectoryWatcher::new);
+    }
+
+
+    /**
+     * Constructor is private - use getWatcher().
+     *
+     * @param fileSystem file system of the directories to monitor
+     */
+    private DirectoryWatcher(FileSystem fileSystem)
+    {
+        this.fileSystem = fileSystem;
+    }
+
+
+    /**
+     * Start monitoring a directory and all the directories underneath it.
+     *
+     * @param rootDirectory directory to monitor
+     * @param listener listener to receive the changes
+     * @param quietPeriod milliseconds without changes before the changes are passed to the listener
+     * @return registration used to stop the monitoring
+     * @throws IOException the file system does not support change notifications or the directory can not be read
+     */
+    synchronized Registration register(Path                   rootDirectory,
+                                       FileAlterationListener listener,
+                                       long                   quietPeriod) throws IOException
+    {
+        if (watchService == null)
+        {
+            try
+            {
+                watchService = fileSystem.newWatchService();
+            }
+            catch (UnsupportedOperationException error)
+            {
+                throw new IOException("File system " + fileSystem + " does not support change notifications", error);
+            }
+
+            final WatchService newWatchService = watchService;
+
+            Thread watcherThread = new Thread(() -> this.processEvents(newWatchService), "BasicFilesWatcher");
+            watcherThread.setDaemon(true);
+            watcherThread.start();
+        }
+
+        Registration registration = new Registration(rootDirectory.toAbsolutePath().normalize(), listener, quietPeriod);
+
+        try
+        {
+            this.registerTree(registration, registration.rootDirectory, false);
+        }
+        catch (IOException | RuntimeException error)
+        {
+            this.releaseDirectories(registration);
+            this.closeIfUnused();
+            throw error;
+        }
+
+        registrations.add(registration);
+
+        return registration;
+    }
+
+
+    /**
+     * Return the number of directories that are registered with the file system.
+     *
+     * @return count
+     */
+    synchronized int getWatchedDirectoryCount()
+    {
+        return directoryKeys.size();
+    }
+
+
+    /**
+     * Register a directory and its subdirectories for a registration.  When the directories are new, the files and
+     * directories that are already inside them are recorded as created since their creation may have happened before
+     * the registration completed.
+     *
+     * @param registration registration to extend
+     * @param directory top of the tree to register
+     * @param recordContents whether to record the contents as created
+     * @throws IOException unable to read or register a directory
+     */
+    private void registerTree(Registration registration,
+                              Path         directory,
+                              boolean      recordContents) throws IOException
+    {
+        List<Path> contents;
+
+        try (Stream<Path> tree = Files.walk(directory))
+        {
+            contents = tree.toList();
+        }
+
+        for (Path path : contents)
+        {
+            if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+            {
+                this.registerDirectory(registration, path);
+            }
+
+            if (recordContents && (! path.equals(directory)))
+            {
+                registration.recordChange(path, ChangeType.CREATED);
+            }
+        }
+    }
+
+
+    /**
+     * Register a single directory.
+     *
+     * @param registration registration that needs the directory
+     * @param directory directory to register
+     * @throws IOException unable to register the directory
+     */
+    private void registerDirectory(Registration registration,
+                                   Path         directory) throws IOException
+    {
+        if (! directoryKeys.containsKey(directory))
+        {
+            WatchKey watchKey = directory.register(watchService,
+                                                   StandardWatchEventKinds.ENTRY_CREATE,
+                                                   StandardWatchEventKinds.ENTRY_DELETE,
+                                                   StandardWatchEventKinds.ENTRY_MODIFY);
+            directoryKeys.put(directory, watchKey);
+            watchedDirectories.put(watchKey, directory);
+        }
+
+        registration.directories.add(directory);
+        registration.knownDirectories.add(directory);
+    }
+
+
+    /**
+     * Remove the registration's claim on its directories and cancel the directories that no other registration needs.
+     *
+     * @param registration registration that is finishing
+     */
+    private void releaseDirectories(Registration registration)
+    {
+        for (Path directory : registration.directories)
+        {
+            this.releaseDirectory(registration, directory);
+        }
+
+        registration.directories.clear();
+    }
+
+
+    /**
+     * Cancel a directory if no registration other than the supplied one needs it.
+     *
+     * @param registration registration that no longer needs the directory
+     * @param directory directory
+     */
+    private void releaseDirectory(Registration registration,
+                                  Path         directory)
+    {
+        for (Registration otherRegistration : registrations)
+        {
+            if ((otherRegistration != registration) && (otherRegistration.directories.contains(directory)))
+            {
+                return;
+            }
+        }
+
+        WatchKey watchKey = directoryKeys.remove(directory);
+
+        if (watchKey != null)
+        {
+            watchedDirectories.remove(watchKey);
+            watchKey.cancel();
+        }
+    }
+
+
+    /**
+     * Stop the background thread once there is nothing to watch.
+     */
+    private void closeIfUnused()
+    {
+        if (registrations.isEmpty() && (watchService != null))
+        {
+            try
+            {
+                watchService.close();
+            }
+            catch (IOException error)
+            {
+                log.debug("Error closing watch service", error);
+            }
+
+            watchService = null;
+            watchedDirectories.clear();
+            directoryKeys.clear();
+        }
+    }
+
+
+    /**
+     * Background thread that receives the notifications from the file system and passes the batches of changes to
+     * the listeners once each registration has been quiet for long enough.
+     *
+     * @param watchService watch service for this thread
+     */
+    private void processEvents(WatchService watchService)
+    {
+        try
+        {
+            while (true)
+            {
+                long     waitTime = this.deliverQuietBatches();
+                WatchKey watchKey;
+
+                if (waitTime < 0)
+                {
+                    watchKey = watchService.take();
+                }
+                else
+                {
+                    watchKey = watchService.poll(waitTime, TimeUnit.MILLISECONDS);
+                }
+
+                while (watchKey != null)
+                {
+                    this.processWatchKey(watchKey);
+                    watchKey = watchService.poll();
+                }
+            }
+        }
+        catch (ClosedWatchServiceException | InterruptedException error)
+        {
+            log.debug("File watcher thread for " + fileSystem + " is stopping");
+        }
+    }
+
+
+    /**
+     * Record the changes reported for a directory against each registration that covers the directory.
+     *
+     * @param watchKey key for the directory
+     */
+    private synchronized void processWatchKey(WatchKey watchKey)
+    {
+        Path directory = watchedDirectories.get(watchKey);
+
+        List<WatchEvent<?>> events = watchKey.pollEvents();
+
+        if (directory == null)
+        {
+            watchKey.cancel();
+            return;
+        }
+
+        for (Registration registration : registrations)
+        {
+            if (registration.directories.contains(directory))
+            {
+                for (WatchEvent<?> event : events)
+                {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                    {
+                        this.rescan(registration, directory);
+                    }
+                    else
+                    {
+                        Path path = directory.resolve((Path)event.context());
+
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE)
+                        {
+                            registration.recordChange(path, ChangeType.CREATED);
+
+                            if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+                            {
+                                try
+                                {
+                                    this.registerTree(registration, path, true);
+                                }
+                                catch (IOException | RuntimeException error)
+                                {
+                                    log.debug("Unable to register new directory " + path, error);
+                                }
+                            }
+                        }
+                        else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE)
+                        {
+                            registration.recordChange(path, ChangeType.DELETED);
+                        }
+                        else
+                        {
+                            registration.recordChange(path, ChangeType.CHANGED);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (! watchKey.reset())
+        {
+            /*
+             * The directory has gone.
+             */
+            watchedDirectories.remove(watchKey);
+            directoryKeys.remove(directory, watchKey);
+
+            for (Registration registration : registrations)
+            {
+                registration.directories.remove(directory);
+            }
+        }
+    }
+
+
+    /**
+     * Events have been lost for a directory.  Every file and directory underneath it is reported as changed so that
+     * the listener can bring the catalog up to date.  Files that were deleted are picked up by the connector's refresh.
+     *
+     * @param registration registration that lost events
+     * @param directory directory where the events were lost
+     */
+    private void rescan(Registration registration,
+                        Path         directory)
+    {
+        log.debug("Change notifications lost for " + directory + "; rescanning");
+
+        try (Stream<Path> tree = Files.walk(directory))
+        {
+            for (Path path : tree.toList())
+            {
+                if (! path.equals(directory))
+                {
+                    if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+                    {
+                        this.registerDirectory(registration, path);
+                    }
+
+                    registration.recordChange(path, ChangeType.CHANGED);
+                }
+            }
+        }
+        catch (IOException | RuntimeException error)
+        {
+            log.debug("Unable to rescan directory " + directory, error);
+        }
+    }
+
+
+    /**
+     * Hand the batches of the registrations that have been quiet for long enough to the delivery threads.
+     *
+     * @return milliseconds until the next batch is due or -1 if there are no pending changes
+     */
+    private synchronized long deliverQuietBatches()
+    {
+        long now      = System.currentTimeMillis();
+        long waitTime = -1;
+
+        for (Registration registration : registrations)
+        {
+            if (! registration.pendingChanges.isEmpty())
+            {
+                long dueTime = Math.min(registration.lastChangeTime + registration.quietPeriod,
+                                        registration.firstChangeTime + (registration.quietPeriod * MAX_BATCH_DELAY_FACTOR));
+
+                if (dueTime <= now)
+                {
+                    registration.queueBatch();
+                }
+                else if ((waitTime < 0) || (dueTime - now < waitTime))
+                {
+                    waitTime = dueTime - now;
+                }
+            }
+        }
+
+        return waitTime;
+    }
+
+
+    /**
+     * The type of change recorded for a path.
+     */
+    enum ChangeType
+    {
+        CREATED,
+        CHANGED,
+        DELETED,
+        DIRECTORY_DELETED
+    }
+
+
+    /**
+     * Registration records the directories monitored for a listener and the changes that have not been passed
+     * to the listener yet.
+     */
+    class Registration
+    {
+        private final Path                           rootDirectory;
+        private final FileAlterationListener         listener;
+        private final long                           quietPeriod;
+
+        /*
+         * Only used while synchronized on the watcher.  The known directories are needed because a path that has been
+         * deleted can no longer be tested to find out whether it was a directory.
+         */
+        private final Set<Path>                      directories      = new HashSet<>();
+        private final Set<Path>                      knownDirectories = new HashSet<>();
+        private final Map<Path, ChangeType>          pendingChanges   = new LinkedHashMap<>();
+        private       long                           firstChangeTime  = 0;
+        private       long                           lastChangeTime   = 0;
+
+        /*
+         * Only used while synchronized on the registration.
+         */
+        private final Queue<Map<Path, ChangeType>>   readyBatches     = new ArrayDeque<>();
+        private       Thread                         deliveryThread   = null;
+        private       boolean                        isCancelled      = false;
+
+
+        /**
+         * Constructor.
+         *
+         * @param rootDirectory directory at the top of the tree
+         * @param listener listener to call
+         * @param quietPeriod milliseconds without changes before the changes are passed to the listener
+         */
+        private Registration(Path                   rootDirectory,
+                             FileAlterationListener listener,
+                             long                   quietPeriod)
+        {
+            this.rootDirectory = rootDirectory;
+            this.listener = listener;
+            this.quietPeriod = quietPeriod;
+        }
+
+
+        /**
+         * Merge a change with any change for the same path that has not been delivered yet.
+         *
+         * @param path file or directory that changed
+         * @param changeType what happened
+         */
+        private void recordChange(Path       path,
+                                  ChangeType changeType)
+        {
+            long now = System.currentTimeMillis();
+
+            if (pendingChanges.isEmpty())
+            {
+                firstChangeTime = now;
+            }
+
+            lastChangeTime = now;
+
+            if (changeType == ChangeType.DELETED)
+            {
+                if (knownDirectories.remove(path))
+                {
+                    changeType = ChangeType.DIRECTORY_DELETED;
+                    knownDirectories.removeIf(knownDirectory -> knownDirectory.startsWith(path));
+                }
+            }
+            else if ((changeType == ChangeType.CREATED) && (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)))
+            {
+                knownDirectories.add(path);
+            }
+
+            ChangeType previousChange = pendingChanges.get(path);
+
+            if (previousChange == null)
+            {
+                pendingChanges.put(path, changeType);
+            }
+            else if (previousChange == ChangeType.CREATED)
+            {
+                if ((changeType == ChangeType.DELETED) || (changeType == ChangeType.DIRECTORY_DELETED))
+                {
+                    /*
+                     * Created and deleted within the same batch - the listener never needs to know about it.
+                     */
+                    pendingChanges.remove(path);
+                }
+            }
+            else if ((previousChange == ChangeType.DELETED) || (previousChange == ChangeType.DIRECTORY_DELETED))
+            {
+                if ((changeType == ChangeType.CREATED) || (changeType == ChangeType.CHANGED))
+                {
+                    /*
+                     * Deleted and recreated - for example, a file that is replaced by renaming a new version over it.
+                     */
+                    pendingChanges.put(path, ChangeType.CHANGED);
+                }
+            }
+            else
+            {
+                pendingChanges.put(path, changeType);
+            }
+        }
+
+
+        /**
+         * Move the pending changes into a batch for delivery.  Called by the watcher thread.
+         */
+        private void queueBatch()
+        {
+            Map<Path, ChangeType> batch = new LinkedHashMap<>(pendingChanges);
+
+            pendingChanges.clear();
+
+            synchronized (this)
+            {
+                if (isCancelled)
+                {
+                    return;
+                }
+
+                readyBatches.add(batch);
+
+                if (deliveryThread == null)
+                {
+                    deliveryService.execute(this::deliverBatches);
+                }
+            }
+        }
+
+
+        /**
+         * Pass the ready batches to the listener in the order they were queued.  Only one delivery thread runs for
+         * a registration at a time.
+         */
+        private void deliverBatches()
+        {
+            synchronized (this)
+            {
+                if (deliveryThread != null)
+                {
+                    return;
+                }
+
+                deliveryThread = Thread.currentThread();
+            }
+
+            while (true)
+            {
+                Map<Path, ChangeType> batch;
+
+                synchronized (this)
+                {
+                    batch = readyBatches.poll();
+
+                    if ((batch == null) || (isCancelled))
+                    {
+                        deliveryThread = null;
+                        this.notifyAll();
+                        return;
+                    }
+                }
+
+                try
+                {
+                    this.deliverBatch(batch);
+                }
+                catch (Exception error)
+                {
+                    log.debug("Listener for " + rootDirectory + " failed to process changes", error);
+                }
+            }
+        }
+
+
+        /**
+         * Pass a batch to the listener.  Whether a path that still exists is a file or a directory is determined
+         * when the batch is delivered.
+         *
+         * @param batch changes to report
+         */
+        private void deliverBatch(Map<Path, ChangeType> batch)
+        {
+            FileAlterationObserver observer = new FileAlterationObserver(rootDirectory.toFile());
+
+            listener.onStart(observer);
+
+            for (Map.Entry<Path, ChangeType> change : batch.entrySet())
+            {
+                Path       path        = change.getKey();
+                ChangeType changeType  = change.getValue();
+                boolean    exists      = Files.exists(path, LinkOption.NOFOLLOW_LINKS);
+
+                if (changeType == ChangeType.DIRECTORY_DELETED)
+                {
+                    listener.onDirectoryDelete(path.toFile());
+                }
+                else if ((! exists) && (changeType != ChangeType.DELETED))
+                {
+                    /*
+                     * The path disappeared before the batch was delivered.
+                     */
+                    if (changeType == ChangeType.CREATED)
+                    {
+                        continue;
+                    }
+
+                    listener.onFileDelete(path.toFile());
+                }
+                else if (changeType == ChangeType.DELETED)
+                {
+                    listener.onFileDelete(path.toFile());
+                }
+                else if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+                {
+                    if (changeType == ChangeType.CREATED)
+                    {
+                        listener.onDirectoryCreate(path.toFile());
+                    }
+                    else
+                    {
+                        listener.onDirectoryChange(path.toFile());
+                    }
+                }
+                else if (changeType == ChangeType.CREATED)
+                {
+                    listener.onFileCreate(path.toFile());
+                }
+                else
+                {
+                    listener.onFileChange(path.toFile());
+                }
+            }
+
+            listener.onStop(observer);
+        }
+
+
+        /**
+         * Return the directory at the top of the monitored tree.
+         *
+         * @return path
+         */
+        Path getRootDirectory()
+        {
+            return rootDirectory;
+        }
+
+
+        /**
+         * Stop monitoring.  Changes that have not been delivered are discarded.  The call waits for up to the
+         * supplied time for a batch that is being delivered to complete.
+         *
+         * @param waitTime milliseconds to wait for delivery to complete
+         * @throws InterruptedException interrupted while waiting
+         */
+        void cancel(long waitTime) throws InterruptedException
+        {
+            synchronized (DirectoryWatcher.this)
+            {
+                if (registrations.remove(this))
+                {
+                    releaseDirectories(this);
+                    pendingChanges.clear();
+                    closeIfUnused();
+                }
+            }
+
+            synchronized (this)
+            {
+                isCancelled = true;
+                readyBatches.clear();
+
+                long deadline = System.currentTimeMillis() + waitTime;
+
+                while ((deliveryThread != null) && (deliveryThread != Thread.currentThread()))
+                {
+                    long remainingTime = deadline - System.currentTimeMillis();
+
+                    if (remainingTime <= 0)
+                    {
+                        break;
+                    }
+
+                    this.wait(remainingTime);
+                }
+            }
+        }
+    }
+}
@@ -179,6 +179,24 @@ public enum BasicFilesIntegrationConnectorsAuditCode implements AuditLogMessageS
                               "Its presence is still needed in the metadata repository for lineage reporting.",
                       "No action is required.  This message is to record the reason why the DataFile was archived."),
 
+    DIRECTORY_WATCH_STARTING("BASIC-FILES-INTEGRATION-CONNECTORS-0021",
+                             OMRSAuditLogRecordSeverity.INFO,
+                             "The {0} integration connector is registering file directory {1} and its subdirectories with the file system " +
+                                     "watch service; changes are processed after {2} milliseconds without further changes",
+                             "The connector shares a single background thread with the other connectors monitoring the same file system.  " +
+                                     "Changes to the files in the directory, or in new subdirectories, are reported to this integration connector.",
+                             "No action is required unless the directory is on a network file system that does not report changes made by " +
+                                     "other machines.  In that case, set the pollInterval configuration property so the connector polls the directory."),
+
+    DIRECTORY_WATCH_UNAVAILABLE("BASIC-FILES-INTEGRATION-CONNECTORS-0022",
+                                OMRSAuditLogRecordSeverity.INFO,
+                                "The {0} integration connector is unable to use the file system watch service for directory {1} because " +
+                                        "of a {2} exception with message {3}; the directory will be polled every {4} milliseconds instead",
+                                "The connector starts the Apache Commons FileAlterationMonitor for the directory.  This uses a background " +
+                                        "thread for the directory that scans it for changes at the poll interval.",
+                                "Check that the file system supports change notifications and that the limit on the number of watched " +
+                                        "directories has not been reached.  Restart the connector if the watch service should be used."),
+
 
     ;
 
@@ -0,0 +1,239 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.monitor.FileAlterationListenerAdaptor;
+import org.apache.commons.io.monitor.FileAlterationObserver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the DirectoryWatcher reports changes in a directory tree as coalesced batches.
+ */
+public class DirectoryWatcherTest
+{
+    private static final long QUIET_PERIOD = 200;
+    private static final long WAIT_TIME    = 10000;
+
+    private Path                          rootDirectory;
+    private RecordingListener             listener;
+    private DirectoryWatcher.Registration registration;
+
+
+    /**
+     * Create an empty directory to monitor.
+     *
+     * @throws Exception unable to create the directory
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        rootDirectory = Files.createTempDirectory("DirectoryWatcherTest").toRealPath();
+        listener = new RecordingListener();
+        registration = DirectoryWatcher.getWatcher(rootDirectory.getFileSystem()).register(rootDirectory, listener, QUIET_PERIOD);
+    }
+
+
+    /**
+     * Stop monitoring and remove the directory.
+     *
+     * @throws Exception unable to remove the directory
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        registration.cancel(WAIT_TIME);
+        FileUtils.deleteDirectory(rootDirectory.toFile());
+    }
+
+
+    /**
+     * Repeated writes to the same file are reported once, as a creation.
+     *
+     * @throws Exception problem in test
+     */
+    @Test
+    public void testRepeatedChangesAreCoalesced() throws Exception
+    {
+        Path file = rootDirectory.resolve("landing.csv");
+
+        Files.writeString(file, "a,b,c\n");
+
+        for (int line = 0; line < 20; line++)
+        {
+            Files.writeString(file, line + "," + line + "," + line + "\n", StandardOpenOption.APPEND);
+        }
+
+        List<String> batch = listener.nextBatch();
+
+        assertNotNull(batch);
+        assertEquals(batch, List.of("fileCreate " + file));
+    }
+
+
+    /**
+     * A file that is created and deleted before the quiet period ends is not reported.
+     *
+     * @throws Exception problem in test
+     */
+    @Test
+    public void testShortLivedFileIsNotReported() throws Exception
+    {
+        Path temporaryFile = rootDirectory.resolve("temporary.tmp");
+        Path keptFile      = rootDirectory.resolve("kept.csv");
+
+        Files.writeString(temporaryFile, "x");
+        Files.delete(temporaryFile);
+        Files.writeString(keptFile, "y");
+
+        assertEquals(listener.nextBatch(), List.of("fileCreate " + keptFile));
+    }
+
+
+    /**
+     * Files in new subdirectories are reported and later changes in those subdirectories are reported too.
+     *
+     * @throws Exception problem in test
+     */
+    @Test
+    public void testNewSubdirectoriesAreMonitored() throws Exception
+    {
+        Path subdirectory = rootDirectory.resolve("2024").resolve("01");
+
+        Files.createDirectories(subdirectory);
+        Path firstFile = Files.writeString(subdirectory.resolve("first.csv"), "1");
+
+        List<String> batch = listener.nextBatch();
+
+        assertNotNull(batch);
+        assertTrue(batch.contains("directoryCreate " + rootDirectory.resolve("2024")), batch.toString());
+        assertTrue(batch.contains("directoryCreate " + subdirectory), batch.toString());
+        assertTrue(batch.contains("fileCreate " + firstFile), batch.toString());
+
+        Path secondFile = Files.writeString(subdirectory.resolve("second.csv"), "2");
+
+        assertEquals(listener.nextBatch(), List.of("fileCreate " + secondFile));
+
+        Files.delete(firstFile);
+
+        assertEquals(listener.nextBatch(), List.of("fileDelete " + firstFile));
+    }
+
+
+    /**
+     * Deleted directories are reported as directories even though they can no longer be examined.
+     *
+     * @throws Exception problem in test
+     */
+    @Test
+    public void testDeletedDirectoryIsReported() throws Exception
+    {
+        Path subdirectory = Files.createDirectory(rootDirectory.resolve("archive"));
+
+        assertEquals(listener.nextBatch(), List.of("directoryCreate " + subdirectory));
+
+        Files.delete(subdirectory);
+
+        assertEquals(listener.nextBatch(), List.of("directoryDelete " + subdirectory));
+    }
+
+
+    /**
+     * No changes are reported once the registration is cancelled and directories are no longer watched.
+     *
+     * @throws Exception problem in test
+     */
+    @Test
+    public void testCancel() throws Exception
+    {
+        DirectoryWatcher watcher = DirectoryWatcher.getWatcher(rootDirectory.getFileSystem());
+
+        Files.createDirectory(rootDirectory.resolve("sub"));
+        listener.nextBatch();
+
+        int watchedDirectories = watcher.getWatchedDirectoryCount();
+
+        registration.cancel(WAIT_TIME);
+
+        assertEquals(watcher.getWatchedDirectoryCount(), watchedDirectories - 2);
+
+        Files.writeString(rootDirectory.resolve("ignored.csv"), "z");
+
+        assertNull(listener.batches.poll(QUIET_PERIOD * 5, TimeUnit.MILLISECONDS));
+    }
+
+
+    /**
+     * Records the callbacks for each batch.
+     */
+    private static class RecordingListener extends FileAlterationListenerAdaptor
+    {
+        private final BlockingQueue<List<String>> batches      = new LinkedBlockingQueue<>();
+        private       List<String>                currentBatch = null;
+
+        List<String> nextBatch() throws InterruptedException
+        {
+            return batches.poll(WAIT_TIME, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void onStart(FileAlterationObserver observer)
+        {
+            currentBatch = new ArrayList<>();
+        }
+
+        @Override
+        public void onDirectoryCreate(File directory)
+        {
+            currentBatch.add("directoryCreate " + directory.toPath());
+        }
+
+        @Override
+        public void onDirectoryDelete(File directory)
+        {
+            currentBatch.add("directoryDelete " + directory.toPath());
+        }
+
+        @Override
+        public void onFileCreate(File file)
+        {
+            currentBatch.add("fileCreate " + file.toPath());
+        }
+
+        @Override
+        public void onFileChange(File file)
+        {
+            currentBatch.add("fileChange " + file.toPath());
+        }
+
+        @Override
+        public void onFileDelete(File file)
+        {
+            currentBatch.add("fileDelete " + file.toPath());
+        }
+
+        @Override
+        public void onStop(FileAlterationObserver observer)
+        {
+            batches.add(currentBatch);
+        }
+    }
+}
@@ -166,8 +166,12 @@ public class JDBCIntegrationConnector extends DatabaseIntegratorConnector
             String connectorTypeQualifiedName = JDBCResourceConnector.getConnection().getConnectorType().getConnectorProviderClassName();
             String address = JDBCResourceConnector.getConnection().getEndpoint().getAddress();
             String catalog = (String)configurationProperties.get("catalog");
+            boolean incrementalTransfer = Boolean.parseBoolean(String.valueOf(configurationProperties.get(JDBCIntegrationConnectorProvider.INCREMENTAL_TRANSFER)));
+            int maxParallelSchemas = Optional.ofNullable(configurationProperties.get(JDBCIntegrationConnectorProvider.MAX_PARALLEL_SCHEMAS))
+                    .map(value -> Integer.parseInt(value.toString()))
+                    .orElse(Runtime.getRuntime().availableProcessors());
             return new JdbcMetadataTransfer(new JdbcMetadata(databaseMetaData), this.getContext(), address,
-                    connectorTypeQualifiedName, catalog, transferCustomizations, auditLog);
+                    connectorTypeQualifiedName, catalog, transferCustomizations, incrementalTransfer, maxParallelSchemas, auditLog);
         }
         catch (ConnectorCheckedException e)
         {
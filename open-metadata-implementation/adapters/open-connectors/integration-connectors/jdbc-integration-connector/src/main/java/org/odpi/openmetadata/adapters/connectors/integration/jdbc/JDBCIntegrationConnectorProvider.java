@@ -36,6 +36,19 @@ public class JDBCIntegrationConnectorProvider extends IntegrationConnectorProvid
      */
     private static final String connectorClassName     = "org.odpi.openmetadata.adapters.connectors.integration.jdbc.JDBCIntegrationConnector";
 
+    /**
+     * Turns on the incremental transfer of tables. A fingerprint of the metadata of each table, its columns and primary keys
+     * is recorded with the table, and tables whose fingerprint has not changed since the previous refresh are skipped.
+     * The default value is false.
+     */
+    public static final String INCREMENTAL_TRANSFER = "incrementalTransfer";
+
+    /**
+     * Sets the maximum number of schemas that are transferred in parallel. The default value is the number of available
+     * processors.
+     */
+    public static final String MAX_PARALLEL_SCHEMAS = "maxParallelSchemas";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * connector implementation.
@@ -66,6 +79,8 @@ public class JDBCIntegrationConnectorProvider extends IntegrationConnectorProvid
         recognizedConfigurationProperties.add(TransferCustomizations.EXCLUDE_TABLE_NAMES);
         recognizedConfigurationProperties.add(TransferCustomizations.INCLUDE_COLUMN_NAMES);
         recognizedConfigurationProperties.add(TransferCustomizations.EXCLUDE_COLUMN_NAMES);
+        recognizedConfigurationProperties.add(INCREMENTAL_TRANSFER);
+        recognizedConfigurationProperties.add(MAX_PARALLEL_SCHEMAS);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
         connectorType.setSupportedAssetTypeName(supportedAssetTypeName);
 
@@ -85,7 +85,17 @@ public enum JDBCIntegrationConnectorAuditCode implements AuditLogMessageSet
             OMRSAuditLogRecordSeverity.INFO,
             "Exiting from method {0} as a result of a failed metadata query test",
             "Stopping execution",
-            "Investigate log for additional details");
+            "Investigate log for additional details"),
+    INCREMENTAL_TRANSFER_COMPLETE_FOR_SCHEMA("JDBC-INTEGRATION-CONNECTOR-0015",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Incremental metadata transfer for schema {0} skipped {1} unchanged tables and transferred {2} new or changed tables",
+            "Tables whose metadata has the same fingerprint as at the previous transfer are not sent to the Metadata Access Server",
+            "None"),
+    EXCEPTION_TRANSFERRING_SCHEMA("JDBC-INTEGRATION-CONNECTOR-0016",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The transfer of {0} for schema {1} failed with exception {2}. Exception message is: {3}",
+            "The transfer of the other schemas continues",
+            "Take appropriate action to remedy the issue described in the exception message. The schema is transferred again at the next refresh");
 
 
     private final AuditLogMessageDefinition messageDefinition;
@@ -9,24 +9,40 @@ import org.odpi.openmetadata.accessservices.datamanager.metadataelements.Databas
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseViewElement;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Jdbc;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.EXCEPTION_TRANSFERRING_SCHEMA;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.EXITING_ON_DATABASE_TRANSFER_FAIL;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.INCREMENTAL_TRANSFER_COMPLETE_FOR_SCHEMA;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.TRANSFER_EXCEPTIONS_FOR_DB_OBJECT;
 
 /**
- * Transfers metadata from jdbc in an exploratory way. What can be accessed will be transferred
+ * Transfers metadata from jdbc in an exploratory way. What can be accessed will be transferred. Schemas are transferred
+ * in parallel, up to a maximum number at a time. In incremental mode, tables whose metadata has not changed since the
+ * previous transfer are skipped
  */
 public class JdbcMetadataTransfer {
 
@@ -46,19 +62,38 @@ public class JdbcMetadataTransfer {
     private final String connectorTypeQualifiedName;
     private final String catalog;
     private final TransferCustomizations transferCustomizations;
+    private final boolean incrementalTransfer;
+    private final int maxParallelSchemas;
 
     private final AuditLog auditLog;
 
     public JdbcMetadataTransfer(JdbcMetadata jdbcMetadata, DatabaseIntegratorContext databaseIntegratorContext, String address,
                                 String connectorTypeQualifiedName, String catalog,  TransferCustomizations transferCustomizations,
                                 AuditLog auditLog) {
-        this.jdbc = new Jdbc(jdbcMetadata, auditLog);
-        this.omas = new Omas(databaseIntegratorContext, auditLog);
-        this.databaseManagerName = databaseIntegratorContext.getDatabaseManagerName();
+        this(jdbcMetadata, databaseIntegratorContext, address, connectorTypeQualifiedName, catalog, transferCustomizations,
+                false, Runtime.getRuntime().availableProcessors(), auditLog);
+    }
+
+    public JdbcMetadataTransfer(JdbcMetadata jdbcMetadata, DatabaseIntegratorContext databaseIntegratorContext, String address,
+                                String connectorTypeQualifiedName, String catalog,  TransferCustomizations transferCustomizations,
+                                boolean incrementalTransfer, int maxParallelSchemas, AuditLog auditLog) {
+        this(new Jdbc(jdbcMetadata, auditLog), new Omas(databaseIntegratorContext, auditLog),
+                databaseIntegratorContext.getDatabaseManagerName(), address, connectorTypeQualifiedName, catalog,
+                transferCustomizations, incrementalTransfer, maxParallelSchemas, auditLog);
+    }
+
+    JdbcMetadataTransfer(Jdbc jdbc, Omas omas, String databaseManagerName, String address, String connectorTypeQualifiedName,
+                         String catalog, TransferCustomizations transferCustomizations, boolean incrementalTransfer,
+                         int maxParallelSchemas, AuditLog auditLog) {
+        this.jdbc = jdbc;
+        this.omas = omas;
+        this.databaseManagerName = databaseManagerName;
         this.address = address;
         this.connectorTypeQualifiedName = connectorTypeQualifiedName;
         this.catalog = catalog;
         this.transferCustomizations = transferCustomizations;
+        this.incrementalTransfer = incrementalTransfer;
+        this.maxParallelSchemas = maxParallelSchemas;
         this.auditLog = auditLog;
     }
 
@@ -88,12 +123,61 @@ public class JdbcMetadataTransfer {
         if(schemas.isEmpty()){
             return;
         }
+        if(incrementalTransfer){
+            transferTablesIncrementally(database, schemas);
+            transferViews(database, schemas);
+            return;
+        }
         transferTables(database, schemas);
         transferViews(database, schemas);
         transferColumns(database, schemas);
         transferForeignKeys(database);
     }
 
+    /**
+     * Runs the transfer of each of the schemas that should be transferred, with up to the configured maximum number of
+     * schemas being transferred in parallel. A failure in the transfer of one schema does not stop the others
+     *
+     * @param schemas schemas
+     * @param objectsTransferred description of the transferred objects for messages
+     * @param schemaTransfer transfer for a single schema
+     */
+    private void forEachSchema(List<DatabaseSchemaElement> schemas, String objectsTransferred,
+                               Consumer<DatabaseSchemaElement> schemaTransfer) {
+        List<DatabaseSchemaElement> schemasToTransfer = schemas.stream()
+                .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getName()))
+                .collect(Collectors.toList());
+        if(schemasToTransfer.isEmpty()){
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(maxParallelSchemas, schemasToTransfer.size())));
+        try {
+            List<Future<?>> transfers = schemasToTransfer.stream()
+                    .map(schema -> executor.submit(() -> schemaTransfer.accept(schema)))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < transfers.size(); i++) {
+                try {
+                    transfers.get(i).get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    auditLog.logException("Transferring " + objectsTransferred,
+                            EXCEPTION_TRANSFERRING_SCHEMA.getMessageDefinition(objectsTransferred,
+                                    schemasToTransfer.get(i).getDatabaseSchemaProperties().getQualifiedName(),
+                                    cause.getClass().getName(), cause.getMessage()), cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            auditLog.logException("Transferring " + objectsTransferred,
+                    EXCEPTION_TRANSFERRING_SCHEMA.getMessageDefinition(objectsTransferred, "<remaining schemas>",
+                            e.getClass().getName(), e.getMessage()), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Triggers the transfer of available tables that are not assigned to any schema, depending also on inclusions and
      * exclusions
@@ -283,9 +367,7 @@ public class JdbcMetadataTransfer {
     private void transferTables(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
         long start = System.currentTimeMillis();
 
-        schemas.parallelStream()
-                .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getName()))
-                .peek(schema -> {
+        forEachSchema(schemas, TABLES, schema -> {
             String schemaDisplayName = schema.getDatabaseSchemaProperties().getName();
             String schemaGuid = schema.getElementHeader().getGUID();
             String schemaQualifiedName = schema.getDatabaseSchemaProperties().getQualifiedName();
@@ -293,7 +375,7 @@ public class JdbcMetadataTransfer {
             // already known tables by the omas, previously transferred
             List<DatabaseTableElement> omasTables = omas.getTables(schemaGuid);
             // a table update will always occur as long as the table is returned by jdbc
-            List<DatabaseTableElement> omasTablesUpdated = jdbc.getTables(catalog, schemaDisplayName).parallelStream()
+            List<DatabaseTableElement> omasTablesUpdated = jdbc.getTables(catalog, schemaDisplayName).stream()
                     .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
                     .map(new TableTransfer(omas, auditLog, omasTables, schemaQualifiedName, schemaGuid))
                     .collect(Collectors.toList());
@@ -302,7 +384,7 @@ public class JdbcMetadataTransfer {
             omasTables.removeAll(omasTablesUpdated);
             // remove from omas the tables deleted in jdbc
             omasTables.forEach(omas::removeTable);
-        }).collect(Collectors.toList());
+        });
 
         String excludedTables = transferCustomizations.getExcludedTables();
         if(StringUtils.isNotEmpty(excludedTables)) {
@@ -323,9 +405,7 @@ public class JdbcMetadataTransfer {
     private void transferViews(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
         long start = System.currentTimeMillis();
 
-        schemas.parallelStream()
-                .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getName()))
-                .peek(schema -> {
+        forEachSchema(schemas, VIEWS, schema -> {
                     String schemaDisplayName = schema.getDatabaseSchemaProperties().getName();
                     String schemaGuid = schema.getElementHeader().getGUID();
                     String schemaQualifiedName = schema.getDatabaseSchemaProperties().getQualifiedName();
@@ -333,7 +413,7 @@ public class JdbcMetadataTransfer {
                     // already known views by the omas, previously transferred
                     List<DatabaseViewElement> omasViews = omas.getViews(schemaGuid);
                     // a view update will always occur as long as the view is returned by jdbc
-                    List<DatabaseViewElement> omasViewsUpdated = jdbc.getViews(catalog, schemaDisplayName).parallelStream()
+                    List<DatabaseViewElement> omasViewsUpdated = jdbc.getViews(catalog, schemaDisplayName).stream()
                             .filter(jdbcView -> transferCustomizations.shouldTransferTable(jdbcView.getTableName()))
                             .map(new ViewTransfer(omas, auditLog, omasViews, schemaQualifiedName, schemaGuid))
                             .collect(Collectors.toList());
@@ -342,7 +422,7 @@ public class JdbcMetadataTransfer {
                     omasViews.removeAll(omasViewsUpdated);
                     // remove from omas the tables deleted in jdbc
                     omasViews.forEach(omas::removeView);
-                }).collect(Collectors.toList());
+                });
 
         String excludedViews = transferCustomizations.getExcludedViews();
         if(StringUtils.isNotEmpty(excludedViews)) {
@@ -363,11 +443,11 @@ public class JdbcMetadataTransfer {
     private void transferColumns(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
         long start = System.currentTimeMillis();
 
-         schemas.parallelStream()
-                 .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getName()))
-                 .flatMap(s -> omas.getTables(s.getElementHeader().getGUID()).parallelStream())
+        // the schemas are already transferred in parallel, so the tables of a schema are transferred one at a time to
+        // keep the number of concurrent requests within the configured bound
+        forEachSchema(schemas, COLUMNS, schema -> omas.getTables(schema.getElementHeader().getGUID()).stream()
                  .filter(table -> transferCustomizations.shouldTransferTable(table.getDatabaseTableProperties().getDisplayName()))
-                 .peek(table -> {
+                 .forEach(table -> {
                      String schemaName = table.getDatabaseTableProperties().getAdditionalProperties().get(Jdbc.JDBC_SCHEMA_KEY);
                      String tableName = table.getDatabaseTableProperties().getDisplayName();
                      String tableGuid = table.getElementHeader().getGUID();
@@ -376,7 +456,7 @@ public class JdbcMetadataTransfer {
                      // already known columns by the omas, previously transferred
                      List<DatabaseColumnElement> omasColumns = omas.getColumns(tableGuid);
                      // a column update will always occur as long as the column is returned by jdbc
-                     List<DatabaseColumnElement> omasUpdatedColumns = jdbc.getColumns(catalog, schemaName, tableName).parallelStream()
+                     List<DatabaseColumnElement> omasUpdatedColumns = jdbc.getColumns(catalog, schemaName, tableName).stream()
                              .filter(column -> transferCustomizations.shouldTransferColumn(column.getColumnName()))
                              .map(new ColumnTransfer(omas, auditLog, omasColumns, jdbcPrimaryKeys, table)).collect(Collectors.toList());
 
@@ -384,7 +464,7 @@ public class JdbcMetadataTransfer {
                      omasColumns.removeAll(omasUpdatedColumns);
                      // remove from omas the columns deleted in jdbc
                      omasColumns.forEach(omas::removeColumn);
-                }).collect(Collectors.toList());
+                }));
 
         String excludedColumns = transferCustomizations.getExcludedColumns();
         if(StringUtils.isNotEmpty(excludedColumns)) {
@@ -424,4 +504,151 @@ public class JdbcMetadataTransfer {
                 PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition("foreign keys", "" + (end - start)/1000));
     }
 
+    /**
+     * Triggers the incremental transfer of tables, their columns and the foreign keys of the tables that have changed,
+     * depending also on inclusions and exclusions. The jdbc metadata of each table is compared with the fingerprint
+     * recorded at the previous transfer, and only new or changed tables are sent to the access service
+     *
+     * @param databaseElement database element
+     * @param schemas schemas
+     */
+    void transferTablesIncrementally(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
+        long start = System.currentTimeMillis();
+
+        ConcurrentLinkedQueue<JdbcForeignKey> changedForeignKeys = new ConcurrentLinkedQueue<>();
+        forEachSchema(schemas, TABLES, schema -> changedForeignKeys.addAll(transferSchemaTablesIncrementally(schema)));
+
+        String excludedTables = transferCustomizations.getExcludedTables();
+        if(StringUtils.isNotEmpty(excludedTables)) {
+            auditLog.logMessage(SKIPPING + TABLES,
+                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(TABLES, excludedTables));
+        }
+        String excludedColumns = transferCustomizations.getExcludedColumns();
+        if(StringUtils.isNotEmpty(excludedColumns)) {
+            auditLog.logMessage(SKIPPING + COLUMNS,
+                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(COLUMNS, excludedColumns));
+        }
+        long end = System.currentTimeMillis();
+        auditLog.logMessage("Table transfer complete",
+                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition(TABLES + " and " + COLUMNS, "" + (end - start)/1000));
+
+        start = System.currentTimeMillis();
+
+        // the foreign keys are part of the fingerprint, so adding or dropping a foreign key changes both the tables it
+        // joins. The columns of a changed table lose their foreign keys when they are updated, so all the keys of the
+        // changed tables are set again
+        Set<JdbcForeignKey> foreignKeys = new HashSet<>(changedForeignKeys);
+
+        foreignKeys.forEach(new ForeignKeyTransfer(omas, auditLog, databaseElement));
+
+        end = System.currentTimeMillis();
+        auditLog.logMessage("Foreign key transfer complete",
+                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition("foreign keys of changed tables", "" + (end - start)/1000));
+    }
+
+    /**
+     * Transfers the new and changed tables of a schema, together with their columns, and removes the tables deleted in jdbc
+     *
+     * @param schema schema
+     *
+     * @return the foreign keys imported and exported by the new and changed tables
+     */
+    private List<JdbcForeignKey> transferSchemaTablesIncrementally(DatabaseSchemaElement schema){
+        String schemaDisplayName = schema.getDatabaseSchemaProperties().getName();
+        String schemaGuid = schema.getElementHeader().getGUID();
+        String schemaQualifiedName = schema.getDatabaseSchemaProperties().getQualifiedName();
+
+        // already known tables by the omas, previously transferred
+        List<DatabaseTableElement> omasTables = omas.getTables(schemaGuid);
+        Map<String, DatabaseTableElement> omasTablesByQualifiedName = byQualifiedName(omasTables);
+        TableTransfer tableTransfer = new TableTransfer(omas, auditLog, omasTables, schemaQualifiedName, schemaGuid);
+
+        List<DatabaseTableElement> omasTablesFound = new ArrayList<>();
+        List<ChangedTable> changedTables = new ArrayList<>();
+        int unchangedTableCount = 0;
+
+        for (JdbcTable jdbcTable : jdbc.getTables(catalog, schemaDisplayName)) {
+            if (!transferCustomizations.shouldTransferTable(jdbcTable.getTableName())) {
+                continue;
+            }
+            List<JdbcColumn> jdbcColumns = jdbc.getColumns(catalog, schemaDisplayName, jdbcTable.getTableName()).stream()
+                    .filter(column -> transferCustomizations.shouldTransferColumn(column.getColumnName()))
+                    .collect(Collectors.toList());
+            List<JdbcPrimaryKey> jdbcPrimaryKeys = jdbc.getPrimaryKeys(schemaDisplayName, jdbcTable.getTableName());
+            List<JdbcForeignKey> jdbcForeignKeys = Stream.concat(
+                    jdbc.getImportedKeys(catalog, schemaDisplayName, jdbcTable.getTableName()).stream(),
+                    jdbc.getExportedKeys(catalog, schemaDisplayName, jdbcTable.getTableName()).stream())
+                    .collect(Collectors.toList());
+            String fingerprint = TableFingerprint.of(jdbcTable, jdbcColumns, jdbcPrimaryKeys, jdbcForeignKeys);
+
+            DatabaseTableElement omasTable = omasTablesByQualifiedName.get(schemaQualifiedName + "::" + jdbcTable.getTableName());
+            if (omasTable != null) {
+                omasTablesFound.add(omasTable);
+                Map<String, String> additionalProperties = omasTable.getDatabaseTableProperties().getAdditionalProperties();
+                if (additionalProperties != null && fingerprint.equals(additionalProperties.get(Jdbc.JDBC_FINGERPRINT_KEY))) {
+                    unchangedTableCount++;
+                    continue;
+                }
+            }
+
+            tableTransfer.apply(jdbcTable);
+            changedTables.add(new ChangedTable(jdbcTable, jdbcColumns, jdbcPrimaryKeys, jdbcForeignKeys, fingerprint));
+        }
+
+        // what remains are the tables deleted in jdbc
+        omasTables.removeAll(omasTablesFound);
+        omasTables.forEach(omas::removeTable);
+
+        if (!changedTables.isEmpty()) {
+            // read the tables again to pick up the ones that have just been created
+            Map<String, DatabaseTableElement> transferredTables = byQualifiedName(omas.getTables(schemaGuid));
+
+            for (ChangedTable changedTable : changedTables) {
+                DatabaseTableElement omasTable = transferredTables.get(schemaQualifiedName + "::" + changedTable.jdbcTable.getTableName());
+                if (omasTable == null) {
+                    continue;
+                }
+                String tableGuid = omasTable.getElementHeader().getGUID();
+
+                // already known columns by the omas, previously transferred
+                List<DatabaseColumnElement> omasColumns = omas.getColumns(tableGuid);
+                List<DatabaseColumnElement> omasUpdatedColumns = changedTable.jdbcColumns.stream()
+                        .map(new ColumnTransfer(omas, auditLog, omasColumns, changedTable.jdbcPrimaryKeys, omasTable))
+                        .collect(Collectors.toList());
+
+                // will remove all updated column, and what remains are the ones deleted in jdbc
+                omasColumns.removeAll(omasUpdatedColumns);
+                omasColumns.forEach(omas::removeColumn);
+
+                // the fingerprint is recorded last so that an interrupted transfer is repeated at the next refresh
+                tableTransfer.recordFingerprint(tableGuid, changedTable.jdbcTable, changedTable.fingerprint);
+            }
+        }
+
+        auditLog.logMessage("Incremental transfer of schema " + schemaQualifiedName,
+                INCREMENTAL_TRANSFER_COMPLETE_FOR_SCHEMA.getMessageDefinition(schemaQualifiedName,
+                        Integer.toString(unchangedTableCount), Integer.toString(changedTables.size())));
+
+        return changedTables.stream().flatMap(changedTable -> changedTable.jdbcForeignKeys.stream()).collect(Collectors.toList());
+    }
+
+    /**
+     * Index tables by qualified name
+     *
+     * @param tables tables
+     *
+     * @return map of qualified name to table
+     */
+    private Map<String, DatabaseTableElement> byQualifiedName(List<DatabaseTableElement> tables){
+        return tables.stream().collect(Collectors.toMap(table -> table.getDatabaseTableProperties().getQualifiedName(),
+                Function.identity(), (first, second) -> first));
+    }
+
+    /**
+     * A new or changed table with the jdbc metadata read while calculating its fingerprint
+     */
+    private record ChangedTable(JdbcTable jdbcTable, List<JdbcColumn> jdbcColumns, List<JdbcPrimaryKey> jdbcPrimaryKeys,
+                                List<JdbcForeignKey> jdbcForeignKeys, String fingerprint) {
+    }
+
 }
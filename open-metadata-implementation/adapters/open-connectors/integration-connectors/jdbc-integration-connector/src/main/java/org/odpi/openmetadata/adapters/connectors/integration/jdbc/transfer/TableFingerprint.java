@@ -0,0 +1,84 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Calculates a fingerprint of the jdbc metadata that is transferred for a table: the table itself, its columns, its
+ * primary keys and the foreign keys it imports or exports. Two fingerprints are equal only if the transferred metadata is the same, so a table whose fingerprint
+ * matches the one recorded at the previous transfer can be skipped
+ */
+final class TableFingerprint {
+
+    private static final String SEPARATOR = "\u001F";
+    private static final String TERMINATOR = "\u001E";
+
+    private TableFingerprint() {
+    }
+
+    /**
+     * Calculate the fingerprint
+     *
+     * @param jdbcTable table
+     * @param jdbcColumns columns of the table that are transferred
+     * @param jdbcPrimaryKeys primary keys of the table
+     * @param jdbcForeignKeys foreign keys imported and exported by the table
+     *
+     * @return hex encoded fingerprint
+     */
+    static String of(JdbcTable jdbcTable, List<JdbcColumn> jdbcColumns, List<JdbcPrimaryKey> jdbcPrimaryKeys,
+                     List<JdbcForeignKey> jdbcForeignKeys) {
+        StringBuilder canonicalForm = new StringBuilder();
+        append(canonicalForm, jdbcTable.getTableCat(), jdbcTable.getTableSchem(), jdbcTable.getTableName(), jdbcTable.getTableType());
+
+        jdbcColumns.stream()
+                .sorted(Comparator.comparing(JdbcColumn::getColumnName))
+                .forEach(column -> append(canonicalForm, "column", column.getColumnName(), Integer.toString(column.getDataType())));
+
+        jdbcPrimaryKeys.stream()
+                .sorted(Comparator.comparing(JdbcPrimaryKey::getColumnName))
+                .forEach(key -> append(canonicalForm, "primaryKey", key.getColumnName(), key.getPkName()));
+
+        // the same foreign key can be both imported and exported by a table that references itself
+        jdbcForeignKeys.stream()
+                .map(TableFingerprint::canonicalForm)
+                .distinct()
+                .sorted()
+                .forEach(canonicalForm::append);
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonicalForm.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256; fall back to the canonical form itself
+            return canonicalForm.toString();
+        }
+    }
+
+    private static String canonicalForm(JdbcForeignKey key) {
+        StringBuilder canonicalForm = new StringBuilder();
+        append(canonicalForm, "foreignKey", key.getPkTableCat(), key.getPkTableSchem(), key.getPkTableName(),
+                key.getPkColumnName(), key.getFkTableCat(), key.getFkTableSchem(), key.getFkTableName(), key.getFkColumnName(),
+                key.getPkName(), key.getFkName());
+        return canonicalForm.toString();
+    }
+
+    private static void append(StringBuilder canonicalForm, String... values) {
+        for (String value : values) {
+            canonicalForm.append(value == null ? "" : value).append(SEPARATOR);
+        }
+        canonicalForm.append(TERMINATOR);
+    }
+
+}
@@ -64,6 +64,24 @@ public class TableTransfer implements Function<JdbcTable, DatabaseTableElement>
         return null;
     }
 
+    /**
+     * Records the fingerprint of the transferred metadata on the table so that an unchanged table can be skipped by the
+     * next incremental transfer
+     *
+     * @param tableGuid table guid
+     * @param jdbcTable table
+     * @param fingerprint fingerprint of the transferred table, columns, primary keys and foreign keys
+     */
+    public void recordFingerprint(String tableGuid, JdbcTable jdbcTable, String fingerprint) {
+        DatabaseTableProperties tableProperties = this.buildTableProperties(jdbcTable);
+        // the properties hand out a copy of the additional properties, so the fingerprint is added to the copy and set back
+        Map<String, String> additionalProperties = tableProperties.getAdditionalProperties();
+        additionalProperties.put(Jdbc.JDBC_FINGERPRINT_KEY, fingerprint);
+        tableProperties.setAdditionalProperties(additionalProperties);
+
+        omas.updateTable(tableGuid, tableProperties);
+    }
+
     /**
      * Build table properties
      *
@@ -23,6 +23,7 @@ public class Jdbc {
     public final static String JDBC_TABLE_KEY = "jdbc.table";
     public final static String JDBC_COLUMN_KEY = "jdbc.column";
     public final static String JDBC_TABLE_TYPE_KEY = "jdbc.tableType";
+    public final static String JDBC_FINGERPRINT_KEY = "jdbc.fingerprint";
 
     private final JdbcMetadata jdbcMetadata;
     private final AuditLog auditLog;
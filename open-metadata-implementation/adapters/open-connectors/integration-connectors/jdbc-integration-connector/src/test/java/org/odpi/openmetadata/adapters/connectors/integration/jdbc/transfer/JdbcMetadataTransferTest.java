@@ -0,0 +1,237 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseColumnElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseSchemaElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseColumnProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseSchemaProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseTableProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Jdbc;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.TableFingerprintTest.column;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.TableFingerprintTest.foreignKey;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.TableFingerprintTest.primaryKey;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.TableFingerprintTest.table;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+/**
+ * Verify that the incremental transfer only sends new and changed tables, and that adding or dropping a foreign key
+ * between two tables whose columns have not changed is transferred
+ */
+public class JdbcMetadataTransferTest {
+
+    private static final String CATALOG = "CAT";
+    private static final String SCHEMA = "SALES";
+    private static final String SCHEMA_GUID = "schemaGuid";
+    private static final String SCHEMA_QUALIFIED_NAME = "db::" + SCHEMA;
+    private static final String CUSTOMERS_ID = SCHEMA_QUALIFIED_NAME + "::CUSTOMERS::ID";
+    private static final String ORDERS_CUSTOMER_ID = SCHEMA_QUALIFIED_NAME + "::ORDERS::CUSTOMER_ID";
+
+    private final JdbcTable customers = table("CUSTOMERS");
+    private final JdbcTable orders = table("ORDERS");
+    private final JdbcForeignKey customerKey = foreignKey("CUSTOMERS", "ID", "ORDERS", "CUSTOMER_ID", "FK_CUSTOMER");
+
+    private final Map<String, DatabaseTableElement> omasTables = new ConcurrentHashMap<>();
+    private final List<JdbcTable> jdbcTables = new ArrayList<>();
+    private final List<JdbcForeignKey> jdbcForeignKeys = new ArrayList<>();
+
+    private Jdbc jdbc;
+    private Omas omas;
+    private JdbcMetadataTransfer transfer;
+    private DatabaseElement database;
+    private List<DatabaseSchemaElement> schemas;
+
+    @BeforeMethod
+    public void setUp() {
+        omasTables.clear();
+        jdbcTables.clear();
+        jdbcTables.add(customers);
+        jdbcTables.add(orders);
+        jdbcForeignKeys.clear();
+
+        List<JdbcColumn> customersColumns = List.of(column("CUSTOMERS", "ID", Types.INTEGER));
+        List<JdbcColumn> ordersColumns = List.of(column("ORDERS", "ID", Types.INTEGER),
+                column("ORDERS", "CUSTOMER_ID", Types.INTEGER));
+        List<JdbcPrimaryKey> customersPrimaryKeys = List.of(primaryKey("CUSTOMERS", "ID", "PK_CUSTOMERS"));
+        List<JdbcPrimaryKey> ordersPrimaryKeys = List.of(primaryKey("ORDERS", "ID", "PK_ORDERS"));
+
+        jdbc = mock(Jdbc.class);
+        when(jdbc.getTables(CATALOG, SCHEMA)).thenAnswer(invocation -> new ArrayList<>(jdbcTables));
+        when(jdbc.getColumns(CATALOG, SCHEMA, "CUSTOMERS")).thenReturn(customersColumns);
+        when(jdbc.getColumns(CATALOG, SCHEMA, "ORDERS")).thenReturn(ordersColumns);
+        when(jdbc.getPrimaryKeys(SCHEMA, "CUSTOMERS")).thenReturn(customersPrimaryKeys);
+        when(jdbc.getPrimaryKeys(SCHEMA, "ORDERS")).thenReturn(ordersPrimaryKeys);
+        when(jdbc.getImportedKeys(eq(CATALOG), eq(SCHEMA), anyString())).thenAnswer(invocation ->
+                jdbcForeignKeys.stream().filter(key -> key.getFkTableName().equals(invocation.getArgument(2))).toList());
+        when(jdbc.getExportedKeys(eq(CATALOG), eq(SCHEMA), anyString())).thenAnswer(invocation ->
+                jdbcForeignKeys.stream().filter(key -> key.getPkTableName().equals(invocation.getArgument(2))).toList());
+
+        omas = mock(Omas.class);
+        when(omas.getTables(SCHEMA_GUID)).thenAnswer(invocation -> new ArrayList<>(omasTables.values()));
+        when(omas.createTable(eq(SCHEMA_GUID), any())).thenAnswer(invocation -> {
+            DatabaseTableProperties properties = invocation.getArgument(1);
+            omasTables.put(properties.getQualifiedName(), tableElement(properties.getQualifiedName() + "Guid", properties));
+            return Optional.of(properties.getQualifiedName() + "Guid");
+        });
+        doAnswer(invocation -> {
+            DatabaseTableProperties properties = invocation.getArgument(1);
+            omasTables.put(properties.getQualifiedName(), tableElement(invocation.getArgument(0), properties));
+            return null;
+        }).when(omas).updateTable(anyString(), any());
+        doAnswer(invocation -> {
+            DatabaseTableElement table = invocation.getArgument(0);
+            omasTables.remove(table.getDatabaseTableProperties().getQualifiedName());
+            return null;
+        }).when(omas).removeTable(any());
+        when(omas.findDatabaseColumns(anyString())).thenAnswer(invocation -> List.of(columnElement(invocation.getArgument(0))));
+
+        transfer = new JdbcMetadataTransfer(jdbc, omas, "databaseManager", "address", "connectorType", CATALOG,
+                new TransferCustomizations(Map.of()), true, 2, mock(AuditLog.class));
+
+        DatabaseProperties databaseProperties = new DatabaseProperties();
+        databaseProperties.setQualifiedName("db");
+        database = new DatabaseElement();
+        database.setDatabaseProperties(databaseProperties);
+
+        DatabaseSchemaProperties schemaProperties = new DatabaseSchemaProperties();
+        schemaProperties.setName(SCHEMA);
+        schemaProperties.setQualifiedName(SCHEMA_QUALIFIED_NAME);
+        DatabaseSchemaElement schema = new DatabaseSchemaElement();
+        schema.setElementHeader(header(SCHEMA_GUID));
+        schema.setDatabaseSchemaProperties(schemaProperties);
+        schemas = List.of(schema);
+    }
+
+    @Test
+    public void testFirstTransferCreatesTablesAndForeignKeys() {
+        jdbcForeignKeys.add(customerKey);
+
+        transfer.transferTablesIncrementally(database, schemas);
+
+        verify(omas, times(2)).createTable(eq(SCHEMA_GUID), any());
+        assertEquals(fingerprintOf("ORDERS"), TableFingerprint.of(orders, jdbc.getColumns(CATALOG, SCHEMA, "ORDERS"),
+                jdbc.getPrimaryKeys(SCHEMA, "ORDERS"), List.of(customerKey)));
+        // imported by one table and exported by the other, but set once
+        verify(omas, times(1)).setForeignKey(eq(CUSTOMERS_ID), eq(ORDERS_CUSTOMER_ID), any());
+    }
+
+    @Test
+    public void testUnchangedTablesAreSkipped() {
+        jdbcForeignKeys.add(customerKey);
+        transfer.transferTablesIncrementally(database, schemas);
+        clearInvocations(omas);
+
+        transfer.transferTablesIncrementally(database, schemas);
+
+        verify(omas, never()).createTable(anyString(), any());
+        verify(omas, never()).updateTable(anyString(), any());
+        verify(omas, never()).getColumns(anyString());
+        verify(omas, never()).setForeignKey(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void testForeignKeyAddedBetweenUnchangedTablesIsTransferred() {
+        transfer.transferTablesIncrementally(database, schemas);
+        String customersFingerprint = fingerprintOf("CUSTOMERS");
+        String ordersFingerprint = fingerprintOf("ORDERS");
+        verify(omas, never()).setForeignKey(anyString(), anyString(), any());
+
+        jdbcForeignKeys.add(customerKey);
+        transfer.transferTablesIncrementally(database, schemas);
+
+        assertNotEquals(fingerprintOf("CUSTOMERS"), customersFingerprint);
+        assertNotEquals(fingerprintOf("ORDERS"), ordersFingerprint);
+        verify(omas, times(1)).setForeignKey(eq(CUSTOMERS_ID), eq(ORDERS_CUSTOMER_ID), any());
+    }
+
+    @Test
+    public void testForeignKeyDroppedBetweenUnchangedTablesIsTransferred() {
+        jdbcForeignKeys.add(customerKey);
+        transfer.transferTablesIncrementally(database, schemas);
+        String ordersFingerprint = fingerprintOf("ORDERS");
+        clearInvocations(omas);
+
+        jdbcForeignKeys.clear();
+        transfer.transferTablesIncrementally(database, schemas);
+
+        // the columns of both tables are transferred again, which removes their foreign keys, and none is set
+        assertNotEquals(fingerprintOf("ORDERS"), ordersFingerprint);
+        verify(omas).getColumns(SCHEMA_QUALIFIED_NAME + "::CUSTOMERSGuid");
+        verify(omas).getColumns(SCHEMA_QUALIFIED_NAME + "::ORDERSGuid");
+        verify(omas, never()).setForeignKey(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void testTableDeletedInJdbcIsRemoved() {
+        transfer.transferTablesIncrementally(database, schemas);
+        clearInvocations(omas);
+
+        jdbcTables.remove(customers);
+        transfer.transferTablesIncrementally(database, schemas);
+
+        verify(omas, times(1)).removeTable(any());
+        assertEquals(omasTables.keySet(), Set.of(SCHEMA_QUALIFIED_NAME + "::ORDERS"));
+        verify(omas, never()).updateTable(anyString(), any());
+    }
+
+    private String fingerprintOf(String tableName) {
+        return omasTables.get(SCHEMA_QUALIFIED_NAME + "::" + tableName).getDatabaseTableProperties()
+                .getAdditionalProperties().get(Jdbc.JDBC_FINGERPRINT_KEY);
+    }
+
+    private static DatabaseTableElement tableElement(String guid, DatabaseTableProperties properties) {
+        DatabaseTableElement table = new DatabaseTableElement();
+        table.setElementHeader(header(guid));
+        table.setDatabaseTableProperties(properties);
+        return table;
+    }
+
+    private static DatabaseColumnElement columnElement(String qualifiedName) {
+        DatabaseColumnProperties properties = new DatabaseColumnProperties();
+        properties.setQualifiedName(qualifiedName);
+        DatabaseColumnElement column = new DatabaseColumnElement();
+        column.setElementHeader(header(qualifiedName));
+        column.setDatabaseColumnProperties(properties);
+        return column;
+    }
+
+    private static ElementHeader header(String guid) {
+        ElementHeader header = new ElementHeader();
+        header.setGUID(guid);
+        return header;
+    }
+
+}
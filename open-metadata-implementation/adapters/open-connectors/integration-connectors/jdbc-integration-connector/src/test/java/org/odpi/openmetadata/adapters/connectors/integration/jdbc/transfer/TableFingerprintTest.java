@@ -0,0 +1,111 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+import org.testng.annotations.Test;
+
+import java.sql.Types;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+/**
+ * Verify that the fingerprint of a table changes exactly when the transferred metadata of the table changes
+ */
+public class TableFingerprintTest {
+
+    private final JdbcTable orders = table("ORDERS");
+    private final List<JdbcColumn> columns = List.of(column("ORDERS", "ID", Types.INTEGER),
+            column("ORDERS", "CUSTOMER_ID", Types.INTEGER));
+    private final List<JdbcPrimaryKey> primaryKeys = List.of(primaryKey("ORDERS", "ID", "PK_ORDERS"));
+    private final JdbcForeignKey customerKey = foreignKey("CUSTOMERS", "ID", "ORDERS", "CUSTOMER_ID", "FK_CUSTOMER");
+
+    @Test
+    public void testSameMetadataInAnyOrderHasSameFingerprint() {
+        JdbcForeignKey lineKey = foreignKey("ORDERS", "ID", "ORDER_LINES", "ORDER_ID", "FK_ORDER");
+
+        assertEquals(TableFingerprint.of(orders, columns, primaryKeys, List.of(customerKey, lineKey)),
+                TableFingerprint.of(orders, List.of(columns.get(1), columns.get(0)), primaryKeys, List.of(lineKey, customerKey)));
+    }
+
+    @Test
+    public void testChangedColumnChangesFingerprint() {
+        List<JdbcColumn> changedColumns = List.of(column("ORDERS", "ID", Types.BIGINT),
+                column("ORDERS", "CUSTOMER_ID", Types.INTEGER));
+
+        assertNotEquals(TableFingerprint.of(orders, changedColumns, primaryKeys, List.of()),
+                TableFingerprint.of(orders, columns, primaryKeys, List.of()));
+    }
+
+    @Test
+    public void testChangedPrimaryKeyChangesFingerprint() {
+        assertNotEquals(TableFingerprint.of(orders, columns, List.of(), List.of()),
+                TableFingerprint.of(orders, columns, primaryKeys, List.of()));
+    }
+
+    @Test
+    public void testAddedOrDroppedForeignKeyChangesFingerprint() {
+        String withoutKey = TableFingerprint.of(orders, columns, primaryKeys, List.of());
+        String withKey = TableFingerprint.of(orders, columns, primaryKeys, List.of(customerKey));
+
+        assertNotEquals(withKey, withoutKey);
+        assertEquals(TableFingerprint.of(orders, columns, primaryKeys, List.of()), withoutKey);
+    }
+
+    @Test
+    public void testRenamedForeignKeyChangesFingerprint() {
+        JdbcForeignKey renamedKey = foreignKey("CUSTOMERS", "ID", "ORDERS", "CUSTOMER_ID", "FK_ORDER_CUSTOMER");
+
+        assertNotEquals(TableFingerprint.of(orders, columns, primaryKeys, List.of(renamedKey)),
+                TableFingerprint.of(orders, columns, primaryKeys, List.of(customerKey)));
+    }
+
+    @Test
+    public void testSelfReferencingForeignKeyIsCountedOnce() {
+        JdbcForeignKey parentKey = foreignKey("ORDERS", "ID", "ORDERS", "PARENT_ID", "FK_PARENT");
+
+        // a table that references itself both imports and exports the key
+        assertEquals(TableFingerprint.of(orders, columns, primaryKeys, List.of(parentKey, parentKey)),
+                TableFingerprint.of(orders, columns, primaryKeys, List.of(parentKey)));
+    }
+
+    static JdbcTable table(String tableName) {
+        JdbcTable table = mock(JdbcTable.class);
+        when(table.getTableSchem()).thenReturn("SALES");
+        when(table.getTableName()).thenReturn(tableName);
+        when(table.getTableType()).thenReturn("TABLE");
+        return table;
+    }
+
+    static JdbcColumn column(String tableName, String columnName, int dataType) {
+        JdbcColumn column = mock(JdbcColumn.class);
+        when(column.getTableSchem()).thenReturn("SALES");
+        when(column.getTableName()).thenReturn(tableName);
+        when(column.getColumnName()).thenReturn(columnName);
+        when(column.getDataType()).thenReturn(dataType);
+        return column;
+    }
+
+    static JdbcPrimaryKey primaryKey(String tableName, String columnName, String pkName) {
+        JdbcPrimaryKey primaryKey = mock(JdbcPrimaryKey.class);
+        when(primaryKey.getTableSchem()).thenReturn("SALES");
+        when(primaryKey.getTableName()).thenReturn(tableName);
+        when(primaryKey.getColumnName()).thenReturn(columnName);
+        when(primaryKey.getPkName()).thenReturn(pkName);
+        return primaryKey;
+    }
+
+    static JdbcForeignKey foreignKey(String pkTableName, String pkColumnName, String fkTableName, String fkColumnName,
+                                     String fkName) {
+        return new JdbcForeignKey(null, "SALES", pkTableName, pkColumnName, null, "SALES", fkTableName, fkColumnName,
+                (short) 1, null, null, fkName, "PK_" + pkTableName, (short) 0);
+    }
+
+}
@@ -2,7 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
 
-import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -12,22 +12,32 @@ import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageR
 
 import java.io.File;
 import java.time.ZonedDateTime;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 
 /**
  * FileBasedOpenLineageLogStoreConnector provides a connector implementation for a file based open lineage log.
- * The open lineage log is stored in a directory and each open lineage event record is stored as a file with a filename built
- * from the record's unique identifier (runId), time and status. The record is stored in a subdirectory that is made from the namespace and job.
+ * The open lineage log is stored in a directory as a sequence of compressed segment files, each holding many events.
+ * Each segment has an index of the namespaces, jobs and event times of its events so the events can be replayed
+ * selectively - see SegmentedOpenLineageLog.  The segments are sealed when they reach a maximum size or age.
+ * Each time the connector is refreshed, segments older than the retention period are removed and small segments are
+ * compacted together.
  */
 public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreConnectorBase
 {
-    private static final String defaultLogDirectory = "open-lineage-log";
+    private static final String defaultLogDirectory    = "open-lineage-log";
+    private static final String defaultNamespace       = "default-namespace";
+    private static final String defaultJobName         = "unformatted";
+    private static final long   defaultMaxSegmentSize  = 64L * 1024 * 1024;
+    private static final long   defaultMaxSegmentAge   = 60;
+    private static final long   defaultFlushInterval   = 1000;
+    private static final long   defaultRetentionPeriod = 0;
 
-    private String logStoreDirectoryName = null;
+    private String                  logStoreDirectoryName = null;
+    private SegmentedOpenLineageLog openLineageLog        = null;
+    private long                    retentionPeriodHours  = defaultRetentionPeriod;
 
 
     /**
@@ -40,7 +50,7 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
 
 
     /**
-     * Set up the name of the file store
+     * Set up the name of the file store and open the log.
      *
      * @throws ConnectorCheckedException something went wrong
      */
@@ -63,11 +73,34 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             logStoreDirectoryName = defaultLogDirectory;
         }
 
-        try
+        long maxSegmentSize = defaultMaxSegmentSize;
+        long maxSegmentAge  = defaultMaxSegmentAge;
+        long flushInterval  = defaultFlushInterval;
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
         {
-            File logStoreDirectory = new File(logStoreDirectoryName);
+            maxSegmentSize = getLongProperty(configurationProperties,
+                                             FileBasedOpenLineageLogStoreProvider.MAX_SEGMENT_SIZE_CONFIGURATION_PROPERTY,
+                                             defaultMaxSegmentSize);
+            maxSegmentAge = getLongProperty(configurationProperties,
+                                            FileBasedOpenLineageLogStoreProvider.MAX_SEGMENT_AGE_CONFIGURATION_PROPERTY,
+                                            defaultMaxSegmentAge);
+            flushInterval = getLongProperty(configurationProperties,
+                                            FileBasedOpenLineageLogStoreProvider.FLUSH_INTERVAL_CONFIGURATION_PROPERTY,
+                                            defaultFlushInterval);
+            retentionPeriodHours = getLongProperty(configurationProperties,
+                                                   FileBasedOpenLineageLogStoreProvider.RETENTION_PERIOD_CONFIGURATION_PROPERTY,
+                                                   defaultRetentionPeriod);
+        }
 
-            FileUtils.forceMkdir(logStoreDirectory);
+        try
+        {
+            openLineageLog = new SegmentedOpenLineageLog(new File(logStoreDirectoryName),
+                                                         maxSegmentSize,
+                                                         TimeUnit.MINUTES.toMillis(maxSegmentAge),
+                                                         flushInterval);
         }
         catch (Exception error)
         {
@@ -80,6 +113,107 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
                     methodName,
                     error);
         }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OpenLineageIntegrationConnectorAuditCode.LOG_STORE_OPENED.getMessageDefinition(connectorName,
+                                                                                                               Integer.toString(openLineageLog.getSegmentCount()),
+                                                                                                               logStoreDirectoryName,
+                                                                                                               Long.toString(maxSegmentSize),
+                                                                                                               Long.toString(maxSegmentAge)));
+        }
+    }
+
+
+    /**
+     * Return the value of a numeric configuration property.  The value may be a number or a string.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number numberValue)
+        {
+            return numberValue.longValue();
+        }
+        else if (propertyValue != null)
+        {
+            try
+            {
+                return Long.parseLong(propertyValue.toString().trim());
+            }
+            catch (NumberFormatException error)
+            {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Write the events held in memory to the log, then remove the segments that are older than the retention period
+     * and compact the small segments.
+     *
+     * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
+     */
+    @Override
+    public void refresh() throws ConnectorCheckedException
+    {
+        final String methodName = "refresh";
+
+        if (openLineageLog != null)
+        {
+            try
+            {
+                openLineageLog.flush();
+
+                if (retentionPeriodHours > 0)
+                {
+                    int expiredCount = openLineageLog.removeExpiredSegments(TimeUnit.HOURS.toMillis(retentionPeriodHours));
+
+                    if ((expiredCount > 0) && (auditLog != null))
+                    {
+                        auditLog.logMessage(methodName,
+                                            OpenLineageIntegrationConnectorAuditCode.SEGMENTS_EXPIRED.getMessageDefinition(connectorName,
+                                                                                                                           Integer.toString(expiredCount),
+                                                                                                                           logStoreDirectoryName,
+                                                                                                                           Long.toString(retentionPeriodHours)));
+                    }
+                }
+
+                int compactedCount = openLineageLog.compact();
+
+                if ((compactedCount > 0) && (auditLog != null))
+                {
+                    auditLog.logMessage(methodName,
+                                        OpenLineageIntegrationConnectorAuditCode.SEGMENTS_COMPACTED.getMessageDefinition(connectorName,
+                                                                                                                         logStoreDirectoryName,
+                                                                                                                         Integer.toString(compactedCount),
+                                                                                                                         Integer.toString(openLineageLog.getSegmentCount())));
+                }
+            }
+            catch (Exception error)
+            {
+                throw new ConnectorCheckedException(
+                        OpenLineageIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                           error.getClass().getName(),
+                                                                                                           methodName,
+                                                                                                           error.getMessage()),
+                        this.getClass().getName(),
+                        methodName,
+                        error);
+            }
+        }
     }
 
 
@@ -102,24 +236,17 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
 
         if (rawEvent != null)
         {
-            String namespace = "default-namespace/";
-            String jobName = "unformatted/";
-            String runId = UUID.randomUUID().toString();
-            String eventType = "UNKNOWN";
-
-            ZonedDateTime zonedDateTime = ZonedDateTime.now();
+            String namespace = defaultNamespace;
+            String jobName   = defaultJobName;
+            long   eventTime = System.currentTimeMillis();
 
             try
             {
                 if (openLineageEvent != null)
                 {
-                    String eventTime = openLineageEvent.getEventTime();
-                    zonedDateTime = ZonedDateTime.parse(eventTime);
-
-                    eventType = openLineageEvent.getEventType();
-                    if ((openLineageEvent.getRun() != null) && (openLineageEvent.getRun().getRunId() != null))
+                    if (openLineageEvent.getEventTime() != null)
                     {
-                        runId = openLineageEvent.getRun().getRunId().toString();
+                        eventTime = ZonedDateTime.parse(openLineageEvent.getEventTime()).toInstant().toEpochMilli();
                     }
 
                     if (openLineageEvent.getJob() != null)
@@ -135,17 +262,7 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
                     }
                 }
 
-                String timestamp = zonedDateTime.getYear() + "-" +
-                                           zonedDateTime.getMonthValue() +  "-" +
-                                           zonedDateTime.getDayOfMonth() +  ":" +
-                                           zonedDateTime.getHour() +  "-" +
-                                           zonedDateTime.getMinute() +  "-" +
-                                           zonedDateTime.getSecond() +  ":" +
-                                           zonedDateTime.getNano();
-
-                File logStoreFile = new File(logStoreDirectoryName + "/" + namespace + "/" + jobName + "/" + runId + "-" + timestamp + "-" + eventType + ".json");
-
-                FileUtils.writeStringToFile(logStoreFile, rawEvent, (String) null, false);
+                openLineageLog.append(namespace, jobName, eventTime, rawEvent);
             }
             catch (Exception error)
             {
@@ -174,4 +291,40 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             super.logNoRawEvent(openLineageEvent, methodName);
         }
     }
+
+
+    /**
+     * Seal the active segment so that all the events received are written to the log.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public synchronized void disconnect() throws ConnectorCheckedException
+    {
+        final String methodName = "disconnect";
+
+        if (openLineageLog != null)
+        {
+            try
+            {
+                openLineageLog.close();
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          OpenLineageIntegrationConnectorAuditCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                                             error.getClass().getName(),
+                                                                                                                             methodName,
+                                                                                                                             error.getMessage()),
+                                          error);
+                }
+            }
+
+            openLineageLog = null;
+        }
+
+        super.disconnect();
+    }
 }
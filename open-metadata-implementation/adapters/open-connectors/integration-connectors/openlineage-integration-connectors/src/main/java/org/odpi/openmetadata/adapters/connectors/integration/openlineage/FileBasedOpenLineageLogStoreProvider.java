@@ -7,6 +7,9 @@ import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.frameworks.integration.connectors.IntegrationConnectorProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * FileBasedOpenLineageLogStoreProvider is the OCF connector provider for the file based open lineage log store.
@@ -36,6 +39,11 @@ public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorPr
      */
     private static final String connectorClassName     = "org.odpi.openmetadata.adapters.connectors.integration.openlineage.FileBasedOpenLineageLogStoreConnector";
 
+    static final String MAX_SEGMENT_SIZE_CONFIGURATION_PROPERTY = "maxSegmentSize";
+    static final String MAX_SEGMENT_AGE_CONFIGURATION_PROPERTY  = "maxSegmentAgeMinutes";
+    static final String FLUSH_INTERVAL_CONFIGURATION_PROPERTY   = "flushIntervalMillis";
+    static final String RETENTION_PERIOD_CONFIGURATION_PROPERTY = "retentionPeriodHours";
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -60,6 +68,12 @@ public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorPr
         connectorType.setDisplayName(connectorDisplayName);
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(MAX_SEGMENT_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_SEGMENT_AGE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(FLUSH_INTERVAL_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(RETENTION_PERIOD_CONFIGURATION_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
         connectorType.setSupportedAssetTypeName(supportedAssetTypeName);
 
         super.connectorTypeBean = connectorType;
@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.ProcessElement;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.ProcessProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.ProcessStatus;
@@ -18,18 +20,42 @@ import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageP
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRun;
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRunEvent;
 
+import java.io.File;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
  * OpenLineageCataloguerIntegrationConnector is an integration connector to register an OpenLineage listener with the Lineage Integrator OMIS
  * and to catalog any processes that are not already known to the open metadata ecosystem.
+ * <br><br>
+ * If the replayLogDirectory configuration property is set, the connector also processes the open lineage events stored in that
+ * directory by the file-based open lineage log store when it is first refreshed.  The events can be restricted to a namespace and
+ * a time range.  The events are processed by several threads, with the events for each job processed in order by the same thread.
  */
 public class OpenLineageCataloguerIntegrationConnector extends LineageIntegratorConnector implements OpenLineageEventListener
 {
+    private static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
+
+    private static final int defaultReplayThreads  = 4;
+    private static final int replayEventsPerThread = 100;
+
     protected String                   destinationName = "<Unknown";
     protected LineageIntegratorContext myContext       = null;
 
+    private String  replayLogDirectory = null;
+    private String  replayNamespace    = null;
+    private String  replayFromTime     = null;
+    private String  replayToTime       = null;
+    private int     replayThreads      = defaultReplayThreads;
+    private boolean replayComplete     = false;
+
 
     /**
      * Default constructor
@@ -66,6 +92,35 @@ public class OpenLineageCataloguerIntegrationConnector extends LineageIntegrator
             }
         }
 
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            replayLogDirectory = getStringProperty(configurationProperties,
+                                                   OpenLineageCataloguerIntegrationProvider.REPLAY_LOG_DIRECTORY_CONFIGURATION_PROPERTY);
+            replayNamespace = getStringProperty(configurationProperties,
+                                                OpenLineageCataloguerIntegrationProvider.REPLAY_NAMESPACE_CONFIGURATION_PROPERTY);
+            replayFromTime = getStringProperty(configurationProperties,
+                                               OpenLineageCataloguerIntegrationProvider.REPLAY_FROM_TIME_CONFIGURATION_PROPERTY);
+            replayToTime = getStringProperty(configurationProperties,
+                                             OpenLineageCataloguerIntegrationProvider.REPLAY_TO_TIME_CONFIGURATION_PROPERTY);
+
+            String threads = getStringProperty(configurationProperties,
+                                               OpenLineageCataloguerIntegrationProvider.REPLAY_THREADS_CONFIGURATION_PROPERTY);
+
+            if (threads != null)
+            {
+                try
+                {
+                    replayThreads = Math.max(1, Integer.parseInt(threads));
+                }
+                catch (NumberFormatException error)
+                {
+                    replayThreads = defaultReplayThreads;
+                }
+            }
+        }
+
         myContext = super.getContext();
 
         if (myContext != null)
@@ -75,6 +130,27 @@ public class OpenLineageCataloguerIntegrationConnector extends LineageIntegrator
     }
 
 
+    /**
+     * Return the value of a configuration property as a string.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @return property value or null if it is not set
+     */
+    private String getStringProperty(Map<String, Object> configurationProperties,
+                                     String              propertyName)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if ((propertyValue == null) || (propertyValue.toString().isBlank()))
+        {
+            return null;
+        }
+
+        return propertyValue.toString().trim();
+    }
+
+
     /**
      * Requests that the connector does a comparison of the metadata in the third party technology and open metadata repositories.
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
@@ -84,7 +160,162 @@ public class OpenLineageCataloguerIntegrationConnector extends LineageIntegrator
      */
     public void refresh() throws ConnectorCheckedException
     {
-        // nothing to do
+        final String methodName = "refresh";
+
+        if ((replayLogDirectory != null) && (! replayComplete))
+        {
+            replayComplete = true;
+            this.replayOpenLineageLog(methodName);
+        }
+    }
+
+
+    /**
+     * Process the open lineage events stored in the replay directory.  The events are spread over the replay threads by job so
+     * the events for each job are processed in the order they were stored.  The number of events waiting to be processed is
+     * limited so the replay does not need to hold the log in memory.
+     *
+     * @param methodName calling method
+     */
+    private void replayOpenLineageLog(String methodName)
+    {
+        long fromTime = Long.MIN_VALUE;
+        long toTime   = Long.MAX_VALUE;
+
+        ExecutorService[] replayExecutors = new ExecutorService[replayThreads];
+        Semaphore         waitingEvents   = new Semaphore(replayThreads * replayEventsPerThread);
+        AtomicLong        processedCount  = new AtomicLong(0);
+        long              startTime       = System.currentTimeMillis();
+
+        try
+        {
+            if (replayFromTime != null)
+            {
+                fromTime = ZonedDateTime.parse(replayFromTime).toInstant().toEpochMilli();
+            }
+
+            if (replayToTime != null)
+            {
+                toTime = ZonedDateTime.parse(replayToTime).toInstant().toEpochMilli();
+            }
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OpenLineageIntegrationConnectorAuditCode.REPLAY_STARTING.getMessageDefinition(connectorName,
+                                                                                                                  replayLogDirectory,
+                                                                                                                  replayNamespace == null ? "<all>" : replayNamespace,
+                                                                                                                  replayFromTime == null ? "<start>" : replayFromTime,
+                                                                                                                  replayToTime == null ? "<end>" : replayToTime));
+            }
+
+            for (int i = 0; i < replayThreads; i++)
+            {
+                replayExecutors[i] = Executors.newSingleThreadExecutor();
+            }
+
+            SegmentedOpenLineageLog openLineageLog = SegmentedOpenLineageLog.getLogForReplay(new File(replayLogDirectory));
+
+            openLineageLog.replay(replayNamespace, null, fromTime, toTime, (namespace, jobName, eventTime, rawEvent) ->
+            {
+                int partition = Math.floorMod((namespace + ":" + jobName).hashCode(), replayThreads);
+
+                waitingEvents.acquireUninterruptibly();
+
+                replayExecutors[partition].execute(() ->
+                {
+                    try
+                    {
+                        this.replayEvent(rawEvent);
+                        processedCount.incrementAndGet();
+                    }
+                    finally
+                    {
+                        waitingEvents.release();
+                    }
+                });
+            });
+
+            for (ExecutorService replayExecutor : replayExecutors)
+            {
+                replayExecutor.shutdown();
+            }
+
+            for (ExecutorService replayExecutor : replayExecutors)
+            {
+                while (! replayExecutor.awaitTermination(1, TimeUnit.MINUTES))
+                {
+                    // keep waiting for the events to be processed
+                }
+            }
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OpenLineageIntegrationConnectorAuditCode.REPLAY_COMPLETE.getMessageDefinition(connectorName,
+                                                                                                                  Long.toString(processedCount.get()),
+                                                                                                                  replayLogDirectory,
+                                                                                                                  Long.toString(System.currentTimeMillis() - startTime)));
+            }
+        }
+        catch (Exception error)
+        {
+            if (error instanceof InterruptedException)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      OpenLineageIntegrationConnectorAuditCode.REPLAY_FAILED.getMessageDefinition(connectorName,
+                                                                                                                  error.getClass().getName(),
+                                                                                                                  replayLogDirectory,
+                                                                                                                  error.getMessage()),
+                                      error);
+            }
+        }
+        finally
+        {
+            for (ExecutorService replayExecutor : replayExecutors)
+            {
+                if (replayExecutor != null)
+                {
+                    replayExecutor.shutdownNow();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Convert a stored open lineage event into the Egeria beans and process it.
+     *
+     * @param rawEvent event in Json form
+     */
+    private void replayEvent(String rawEvent)
+    {
+        final String methodName = "replayEvent";
+
+        try
+        {
+            OpenLineageRunEvent event = OBJECT_READER.readValue(rawEvent, OpenLineageRunEvent.class);
+
+            this.processOpenLineageRunEvent(event, rawEvent);
+        }
+        catch (Exception error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      OpenLineageIntegrationConnectorAuditCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                                         error.getClass().getName(),
+                                                                                                                         methodName,
+                                                                                                                         error.getMessage()),
+                                      rawEvent,
+                                      error);
+            }
+        }
     }
 
 
@@ -7,6 +7,9 @@ import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.frameworks.integration.connectors.IntegrationConnectorProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The OpenLineageCataloguerIntegrationProvider provides the connector provider for OpenLineageCataloguerIntegrationConnector.
  */
@@ -36,6 +39,12 @@ public class OpenLineageCataloguerIntegrationProvider extends IntegrationConnect
      */
     private static final String connectorClassName     = "org.odpi.openmetadata.adapters.connectors.integration.openlineage.OpenLineageCataloguerIntegrationConnector";
 
+    static final String REPLAY_LOG_DIRECTORY_CONFIGURATION_PROPERTY = "replayLogDirectory";
+    static final String REPLAY_NAMESPACE_CONFIGURATION_PROPERTY     = "replayNamespace";
+    static final String REPLAY_FROM_TIME_CONFIGURATION_PROPERTY     = "replayFromTime";
+    static final String REPLAY_TO_TIME_CONFIGURATION_PROPERTY       = "replayToTime";
+    static final String REPLAY_THREADS_CONFIGURATION_PROPERTY       = "replayThreads";
+
 
     /**
      * Constructor used to initialize the ConnectorProvider with the Java class name of the specific connector implementation.
@@ -59,6 +68,13 @@ public class OpenLineageCataloguerIntegrationProvider extends IntegrationConnect
         connectorType.setDisplayName(connectorDisplayName);
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(REPLAY_LOG_DIRECTORY_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(REPLAY_NAMESPACE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(REPLAY_FROM_TIME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(REPLAY_TO_TIME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(REPLAY_THREADS_CONFIGURATION_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
         connectorType.setSupportedAssetTypeName(supportedAssetTypeName);
 
         super.connectorTypeBean = connectorType;
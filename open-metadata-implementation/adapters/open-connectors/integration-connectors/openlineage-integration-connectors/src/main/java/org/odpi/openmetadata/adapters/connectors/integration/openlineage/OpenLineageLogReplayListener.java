@@ -0,0 +1,24 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+
+/**
+ * OpenLineageLogReplayListener is passed each of the open lineage events that match a replay request to a
+ * SegmentedOpenLineageLog.  The events are passed in the order that they were stored.
+ */
+public interface OpenLineageLogReplayListener
+{
+    /**
+     * Process an open lineage event from the log.
+     *
+     * @param namespace namespace of the event's job
+     * @param jobName name of the event's job
+     * @param eventTime time of the event in milliseconds since the epoch
+     * @param rawEvent event in Json form as it was received from the originator
+     */
+    void replayEvent(String namespace,
+                     String jobName,
+                     long   eventTime,
+                     String rawEvent);
+}
@@ -0,0 +1,418 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * OpenLineageLogSegment describes one segment file of a SegmentedOpenLineageLog.  It holds the summary of the segment's
+ * contents that is stored in the segment's index file: the range of event times, the number of events and the
+ * namespaces and jobs that the events belong to.  This summary is used to skip segments that can not contain
+ * any of the events requested on a replay, and to choose the segments to remove or compact.
+ */
+class OpenLineageLogSegment
+{
+    private static final int indexFormatVersion = 1;
+
+    private final File                     dataFile;
+    private final long                     sequenceNumber;
+    private long                           firstEventTime  = Long.MAX_VALUE;
+    private long                           lastEventTime   = Long.MIN_VALUE;
+    private long                           lastWriteTime   = 0;
+    private long                           eventCount      = 0;
+    private boolean                        summaryComplete = false;
+    private final Map<String, Set<String>> jobNames        = new HashMap<>();
+
+
+    /**
+     * Constructor for a segment.
+     *
+     * @param dataFile file holding the compressed events
+     * @param sequenceNumber position of the segment in the log
+     */
+    OpenLineageLogSegment(File dataFile,
+                          long sequenceNumber)
+    {
+        this.dataFile       = dataFile;
+        this.sequenceNumber = sequenceNumber;
+    }
+
+
+    /**
+     * Return the file holding the compressed events.
+     *
+     * @return file
+     */
+    File getDataFile()
+    {
+        return dataFile;
+    }
+
+
+    /**
+     * Return the file holding the index for this segment.
+     *
+     * @return file
+     */
+    File getIndexFile()
+    {
+        return new File(dataFile.getPath() + SegmentedOpenLineageLog.indexFileSuffix);
+    }
+
+
+    /**
+     * Return the position of the segment in the log.
+     *
+     * @return sequence number
+     */
+    long getSequenceNumber()
+    {
+        return sequenceNumber;
+    }
+
+
+    /**
+     * Return the earliest event time in the segment.
+     *
+     * @return milliseconds since the epoch
+     */
+    long getFirstEventTime()
+    {
+        return firstEventTime;
+    }
+
+
+    /**
+     * Return the latest event time in the segment.
+     *
+     * @return milliseconds since the epoch
+     */
+    long getLastEventTime()
+    {
+        return lastEventTime;
+    }
+
+
+    /**
+     * Return the time that the last event was written to the segment.  This is used for retention because event times
+     * are set by the originator of the event and may be wrong.
+     *
+     * @return milliseconds since the epoch
+     */
+    long getLastWriteTime()
+    {
+        return lastWriteTime;
+    }
+
+
+    /**
+     * Return the number of events in the segment.
+     *
+     * @return count
+     */
+    long getEventCount()
+    {
+        return eventCount;
+    }
+
+
+    /**
+     * Return the size of the segment's data file.
+     *
+     * @return number of bytes
+     */
+    long getSize()
+    {
+        return dataFile.length();
+    }
+
+
+    /**
+     * Return whether the summary describes all the events in the segment.  The summary of a segment that is being
+     * written by another process is not known until its index file is written.
+     *
+     * @return boolean flag
+     */
+    boolean isSummaryComplete()
+    {
+        return summaryComplete;
+    }
+
+
+    /**
+     * Record that the summary describes all the events in the segment.
+     */
+    void setSummaryComplete()
+    {
+        summaryComplete = true;
+    }
+
+
+    /**
+     * Add the details of an event to the summary.
+     *
+     * @param namespace namespace of the event's job
+     * @param jobName name of the event's job
+     * @param eventTime time of the event
+     * @param writeTime time the event was written to the segment
+     */
+    void recordEvent(String namespace,
+                     String jobName,
+                     long   eventTime,
+                     long   writeTime)
+    {
+        firstEventTime = Math.min(firstEventTime, eventTime);
+        lastEventTime  = Math.max(lastEventTime, eventTime);
+        lastWriteTime  = Math.max(lastWriteTime, writeTime);
+        eventCount++;
+
+        jobNames.computeIfAbsent(namespace, key -> new HashSet<>()).add(jobName);
+    }
+
+
+    /**
+     * Add the summary of another segment to this segment's summary.  Used when segments are compacted.
+     *
+     * @param segment segment being merged into this one
+     */
+    void recordSegment(OpenLineageLogSegment segment)
+    {
+        firstEventTime = Math.min(firstEventTime, segment.firstEventTime);
+        lastEventTime  = Math.max(lastEventTime, segment.lastEventTime);
+        lastWriteTime  = Math.max(lastWriteTime, segment.lastWriteTime);
+        eventCount     = eventCount + segment.eventCount;
+
+        for (Map.Entry<String, Set<String>> namespaceJobs : segment.jobNames.entrySet())
+        {
+            jobNames.computeIfAbsent(namespaceJobs.getKey(), key -> new HashSet<>()).addAll(namespaceJobs.getValue());
+        }
+    }
+
+
+    /**
+     * Determine whether the segment may contain events that match the requested namespace, job and time range.
+     *
+     * @param namespace namespace of the requested events, or null for all namespaces
+     * @param jobName name of the requested job, or null for all jobs
+     * @param fromTime earliest requested event time
+     * @param toTime latest requested event time
+     * @return boolean flag
+     */
+    boolean mayContain(String namespace,
+                       String jobName,
+                       long   fromTime,
+                       long   toTime)
+    {
+        if (! summaryComplete)
+        {
+            return true;
+        }
+
+        if ((eventCount == 0) || (lastEventTime < fromTime) || (firstEventTime > toTime))
+        {
+            return false;
+        }
+
+        if (namespace != null)
+        {
+            Set<String> namespaceJobNames = jobNames.get(namespace);
+
+            if (namespaceJobNames == null)
+            {
+                return false;
+            }
+
+            return (jobName == null) || (namespaceJobNames.contains(jobName));
+        }
+        else if (jobName != null)
+        {
+            for (Set<String> namespaceJobNames : jobNames.values())
+            {
+                if (namespaceJobNames.contains(jobName))
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Write the summary to the segment's index file.  The index is written to a temporary file and then
+     * moved into place so a reader never sees a partial index.
+     *
+     * @throws IOException unable to write the file
+     */
+    void writeIndex() throws IOException
+    {
+        File indexFile     = getIndexFile();
+        File tempIndexFile = new File(indexFile.getPath() + SegmentedOpenLineageLog.tempFileSuffix);
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempIndexFile.toPath()))))
+        {
+            output.writeInt(indexFormatVersion);
+            output.writeLong(firstEventTime);
+            output.writeLong(lastEventTime);
+            output.writeLong(lastWriteTime);
+            output.writeLong(eventCount);
+            output.writeInt(jobNames.size());
+
+            for (Map.Entry<String, Set<String>> namespaceJobs : jobNames.entrySet())
+            {
+                SegmentedOpenLineageLog.writeString(output, namespaceJobs.getKey());
+                output.writeInt(namespaceJobs.getValue().size());
+
+                for (String namespaceJobName : namespaceJobs.getValue())
+                {
+                    SegmentedOpenLineageLog.writeString(output, namespaceJobName);
+                }
+            }
+        }
+
+        SegmentedOpenLineageLog.moveFile(tempIndexFile, indexFile);
+    }
+
+
+    /**
+     * Load the summary from the segment's index file.
+     *
+     * @return boolean flag indicating whether there is a valid index file
+     */
+    boolean readIndex()
+    {
+        File indexFile = getIndexFile();
+
+        if (! indexFile.exists())
+        {
+            return false;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile.toPath()))))
+        {
+            if (input.readInt() != indexFormatVersion)
+            {
+                return false;
+            }
+
+            firstEventTime = input.readLong();
+            lastEventTime  = input.readLong();
+            lastWriteTime  = input.readLong();
+            eventCount     = input.readLong();
+
+            int namespaceCount = input.readInt();
+
+            for (int i = 0; i < namespaceCount; i++)
+            {
+                Set<String> namespaceJobNames = jobNames.computeIfAbsent(SegmentedOpenLineageLog.readString(input), key -> new HashSet<>());
+                int         jobCount          = input.readInt();
+
+                for (int j = 0; j < jobCount; j++)
+                {
+                    namespaceJobNames.add(SegmentedOpenLineageLog.readString(input));
+                }
+            }
+
+            summaryComplete = true;
+            return true;
+        }
+        catch (IOException error)
+        {
+            jobNames.clear();
+            firstEventTime = Long.MAX_VALUE;
+            lastEventTime  = Long.MIN_VALUE;
+            lastWriteTime  = 0;
+            eventCount     = 0;
+
+            return false;
+        }
+    }
+
+
+    /**
+     * Open the segment's data file for reading.
+     *
+     * @return input stream of uncompressed records
+     * @throws IOException unable to open the file
+     */
+    DataInputStream openForReading() throws IOException
+    {
+        InputStream fileInput = Files.newInputStream(dataFile.toPath());
+
+        try
+        {
+            return new DataInputStream(new BufferedInputStream(new GZIPInputStream(fileInput, SegmentedOpenLineageLog.bufferSize)));
+        }
+        catch (IOException error)
+        {
+            fileInput.close();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Open a data file for writing.
+     *
+     * @param file file to create
+     * @return output stream that compresses the records
+     * @throws IOException unable to create the file
+     */
+    static DataOutputStream openForWriting(File file) throws IOException
+    {
+        OutputStream fileOutput = Files.newOutputStream(file.toPath());
+
+        try
+        {
+            /*
+             * Sync flush means that a flush of the stream writes out all the records written so far as
+             * complete compressed blocks, so they can be read back even if the segment is never closed.
+             */
+            return new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(fileOutput, SegmentedOpenLineageLog.bufferSize, true),
+                                                                 SegmentedOpenLineageLog.bufferSize));
+        }
+        catch (IOException error)
+        {
+            fileOutput.close();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OpenLineageLogSegment{" +
+                       "dataFile=" + dataFile +
+                       ", sequenceNumber=" + sequenceNumber +
+                       ", firstEventTime=" + firstEventTime +
+                       ", lastEventTime=" + lastEventTime +
+                       ", lastWriteTime=" + lastWriteTime +
+                       ", eventCount=" + eventCount +
+                       ", jobNames=" + jobNames +
+                       '}';
+    }
+}
@@ -198,7 +198,7 @@ public abstract class OpenLineageLogStoreConnectorBase extends LineageIntegrator
                 jsonEvent = this.getJSONOpenLineageEvent(event, methodName);
             }
 
-            storeEvent(event, rawEvent);
+            storeEvent(event, jsonEvent);
         }
         catch (Exception error)
         {
@@ -0,0 +1,870 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * SegmentedOpenLineageLog stores open lineage events in a directory as a sequence of compressed, append-only segment files.
+ * Events are appended to the active segment until it reaches its maximum size or age, when it is sealed and a new
+ * segment is started.  When a segment is sealed, a small index file is written alongside it that records the range of
+ * event times and the namespaces and jobs of the events in the segment.  The index files are used to skip segments
+ * when replaying the events for a particular namespace, job or time range.
+ * <br><br>
+ * Sealed segments are removed once they are older than the retention period, and small sealed segments (typically
+ * created when there are few events and the segments are sealed because of their age) are compacted into larger ones.
+ * <br><br>
+ * The events are flushed to the active segment at the flush interval so events written in the last flush interval
+ * may be lost if the server fails.  The active segment can be read while it is being written.
+ */
+public class SegmentedOpenLineageLog
+{
+    static final String segmentFilePrefix = "segment-";
+    static final String segmentFileSuffix = ".log.gz";
+    static final String indexFileSuffix   = ".idx";
+    static final String tempFileSuffix    = ".tmp";
+    static final int    bufferSize        = 64 * 1024;
+
+    /*
+     * The logs opened for writing in this JVM.  A replay request for a directory that is being written by
+     * this JVM uses the writer's instance so that it can coordinate with the writer's compaction.
+     */
+    private static final Map<String, SegmentedOpenLineageLog> openLogs = new ConcurrentHashMap<>();
+
+    private final File    directory;
+    private final String  directoryKey;
+    private final long    maxSegmentSize;
+    private final long    maxSegmentAge;
+    private final long    flushInterval;
+    private final boolean readOnly;
+
+    /*
+     * Replays hold the read lock so that compaction and retention, which hold the write lock,
+     * do not remove a segment file while it is being replayed.
+     */
+    private final ReadWriteLock               segmentFileLock = new ReentrantReadWriteLock();
+    private final List<OpenLineageLogSegment> sealedSegments  = new ArrayList<>();
+
+    private OpenLineageLogSegment activeSegment      = null;
+    private DataOutputStream      activeOutput       = null;
+    private long                  activeSegmentStart = 0;
+    private long                  lastFlushTime      = 0;
+    private long                  nextSequenceNumber = 0;
+    private boolean               closed             = false;
+
+
+    /**
+     * Open a log for writing.  Any segments left without an index file (because the server stopped before they were
+     * sealed) are read to rebuild their index and then sealed.  New events are always written to a new segment.
+     *
+     * @param directory directory holding the segments
+     * @param maxSegmentSize size in bytes at which the active segment is sealed
+     * @param maxSegmentAge time in milliseconds after which the active segment is sealed
+     * @param flushInterval maximum time in milliseconds that an event is held in memory before it is written to the segment
+     * @throws IOException unable to create the directory or read the existing segments
+     */
+    public SegmentedOpenLineageLog(File directory,
+                                   long maxSegmentSize,
+                                   long maxSegmentAge,
+                                   long flushInterval) throws IOException
+    {
+        this(directory, maxSegmentSize, maxSegmentAge, flushInterval, false);
+
+        if (openLogs.putIfAbsent(directoryKey, this) != null)
+        {
+            throw new IOException("Open lineage log directory " + directory.getPath() + " is already open for writing");
+        }
+    }
+
+
+    /**
+     * Constructor for both readers and writers.
+     *
+     * @param directory directory holding the segments
+     * @param maxSegmentSize size in bytes at which the active segment is sealed
+     * @param maxSegmentAge time in milliseconds after which the active segment is sealed
+     * @param flushInterval maximum time in milliseconds that an event is held in memory before it is written to the segment
+     * @param readOnly is this log only used for replay
+     * @throws IOException unable to create the directory or read the existing segments
+     */
+    private SegmentedOpenLineageLog(File    directory,
+                                    long    maxSegmentSize,
+                                    long    maxSegmentAge,
+                                    long    flushInterval,
+                                    boolean readOnly) throws IOException
+    {
+        this.directory      = directory;
+        this.directoryKey   = directory.getCanonicalPath();
+        this.maxSegmentSize = maxSegmentSize;
+        this.maxSegmentAge  = maxSegmentAge;
+        this.flushInterval  = flushInterval;
+        this.readOnly       = readOnly;
+
+        if (! readOnly)
+        {
+            Files.createDirectories(directory.toPath());
+            this.recoverSegments();
+        }
+    }
+
+
+    /**
+     * Return a log that can be used to replay the events in a directory.  If the directory is open for writing in
+     * this JVM, the writer's log is returned.  Otherwise, a read-only log is returned that reads the segments each time
+     * it is replayed.  The segments that are being written by another process are replayed up to their last flush.
+     *
+     * @param directory directory holding the segments
+     * @return log
+     * @throws IOException unable to locate the directory
+     */
+    public static SegmentedOpenLineageLog getLogForReplay(File directory) throws IOException
+    {
+        SegmentedOpenLineageLog openLog = openLogs.get(directory.getCanonicalPath());
+
+        if (openLog != null)
+        {
+            return openLog;
+        }
+
+        if (! directory.isDirectory())
+        {
+            throw new NoSuchFileException(directory.getPath());
+        }
+
+        return new SegmentedOpenLineageLog(directory, Long.MAX_VALUE, Long.MAX_VALUE, 0, true);
+    }
+
+
+    /**
+     * Return the directory that holds the segments.
+     *
+     * @return directory
+     */
+    public File getDirectory()
+    {
+        return directory;
+    }
+
+
+    /**
+     * Return the number of segments, including the active segment.
+     *
+     * @return count
+     */
+    public synchronized int getSegmentCount()
+    {
+        if (readOnly)
+        {
+            return listSegments().size();
+        }
+
+        return sealedSegments.size() + (activeSegment == null ? 0 : 1);
+    }
+
+
+    /**
+     * Add an event to the log.
+     *
+     * @param namespace namespace of the event's job
+     * @param jobName name of the event's job
+     * @param eventTime time of the event in milliseconds since the epoch
+     * @param rawEvent event in Json form
+     * @throws IOException unable to write to the active segment
+     */
+    public synchronized void append(String namespace,
+                                    String jobName,
+                                    long   eventTime,
+                                    String rawEvent) throws IOException
+    {
+        if (readOnly || closed)
+        {
+            throw new IOException("Open lineage log directory " + directory.getPath() + " is not open for writing");
+        }
+
+        long writeTime = System.currentTimeMillis();
+
+        if (activeOutput == null)
+        {
+            this.startSegment(writeTime);
+        }
+
+        writeRecord(activeOutput, namespace, jobName, eventTime, writeTime, rawEvent);
+        activeSegment.recordEvent(namespace, jobName, eventTime, writeTime);
+
+        if (writeTime - lastFlushTime >= flushInterval)
+        {
+            activeOutput.flush();
+            lastFlushTime = writeTime;
+
+            if ((activeSegment.getSize() >= maxSegmentSize) || (writeTime - activeSegmentStart >= maxSegmentAge))
+            {
+                this.sealActiveSegment();
+            }
+        }
+    }
+
+
+    /**
+     * Write the events held in memory to the active segment, and seal the active segment if it has reached its maximum
+     * size or age.  This is called periodically so that the events are written even when no new events arrive.
+     *
+     * @throws IOException unable to write to the active segment
+     */
+    public synchronized void flush() throws IOException
+    {
+        if (activeOutput != null)
+        {
+            long now = System.currentTimeMillis();
+
+            activeOutput.flush();
+            lastFlushTime = now;
+
+            if ((activeSegment.getSize() >= maxSegmentSize) || (now - activeSegmentStart >= maxSegmentAge))
+            {
+                this.sealActiveSegment();
+            }
+        }
+    }
+
+
+    /**
+     * Seal the active segment.  The next event starts a new segment.
+     *
+     * @throws IOException unable to complete the active segment
+     */
+    public synchronized void roll() throws IOException
+    {
+        if (activeOutput != null)
+        {
+            this.sealActiveSegment();
+        }
+    }
+
+
+    /**
+     * Seal the active segment and stop writing to the log.
+     *
+     * @throws IOException unable to complete the active segment
+     */
+    public synchronized void close() throws IOException
+    {
+        if (! closed)
+        {
+            closed = true;
+
+            if (! readOnly)
+            {
+                openLogs.remove(directoryKey, this);
+            }
+
+            this.roll();
+        }
+    }
+
+
+    /**
+     * Replay the events that match the requested namespace, job and time range, in the order that they were stored.
+     *
+     * @param namespace namespace of the requested events, or null for all namespaces
+     * @param jobName name of the requested job, or null for all jobs
+     * @param fromTime earliest requested event time in milliseconds since the epoch
+     * @param toTime latest requested event time in milliseconds since the epoch
+     * @param listener listener to pass the events to
+     * @return number of events replayed
+     * @throws IOException unable to read a segment
+     */
+    public long replay(String                       namespace,
+                       String                       jobName,
+                       long                         fromTime,
+                       long                         toTime,
+                       OpenLineageLogReplayListener listener) throws IOException
+    {
+        long replayCount = 0;
+
+        segmentFileLock.readLock().lock();
+
+        try
+        {
+            List<OpenLineageLogSegment> segments;
+
+            if (readOnly)
+            {
+                segments = listSegments();
+
+                for (OpenLineageLogSegment segment : segments)
+                {
+                    segment.readIndex();
+                }
+            }
+            else
+            {
+                synchronized (this)
+                {
+                    segments = new ArrayList<>(sealedSegments);
+
+                    if (activeOutput != null)
+                    {
+                        activeOutput.flush();
+                        segments.add(activeSegment);
+                    }
+                }
+            }
+
+            for (OpenLineageLogSegment segment : segments)
+            {
+                if (segment.mayContain(namespace, jobName, fromTime, toTime))
+                {
+                    replayCount = replayCount + replaySegment(segment, namespace, jobName, fromTime, toTime, listener);
+                }
+            }
+        }
+        finally
+        {
+            segmentFileLock.readLock().unlock();
+        }
+
+        return replayCount;
+    }
+
+
+    /**
+     * Remove the sealed segments whose last event was written before the retention period.
+     *
+     * @param retentionPeriod time in milliseconds to keep each segment
+     * @return number of segments removed
+     * @throws IOException unable to remove a segment
+     */
+    public int removeExpiredSegments(long retentionPeriod) throws IOException
+    {
+        if (readOnly)
+        {
+            return 0;
+        }
+
+        long cutoffTime   = System.currentTimeMillis() - retentionPeriod;
+        int  removedCount = 0;
+
+        segmentFileLock.writeLock().lock();
+
+        try
+        {
+            List<OpenLineageLogSegment> expiredSegments = new ArrayList<>();
+
+            synchronized (this)
+            {
+                for (OpenLineageLogSegment segment : sealedSegments)
+                {
+                    if (segment.getLastWriteTime() < cutoffTime)
+                    {
+                        expiredSegments.add(segment);
+                    }
+                }
+
+                sealedSegments.removeAll(expiredSegments);
+            }
+
+            for (OpenLineageLogSegment segment : expiredSegments)
+            {
+                deleteSegment(segment);
+                removedCount++;
+            }
+        }
+        finally
+        {
+            segmentFileLock.writeLock().unlock();
+        }
+
+        return removedCount;
+    }
+
+
+    /**
+     * Merge runs of consecutive sealed segments that are together smaller than the maximum segment size into a single
+     * segment.  The merged segment takes the place of the first segment in the run so the order of the events is
+     * unchanged.  The new segment is written before the old segments are removed, so a failure part way through
+     * compaction may leave events in two segments but does not lose them.
+     *
+     * @return number of segments removed by the compaction
+     * @throws IOException unable to write the merged segment
+     */
+    public int compact() throws IOException
+    {
+        if (readOnly)
+        {
+            return 0;
+        }
+
+        int removedCount = 0;
+
+        segmentFileLock.writeLock().lock();
+
+        try
+        {
+            List<OpenLineageLogSegment> segments;
+
+            synchronized (this)
+            {
+                segments = new ArrayList<>(sealedSegments);
+            }
+
+            List<OpenLineageLogSegment> run     = new ArrayList<>();
+            long                        runSize = 0;
+
+            for (OpenLineageLogSegment segment : segments)
+            {
+                long segmentSize = segment.getSize();
+
+                if ((! run.isEmpty()) && (runSize + segmentSize > maxSegmentSize))
+                {
+                    removedCount = removedCount + mergeSegments(run);
+                    run.clear();
+                    runSize = 0;
+                }
+
+                run.add(segment);
+                runSize = runSize + segmentSize;
+            }
+
+            removedCount = removedCount + mergeSegments(run);
+        }
+        finally
+        {
+            segmentFileLock.writeLock().unlock();
+        }
+
+        return removedCount;
+    }
+
+
+    /**
+     * Merge a run of sealed segments into the first segment of the run.  The caller holds the write lock.
+     *
+     * @param run segments to merge
+     * @return number of segments removed
+     * @throws IOException unable to write the merged segment
+     */
+    private int mergeSegments(List<OpenLineageLogSegment> run) throws IOException
+    {
+        if (run.size() < 2)
+        {
+            return 0;
+        }
+
+        OpenLineageLogSegment firstSegment  = run.get(0);
+        OpenLineageLogSegment mergedSegment = new OpenLineageLogSegment(firstSegment.getDataFile(), firstSegment.getSequenceNumber());
+        File                  tempDataFile  = new File(firstSegment.getDataFile().getPath() + tempFileSuffix);
+
+        try (DataOutputStream output = OpenLineageLogSegment.openForWriting(tempDataFile))
+        {
+            for (OpenLineageLogSegment segment : run)
+            {
+                copySegment(segment, output);
+                mergedSegment.recordSegment(segment);
+            }
+        }
+
+        mergedSegment.setSummaryComplete();
+
+        /*
+         * The old index is removed first so that, if the server stops before the new index is written,
+         * the index is rebuilt from the merged segment when the log is next opened.
+         */
+        Files.deleteIfExists(firstSegment.getIndexFile().toPath());
+        moveFile(tempDataFile, mergedSegment.getDataFile());
+        mergedSegment.writeIndex();
+
+        synchronized (this)
+        {
+            int position = sealedSegments.indexOf(firstSegment);
+
+            sealedSegments.set(position, mergedSegment);
+            sealedSegments.removeAll(run.subList(1, run.size()));
+        }
+
+        for (OpenLineageLogSegment segment : run.subList(1, run.size()))
+        {
+            deleteSegment(segment);
+        }
+
+        return run.size() - 1;
+    }
+
+
+    /**
+     * Copy all the records from a segment to an output stream.
+     *
+     * @param segment segment to copy
+     * @param output destination
+     * @throws IOException unable to read the segment or write the output
+     */
+    private void copySegment(OpenLineageLogSegment segment,
+                             DataOutputStream      output) throws IOException
+    {
+        try (DataInputStream input = segment.openForReading())
+        {
+            LogRecord record = readRecord(input);
+
+            while (record != null)
+            {
+                writeRecord(output, record.namespace, record.jobName, record.eventTime, record.writeTime, record.rawEvent);
+                record = readRecord(input);
+            }
+        }
+    }
+
+
+    /**
+     * Pass the matching records from a segment to the listener.
+     *
+     * @param segment segment to read
+     * @param namespace namespace of the requested events, or null for all namespaces
+     * @param jobName name of the requested job, or null for all jobs
+     * @param fromTime earliest requested event time
+     * @param toTime latest requested event time
+     * @param listener listener to pass the events to
+     * @return number of events replayed
+     * @throws IOException unable to read the segment
+     */
+    private long replaySegment(OpenLineageLogSegment        segment,
+                               String                       namespace,
+                               String                       jobName,
+                               long                         fromTime,
+                               long                         toTime,
+                               OpenLineageLogReplayListener listener) throws IOException
+    {
+        long replayCount = 0;
+
+        try (DataInputStream input = segment.openForReading())
+        {
+            LogRecord record = readRecord(input);
+
+            while (record != null)
+            {
+                if (((namespace == null) || (namespace.equals(record.namespace))) &&
+                    ((jobName == null) || (jobName.equals(record.jobName))) &&
+                    (record.eventTime >= fromTime) && (record.eventTime <= toTime))
+                {
+                    listener.replayEvent(record.namespace, record.jobName, record.eventTime, record.rawEvent);
+                    replayCount++;
+                }
+
+                record = readRecord(input);
+            }
+        }
+        catch (NoSuchFileException | EOFException error)
+        {
+            /*
+             * A read-only log may find that the segment has been compacted away by the writer, or
+             * that the segment has only just been created and nothing is flushed to it yet.
+             */
+            if (! readOnly)
+            {
+                throw error;
+            }
+        }
+
+        return replayCount;
+    }
+
+
+    /**
+     * Create a new active segment.
+     *
+     * @param startTime time the segment is created
+     * @throws IOException unable to create the segment file
+     */
+    private void startSegment(long startTime) throws IOException
+    {
+        long sequenceNumber = nextSequenceNumber++;
+
+        activeSegment = new OpenLineageLogSegment(getSegmentFile(sequenceNumber), sequenceNumber);
+        activeSegment.setSummaryComplete();
+        activeOutput = OpenLineageLogSegment.openForWriting(activeSegment.getDataFile());
+        activeSegmentStart = startTime;
+        lastFlushTime = startTime;
+    }
+
+
+    /**
+     * Complete the active segment and write its index.
+     *
+     * @throws IOException unable to complete the segment
+     */
+    private void sealActiveSegment() throws IOException
+    {
+        try
+        {
+            activeOutput.close();
+            activeSegment.writeIndex();
+            sealedSegments.add(activeSegment);
+        }
+        finally
+        {
+            activeOutput = null;
+            activeSegment = null;
+        }
+    }
+
+
+    /**
+     * Load the existing segments when the log is opened for writing.  Segments without a valid index are scanned
+     * to rebuild the index.  Empty segments and temporary files from an incomplete compaction are removed.
+     *
+     * @throws IOException unable to read the directory
+     */
+    private void recoverSegments() throws IOException
+    {
+        File[] tempFiles = directory.listFiles((dir, name) -> name.endsWith(tempFileSuffix));
+
+        if (tempFiles != null)
+        {
+            for (File tempFile : tempFiles)
+            {
+                Files.deleteIfExists(tempFile.toPath());
+            }
+        }
+
+        for (OpenLineageLogSegment segment : listSegments())
+        {
+            if (! segment.readIndex())
+            {
+                try (DataInputStream input = segment.openForReading())
+                {
+                    LogRecord record = readRecord(input);
+
+                    while (record != null)
+                    {
+                        segment.recordEvent(record.namespace, record.jobName, record.eventTime, record.writeTime);
+                        record = readRecord(input);
+                    }
+                }
+                catch (EOFException emptySegment)
+                {
+                    // The segment was created but nothing was flushed to it.
+                }
+
+                segment.setSummaryComplete();
+
+                if (segment.getEventCount() == 0)
+                {
+                    deleteSegment(segment);
+                    continue;
+                }
+
+                segment.writeIndex();
+            }
+
+            sealedSegments.add(segment);
+            nextSequenceNumber = Math.max(nextSequenceNumber, segment.getSequenceNumber() + 1);
+        }
+    }
+
+
+    /**
+     * Return the segments in the directory in sequence order.
+     *
+     * @return list of segments
+     */
+    private List<OpenLineageLogSegment> listSegments()
+    {
+        List<OpenLineageLogSegment> segments = new ArrayList<>();
+        File[]                      files    = directory.listFiles((dir, name) -> name.startsWith(segmentFilePrefix) &&
+                                                                                  name.endsWith(segmentFileSuffix));
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                String name = file.getName();
+
+                try
+                {
+                    long sequenceNumber = Long.parseLong(name.substring(segmentFilePrefix.length(), name.length() - segmentFileSuffix.length()));
+
+                    segments.add(new OpenLineageLogSegment(file, sequenceNumber));
+                }
+                catch (NumberFormatException notASegment)
+                {
+                    // ignore files that are not segments
+                }
+            }
+        }
+
+        segments.sort((segment1, segment2) -> Long.compare(segment1.getSequenceNumber(), segment2.getSequenceNumber()));
+
+        return segments;
+    }
+
+
+    /**
+     * Return the file name for a segment.  The sequence number is zero-padded so the files list in sequence order.
+     *
+     * @param sequenceNumber position of the segment in the log
+     * @return file
+     */
+    private File getSegmentFile(long sequenceNumber)
+    {
+        return new File(directory, segmentFilePrefix + String.format("%020d", sequenceNumber) + segmentFileSuffix);
+    }
+
+
+    /**
+     * Remove a segment's data file and index file.
+     *
+     * @param segment segment to remove
+     * @throws IOException unable to delete the files
+     */
+    private void deleteSegment(OpenLineageLogSegment segment) throws IOException
+    {
+        Files.deleteIfExists(segment.getIndexFile().toPath());
+        Files.deleteIfExists(segment.getDataFile().toPath());
+    }
+
+
+    /**
+     * A single event read from a segment.
+     */
+    private static class LogRecord
+    {
+        String namespace;
+        String jobName;
+        long   eventTime;
+        long   writeTime;
+        String rawEvent;
+    }
+
+
+    /**
+     * Write a record to a segment.
+     *
+     * @param output segment output stream
+     * @param namespace namespace of the event's job
+     * @param jobName name of the event's job
+     * @param eventTime time of the event
+     * @param writeTime time the event was first written to the log
+     * @param rawEvent event in Json form
+     * @throws IOException unable to write the record
+     */
+    private static void writeRecord(DataOutputStream output,
+                                    String           namespace,
+                                    String           jobName,
+                                    long             eventTime,
+                                    long             writeTime,
+                                    String           rawEvent) throws IOException
+    {
+        output.writeLong(eventTime);
+        output.writeLong(writeTime);
+        writeString(output, namespace);
+        writeString(output, jobName);
+        writeString(output, rawEvent);
+    }
+
+
+    /**
+     * Read the next record from a segment.  A segment that was not sealed may end part way through a record;
+     * the partial record is ignored.
+     *
+     * @param input segment input stream
+     * @return record or null if there are no more complete records
+     * @throws IOException unable to read the segment
+     */
+    private static LogRecord readRecord(DataInputStream input) throws IOException
+    {
+        try
+        {
+            LogRecord record = new LogRecord();
+
+            record.eventTime = input.readLong();
+            record.writeTime = input.readLong();
+            record.namespace = readString(input);
+            record.jobName   = readString(input);
+            record.rawEvent  = readString(input);
+
+            return record;
+        }
+        catch (EOFException endOfSegment)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Write a string as its length followed by its UTF-8 bytes.  Unlike writeUTF, there is no limit on the length.
+     *
+     * @param output output stream
+     * @param value string to write
+     * @throws IOException unable to write
+     */
+    static void writeString(DataOutput output,
+                            String     value) throws IOException
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+
+    /**
+     * Read a string written by writeString.
+     *
+     * @param input input stream
+     * @return string
+     * @throws IOException unable to read
+     */
+    static String readString(DataInput input) throws IOException
+    {
+        int length = input.readInt();
+
+        if (length < 0)
+        {
+            throw new IOException("Invalid string length " + length + " in open lineage log");
+        }
+
+        byte[] bytes = new byte[length];
+
+        input.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Move a file into place, replacing any existing file.
+     *
+     * @param source file to move
+     * @param target destination
+     * @throws IOException unable to move the file
+     */
+    static void moveFile(File source,
+                         File target) throws IOException
+    {
+        try
+        {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException notAtomic)
+        {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
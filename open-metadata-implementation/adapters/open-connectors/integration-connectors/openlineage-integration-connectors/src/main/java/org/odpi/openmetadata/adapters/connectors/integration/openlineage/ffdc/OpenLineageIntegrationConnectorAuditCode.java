@@ -73,6 +73,33 @@ public enum OpenLineageIntegrationConnectorAuditCode implements AuditLogMessageS
                               "The connector will pass any events received to the other integration connectors that have registered listeners.",
                               "No action is required unless there are errors that follow indicating that there are problems access events from the topic."),
 
+    /**
+     * OPEN-LINEAGE-INTEGRATION-CONNECTOR-0006 - The {0} integration connector is storing open lineage events in {1} segments in directory {2}; segments are sealed at {3} bytes or after {4} minutes
+     */
+    LOG_STORE_OPENED("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0006",
+                     OMRSAuditLogRecordSeverity.INFO,
+                     "The {0} integration connector is storing open lineage events in {1} segments in directory {2}; segments are sealed at {3} bytes or after {4} minutes",
+                     "The connector appends the open lineage events it receives to compressed segment files in the directory.",
+                     "No action is required.  This message is to confirm the configuration of the open lineage log store."),
+
+    /**
+     * OPEN-LINEAGE-INTEGRATION-CONNECTOR-0007 - The {0} integration connector removed {1} open lineage log segments from directory {2} because they were older than the retention period of {3} hours
+     */
+    SEGMENTS_EXPIRED("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0007",
+                     OMRSAuditLogRecordSeverity.INFO,
+                     "The {0} integration connector removed {1} open lineage log segments from directory {2} because they were older than the retention period of {3} hours",
+                     "The open lineage events in these segments are no longer available for replay.",
+                     "No action is required.  Change the retentionPeriodHours configuration property if the events need to be kept for longer."),
+
+    /**
+     * OPEN-LINEAGE-INTEGRATION-CONNECTOR-0008 - The {0} integration connector compacted the open lineage log in directory {1}, removing {2} segments; there are now {3} segments
+     */
+    SEGMENTS_COMPACTED("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0008",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The {0} integration connector compacted the open lineage log in directory {1}, removing {2} segments; there are now {3} segments",
+                       "Small consecutive segments have been merged into larger segments.  No open lineage events have been removed.",
+                       "No action is required.  Change the maxSegmentSize configuration property to control the size of the compacted segments."),
+
     /**
      * OPEN-LINEAGE-INTEGRATION-CONNECTOR-0009 - The {0} integration connector has stopped its monitoring and is shutting down
      */
@@ -91,6 +118,33 @@ public enum OpenLineageIntegrationConnectorAuditCode implements AuditLogMessageS
                          "The connector is unable to process one or more lineage events.",
                          "Use the details from the error message to determine the cause of the error and retry the request once it is resolved."),
 
+    /**
+     * OPEN-LINEAGE-INTEGRATION-CONNECTOR-0011 - The {0} integration connector is replaying the open lineage events in directory {1} for namespace {2} from {3} to {4}
+     */
+    REPLAY_STARTING("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0011",
+                    OMRSAuditLogRecordSeverity.INFO,
+                    "The {0} integration connector is replaying the open lineage events in directory {1} for namespace {2} from {3} to {4}",
+                    "The connector processes each of the stored open lineage events as if it had just been received.",
+                    "No action is required.  Remove the replayLogDirectory configuration property once the replay is complete so it is not repeated when the connector restarts."),
+
+    /**
+     * OPEN-LINEAGE-INTEGRATION-CONNECTOR-0012 - The {0} integration connector replayed {1} open lineage events from directory {2} in {3} milliseconds
+     */
+    REPLAY_COMPLETE("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0012",
+                    OMRSAuditLogRecordSeverity.INFO,
+                    "The {0} integration connector replayed {1} open lineage events from directory {2} in {3} milliseconds",
+                    "The connector has finished processing the stored open lineage events and continues to process new events.",
+                    "No action is required.  Review any messages logged during the replay for events that could not be processed."),
+
+    /**
+     * OPEN-LINEAGE-INTEGRATION-CONNECTOR-0013 - The {0} integration connector received an unexpected {1} exception when replaying the open lineage events in directory {2}; the error message was: {3}
+     */
+    REPLAY_FAILED("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0013",
+                  OMRSAuditLogRecordSeverity.EXCEPTION,
+                  "The {0} integration connector received an unexpected {1} exception when replaying the open lineage events in directory {2}; the error message was: {3}",
+                  "The replay has stopped.  The events that were replayed before the error have been processed.",
+                  "Use the details from the error message to determine the cause of the error and restart the connector once it is resolved."),
+
     ;
 
     private final String                     logMessageId;
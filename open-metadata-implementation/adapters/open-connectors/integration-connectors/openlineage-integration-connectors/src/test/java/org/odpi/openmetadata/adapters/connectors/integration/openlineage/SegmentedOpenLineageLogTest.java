@@ -0,0 +1,220 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the SegmentedOpenLineageLog returns the events that were stored, in order, after the segments have been
+ * sealed, compacted and expired, and after the log has been reopened.
+ */
+public class SegmentedOpenLineageLogTest
+{
+    private static final long maxSegmentSize = 1024 * 1024;
+    private static final long maxSegmentAge  = 60 * 60 * 1000;
+
+    private File directory = null;
+
+
+    /**
+     * Create an empty directory for the log.
+     *
+     * @throws IOException unable to create the directory
+     */
+    @BeforeMethod public void createDirectory() throws IOException
+    {
+        directory = Files.createTempDirectory("open-lineage-log").toFile();
+    }
+
+
+    /**
+     * Remove the log's directory.
+     *
+     * @throws IOException unable to remove the directory
+     */
+    @AfterMethod public void removeDirectory() throws IOException
+    {
+        try (Stream<Path> paths = Files.walk(directory.toPath()))
+        {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList())
+            {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+
+    /**
+     * Return the raw event used for an event number.
+     *
+     * @param eventNumber event number
+     * @return JSON string
+     */
+    private String getRawEvent(int eventNumber)
+    {
+        return "{\"eventType\":\"COMPLETE\",\"eventNumber\":" + eventNumber + "}";
+    }
+
+
+    /**
+     * Add events to the log, alternating between two jobs and sealing a segment every ten events.
+     *
+     * @param log log to write to
+     * @param eventCount number of events to write
+     * @throws IOException problem writing to the log
+     */
+    private void appendEvents(SegmentedOpenLineageLog log,
+                              int                     eventCount) throws IOException
+    {
+        for (int i = 0; i < eventCount; i++)
+        {
+            log.append("namespace", "job" + (i % 2), 1000L * i, getRawEvent(i));
+
+            if (i % 10 == 9)
+            {
+                log.roll();
+            }
+        }
+    }
+
+
+    /**
+     * Replay events from the log.
+     *
+     * @param log log to read
+     * @param jobName job to replay or null for all jobs
+     * @param fromTime earliest event time
+     * @param toTime latest event time
+     * @return list of raw events
+     * @throws IOException problem reading the log
+     */
+    private List<String> replay(SegmentedOpenLineageLog log,
+                                String                  jobName,
+                                long                    fromTime,
+                                long                    toTime) throws IOException
+    {
+        List<String> rawEvents = new ArrayList<>();
+
+        long replayCount = log.replay(null, jobName, fromTime, toTime, (namespace, eventJobName, eventTime, rawEvent) -> rawEvents.add(rawEvent));
+
+        assertEquals(replayCount, rawEvents.size());
+
+        return rawEvents;
+    }
+
+
+    /**
+     * Events are replayed in order and can be selected by job and time, including events in the active segment.
+     *
+     * @throws IOException problem with the log
+     */
+    @Test public void testReplay() throws IOException
+    {
+        SegmentedOpenLineageLog log = new SegmentedOpenLineageLog(directory, maxSegmentSize, maxSegmentAge, 0);
+
+        try
+        {
+            appendEvents(log, 25);
+
+            assertEquals(log.getSegmentCount(), 3);
+
+            List<String> allEvents = replay(log, null, Long.MIN_VALUE, Long.MAX_VALUE);
+
+            assertEquals(allEvents.size(), 25);
+            for (int i = 0; i < 25; i++)
+            {
+                assertEquals(allEvents.get(i), getRawEvent(i));
+            }
+
+            List<String> jobEvents = replay(log, "job1", 10000L, 19000L);
+
+            assertEquals(jobEvents.size(), 5);
+            assertEquals(jobEvents.get(0), getRawEvent(11));
+
+            assertTrue(replay(log, "unknownJob", Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+        }
+        finally
+        {
+            log.close();
+        }
+    }
+
+
+    /**
+     * Compaction merges the small segments without changing the events or their order, and the events are
+     * still available after the log is reopened, including to a read-only log.
+     *
+     * @throws IOException problem with the log
+     */
+    @Test public void testCompactAndReopen() throws IOException
+    {
+        SegmentedOpenLineageLog log = new SegmentedOpenLineageLog(directory, maxSegmentSize, maxSegmentAge, 0);
+
+        appendEvents(log, 30);
+
+        assertEquals(log.compact(), 2);
+        assertEquals(log.getSegmentCount(), 1);
+
+        log.close();
+
+        log = new SegmentedOpenLineageLog(directory, maxSegmentSize, maxSegmentAge, 0);
+
+        try
+        {
+            List<String> allEvents = replay(log, null, Long.MIN_VALUE, Long.MAX_VALUE);
+
+            assertEquals(allEvents.size(), 30);
+            for (int i = 0; i < 30; i++)
+            {
+                assertEquals(allEvents.get(i), getRawEvent(i));
+            }
+        }
+        finally
+        {
+            log.close();
+        }
+
+        SegmentedOpenLineageLog readOnlyLog = SegmentedOpenLineageLog.getLogForReplay(directory);
+
+        assertEquals(replay(readOnlyLog, "job0", Long.MIN_VALUE, Long.MAX_VALUE).size(), 15);
+    }
+
+
+    /**
+     * Sealed segments older than the retention period are removed.
+     *
+     * @throws IOException problem with the log
+     */
+    @Test public void testRetention() throws IOException
+    {
+        SegmentedOpenLineageLog log = new SegmentedOpenLineageLog(directory, maxSegmentSize, maxSegmentAge, 0);
+
+        try
+        {
+            appendEvents(log, 20);
+
+            assertEquals(log.removeExpiredSegments(maxSegmentAge), 0);
+            assertEquals(log.removeExpiredSegments(-1), 2);
+            assertEquals(log.getSegmentCount(), 0);
+            assertTrue(replay(log, null, Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+        }
+        finally
+        {
+            log.close();
+        }
+    }
+}
@@ -7,6 +7,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * ConsoleAuditLogStoreConnector provides a connector implementation for a console (stdout) audit log.
  */
@@ -34,23 +37,89 @@ public class ConsoleAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBas
 
         super.validateLogRecord(logRecord, methodName);
 
+        StringBuilder consoleOutput = new StringBuilder();
+
+        this.appendLogRecord(consoleOutput, logRecord);
+        System.out.print(consoleOutput);
+
+        return logRecord.getGUID();
+    }
+
+
+    /**
+     * Store a batch of audit log records in the audit log store.  The records are written to the console
+     * in a single call so that the console is only locked and flushed once for the batch.
+     *
+     * @param logRecords log records to store
+     * @return unique identifiers assigned to the log records that were stored
+     * @throws InvalidParameterException indicates that one of the log records is invalid.
+     */
+    @Override
+    public List<String> storeLogRecords(List<OMRSAuditLogRecord> logRecords) throws InvalidParameterException
+    {
+        final String   methodName = "storeLogRecords";
+
+        List<String>              logRecordGUIDs = new ArrayList<>();
+        StringBuilder             consoleOutput  = new StringBuilder();
+        InvalidParameterException parameterError = null;
+
+        for (OMRSAuditLogRecord logRecord : logRecords)
+        {
+            try
+            {
+                super.validateLogRecord(logRecord, methodName);
+
+                this.appendLogRecord(consoleOutput, logRecord);
+                logRecordGUIDs.add(logRecord.getGUID());
+            }
+            catch (InvalidParameterException error)
+            {
+                if (parameterError == null)
+                {
+                    parameterError = error;
+                }
+            }
+        }
+
+        System.out.print(consoleOutput);
+
+        if (parameterError != null)
+        {
+            throw parameterError;
+        }
+
+        return logRecordGUIDs;
+    }
+
+
+    /**
+     * Add the console lines for a log record to the output.  Nothing is added if the record's severity
+     * is not supported by this destination.
+     *
+     * @param consoleOutput output being built
+     * @param logRecord log record to format
+     */
+    private void appendLogRecord(StringBuilder      consoleOutput,
+                                 OMRSAuditLogRecord logRecord)
+    {
         if (super.isSupportedSeverity(logRecord))
         {
-            System.out.println(logRecord.getTimeStamp() + " " + logRecord.getOriginator().getServerName() + " " + logRecord.getSeverity() + " " + logRecord.getMessageId() + " " + logRecord.getMessageText());
+            consoleOutput.append(logRecord.getTimeStamp()).append(" ").append(logRecord.getOriginator().getServerName()).append(" ")
+                         .append(logRecord.getSeverity()).append(" ").append(logRecord.getMessageId()).append(" ")
+                         .append(logRecord.getMessageText()).append(System.lineSeparator());
 
             if (OMRSAuditLogRecordSeverity.EXCEPTION.getName().equals(logRecord.getSeverity()))
             {
                 if (logRecord.getExceptionClassName() != null)
                 {
-                    System.out.println(logRecord.getTimeStamp() + " " + logRecord.getOriginator().getServerName() + " " + logRecord.getSeverity() + " " +
-                                               logRecord.getMessageId() + " Supplementary information: log record id " + logRecord.getGUID() + " " +
-                                               logRecord.getExceptionClassName() + " returned " +
-                                               "message of " + logRecord.getExceptionMessage() +
-                                               " and stacktrace of \n" + logRecord.getExceptionStackTrace());
+                    consoleOutput.append(logRecord.getTimeStamp()).append(" ").append(logRecord.getOriginator().getServerName()).append(" ")
+                                 .append(logRecord.getSeverity()).append(" ").append(logRecord.getMessageId())
+                                 .append(" Supplementary information: log record id ").append(logRecord.getGUID()).append(" ")
+                                 .append(logRecord.getExceptionClassName()).append(" returned message of ")
+                                 .append(logRecord.getExceptionMessage()).append(" and stacktrace of \n")
+                                 .append(logRecord.getExceptionStackTrace()).append(System.lineSeparator());
                 }
             }
         }
-
-        return logRecord.getGUID();
     }
 }
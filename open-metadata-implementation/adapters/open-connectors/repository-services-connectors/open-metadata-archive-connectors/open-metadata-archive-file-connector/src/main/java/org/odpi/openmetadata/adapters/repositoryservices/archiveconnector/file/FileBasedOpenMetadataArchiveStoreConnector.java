@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -11,25 +13,55 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveInstanceBatchProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStreamingStore;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * FileBasedOpenMetadataArchiveStoreConnector provides a connector that can read an Open Metadata Archive file coded in JSON.
+ * The archive can be read as a single object, or streamed in batches of instances through the
+ * OpenMetadataArchiveStreamingStore interface so that large archives can be loaded with bounded memory.
  */
-public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
+public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector implements OpenMetadataArchiveStreamingStore
 {
     /**
      * This is the default name of the open metadata archive file that is used if there is no file name in the connection.
      */
     private static final String defaultFilename = "open.metadata.archive";
 
+    /**
+     * Names of the sections in the archive's JSON.
+     */
+    private static final String archivePropertiesSectionName    = "archiveProperties";
+    private static final String archiveTypeStoreSectionName     = "archiveTypeStore";
+    private static final String archiveInstanceStoreSectionName = "archiveInstanceStore";
+    private static final String entitiesSectionName             = "entities";
+    private static final String relationshipsSectionName        = "relationships";
+    private static final String classificationsSectionName      = "classifications";
+
+    /**
+     * Order that the instance sections are passed to the batch processor.
+     */
+    private static final List<String> instanceSectionLoadOrder = List.of(entitiesSectionName,
+                                                                         relationshipsSectionName,
+                                                                         classificationsSectionName);
+
     /**
      * Variables used in writing to the file.
      */
@@ -95,43 +127,348 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
         {
             log.debug("Retrieving open metadata archive from file");
 
-            if (auditLog != null)
-            {
-                final String actionDescription = "Opening open metadata archive";
+            this.logOpeningFile();
+
+            /*
+             * The file is parsed directly rather than being read into a string first.
+             */
+            newOpenMetadataArchive = OBJECT_READER.forType(OpenMetadataArchive.class).readValue(archiveStoreFile);
+        }
+        catch (IOException ioException)
+        {
+            throw this.getBadFileException(ioException, methodName);
+        }
+
+        return newOpenMetadataArchive;
+    }
 
-                auditLog.logMessage(actionDescription,
-                                    FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
+
+    /**
+     * Return the archive properties and type store of the archive.  The instance store is skipped over without
+     * being deserialized.
+     *
+     * @return OpenMetadataArchive object with no instance store
+     * @throws RepositoryErrorException there is a problem accessing the archive
+     */
+    @Override
+    public OpenMetadataArchive getArchiveHeader() throws RepositoryErrorException
+    {
+        final String methodName = "getArchiveHeader";
+
+        OpenMetadataArchive archiveHeader = new OpenMetadataArchive();
+
+        this.logOpeningFile();
+
+        try (JsonParser jsonParser = OBJECT_MAPPER.createParser(new File(archiveStoreName)))
+        {
+            this.checkStartOfObject(jsonParser.nextToken());
+
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String sectionName = jsonParser.getCurrentName();
+
+                jsonParser.nextToken();
+
+                if (archivePropertiesSectionName.equals(sectionName))
+                {
+                    archiveHeader.setArchiveProperties(jsonParser.readValueAs(OpenMetadataArchiveProperties.class));
+                }
+                else if (archiveTypeStoreSectionName.equals(sectionName))
+                {
+                    archiveHeader.setArchiveTypeStore(jsonParser.readValueAs(OpenMetadataArchiveTypeStore.class));
+                }
+                else
+                {
+                    jsonParser.skipChildren();
+                }
             }
+        }
+        catch (IOException ioException)
+        {
+            throw this.getBadFileException(ioException, methodName);
+        }
+
+        return archiveHeader;
+    }
 
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
 
-            newOpenMetadataArchive = OBJECT_READER.readValue(configStoreFileContents, OpenMetadataArchive.class);
+    /**
+     * Pass the contents of the archive's instance store to the batch processor.  The file is parsed
+     * as a stream so only one batch of instances is in memory at any time.  The entities are passed first,
+     * then the relationships and then the classifications, since this is the order they need to be loaded.
+     * If the archive stores its sections in a different order, the file is read once for each section.
+     *
+     * @param batchSize maximum number of elements in a batch
+     * @param batchProcessor receiver of each batch
+     * @throws RepositoryErrorException there is a problem accessing the archive
+     */
+    @Override
+    public void processArchiveInstances(int                                       batchSize,
+                                        OpenMetadataArchiveInstanceBatchProcessor batchProcessor) throws RepositoryErrorException
+    {
+        final String methodName = "processArchiveInstances";
+
+        try
+        {
+            List<String> fileSectionNames = this.getInstanceSectionNames();
+            List<String> loadSectionNames = new ArrayList<>(instanceSectionLoadOrder);
+
+            loadSectionNames.retainAll(fileSectionNames);
+
+            if (loadSectionNames.equals(fileSectionNames))
+            {
+                this.processInstanceSections(loadSectionNames, batchSize, batchProcessor);
+            }
+            else
+            {
+                log.debug("Archive " + archiveStoreName + " stores its instance sections in the order " + fileSectionNames);
+
+                for (String sectionName : loadSectionNames)
+                {
+                    this.processInstanceSections(List.of(sectionName), batchSize, batchProcessor);
+                }
+            }
         }
         catch (IOException ioException)
         {
-            /*
-             * The archive file is not found, create an empty one ...
-             */
-            if (auditLog != null)
+            throw this.getBadFileException(ioException, methodName);
+        }
+    }
+
+
+    /**
+     * Return the names of the entities, relationships and classifications sections in the order
+     * they appear in the archive's instance store.  The instances themselves are skipped.
+     *
+     * @return list of section names
+     * @throws IOException problem reading the file
+     */
+    private List<String> getInstanceSectionNames() throws IOException
+    {
+        List<String> sectionNames = new ArrayList<>();
+
+        try (JsonParser jsonParser = OBJECT_MAPPER.createParser(new File(archiveStoreName)))
+        {
+            this.checkStartOfObject(jsonParser.nextToken());
+
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME)
             {
-                auditLog.logException(methodName,
-                                      FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_FILE.getMessageDefinition(archiveStoreName,
-                                                                                                                        ioException.getClass().getName(),
-                                                                                                                        ioException.getMessage()),
-                                      ioException);
+                String sectionName = jsonParser.getCurrentName();
+
+                if ((archiveInstanceStoreSectionName.equals(sectionName)) && (jsonParser.nextToken() == JsonToken.START_OBJECT))
+                {
+                    while (jsonParser.nextToken() == JsonToken.FIELD_NAME)
+                    {
+                        String instanceSectionName = jsonParser.getCurrentName();
+
+                        if ((jsonParser.nextToken() == JsonToken.START_ARRAY) && (instanceSectionLoadOrder.contains(instanceSectionName)))
+                        {
+                            sectionNames.add(instanceSectionName);
+                        }
+
+                        jsonParser.skipChildren();
+                    }
+                }
+                else
+                {
+                    jsonParser.nextToken();
+                    jsonParser.skipChildren();
+                }
             }
+        }
 
+        return sectionNames;
+    }
 
-            log.error("Error opening archive", ioException);
 
-            throw new RepositoryErrorException(FileBasedOpenMetadataArchiveStoreConnectorErrorCode.BAD_FILE.getMessageDefinition(archiveStoreName,
-                                                                                                                                 ioException.getClass().getName(),
-                                                                                                                                 ioException.getMessage()),
-                                               this.getClass().getName(),
-                                               methodName);
+    /**
+     * Make one pass through the archive file, passing the instances in the requested sections to
+     * the batch processor in the order they appear in the file.  Other sections are skipped.
+     *
+     * @param sectionNames names of the instance sections to process
+     * @param batchSize maximum number of elements in a batch
+     * @param batchProcessor receiver of each batch
+     * @throws IOException problem reading the file
+     */
+    private void processInstanceSections(List<String>                              sectionNames,
+                                         int                                       batchSize,
+                                         OpenMetadataArchiveInstanceBatchProcessor batchProcessor) throws IOException
+    {
+        try (JsonParser jsonParser = OBJECT_MAPPER.createParser(new File(archiveStoreName)))
+        {
+            this.checkStartOfObject(jsonParser.nextToken());
+
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String sectionName = jsonParser.getCurrentName();
+
+                if ((archiveInstanceStoreSectionName.equals(sectionName)) && (jsonParser.nextToken() == JsonToken.START_OBJECT))
+                {
+                    while (jsonParser.nextToken() == JsonToken.FIELD_NAME)
+                    {
+                        String instanceSectionName = jsonParser.getCurrentName();
+
+                        if ((jsonParser.nextToken() == JsonToken.START_ARRAY) && (sectionNames.contains(instanceSectionName)))
+                        {
+                            if (entitiesSectionName.equals(instanceSectionName))
+                            {
+                                this.processInstanceSection(jsonParser,
+                                                            EntityDetail.class,
+                                                            OpenMetadataArchiveInstanceStore::setEntities,
+                                                            batchSize,
+                                                            batchProcessor);
+                            }
+                            else if (relationshipsSectionName.equals(instanceSectionName))
+                            {
+                                this.processInstanceSection(jsonParser,
+                                                            Relationship.class,
+                                                            OpenMetadataArchiveInstanceStore::setRelationships,
+                                                            batchSize,
+                                                            batchProcessor);
+                            }
+                            else
+                            {
+                                this.processInstanceSection(jsonParser,
+                                                            ClassificationEntityExtension.class,
+                                                            OpenMetadataArchiveInstanceStore::setClassifications,
+                                                            batchSize,
+                                                            batchProcessor);
+                            }
+                        }
+                        else
+                        {
+                            jsonParser.skipChildren();
+                        }
+                    }
+                }
+                else
+                {
+                    jsonParser.nextToken();
+                    jsonParser.skipChildren();
+                }
+            }
         }
+    }
 
-        return newOpenMetadataArchive;
+
+    /**
+     * Read the elements of one of the arrays in the instance store and pass them to the batch processor.
+     * The parser is positioned at the start of the array on entry and at the end of the array on exit.
+     *
+     * @param jsonParser parser for the archive file
+     * @param elementClass class of the elements in the array
+     * @param sectionSetter method to add a batch of elements to an instance store
+     * @param batchSize maximum number of elements in a batch
+     * @param batchProcessor receiver of each batch
+     * @param <T> type of element
+     * @throws IOException problem reading the file
+     */
+    private <T> void processInstanceSection(JsonParser                                         jsonParser,
+                                            Class<T>                                           elementClass,
+                                            BiConsumer<OpenMetadataArchiveInstanceStore, List<T>> sectionSetter,
+                                            int                                                batchSize,
+                                            OpenMetadataArchiveInstanceBatchProcessor          batchProcessor) throws IOException
+    {
+        List<T> batch = new ArrayList<>();
+
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY)
+        {
+            T element = jsonParser.readValueAs(elementClass);
+
+            if (element != null)
+            {
+                batch.add(element);
+            }
+
+            if (batch.size() >= batchSize)
+            {
+                this.passBatch(batch, sectionSetter, batchProcessor);
+                batch = new ArrayList<>();
+            }
+        }
+
+        if (! batch.isEmpty())
+        {
+            this.passBatch(batch, sectionSetter, batchProcessor);
+        }
+    }
+
+
+    /**
+     * Wrap a batch of elements in an instance store and pass it to the batch processor.
+     *
+     * @param batch elements to pass
+     * @param sectionSetter method to add a batch of elements to an instance store
+     * @param batchProcessor receiver of the batch
+     * @param <T> type of element
+     */
+    private <T> void passBatch(List<T>                                               batch,
+                               BiConsumer<OpenMetadataArchiveInstanceStore, List<T>> sectionSetter,
+                               OpenMetadataArchiveInstanceBatchProcessor             batchProcessor)
+    {
+        OpenMetadataArchiveInstanceStore instanceBatch = new OpenMetadataArchiveInstanceStore();
+
+        sectionSetter.accept(instanceBatch, batch);
+        batchProcessor.processInstanceBatch(instanceBatch);
+    }
+
+
+    /**
+     * Validate that the archive file starts with a JSON object.
+     *
+     * @param firstToken first token in the file
+     * @throws IOException the file does not contain a JSON object
+     */
+    private void checkStartOfObject(JsonToken firstToken) throws IOException
+    {
+        if (firstToken != JsonToken.START_OBJECT)
+        {
+            throw new IOException("Open metadata archive does not start with a JSON object");
+        }
+    }
+
+
+    /**
+     * Log that the archive file is being opened.
+     */
+    private void logOpeningFile()
+    {
+        if (auditLog != null)
+        {
+            final String actionDescription = "Opening open metadata archive";
+
+            auditLog.logMessage(actionDescription,
+                                FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
+        }
+    }
+
+
+    /**
+     * Log and return the exception for an archive file that can not be read.
+     *
+     * @param ioException exception from reading the file
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private RepositoryErrorException getBadFileException(IOException ioException,
+                                                         String      methodName)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logException(methodName,
+                                  FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_FILE.getMessageDefinition(archiveStoreName,
+                                                                                                                    ioException.getClass().getName(),
+                                                                                                                    ioException.getMessage()),
+                                  ioException);
+        }
+
+        log.error("Error opening archive", ioException);
+
+        return new RepositoryErrorException(FileBasedOpenMetadataArchiveStoreConnectorErrorCode.BAD_FILE.getMessageDefinition(archiveStoreName,
+                                                                                                                              ioException.getClass().getName(),
+                                                                                                                              ioException.getMessage()),
+                                            this.getClass().getName(),
+                                            methodName);
     }
 
 
@@ -0,0 +1,345 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that the FileBasedOpenMetadataArchiveStoreConnector can read the header of an archive without its instances,
+ * and stream the instances in batches.
+ */
+public class TestFileBasedOpenMetadataArchiveStoreConnector
+{
+    private static final String archiveGUID = "test-archive-guid";
+
+    private File archiveFile = null;
+
+
+    /**
+     * Choose a file name for the archive.
+     *
+     * @throws IOException unable to create the file
+     */
+    @BeforeMethod public void createArchiveFile() throws IOException
+    {
+        archiveFile = File.createTempFile("test-archive", ".json");
+    }
+
+
+    /**
+     * Remove the archive file.
+     *
+     * @throws IOException unable to remove the file
+     */
+    @AfterMethod public void removeArchiveFile() throws IOException
+    {
+        Files.deleteIfExists(archiveFile.toPath());
+    }
+
+
+    /**
+     * Return a connector for the archive file.
+     *
+     * @return initialized connector
+     */
+    private FileBasedOpenMetadataArchiveStoreConnector getConnector()
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setAddress(archiveFile.getPath());
+
+        Connection connection = new Connection();
+
+        connection.setEndpoint(endpoint);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = new FileBasedOpenMetadataArchiveStoreConnector();
+
+        connector.initialize("TestConnectorId", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    /**
+     * Write an archive with the requested number of each type of instance.
+     *
+     * @param entityCount number of entities
+     * @param relationshipCount number of relationships
+     * @param classificationCount number of classifications
+     */
+    private void writeArchive(int entityCount,
+                              int relationshipCount,
+                              int classificationCount)
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID(archiveGUID);
+        archiveProperties.setArchiveName("TestArchive");
+
+        List<EntityDetail>                  entities        = new ArrayList<>();
+        List<Relationship>                  relationships   = new ArrayList<>();
+        List<ClassificationEntityExtension> classifications = new ArrayList<>();
+
+        for (int i = 0; i < entityCount; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID("entity-" + i);
+            entities.add(entity);
+        }
+
+        for (int i = 0; i < relationshipCount; i++)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID("relationship-" + i);
+            relationships.add(relationship);
+        }
+
+        for (int i = 0; i < classificationCount; i++)
+        {
+            EntityProxy entityProxy = new EntityProxy();
+
+            entityProxy.setGUID("entity-" + i);
+
+            Classification classification = new Classification();
+
+            classification.setName("TestClassification");
+
+            ClassificationEntityExtension classificationEntityExtension = new ClassificationEntityExtension();
+
+            classificationEntityExtension.setEntityToClassify(entityProxy);
+            classificationEntityExtension.setClassification(classification);
+            classifications.add(classificationEntityExtension);
+        }
+
+        OpenMetadataArchiveInstanceStore instanceStore = new OpenMetadataArchiveInstanceStore();
+
+        instanceStore.setEntities(entities);
+        instanceStore.setRelationships(relationships);
+        instanceStore.setClassifications(classifications);
+
+        OpenMetadataArchive archive = new OpenMetadataArchive();
+
+        archive.setArchiveProperties(archiveProperties);
+        archive.setArchiveTypeStore(new OpenMetadataArchiveTypeStore());
+        archive.setArchiveInstanceStore(instanceStore);
+
+        this.getConnector().setArchiveContents(archive);
+    }
+
+
+    /**
+     * The header holds the archive properties and type store but not the instances.
+     *
+     * @throws RepositoryErrorException problem reading the archive
+     */
+    @Test public void testGetArchiveHeader() throws RepositoryErrorException
+    {
+        writeArchive(3, 2, 1);
+
+        OpenMetadataArchive archiveHeader = getConnector().getArchiveHeader();
+
+        assertEquals(archiveHeader.getArchiveProperties().getArchiveGUID(), archiveGUID);
+        assertNotNull(archiveHeader.getArchiveTypeStore());
+        assertNull(archiveHeader.getArchiveInstanceStore());
+
+        OpenMetadataArchive archiveContents = getConnector().getArchiveContents();
+
+        assertEquals(archiveContents.getArchiveProperties(), archiveHeader.getArchiveProperties());
+        assertEquals(archiveContents.getArchiveInstanceStore().getEntities().size(), 3);
+    }
+
+
+    /**
+     * The instances are passed in batches of no more than the batch size, one section at a time and in the order
+     * they appear in the section.
+     *
+     * @throws RepositoryErrorException problem reading the archive
+     */
+    @Test public void testProcessArchiveInstances() throws RepositoryErrorException
+    {
+        writeArchive(5, 3, 2);
+
+        List<OpenMetadataArchiveInstanceStore> batches = new ArrayList<>();
+
+        getConnector().processArchiveInstances(2, batches::add);
+
+        assertEquals(batches.size(), 6);
+
+        List<String> entityGUIDs       = new ArrayList<>();
+        List<String> relationshipGUIDs = new ArrayList<>();
+        List<String> classifiedGUIDs   = new ArrayList<>();
+
+        for (OpenMetadataArchiveInstanceStore batch : batches)
+        {
+            int sectionCount = 0;
+
+            if (batch.getEntities() != null)
+            {
+                assertTrue(batch.getEntities().size() <= 2);
+                batch.getEntities().forEach(entity -> entityGUIDs.add(entity.getGUID()));
+                sectionCount++;
+            }
+
+            if (batch.getRelationships() != null)
+            {
+                assertTrue(batch.getRelationships().size() <= 2);
+                batch.getRelationships().forEach(relationship -> relationshipGUIDs.add(relationship.getGUID()));
+                sectionCount++;
+            }
+
+            if (batch.getClassifications() != null)
+            {
+                assertTrue(batch.getClassifications().size() <= 2);
+                batch.getClassifications().forEach(classification -> classifiedGUIDs.add(classification.getEntityToClassify().getGUID()));
+                sectionCount++;
+            }
+
+            assertEquals(sectionCount, 1);
+        }
+
+        assertEquals(entityGUIDs, List.of("entity-0", "entity-1", "entity-2", "entity-3", "entity-4"));
+        assertEquals(relationshipGUIDs, List.of("relationship-0", "relationship-1", "relationship-2"));
+        assertEquals(classifiedGUIDs, List.of("entity-0", "entity-1"));
+    }
+
+
+    /**
+     * An archive that stores its classifications before its relationships and entities still has its entities
+     * passed first, then its relationships and then its classifications.
+     *
+     * @throws IOException unable to rewrite the test file
+     * @throws RepositoryErrorException problem reading the archive
+     */
+    @Test public void testReorderedSections() throws IOException, RepositoryErrorException
+    {
+        writeArchive(3, 2, 2);
+
+        ObjectMapper objectMapper   = new ObjectMapper();
+        ObjectNode   archive        = (ObjectNode) objectMapper.readTree(archiveFile);
+        ObjectNode   instanceStore  = (ObjectNode) archive.get("archiveInstanceStore");
+        ObjectNode   reorderedStore = objectMapper.createObjectNode();
+
+        reorderedStore.set("classifications", instanceStore.get("classifications"));
+        reorderedStore.set("relationships", instanceStore.get("relationships"));
+        reorderedStore.set("entities", instanceStore.get("entities"));
+
+        /*
+         * The instance store is also moved ahead of the type store.
+         */
+        ObjectNode reorderedArchive = objectMapper.createObjectNode();
+
+        reorderedArchive.set("archiveInstanceStore", reorderedStore);
+        archive.remove("archiveInstanceStore");
+        reorderedArchive.setAll(archive);
+
+        objectMapper.writeValue(archiveFile, reorderedArchive);
+
+        List<String> batchSections = new ArrayList<>();
+        List<String> entityGUIDs   = new ArrayList<>();
+
+        getConnector().processArchiveInstances(2, batch ->
+        {
+            if (batch.getEntities() != null)
+            {
+                batchSections.add("entities");
+                batch.getEntities().forEach(entity -> entityGUIDs.add(entity.getGUID()));
+            }
+
+            if (batch.getRelationships() != null)
+            {
+                batchSections.add("relationships");
+            }
+
+            if (batch.getClassifications() != null)
+            {
+                batchSections.add("classifications");
+            }
+        });
+
+        assertEquals(batchSections, List.of("entities", "entities", "relationships", "classifications"));
+        assertEquals(entityGUIDs, List.of("entity-0", "entity-1", "entity-2"));
+        assertEquals(getConnector().getArchiveHeader().getArchiveProperties().getArchiveGUID(), archiveGUID);
+    }
+
+
+    /**
+     * An archive without instances produces no batches.
+     *
+     * @throws RepositoryErrorException problem reading the archive
+     */
+    @Test public void testEmptyInstanceStore() throws RepositoryErrorException
+    {
+        writeArchive(0, 0, 0);
+
+        List<OpenMetadataArchiveInstanceStore> batches = new ArrayList<>();
+
+        getConnector().processArchiveInstances(10, batches::add);
+
+        assertTrue(batches.isEmpty());
+    }
+
+
+    /**
+     * A file that does not hold a JSON object, or does not exist, is reported as an error.
+     *
+     * @throws IOException unable to write the test file
+     */
+    @Test public void testBadFile() throws IOException
+    {
+        Files.writeString(archiveFile.toPath(), "[]", StandardCharsets.UTF_8);
+
+        try
+        {
+            getConnector().getArchiveHeader();
+            fail("Expected a RepositoryErrorException");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(error.getReportedErrorMessage().contains(archiveFile.getPath()));
+        }
+
+        Files.delete(archiveFile.toPath());
+
+        try
+        {
+            getConnector().processArchiveInstances(10, batch -> fail("Unexpected batch"));
+            fail("Expected a RepositoryErrorException");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(error.getReportedErrorMessage().contains(archiveFile.getPath()));
+        }
+    }
+}
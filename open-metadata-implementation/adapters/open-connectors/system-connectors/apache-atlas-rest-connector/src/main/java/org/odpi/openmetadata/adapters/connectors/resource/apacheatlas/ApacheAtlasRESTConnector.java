@@ -1766,6 +1766,46 @@ public class ApacheAtlasRESTConnector extends ConnectorBase implements AuditLogg
 
         AtlasSearchResult searchResult = this.callGetRESTCallNoParams(methodName, AtlasSearchResult.class, url);
 
+        return this.getActiveEntities(searchResult);
+    }
+
+
+    /**
+     * Return a list of entities that are of the requested type and have been created or updated at, or after, the
+     * requested time.  The time is compared with the modification timestamp maintained by Apache Atlas.
+     *
+     * @param typeName name of the type to query
+     * @param updatedSince time in milliseconds of the earliest update to include
+     * @param startFrom offset to start results
+     * @param pageSize max number of results
+     * @return list of matching entities. List may be empty if no matches
+     * @throws PropertyServerException problem communicating with Apache Atlas
+     */
+    public List<AtlasEntityHeader> getEntitiesForType(String typeName,
+                                                      long   updatedSince,
+                                                      int    startFrom,
+                                                      int    pageSize) throws PropertyServerException
+    {
+        final String methodName = "getEntity(" + typeName + ", " + updatedSince + ")";
+        final String urlTemplate = targetRootURL + "/api/atlas/v2/search/dsl?typeName=" + typeName + "&offset=" + startFrom + "&limit=" + pageSize + "&query={0}";
+
+        AtlasSearchResult searchResult = this.callGetRESTCall(methodName,
+                                                              AtlasSearchResult.class,
+                                                              urlTemplate,
+                                                              "where __modificationTimestamp >= " + updatedSince);
+
+        return this.getActiveEntities(searchResult);
+    }
+
+
+    /**
+     * Extract the active entities from a search result.
+     *
+     * @param searchResult results from Apache Atlas
+     * @return list of active entities or null if the search result is empty
+     */
+    private List<AtlasEntityHeader> getActiveEntities(AtlasSearchResult searchResult)
+    {
         if ((searchResult != null) && (searchResult.getEntities() != null))
         {
             List<AtlasEntityHeader> results = new ArrayList<>();
@@ -3,11 +3,14 @@
 
 package org.odpi.openmetadata.commonservices.ffdc;
 
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetrics;
 import org.slf4j.Logger;
 
 /**
  * RESTCallLogger provides standard logging for REST API method invocations.  It logs
  * the start and end of the call and manages a timer so that the elapsed time of a call is logged.
+ * The elapsed time is also recorded in the performance metrics, so a token is returned whenever the metrics
+ * are enabled, even if debug logging is off.
  */
 public class RESTCallLogger
 {
@@ -39,11 +42,14 @@ public class RESTCallLogger
                                      String userId,
                                      String methodName)
     {
-        if (log.isDebugEnabled())
+        if ((log.isDebugEnabled()) || (PerformanceMetrics.isEnabled()))
         {
             RESTCallToken token = new RESTCallToken(serviceName, serverName, userId, methodName);
 
-            log.debug(token.getRESTCallStartText());
+            if (log.isDebugEnabled())
+            {
+                log.debug(token.getRESTCallStartText());
+            }
 
             return token;
         }
@@ -64,11 +70,14 @@ public class RESTCallLogger
     public RESTCallToken logRESTCall(String serverName,
                                      String methodName)
     {
-        if (log.isDebugEnabled())
+        if ((log.isDebugEnabled()) || (PerformanceMetrics.isEnabled()))
         {
             RESTCallToken token = new RESTCallToken(serviceName, serverName, methodName);
 
-            log.debug(token.getRESTCallStartText());
+            if (log.isDebugEnabled())
+            {
+                log.debug(token.getRESTCallStartText());
+            }
 
             return token;
         }
@@ -99,7 +108,7 @@ public class RESTCallLogger
 
 
     /**
-     * Log the return of an inbound REST Call.
+     * Log the return of an inbound REST Call and record its elapsed time.
      *
      * @param token REST call token
      * @param response result of call
@@ -107,6 +116,11 @@ public class RESTCallLogger
     public void logRESTCallReturn(RESTCallToken  token,
                                   String         response)
     {
+        if (token != null)
+        {
+            token.recordElapsedTime();
+        }
+
         if (log.isDebugEnabled())
         {
             if (token != null)
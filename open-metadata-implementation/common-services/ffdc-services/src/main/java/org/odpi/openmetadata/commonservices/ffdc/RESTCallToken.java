@@ -4,6 +4,9 @@
 package org.odpi.openmetadata.commonservices.ffdc;
 
 import org.apache.commons.lang3.time.StopWatch;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * RESTCallToken provides a cache of information about a single REST API call invocation.
@@ -11,13 +14,14 @@ import org.apache.commons.lang3.time.StopWatch;
  */
 public class RESTCallToken
 {
-    static volatile private long nextCallId = 0;
+    static final private AtomicLong nextCallId = new AtomicLong(0);
     static final String PLATFORM_NAME = "<*>";
 
-    static private synchronized long getNextCallId() { return nextCallId++; }
+    static private long getNextCallId() { return nextCallId.getAndIncrement(); }
 
 
     private final StopWatch watch;
+    private final long      startTime;
     private final long      callId;
     private final String    serviceName;
     private final String    serverName;
@@ -39,6 +43,7 @@ public class RESTCallToken
         this.methodName  = methodName;
 
         this.watch = StopWatch.createStarted();
+        this.startTime = System.nanoTime();
         this.callId = getNextCallId();
 
         if (serverName == null)
@@ -66,6 +71,7 @@ public class RESTCallToken
         this.methodName  = methodName;
 
         this.watch = StopWatch.createStarted();
+        this.startTime = System.nanoTime();
         this.callId = getNextCallId();
 
         if (serverName == null)
@@ -90,6 +96,19 @@ public class RESTCallToken
     }
 
 
+    /**
+     * Record the time since the call started in the performance metrics.
+     */
+    void recordElapsedTime()
+    {
+        PerformanceMetrics.recordTime(startTime,
+                                      PerformanceMetrics.REST_REQUEST_METRIC,
+                                      "service", serviceName,
+                                      "server", serverName,
+                                      "operation", methodName);
+    }
+
+
     /**
      * Build the start text.
      *
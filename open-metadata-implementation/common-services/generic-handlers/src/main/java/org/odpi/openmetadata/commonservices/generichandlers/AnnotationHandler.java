@@ -361,13 +361,92 @@ public class AnnotationHandler<B> extends ReferenceableHandler<B>
                                                                                  PropertyServerException
     {
         final String annotationParameterName = "annotation";
-        final String discoveryReportGUIDParameterName = "discoveryReportGUID";
 
         invalidParameterHandler.validateObject(annotation, annotationParameterName, methodName);
 
         Date effectiveTime = new Date();
 
-        String assetGUID          = null;
+        String assetGUID = this.getDiscoveryReportAssetGUID(userId, discoveryReportGUID, effectiveTime, methodName);
+
+        return this.addAnnotationToValidatedDiscoveryReport(userId,
+                                                            assetGUID,
+                                                            discoveryReportGUID,
+                                                            annotation,
+                                                            annotationParameterName,
+                                                            effectiveTime,
+                                                            methodName);
+    }
+
+
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The report is validated once for the whole list.  The annotations are stored in order and the unique identifier
+     * of each annotation is added to the supplied list as soon as it is stored.  This means that, if an exception is
+     * thrown, the size of this list is the position of the annotation that failed.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotations list of annotation objects
+     * @param annotationGUIDs list that the unique identifiers of the new annotations are added to
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding an annotation to the annotation store.
+     */
+    public  void  addAnnotationsToDiscoveryReport(String           userId,
+                                                  String           discoveryReportGUID,
+                                                  List<Annotation> annotations,
+                                                  List<String>     annotationGUIDs,
+                                                  String           methodName) throws InvalidParameterException,
+                                                                                       UserNotAuthorizedException,
+                                                                                       PropertyServerException
+    {
+        final String annotationsParameterName = "annotations";
+
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        Date effectiveTime = new Date();
+
+        String assetGUID = this.getDiscoveryReportAssetGUID(userId, discoveryReportGUID, effectiveTime, methodName);
+
+        for (Annotation annotation : annotations)
+        {
+            String annotationParameterName = annotationsParameterName + "[" + annotationGUIDs.size() + "]";
+
+            invalidParameterHandler.validateObject(annotation, annotationParameterName, methodName);
+
+            annotationGUIDs.add(this.addAnnotationToValidatedDiscoveryReport(userId,
+                                                                             assetGUID,
+                                                                             discoveryReportGUID,
+                                                                             annotation,
+                                                                             annotationParameterName,
+                                                                             effectiveTime,
+                                                                             methodName));
+        }
+    }
+
+
+    /**
+     * Validate that the discovery report exists and return the unique identifier of the asset that it is anchored to.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param effectiveTime time that the report must be effective
+     * @param methodName calling method
+     * @return unique identifier of the asset (or null if the report is not anchored)
+     * @throws InvalidParameterException the report is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem retrieving the report
+     */
+    private String getDiscoveryReportAssetGUID(String userId,
+                                               String discoveryReportGUID,
+                                               Date   effectiveTime,
+                                               String methodName) throws InvalidParameterException,
+                                                                         UserNotAuthorizedException,
+                                                                         PropertyServerException
+    {
+        final String discoveryReportGUIDParameterName = "discoveryReportGUID";
+
         EntityDetail anchorEntity = this.validateAnchorEntity(userId,
                                                               discoveryReportGUID,
                                                               discoveryReportGUIDParameterName,
@@ -382,9 +461,40 @@ public class AnnotationHandler<B> extends ReferenceableHandler<B>
 
         if (anchorEntity != null)
         {
-            assetGUID = anchorEntity.getGUID();
+            return anchorEntity.getGUID();
         }
 
+        return null;
+    }
+
+
+    /**
+     * Create an annotation and link it to a discovery report that has already been validated.
+     *
+     * @param userId identifier of calling user
+     * @param assetGUID unique identifier of the asset that the report is anchored to
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotation annotation object
+     * @param annotationParameterName name of the parameter that supplied the annotation
+     * @param effectiveTime time that the report must be effective
+     * @param methodName calling method
+     * @return unique identifier of new annotation
+     * @throws InvalidParameterException the annotation is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotation to the annotation store.
+     */
+    private String addAnnotationToValidatedDiscoveryReport(String     userId,
+                                                           String     assetGUID,
+                                                           String     discoveryReportGUID,
+                                                           Annotation annotation,
+                                                           String     annotationParameterName,
+                                                           Date       effectiveTime,
+                                                           String     methodName) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        final String discoveryReportGUIDParameterName = "discoveryReportGUID";
+
         String annotationGUID = this.addNewAnnotation(userId, assetGUID, annotation, methodName);
 
         if (annotationGUID != null)
@@ -22,6 +22,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * EngineActionHandler manages EngineAction objects from the Governance Action Framework (GAF).
@@ -29,6 +30,14 @@ import java.util.*;
  */
 public class EngineActionHandler<B> extends OpenMetadataAPIGenericHandler<B>
 {
+    /*
+     * The repositories do not offer a conditional update so only one caller in this server may check and claim
+     * an engine action at a time.  This map records the engine actions that are being claimed (and by which userId).
+     * A second caller is rejected straight away, as if the engine action were already claimed, rather than waiting
+     * while the first caller's claim is sent to the repositories.
+     */
+    private static final Map<String, String> claimsInProgress = new ConcurrentHashMap<>();
+
 
     /**
      * Construct the handler for engine actions.
@@ -1400,86 +1409,364 @@ public class EngineActionHandler<B> extends OpenMetadataAPIGenericHandler<B>
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateGUID(engineActionGUID, guidParameterName, methodName);
 
-        EntityDetail entity = this.getEntityFromRepository(userId,
-                                                           engineActionGUID,
-                                                           guidParameterName,
-                                                           OpenMetadataAPIMapper.ENGINE_ACTION_TYPE_NAME,
-                                                           null,
-                                                           null,
-                                                           false,
-                                                           false,
-                                                           serviceSupportedZones,
-                                                           effectiveTime,
-                                                           methodName);
+        this.claimEngineAction(userId,
+                               engineActionGUID,
+                               guidParameterName,
+                               OpenMetadataAPIMapper.WAITING_EA_STATUS_ORDINAL,
+                               serviceSupportedZones,
+                               effectiveTime,
+                               methodName);
+    }
 
-        if (entity != null)
+
+    /**
+     * Request that execution of an engine action is allocated to the caller and that its status is set to IN_PROGRESS.
+     * This combines the claim and the status update into a single update to the engine action and returns the
+     * latest values of the engine action so that the caller can start the governance service immediately.
+     * This is only permitted if no other caller has claimed it.
+     *
+     * @param userId identifier of calling user
+     * @param engineActionGUID identifier of the engine action request
+     * @param serviceSupportedZones supported zones for calling service
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     *
+     * @return engine action bean
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store or the engine action is already claimed.
+     */
+    public B claimAndStartEngineAction(String       userId,
+                                      String       engineActionGUID,
+                                      List<String> serviceSupportedZones,
+                                      Date         effectiveTime,
+                                      String       methodName) throws InvalidParameterException,
+                                                                      UserNotAuthorizedException,
+                                                                      PropertyServerException
+    {
+        final String guidParameterName = "engineActionGUID";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(engineActionGUID, guidParameterName, methodName);
+
+        this.claimEngineAction(userId,
+                               engineActionGUID,
+                               guidParameterName,
+                               OpenMetadataAPIMapper.IN_PROGRESS_EA_STATUS_ORDINAL,
+                               serviceSupportedZones,
+                               effectiveTime,
+                               methodName);
+
+        return this.getEngineAction(userId, engineActionGUID, serviceSupportedZones, effectiveTime, methodName);
+    }
+
+
+    /**
+     * Claim and start the approved engine actions for a governance engine.  Only engine actions that have not
+     * been claimed by another caller and that request one of the supplied request types are returned.  The query
+     * selects the approved engine actions so the completed engine actions for the governance engine are not retrieved.
+     * Engine actions that are claimed by another caller while this request is running are skipped.
+     *
+     * @param userId identifier of calling user
+     * @param governanceEngineGUID unique identifier of governance engine
+     * @param supportedRequestTypes request types supported by the caller (null means any request type)
+     * @param maxEngineActions maximum number of engine actions to claim (0 means no limit)
+     * @param serviceSupportedZones supported zones for calling service
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     *
+     * @return list of claimed engine actions or null
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store.
+     */
+    public List<B> claimAndStartEngineActions(String       userId,
+                                              String       governanceEngineGUID,
+                                              List<String> supportedRequestTypes,
+                                              int          maxEngineActions,
+                                              List<String> serviceSupportedZones,
+                                              Date         effectiveTime,
+                                              String       methodName) throws InvalidParameterException,
+                                                                              UserNotAuthorizedException,
+                                                                              PropertyServerException
+    {
+        final String guidParameterName = "governanceEngineGUID";
+        final String engineActionGUIDParameterName = "engineActionGUID";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(governanceEngineGUID, guidParameterName, methodName);
+
+        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName,
+                                                                                     null,
+                                                                                     OpenMetadataAPIMapper.EXECUTOR_ENGINE_GUID_PROPERTY_NAME,
+                                                                                     governanceEngineGUID,
+                                                                                     methodName);
+
+        try
         {
-            InstanceProperties properties = entity.getProperties();
+            properties = repositoryHelper.addEnumPropertyToInstance(serviceName,
+                                                                    properties,
+                                                                    OpenMetadataAPIMapper.ACTION_STATUS_PROPERTY_NAME,
+                                                                    OpenMetadataAPIMapper.ENGINE_ACTION_STATUS_ENUM_TYPE_GUID,
+                                                                    OpenMetadataAPIMapper.ENGINE_ACTION_STATUS_ENUM_TYPE_NAME,
+                                                                    OpenMetadataAPIMapper.APPROVED_EA_STATUS_ORDINAL,
+                                                                    methodName);
+        }
+        catch (TypeErrorException error)
+        {
+            throw new InvalidParameterException(error, OpenMetadataAPIMapper.ACTION_STATUS_PROPERTY_NAME);
+        }
 
-            if (properties != null)
+        /*
+         * Each engine action that is claimed drops out of the query results, which moves the later engine actions
+         * to earlier pages.  So once a page has produced a claim, the query is restarted from the first page, and the
+         * engine actions that have already been looked at are skipped.  The query is only paged forward while
+         * nothing is claimed.
+         */
+        List<B>     results                  = new ArrayList<>();
+        Set<String> checkedEngineActionGUIDs = new HashSet<>();
+        int         pageSize                 = invalidParameterHandler.getMaxPagingSize();
+        int         startFrom                = 0;
+
+        while ((maxEngineActions == 0) || (results.size() < maxEngineActions))
+        {
+            List<EntityDetail> engineActions = repositoryHandler.getEntitiesByAllProperties(userId,
+                                                                                            properties,
+                                                                                            OpenMetadataAPIMapper.ENGINE_ACTION_TYPE_GUID,
+                                                                                            OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                                                                                            false,
+                                                                                            false,
+                                                                                            startFrom,
+                                                                                            pageSize,
+                                                                                            effectiveTime,
+                                                                                            methodName);
+
+            if (engineActions == null)
             {
-                EngineActionStatus status = this.getActionStatus(OpenMetadataAPIMapper.ACTION_STATUS_PROPERTY_NAME,
-                                                                 properties);
+                break;
+            }
+
+            boolean claimedFromPage = false;
+
+            for (EntityDetail nextEngineAction : engineActions)
+            {
+                if ((maxEngineActions != 0) && (results.size() >= maxEngineActions))
+                {
+                    break;
+                }
+
+                if ((nextEngineAction == null) || (nextEngineAction.getProperties() == null) ||
+                            (! checkedEngineActionGUIDs.add(nextEngineAction.getGUID())))
+                {
+                    continue;
+                }
+
+                int status = repositoryHelper.getEnumPropertyOrdinal(serviceName,
+                                                                     OpenMetadataAPIMapper.ACTION_STATUS_PROPERTY_NAME,
+                                                                     nextEngineAction.getProperties(),
+                                                                     methodName);
 
                 String processingEngineUserId = repositoryHelper.getStringProperty(serviceName,
                                                                                    OpenMetadataAPIMapper.PROCESSING_ENGINE_USER_ID_PROPERTY_NAME,
-                                                                                   properties,
+                                                                                   nextEngineAction.getProperties(),
                                                                                    methodName);
 
-                if ((status == EngineActionStatus.APPROVED) && (processingEngineUserId == null))
+                String requestType = repositoryHelper.getStringProperty(serviceName,
+                                                                        OpenMetadataAPIMapper.REQUEST_TYPE_PROPERTY_NAME,
+                                                                        nextEngineAction.getProperties(),
+                                                                        methodName);
+
+                if ((status == OpenMetadataAPIMapper.APPROVED_EA_STATUS_ORDINAL) && (processingEngineUserId == null) &&
+                            ((supportedRequestTypes == null) || (supportedRequestTypes.contains(requestType))))
                 {
-                    EngineActionBuilder builder = new EngineActionBuilder(OpenMetadataAPIMapper.WAITING_EA_STATUS_ORDINAL,
-                                                                          userId,
-                                                                          repositoryHelper,
-                                                                          serviceName,
-                                                                          serverName);
+                    try
+                    {
+                        this.claimEngineAction(userId,
+                                               nextEngineAction.getGUID(),
+                                               engineActionGUIDParameterName,
+                                               OpenMetadataAPIMapper.IN_PROGRESS_EA_STATUS_ORDINAL,
+                                               serviceSupportedZones,
+                                               effectiveTime,
+                                               methodName);
+                    }
+                    catch (PropertyServerException error)
+                    {
+                        if (GenericHandlersErrorCode.INVALID_ENGINE_ACTION_STATUS.getMessageDefinition().getMessageId().equals(error.getReportedErrorMessageId()))
+                        {
+                            /*
+                             * Another caller has claimed the engine action since it was retrieved.
+                             */
+                            continue;
+                        }
 
-                    updateBeanInRepository(userId,
-                                           null,
-                                           null,
-                                           engineActionGUID,
-                                           guidParameterName,
-                                           OpenMetadataAPIMapper.ENGINE_ACTION_TYPE_GUID,
-                                           OpenMetadataAPIMapper.ENGINE_ACTION_TYPE_NAME,
-                                           false,
-                                           false,
-                                           serviceSupportedZones,
-                                           builder.getClaimInstanceProperties(methodName),
-                                           true,
-                                           effectiveTime,
-                                           methodName);
+                        throw error;
+                    }
+
+                    claimedFromPage = true;
+
+                    B bean = this.getEngineAction(userId, nextEngineAction.getGUID(), serviceSupportedZones, effectiveTime, methodName);
 
-                    auditLog.logMessage(methodName, GenericHandlersAuditCode.SUCCESSFUL_ACTION_CLAIM_REQUEST.getMessageDefinition(userId, engineActionGUID));
+                    if (bean != null)
+                    {
+                        results.add(bean);
+                    }
+                }
+            }
+
+            if (claimedFromPage)
+            {
+                startFrom = 0;
+            }
+            else
+            {
+                startFrom = startFrom + pageSize;
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Allocate an engine action to the caller and set its status.  Only one caller in this server can be retrieving and
+     * updating an engine action at a time.  Any other caller is rejected as if the engine action were already claimed.
+     *
+     * @param userId identifier of calling user
+     * @param engineActionGUID identifier of the engine action request
+     * @param guidParameterName parameter supplying engineActionGUID
+     * @param claimedStatus status ordinal to set up for the claimed engine action
+     * @param serviceSupportedZones supported zones for calling service
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store or the engine action is already claimed.
+     */
+    private void claimEngineAction(String       userId,
+                                   String       engineActionGUID,
+                                   String       guidParameterName,
+                                   int          claimedStatus,
+                                   List<String> serviceSupportedZones,
+                                   Date         effectiveTime,
+                                   String       methodName) throws InvalidParameterException,
+                                                                   UserNotAuthorizedException,
+                                                                   PropertyServerException
+    {
+        String claimingUserId = claimsInProgress.putIfAbsent(engineActionGUID, userId);
+
+        if (claimingUserId != null)
+        {
+            throw new PropertyServerException(GenericHandlersErrorCode.INVALID_ENGINE_ACTION_STATUS.getMessageDefinition(userId,
+                                                                                                                         engineActionGUID,
+                                                                                                                         claimingUserId,
+                                                                                                                         EngineActionStatus.APPROVED.getName()),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+
+        try
+        {
+            EntityDetail entity = this.getEntityFromRepository(userId,
+                                                               engineActionGUID,
+                                                               guidParameterName,
+                                                               OpenMetadataAPIMapper.ENGINE_ACTION_TYPE_NAME,
+                                                               null,
+                                                               null,
+                                                               false,
+                                                               false,
+                                                               serviceSupportedZones,
+                                                               effectiveTime,
+                                                               methodName);
+
+            if (entity != null)
+            {
+                InstanceProperties properties = entity.getProperties();
+
+                if (properties != null)
+                {
+                    EngineActionStatus status = this.getActionStatus(OpenMetadataAPIMapper.ACTION_STATUS_PROPERTY_NAME,
+                                                                     properties);
+
+                    String processingEngineUserId = repositoryHelper.getStringProperty(serviceName,
+                                                                                       OpenMetadataAPIMapper.PROCESSING_ENGINE_USER_ID_PROPERTY_NAME,
+                                                                                       properties,
+                                                                                       methodName);
+
+                    if ((status == EngineActionStatus.APPROVED) && (processingEngineUserId == null))
+                    {
+                        EngineActionBuilder builder = new EngineActionBuilder(claimedStatus,
+                                                                              userId,
+                                                                              repositoryHelper,
+                                                                              serviceName,
+                                                                              serverName);
+
+                        updateBeanInRepository(userId,
+                                               null,
+                                               null,
+                                               engineActionGUID,
+                                               guidParameterName,
+                                               OpenMetadataAPIMapper.ENGINE_ACTION_TYPE_GUID,
+                                               OpenMetadataAPIMapper.ENGINE_ACTION_TYPE_NAME,
+                                               false,
+                                               false,
+                                               serviceSupportedZones,
+                                               builder.getClaimInstanceProperties(methodName),
+                                               true,
+                                               effectiveTime,
+                                               methodName);
+
+                        auditLog.logMessage(methodName, GenericHandlersAuditCode.SUCCESSFUL_ACTION_CLAIM_REQUEST.getMessageDefinition(userId, engineActionGUID));
+
+                        if (claimedStatus != OpenMetadataAPIMapper.WAITING_EA_STATUS_ORDINAL)
+                        {
+                            auditLog.logMessage(methodName,
+                                                GenericHandlersAuditCode.ENGINE_ACTION_STATUS_CHANGE.getMessageDefinition(this.getEngineActionStatusName(OpenMetadataAPIMapper.APPROVED_EA_STATUS_ORDINAL),
+                                                                                                                          this.getEngineActionStatusName(claimedStatus),
+                                                                                                                          engineActionGUID,
+                                                                                                                          userId));
+                        }
+                    }
+                    else
+                    {
+                        throw new PropertyServerException(GenericHandlersErrorCode.INVALID_ENGINE_ACTION_STATUS.getMessageDefinition(userId,
+                                                                                                                                     engineActionGUID,
+                                                                                                                                     processingEngineUserId,
+                                                                                                                                     status.getName()),
+                                                          this.getClass().getName(),
+                                                          methodName);
+                    }
                 }
                 else
                 {
-                    throw new PropertyServerException(GenericHandlersErrorCode.INVALID_ENGINE_ACTION_STATUS.getMessageDefinition(userId,
-                                                                                                                                 engineActionGUID,
-                                                                                                                                 processingEngineUserId,
-                                                                                                                                 status.getName()),
+                    throw new PropertyServerException(GenericHandlersErrorCode.MISSING_ENGINE_ACTION_PROPERTIES.getMessageDefinition(engineActionGUID,
+                                                                                                                                     guidParameterName,
+                                                                                                                                     serviceName,
+                                                                                                                                     methodName),
                                                       this.getClass().getName(),
                                                       methodName);
                 }
-
             }
             else
             {
-                throw new PropertyServerException(GenericHandlersErrorCode.MISSING_ENGINE_ACTION_PROPERTIES.getMessageDefinition(engineActionGUID,
-                                                                                                                                 guidParameterName,
-                                                                                                                                 serviceName,
-                                                                                                                                 methodName),
+                throw new PropertyServerException(GenericHandlersErrorCode.MISSING_ENGINE_ACTION.getMessageDefinition(engineActionGUID,
+                                                                                                                      guidParameterName,
+                                                                                                                      serviceName,
+                                                                                                                      methodName),
                                                   this.getClass().getName(),
                                                   methodName);
             }
         }
-        else
+        finally
         {
-            throw new PropertyServerException(GenericHandlersErrorCode.MISSING_ENGINE_ACTION.getMessageDefinition(engineActionGUID,
-                                                                                                                  guidParameterName,
-                                                                                                                  serviceName,
-                                                                                                                  methodName),
-                                              this.getClass().getName(),
-                                              methodName);
+            claimsInProgress.remove(engineActionGUID);
         }
     }
 
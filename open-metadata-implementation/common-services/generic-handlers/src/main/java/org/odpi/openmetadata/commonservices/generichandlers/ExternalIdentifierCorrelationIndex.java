@@ -0,0 +1,208 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ExternalIdentifierCorrelationIndex remembers which ExternalId entity holds an external identifier for
+ * a particular scope.  It saves the ExternalIdentifierHandler from searching all ExternalId entities by
+ * identifier (and then checking the scope of each match) every time an integration connector resolves
+ * a correlation.  The index is a hint rather than the source of truth: the handler checks each entry it
+ * uses against the repository and removes entries that no longer match.  It holds a bounded number of
+ * entries and discards the least recently used entry when it is full.
+ */
+class ExternalIdentifierCorrelationIndex
+{
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private final int                      maxEntries;
+    private final Map<String, Correlation> correlations;
+    private final Map<String, Set<String>> keysByExternalIdGUID = new HashMap<>();
+
+
+    /**
+     * Create an index with the default size.
+     */
+    ExternalIdentifierCorrelationIndex()
+    {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+
+    /**
+     * Create an index with a specific size.
+     *
+     * @param maxEntries maximum number of correlations held in the index
+     */
+    ExternalIdentifierCorrelationIndex(int maxEntries)
+    {
+        this.maxEntries   = maxEntries;
+        this.correlations = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+
+    /**
+     * Return the unique identifier of the ExternalId entity for the identifier in the scope.
+     *
+     * @param scopeGUID unique identifier of the software capability that represents the third party technology
+     * @param identifier identifier from the third party technology
+     * @return unique identifier of the ExternalId entity or null if it is not in the index
+     */
+    synchronized String getExternalIdGUID(String scopeGUID,
+                                          String identifier)
+    {
+        Correlation correlation = correlations.get(getKey(scopeGUID, identifier));
+
+        if (correlation != null)
+        {
+            return correlation.externalIdGUID;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Record the ExternalId entity that holds the identifier for the scope.
+     *
+     * @param scopeGUID unique identifier of the software capability that represents the third party technology
+     * @param identifier identifier from the third party technology
+     * @param externalIdGUID unique identifier of the ExternalId entity
+     */
+    synchronized void saveCorrelation(String scopeGUID,
+                                      String identifier,
+                                      String externalIdGUID)
+    {
+        if ((scopeGUID == null) || (identifier == null) || (externalIdGUID == null) || (maxEntries <= 0))
+        {
+            return;
+        }
+
+        String      key         = getKey(scopeGUID, identifier);
+        Correlation correlation = correlations.put(key, new Correlation(key, externalIdGUID));
+
+        if (correlation != null)
+        {
+            this.removeKeyForExternalId(correlation);
+        }
+
+        keysByExternalIdGUID.computeIfAbsent(externalIdGUID, guid -> new HashSet<>()).add(key);
+
+        while (correlations.size() > maxEntries)
+        {
+            String eldestKey = correlations.keySet().iterator().next();
+
+            this.removeKeyForExternalId(correlations.remove(eldestKey));
+        }
+    }
+
+
+    /**
+     * Remove the correlation for the identifier in the scope.
+     *
+     * @param scopeGUID unique identifier of the software capability that represents the third party technology
+     * @param identifier identifier from the third party technology
+     */
+    synchronized void removeCorrelation(String scopeGUID,
+                                        String identifier)
+    {
+        Correlation correlation = correlations.remove(getKey(scopeGUID, identifier));
+
+        if (correlation != null)
+        {
+            this.removeKeyForExternalId(correlation);
+        }
+    }
+
+
+    /**
+     * Remove all the correlations that point to an ExternalId entity.  This is called when the entity, or
+     * its link to a scope, changes.
+     *
+     * @param externalIdGUID unique identifier of the ExternalId entity
+     */
+    synchronized void removeExternalId(String externalIdGUID)
+    {
+        Set<String> keys = keysByExternalIdGUID.remove(externalIdGUID);
+
+        if (keys != null)
+        {
+            for (String key : keys)
+            {
+                correlations.remove(key);
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of correlations in the index.
+     *
+     * @return count
+     */
+    synchronized int getCorrelationCount()
+    {
+        return correlations.size();
+    }
+
+
+    /**
+     * Remove the reverse mapping for a correlation that is no longer in the index.
+     *
+     * @param correlation correlation that has been removed
+     */
+    private void removeKeyForExternalId(Correlation correlation)
+    {
+        if (correlation != null)
+        {
+            Set<String> keys = keysByExternalIdGUID.get(correlation.externalIdGUID);
+
+            if (keys != null)
+            {
+                keys.remove(correlation.key);
+
+                if (keys.isEmpty())
+                {
+                    keysByExternalIdGUID.remove(correlation.externalIdGUID);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Build the key for the identifier in the scope.  The scope GUID does not contain a new line so
+     * it can not be confused with part of the identifier.
+     *
+     * @param scopeGUID unique identifier of the software capability that represents the third party technology
+     * @param identifier identifier from the third party technology
+     * @return key
+     */
+    private String getKey(String scopeGUID,
+                          String identifier)
+    {
+        return scopeGUID + "\n" + identifier;
+    }
+
+
+    /**
+     * An entry in the index.
+     */
+    private static class Correlation
+    {
+        private final String key;
+        private final String externalIdGUID;
+
+        Correlation(String key,
+                    String externalIdGUID)
+        {
+            this.key            = key;
+            this.externalIdGUID = externalIdGUID;
+        }
+    }
+}
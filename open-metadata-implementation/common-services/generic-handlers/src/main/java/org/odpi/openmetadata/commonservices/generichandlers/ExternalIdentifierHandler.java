@@ -20,6 +20,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +32,8 @@ import java.util.Map;
  * that generated the external identifier.  This is referred to as the scope. It is also linked to the element
  * (or elements) in open metadata that are equivalent to the metadata element(s) in the third party technology.
  * The correlation may be many-to-many.
+ * The handler keeps an index of the ExternalId entity that holds each identifier for a scope so that repeated
+ * correlation lookups from integration connectors do not need to search all the ExternalId entities.
  *
  * @param <EXTERNAL_ID> bean that returns an external identifier
  * @param <OPEN_METADATA_ELEMENT_HEADER> bean that returns the elements tied to this external identifier
@@ -39,6 +42,7 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
 {
     private final OpenMetadataAPIGenericConverter<OPEN_METADATA_ELEMENT_HEADER> elementConverter;
     private final Class<OPEN_METADATA_ELEMENT_HEADER>                           elementBeanClass;
+    private final ExternalIdentifierCorrelationIndex                            correlationIndex = new ExternalIdentifierCorrelationIndex();
 
 
     /**
@@ -440,7 +444,82 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                                                 UserNotAuthorizedException,
                                                                                 PropertyServerException
     {
-        // todo
+        final String externalIdGUIDParameterName   = "externalIdGUID";
+        final String resourceLinkGUIDParameterName = "resourceLink.getGUID()";
+
+        invalidParameterHandler.validateGUID(elementGUID, elementGUIDParameterName, methodName);
+
+        EntityDetail externalIdEntity = this.getExternalIdEntity(userId,
+                                                                 identifier,
+                                                                 identifierParameterName,
+                                                                 scopeGUID,
+                                                                 scopeGUIDParameterName,
+                                                                 scopeQualifiedName,
+                                                                 scopeTypeName,
+                                                                 forLineage,
+                                                                 forDuplicateProcessing,
+                                                                 effectiveTime,
+                                                                 methodName);
+
+        if (externalIdEntity != null)
+        {
+            String externalIdGUID = externalIdEntity.getGUID();
+
+            Relationship resourceLink = this.getResourceLinkRelationship(userId,
+                                                                         elementGUID,
+                                                                         elementGUIDParameterName,
+                                                                         elementTypeName,
+                                                                         externalIdGUID,
+                                                                         forLineage,
+                                                                         forDuplicateProcessing,
+                                                                         effectiveTime,
+                                                                         methodName);
+
+            if (resourceLink != null)
+            {
+                this.deleteRelationship(userId,
+                                        null,
+                                        null,
+                                        resourceLink.getGUID(),
+                                        resourceLinkGUIDParameterName,
+                                        OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME,
+                                        forLineage,
+                                        forDuplicateProcessing,
+                                        effectiveTime,
+                                        methodName);
+            }
+
+            /*
+             * The external identifier is removed once it no longer correlates any open metadata elements.
+             */
+            if (this.countAttachments(userId,
+                                      externalIdGUID,
+                                      OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
+                                      OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_GUID,
+                                      OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME,
+                                      1,
+                                      forLineage,
+                                      forDuplicateProcessing,
+                                      effectiveTime,
+                                      methodName) == 0)
+            {
+                correlationIndex.removeExternalId(externalIdGUID);
+
+                this.deleteBeanInRepository(userId,
+                                            null,
+                                            null,
+                                            externalIdGUID,
+                                            externalIdGUIDParameterName,
+                                            OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_GUID,
+                                            OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
+                                            null,
+                                            null,
+                                            forLineage,
+                                            forDuplicateProcessing,
+                                            effectiveTime,
+                                            methodName);
+            }
+        }
     }
 
 
@@ -612,6 +691,24 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
         invalidParameterHandler.validateGUID(scopeGUID, scopeGUIDParameterName, methodName);
         invalidParameterHandler.validateName(identifier, identifierParameterName, methodName);
 
+        /*
+         * The correlation index remembers the ExternalId entity found by an earlier request.
+         */
+        EntityDetail indexedEntity = this.getIndexedExternalIdEntity(userId,
+                                                                     identifier,
+                                                                     scopeGUID,
+                                                                     scopeQualifiedName,
+                                                                     scopeTypeName,
+                                                                     forLineage,
+                                                                     forDuplicateProcessing,
+                                                                     effectiveTime,
+                                                                     methodName);
+
+        if (indexedEntity != null)
+        {
+            return indexedEntity;
+        }
+
         /*
          * Since the external identifier is not necessarily unique and is linked many-to-many, begin with
          * retrieving all the ExternalId entities with the same identifier.
@@ -656,6 +753,8 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                      effectiveTime,
                                                      methodName))
             {
+                correlationIndex.saveCorrelation(scopeGUID, identifier, externalIdEntity.getGUID());
+
                 return externalIdEntity;
             }
         }
@@ -664,6 +763,116 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
     }
 
 
+    /**
+     * Retrieve the ExternalId entity recorded in the correlation index for the identifier and scope.  The entity
+     * is checked to make sure it still holds the identifier and is linked to the scope.  If it does not, it is removed
+     * from the index.
+     *
+     * @param userId calling userId
+     * @param identifier identifier from the third party technology (scope)
+     * @param scopeGUID unique identifier of the software capability that represents the third metadata source
+     * @param scopeQualifiedName unique name of the software capability that represents the third metadata source
+     * @param scopeTypeName specific type name of the software capability that represents the third party metadata source
+     * @param forLineage return elements marked with the Memento classification?
+     * @param forDuplicateProcessing do not merge elements marked as duplicates?
+     * @param effectiveTime when should the elements be effected for - null is anytime; new Date() is now
+     * @param methodName calling method
+     *
+     * @return ExternalId entity or null if the index does not hold a valid entry
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private EntityDetail getIndexedExternalIdEntity(String  userId,
+                                                    String  identifier,
+                                                    String  scopeGUID,
+                                                    String  scopeQualifiedName,
+                                                    String  scopeTypeName,
+                                                    boolean forLineage,
+                                                    boolean forDuplicateProcessing,
+                                                    Date    effectiveTime,
+                                                    String  methodName) throws InvalidParameterException,
+                                                                               UserNotAuthorizedException,
+                                                                               PropertyServerException
+    {
+        final String externalIdGUIDParameterName = "indexedExternalIdGUID";
+
+        String externalIdGUID = correlationIndex.getExternalIdGUID(scopeGUID, identifier);
+
+        if (externalIdGUID == null)
+        {
+            return null;
+        }
+
+        EntityDetail externalIdEntity = null;
+
+        try
+        {
+            externalIdEntity = this.getEntityFromRepository(userId,
+                                                            externalIdGUID,
+                                                            externalIdGUIDParameterName,
+                                                            OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
+                                                            null,
+                                                            null,
+                                                            forLineage,
+                                                            forDuplicateProcessing,
+                                                            supportedZones,
+                                                            effectiveTime,
+                                                            methodName);
+        }
+        catch (InvalidParameterException error)
+        {
+            /*
+             * The entity has been deleted since it was added to the index.
+             */
+        }
+
+        if ((externalIdEntity != null) && (externalIdEntity.getType() != null))
+        {
+            String storedIdentifier = repositoryHelper.getStringProperty(serviceName,
+                                                                         OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME,
+                                                                         externalIdEntity.getProperties(),
+                                                                         methodName);
+
+            if ((identifier.equals(storedIdentifier)) &&
+                (this.validateExternalIdentifierScope(userId,
+                                                      identifier,
+                                                      externalIdEntity,
+                                                      scopeGUID,
+                                                      scopeQualifiedName,
+                                                      scopeTypeName,
+                                                      forLineage,
+                                                      forDuplicateProcessing,
+                                                      effectiveTime,
+                                                      methodName)))
+            {
+                return externalIdEntity;
+            }
+        }
+
+        correlationIndex.removeCorrelation(scopeGUID, identifier);
+
+        return null;
+    }
+
+
+    /**
+     * Remove any entries for an ExternalId entity from the correlation index.  This is called when the entity, or one
+     * of its relationships, is changed by another server.  Changes made through this handler keep the index up-to-date
+     * without this call.
+     *
+     * @param externalIdGUID unique identifier of the ExternalId entity
+     */
+    public void invalidateCorrelations(String externalIdGUID)
+    {
+        if (externalIdGUID != null)
+        {
+            correlationIndex.removeExternalId(externalIdGUID);
+        }
+    }
+
+
     /**
      * Retrieve the ExternalIdLink relationship between the open metadata element and the external identifier.
      *
@@ -915,6 +1124,7 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                effectiveTime,
                                                methodName);
 
+            correlationIndex.saveCorrelation(scopeGUID, identifier, externalIdGUID);
         }
 
         return externalIdGUID;
@@ -1630,82 +1840,153 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                                                                           PropertyServerException
     {
         final String externalIdentifierParameterName = "externalIdentifier";
+        final String externalIdGUIDParameterName     = "externalIdEntity.getGUID()";
 
-        invalidParameterHandler.validateGUID(scopeGUID, scopeParameterName, methodName);
-        invalidParameterHandler.validateName(externalIdentifier, externalIdentifierParameterName, methodName);
+        EntityDetail externalIdEntity = this.getExternalIdEntity(userId,
+                                                                 externalIdentifier,
+                                                                 externalIdentifierParameterName,
+                                                                 scopeGUID,
+                                                                 scopeParameterName,
+                                                                 scopeQualifiedName,
+                                                                 scopeTypeName,
+                                                                 forLineage,
+                                                                 forDuplicateProcessing,
+                                                                 effectiveTime,
+                                                                 methodName);
 
-        List<String> propertyNames = new ArrayList<>();
+        if (externalIdEntity != null)
+        {
+            return this.getElementHeaders(userId,
+                                          externalIdEntity,
+                                          externalIdGUIDParameterName,
+                                          startingFrom,
+                                          pageSize,
+                                          forLineage,
+                                          forDuplicateProcessing,
+                                          effectiveTime,
+                                          methodName);
+        }
 
-        propertyNames.add(OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME);
+        return null;
+    }
+
+
+    /**
+     * Return the unique identifiers of the open metadata elements that are correlated with each of a list of
+     * external identifiers from the same scope.  This is used by integration connectors that are synchronizing
+     * a batch of elements from a third party technology.  Identifiers that are in the correlation index are resolved
+     * directly.  Identifiers that are missing from the index are found with a property search on the identifier
+     * (checking the scope of each match) and are then added to the index.
+     *
+     * @param userId calling user
+     * @param scopeGUID unique identifier of software capability representing the caller
+     * @param scopeParameterName unique name of software capability representing the caller
+     * @param scopeTypeName specific type name of the software capability that represents the third party metadata source
+     * @param scopeQualifiedName unique name of the software capability that represents the third party metadata source
+     * @param externalIdentifiers list of identifiers of elements in the third party technology
+     * @param externalIdentifiersParameterName parameter supplying externalIdentifiers
+     * @param forLineage return elements marked with the Memento classification?
+     * @param forDuplicateProcessing do not merge elements marked as duplicates?
+     * @param effectiveTime when should the elements be effected for - null is anytime; new Date() is now
+     * @param methodName calling method
+     *
+     * @return map of external identifier to the unique identifiers of its open metadata elements - identifiers with no
+     * correlated elements are omitted; null if none of the identifiers are correlated
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public Map<String, List<String>> getElementGUIDsForExternalIdentifiers(String       userId,
+                                                                           String       scopeGUID,
+                                                                           String       scopeParameterName,
+                                                                           String       scopeTypeName,
+                                                                           String       scopeQualifiedName,
+                                                                           List<String> externalIdentifiers,
+                                                                           String       externalIdentifiersParameterName,
+                                                                           boolean      forLineage,
+                                                                           boolean      forDuplicateProcessing,
+                                                                           Date         effectiveTime,
+                                                                           String       methodName) throws InvalidParameterException,
+                                                                                                       UserNotAuthorizedException,
+                                                                                                       PropertyServerException
+    {
+        final String externalIdGUIDParameterName = "externalIdEntity.getGUID()";
+
+        invalidParameterHandler.validateGUID(scopeGUID, scopeParameterName, methodName);
+        invalidParameterHandler.validateStringArray(externalIdentifiers, externalIdentifiersParameterName, methodName);
 
-        List<EntityDetail> matchingExternalIds = this.getEntitiesByValue(userId,
+        Map<String, EntityDetail> externalIdEntities = new HashMap<>();
+
+        for (String externalIdentifier : externalIdentifiers)
+        {
+            if ((externalIdentifier != null) && (! externalIdEntities.containsKey(externalIdentifier)))
+            {
+                EntityDetail externalIdEntity = this.getExternalIdEntity(userId,
                                                                          externalIdentifier,
-                                                                         externalIdentifierParameterName,
-                                                                         OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_GUID,
+                                                                         externalIdentifiersParameterName,
+                                                                         scopeGUID,
+                                                                         scopeParameterName,
+                                                                         scopeQualifiedName,
+                                                                         scopeTypeName,
+                                                                         forLineage,
+                                                                         forDuplicateProcessing,
+                                                                         effectiveTime,
+                                                                         methodName);
+
+                if (externalIdEntity != null)
+                {
+                    externalIdEntities.put(externalIdentifier, externalIdEntity);
+                }
+            }
+        }
+
+        Map<String, List<String>> results = new HashMap<>();
+
+        for (Map.Entry<String, EntityDetail> externalIdEntry : externalIdEntities.entrySet())
+        {
+            List<Relationship> externalIdLinks = this.getAttachmentLinks(userId,
+                                                                         externalIdEntry.getValue(),
+                                                                         externalIdGUIDParameterName,
                                                                          OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
-                                                                         propertyNames,
-                                                                         true,
-                                                                         false,
-                                                                         null,
+                                                                         OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_GUID,
+                                                                         OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME,
                                                                          null,
+                                                                         OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
+                                                                         1,
                                                                          forLineage,
                                                                          forDuplicateProcessing,
                                                                          supportedZones,
-                                                                         null,
                                                                          0,
                                                                          invalidParameterHandler.getMaxPagingSize(),
                                                                          effectiveTime,
                                                                          methodName);
 
-
-        if (matchingExternalIds != null)
-        {
-            final String matchingEntityGUIDParameterName = "matchingEntity.getGUID()";
-
-            for (EntityDetail matchingExternalId : matchingExternalIds)
+            if (externalIdLinks != null)
             {
-                if (matchingExternalId != null)
+                List<String> elementGUIDs = new ArrayList<>();
+
+                for (Relationship externalIdLink : externalIdLinks)
                 {
-                    /*
-                     * Is this externalId connected to the right scope
-                     */
-                    List<Relationship> externalIdRelationships = this.getAttachmentLinks(userId,
-                                                                                         matchingExternalId,
-                                                                                         matchingEntityGUIDParameterName,
-                                                                                         OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
-                                                                                         OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_GUID,
-                                                                                         OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_NAME,
-                                                                                         scopeGUID,
-                                                                                         scopeTypeName,
-                                                                                         1,
-                                                                                         forLineage,
-                                                                                         forDuplicateProcessing,
-                                                                                         supportedZones,
-                                                                                         0,
-                                                                                         invalidParameterHandler.getMaxPagingSize(),
-                                                                                         effectiveTime,
-                                                                                         methodName);
-
-                    if ((externalIdRelationships != null) && (externalIdRelationships.isEmpty()))
+                    if ((externalIdLink != null) && (externalIdLink.getEntityOneProxy() != null))
                     {
-                        /*
-                         * ExternalId is connected to the right scope
-                         */
-                        return this.getElementHeaders(userId,
-                                                      matchingExternalId,
-                                                      matchingEntityGUIDParameterName,
-                                                      startingFrom,
-                                                      pageSize,
-                                                      forLineage,
-                                                      forDuplicateProcessing,
-                                                      effectiveTime,
-                                                      methodName);
+                        elementGUIDs.add(externalIdLink.getEntityOneProxy().getGUID());
                     }
                 }
+
+                if (! elementGUIDs.isEmpty())
+                {
+                    results.put(externalIdEntry.getKey(), elementGUIDs);
+                }
             }
         }
 
-        return null;
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
     }
 
 
@@ -35,6 +35,12 @@ import java.util.Map;
  */
 public class GlossaryTermHandler<B> extends ReferenceableHandler<B>
 {
+    /*
+     * Number of pages retrieved in the background while a search for terms is filtered by glossary or status.
+     */
+    private static final int FILTERED_SEARCH_PREFETCH_PAGES = 2;
+
+
     /**
      * Construct the glossary term handler caching the objects needed to operate within a single server instance.
      *
@@ -2086,6 +2092,16 @@ public class GlossaryTermHandler<B> extends ReferenceableHandler<B>
                                                                          effectiveTime,
                                                                          methodName);
 
+        /*
+         * Filtering by glossary or status may discard most of each page, so the following pages are
+         * retrieved while the current one is filtered.
+         */
+        if ((glossaryGUID != null) || (limitResultsByStatus != null))
+        {
+            iterator.setPrefetchPages(FILTERED_SEARCH_PREFETCH_PAGES);
+            iterator.setAdaptivePageSize(true);
+        }
+
         List<B> results = new ArrayList<>();
 
         while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
@@ -2130,6 +2146,11 @@ public class GlossaryTermHandler<B> extends ReferenceableHandler<B>
             }
         }
 
+        /*
+         * Stop any background retrieval of pages that are not needed because the page of results is full.
+         */
+        iterator.close();
+
         if (! results.isEmpty())
         {
             return results;
@@ -2194,6 +2215,16 @@ public class GlossaryTermHandler<B> extends ReferenceableHandler<B>
                                                                          effectiveTime,
                                                                          methodName);
 
+        /*
+         * Filtering by glossary or status may discard most of each page, so the following pages are
+         * retrieved while the current one is filtered.
+         */
+        if ((glossaryGUID != null) || (limitResultsByStatus != null))
+        {
+            iterator.setPrefetchPages(FILTERED_SEARCH_PREFETCH_PAGES);
+            iterator.setAdaptivePageSize(true);
+        }
+
         List<B> results = new ArrayList<>();
 
         while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
@@ -2282,6 +2313,11 @@ public class GlossaryTermHandler<B> extends ReferenceableHandler<B>
             }
         }
 
+        /*
+         * Stop any background retrieval of pages that are not needed because the page of results is full.
+         */
+        iterator.close();
+
         if (! results.isEmpty())
         {
             return results;
@@ -0,0 +1,551 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.mockito.ArgumentCaptor;
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.generichandlers.ffdc.GenericHandlersAuditCode;
+import org.odpi.openmetadata.commonservices.generichandlers.ffdc.GenericHandlersErrorCode;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Test that EngineActionHandler lets only one caller claim each engine action, and that the batch claim finds
+ * every approved engine action even though the engine actions that it claims drop out of its query.  The repository
+ * is simulated by a subclass of the handler and a mock repository handler that read and update the engine actions
+ * held in memory.
+ */
+public class EngineActionHandlerClaimTest
+{
+    private static final String serviceName          = "TestService";
+    private static final String governanceEngineGUID = "governance-engine-guid";
+    private static final String methodName           = "testMethod";
+
+    private StubEngineActionHandler handler  = null;
+    private AuditLog                auditLog = null;
+
+
+    /**
+     * Set up a handler with an empty set of engine actions and a page size of two.
+     *
+     * @throws Exception problem creating the handler
+     */
+    @BeforeMethod public void createHandler() throws Exception
+    {
+        OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class);
+
+        when(repositoryHelper.getStringProperty(eq(serviceName), anyString(), any(), anyString())).thenAnswer(invocation ->
+        {
+            InstanceProperties properties   = invocation.getArgument(2);
+            String             propertyName = invocation.getArgument(1);
+
+            if ((properties == null) || (properties.getPropertyValue(propertyName) == null))
+            {
+                return null;
+            }
+
+            return properties.getPropertyValue(propertyName).valueAsString();
+        });
+
+        when(repositoryHelper.getEnumPropertyOrdinal(eq(serviceName), anyString(), any(), anyString())).thenAnswer(invocation ->
+        {
+            InstanceProperties properties = invocation.getArgument(2);
+
+            return ((EnumPropertyValue) properties.getPropertyValue(invocation.getArgument(1))).getOrdinal();
+        });
+
+        InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
+
+        invalidParameterHandler.setMaxPagingSize(2);
+
+        auditLog = mock(AuditLog.class);
+        handler  = new StubEngineActionHandler(invalidParameterHandler, mock(RepositoryHandler.class), repositoryHelper, auditLog);
+    }
+
+
+    /**
+     * Callers that claim the same engine action at the same time are all rejected, apart from one, with the
+     * error that the engine host recognizes as "already claimed".
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testConcurrentClaims() throws Exception
+    {
+        final int callers = 8;
+
+        handler.addEngineAction("ea-1", "requestType");
+        handler.readDelay = 20;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch  start    = new CountDownLatch(1);
+
+        try
+        {
+            List<Future<Object>> claims = new ArrayList<>();
+
+            for (int i = 0; i < callers; i++)
+            {
+                String userId = "engineHost" + i;
+
+                claims.add(executor.submit(() ->
+                {
+                    start.await();
+
+                    return handler.claimAndStartEngineAction(userId, "ea-1", null, null, methodName);
+                }));
+            }
+
+            start.countDown();
+
+            int successfulClaims = 0;
+
+            for (Future<Object> claim : claims)
+            {
+                try
+                {
+                    assertEquals(claim.get(10, TimeUnit.SECONDS), "ea-1");
+                    successfulClaims++;
+                }
+                catch (ExecutionException error)
+                {
+                    assertClaimedElsewhere(error.getCause());
+                }
+            }
+
+            assertEquals(successfulClaims, 1);
+            assertEquals(handler.updateCount, 1);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * A claim that arrives while another caller is waiting for the repositories to return the same engine action
+     * is rejected straight away rather than waiting for the first claim.  Claims for other engine actions go ahead.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testClaimDoesNotWaitForRepositoryCall() throws Exception
+    {
+        handler.addEngineAction("ea-1", "requestType");
+        handler.addEngineAction("ea-2", "requestType");
+        handler.blockedGUID = "ea-1";
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try
+        {
+            Future<Object> firstClaim = executor.submit((Callable<Object>) () -> handler.claimAndStartEngineAction("engineHost1", "ea-1", null, null, methodName));
+
+            assertTrue(handler.readStarted.await(10, TimeUnit.SECONDS));
+
+            try
+            {
+                handler.claimAndStartEngineAction("engineHost2", "ea-1", null, null, methodName);
+                fail("Second claim of ea-1 was accepted");
+            }
+            catch (PropertyServerException error)
+            {
+                assertClaimedElsewhere(error);
+            }
+
+            assertEquals(handler.claimAndStartEngineAction("engineHost2", "ea-2", null, null, methodName), "ea-2");
+
+            handler.releaseRead.countDown();
+
+            assertEquals(firstClaim.get(10, TimeUnit.SECONDS), "ea-1");
+        }
+        finally
+        {
+            handler.releaseRead.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * The batch claim claims every approved engine action that it supports, even though each claim removes the engine
+     * action from the query and moves the later engine actions onto earlier pages.  Unsupported engine actions are
+     * left for other engine hosts.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testBatchClaimFindsAllApprovedEngineActions() throws Exception
+    {
+        for (int i = 1; i <= 7; i++)
+        {
+            handler.addEngineAction("ea-" + i, (i == 2) ? "otherRequestType" : "requestType");
+        }
+
+        List<Object> claimed = handler.claimAndStartEngineActions("engineHost1",
+                                                                  governanceEngineGUID,
+                                                                  Collections.singletonList("requestType"),
+                                                                  0,
+                                                                  null,
+                                                                  null,
+                                                                  methodName);
+
+        assertEquals(claimed, Arrays.asList("ea-1", "ea-3", "ea-4", "ea-5", "ea-6", "ea-7"));
+        assertNull(handler.engineActions.get("ea-2").processingEngineUserId);
+
+        assertNull(handler.claimAndStartEngineActions("engineHost1",
+                                                      governanceEngineGUID,
+                                                      Collections.singletonList("requestType"),
+                                                      0,
+                                                      null,
+                                                      null,
+                                                      methodName));
+    }
+
+
+    /**
+     * The batch claim stops at the requested number of engine actions and skips the engine actions that another
+     * engine host claims after they are retrieved.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testBatchClaimSkipsEngineActionsClaimedElsewhere() throws Exception
+    {
+        for (int i = 1; i <= 5; i++)
+        {
+            handler.addEngineAction("ea-" + i, "requestType");
+        }
+
+        handler.claimedElsewhereOnRead = "ea-1";
+
+        List<Object> claimed = handler.claimAndStartEngineActions("engineHost1",
+                                                                  governanceEngineGUID,
+                                                                  null,
+                                                                  3,
+                                                                  null,
+                                                                  null,
+                                                                  methodName);
+
+        assertEquals(claimed, Arrays.asList("ea-2", "ea-3", "ea-4"));
+        assertEquals(handler.engineActions.get("ea-1").processingEngineUserId, "otherEngineHost");
+        assertNull(handler.engineActions.get("ea-5").processingEngineUserId);
+    }
+
+
+    /**
+     * The status change that is logged for a claim starts from APPROVED since only approved engine actions can be claimed.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testStatusChangeIsLoggedFromApproved() throws Exception
+    {
+        handler.addEngineAction("ea-1", "requestType");
+        handler.claimAndStartEngineAction("engineHost1", "ea-1", null, null, methodName);
+
+        ArgumentCaptor<AuditLogMessageDefinition> messages = ArgumentCaptor.forClass(AuditLogMessageDefinition.class);
+
+        verify(auditLog, atLeastOnce()).logMessage(eq(methodName), messages.capture());
+
+        AuditLogMessageDefinition statusChange = null;
+
+        for (AuditLogMessageDefinition message : messages.getAllValues())
+        {
+            if (GenericHandlersAuditCode.ENGINE_ACTION_STATUS_CHANGE.getMessageDefinition().getMessageId().equals(message.getMessageId()))
+            {
+                statusChange = message;
+            }
+        }
+
+        assertTrue(statusChange != null);
+        assertEquals(statusChange.getMessageParams()[0], "APPROVED");
+        assertEquals(statusChange.getMessageParams()[1], "IN_PROGRESS");
+    }
+
+
+    /**
+     * Check that the exception is the one that reports that the engine action is claimed by another caller.
+     *
+     * @param error exception from the claim
+     */
+    private void assertClaimedElsewhere(Throwable error)
+    {
+        assertTrue(error instanceof PropertyServerException, "Unexpected exception " + error);
+        assertEquals(((PropertyServerException) error).getReportedErrorMessageId(),
+                     GenericHandlersErrorCode.INVALID_ENGINE_ACTION_STATUS.getMessageDefinition().getMessageId());
+    }
+
+
+    /**
+     * Values of an engine action held by the simulated repository.
+     */
+    private static class StoredEngineAction
+    {
+        int    status = OpenMetadataAPIMapper.APPROVED_EA_STATUS_ORDINAL;
+        String processingEngineUserId = null;
+        String requestType;
+    }
+
+
+    /**
+     * StubEngineActionHandler holds the engine actions in memory.  The mock repository handler answers the query
+     * for approved engine actions, in GUID order, from the same engine actions.
+     */
+    private static class StubEngineActionHandler extends EngineActionHandler<Object>
+    {
+        final Map<String, StoredEngineAction> engineActions = new ConcurrentHashMap<>();
+        final CountDownLatch                  readStarted   = new CountDownLatch(1);
+        final CountDownLatch                  releaseRead   = new CountDownLatch(1);
+
+        volatile long   readDelay              = 0;
+        volatile String blockedGUID            = null;
+        volatile String claimedElsewhereOnRead = null;
+        volatile int    updateCount            = 0;
+
+
+        /**
+         * Constructor.
+         *
+         * @param invalidParameterHandler handler supplying the page size
+         * @param repositoryHandler mock repository handler
+         * @param repositoryHelper helper for reading the properties of the entities
+         * @param auditLog audit log for the claims
+         */
+        StubEngineActionHandler(InvalidParameterHandler invalidParameterHandler,
+                                RepositoryHandler       repositoryHandler,
+                                OMRSRepositoryHelper    repositoryHelper,
+                                AuditLog                auditLog) throws Exception
+        {
+            super(null,
+                  Object.class,
+                  EngineActionHandlerClaimTest.serviceName,
+                  "TestServer",
+                  invalidParameterHandler,
+                  repositoryHandler,
+                  repositoryHelper,
+                  "localServerUserId",
+                  null,
+                  null,
+                  null,
+                  null,
+                  auditLog);
+
+            when(repositoryHandler.getEntitiesByAllProperties(anyString(), any(), anyString(), anyString(), anyBoolean(),
+                                                              anyBoolean(), anyInt(), anyInt(), any(), anyString())).thenAnswer(invocation ->
+            {
+                int startFrom = invocation.getArgument(6);
+                int pageSize  = invocation.getArgument(7);
+
+                List<EntityDetail> approvedEngineActions = new ArrayList<>();
+
+                for (Map.Entry<String, StoredEngineAction> engineAction : new TreeMap<>(engineActions).entrySet())
+                {
+                    if (engineAction.getValue().status == OpenMetadataAPIMapper.APPROVED_EA_STATUS_ORDINAL)
+                    {
+                        approvedEngineActions.add(getEntity(engineAction.getKey(), engineAction.getValue()));
+                    }
+                }
+
+                if (startFrom >= approvedEngineActions.size())
+                {
+                    return null;
+                }
+
+                return new ArrayList<>(approvedEngineActions.subList(startFrom, Math.min(startFrom + pageSize, approvedEngineActions.size())));
+            });
+        }
+
+
+        /**
+         * Add an approved engine action to the simulated repository.
+         *
+         * @param engineActionGUID unique identifier of the engine action
+         * @param requestType request type of the engine action
+         */
+        void addEngineAction(String engineActionGUID,
+                             String requestType)
+        {
+            StoredEngineAction engineAction = new StoredEngineAction();
+
+            engineAction.requestType = requestType;
+            engineActions.put(engineActionGUID, engineAction);
+        }
+
+
+        /**
+         * Return the entity for an engine action.
+         *
+         * @param engineActionGUID unique identifier of the engine action
+         * @param engineAction stored values
+         * @return entity
+         */
+        private EntityDetail getEntity(String             engineActionGUID,
+                                       StoredEngineAction engineAction)
+        {
+            InstanceProperties properties = new InstanceProperties();
+            EnumPropertyValue  status     = new EnumPropertyValue();
+
+            status.setOrdinal(engineAction.status);
+            properties.setProperty(OpenMetadataAPIMapper.ACTION_STATUS_PROPERTY_NAME, status);
+            properties.setProperty(OpenMetadataAPIMapper.REQUEST_TYPE_PROPERTY_NAME, getStringValue(engineAction.requestType));
+
+            if (engineAction.processingEngineUserId != null)
+            {
+                properties.setProperty(OpenMetadataAPIMapper.PROCESSING_ENGINE_USER_ID_PROPERTY_NAME,
+                                       getStringValue(engineAction.processingEngineUserId));
+            }
+
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(engineActionGUID);
+            entity.setProperties(properties);
+
+            return entity;
+        }
+
+
+        /**
+         * Return a string property value.
+         *
+         * @param value string
+         * @return property value
+         */
+        private PrimitivePropertyValue getStringValue(String value)
+        {
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+            propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            propertyValue.setPrimitiveValue(value);
+
+            return propertyValue;
+        }
+
+
+        /**
+         * Return the current values of an engine action, after the configured delay.
+         */
+        @Override
+        public EntityDetail getEntityFromRepository(String       userId,
+                                                    String       requestedEntityGUID,
+                                                    String       requestedEntityGUIDParameterName,
+                                                    String       requestedEntityTypeName,
+                                                    String       requiredClassificationName,
+                                                    String       omittedClassificationName,
+                                                    boolean      forLineage,
+                                                    boolean      forDuplicateProcessing,
+                                                    List<String> serviceSupportedZones,
+                                                    Date         effectiveTime,
+                                                    String       methodName) throws PropertyServerException
+        {
+            try
+            {
+                if (requestedEntityGUID.equals(blockedGUID))
+                {
+                    readStarted.countDown();
+                    releaseRead.await(10, TimeUnit.SECONDS);
+                }
+                else if (readDelay > 0)
+                {
+                    Thread.sleep(readDelay);
+                }
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            StoredEngineAction engineAction = engineActions.get(requestedEntityGUID);
+
+            if (requestedEntityGUID.equals(claimedElsewhereOnRead))
+            {
+                engineAction.status                 = OpenMetadataAPIMapper.IN_PROGRESS_EA_STATUS_ORDINAL;
+                engineAction.processingEngineUserId = "otherEngineHost";
+            }
+
+            return getEntity(requestedEntityGUID, engineAction);
+        }
+
+
+        /**
+         * Record the claim of an engine action.
+         */
+        @Override
+        public void updateBeanInRepository(String             userId,
+                                           String             externalSourceGUID,
+                                           String             externalSourceName,
+                                           String             entityGUID,
+                                           String             entityGUIDParameterName,
+                                           String             entityTypeGUID,
+                                           String             entityTypeName,
+                                           boolean            forLineage,
+                                           boolean            forDuplicateProcessing,
+                                           List<String>       serviceSupportedZones,
+                                           InstanceProperties updateProperties,
+                                           boolean            isMergeUpdate,
+                                           Date               effectiveTime,
+                                           String             methodName)
+        {
+            StoredEngineAction engineAction = engineActions.get(entityGUID);
+
+            engineAction.status                 = OpenMetadataAPIMapper.IN_PROGRESS_EA_STATUS_ORDINAL;
+            engineAction.processingEngineUserId = userId;
+
+            synchronized (this)
+            {
+                updateCount++;
+            }
+        }
+
+
+        /**
+         * Return the unique identifier of the engine action as its bean.
+         */
+        @Override
+        public Object getEngineAction(String       userId,
+                                      String       engineActionGUID,
+                                      List<String> serviceSupportedZones,
+                                      Date         effectiveTime,
+                                      String       methodName)
+        {
+            return engineActionGUID;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Test the lookup, replacement, invalidation and eviction of the entries in the ExternalIdentifierCorrelationIndex.
+ */
+public class ExternalIdentifierCorrelationIndexTest
+{
+    private static final String scopeGUID      = "scope-guid";
+    private static final String otherScopeGUID = "other-scope-guid";
+
+
+    /**
+     * Identifiers are looked up within their scope.
+     */
+    @Test public void testSaveAndGet()
+    {
+        ExternalIdentifierCorrelationIndex correlationIndex = new ExternalIdentifierCorrelationIndex();
+
+        correlationIndex.saveCorrelation(scopeGUID, "id-1", "external-id-1");
+        correlationIndex.saveCorrelation(otherScopeGUID, "id-1", "external-id-2");
+
+        assertEquals(correlationIndex.getExternalIdGUID(scopeGUID, "id-1"), "external-id-1");
+        assertEquals(correlationIndex.getExternalIdGUID(otherScopeGUID, "id-1"), "external-id-2");
+        assertNull(correlationIndex.getExternalIdGUID(scopeGUID, "id-2"));
+        assertEquals(correlationIndex.getCorrelationCount(), 2);
+    }
+
+
+    /**
+     * Incomplete correlations are ignored and a new correlation for the same identifier replaces the old one.
+     */
+    @Test public void testReplaceAndIgnore()
+    {
+        ExternalIdentifierCorrelationIndex correlationIndex = new ExternalIdentifierCorrelationIndex();
+
+        correlationIndex.saveCorrelation(null, "id-1", "external-id-1");
+        correlationIndex.saveCorrelation(scopeGUID, null, "external-id-1");
+        correlationIndex.saveCorrelation(scopeGUID, "id-1", null);
+
+        assertEquals(correlationIndex.getCorrelationCount(), 0);
+
+        correlationIndex.saveCorrelation(scopeGUID, "id-1", "external-id-1");
+        correlationIndex.saveCorrelation(scopeGUID, "id-1", "external-id-2");
+
+        assertEquals(correlationIndex.getExternalIdGUID(scopeGUID, "id-1"), "external-id-2");
+        assertEquals(correlationIndex.getCorrelationCount(), 1);
+
+        /*
+         * The replaced ExternalId entity no longer has any entries to remove.
+         */
+        correlationIndex.removeExternalId("external-id-1");
+
+        assertEquals(correlationIndex.getExternalIdGUID(scopeGUID, "id-1"), "external-id-2");
+    }
+
+
+    /**
+     * Entries can be removed by identifier or by ExternalId entity.
+     */
+    @Test public void testRemove()
+    {
+        ExternalIdentifierCorrelationIndex correlationIndex = new ExternalIdentifierCorrelationIndex();
+
+        correlationIndex.saveCorrelation(scopeGUID, "id-1", "external-id-1");
+        correlationIndex.saveCorrelation(otherScopeGUID, "id-1", "external-id-1");
+        correlationIndex.saveCorrelation(scopeGUID, "id-2", "external-id-2");
+
+        correlationIndex.removeCorrelation(scopeGUID, "id-2");
+
+        assertNull(correlationIndex.getExternalIdGUID(scopeGUID, "id-2"));
+        assertEquals(correlationIndex.getCorrelationCount(), 2);
+
+        correlationIndex.removeExternalId("external-id-1");
+
+        assertNull(correlationIndex.getExternalIdGUID(scopeGUID, "id-1"));
+        assertNull(correlationIndex.getExternalIdGUID(otherScopeGUID, "id-1"));
+        assertEquals(correlationIndex.getCorrelationCount(), 0);
+    }
+
+
+    /**
+     * The least recently used entry is evicted when the index is full, and a size of zero disables the index.
+     */
+    @Test public void testEviction()
+    {
+        ExternalIdentifierCorrelationIndex correlationIndex = new ExternalIdentifierCorrelationIndex(2);
+
+        correlationIndex.saveCorrelation(scopeGUID, "id-1", "external-id-1");
+        correlationIndex.saveCorrelation(scopeGUID, "id-2", "external-id-2");
+
+        assertEquals(correlationIndex.getExternalIdGUID(scopeGUID, "id-1"), "external-id-1");
+
+        correlationIndex.saveCorrelation(scopeGUID, "id-3", "external-id-3");
+
+        assertEquals(correlationIndex.getCorrelationCount(), 2);
+        assertEquals(correlationIndex.getExternalIdGUID(scopeGUID, "id-1"), "external-id-1");
+        assertNull(correlationIndex.getExternalIdGUID(scopeGUID, "id-2"));
+        assertEquals(correlationIndex.getExternalIdGUID(scopeGUID, "id-3"), "external-id-3");
+
+        ExternalIdentifierCorrelationIndex disabledIndex = new ExternalIdentifierCorrelationIndex(0);
+
+        disabledIndex.saveCorrelation(scopeGUID, "id-1", "external-id-1");
+
+        assertNull(disabledIndex.getExternalIdGUID(scopeGUID, "id-1"));
+    }
+}
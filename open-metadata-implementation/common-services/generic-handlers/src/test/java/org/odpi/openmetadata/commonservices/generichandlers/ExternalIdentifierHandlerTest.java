@@ -0,0 +1,411 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryIteratorForEntities;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Test that ExternalIdentifierHandler.getElementGUIDsForExternalIdentifiers resolves a batch of external identifiers
+ * through the correlation index and the identifier search.  The repository is simulated by a subclass of the handler
+ * that replaces the methods that call the repository handler.
+ */
+public class ExternalIdentifierHandlerTest
+{
+    private static final String serviceName      = "TestService";
+    private static final String userId           = "testUser";
+    private static final String scopeGUID        = "scope-guid";
+    private static final String scopeName        = "TestScope";
+    private static final String otherScopeGUID   = "other-scope-guid";
+    private static final String methodName       = "testMethod";
+
+    private StubExternalIdentifierHandler handler = null;
+
+
+    /**
+     * Set up a handler with external identifiers in two scopes.
+     *
+     * @throws Exception problem creating the handler
+     */
+    @BeforeMethod public void createHandler() throws Exception
+    {
+        OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class);
+
+        when(repositoryHelper.getStringProperty(eq(serviceName), anyString(), any(), anyString())).thenAnswer(invocation ->
+        {
+            InstanceProperties properties   = invocation.getArgument(2);
+            String             propertyName = invocation.getArgument(1);
+
+            if ((properties == null) || (properties.getPropertyValue(propertyName) == null))
+            {
+                return null;
+            }
+
+            return properties.getPropertyValue(propertyName).valueAsString();
+        });
+
+        handler = new StubExternalIdentifierHandler(repositoryHelper);
+
+        handler.addExternalId("external-id-a", "A", scopeGUID, "element-1");
+        handler.addExternalId("external-id-b", "B", scopeGUID, "element-2", "element-3");
+        handler.addExternalId("external-id-c", "C", otherScopeGUID, "element-4");
+    }
+
+
+    /**
+     * Identifiers are found by searching on the identifier and checking the scope.  Identifiers from other scopes,
+     * or with no ExternalId entity, are omitted.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testResolveIdentifiers() throws Exception
+    {
+        Map<String, List<String>> results = resolve(Arrays.asList("A", "B", "C", "D", "A"));
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get("A"), Collections.singletonList("element-1"));
+        assertEquals(results.get("B"), Arrays.asList("element-2", "element-3"));
+        assertEquals(handler.searchCount, 4);
+
+        assertNull(resolve(Arrays.asList("C", "D")));
+    }
+
+
+    /**
+     * Identifiers found by an earlier request are read from the correlation index and only the misses are searched for.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testIndexedIdentifiersAreNotSearched() throws Exception
+    {
+        resolve(Arrays.asList("A", "B"));
+
+        handler.searchCount = 0;
+        handler.addExternalId("external-id-e", "E", scopeGUID, "element-5");
+
+        Map<String, List<String>> results = resolve(Arrays.asList("A", "B", "E"));
+
+        assertEquals(results.size(), 3);
+        assertEquals(results.get("E"), Collections.singletonList("element-5"));
+        assertEquals(handler.searchCount, 1);
+    }
+
+
+    /**
+     * An index entry that no longer matches the repository is dropped and the identifier is searched for again.
+     *
+     * @throws Exception problem in the test
+     */
+    @Test public void testStaleIndexEntry() throws Exception
+    {
+        resolve(Collections.singletonList("A"));
+
+        handler.externalIdEntities.remove("external-id-a");
+        handler.addExternalId("external-id-a2", "A", scopeGUID, "element-6");
+        handler.searchCount = 0;
+
+        Map<String, List<String>> results = resolve(Collections.singletonList("A"));
+
+        assertEquals(results.get("A"), Collections.singletonList("element-6"));
+        assertEquals(handler.searchCount, 1);
+
+        handler.invalidateCorrelations("external-id-a2");
+        handler.searchCount = 0;
+
+        resolve(Collections.singletonList("A"));
+
+        assertEquals(handler.searchCount, 1);
+    }
+
+
+    /**
+     * Resolve a list of identifiers in the test scope.
+     *
+     * @param externalIdentifiers identifiers to resolve
+     * @return map of identifier to element GUIDs
+     * @throws Exception problem in the handler
+     */
+    private Map<String, List<String>> resolve(List<String> externalIdentifiers) throws Exception
+    {
+        return handler.getElementGUIDsForExternalIdentifiers(userId,
+                                                             scopeGUID,
+                                                             "scopeGUID",
+                                                             OpenMetadataAPIMapper.SOFTWARE_CAPABILITY_TYPE_NAME,
+                                                             scopeName,
+                                                             externalIdentifiers,
+                                                             "externalIdentifiers",
+                                                             false,
+                                                             false,
+                                                             new Date(),
+                                                             methodName);
+    }
+
+
+    /**
+     * StubExternalIdentifierHandler holds the ExternalId entities, their scopes and linked elements in memory.
+     */
+    private static class StubExternalIdentifierHandler extends ExternalIdentifierHandler<Object, Object>
+    {
+        final Map<String, EntityDetail> externalIdEntities = new HashMap<>();
+        final Map<String, String>       scopes             = new HashMap<>();
+        final Map<String, List<String>> elements           = new HashMap<>();
+        int                             searchCount        = 0;
+
+
+        /**
+         * Constructor.
+         *
+         * @param repositoryHelper helper for reading the properties of the entities
+         */
+        StubExternalIdentifierHandler(OMRSRepositoryHelper repositoryHelper)
+        {
+            super(null,
+                  Object.class,
+                  null,
+                  Object.class,
+                  ExternalIdentifierHandlerTest.serviceName,
+                  "TestServer",
+                  new InvalidParameterHandler(),
+                  null,
+                  repositoryHelper,
+                  "localServerUserId",
+                  null,
+                  null,
+                  null,
+                  null,
+                  null);
+        }
+
+
+        /**
+         * Add an ExternalId entity to the simulated repository.
+         *
+         * @param externalIdGUID unique identifier of the entity
+         * @param identifier external identifier
+         * @param scopeGUID scope that the entity is linked to
+         * @param elementGUIDs elements linked to the entity
+         */
+        void addExternalId(String    externalIdGUID,
+                           String    identifier,
+                           String    scopeGUID,
+                           String... elementGUIDs)
+        {
+            InstanceType instanceType = new InstanceType();
+
+            instanceType.setTypeDefName(OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME);
+
+            PrimitivePropertyValue identifierValue = new PrimitivePropertyValue();
+
+            identifierValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            identifierValue.setPrimitiveValue(identifier);
+
+            InstanceProperties properties = new InstanceProperties();
+
+            properties.setProperty(OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME, identifierValue);
+
+            EntityDetail externalIdEntity = new EntityDetail();
+
+            externalIdEntity.setGUID(externalIdGUID);
+            externalIdEntity.setType(instanceType);
+            externalIdEntity.setProperties(properties);
+
+            externalIdEntities.put(externalIdGUID, externalIdEntity);
+            scopes.put(externalIdGUID, scopeGUID);
+            elements.put(externalIdGUID, Arrays.asList(elementGUIDs));
+        }
+
+
+        /**
+         * Return the ExternalId entities with a matching identifier.
+         */
+        @Override
+        RepositoryIteratorForEntities getEntitySearchIterator(String       userId,
+                                                              String       searchString,
+                                                              String       resultTypeGUID,
+                                                              String       resultTypeName,
+                                                              List<String> specificMatchPropertyNames,
+                                                              boolean      exactValueMatch,
+                                                              boolean      caseInsensitive,
+                                                              String       sequencingPropertyName,
+                                                              boolean      forLineage,
+                                                              boolean      forDuplicateProcessing,
+                                                              int          startFrom,
+                                                              int          queryPageSize,
+                                                              Date         effectiveTime,
+                                                              String       methodName) throws InvalidParameterException
+        {
+            searchCount++;
+
+            List<EntityDetail> matches = new ArrayList<>();
+
+            for (EntityDetail externalIdEntity : externalIdEntities.values())
+            {
+                if (searchString.equals(externalIdEntity.getProperties().getPropertyValue(OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME).valueAsString()))
+                {
+                    matches.add(externalIdEntity);
+                }
+            }
+
+            return new RepositoryIteratorForEntities(null,
+                                                     invalidParameterHandler,
+                                                     userId,
+                                                     resultTypeGUID,
+                                                     resultTypeName,
+                                                     sequencingPropertyName,
+                                                     forLineage,
+                                                     forDuplicateProcessing,
+                                                     startFrom,
+                                                     queryPageSize,
+                                                     effectiveTime,
+                                                     methodName)
+            {
+                @Override
+                public boolean moreToReceive()
+                {
+                    if (entitiesCache == null)
+                    {
+                        entitiesCache = matches;
+                    }
+
+                    return ! entitiesCache.isEmpty();
+                }
+            };
+        }
+
+
+        /**
+         * Return an ExternalId entity by unique identifier.
+         */
+        @Override
+        public EntityDetail getEntityFromRepository(String       userId,
+                                                    String       requestedEntityGUID,
+                                                    String       requestedEntityGUIDParameterName,
+                                                    String       requestedEntityTypeName,
+                                                    String       requiredClassificationName,
+                                                    String       omittedClassificationName,
+                                                    boolean      forLineage,
+                                                    boolean      forDuplicateProcessing,
+                                                    List<String> serviceSupportedZones,
+                                                    Date         effectiveTime,
+                                                    String       methodName)
+        {
+            return externalIdEntities.get(requestedEntityGUID);
+        }
+
+
+        /**
+         * Return the ExternalIdScope relationship between an ExternalId entity and the requested scope.
+         */
+        @Override
+        public List<Relationship> getAttachmentLinks(String       userId,
+                                                     String       startingGUID,
+                                                     String       startingGUIDParameterName,
+                                                     String       startingTypeName,
+                                                     String       attachmentRelationshipTypeGUID,
+                                                     String       attachmentRelationshipTypeName,
+                                                     String       attachmentEntityGUID,
+                                                     String       attachmentEntityTypeName,
+                                                     int          attachmentEntityEnd,
+                                                     boolean      forLineage,
+                                                     boolean      forDuplicateProcessing,
+                                                     List<String> serviceSupportedZones,
+                                                     int          startingFrom,
+                                                     int          pageSize,
+                                                     Date         effectiveTime,
+                                                     String       methodName)
+        {
+            if ((OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_NAME.equals(attachmentRelationshipTypeName)) &&
+                (attachmentEntityGUID != null) && (attachmentEntityGUID.equals(scopes.get(startingGUID))))
+            {
+                return Collections.singletonList(getRelationship(attachmentEntityGUID, startingGUID));
+            }
+
+            return null;
+        }
+
+
+        /**
+         * Return the ExternalIdLink relationships between an ExternalId entity and its elements.
+         */
+        @Override
+        public List<Relationship> getAttachmentLinks(String       userId,
+                                                     EntityDetail startingEntity,
+                                                     String       startingGUIDParameterName,
+                                                     String       startingTypeName,
+                                                     String       attachmentRelationshipTypeGUID,
+                                                     String       attachmentRelationshipTypeName,
+                                                     String       attachmentEntityGUID,
+                                                     String       attachmentEntityTypeName,
+                                                     int          attachmentEntityEnd,
+                                                     boolean      forLineage,
+                                                     boolean      forDuplicateProcessing,
+                                                     List<String> serviceSupportedZones,
+                                                     int          startingFrom,
+                                                     int          pageSize,
+                                                     Date         effectiveTime,
+                                                     String       methodName)
+        {
+            List<Relationship> externalIdLinks = new ArrayList<>();
+
+            for (String elementGUID : elements.get(startingEntity.getGUID()))
+            {
+                externalIdLinks.add(getRelationship(elementGUID, startingEntity.getGUID()));
+            }
+
+            return externalIdLinks;
+        }
+
+
+        /**
+         * Return a relationship between two entities.
+         *
+         * @param endOneGUID unique identifier of the entity at end one
+         * @param endTwoGUID unique identifier of the entity at end two
+         * @return relationship
+         */
+        private Relationship getRelationship(String endOneGUID,
+                                             String endTwoGUID)
+        {
+            EntityProxy endOne = new EntityProxy();
+            EntityProxy endTwo = new EntityProxy();
+
+            endOne.setGUID(endOneGUID);
+            endTwo.setGUID(endTwoGUID);
+
+            Relationship relationship = new Relationship();
+
+            relationship.setEntityOneProxy(endOne);
+            relationship.setEntityTwoProxy(endTwo);
+
+            return relationship;
+        }
+    }
+}
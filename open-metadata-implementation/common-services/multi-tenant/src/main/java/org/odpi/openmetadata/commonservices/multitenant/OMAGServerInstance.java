@@ -12,6 +12,7 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.serveroperations.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
@@ -19,12 +20,12 @@ import java.util.*;
  */
 class OMAGServerInstance
 {
-    private final String                             serverName;
-    private String                                   serverType;
-    private final List<OMAGServerInstanceHistory>    serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance>   serviceInstanceMap = new HashMap<>();
-    private Date                                     serverStartTime    = new Date();
-    private final OpenMetadataServerSecurityVerifier securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private final String                                    serverName;
+    private String                                          serverType;
+    private final List<OMAGServerInstanceHistory>           serverHistory      = new ArrayList<>();
+    private volatile Map<String, OMAGServerServiceInstance> serviceInstanceMap = new ConcurrentHashMap<>();
+    private Date                                            serverStartTime    = new Date();
+    private final OpenMetadataServerSecurityVerifier        securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -181,7 +182,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -205,7 +206,8 @@ class OMAGServerInstance
 
 
     /**
-     * Return the properties for this running service or exceptions if there are problems.
+     * Return the properties for this running service or exceptions if there are problems.  This is called for every
+     * inbound request so it does not lock the server instance.
      *
      * @param userId calling user
      * @param serviceName server name
@@ -215,10 +217,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -269,7 +271,7 @@ class OMAGServerInstance
 
         if (!serviceInstanceMap.isEmpty())
         {
-            this.serviceInstanceMap = new HashMap<>();
+            this.serviceInstanceMap = new ConcurrentHashMap<>();
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICES_NOT_SHUTDOWN.getMessageDefinition(serverName,
                                                                                                                      serviceInstanceMap.keySet().toString()),
                                               this.getClass().getName(),
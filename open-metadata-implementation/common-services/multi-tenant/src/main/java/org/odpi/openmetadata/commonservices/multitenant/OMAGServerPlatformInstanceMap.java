@@ -21,18 +21,22 @@ import org.odpi.openmetadata.serveroperations.properties.OMAGServerInstanceHisto
 import org.odpi.openmetadata.serveroperations.properties.ServerStatus;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerPlatformInstanceMap provides part of the mapping for inbound REST requests to the appropriate
  * service instances for the requested server.  It manages the server name to server instance mapping.
  * The map is maintained in a static, so it is scoped to the class loader.
  * <br><br>
- * Instances of this class call the synchronized static methods to work with the map.
+ * Instances of this class call the synchronized static methods to work with the map.  The exception is the
+ * lookup of the service instance for each inbound request.  It reads the map without taking the class lock
+ * so that requests for different servers (or the same server) do not queue behind each other while the
+ * security verifier checks the caller.
  */
 public class OMAGServerPlatformInstanceMap
 {
-    private static final Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>();
-    private static final Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>();
+    private static final Map<String, OMAGServerInstance> activeServerInstanceMap   = new ConcurrentHashMap<>();
+    private static final Map<String, OMAGServerInstance> inActiveServerInstanceMap = new ConcurrentHashMap<>();
 
 
     /**
@@ -647,12 +651,12 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws PropertyServerException the service name is not know - indicating a logic error
      */
-    private static synchronized OMAGServerServiceInstance getInstanceForPlatform(String  userId,
-                                                                                 String  serverName,
-                                                                                 String  serviceName,
-                                                                                 String  serviceOperationName) throws InvalidParameterException,
-                                                                                                                      UserNotAuthorizedException,
-                                                                                                                      PropertyServerException
+    private static OMAGServerServiceInstance getInstanceForPlatform(String  userId,
+                                                                    String  serverName,
+                                                                    String  serviceName,
+                                                                    String  serviceOperationName) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
     {
         OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
 
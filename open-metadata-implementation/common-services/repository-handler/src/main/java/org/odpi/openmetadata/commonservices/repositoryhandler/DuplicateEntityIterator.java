@@ -33,15 +33,12 @@ public class DuplicateEntityIterator
     private static final String consolidatedDuplicate         = "ConsolidatedDuplicate";
     private static final String consolidatedDuplicateLinkName = "ConsolidatedDuplicateLink";
     private static final String consolidatedDuplicateLinkGUID = "a1fabffd-d6ec-4b2d-bfe4-646f27c07c82";
-    private static final String knownDuplicate                = "KnownDuplicate";
     private static final String peerDuplicateLink             = "PeerDuplicateLink";
     private static final String peerDuplicateLinkGUID         = "a94b2929-9e62-4b12-98ab-8ac45691e5bd";
 
     private static final String statusPropertyName            = "statusIdentifier";
     private static final int    statusThreshold               = 1;
 
-    private static final String memento                       = "Memento";
-
     private static final Logger log = LoggerFactory.getLogger(DuplicateEntityIterator.class);
 
     private final RepositoryHandler       repositoryHandler;
@@ -165,29 +162,7 @@ public class DuplicateEntityIterator
 
             if (! forDuplicateProcessing)
             {
-                boolean deduplicationNeeded = false;
-
-                if (processingEntity.getClassifications() != null)
-                {
-                    for (Classification classification : processingEntity.getClassifications())
-                    {
-                        if (classification != null)
-                        {
-                            /*
-                             * Ignore any classification that is not active at this time.
-                             */
-                            if (repositoryHandler.isCorrectEffectiveTime(classification.getProperties(), effectiveTime))
-                            {
-                                if (knownDuplicate.equals(classification.getName()))
-                                {
-                                    log.debug("KnownDuplicate classification detected");
-                                    deduplicationNeeded = true;
-                                    break;
-                                }
-                            }
-                        }
-                    }
-                }
+                boolean deduplicationNeeded = repositoryHandler.isKnownDuplicate(processingEntity, effectiveTime);
 
                 if (deduplicationNeeded)
                 {
@@ -300,7 +275,7 @@ public class DuplicateEntityIterator
                 }
             }
 
-            if (! isEntityValidToReturn(this.cachedEntity))
+            if (! repositoryHandler.isEntityValidToReturn(this.cachedEntity, forLineage, effectiveTime))
             {
                 this.cachedEntity = null;
             }
@@ -313,70 +288,25 @@ public class DuplicateEntityIterator
 
 
     /**
-     * Validate if the entity matches the request parameters.
-     * @param entity entity to test
-     * @return flag to indicate whether it can be returned
+     * Is there a possibility of more peer entities to process?
+     *
+     * @return flag is not exhausted the possibilities
      */
-    private boolean isEntityValidToReturn(EntityDetail entity)
+    boolean morePeersToReceive()
     {
-        /*
-         * If the processing element is effective at this time, it can be used.
-         */
-        if (repositoryHandler.isCorrectEffectiveTime(entity.getProperties(), effectiveTime))
-        {
-            log.debug("Entity" + entity.getGUID() + " is effective");
-
-            if (entity.getClassifications() != null)
-            {
-                for (Classification classification : entity.getClassifications())
-                {
-                    if (classification != null)
-                    {
-                        /*
-                         * Ignore any classification that is not active at this time.
-                         */
-                        if (repositoryHandler.isCorrectEffectiveTime(classification.getProperties(), effectiveTime))
-                        {
-                            if (memento.equals(classification.getName()))
-                            {
-                                /*
-                                 * The Memento classification means that the element is logically deleted but kept active in the repository
-                                 * to support the linkage needed for lineage.
-                                 */
-                                if (forLineage)
-                                {
-                                    log.debug("Lineage request - Ignoring Memento classification");
-                                }
-                                else
-                                {
-                                    log.debug("Memento classification detected");
-                                    return false;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-
-            log.debug("Entity can be returned");
-            return true;
-        }
-        else
-        {
-            log.debug("Ignoring entity due to effectivity dates");
-            return false;
-        }
+        return (this.cachedEntity != null);
     }
 
 
     /**
-     * Is there a possibility of more peer entities to process?
+     * Return the unique identifiers of the entities that have been processed so far.  Once the iterator is exhausted,
+     * this is the starting entity and all of its peer duplicates.
      *
-     * @return flag is not exhausted the possibilities
+     * @return set of guids
      */
-    boolean morePeersToReceive()
+    Set<String> getProcessedPeerGUIDs()
     {
-        return (this.cachedEntity != null);
+        return processedPeerGUIDs;
     }
 
 
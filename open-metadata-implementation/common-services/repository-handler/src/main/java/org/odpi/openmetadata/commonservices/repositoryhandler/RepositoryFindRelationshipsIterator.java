@@ -109,31 +109,41 @@ public class RepositoryFindRelationshipsIterator extends RepositoryIterator
     public boolean  moreToReceive() throws UserNotAuthorizedException,
                                            PropertyServerException
     {
+        final String localMethodName = "moreToReceive";
+
         if ((relationshipsCache == null) || (relationshipsCache.isEmpty()))
         {
             relationshipsCache = new ArrayList<>();
 
-            /*
-             * The loop is needed to ensure that another retrieve is attempted if the repository handler returns an empty list.
-             * This occurs if all elements returned from the repositories do not match the effectiveTime requested.
-             */
-            while ((relationshipsCache != null) && (relationshipsCache.isEmpty()))
+            try
+            {
+                /*
+                 * The loop is needed to ensure that another retrieve is attempted if the repository handler returns an empty list.
+                 * This occurs if all elements returned from the repositories do not match the effectiveTime requested.
+                 */
+                while ((relationshipsCache != null) && (relationshipsCache.isEmpty()))
+                {
+                    relationshipsCache = this.getNextPage((pageStart, pageLength) -> repositoryHandler.findRelationships(userId,
+                                                                                                                         relationshipTypeGUID,
+                                                                                                                         relationshipSubtypeGUIDs,
+                                                                                                                         searchProperties,
+                                                                                                                         limitResultsByStatus,
+                                                                                                                         asOfTime,
+                                                                                                                         sequencingProperty,
+                                                                                                                         sequencingOrder,
+                                                                                                                         forDuplicateProcessing,
+                                                                                                                         pageStart,
+                                                                                                                         pageLength,
+                                                                                                                         effectiveTime,
+                                                                                                                         methodName));
+                }
+            }
+            catch (InvalidParameterException error)
             {
-                relationshipsCache = repositoryHandler.findRelationships(userId,
-                                                                         relationshipTypeGUID,
-                                                                         relationshipSubtypeGUIDs,
-                                                                         searchProperties,
-                                                                         limitResultsByStatus,
-                                                                         asOfTime,
-                                                                         sequencingProperty,
-                                                                         sequencingOrder,
-                                                                         forDuplicateProcessing,
-                                                                         startingFrom,
-                                                                         pageSize,
-                                                                         effectiveTime,
-                                                                         methodName);
-
-                startingFrom = startingFrom + pageSize;
+                /*
+                 * Not expected because findRelationships does not throw InvalidParameterException.
+                 */
+                repositoryHandler.getErrorHandler().handleRepositoryError(error, methodName, localMethodName);
             }
         }
 
@@ -37,6 +37,8 @@ public class RepositoryHandler
 {
     private static final String consolidatedDuplicateLinkName = "ConsolidatedDuplicateLink";
     private static final String peerDuplicateLink             = "PeerDuplicateLink";
+    private static final String knownDuplicate                = "KnownDuplicate";
+    private static final String memento                       = "Memento";
 
     private final InvalidParameterHandler invalidParameterHandler;
     private final RepositoryErrorHandler  errorHandler;
@@ -105,6 +107,106 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return a flag to indicate whether the entity is linked to other entities that describe the same thing.  The repository
+     * adds the KnownDuplicate classification to every entity that is the subject of a PeerDuplicateLink or ConsolidatedDuplicateLink
+     * relationship, so the classification acts as an index of the entities that need deduplication.  Entities without it
+     * (the vast majority) can be returned without retrieving any duplicate links.
+     *
+     * @param entity entity to test
+     * @param effectiveTime time when the classification must be effective
+     * @return boolean - true = entity has peer or consolidated duplicates
+     */
+    boolean isKnownDuplicate(EntityDetail entity,
+                             Date         effectiveTime)
+    {
+        if (entity.getClassifications() != null)
+        {
+            for (Classification classification : entity.getClassifications())
+            {
+                if (classification != null)
+                {
+                    /*
+                     * Ignore any classification that is not active at this time.
+                     */
+                    if (isCorrectEffectiveTime(classification.getProperties(), effectiveTime))
+                    {
+                        if (knownDuplicate.equals(classification.getName()))
+                        {
+                            log.debug("KnownDuplicate classification detected");
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Validate if the entity matches the request parameters.
+     *
+     * @param entity entity to test
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param effectiveTime time when the entity must be effective
+     * @return flag to indicate whether it can be returned
+     */
+    boolean isEntityValidToReturn(EntityDetail entity,
+                                  boolean      forLineage,
+                                  Date         effectiveTime)
+    {
+        /*
+         * If the processing element is effective at this time, it can be used.
+         */
+        if (isCorrectEffectiveTime(entity.getProperties(), effectiveTime))
+        {
+            log.debug("Entity" + entity.getGUID() + " is effective");
+
+            if (entity.getClassifications() != null)
+            {
+                for (Classification classification : entity.getClassifications())
+                {
+                    if (classification != null)
+                    {
+                        /*
+                         * Ignore any classification that is not active at this time.
+                         */
+                        if (isCorrectEffectiveTime(classification.getProperties(), effectiveTime))
+                        {
+                            if (memento.equals(classification.getName()))
+                            {
+                                /*
+                                 * The Memento classification means that the element is logically deleted but kept active in the repository
+                                 * to support the linkage needed for lineage.
+                                 */
+                                if (forLineage)
+                                {
+                                    log.debug("Lineage request - Ignoring Memento classification");
+                                }
+                                else
+                                {
+                                    log.debug("Memento classification detected");
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            log.debug("Entity can be returned");
+            return true;
+        }
+        else
+        {
+            log.debug("Ignoring entity due to effectivity dates");
+            return false;
+        }
+    }
+
+
     /**
      * Validate that the supplied GUID is for a real entity and map exceptions if not.
      *
@@ -191,6 +293,46 @@ public class RepositoryHandler
                                                 String       methodName) throws InvalidParameterException,
                                                                                 UserNotAuthorizedException,
                                                                                 PropertyServerException
+    {
+        return this.validateRetrievedEntity(userId,
+                                            entity,
+                                            entityTypeName,
+                                            forLineage,
+                                            forDuplicateProcessing,
+                                            effectiveTime,
+                                            null,
+                                            methodName);
+    }
+
+
+    /**
+     * Validate an entity retrieved from the repository is suitable for the requester.  Only entities with the
+     * KnownDuplicate classification need their duplicate links retrieved.  The others are validated without any
+     * further calls to the repository.
+     *
+     * @param userId calling user
+     * @param entity retrieved entity
+     * @param entityTypeName unique name for type of entity
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param effectiveTime   time when the examined elements must be effective
+     * @param resolvedPeerGUIDs optional set that is updated with the guids of the entity and any peer duplicates that were processed
+     * @param methodName calling method
+     * @return entity to return to the caller - or null to mean the retrieved entity is not appropriate for the caller
+     * @throws InvalidParameterException bad parameter
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException problem accessing the repository services
+     */
+    private EntityDetail validateRetrievedEntity(String       userId,
+                                                 EntityDetail entity,
+                                                 String       entityTypeName,
+                                                 boolean      forLineage,
+                                                 boolean      forDuplicateProcessing,
+                                                 Date         effectiveTime,
+                                                 Set<String>  resolvedPeerGUIDs,
+                                                 String       methodName) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 PropertyServerException
     {
         if (entity == null)
         {
@@ -198,6 +340,17 @@ public class RepositoryHandler
             return null;
         }
 
+        if ((forDuplicateProcessing) || (! this.isKnownDuplicate(entity, effectiveTime)))
+        {
+            if (this.isEntityValidToReturn(entity, forLineage, effectiveTime))
+            {
+                return entity;
+            }
+
+            log.debug("no resulting entity");
+            return null;
+        }
+
         DuplicateEntityIterator duplicateEntityIterator = new DuplicateEntityIterator(this,
                                                                                       errorHandler,
                                                                                       invalidParameterHandler,
@@ -205,7 +358,7 @@ public class RepositoryHandler
                                                                                       entity,
                                                                                       entityTypeName,
                                                                                       forLineage,
-                                                                                      forDuplicateProcessing,
+                                                                                      false,
                                                                                       effectiveTime,
                                                                                       methodName);
 
@@ -280,6 +433,11 @@ public class RepositoryHandler
             }
         }
 
+        if (resolvedPeerGUIDs != null)
+        {
+            resolvedPeerGUIDs.addAll(duplicateEntityIterator.getProcessedPeerGUIDs());
+        }
+
         if (log.isDebugEnabled())
         {
             if (resultingEntity == null)
@@ -369,7 +527,8 @@ public class RepositoryHandler
                                                                                       UserNotAuthorizedException,
                                                                                       PropertyServerException
     {
-        Set<String> acceptedGUIDs = new HashSet<>();
+        Set<String> acceptedGUIDs     = new HashSet<>();
+        Set<String> resolvedPeerGUIDs = new HashSet<>();
 
         if (retrievedEntities != null)
         {
@@ -377,7 +536,15 @@ public class RepositoryHandler
 
             for (EntityDetail entity : retrievedEntities)
             {
-                if (entity != null)
+                if ((entity != null) && (resolvedPeerGUIDs.contains(entity.getGUID())))
+                {
+                    /*
+                     * The duplicates of an earlier entity in this page included this entity, so it has the same
+                     * result as that entity.
+                     */
+                    log.debug("Skipping entity since its duplicates have already been processed");
+                }
+                else if (entity != null)
                 {
                     EntityDetail validatedEntity = this.validateRetrievedEntity(userId,
                                                                                 entity,
@@ -385,6 +552,7 @@ public class RepositoryHandler
                                                                                 forLineage,
                                                                                 forDuplicateProcessing,
                                                                                 effectiveTime,
+                                                                                resolvedPeerGUIDs,
                                                                                 methodName);
 
                     if (validatedEntity != null)
@@ -4304,23 +4472,38 @@ public class RepositoryHandler
              * The starting entity may be a duplicate, which means the retrieve needs to be made against
              * any peer duplicates - or the consolidated duplicate if there is one.
              */
-            DuplicateEntityIterator duplicateEntityIterator = new DuplicateEntityIterator(this,
-                                                                                          errorHandler,
-                                                                                          invalidParameterHandler,
-                                                                                          userId,
-                                                                                          startingEntity,
-                                                                                          startingEntityTypeName,
-                                                                                          forLineage,
-                                                                                          false,
-                                                                                          effectiveTime,
-                                                                                          methodName);
+            DuplicateEntityIterator duplicateEntityIterator = null;
+            boolean                 retrieveRelationships;
 
-            /*
-             * This may be the original entity, the consolidated entity or null if the entity should be ignored.
-             * The subsequent call to duplicateEntityIterator.morePeersToReceive() will only return true if
-             * there is no consolidated entity and the entity has peer duplicates.
-             */
-            if (duplicateEntityIterator.morePeersToReceive())
+            if (this.isKnownDuplicate(startingEntity, effectiveTime))
+            {
+                duplicateEntityIterator = new DuplicateEntityIterator(this,
+                                                                      errorHandler,
+                                                                      invalidParameterHandler,
+                                                                      userId,
+                                                                      startingEntity,
+                                                                      startingEntityTypeName,
+                                                                      forLineage,
+                                                                      false,
+                                                                      effectiveTime,
+                                                                      methodName);
+
+                /*
+                 * The first peer may be the original entity, the consolidated entity or null if the entity should be ignored.
+                 * The subsequent call to duplicateEntityIterator.morePeersToReceive() will only return true if
+                 * there is no consolidated entity and the entity has peer duplicates.
+                 */
+                retrieveRelationships = duplicateEntityIterator.morePeersToReceive();
+            }
+            else
+            {
+                /*
+                 * Most entities have no duplicates so the relationships are retrieved for the starting entity alone.
+                 */
+                retrieveRelationships = this.isEntityValidToReturn(startingEntity, forLineage, effectiveTime);
+            }
+
+            if (retrieveRelationships)
             {
                 EntityProxy startingProxy = new EntityProxy(startingEntity);
                 startingProxy.setUniqueProperties(repositoryHelper.getUniqueProperties(methodName, startingEntity.getType().getTypeDefName(), startingEntity.getProperties()));
@@ -4334,7 +4517,12 @@ public class RepositoryHandler
 
                 do
                 {
-                    EntityDetail retrievingEntity = duplicateEntityIterator.getNextPeer();
+                    EntityDetail retrievingEntity = startingEntity;
+
+                    if (duplicateEntityIterator != null)
+                    {
+                        retrievingEntity = duplicateEntityIterator.getNextPeer();
+                    }
 
                     try
                     {
@@ -4359,7 +4547,7 @@ public class RepositoryHandler
                         errorHandler.handleRepositoryError(error, methodName, localMethodName);
                     }
 
-                } while (duplicateEntityIterator.morePeersToReceive());
+                } while ((duplicateEntityIterator != null) && (duplicateEntityIterator.morePeersToReceive()));
 
                 return accumulator.getRelationships(startingEntity.getGUID(), attachmentEntityEnd);
             }
@@ -6302,4 +6490,16 @@ public class RepositoryHandler
     {
         return metadataCollection;
     }
+
+
+    /**
+     * Return the error handler used by this repository handler.  This is used by the repository iterators to
+     * report errors from their prefetch threads.
+     *
+     * @return error handler
+     */
+    RepositoryErrorHandler getErrorHandler()
+    {
+        return errorHandler;
+    }
 }
@@ -5,16 +5,44 @@ package org.odpi.openmetadata.commonservices.repositoryhandler;
 
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.tokenmanager.http.HTTPHeadersThreadLocal;
 
+import java.util.ArrayDeque;
 import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * RepositoryIterator is the shared interface of all repository helper iterators that retrieve entity or relationship
  * details from the repository.
+ * <br><br>
+ * By default, the iterators retrieve the next page of results when the caller has consumed the current page.
+ * Callers that walk large result sets can turn on prefetching with setPrefetchPages().  The iterator then
+ * requests up to the requested number of pages ahead of the caller on a background thread, so the retrieval of the
+ * next page overlaps the processing of the current page.  Calling close() cancels any outstanding prefetches if
+ * the caller stops before the end of the results.  setAdaptivePageSize() lets the iterator grow or shrink the page
+ * size according to how long each page takes to retrieve.
  */
 public class RepositoryIterator
 {
-    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_PAGE_SIZE      = 500;
+    public static final int MAX_PREFETCH_PAGES = 4;
+
+    private static final int  MIN_ADAPTIVE_PAGE_SIZE = 10;
+    private static final long TARGET_PAGE_TIME      = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final int  PREFETCH_THREADS      = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static final ThreadPoolExecutor prefetchExecutor = getPrefetchExecutor();
 
     protected RepositoryHandler       repositoryHandler;
     protected InvalidParameterHandler invalidParameterHandler;
@@ -26,6 +54,12 @@ public class RepositoryIterator
     protected boolean                 forDuplicateProcessing;
     protected Date                    effectiveTime;
 
+    private final Deque<PrefetchedPage<?>> prefetchedPages     = new ArrayDeque<>();
+    private int                            prefetchPages       = 0;
+    private int                            nextPrefetchFrom    = 0;
+    private boolean                        adaptivePageSize    = false;
+    private int                            minAdaptivePageSize = MIN_ADAPTIVE_PAGE_SIZE;
+
     /**
      * Constructor takes the parameters used to call the repository handler.
      * @param repositoryHandler interface to the open metadata repositories.
@@ -64,4 +98,354 @@ public class RepositoryIterator
             this.pageSize = MAX_PAGE_SIZE;
         }
     }
+
+
+    /**
+     * Set up the number of pages that the iterator retrieves ahead of the caller.  Zero (the default) means the
+     * next page is only retrieved when the caller has consumed the current page.  The value is limited to
+     * MAX_PREFETCH_PAGES.
+     *
+     * @param prefetchPages number of pages to retrieve in the background
+     */
+    public void setPrefetchPages(int prefetchPages)
+    {
+        if (prefetchPages <= 0)
+        {
+            this.close();
+            this.prefetchPages = 0;
+        }
+        else
+        {
+            this.prefetchPages = Math.min(prefetchPages, MAX_PREFETCH_PAGES);
+        }
+    }
+
+
+    /**
+     * Return the number of pages that the iterator retrieves ahead of the caller.
+     *
+     * @return number of pages
+     */
+    public int getPrefetchPages()
+    {
+        return prefetchPages;
+    }
+
+
+    /**
+     * Set up whether the iterator adjusts the page size according to how long each page takes to retrieve.
+     * The page size is doubled while pages are quick to retrieve, up to the maximum page size of the server,
+     * and halved when they are slow.
+     *
+     * @param adaptivePageSize boolean flag
+     */
+    public void setAdaptivePageSize(boolean adaptivePageSize)
+    {
+        this.adaptivePageSize    = adaptivePageSize;
+        this.minAdaptivePageSize = Math.min(pageSize, MIN_ADAPTIVE_PAGE_SIZE);
+    }
+
+
+    /**
+     * Return whether the iterator adjusts the page size according to how long each page takes to retrieve.
+     *
+     * @return boolean flag
+     */
+    public boolean getAdaptivePageSize()
+    {
+        return adaptivePageSize;
+    }
+
+
+    /**
+     * Cancel any pages that are being retrieved in the background.  This is called when the end of the results is
+     * reached and should be called by a caller that stops using a prefetching iterator before the end of the results.
+     * The iterator can still be used after it is closed - it restarts from the first page the caller has not consumed.
+     */
+    public void close()
+    {
+        PrefetchedPage<?> prefetchedPage = prefetchedPages.poll();
+
+        while (prefetchedPage != null)
+        {
+            prefetchedPage.cancel();
+            prefetchedPage = prefetchedPages.poll();
+        }
+    }
+
+
+    /**
+     * Return the page of results at the current starting position and move the starting position to the following page.
+     * If prefetching is turned on, the following pages are requested in the background.
+     *
+     * @param retriever function that calls the repository handler
+     * @param <T> type of element in the page
+     * @return list of elements, an empty list if none of the retrieved elements are suitable to return, or null if
+     * there are no more results
+     * @throws org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException the bean properties are invalid
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    protected <T> List<T> getNextPage(RepositoryPageRetriever<T> retriever) throws org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException,
+                                                                                   UserNotAuthorizedException,
+                                                                                   PropertyServerException
+    {
+        if (prefetchPages == 0)
+        {
+            long    startTime = System.nanoTime();
+            List<T> page      = retriever.getPage(startingFrom, pageSize);
+
+            startingFrom = startingFrom + pageSize;
+
+            if ((page != null) && (adaptivePageSize))
+            {
+                this.adjustPageSize(System.nanoTime() - startTime);
+            }
+
+            return page;
+        }
+
+        @SuppressWarnings("unchecked")
+        PrefetchedPage<T> currentPage = (PrefetchedPage<T>) prefetchedPages.poll();
+
+        if (currentPage == null)
+        {
+            currentPage = new PrefetchedPage<>(retriever, startingFrom, pageSize);
+            nextPrefetchFrom = startingFrom + pageSize;
+        }
+
+        /*
+         * Request the following pages before waiting for the current page so that they are all retrieved in parallel.
+         */
+        while (prefetchedPages.size() < prefetchPages)
+        {
+            PrefetchedPage<T> nextPage = new PrefetchedPage<>(retriever, nextPrefetchFrom, pageSize);
+
+            prefetchedPages.add(nextPage);
+            nextPrefetchFrom = nextPrefetchFrom + pageSize;
+            prefetchExecutor.execute(nextPage.task);
+        }
+
+        List<T> page = this.waitForPage(currentPage);
+
+        startingFrom = currentPage.startingFrom + currentPage.pageSize;
+
+        if (page == null)
+        {
+            /*
+             * The end of the results has been reached.
+             */
+            this.close();
+        }
+        else if (adaptivePageSize)
+        {
+            this.adjustPageSize(currentPage.retrievalTime);
+        }
+
+        return page;
+    }
+
+
+    /**
+     * Return the results from a page.  If the page has not started to be retrieved in the background
+     * (because the prefetch threads are busy) it is retrieved on the caller's thread.
+     *
+     * @param prefetchedPage page to wait for
+     * @param <T> type of element in the page
+     * @return list of elements
+     * @throws org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException the bean properties are invalid
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    private <T> List<T> waitForPage(PrefetchedPage<T> prefetchedPage) throws org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException,
+                                                                             UserNotAuthorizedException,
+                                                                             PropertyServerException
+    {
+        final String localMethodName = "waitForPage";
+
+        try
+        {
+            prefetchedPage.task.run();
+
+            return prefetchedPage.task.get();
+        }
+        catch (ExecutionException error)
+        {
+            this.close();
+
+            Throwable cause = error.getCause();
+
+            if (cause instanceof org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException invalidParameterException)
+            {
+                throw invalidParameterException;
+            }
+            else if (cause instanceof UserNotAuthorizedException userNotAuthorizedException)
+            {
+                throw userNotAuthorizedException;
+            }
+            else if (cause instanceof PropertyServerException propertyServerException)
+            {
+                throw propertyServerException;
+            }
+            else if (cause instanceof RuntimeException runtimeException)
+            {
+                throw runtimeException;
+            }
+            else if (cause instanceof Error fatalError)
+            {
+                throw fatalError;
+            }
+
+            repositoryHandler.getErrorHandler().handleRepositoryError(error, methodName, localMethodName);
+        }
+        catch (InterruptedException error)
+        {
+            this.close();
+            Thread.currentThread().interrupt();
+
+            repositoryHandler.getErrorHandler().handleRepositoryError(error, methodName, localMethodName);
+        }
+        catch (CancellationException error)
+        {
+            this.close();
+
+            repositoryHandler.getErrorHandler().handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Adjust the page size used for the pages that have not yet been requested.
+     *
+     * @param retrievalTime time taken to retrieve the last page in nanoseconds
+     */
+    private void adjustPageSize(long retrievalTime)
+    {
+        int maxAdaptivePageSize = invalidParameterHandler.getMaxPagingSize();
+
+        if (maxAdaptivePageSize <= 0)
+        {
+            maxAdaptivePageSize = MAX_PAGE_SIZE;
+        }
+
+        if ((retrievalTime < TARGET_PAGE_TIME / 2) && (pageSize < maxAdaptivePageSize))
+        {
+            pageSize = Math.min(pageSize * 2, maxAdaptivePageSize);
+        }
+        else if ((retrievalTime > TARGET_PAGE_TIME * 2) && (pageSize > minAdaptivePageSize))
+        {
+            pageSize = Math.max(pageSize / 2, minAdaptivePageSize);
+        }
+    }
+
+
+    /**
+     * Create the thread pool shared by all iterators for prefetching pages.  The threads are daemon threads that
+     * end when they have been idle for a minute.
+     *
+     * @return executor
+     */
+    private static ThreadPoolExecutor getPrefetchExecutor()
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(PREFETCH_THREADS,
+                                                             PREFETCH_THREADS,
+                                                             60L,
+                                                             TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             runnable ->
+                                                             {
+                                                                 Thread thread = new Thread(runnable, "RepositoryIteratorPrefetch");
+
+                                                                 thread.setDaemon(true);
+                                                                 return thread;
+                                                             });
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+
+    /**
+     * PrefetchedPage describes a page that has been requested.  The page is retrieved by whichever of the prefetch
+     * thread and the caller's thread runs the task first.  The HTTP headers of the caller's request are passed to the
+     * prefetch thread so that they are propagated to any remote repositories.
+     *
+     * @param <T> type of element in the page
+     */
+    private static class PrefetchedPage<T> implements Callable<List<T>>
+    {
+        private final RepositoryPageRetriever<T> retriever;
+        private final int                        startingFrom;
+        private final int                        pageSize;
+        private final Map<String, String>        requestHeaders;
+        private final FutureTask<List<T>>        task;
+        private volatile long                    retrievalTime = 0L;
+
+
+        /**
+         * Constructor captures the paging parameters of the page.
+         *
+         * @param retriever function that calls the repository handler
+         * @param startingFrom position of the first element in the page
+         * @param pageSize maximum number of elements in the page
+         */
+        PrefetchedPage(RepositoryPageRetriever<T> retriever,
+                       int                        startingFrom,
+                       int                        pageSize)
+        {
+            this.retriever      = retriever;
+            this.startingFrom   = startingFrom;
+            this.pageSize       = pageSize;
+            this.requestHeaders = HTTPHeadersThreadLocal.getHeadersThreadLocal().get();
+            this.task           = new FutureTask<>(this);
+        }
+
+
+        /**
+         * Retrieve the page.
+         *
+         * @return list of elements
+         * @throws Exception problem retrieving the page
+         */
+        @Override
+        public List<T> call() throws Exception
+        {
+            ThreadLocal<Map<String, String>> headersThreadLocal = HTTPHeadersThreadLocal.getHeadersThreadLocal();
+            Map<String, String>              threadHeaders      = headersThreadLocal.get();
+            long                             startTime          = System.nanoTime();
+
+            headersThreadLocal.set(requestHeaders);
+
+            try
+            {
+                return retriever.getPage(startingFrom, pageSize);
+            }
+            finally
+            {
+                retrievalTime = System.nanoTime() - startTime;
+
+                if (threadHeaders == null)
+                {
+                    headersThreadLocal.remove();
+                }
+                else
+                {
+                    headersThreadLocal.set(threadHeaders);
+                }
+            }
+        }
+
+
+        /**
+         * Cancel the page if it has not started.  A page that is being retrieved is allowed to finish so the
+         * repository connectors are not interrupted, and its results are discarded.
+         */
+        void cancel()
+        {
+            task.cancel(false);
+        }
+    }
 }
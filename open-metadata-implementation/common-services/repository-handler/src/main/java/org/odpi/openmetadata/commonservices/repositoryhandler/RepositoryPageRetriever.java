@@ -0,0 +1,37 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.List;
+
+/**
+ * RepositoryPageRetriever is implemented by the repository iterators to retrieve a single page of results from the
+ * repository handler.  It is called by RepositoryIterator, possibly on a prefetch thread, with the paging
+ * parameters for the page.
+ *
+ * @param <T> type of element in the page - entity or relationship
+ */
+@FunctionalInterface
+public interface RepositoryPageRetriever<T>
+{
+    /**
+     * Retrieve a page of results.
+     *
+     * @param startingFrom position in the full list of results of the first element in the page
+     * @param pageSize maximum number of elements to return
+     * @return list of elements, an empty list if none of the retrieved elements are suitable to return, or null if
+     * there are no more results
+     * @throws InvalidParameterException the bean properties are invalid
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    List<T> getPage(int startingFrom,
+                    int pageSize) throws InvalidParameterException,
+                                         UserNotAuthorizedException,
+                                         PropertyServerException;
+}
@@ -170,19 +170,19 @@ public class RepositoryRelatedEntitiesIterator extends RepositoryIteratorForEnti
              */
             while ((entitiesCache != null) && (entitiesCache.isEmpty()))
             {
-                entitiesCache = repositoryHandler.getEntitiesForRelationshipType(userId,
-                                                                                 startingEntityGUID,
-                                                                                 startingEntityTypeName,
-                                                                                 relationshipTypeGUID,
-                                                                                 relationshipTypeName,
-                                                                                 null,
-                                                                                 selectionEnd,
-                                                                                 forLineage,
-                                                                                 forDuplicateProcessing,
-                                                                                 startingFrom,
-                                                                                 pageSize,
-                                                                                 effectiveTime,
-                                                                                 methodName);
+                entitiesCache = this.getNextPage((pageStart, pageLength) -> repositoryHandler.getEntitiesForRelationshipType(userId,
+                                                                                                                             startingEntityGUID,
+                                                                                                                             startingEntityTypeName,
+                                                                                                                             relationshipTypeGUID,
+                                                                                                                             relationshipTypeName,
+                                                                                                                             null,
+                                                                                                                             selectionEnd,
+                                                                                                                             forLineage,
+                                                                                                                             forDuplicateProcessing,
+                                                                                                                             pageStart,
+                                                                                                                             pageLength,
+                                                                                                                             effectiveTime,
+                                                                                                                             methodName));
 
                 if (entitiesCache != null)
                 {
@@ -216,8 +216,6 @@ public class RepositoryRelatedEntitiesIterator extends RepositoryIteratorForEnti
                     }
                 }
 
-                startingFrom = startingFrom + pageSize;
-
                 if (log.isDebugEnabled())
                 {
                     log.debug("StartingFrom=" + startingFrom);
@@ -184,21 +184,19 @@ public class RepositoryRelationshipsIterator extends RepositoryIterator
              */
             while ((relationshipsCache != null) && (relationshipsCache.isEmpty()))
             {
-                relationshipsCache = repositoryHandler.getRelationshipsByType(userId,
-                                                                              startingEntity,
-                                                                              startingEntityTypeName,
-                                                                              relationshipTypeGUID,
-                                                                              relationshipTypeName,
-                                                                              selectionEnd,
-                                                                              forLineage,
-                                                                              forDuplicateProcessing,
-                                                                              null,
-                                                                              startingFrom,
-                                                                              pageSize,
-                                                                              effectiveTime,
-                                                                              methodName);
-
-                startingFrom = startingFrom + pageSize;
+                relationshipsCache = this.getNextPage((pageStart, pageLength) -> repositoryHandler.getRelationshipsByType(userId,
+                                                                                                                          startingEntity,
+                                                                                                                          startingEntityTypeName,
+                                                                                                                          relationshipTypeGUID,
+                                                                                                                          relationshipTypeName,
+                                                                                                                          selectionEnd,
+                                                                                                                          forLineage,
+                                                                                                                          forDuplicateProcessing,
+                                                                                                                          null,
+                                                                                                                          pageStart,
+                                                                                                                          pageLength,
+                                                                                                                          effectiveTime,
+                                                                                                                          methodName));
             }
 
             if (relationshipsCache != null)
@@ -152,58 +152,56 @@ public class RepositorySelectedEntitiesIterator extends RepositoryIteratorForEnt
             {
                 if (searchCriteria != null)
                 {
-                    entitiesCache = repositoryHandler.getEntitiesByValue(userId,
-                                                                         searchCriteria,
-                                                                         entityTypeGUID,
-                                                                         sequencingPropertyName,
-                                                                         forLineage,
-                                                                         forDuplicateProcessing,
-                                                                         startingFrom,
-                                                                         pageSize,
-                                                                         effectiveTime,
-                                                                         methodName);
+                    entitiesCache = this.getNextPage((pageStart, pageLength) -> repositoryHandler.getEntitiesByValue(userId,
+                                                                                                                     searchCriteria,
+                                                                                                                     entityTypeGUID,
+                                                                                                                     sequencingPropertyName,
+                                                                                                                     forLineage,
+                                                                                                                     forDuplicateProcessing,
+                                                                                                                     pageStart,
+                                                                                                                     pageLength,
+                                                                                                                     effectiveTime,
+                                                                                                                     methodName));
                 }
                 else if (matchCriteria == MatchCriteria.ANY)
                 {
-                    entitiesCache = repositoryHandler.getEntitiesByName(userId,
-                                                                        properties,
-                                                                        entityTypeGUID,
-                                                                        sequencingPropertyName,
-                                                                        forLineage,
-                                                                        forDuplicateProcessing,
-                                                                        startingFrom,
-                                                                        pageSize,
-                                                                        effectiveTime,
-                                                                        methodName);
+                    entitiesCache = this.getNextPage((pageStart, pageLength) -> repositoryHandler.getEntitiesByName(userId,
+                                                                                                                    properties,
+                                                                                                                    entityTypeGUID,
+                                                                                                                    sequencingPropertyName,
+                                                                                                                    forLineage,
+                                                                                                                    forDuplicateProcessing,
+                                                                                                                    pageStart,
+                                                                                                                    pageLength,
+                                                                                                                    effectiveTime,
+                                                                                                                    methodName));
                 }
                 else if (matchCriteria == MatchCriteria.ALL)
                 {
-                    entitiesCache = repositoryHandler.getEntitiesByAllProperties(userId,
-                                                                                 properties,
-                                                                                 entityTypeGUID,
-                                                                                 sequencingPropertyName,
-                                                                                 forLineage,
-                                                                                 forDuplicateProcessing,
-                                                                                 startingFrom,
-                                                                                 pageSize,
-                                                                                 effectiveTime,
-                                                                                 methodName);
+                    entitiesCache = this.getNextPage((pageStart, pageLength) -> repositoryHandler.getEntitiesByAllProperties(userId,
+                                                                                                                             properties,
+                                                                                                                             entityTypeGUID,
+                                                                                                                             sequencingPropertyName,
+                                                                                                                             forLineage,
+                                                                                                                             forDuplicateProcessing,
+                                                                                                                             pageStart,
+                                                                                                                             pageLength,
+                                                                                                                             effectiveTime,
+                                                                                                                             methodName));
                 }
                 else /* (matchCriteria == MatchCriteria.NONE) */
                 {
-                    entitiesCache = repositoryHandler.getEntitiesWithoutPropertyValues(userId,
-                                                                                       properties,
-                                                                                       entityTypeGUID,
-                                                                                       sequencingPropertyName,
-                                                                                       forLineage,
-                                                                                       forDuplicateProcessing,
-                                                                                       startingFrom,
-                                                                                       pageSize,
-                                                                                       effectiveTime,
-                                                                                       methodName);
+                    entitiesCache = this.getNextPage((pageStart, pageLength) -> repositoryHandler.getEntitiesWithoutPropertyValues(userId,
+                                                                                                                                   properties,
+                                                                                                                                   entityTypeGUID,
+                                                                                                                                   sequencingPropertyName,
+                                                                                                                                   forLineage,
+                                                                                                                                   forDuplicateProcessing,
+                                                                                                                                   pageStart,
+                                                                                                                                   pageLength,
+                                                                                                                                   effectiveTime,
+                                                                                                                                   methodName));
                 }
-
-                startingFrom = startingFrom + pageSize;
             }
         }
 
@@ -0,0 +1,189 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the RepositoryHandler only retrieves duplicate links for entities with the KnownDuplicate
+ * classification.  The metadata collection is a mock so the test can see whether the repository was called.
+ */
+public class RepositoryHandlerDuplicateTest
+{
+    private static final String userId         = "testUser";
+    private static final String entityTypeName = "Referenceable";
+    private static final String methodName     = "testMethod";
+
+    private OMRSMetadataCollection metadataCollection = null;
+    private RepositoryHandler      repositoryHandler  = null;
+
+
+    /**
+     * Create a repository handler over a mock metadata collection.  Every entity is the type the handler expects.
+     */
+    @BeforeMethod public void setUp()
+    {
+        OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class);
+
+        when(repositoryHelper.isTypeOf(anyString(), anyString(), anyString())).thenReturn(true);
+
+        metadataCollection = mock(OMRSMetadataCollection.class);
+        repositoryHandler  = new RepositoryHandler(null,
+                                                   repositoryHelper,
+                                                   new RepositoryErrorHandler(repositoryHelper, "TestService", "TestServer"),
+                                                   metadataCollection,
+                                                   100);
+    }
+
+
+    /**
+     * Return an entity with the requested classifications.
+     *
+     * @param classifications classifications to attach
+     * @return entity
+     */
+    private EntityDetail getEntity(Classification... classifications)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefName(entityTypeName);
+
+        entity.setGUID("testEntityGUID");
+        entity.setType(type);
+
+        if (classifications.length > 0)
+        {
+            entity.setClassifications(new ArrayList<>(List.of(classifications)));
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Return a classification.
+     *
+     * @param classificationName name of the classification
+     * @param effectiveFromTime time the classification becomes effective, or null for always
+     * @return classification
+     */
+    private Classification getClassification(String classificationName,
+                                             Date   effectiveFromTime)
+    {
+        Classification classification = new Classification();
+
+        classification.setName(classificationName);
+
+        if (effectiveFromTime != null)
+        {
+            InstanceProperties properties = new InstanceProperties();
+
+            properties.setEffectiveFromTime(effectiveFromTime);
+            classification.setProperties(properties);
+        }
+
+        return classification;
+    }
+
+
+    /**
+     * Only an effective KnownDuplicate classification marks the entity as a known duplicate.
+     */
+    @Test public void testIsKnownDuplicate()
+    {
+        Date now      = new Date();
+        Date tomorrow = new Date(now.getTime() + 86400000L);
+
+        assertFalse(repositoryHandler.isKnownDuplicate(getEntity(), now));
+        assertFalse(repositoryHandler.isKnownDuplicate(getEntity(getClassification("Memento", null)), now));
+        assertTrue(repositoryHandler.isKnownDuplicate(getEntity(getClassification("KnownDuplicate", null)), now));
+        assertFalse(repositoryHandler.isKnownDuplicate(getEntity(getClassification("KnownDuplicate", tomorrow)), now));
+        assertTrue(repositoryHandler.isKnownDuplicate(getEntity(getClassification("KnownDuplicate", tomorrow)), null));
+    }
+
+
+    /**
+     * Mementos are only returned for lineage.
+     */
+    @Test public void testIsEntityValidToReturn()
+    {
+        Date         now     = new Date();
+        EntityDetail memento = getEntity(getClassification("Memento", null));
+
+        assertTrue(repositoryHandler.isEntityValidToReturn(getEntity(), false, now));
+        assertFalse(repositoryHandler.isEntityValidToReturn(memento, false, now));
+        assertTrue(repositoryHandler.isEntityValidToReturn(memento, true, now));
+    }
+
+
+    /**
+     * Entities that are not known duplicates are validated without calling the repository.
+     *
+     * @throws Exception problem in the handler
+     */
+    @Test public void testEntityWithoutDuplicatesIsNotDeduplicated() throws Exception
+    {
+        Date         now     = new Date();
+        EntityDetail entity  = getEntity();
+        EntityDetail memento = getEntity(getClassification("Memento", null));
+
+        assertSame(repositoryHandler.validateRetrievedEntity(userId, entity, entityTypeName, false, false, now, methodName), entity);
+        assertNull(repositoryHandler.validateRetrievedEntity(userId, memento, entityTypeName, false, false, now, methodName));
+        assertSame(repositoryHandler.validateRetrievedEntity(userId, memento, entityTypeName, true, false, now, methodName), memento);
+
+        verifyNoInteractions(metadataCollection);
+    }
+
+
+    /**
+     * Duplicate processing uses the entity as it is, even when it is a known duplicate.
+     *
+     * @throws Exception problem in the handler
+     */
+    @Test public void testDuplicateProcessingIsNotDeduplicated() throws Exception
+    {
+        EntityDetail entity = getEntity(getClassification("KnownDuplicate", null));
+
+        assertSame(repositoryHandler.validateRetrievedEntity(userId, entity, entityTypeName, false, true, new Date(), methodName), entity);
+
+        verifyNoInteractions(metadataCollection);
+    }
+
+
+    /**
+     * A known duplicate has its duplicate links retrieved from the repository.  With no links, the entity itself
+     * is returned.
+     *
+     * @throws Exception problem in the handler
+     */
+    @Test public void testKnownDuplicateIsDeduplicated() throws Exception
+    {
+        EntityDetail entity = getEntity(getClassification("KnownDuplicate", null));
+
+        assertSame(repositoryHandler.validateRetrievedEntity(userId, entity, entityTypeName, false, false, new Date(), methodName), entity);
+
+        assertFalse(mockingDetails(metadataCollection).getInvocations().isEmpty(), "The duplicate links were not retrieved");
+    }
+}
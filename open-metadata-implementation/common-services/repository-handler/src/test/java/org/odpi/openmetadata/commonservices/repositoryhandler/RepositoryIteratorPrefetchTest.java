@@ -0,0 +1,163 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the RepositoryIterator returns the same results, in the same order, whether or not it is
+ * prefetching pages or adapting its page size.
+ */
+public class RepositoryIteratorPrefetchTest
+{
+    private static final int RESULT_COUNT = 95;
+
+
+    /**
+     * RepositoryIterator with a retriever that returns the numbers from 0 to RESULT_COUNT - 1.
+     */
+    private static class TestIterator extends RepositoryIterator
+    {
+        private final RepositoryPageRetriever<Integer> retriever = (pageStart, pageLength) -> getResults(pageStart, pageLength);
+
+        TestIterator(int pageSize) throws Exception
+        {
+            super(null, new InvalidParameterHandler(), "testUser", 0, pageSize, false, false, null, "test");
+        }
+
+        List<Integer> getNextPage() throws Exception
+        {
+            return super.getNextPage(retriever);
+        }
+
+        int getPageSize()
+        {
+            return pageSize;
+        }
+
+        private List<Integer> getResults(int pageStart,
+                                         int pageLength)
+        {
+            if (pageStart >= RESULT_COUNT)
+            {
+                return null;
+            }
+
+            List<Integer> results = new ArrayList<>();
+
+            for (int i = pageStart; (i < pageStart + pageLength) && (i < RESULT_COUNT); i++)
+            {
+                results.add(i);
+            }
+
+            return results;
+        }
+    }
+
+
+    /**
+     * Read all the results from the iterator.
+     *
+     * @param iterator iterator to read
+     * @return list of results
+     * @throws Exception problem in the iterator
+     */
+    private List<Integer> getAllResults(TestIterator iterator) throws Exception
+    {
+        List<Integer> results = new ArrayList<>();
+        List<Integer> page    = iterator.getNextPage();
+
+        while (page != null)
+        {
+            results.addAll(page);
+            page = iterator.getNextPage();
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Check the results are the numbers in order.
+     *
+     * @param results results from the iterator
+     */
+    private void validateResults(List<Integer> results)
+    {
+        assertEquals(results.size(), RESULT_COUNT);
+
+        for (int i = 0; i < RESULT_COUNT; i++)
+        {
+            assertEquals(results.get(i).intValue(), i);
+        }
+    }
+
+
+    /**
+     * Prefetching returns the same results as retrieving pages on demand.
+     *
+     * @throws Exception problem in the iterator
+     */
+    @Test public void testPrefetchResults() throws Exception
+    {
+        validateResults(getAllResults(new TestIterator(10)));
+
+        TestIterator iterator = new TestIterator(10);
+
+        iterator.setPrefetchPages(RepositoryIterator.MAX_PREFETCH_PAGES + 1);
+        assertEquals(iterator.getPrefetchPages(), RepositoryIterator.MAX_PREFETCH_PAGES);
+
+        validateResults(getAllResults(iterator));
+        assertNull(iterator.getNextPage());
+    }
+
+
+    /**
+     * Closing the iterator part way through the results cancels the prefetched pages and the iterator
+     * carries on from the first page that has not been consumed.
+     *
+     * @throws Exception problem in the iterator
+     */
+    @Test public void testCloseAndResume() throws Exception
+    {
+        TestIterator  iterator = new TestIterator(10);
+        List<Integer> results  = new ArrayList<>();
+
+        iterator.setPrefetchPages(2);
+
+        results.addAll(iterator.getNextPage());
+        results.addAll(iterator.getNextPage());
+
+        iterator.close();
+        iterator.setPrefetchPages(0);
+
+        results.addAll(getAllResults(iterator));
+
+        validateResults(results);
+    }
+
+
+    /**
+     * The page size grows when pages are quick to retrieve and the results are unchanged.
+     *
+     * @throws Exception problem in the iterator
+     */
+    @Test public void testAdaptivePageSize() throws Exception
+    {
+        TestIterator iterator = new TestIterator(5);
+
+        iterator.setPrefetchPages(1);
+        iterator.setAdaptivePageSize(true);
+
+        validateResults(getAllResults(iterator));
+        assertTrue(iterator.getPageSize() > 5);
+    }
+}
@@ -236,6 +236,30 @@ public enum AssetAnalysisAuditCode implements AuditLogMessageSet
                                       "true this it is likely to be a code error in the discovery service in which case, " +
                                       "raise an issue with the author of the discovery service to get it fixed.  Once the cause is resolved, " +
                                       "retry the discovery request."),
+
+    ANNOTATION_WRITE_BEHIND_ENABLED("OMES-ASSET-ANALYSIS-0030",
+                                    OMRSAuditLogRecordSeverity.STARTUP,
+                                    "The discovery services running in server {0} will queue up to {1} annotations for a maximum of {2} milliseconds " +
+                                            "before sending them to the Discovery Engine OMAS",
+                                    "Annotations that discovery services add with queueAnnotationForDiscoveryReport are sent to the " +
+                                            "metadata server in batches.  Any queued annotations are sent when the discovery service completes.",
+                                    "No action is required.  Remove the annotationBatchSize engine service option to send each annotation " +
+                                            "as it is added."),
+
+    INVALID_ENGINE_SERVICE_OPTION("OMES-ASSET-ANALYSIS-0031",
+                                  OMRSAuditLogRecordSeverity.ERROR,
+                                  "The value {0} of the {1} engine service option for the Asset Analysis OMES in server {2} is not a valid number",
+                                  "The engine service option is ignored and its default value of {3} is used.",
+                                  "Correct the engine service option in the configuration document and restart the engine host server."),
+
+    EXC_ON_ANNOTATION_FLUSH("OMES-ASSET-ANALYSIS-0032",
+                            OMRSAuditLogRecordSeverity.EXCEPTION,
+                            "Discovery engine {0} is unable to store the annotations queued by failed discovery service {1} for discovery " +
+                                    "report {2}.  The exception was {3} with error message {4}",
+                            "The discovery report is marked as failed but some of the annotations created by the discovery service " +
+                                    "before it failed are not stored.",
+                            "Review the error message to determine why the annotations could not be stored.  Once this is resolved, " +
+                                    "retry the discovery request to recreate the missing annotations."),
     ;
 
 
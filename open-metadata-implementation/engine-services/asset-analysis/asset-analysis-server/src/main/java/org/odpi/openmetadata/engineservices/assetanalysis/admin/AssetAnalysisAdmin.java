@@ -30,6 +30,20 @@ import java.util.Map;
  */
 public class AssetAnalysisAdmin extends EngineServiceAdmin
 {
+    /**
+     * Engine service option for the maximum number of annotations that a discovery service can queue before they are sent
+     * to the Discovery Engine OMAS.  Annotations are not queued if it is not set.
+     */
+    public static final String ANNOTATION_BATCH_SIZE_OPTION = "annotationBatchSize";
+
+    /**
+     * Engine service option for the maximum number of milliseconds that a queued annotation waits before it is sent.
+     */
+    public static final String ANNOTATION_FLUSH_INTERVAL_OPTION = "annotationFlushInterval";
+
+    private static final int  defaultAnnotationBatchSize     = 0;
+    private static final long defaultAnnotationFlushInterval = 5000L;
+
     private AssetAnalysisInstance assetAnalysisInstance = null;
 
     /**
@@ -79,6 +93,21 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
             String             accessServiceServerName = this.getPartnerServiceServerName(engineServiceConfig);
             List<EngineConfig> discoveryEngines        = this.getEngines(engineServiceConfig);
 
+            int  annotationBatchSize     = (int)this.getNumericOption(engineServiceConfig,
+                                                                      ANNOTATION_BATCH_SIZE_OPTION,
+                                                                      defaultAnnotationBatchSize);
+            long annotationFlushInterval = this.getNumericOption(engineServiceConfig,
+                                                                 ANNOTATION_FLUSH_INTERVAL_OPTION,
+                                                                 defaultAnnotationFlushInterval);
+
+            if (annotationBatchSize > 1)
+            {
+                auditLog.logMessage(actionDescription,
+                                    AssetAnalysisAuditCode.ANNOTATION_WRITE_BEHIND_ENABLED.getMessageDefinition(localServerName,
+                                                                                                               Integer.toString(annotationBatchSize),
+                                                                                                               Long.toString(annotationFlushInterval)));
+            }
+
             /*
              * Create the client for accessing the open metadata repositories.
              */
@@ -111,6 +140,8 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
                                                                                                           configurationClient,
                                                                                                           governanceActionClient,
                                                                                                           restClient,
+                                                                                                          annotationBatchSize,
+                                                                                                          annotationFlushInterval,
                                                                                                           maxPageSize);
 
             if (discoveryEngineHandlers == null)
@@ -162,6 +193,48 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
     }
 
 
+    /**
+     * Return the numeric value of an engine service option.  The default is returned if the option is not set or
+     * its value is not a number.
+     *
+     * @param engineServiceConfig configuration for the engine service
+     * @param optionName name of the option
+     * @param defaultValue value to use if the option is not set
+     * @return option value
+     */
+    private long getNumericOption(EngineServiceConfig engineServiceConfig,
+                                  String              optionName,
+                                  long                defaultValue)
+    {
+        final String actionDescription = "initialize engine service";
+
+        Map<String, Object> engineServiceOptions = engineServiceConfig.getEngineServiceOptions();
+
+        if (engineServiceOptions != null)
+        {
+            Object optionValue = engineServiceOptions.get(optionName);
+
+            if (optionValue != null)
+            {
+                try
+                {
+                    return Long.parseLong(optionValue.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    auditLog.logMessage(actionDescription,
+                                        AssetAnalysisAuditCode.INVALID_ENGINE_SERVICE_OPTION.getMessageDefinition(optionValue.toString(),
+                                                                                                                  optionName,
+                                                                                                                  localServerName,
+                                                                                                                  Long.toString(defaultValue)));
+                }
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Create the list of discovery engine handlers.
      *
@@ -172,6 +245,8 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
      * @param configurationClient client to retrieve configuration from
      * @param governanceActionClient client used by the engine host services to connect to the Governance Engine OMAS to manage governance actions
      * @param odfRESTClient client for calling REST APIs
+     * @param annotationBatchSize maximum number of annotations a discovery service can queue
+     * @param annotationFlushInterval maximum milliseconds that a queued annotation waits
      * @param maxPageSize maximum number of records that can be requested on the pageSize parameter
      * @return map of discovery engine GUIDs to handlers
      * @throws OMAGConfigurationErrorException problem with config
@@ -183,6 +258,8 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
                                                                             GovernanceEngineConfigurationClient configurationClient,
                                                                             GovernanceContextClient             governanceActionClient,
                                                                             ODFRESTClient                       odfRESTClient,
+                                                                            int                                 annotationBatchSize,
+                                                                            long                                annotationFlushInterval,
                                                                             int                                 maxPageSize) throws OMAGConfigurationErrorException
     {
         final String methodName        = "getDiscoveryEngineHandlers";
@@ -229,6 +306,8 @@ public class AssetAnalysisAdmin extends EngineServiceAdmin
                                                                              governanceActionClient,
                                                                              discoveryEngineClient,
                                                                              openMetadataClient,
+                                                                             annotationBatchSize,
+                                                                             annotationFlushInterval,
                                                                              auditLog,
                                                                              maxPageSize);
 
@@ -29,6 +29,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 {
     private final DiscoveryEngineClient discoveryEngineClient;    /* Initialized in constructor */
     private final OpenMetadataClient openMetadataClient;    /* Initialized in constructor */
+    private final int                annotationBatchSize;     /* Initialized in constructor */
+    private final long               annotationFlushInterval; /* Initialized in constructor */
 
     private static final String supportGovernanceEngineType = "OpenDiscoveryEngine";
     private static final String assetTypeName = "Asset";
@@ -43,6 +45,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
      * @param serverClient client used by the engine host services to control the execution of governance action requests
      * @param discoveryEngineClient REST client for direct REST Calls to Discovery Engine OMAS - used by discovery services
      * @param openMetadataClient REST Client from the GAF that is linked to the Discovery Engine OMAS
+     * @param annotationBatchSize maximum number of annotations that a discovery service can queue (0 means no queuing)
+     * @param annotationFlushInterval maximum milliseconds that a queued annotation waits before it is sent
      * @param auditLog logging destination
      * @param maxPageSize maximum number of results that can be returned in a single request
      */
@@ -53,6 +57,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                   GovernanceContextClient             serverClient,
                                   DiscoveryEngineClient               discoveryEngineClient,
                                   OpenMetadataClient                  openMetadataClient,
+                                  int                                 annotationBatchSize,
+                                  long                                annotationFlushInterval,
                                   AuditLog                            auditLog,
                                   int                                 maxPageSize)
     {
@@ -67,6 +73,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
         this.discoveryEngineClient = discoveryEngineClient;
         this.openMetadataClient = openMetadataClient;
+        this.annotationBatchSize = annotationBatchSize;
+        this.annotationFlushInterval = annotationFlushInterval;
     }
 
 
@@ -338,7 +346,10 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
         DiscoveryAnnotationStore annotationStore = new DiscoveryAnnotationStoreClient(engineUserId,
                                                                                       assetGUID,
                                                                                       discoveryAnalysisReportClient,
-                                                                                      discoveryEngineClient);
+                                                                                      discoveryEngineClient,
+                                                                                      annotationBatchSize,
+                                                                                      annotationFlushInterval,
+                                                                                      auditLog);
         DiscoveryAssetStore assetStore = new DiscoveryAssetStoreClient(assetGUID,
                                                                        engineUserId,
                                                                        discoveryEngineClient);
@@ -148,6 +148,11 @@ public class DiscoveryServiceHandler extends GovernanceServiceHandler
 
             startTime = new Date();
             discoveryService.start();
+
+            /*
+             * Send any annotations that the discovery service queued but were not yet sent to the metadata server.
+             */
+            discoveryContext.getAnnotationStore().flushQueuedAnnotations();
             endTime = new Date();
 
             auditLog.logMessage(actionDescription,
@@ -192,6 +197,26 @@ public class DiscoveryServiceHandler extends GovernanceServiceHandler
                                       statusError.toString(),
                                       statusError);
             }
+
+            /*
+             * Store the annotations that the discovery service queued before it failed.  This is done after the
+             * status update so that a problem storing them does not leave the report in progress.
+             */
+            try
+            {
+                discoveryContext.getAnnotationStore().flushQueuedAnnotations();
+            }
+            catch (Exception flushError)
+            {
+                auditLog.logException(actionDescription,
+                                      AssetAnalysisAuditCode.EXC_ON_ANNOTATION_FLUSH.getMessageDefinition(governanceEngineProperties.getQualifiedName(),
+                                                                                                          governanceServiceName,
+                                                                                                          discoveryReportGUID,
+                                                                                                          flushError.getClass().getName(),
+                                                                                                          flushError.getMessage()),
+                                      flushError.toString(),
+                                      flushError);
+            }
         }
     }
 }
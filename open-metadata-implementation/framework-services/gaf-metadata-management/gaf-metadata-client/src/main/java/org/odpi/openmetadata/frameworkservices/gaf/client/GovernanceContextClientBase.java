@@ -19,8 +19,10 @@ import org.odpi.openmetadata.frameworks.governanceaction.properties.NewActionTar
 import org.odpi.openmetadata.frameworkservices.gaf.client.rest.GAFRESTClient;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.ActionTargetStatusRequestBody;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.CompletionStatusRequestBody;
+import org.odpi.openmetadata.frameworkservices.gaf.rest.EngineActionElementResponse;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.EngineActionElementsResponse;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.EngineActionStatusRequestBody;
+import org.odpi.openmetadata.frameworkservices.gaf.rest.RequestTypeRequestBody;
 
 import java.util.Date;
 import java.util.List;
@@ -257,6 +259,90 @@ public class GovernanceContextClientBase extends OpenGovernanceClientBase implem
     }
 
 
+    /**
+     * Request that execution of a governance action is allocated to the caller and that its status is set to IN_PROGRESS.
+     * The claim is only successful if no other caller has claimed the governance action.
+     *
+     * @param userId identifier of calling user
+     * @param engineActionGUID identifier of the governance action request.
+     *
+     * @return latest properties of the claimed governance action
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store or the governance action is already claimed.
+     */
+    @Override
+    public EngineActionElement claimAndStartEngineAction(String userId,
+                                                         String engineActionGUID) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        final String methodName = "claimAndStartEngineAction";
+        final String guidParameterName = "engineActionGUID";
+        final String urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/framework-services/{1}/governance-context-service/users/{2}/engine-actions/{3}/claim-and-start";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(engineActionGUID, guidParameterName, methodName);
+
+        EngineActionElementResponse restResult = restClient.callEngineActionPostRESTCall(methodName,
+                                                                                         urlTemplate,
+                                                                                         nullRequestBody,
+                                                                                         serverName,
+                                                                                         serviceURLMarker,
+                                                                                         userId,
+                                                                                         engineActionGUID);
+
+        return restResult.getElement();
+    }
+
+
+    /**
+     * Claim and start the approved governance actions for a governance engine that request one of the supported request types.
+     *
+     * @param userId identifier of calling user
+     * @param governanceEngineGUID unique identifier of governance engine
+     * @param supportedRequestTypes request types supported by the caller (null means any request type)
+     * @param maxEngineActions maximum number of governance actions to claim (0 means no limit)
+     *
+     * @return list of claimed governance actions or null
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store.
+     */
+    @Override
+    public List<EngineActionElement> claimAndStartEngineActions(String       userId,
+                                                                String       governanceEngineGUID,
+                                                                List<String> supportedRequestTypes,
+                                                                int          maxEngineActions) throws InvalidParameterException,
+                                                                                                      UserNotAuthorizedException,
+                                                                                                      PropertyServerException
+    {
+        final String methodName = "claimAndStartEngineActions";
+        final String guidParameterName = "governanceEngineGUID";
+        final String urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/framework-services/{1}/governance-context-service/users/{2}/governance-engines/{3}/engine-actions/claim-and-start?maxEngineActions={4}";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(governanceEngineGUID, guidParameterName, methodName);
+
+        RequestTypeRequestBody requestBody = new RequestTypeRequestBody();
+
+        requestBody.setRequestType(supportedRequestTypes);
+
+        EngineActionElementsResponse restResult = restClient.callEngineActionsPostRESTCall(methodName,
+                                                                                           urlTemplate,
+                                                                                           requestBody,
+                                                                                           serverName,
+                                                                                           serviceURLMarker,
+                                                                                           userId,
+                                                                                           governanceEngineGUID,
+                                                                                           Integer.toString(maxEngineActions));
+
+        return restResult.getElements();
+    }
+
+
     /**
      * Retrieve the governance actions that are still in process and that have been claimed by this caller's userId.
      * This call is used when the caller restarts.
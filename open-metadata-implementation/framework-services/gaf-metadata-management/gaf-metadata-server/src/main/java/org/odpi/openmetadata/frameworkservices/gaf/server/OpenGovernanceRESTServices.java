@@ -1871,6 +1871,116 @@ public class OpenGovernanceRESTServices
     }
 
 
+    /**
+     * Request that execution of an engine action is allocated to the caller and that its status is set to IN_PROGRESS.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param serviceURLMarker the identifier of the access service (for example asset-owner for the Asset Owner OMAS)
+     * @param userId identifier of calling user
+     * @param engineActionGUID identifier of the engine action request
+     * @param requestBody null request body
+     *
+     * @return latest properties of the claimed engine action or
+     *  InvalidParameterException one of the parameters is null or invalid.
+     *  UserNotAuthorizedException user not authorized to issue this request.
+     *  PropertyServerException there was a problem detected by the metadata store or the engine action is already claimed.
+     */
+    @SuppressWarnings(value = "unused")
+    public EngineActionElementResponse claimAndStartEngineAction(String          serverName,
+                                                                 String          serviceURLMarker,
+                                                                 String          userId,
+                                                                 String          engineActionGUID,
+                                                                 NullRequestBody requestBody)
+    {
+        final String methodName = "claimAndStartEngineAction";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog auditLog = null;
+        EngineActionElementResponse response = new EngineActionElementResponse();
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            EngineActionHandler<EngineActionElement> handler = instanceHandler.getEngineActionHandler(userId, serverName, methodName);
+
+            response.setElement(handler.claimAndStartEngineAction(userId,
+                                                                  engineActionGUID,
+                                                                  instanceHandler.getSupportedZones(userId, serverName, serviceURLMarker, methodName),
+                                                                  new Date(),
+                                                                  methodName));
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
+    /**
+     * Claim and start the approved engine actions for a governance engine that request one of the supported request types.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param serviceURLMarker the identifier of the access service (for example asset-owner for the Asset Owner OMAS)
+     * @param userId identifier of calling user
+     * @param governanceEngineGUID unique identifier of governance engine
+     * @param maxEngineActions maximum number of engine actions to claim (0 means no limit)
+     * @param requestBody request types supported by the caller
+     *
+     * @return list of claimed engine actions or
+     *  InvalidParameterException one of the parameters is null or invalid.
+     *  UserNotAuthorizedException user not authorized to issue this request.
+     *  PropertyServerException there was a problem detected by the metadata store.
+     */
+    public EngineActionElementsResponse claimAndStartEngineActions(String                 serverName,
+                                                                   String                 serviceURLMarker,
+                                                                   String                 userId,
+                                                                   String                 governanceEngineGUID,
+                                                                   int                    maxEngineActions,
+                                                                   RequestTypeRequestBody requestBody)
+    {
+        final String methodName = "claimAndStartEngineActions";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog auditLog = null;
+        EngineActionElementsResponse response = new EngineActionElementsResponse();
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            EngineActionHandler<EngineActionElement> handler = instanceHandler.getEngineActionHandler(userId, serverName, methodName);
+
+            List<String> supportedRequestTypes = null;
+
+            if (requestBody != null)
+            {
+                supportedRequestTypes = requestBody.getRequestType();
+            }
+
+            response.setElements(handler.claimAndStartEngineActions(userId,
+                                                                    governanceEngineGUID,
+                                                                    supportedRequestTypes,
+                                                                    maxEngineActions,
+                                                                    instanceHandler.getSupportedZones(userId, serverName, serviceURLMarker, methodName),
+                                                                    new Date(),
+                                                                    methodName));
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
 
     /**
      * Update the status of the engine action - providing the caller is permitted.
@@ -8,8 +8,10 @@ import org.odpi.openmetadata.commonservices.ffdc.rest.NullRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.ActionTargetStatusRequestBody;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.CompletionStatusRequestBody;
+import org.odpi.openmetadata.frameworkservices.gaf.rest.EngineActionElementResponse;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.EngineActionElementsResponse;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.EngineActionStatusRequestBody;
+import org.odpi.openmetadata.frameworkservices.gaf.rest.RequestTypeRequestBody;
 import org.odpi.openmetadata.frameworkservices.gaf.server.OpenGovernanceRESTServices;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -117,6 +119,61 @@ public class GovernanceContextResource
     }
 
 
+    /**
+     * Request that execution of an engine action is allocated to the caller and that its status is set to IN_PROGRESS.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param serviceURLMarker the identifier of the access service (for example asset-owner for the Asset Owner OMAS)
+     * @param userId identifier of calling user
+     * @param engineActionGUID identifier of the engine action request.
+     * @param requestBody null request body
+     *
+     * @return latest properties of the claimed engine action or
+     *  InvalidParameterException one of the parameters is null or invalid.
+     *  UserNotAuthorizedException user not authorized to issue this request.
+     *  PropertyServerException there was a problem detected by the metadata store or the engine action is already claimed.
+     */
+    @PostMapping(path = "/engine-actions/{engineActionGUID}/claim-and-start")
+
+    public EngineActionElementResponse claimAndStartEngineAction(@PathVariable                  String          serverName,
+                                                                 @PathVariable                  String          serviceURLMarker,
+                                                                 @PathVariable                  String          userId,
+                                                                 @PathVariable                  String          engineActionGUID,
+                                                                 @RequestBody(required = false) NullRequestBody requestBody)
+    {
+        return restAPI.claimAndStartEngineAction(serverName, serviceURLMarker, userId, engineActionGUID, requestBody);
+    }
+
+
+    /**
+     * Claim and start the approved engine actions for a governance engine that request one of the supported request types.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param serviceURLMarker the identifier of the access service (for example asset-owner for the Asset Owner OMAS)
+     * @param userId identifier of calling user
+     * @param governanceEngineGUID unique identifier of governance engine
+     * @param maxEngineActions maximum number of engine actions to claim (0 means no limit)
+     * @param requestBody request types supported by the caller
+     *
+     * @return list of claimed engine actions or
+     *  InvalidParameterException one of the parameters is null or invalid.
+     *  UserNotAuthorizedException user not authorized to issue this request.
+     *  PropertyServerException there was a problem detected by the metadata store.
+     */
+    @PostMapping(path = "/governance-engines/{governanceEngineGUID}/engine-actions/claim-and-start")
+
+    public EngineActionElementsResponse claimAndStartEngineActions(@PathVariable                  String                 serverName,
+                                                                   @PathVariable                  String                 serviceURLMarker,
+                                                                   @PathVariable                  String                 userId,
+                                                                   @PathVariable                  String                 governanceEngineGUID,
+                                                                   @RequestParam(required = false, defaultValue = "0")
+                                                                                                  int                    maxEngineActions,
+                                                                   @RequestBody(required = false) RequestTypeRequestBody requestBody)
+    {
+        return restAPI.claimAndStartEngineActions(serverName, serviceURLMarker, userId, governanceEngineGUID, maxEngineActions, requestBody);
+    }
+
+
     /**
      * Update the status of a specific action target. By default, these values are derived from
      * the values for the governance action service.  However, if the governance action service has to process name
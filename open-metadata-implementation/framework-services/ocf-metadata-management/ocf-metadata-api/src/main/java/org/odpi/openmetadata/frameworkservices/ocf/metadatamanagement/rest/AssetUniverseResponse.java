@@ -0,0 +1,501 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Certification;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ExternalIdentifier;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ExternalReference;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.InformalTag;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.License;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Like;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Location;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Rating;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.RelatedAsset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.RelatedMediaReference;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * AssetUniverseResponse is the response structure used on the OMAS REST API call that returns the asset,
+ * the counts of its connected elements and the first page of each type of connected element in a single call.
+ * The client uses the first pages to prime the iterators of the AssetUniverse so that most asset pages can be
+ * displayed without any further calls to the server.  Later pages, and nested elements such as the
+ * attributes of the schema, are still retrieved on demand.  A list is null if there are no elements of that type.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AssetUniverseResponse extends AssetResponse
+{
+    private List<Certification>         certifications         = null;
+    private List<CommentResponse>       comments               = null;
+    private List<Connection>            connections            = null;
+    private List<ExternalIdentifier>    externalIdentifiers    = null;
+    private List<ExternalReference>     externalReferences     = null;
+    private List<InformalTag>           informalTags           = null;
+    private List<License>               licenses               = null;
+    private List<Like>                  likes                  = null;
+    private List<Location>              knownLocations         = null;
+    private List<NoteLogResponse>       noteLogs               = null;
+    private List<Rating>                ratings                = null;
+    private List<RelatedAsset>          relatedAssets          = null;
+    private List<RelatedMediaReference> relatedMediaReferences = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AssetUniverseResponse(AssetUniverseResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.certifications         = template.getCertifications();
+            this.comments               = template.getComments();
+            this.connections            = template.getConnections();
+            this.externalIdentifiers    = template.getExternalIdentifiers();
+            this.externalReferences     = template.getExternalReferences();
+            this.informalTags           = template.getInformalTags();
+            this.licenses               = template.getLicenses();
+            this.likes                  = template.getLikes();
+            this.knownLocations         = template.getKnownLocations();
+            this.noteLogs               = template.getNoteLogs();
+            this.ratings                = template.getRatings();
+            this.relatedAssets          = template.getRelatedAssets();
+            this.relatedMediaReferences = template.getRelatedMediaReferences();
+        }
+    }
+
+
+    /**
+     * Return a copy of a list, or null if the list is empty.
+     *
+     * @param list list to copy
+     * @param <T> type of the list's elements
+     * @return list or null
+     */
+    private <T> List<T> copyList(List<T> list)
+    {
+        if ((list == null) || (list.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(list);
+        }
+    }
+
+
+    /**
+     * Return the first page of certifications for the asset.
+     *
+     * @return list of certifications
+     */
+    public List<Certification> getCertifications()
+    {
+        return copyList(certifications);
+    }
+
+
+    /**
+     * Set up the first page of certifications for the asset.
+     *
+     * @param certifications list of certifications
+     */
+    public void setCertifications(List<Certification> certifications)
+    {
+        this.certifications = certifications;
+    }
+
+
+    /**
+     * Return the first page of comments attached to the asset, each with the count of its replies.
+     *
+     * @return list of comments
+     */
+    public List<CommentResponse> getComments()
+    {
+        return copyList(comments);
+    }
+
+
+    /**
+     * Set up the first page of comments attached to the asset, each with the count of its replies.
+     *
+     * @param comments list of comments
+     */
+    public void setComments(List<CommentResponse> comments)
+    {
+        this.comments = comments;
+    }
+
+
+    /**
+     * Return the first page of connections for the asset.
+     *
+     * @return list of connections
+     */
+    public List<Connection> getConnections()
+    {
+        return copyList(connections);
+    }
+
+
+    /**
+     * Set up the first page of connections for the asset.
+     *
+     * @param connections list of connections
+     */
+    public void setConnections(List<Connection> connections)
+    {
+        this.connections = connections;
+    }
+
+
+    /**
+     * Return the first page of external identifiers for the asset.
+     *
+     * @return list of external identifiers
+     */
+    public List<ExternalIdentifier> getExternalIdentifiers()
+    {
+        return copyList(externalIdentifiers);
+    }
+
+
+    /**
+     * Set up the first page of external identifiers for the asset.
+     *
+     * @param externalIdentifiers list of external identifiers
+     */
+    public void setExternalIdentifiers(List<ExternalIdentifier> externalIdentifiers)
+    {
+        this.externalIdentifiers = externalIdentifiers;
+    }
+
+
+    /**
+     * Return the first page of external references attached to the asset.
+     *
+     * @return list of external references
+     */
+    public List<ExternalReference> getExternalReferences()
+    {
+        return copyList(externalReferences);
+    }
+
+
+    /**
+     * Set up the first page of external references attached to the asset.
+     *
+     * @param externalReferences list of external references
+     */
+    public void setExternalReferences(List<ExternalReference> externalReferences)
+    {
+        this.externalReferences = externalReferences;
+    }
+
+
+    /**
+     * Return the first page of informal tags attached to the asset.
+     *
+     * @return list of informal tags
+     */
+    public List<InformalTag> getInformalTags()
+    {
+        return copyList(informalTags);
+    }
+
+
+    /**
+     * Set up the first page of informal tags attached to the asset.
+     *
+     * @param informalTags list of informal tags
+     */
+    public void setInformalTags(List<InformalTag> informalTags)
+    {
+        this.informalTags = informalTags;
+    }
+
+
+    /**
+     * Return the first page of licenses for the asset.
+     *
+     * @return list of licenses
+     */
+    public List<License> getLicenses()
+    {
+        return copyList(licenses);
+    }
+
+
+    /**
+     * Set up the first page of licenses for the asset.
+     *
+     * @param licenses list of licenses
+     */
+    public void setLicenses(List<License> licenses)
+    {
+        this.licenses = licenses;
+    }
+
+
+    /**
+     * Return the first page of likes attached to the asset.
+     *
+     * @return list of likes
+     */
+    public List<Like> getLikes()
+    {
+        return copyList(likes);
+    }
+
+
+    /**
+     * Set up the first page of likes attached to the asset.
+     *
+     * @param likes list of likes
+     */
+    public void setLikes(List<Like> likes)
+    {
+        this.likes = likes;
+    }
+
+
+    /**
+     * Return the first page of known locations for the asset.
+     *
+     * @return list of known locations
+     */
+    public List<Location> getKnownLocations()
+    {
+        return copyList(knownLocations);
+    }
+
+
+    /**
+     * Set up the first page of known locations for the asset.
+     *
+     * @param knownLocations list of known locations
+     */
+    public void setKnownLocations(List<Location> knownLocations)
+    {
+        this.knownLocations = knownLocations;
+    }
+
+
+    /**
+     * Return the first page of note logs attached to the asset, each with the count of its notes.
+     *
+     * @return list of note logs
+     */
+    public List<NoteLogResponse> getNoteLogs()
+    {
+        return copyList(noteLogs);
+    }
+
+
+    /**
+     * Set up the first page of note logs attached to the asset, each with the count of its notes.
+     *
+     * @param noteLogs list of note logs
+     */
+    public void setNoteLogs(List<NoteLogResponse> noteLogs)
+    {
+        this.noteLogs = noteLogs;
+    }
+
+
+    /**
+     * Return the first page of ratings attached to the asset.
+     *
+     * @return list of ratings
+     */
+    public List<Rating> getRatings()
+    {
+        return copyList(ratings);
+    }
+
+
+    /**
+     * Set up the first page of ratings attached to the asset.
+     *
+     * @param ratings list of ratings
+     */
+    public void setRatings(List<Rating> ratings)
+    {
+        this.ratings = ratings;
+    }
+
+
+    /**
+     * Return the first page of assets related to the asset.
+     *
+     * @return list of related assets
+     */
+    public List<RelatedAsset> getRelatedAssets()
+    {
+        return copyList(relatedAssets);
+    }
+
+
+    /**
+     * Set up the first page of assets related to the asset.
+     *
+     * @param relatedAssets list of related assets
+     */
+    public void setRelatedAssets(List<RelatedAsset> relatedAssets)
+    {
+        this.relatedAssets = relatedAssets;
+    }
+
+
+    /**
+     * Return the first page of related media references for the asset.
+     *
+     * @return list of related media references
+     */
+    public List<RelatedMediaReference> getRelatedMediaReferences()
+    {
+        return copyList(relatedMediaReferences);
+    }
+
+
+    /**
+     * Set up the first page of related media references for the asset.
+     *
+     * @param relatedMediaReferences list of related media references
+     */
+    public void setRelatedMediaReferences(List<RelatedMediaReference> relatedMediaReferences)
+    {
+        this.relatedMediaReferences = relatedMediaReferences;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "AssetUniverseResponse{" +
+                "asset=" + getAsset() +
+                ", certifications=" + certifications +
+                ", comments=" + comments +
+                ", connections=" + connections +
+                ", externalIdentifiers=" + externalIdentifiers +
+                ", externalReferences=" + externalReferences +
+                ", informalTags=" + informalTags +
+                ", licenses=" + licenses +
+                ", likes=" + likes +
+                ", knownLocations=" + knownLocations +
+                ", noteLogs=" + noteLogs +
+                ", ratings=" + ratings +
+                ", relatedAssets=" + relatedAssets +
+                ", relatedMediaReferences=" + relatedMediaReferences +
+                ", certificationCount=" + getCertificationCount() +
+                ", commentCount=" + getCommentCount() +
+                ", connectionCount=" + getConnectionCount() +
+                ", externalIdentifierCount=" + getExternalIdentifierCount() +
+                ", externalReferencesCount=" + getExternalReferencesCount() +
+                ", informalTagCount=" + getInformalTagCount() +
+                ", licenseCount=" + getLicenseCount() +
+                ", likeCount=" + getLikeCount() +
+                ", knownLocationsCount=" + getKnownLocationsCount() +
+                ", noteLogsCount=" + getNoteLogsCount() +
+                ", ratingsCount=" + getRatingsCount() +
+                ", relatedAssetCount=" + getRelatedAssetCount() +
+                ", relatedMediaReferenceCount=" + getRelatedMediaReferenceCount() +
+                ", schemaType=" + getSchemaType() +
+                ", lastAttachment=" + getLastAttachment() +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        AssetUniverseResponse that = (AssetUniverseResponse) objectToCompare;
+        return Objects.equals(getCertifications(), that.getCertifications()) &&
+                Objects.equals(getComments(), that.getComments()) &&
+                Objects.equals(getConnections(), that.getConnections()) &&
+                Objects.equals(getExternalIdentifiers(), that.getExternalIdentifiers()) &&
+                Objects.equals(getExternalReferences(), that.getExternalReferences()) &&
+                Objects.equals(getInformalTags(), that.getInformalTags()) &&
+                Objects.equals(getLicenses(), that.getLicenses()) &&
+                Objects.equals(getLikes(), that.getLikes()) &&
+                Objects.equals(getKnownLocations(), that.getKnownLocations()) &&
+                Objects.equals(getNoteLogs(), that.getNoteLogs()) &&
+                Objects.equals(getRatings(), that.getRatings()) &&
+                Objects.equals(getRelatedAssets(), that.getRelatedAssets()) &&
+                Objects.equals(getRelatedMediaReferences(), that.getRelatedMediaReferences());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getCertifications(), getComments(), getConnections(), getExternalIdentifiers(),
+                            getExternalReferences(), getInformalTags(), getLicenses(), getLikes(), getKnownLocations(),
+                            getNoteLogs(), getRatings(), getRelatedAssets(), getRelatedMediaReferences());
+    }
+}
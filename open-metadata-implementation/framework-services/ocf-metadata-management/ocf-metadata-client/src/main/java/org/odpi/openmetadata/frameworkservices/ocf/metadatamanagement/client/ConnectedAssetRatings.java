@@ -98,6 +98,46 @@ public class ConnectedAssetRatings extends Ratings
 
 
 
+    /**
+     * Prime the iterator with the first page of elements that was retrieved with the asset.
+     *
+     * @param firstPage beans from the start of the list
+     */
+    void setFirstPage(List<Rating> firstPage)
+    {
+        super.pagingIterator.setFirstPage(this.getElementList(firstPage));
+    }
+
+
+    /**
+     * Convert the beans returned by the property (metadata) server into the elements stored in the cache.
+     *
+     * @param beans beans from the property server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<Rating> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (Rating  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new Rating(bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
     /**
      * Method implemented by subclass to retrieve the next cached list of elements.
      *
@@ -130,25 +170,7 @@ public class ConnectedAssetRatings extends Ratings
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<Rating>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (Rating  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new Rating(bean));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -5,11 +5,13 @@ package org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.client;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.rest.AssetResponse;
+import org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.rest.AssetUniverseResponse;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.*;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
+import org.springframework.web.client.HttpStatusCodeException;
 
 
 /**
@@ -21,11 +23,12 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
  * 
  * All of ConnectedAssetUniverse's work is done in the constructors.  They extract basic information
  * about the asset and push objects to the super class to retrieve the more detailed properties.
- * These properties are only retrieved on demand.
+ * The first page of each type of attached element is returned with the asset and primed into these
+ * objects.  Later pages, and nested elements such as schema attributes, are only retrieved on demand.
  */
 public class ConnectedAssetUniverse extends AssetUniverse
 {
-    private final int MAX_CACHE_SIZE = 100;
+    private static final int MAX_CACHE_SIZE = 100;
 
     private static final InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
     private static final RESTExceptionHandler    restExceptionHandler    = new RESTExceptionHandler();
@@ -63,6 +66,11 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                   assetGUID,
                                   restClient,
                                   assetResponse);
+
+        if (assetResponse instanceof AssetUniverseResponse)
+        {
+            this.setFirstPages((AssetUniverseResponse) assetResponse);
+        }
     }
 
     /**
@@ -88,7 +96,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                                               UserNotAuthorizedException
     {
         OCFRESTClient restClient = new OCFRESTClient(remoteServerName, omasServerURL);
-        AssetResponse assetResponse = getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        AssetResponse assetResponse = getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
 
         return new ConnectedAssetUniverse(assetResponse,
                                           restClient,
@@ -126,7 +134,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                                               UserNotAuthorizedException
     {
         OCFRESTClient restClient = new OCFRESTClient(remoteServerName, omasServerURL, localServerUserId, localServerPassword);
-        AssetResponse assetResponse = getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        AssetResponse assetResponse = getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
 
         return new ConnectedAssetUniverse(assetResponse,
                                           restClient,
@@ -160,7 +168,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                                                    PropertyServerException,
                                                                                    UserNotAuthorizedException
     {
-        AssetResponse assetResponse = getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        AssetResponse assetResponse = getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
 
         return new ConnectedAssetUniverse(assetResponse,
                                           restClient,
@@ -196,7 +204,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                                                    UserNotAuthorizedException
     {
         OCFRESTClient restClient = new OCFRESTClient(remoteServerName, omasServerURL);
-        AssetResponse assetResponse = getConnectedAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
+        AssetResponse assetResponse = getConnectedAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
 
         return new ConnectedAssetUniverse(assetResponse,
                                           restClient,
@@ -236,7 +244,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                                                    UserNotAuthorizedException
     {
         OCFRESTClient restClient = new OCFRESTClient(remoteServerName, omasServerURL, localServerUserId, localServerPassword);
-        AssetResponse assetResponse = getConnectedAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
+        AssetResponse assetResponse = getConnectedAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
 
         return new ConnectedAssetUniverse(assetResponse,
                                           restClient,
@@ -406,6 +414,211 @@ public class ConnectedAssetUniverse extends AssetUniverse
         }
     }
 
+    /**
+     * Prime the iterators with the first page of each type of element that was returned with the asset.
+     * This saves a call to the server for each type of attached element.
+     *
+     * @param assetUniverseResponse response from the server covering the asset and the first page of its attached elements
+     */
+    private void setFirstPages(AssetUniverseResponse assetUniverseResponse)
+    {
+        if (super.externalIdentifiers != null)
+        {
+            ((ConnectedExternalIdentifiers) super.externalIdentifiers).setFirstPage(assetUniverseResponse.getExternalIdentifiers());
+        }
+
+        if (super.relatedMediaReferences != null)
+        {
+            ((ConnectedRelatedMediaReferences) super.relatedMediaReferences).setFirstPage(assetUniverseResponse.getRelatedMediaReferences());
+        }
+
+        if (super.noteLogs != null)
+        {
+            ((ConnectedNoteLogs) super.noteLogs).setFirstPage(assetUniverseResponse.getNoteLogs());
+        }
+
+        if (super.externalReferences != null)
+        {
+            ((ConnectedExternalReferences) super.externalReferences).setFirstPage(assetUniverseResponse.getExternalReferences());
+        }
+
+        if (super.connections != null)
+        {
+            ((ConnectedConnections) super.connections).setFirstPage(assetUniverseResponse.getConnections());
+        }
+
+        if (super.licenses != null)
+        {
+            ((ConnectedLicenses) super.licenses).setFirstPage(assetUniverseResponse.getLicenses());
+        }
+
+        if (super.certifications != null)
+        {
+            ((ConnectedCertifications) super.certifications).setFirstPage(assetUniverseResponse.getCertifications());
+        }
+
+        if (super.feedback != null)
+        {
+            ((ConnectedFeedback) super.feedback).setFirstPages(assetUniverseResponse.getComments(),
+                                                               assetUniverseResponse.getLikes(),
+                                                               assetUniverseResponse.getRatings(),
+                                                               assetUniverseResponse.getInformalTags());
+        }
+
+        if (super.knownLocations != null)
+        {
+            ((ConnectedLocations) super.knownLocations).setFirstPage(assetUniverseResponse.getKnownLocations());
+        }
+
+        if (super.relatedAssets != null)
+        {
+            ((ConnectedRelatedAssets) super.relatedAssets).setFirstPage(assetUniverseResponse.getRelatedAssets());
+        }
+    }
+
+    /**
+     * Returns the basic information about the asset along with the first page of each type of element attached
+     * to it.  The connection guid allows the short description for the asset to be filled out.  If the server
+     * does not support the universe call, only the summary of the asset is returned.
+     *
+     * @param serviceName calling service
+     * @param remoteServerName  name of the server.
+     * @param omasServerURL  url used to call the server.
+     * @param restClient client to call REST API
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset.
+     *
+     * @return a bean with the basic properties about the asset and, if supported, the first page of its attached elements.
+     * @throws InvalidParameterException the asset GUID is null or invalid.
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private static AssetResponse getConnectedAssetUniverse(String        serviceName,
+                                                           String        remoteServerName,
+                                                           String        omasServerURL,
+                                                           OCFRESTClient restClient,
+                                                           String        userId,
+                                                           String        assetGUID,
+                                                           String        connectionGUID) throws InvalidParameterException,
+                                                                                                PropertyServerException,
+                                                                                                UserNotAuthorizedException
+    {
+        final String   methodName = "getConnectedAssetUniverse";
+        final String   urlTemplate = "/servers/{0}/open-metadata/framework-services/{1}/connected-asset/users/{2}/assets/{3}/via-connection/{4}/universe?elementStart={5}&maxElements={6}";
+
+        invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
+
+        AssetUniverseResponse  restResult = null;
+
+        try
+        {
+            restResult = restClient.callOCFAssetUniverseGetRESTCall(methodName,
+                                                                    omasServerURL + urlTemplate,
+                                                                    remoteServerName,
+                                                                    serviceName,
+                                                                    userId,
+                                                                    assetGUID,
+                                                                    connectionGUID,
+                                                                    0,
+                                                                    MAX_CACHE_SIZE);
+
+            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+        }
+        catch (PropertyServerException error)
+        {
+            if (isUnsupportedCall(error))
+            {
+                return getConnectedAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
+            }
+
+            throw error;
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException error)
+        {
+            throw error;
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.handleUnexpectedException(error, methodName, remoteServerName, omasServerURL);
+        }
+
+        return restResult;
+    }
+
+
+    /**
+     * Returns the basic information about the asset along with the first page of each type of element attached
+     * to it.  Note shortDescription is null in the returned asset because there is no linked connection object.
+     * If the server does not support the universe call, only the summary of the asset is returned.
+     *
+     * @param serviceName calling service
+     * @param remoteServerName  name of the server.
+     * @param omasServerURL  url used to call the server.
+     * @param restClient client to call REST API
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     *
+     * @return a bean with the basic properties about the asset and, if supported, the first page of its attached elements.
+     * @throws InvalidParameterException the asset GUID is null or invalid.
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private static AssetResponse getAssetUniverse(String        serviceName,
+                                                  String        remoteServerName,
+                                                  String        omasServerURL,
+                                                  OCFRESTClient restClient,
+                                                  String        userId,
+                                                  String        assetGUID) throws InvalidParameterException,
+                                                                                  PropertyServerException,
+                                                                                  UserNotAuthorizedException
+    {
+        final String   methodName = "getAssetUniverse";
+        final String   urlTemplate = "/servers/{0}/open-metadata/framework-services/{1}/connected-asset/users/{2}/assets/{3}/universe?elementStart={4}&maxElements={5}";
+        
+        invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
+
+        AssetUniverseResponse  restResult = null;
+
+        try
+        {
+            restResult = restClient.callOCFAssetUniverseGetRESTCall(methodName,
+                                                                    omasServerURL + urlTemplate,
+                                                                    remoteServerName,
+                                                                    serviceName,
+                                                                    userId,
+                                                                    assetGUID,
+                                                                    0,
+                                                                    MAX_CACHE_SIZE);
+
+            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+        }
+        catch (PropertyServerException error)
+        {
+            if (isUnsupportedCall(error))
+            {
+                return getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+            }
+
+            throw error;
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException error)
+        {
+            throw error;
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.handleUnexpectedException(error, methodName, remoteServerName, omasServerURL);
+        }
+
+        return restResult;
+    }
+
+
     /**
      * Returns the basic information about the asset.  The connection guid allows the short description for the
      * asset to be filled out.
@@ -525,6 +738,50 @@ public class ConnectedAssetUniverse extends AssetUniverse
     }
 
 
+    /**
+     * Determine whether an exception from the universe call shows that the server does not support it.  An older server
+     * rejects the unknown URL with 404 (not found) or 405 (method not allowed); a server that recognises the URL but
+     * does not implement it reports 501 (not implemented).
+     *
+     * @param error exception returned from the universe call
+     * @return boolean flag
+     */
+    private static boolean isUnsupportedCall(PropertyServerException error)
+    {
+        if (isUnsupportedHTTPCode(error.getReportedHTTPCode()))
+        {
+            return true;
+        }
+
+        Throwable cause = error.getCause();
+
+        while (cause != null)
+        {
+            if ((cause instanceof HttpStatusCodeException statusCodeException) &&
+                (isUnsupportedHTTPCode(statusCodeException.getStatusCode().value())))
+            {
+                return true;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return whether the HTTP code means that the requested call is not available on the server.
+     *
+     * @param httpCode HTTP response code
+     * @return boolean flag
+     */
+    private static boolean isUnsupportedHTTPCode(int httpCode)
+    {
+        return (httpCode == 404) || (httpCode == 405) || (httpCode == 501);
+    }
+
+
     /**
      * Based on the type of bean passed, return the appropriate type of AssetSchemaType.
      *
@@ -110,6 +110,46 @@ class ConnectedCertifications extends Certifications
     }
 
 
+    /**
+     * Prime the iterator with the first page of elements that was retrieved with the asset.
+     *
+     * @param firstPage beans from the start of the list
+     */
+    void setFirstPage(List<Certification> firstPage)
+    {
+        super.pagingIterator.setFirstPage(this.getElementList(firstPage));
+    }
+
+
+    /**
+     * Convert the beans returned by the property (metadata) server into the elements stored in the cache.
+     *
+     * @param beans beans from the property server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<Certification> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (Certification  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new Certification(bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
     /**
      * Method implemented by subclass to retrieve the next cached list of elements.
      *
@@ -143,25 +183,7 @@ class ConnectedCertifications extends Certifications
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<Certification>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (Certification  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new Certification(bean));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
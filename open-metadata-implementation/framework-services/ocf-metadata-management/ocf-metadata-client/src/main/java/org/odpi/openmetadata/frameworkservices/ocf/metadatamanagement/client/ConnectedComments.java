@@ -125,6 +125,64 @@ public class ConnectedComments extends Comments
     }
 
 
+    /**
+     * Prime the iterator with the first page of elements that was retrieved with the asset.
+     *
+     * @param firstPage beans from the start of the list
+     */
+    void setFirstPage(List<CommentResponse> firstPage)
+    {
+        super.pagingIterator.setFirstPage(this.getElementList(firstPage));
+    }
+
+
+    /**
+     * Convert the beans returned by the property (metadata) server into the elements stored in the cache.
+     *
+     * @param commentResponses beans from the property server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<CommentResponse> commentResponses)
+    {
+        if ((commentResponses == null) || (commentResponses.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (CommentResponse  commentResponse : commentResponses)
+            {
+                if (commentResponse != null)
+                {
+                    Comment                 bean           = commentResponse.getComment();
+                    ConnectedCommentReplies commentReplies = null;
+
+                    if (commentResponse.getReplyCount() > 0)
+                    {
+                        commentReplies = new ConnectedCommentReplies(serviceName,
+                                                                     serverName,
+                                                                     userId,
+                                                                     omasServerURL,
+                                                                     bean.getGUID(),
+                                                                     commentResponse.getReplyCount(),
+                                                                     maxCacheSize,
+                                                                     restClient);
+                    }
+
+                    /*
+                     * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
+                     */
+                    resultList.add(new CommentConversation(bean, commentReplies));
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
     /**
      * Method implemented by subclass to retrieve the next cached list of elements.
      *
@@ -157,43 +215,7 @@ public class ConnectedComments extends Comments
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<CommentResponse> Responses = restResult.getList();
-            if ((Responses == null) || (Responses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (CommentResponse  commentResponse : Responses)
-                {
-                    if (commentResponse != null)
-                    {
-                        Comment                 bean           = commentResponse.getComment();
-                        ConnectedCommentReplies commentReplies = null;
-
-                        if (commentResponse.getReplyCount() > 0)
-                        {
-                            commentReplies = new ConnectedCommentReplies(serviceName,
-                                                                         serverName,
-                                                                         userId,
-                                                                         omasServerURL,
-                                                                         bean.getGUID(),
-                                                                         commentResponse.getReplyCount(),
-                                                                         maxCacheSize,
-                                                                         restClient);
-                        }
-
-                        /*
-                         * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
-                         */
-                        resultList.add(new CommentConversation(bean, commentReplies));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -96,6 +96,46 @@ public class ConnectedConnections extends Connections
     }
 
 
+    /**
+     * Prime the iterator with the first page of elements that was retrieved with the asset.
+     *
+     * @param firstPage beans from the start of the list
+     */
+    void setFirstPage(List<Connection> firstPage)
+    {
+        super.pagingIterator.setFirstPage(this.getElementList(firstPage));
+    }
+
+
+    /**
+     * Convert the beans returned by the property (metadata) server into the elements stored in the cache.
+     *
+     * @param beans beans from the property server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<Connection> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (Connection  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(bean);
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
     /**
      * Method implemented by subclass to retrieve the next cached list of elements.
      *
@@ -128,25 +168,7 @@ public class ConnectedConnections extends Connections
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<Connection>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (Connection  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(bean);
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -115,6 +115,46 @@ public class ConnectedExternalIdentifiers extends ExternalIdentifiers
     }
 
 
+    /**
+     * Prime the iterator with the first page of elements that was retrieved with the asset.
+     *
+     * @param firstPage beans from the start of the list
+     */
+    void setFirstPage(List<ExternalIdentifier> firstPage)
+    {
+        super.pagingIterator.setFirstPage(this.getElementList(firstPage));
+    }
+
+
+    /**
+     * Convert the beans returned by the property (metadata) server into the elements stored in the cache.
+     *
+     * @param beans beans from the property server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<ExternalIdentifier> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (ExternalIdentifier  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(bean);
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
     /**
      * Method implemented by subclass to retrieve the next cached list of elements.
      *
@@ -147,25 +187,7 @@ public class ConnectedExternalIdentifiers extends ExternalIdentifiers
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<ExternalIdentifier>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (ExternalIdentifier  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(bean);
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
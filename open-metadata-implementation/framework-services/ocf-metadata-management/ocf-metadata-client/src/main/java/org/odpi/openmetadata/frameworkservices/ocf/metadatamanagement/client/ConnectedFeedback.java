@@ -3,7 +3,13 @@
 package org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.client;
 
 
+import org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.rest.CommentResponse;
 import org.odpi.openmetadata.frameworks.connectors.properties.AssetFeedback;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.InformalTag;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Like;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Rating;
+
+import java.util.List;
 
 /**
  * ConnectedFeedback provides the open metadata extension to the Open Connector Framework (OCF)'s AssetFeedback
@@ -91,4 +97,39 @@ public class ConnectedFeedback extends AssetFeedback
                                                            restClient);
         }
     }
+
+
+    /**
+     * Prime the iterators with the first page of each type of feedback that was retrieved with the asset.
+     *
+     * @param firstComments first page of comments - may be null
+     * @param firstLikes first page of likes - may be null
+     * @param firstRatings first page of ratings - may be null
+     * @param firstTags first page of informal tags - may be null
+     */
+    void setFirstPages(List<CommentResponse> firstComments,
+                       List<Like>            firstLikes,
+                       List<Rating>          firstRatings,
+                       List<InformalTag>     firstTags)
+    {
+        if (super.comments instanceof ConnectedComments)
+        {
+            ((ConnectedComments) super.comments).setFirstPage(firstComments);
+        }
+
+        if (super.likes instanceof ConnectedLikes)
+        {
+            ((ConnectedLikes) super.likes).setFirstPage(firstLikes);
+        }
+
+        if (super.ratings instanceof ConnectedAssetRatings)
+        {
+            ((ConnectedAssetRatings) super.ratings).setFirstPage(firstRatings);
+        }
+
+        if (super.informalTags instanceof ConnectedInformalTags)
+        {
+            ((ConnectedInformalTags) super.informalTags).setFirstPage(firstTags);
+        }
+    }
 }
@@ -27,6 +27,7 @@ public class ConnectedNoteLogs extends NoteLogs
     private String                 userId;
     private String                 omasServerURL;
     private String                 assetGUID;
+    private int                    maxCacheSize;
     private OCFRESTClient          restClient;
 
 
@@ -60,6 +61,7 @@ public class ConnectedNoteLogs extends NoteLogs
         this.userId          = userId;
         this.omasServerURL   = omasServerURL;
         this.assetGUID       = assetGUID;
+        this.maxCacheSize    = maxCacheSize;
         this.restClient      = restClient;
     }
 
@@ -80,6 +82,7 @@ public class ConnectedNoteLogs extends NoteLogs
             this.userId         = template.userId;
             this.omasServerURL  = template.omasServerURL;
             this.assetGUID      = template.assetGUID;
+            this.maxCacheSize   = template.maxCacheSize;
             this.restClient     = template.restClient;
         }
     }
@@ -97,6 +100,57 @@ public class ConnectedNoteLogs extends NoteLogs
     }
 
 
+    /**
+     * Prime the iterator with the first page of elements that was retrieved with the asset.
+     *
+     * @param firstPage beans from the start of the list
+     */
+    void setFirstPage(List<NoteLogResponse> firstPage)
+    {
+        super.pagingIterator.setFirstPage(this.getElementList(firstPage));
+    }
+
+
+    /**
+     * Convert the beans returned by the property (metadata) server into the elements stored in the cache.
+     *
+     * @param noteLogResponses beans from the property server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<NoteLogResponse> noteLogResponses)
+    {
+        if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (NoteLogResponse  noteLogResponse : noteLogResponses)
+            {
+                if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
+                {
+                    if (noteLogResponse.getNoteCount() > 0)
+                    {
+                        resultList.add(new NoteLog(noteLogResponse.getNoteLog(),
+                                                   new ConnectedNotes(serviceName,
+                                                                      serverName,
+                                                                      userId,
+                                                                      omasServerURL,
+                                                                      noteLogResponse.getNoteLog().getGUID(),
+                                                                      noteLogResponse.getNoteCount(),
+                                                                      maxCacheSize,
+                                                                      restClient)));
+                    }
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
     /**
      * Method implemented by subclass to retrieve the next cached list of elements.
      *
@@ -129,36 +183,7 @@ public class ConnectedNoteLogs extends NoteLogs
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<NoteLogResponse> noteLogResponses = restResult.getList();
-            if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (NoteLogResponse  noteLogResponse : noteLogResponses)
-                {
-                    if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
-                    {
-                        if (noteLogResponse.getNoteCount() > 0)
-                        {
-                            resultList.add(new NoteLog(noteLogResponse.getNoteLog(),
-                                                       new ConnectedNotes(serviceName,
-                                                                          serverName,
-                                                                          userId,
-                                                                          omasServerURL,
-                                                                          noteLogResponse.getNoteLog().getGUID(),
-                                                                          noteLogResponse.getNoteCount(),
-                                                                          maximumSize,
-                                                                          restClient)));
-                        }
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
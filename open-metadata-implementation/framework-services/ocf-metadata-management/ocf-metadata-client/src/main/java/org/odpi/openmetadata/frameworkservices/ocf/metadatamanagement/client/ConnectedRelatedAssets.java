@@ -96,6 +96,52 @@ public class ConnectedRelatedAssets extends RelatedAssets
     }
 
 
+    /**
+     * Prime the iterator with the first page of elements that was retrieved with the asset.
+     *
+     * @param firstPage beans from the start of the list
+     */
+    void setFirstPage(List<RelatedAsset> firstPage)
+    {
+        super.pagingIterator.setFirstPage(this.getElementList(firstPage));
+    }
+
+
+    /**
+     * Convert the beans returned by the property (metadata) server into the elements stored in the cache.
+     *
+     * @param beans beans from the property server
+     * @return list of elements or null if there are none
+     */
+    private List<ElementBase> getElementList(List<RelatedAsset> beans)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<ElementBase>   resultList = new ArrayList<>();
+
+            for (RelatedAsset  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new ConnectedAssetRelatedAssetProperties(bean,
+                                                                            serviceName,
+                                                                            serverName,
+                                                                            userId,
+                                                                            omasServerURL,
+                                                                            assetGUID,
+                                                                            restClient));
+                }
+            }
+
+            return resultList;
+        }
+    }
+
+
     /**
      * Method implemented by subclass to retrieve the next cached list of elements.
      *
@@ -128,31 +174,7 @@ public class ConnectedRelatedAssets extends RelatedAssets
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<RelatedAsset> beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<ElementBase>   resultList = new ArrayList<>();
-
-                for (RelatedAsset  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new ConnectedAssetRelatedAssetProperties(bean,
-                                                                                serviceName,
-                                                                                serverName,
-                                                                                userId,
-                                                                                omasServerURL,
-                                                                                assetGUID,
-                                                                                restClient));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElementList(restResult.getList());
         }
         catch (Exception  error)
         {
@@ -10,6 +10,9 @@ import org.odpi.openmetadata.commonservices.generichandlers.*;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.rest.*;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
@@ -293,8 +296,6 @@ public class OCFMetadataRESTServices
     {
         RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
 
-        final String assetGUIDParameterName = "assetGUID";
-
         AssetResponse response = new AssetResponse();
         AuditLog      auditLog = null;
 
@@ -302,130 +303,526 @@ public class OCFMetadataRESTServices
         {
             List<String>  supportedZones = instanceHandler.getSupportedZones(userId, serverName, serviceURLName, methodName);
 
-            AssetHandler<Asset>  assetHandler         = instanceHandler.getAssetHandler(userId, serverName, methodName);
-            RelatedAssetHandler<RelatedAsset>  relatedAssetHandler  = instanceHandler.getRelatedAssetHandler(userId, serverName, methodName);
-            CertificationHandler<Certification> certificationHandler = instanceHandler.getCertificationHandler(userId, serverName, methodName);
-            CommentHandler<Comment>       commentHandler       = instanceHandler.getCommentHandler(userId, serverName, methodName);
-            ConnectionHandler<Connection>    connectionHandler    = instanceHandler.getConnectionHandler(userId, serverName, methodName);
-            ExternalIdentifierHandler<ExternalIdentifier, Object> externalIdentifierHandler = instanceHandler.getExternalIdentifierHandler(userId,
-                                                                                                                                           serverName,
-                                                                                                                                           methodName);
-            ExternalReferenceLinkHandler<ExternalReference>  externalReferenceHandler  = instanceHandler.getExternalReferenceHandler(userId,
-                                                                                                                                     serverName,
-                                                                                                                                     methodName);
-            InformalTagHandler<InformalTag>             informalTagHandler  = instanceHandler.getInformalTagHandler(userId, serverName,
-                                                                                                                       methodName);
-            LicenseHandler<License>                     licenseHandler      = instanceHandler.getLicenseHandler(userId, serverName,
-                                                                                                                       methodName);
-            LikeHandler<Like>                           likeHandler         = instanceHandler.getLikeHandler(userId, serverName, methodName);
-            LocationHandler<Location>                   locationHandler     = instanceHandler.getLocationHandler(userId, serverName, methodName);
-            NoteLogHandler<NoteLogHeader>               noteLogHandler      = instanceHandler.getNoteLogHandler(userId, serverName, methodName);
-            RatingHandler<Rating>                       ratingHandler       = instanceHandler.getRatingHandler(userId, serverName, methodName);
-            RelatedMediaHandler<RelatedMediaReference>  relatedMediaHandler = instanceHandler.getRelatedMediaHandler(userId, serverName, methodName);
-            SearchKeywordHandler<SearchKeyword>         keywordHandler      = instanceHandler.getKeywordHandler(userId, serverName, methodName);
-            SchemaTypeHandler<SchemaType>               schemaTypeHandler   = instanceHandler.getSchemaTypeHandler(userId, serverName, methodName);
-            OMRSRepositoryHelper                        repositoryHelper    = instanceHandler.getRepositoryHelper(userId, serverName, methodName);
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            this.setUpAssetResponse(response,
+                                    serverName,
+                                    serviceURLName,
+                                    userId,
+                                    assetGUID,
+                                    connectionGUID,
+                                    supportedZones,
+                                    new Date(),
+                                    methodName);
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Retrieve the asset and the counts of the elements attached to it and store them in the response.
+     * The asset is validated against the supported zones and the caller's security.
+     *
+     * @param response response to fill in
+     * @param serverName  name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset - may be null.
+     * @param supportedZones zones that the calling service can access
+     * @param effectiveTime time that the elements must be effective for
+     * @param methodName calling method
+     *
+     * @return boolean indicating whether the asset was retrieved
+     * @throws InvalidParameterException the asset GUID is null or invalid
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request
+     */
+    private boolean setUpAssetResponse(AssetResponse response,
+                                       String        serverName,
+                                       String        serviceURLName,
+                                       String        userId,
+                                       String        assetGUID,
+                                       String        connectionGUID,
+                                       List<String>  supportedZones,
+                                       Date          effectiveTime,
+                                       String        methodName) throws InvalidParameterException,
+                                                                        PropertyServerException,
+                                                                        UserNotAuthorizedException
+    {
+        final String assetGUIDParameterName = "assetGUID";
+
+        AssetHandler<Asset>  assetHandler         = instanceHandler.getAssetHandler(userId, serverName, methodName);
+        RelatedAssetHandler<RelatedAsset>  relatedAssetHandler  = instanceHandler.getRelatedAssetHandler(userId, serverName, methodName);
+        CertificationHandler<Certification> certificationHandler = instanceHandler.getCertificationHandler(userId, serverName, methodName);
+        CommentHandler<Comment>       commentHandler       = instanceHandler.getCommentHandler(userId, serverName, methodName);
+        ConnectionHandler<Connection>    connectionHandler    = instanceHandler.getConnectionHandler(userId, serverName, methodName);
+        ExternalIdentifierHandler<ExternalIdentifier, Object> externalIdentifierHandler = instanceHandler.getExternalIdentifierHandler(userId,
+                                                                                                                                       serverName,
+                                                                                                                                       methodName);
+        ExternalReferenceLinkHandler<ExternalReference>  externalReferenceHandler  = instanceHandler.getExternalReferenceHandler(userId,
+                                                                                                                                 serverName,
+                                                                                                                                 methodName);
+        InformalTagHandler<InformalTag>             informalTagHandler  = instanceHandler.getInformalTagHandler(userId, serverName,
+                                                                                                                   methodName);
+        LicenseHandler<License>                     licenseHandler      = instanceHandler.getLicenseHandler(userId, serverName,
+                                                                                                                   methodName);
+        LikeHandler<Like>                           likeHandler         = instanceHandler.getLikeHandler(userId, serverName, methodName);
+        LocationHandler<Location>                   locationHandler     = instanceHandler.getLocationHandler(userId, serverName, methodName);
+        NoteLogHandler<NoteLogHeader>               noteLogHandler      = instanceHandler.getNoteLogHandler(userId, serverName, methodName);
+        RatingHandler<Rating>                       ratingHandler       = instanceHandler.getRatingHandler(userId, serverName, methodName);
+        RelatedMediaHandler<RelatedMediaReference>  relatedMediaHandler = instanceHandler.getRelatedMediaHandler(userId, serverName, methodName);
+        SearchKeywordHandler<SearchKeyword>         keywordHandler      = instanceHandler.getKeywordHandler(userId, serverName, methodName);
+        SchemaTypeHandler<SchemaType>               schemaTypeHandler   = instanceHandler.getSchemaTypeHandler(userId, serverName, methodName);
+        OMRSRepositoryHelper                        repositoryHelper    = instanceHandler.getRepositoryHelper(userId, serverName, methodName);
+
+        String assetSummary = null;
+        if (connectionGUID != null)
+        {
+            Relationship relationship = assetHandler.getUniqueAttachmentLink(userId,
+                                                                             assetGUID,
+                                                                             assetGUIDParameterName,
+                                                                             OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                             OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_GUID,
+                                                                             OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_NAME,
+                                                                             connectionGUID,
+                                                                             OpenMetadataAPIMapper.CONNECTION_TYPE_NAME,
+                                                                             0,
+                                                                             false,
+                                                                             false,
+                                                                             effectiveTime,
+                                                                             methodName);
+
+            if (relationship != null)
+            {
+                assetSummary = repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
+                                                                  OpenMetadataAPIMapper.ASSET_SUMMARY_PROPERTY_NAME,
+                                                                  relationship.getProperties(),
+                                                                  methodName);
+            }
+        }
+        Asset asset = assetHandler.getBeanFromRepository(userId,
+                                                         assetGUID,
+                                                         assetGUIDParameterName,
+                                                         OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                         false,
+                                                         false,
+                                                         supportedZones,
+                                                         effectiveTime,
+                                                         methodName);
+        if (asset != null)
+        {
+            asset.setConnectionDescription(assetSummary);
+            EntityDetail glossaryEntity = assetHandler.getSupplementaryProperties(assetGUID,
+                                                                                  assetGUIDParameterName,
+                                                                                  OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                  false,
+                                                                                  false,
+                                                                                  effectiveTime,
+                                                                                  methodName);
+
+            if ((glossaryEntity != null) && (glossaryEntity.getProperties() != null))
+            {
+                asset.setDisplayName(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
+                                                                        OpenMetadataAPIMapper.DISPLAY_NAME_PROPERTY_NAME,
+                                                                        glossaryEntity.getProperties(),
+                                                                        methodName));
+
+                asset.setDisplaySummary(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
+                                                                    OpenMetadataAPIMapper.SUMMARY_PROPERTY_NAME,
+                                                                    glossaryEntity.getProperties(),
+                                                                    methodName));
+                asset.setDisplayDescription(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
+                                                                        OpenMetadataAPIMapper.DESCRIPTION_PROPERTY_NAME,
+                                                                        glossaryEntity.getProperties(),
+                                                                        methodName));
+                asset.setAbbreviation(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
+                                                                         OpenMetadataAPIMapper.ABBREVIATION_PROPERTY_NAME,
+                                                                         glossaryEntity.getProperties(),
+                                                                         methodName));
+                asset.setUsage(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
+                                                                  OpenMetadataAPIMapper.USAGE_PROPERTY_NAME,
+                                                                  glossaryEntity.getProperties(),
+                                                                  methodName));
+            }
+            response.setAsset(asset);
+            response.setCertificationCount(certificationHandler.countCertifications(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setCommentCount(commentHandler.countAttachedComments(userId, assetGUID, false, false,effectiveTime, methodName));
+            response.setConnectionCount(connectionHandler.countConnections(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setExternalIdentifierCount(externalIdentifierHandler.countExternalIdentifiers(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setExternalReferencesCount(externalReferenceHandler.countExternalReferences(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setInformalTagCount(informalTagHandler.countTags(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setLicenseCount(licenseHandler.countLicenses(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setLikeCount(likeHandler.countLikes(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setKeywordCount(keywordHandler.countKeywords(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setKnownLocationsCount(locationHandler.countKnownLocations(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setNoteLogsCount(noteLogHandler.countAttachedNoteLogs(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setRatingsCount(ratingHandler.countRatings(userId, assetGUID, false, false, effectiveTime, methodName));
+            response.setRelatedAssetCount(relatedAssetHandler.getRelatedAssetCount(userId,
+                                                                                   assetGUID,
+                                                                                   assetGUIDParameterName,
+                                                                                   OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                   null,
+                                                                                   null,
+                                                                                   supportedZones,
+                                                                                   false,
+                                                                                   false,
+                                                                                   effectiveTime,
+                                                                                   methodName));
+            response.setRelatedMediaReferenceCount(relatedMediaHandler.countRelatedMedia(userId, assetGUID,  false, false, effectiveTime, methodName));
+            response.setSchemaType(schemaTypeHandler.getSchemaTypeForAsset(userId, assetGUID, assetGUIDParameterName,  false, false, effectiveTime, methodName));
+        }
+
+        return (response.getAsset() != null);
+    }
 
 
+    /**
+     * Returns the basic information about the asset.  The connection guid allows the short description for the
+     * asset to be filled out.
+     *
+     * @param serverName  name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset.
+     *
+     * @return a bean with the basic properties about the asset or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
+     * UnrecognizedConnectionGUIDException - the connection GUID is not recognized by the property server or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    public AssetResponse getConnectedAssetSummary(String   serverName,
+                                                  String   serviceURLName,
+                                                  String   userId,
+                                                  String   assetGUID,
+                                                  String   connectionGUID)
+    {
+        final String methodName = "getConnectedAssetSummary";
+
+        return this.getAssetResponse(serverName, serviceURLName, userId, assetGUID, connectionGUID, methodName);
+    }
+
+
+    /**
+     * Returns the basic information about the asset.
+     *
+     * @param serverName String   name of server instance to call.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     *
+     * @return a bean with the basic properties about the asset or
+     * InvalidParameterException - the userId is null or invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public AssetResponse getAssetSummary(String   serverName,
+                                         String   serviceURLName,
+                                         String   userId,
+                                         String   assetGUID)
+    {
+        final String        methodName = "getAssetSummary";
+
+        return this.getAssetResponse(serverName, serviceURLName, userId, assetGUID, null, methodName);
+    }
+
+
+    /**
+     * Returns the asset, the counts of the elements attached to it and the first page of each type of attached
+     * element in a single call.  This is used by clients building an AssetUniverse so that they do not need to make
+     * a separate call for each type of attached element.  The asset is validated against the supported zones and the
+     * caller's security once, and the same effective time is used for all the elements.  A type of attached element
+     * is only retrieved when its count shows there is something to retrieve.  Later pages, and nested elements
+     * such as the schema attributes, are retrieved through the calls for the individual types of element.
+     *
+     * @param serverName String   name of server instance to call.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset - may be null.
+     * @param elementStart int      starting position for fist returned element of each type.
+     * @param maxElements  int      maximum number of elements of each type to return on the call.
+     * @param methodName  String name of calling method.
+     *
+     * @return a bean with the basic properties about the asset and the first page of its attached elements or
+     * InvalidParameterException - the userId is null or invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    private AssetUniverseResponse getAssetUniverseResponse(String   serverName,
+                                                           String   serviceURLName,
+                                                           String   userId,
+                                                           String   assetGUID,
+                                                           String   connectionGUID,
+                                                           int      elementStart,
+                                                           int      maxElements,
+                                                           String   methodName)
+    {
+        final String assetGUIDParameterName = "assetGUID";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AssetUniverseResponse response = new AssetUniverseResponse();
+        AuditLog              auditLog = null;
+
+        try
+        {
+            List<String>  supportedZones = instanceHandler.getSupportedZones(userId, serverName, serviceURLName, methodName);
+
             auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
 
             Date effectiveTime = new Date();
 
-            String assetSummary = null;
-            if (connectionGUID != null)
+            if (this.setUpAssetResponse(response,
+                                        serverName,
+                                        serviceURLName,
+                                        userId,
+                                        assetGUID,
+                                        connectionGUID,
+                                        supportedZones,
+                                        effectiveTime,
+                                        methodName))
             {
-                Relationship relationship = assetHandler.getUniqueAttachmentLink(userId,
+                if (response.getCertificationCount() > 0)
+                {
+                    CertificationHandler<Certification> handler = instanceHandler.getCertificationHandler(userId, serverName, methodName);
+
+                    response.setCertifications(handler.getCertifications(userId,
+                                                                         assetGUID,
+                                                                         assetGUIDParameterName,
+                                                                         supportedZones,
+                                                                         elementStart,
+                                                                         maxElements,
+                                                                         false,
+                                                                         false,
+                                                                         effectiveTime,
+                                                                         methodName));
+                }
+
+                if (response.getCommentCount() > 0)
+                {
+                    CommentHandler<Comment> handler = instanceHandler.getCommentHandler(userId, serverName, methodName);
+
+                    List<Comment> comments = handler.getComments(userId,
+                                                                 assetGUID,
+                                                                 assetGUIDParameterName,
+                                                                 assetGUID,
+                                                                 assetGUIDParameterName,
+                                                                 OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                 supportedZones,
+                                                                 elementStart,
+                                                                 maxElements,
+                                                                 false,
+                                                                 false,
+                                                                 effectiveTime,
+                                                                 methodName);
+
+                    response.setComments(this.getCommentResponses(handler, userId, comments, effectiveTime, methodName));
+                }
+
+                if (response.getConnectionCount() > 0)
+                {
+                    ConnectionHandler<Connection> handler = instanceHandler.getConnectionHandler(userId, serverName, methodName);
+
+                    response.setConnections(handler.getConnectionsForAsset(userId,
+                                                                           assetGUID,
+                                                                           assetGUIDParameterName,
+                                                                           supportedZones,
+                                                                           elementStart,
+                                                                           maxElements,
+                                                                           false,
+                                                                           false,
+                                                                           effectiveTime,
+                                                                           methodName));
+                }
+
+                if (response.getExternalIdentifierCount() > 0)
+                {
+                    ExternalIdentifierHandler<ExternalIdentifier, Object> handler = instanceHandler.getExternalIdentifierHandler(userId, serverName, methodName);
+
+                    response.setExternalIdentifiers(handler.getExternalIdentifiersForElement(userId,
+                                                                                             assetGUID,
+                                                                                             assetGUIDParameterName,
+                                                                                             OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                             supportedZones,
+                                                                                             elementStart,
+                                                                                             maxElements,
+                                                                                             false,
+                                                                                             false,
+                                                                                             effectiveTime,
+                                                                                             methodName));
+                }
+
+                if (response.getExternalReferencesCount() > 0)
+                {
+                    ExternalReferenceLinkHandler<ExternalReference> handler = instanceHandler.getExternalReferenceHandler(userId, serverName, methodName);
+
+                    response.setExternalReferences(handler.getExternalReferences(userId,
                                                                                  assetGUID,
                                                                                  assetGUIDParameterName,
                                                                                  OpenMetadataAPIMapper.ASSET_TYPE_NAME,
-                                                                                 OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_GUID,
-                                                                                 OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_NAME,
-                                                                                 connectionGUID,
-                                                                                 OpenMetadataAPIMapper.CONNECTION_TYPE_NAME,
-                                                                                 0,
+                                                                                 supportedZones,
+                                                                                 elementStart,
+                                                                                 maxElements,
                                                                                  false,
                                                                                  false,
                                                                                  effectiveTime,
-                                                                                 methodName);
+                                                                                 methodName));
+                }
 
-                if (relationship != null)
+                if (response.getInformalTagCount() > 0)
                 {
-                    assetSummary = repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
-                                                                      OpenMetadataAPIMapper.ASSET_SUMMARY_PROPERTY_NAME,
-                                                                      relationship.getProperties(),
-                                                                      methodName);
+                    InformalTagHandler<InformalTag> handler = instanceHandler.getInformalTagHandler(userId, serverName, methodName);
+
+                    response.setInformalTags(handler.getAttachedTags(userId,
+                                                                     assetGUID,
+                                                                     assetGUIDParameterName,
+                                                                     OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                     supportedZones,
+                                                                     elementStart,
+                                                                     maxElements,
+                                                                     false,
+                                                                     false,
+                                                                     effectiveTime,
+                                                                     methodName));
                 }
-            }
-            Asset asset = assetHandler.getBeanFromRepository(userId,
+
+                if (response.getLicenseCount() > 0)
+                {
+                    LicenseHandler<License> handler = instanceHandler.getLicenseHandler(userId, serverName, methodName);
+
+                    response.setLicenses(handler.getLicenses(userId,
                                                              assetGUID,
                                                              assetGUIDParameterName,
                                                              OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                             supportedZones,
+                                                             elementStart,
+                                                             maxElements,
                                                              false,
                                                              false,
-                                                             supportedZones,
                                                              effectiveTime,
-                                                             methodName);
-            if (asset != null)
-            {
-                asset.setConnectionDescription(assetSummary);
-                EntityDetail glossaryEntity = assetHandler.getSupplementaryProperties(assetGUID,
-                                                                                      assetGUIDParameterName,
-                                                                                      OpenMetadataAPIMapper.ASSET_TYPE_NAME,
-                                                                                      false,
-                                                                                      false,
-                                                                                      effectiveTime,
-                                                                                      methodName);
-
-                if ((glossaryEntity != null) && (glossaryEntity.getProperties() != null))
+                                                             methodName));
+                }
+
+                if (response.getLikeCount() > 0)
                 {
-                    asset.setDisplayName(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
-                                                                            OpenMetadataAPIMapper.DISPLAY_NAME_PROPERTY_NAME,
-                                                                            glossaryEntity.getProperties(),
-                                                                            methodName));
+                    LikeHandler<Like> handler = instanceHandler.getLikeHandler(userId, serverName, methodName);
 
-                    asset.setDisplaySummary(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
-                                                                        OpenMetadataAPIMapper.SUMMARY_PROPERTY_NAME,
-                                                                        glossaryEntity.getProperties(),
-                                                                        methodName));
-                    asset.setDisplayDescription(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
-                                                                            OpenMetadataAPIMapper.DESCRIPTION_PROPERTY_NAME,
-                                                                            glossaryEntity.getProperties(),
-                                                                            methodName));
-                    asset.setAbbreviation(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
-                                                                             OpenMetadataAPIMapper.ABBREVIATION_PROPERTY_NAME,
-                                                                             glossaryEntity.getProperties(),
-                                                                             methodName));
-                    asset.setUsage(repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
-                                                                      OpenMetadataAPIMapper.USAGE_PROPERTY_NAME,
-                                                                      glossaryEntity.getProperties(),
-                                                                      methodName));
+                    response.setLikes(handler.getLikes(userId,
+                                                       assetGUID,
+                                                       assetGUIDParameterName,
+                                                       OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                       supportedZones,
+                                                       elementStart,
+                                                       maxElements,
+                                                       false,
+                                                       false,
+                                                       effectiveTime,
+                                                       methodName));
+                }
+
+                if (response.getKnownLocationsCount() > 0)
+                {
+                    LocationHandler<Location> handler = instanceHandler.getLocationHandler(userId, serverName, methodName);
+
+                    response.setKnownLocations(handler.getAssetLocations(userId,
+                                                                         assetGUID,
+                                                                         assetGUIDParameterName,
+                                                                         OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                         supportedZones,
+                                                                         elementStart,
+                                                                         maxElements,
+                                                                         false,
+                                                                         false,
+                                                                         effectiveTime,
+                                                                         methodName));
+                }
+
+                if (response.getNoteLogsCount() > 0)
+                {
+                    NoteLogHandler<NoteLogHeader> handler = instanceHandler.getNoteLogHandler(userId, serverName, methodName);
+
+                    List<NoteLogHeader> noteLogs = handler.getAttachedNoteLogs(userId,
+                                                                               assetGUID,
+                                                                               assetGUIDParameterName,
+                                                                               OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                               supportedZones,
+                                                                               elementStart,
+                                                                               maxElements,
+                                                                               false,
+                                                                               false,
+                                                                               effectiveTime,
+                                                                               methodName);
+
+                    response.setNoteLogs(this.getNoteLogResponses(serverName, userId, noteLogs, effectiveTime, methodName));
+                }
+
+                if (response.getRatingsCount() > 0)
+                {
+                    RatingHandler<Rating> handler = instanceHandler.getRatingHandler(userId, serverName, methodName);
+
+                    response.setRatings(handler.getRatings(userId,
+                                                           assetGUID,
+                                                           assetGUIDParameterName,
+                                                           OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                           supportedZones,
+                                                           elementStart,
+                                                           maxElements,
+                                                           false,
+                                                           false,
+                                                           effectiveTime,
+                                                           methodName));
+                }
+
+                if (response.getRelatedAssetCount() > 0)
+                {
+                    RelatedAssetHandler<RelatedAsset> handler = instanceHandler.getRelatedAssetHandler(userId, serverName, methodName);
+
+                    response.setRelatedAssets(handler.getRelatedAssets(userId,
+                                                                       assetGUID,
+                                                                       assetGUIDParameterName,
+                                                                       OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                       null,
+                                                                       null,
+                                                                       OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                       supportedZones,
+                                                                       0,
+                                                                       elementStart,
+                                                                       maxElements,
+                                                                       false,
+                                                                       false,
+                                                                       effectiveTime,
+                                                                       methodName));
+                }
+
+                if (response.getRelatedMediaReferenceCount() > 0)
+                {
+                    RelatedMediaHandler<RelatedMediaReference> handler = instanceHandler.getRelatedMediaHandler(userId, serverName, methodName);
+
+                    response.setRelatedMediaReferences(handler.getRelatedMedia(userId,
+                                                                               assetGUID,
+                                                                               assetGUIDParameterName,
+                                                                               OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                               supportedZones,
+                                                                               elementStart,
+                                                                               maxElements,
+                                                                               false,
+                                                                               false,
+                                                                               effectiveTime,
+                                                                               methodName));
                 }
-                response.setAsset(asset);
-                response.setCertificationCount(certificationHandler.countCertifications(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setCommentCount(commentHandler.countAttachedComments(userId, assetGUID, false, false,effectiveTime, methodName));
-                response.setConnectionCount(connectionHandler.countConnections(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setExternalIdentifierCount(externalIdentifierHandler.countExternalIdentifiers(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setExternalReferencesCount(externalReferenceHandler.countExternalReferences(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setInformalTagCount(informalTagHandler.countTags(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setLicenseCount(licenseHandler.countLicenses(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setLikeCount(likeHandler.countLikes(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setKeywordCount(keywordHandler.countKeywords(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setKnownLocationsCount(locationHandler.countKnownLocations(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setNoteLogsCount(noteLogHandler.countAttachedNoteLogs(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setRatingsCount(ratingHandler.countRatings(userId, assetGUID, false, false, effectiveTime, methodName));
-                response.setRelatedAssetCount(relatedAssetHandler.getRelatedAssetCount(userId,
-                                                                                       assetGUID,
-                                                                                       assetGUIDParameterName,
-                                                                                       OpenMetadataAPIMapper.ASSET_TYPE_NAME,
-                                                                                       null,
-                                                                                       null,
-                                                                                       supportedZones,
-                                                                                       false,
-                                                                                       false,
-                                                                                       effectiveTime,
-                                                                                       methodName));
-                response.setRelatedMediaReferenceCount(relatedMediaHandler.countRelatedMedia(userId, assetGUID,  false, false, effectiveTime, methodName));
-                response.setSchemaType(schemaTypeHandler.getSchemaTypeForAsset(userId, assetGUID, assetGUIDParameterName,  false, false, effectiveTime, methodName));
             }
         }
         catch (Exception error)
@@ -440,56 +837,65 @@ public class OCFMetadataRESTServices
 
 
     /**
-     * Returns the basic information about the asset.  The connection guid allows the short description for the
-     * asset to be filled out.
+     * Returns the asset, the counts of the elements attached to it and the first page of each type of attached
+     * element.  The connection guid allows the short description for the asset to be filled out.
      *
-     * @param serverName  name of the server.
+     * @param serverName String   name of server instance to call.
      * @param serviceURLName  String   name of the service that created the connector that issued this request.
      * @param userId     String   userId of user making request.
      * @param assetGUID  String   unique id for asset.
      * @param connectionGUID  unique id for connection used to access asset.
+     * @param elementStart int      starting position for fist returned element of each type.
+     * @param maxElements  int      maximum number of elements of each type to return on the call.
      *
-     * @return a bean with the basic properties about the asset or
+     * @return a bean with the basic properties about the asset and the first page of its attached elements or
      * InvalidParameterException - the asset GUID is null or invalid or
      * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
      * UnrecognizedConnectionGUIDException - the connection GUID is not recognized by the property server or
      * PropertyServerException - there is a problem retrieving the asset properties from the property server or
      * UserNotAuthorizedException the requesting user is not authorized to issue this request.
      */
-    public AssetResponse getConnectedAssetSummary(String   serverName,
-                                                  String   serviceURLName,
-                                                  String   userId,
-                                                  String   assetGUID,
-                                                  String   connectionGUID)
+    public AssetUniverseResponse getConnectedAssetUniverse(String   serverName,
+                                                           String   serviceURLName,
+                                                           String   userId,
+                                                           String   assetGUID,
+                                                           String   connectionGUID,
+                                                           int      elementStart,
+                                                           int      maxElements)
     {
-        final String methodName = "getConnectedAssetSummary";
+        final String methodName = "getConnectedAssetUniverse";
 
-        return this.getAssetResponse(serverName, serviceURLName, userId, assetGUID, connectionGUID, methodName);
+        return this.getAssetUniverseResponse(serverName, serviceURLName, userId, assetGUID, connectionGUID, elementStart, maxElements, methodName);
     }
 
 
     /**
-     * Returns the basic information about the asset.
+     * Returns the asset, the counts of the elements attached to it and the first page of each type of attached
+     * element.
      *
      * @param serverName String   name of server instance to call.
      * @param serviceURLName  String   name of the service that created the connector that issued this request.
      * @param userId     String   userId of user making request.
      * @param assetGUID  String   unique id for asset.
+     * @param elementStart int      starting position for fist returned element of each type.
+     * @param maxElements  int      maximum number of elements of each type to return on the call.
      *
-     * @return a bean with the basic properties about the asset or
+     * @return a bean with the basic properties about the asset and the first page of its attached elements or
      * InvalidParameterException - the userId is null or invalid or
      * UnrecognizedAssetGUIDException - the GUID is null or invalid or
      * PropertyServerException - there is a problem retrieving the asset properties from the property server or
      * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
      */
-    public AssetResponse getAssetSummary(String   serverName,
-                                         String   serviceURLName,
-                                         String   userId,
-                                         String   assetGUID)
+    public AssetUniverseResponse getAssetUniverse(String   serverName,
+                                                  String   serviceURLName,
+                                                  String   userId,
+                                                  String   assetGUID,
+                                                  int      elementStart,
+                                                  int      maxElements)
     {
-        final String        methodName = "getAssetSummary";
+        final String methodName = "getAssetUniverse";
 
-        return this.getAssetResponse(serverName, serviceURLName, userId, assetGUID, null, methodName);
+        return this.getAssetUniverseResponse(serverName, serviceURLName, userId, assetGUID, null, elementStart, maxElements, methodName);
     }
 
 
@@ -551,6 +957,95 @@ public class OCFMetadataRESTServices
     }
 
 
+    /**
+     * Wrap each comment in a CommentResponse with the count of its replies.
+     *
+     * @param handler comment handler
+     * @param userId       String   userId of user making request
+     * @param comments list of comments retrieved from the repository - may be null
+     * @param effectiveTime time that the replies must be effective for
+     * @param methodName  String name of calling method.
+     *
+     * @return list of comment responses - empty if there are no comments
+     * @throws InvalidParameterException the parameters are invalid
+     * @throws PropertyServerException there is a problem retrieving the replies from the property server
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request
+     */
+    private List<CommentResponse> getCommentResponses(CommentHandler<Comment> handler,
+                                                      String                  userId,
+                                                      List<Comment>           comments,
+                                                      Date                    effectiveTime,
+                                                      String                  methodName) throws InvalidParameterException,
+                                                                                                 PropertyServerException,
+                                                                                                 UserNotAuthorizedException
+    {
+        List<CommentResponse> results = new ArrayList<>();
+
+        if (comments != null)
+        {
+            for (Comment  comment : comments)
+            {
+                if (comment != null)
+                {
+                    CommentResponse commentResponse = new CommentResponse();
+
+                    commentResponse.setComment(comment);
+                    commentResponse.setReplyCount(handler.countAttachedComments(userId, comment.getGUID(), false, false, effectiveTime, methodName));
+
+                    results.add(commentResponse);
+                }
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Wrap each note log in a NoteLogResponse with the count of its notes.
+     *
+     * @param serverName   String   name of server instance to call
+     * @param userId       String   userId of user making request
+     * @param noteLogs list of note logs retrieved from the repository - may be null
+     * @param effectiveTime time that the notes must be effective for
+     * @param methodName  String name of calling method.
+     *
+     * @return list of note log responses - empty if there are no note logs
+     * @throws InvalidParameterException the parameters are invalid
+     * @throws PropertyServerException there is a problem retrieving the notes from the property server
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request
+     */
+    private List<NoteLogResponse> getNoteLogResponses(String              serverName,
+                                                      String              userId,
+                                                      List<NoteLogHeader> noteLogs,
+                                                      Date                effectiveTime,
+                                                      String              methodName) throws InvalidParameterException,
+                                                                                             PropertyServerException,
+                                                                                             UserNotAuthorizedException
+    {
+        List<NoteLogResponse>  results = new ArrayList<>();
+
+        if (noteLogs != null)
+        {
+            NoteHandler<Note>  noteHandler = instanceHandler.getNoteHandler(userId, serverName, methodName);
+            for (NoteLogHeader noteLog : noteLogs)
+            {
+                if (noteLog != null)
+                {
+                    NoteLogResponse noteLogResponse = new NoteLogResponse();
+
+                    noteLogResponse.setNoteLog(noteLog);
+                    noteLogResponse.setNoteCount(noteHandler.countAttachedNotes(userId, noteLog.getGUID(), false, false, effectiveTime, methodName));
+
+                    results.add(noteLogResponse);
+                }
+            }
+        }
+
+        return results;
+    }
+
+
     /**
      * Returns the list of comments for the requested element.
      *
@@ -606,23 +1101,7 @@ public class OCFMetadataRESTServices
                                                                   false,
                                                                   new Date(),
                                                                   methodName);
-            List<CommentResponse> results = new ArrayList<>();
-
-            if (attachedComments != null)
-            {
-                for (Comment  comment : attachedComments)
-                {
-                    if (comment != null)
-                    {
-                        CommentResponse commentResponse = new CommentResponse();
-
-                        commentResponse.setComment(comment);
-                        commentResponse.setReplyCount(handler.countAttachedComments(userId, comment.getGUID(), false, false, new Date(), methodName));
-
-                        results.add(commentResponse);
-                    }
-                }
-            }
+            List<CommentResponse> results = this.getCommentResponses(handler, userId, attachedComments, new Date(), methodName);
 
             if (results.isEmpty())
             {
@@ -1176,24 +1655,7 @@ public class OCFMetadataRESTServices
                                                                                 false,
                                                                                 new Date(),
                                                                                 methodName);
-            List<NoteLogResponse>  results = new ArrayList<>();
-
-            if (noteLogs != null)
-            {
-                NoteHandler<Note>  noteHandler = instanceHandler.getNoteHandler(userId, serverName, methodName);
-                for (NoteLogHeader noteLog : noteLogs)
-                {
-                    if (noteLog != null)
-                    {
-                        NoteLogResponse noteLogResponse = new NoteLogResponse();
-
-                        noteLogResponse.setNoteLog(noteLog);
-                        noteLogResponse.setNoteCount(noteHandler.countAttachedNotes(userId, noteLog.getGUID(), false, false, new Date(), methodName));
-
-                        results.add(noteLogResponse);
-                    }
-                }
-            }
+            List<NoteLogResponse>  results = this.getNoteLogResponses(serverName, userId, noteLogs, new Date(), methodName);
 
             if (results.isEmpty())
             {
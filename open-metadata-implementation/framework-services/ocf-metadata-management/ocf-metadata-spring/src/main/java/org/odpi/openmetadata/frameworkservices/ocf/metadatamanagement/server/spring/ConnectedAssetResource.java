@@ -213,6 +213,69 @@ public class ConnectedAssetResource
     }
 
 
+    /**
+     * Returns the asset, the counts of the elements attached to it and the first page of each type of attached element
+     * in a single call.  Later pages are retrieved through the calls for the individual types of element.
+     *
+     * @param serverName   String   name of server instance to call.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId       String   userId of user making request.
+     * @param assetGUID    String   unique id for asset.
+     * @param elementStart int      starting position for fist returned element of each type.
+     * @param maxElements  int      maximum number of elements of each type to return on the call.
+     *
+     * @return a bean with the basic properties about the asset and the first page of its attached elements or
+     * InvalidParameterException - the userId is null or invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    @GetMapping(path = "/assets/{assetGUID}/universe")
+
+    public AssetUniverseResponse getAssetUniverse(@PathVariable String  serverName,
+                                                  @PathVariable String  serviceURLName,
+                                                  @PathVariable String  userId,
+                                                  @PathVariable String  assetGUID,
+                                                  @RequestParam int     elementStart,
+                                                  @RequestParam int     maxElements)
+    {
+        return restAPI.getAssetUniverse(serverName, serviceURLName, userId, assetGUID, elementStart, maxElements);
+    }
+
+
+    /**
+     * Returns the asset, the counts of the elements attached to it and the first page of each type of attached element
+     * in a single call.  The connection guid allows the short description for the asset to be filled out.
+     *
+     * @param serverName   String   name of server instance to call.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId       String   userId of user making request.
+     * @param assetGUID    String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset.
+     * @param elementStart int      starting position for fist returned element of each type.
+     * @param maxElements  int      maximum number of elements of each type to return on the call.
+     *
+     * @return a bean with the basic properties about the asset and the first page of its attached elements or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
+     * UnrecognizedConnectionGUIDException - the connection GUID is not recognized by the property server or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    @GetMapping(path = "/assets/{assetGUID}/via-connection/{connectionGUID}/universe")
+
+    public AssetUniverseResponse getConnectedAssetUniverse(@PathVariable String  serverName,
+                                                           @PathVariable String  serviceURLName,
+                                                           @PathVariable String  userId,
+                                                           @PathVariable String  assetGUID,
+                                                           @PathVariable String  connectionGUID,
+                                                           @RequestParam int     elementStart,
+                                                           @RequestParam int     maxElements)
+    {
+        return restAPI.getConnectedAssetUniverse(serverName, serviceURLName, userId, assetGUID, connectionGUID, elementStart, maxElements);
+    }
+
+
     /**
      * Returns the list of certifications for the asset.
      *
@@ -0,0 +1,83 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * GaugeMetric reports a value, such as a queue depth or a processing lag, that is read from its owning component
+ * each time the metric is reported.  Nothing is recorded between reports so a gauge adds no cost to the
+ * component's processing.
+ */
+public class GaugeMetric extends PerformanceMetric
+{
+    public static final String METRIC_TYPE = "gauge";
+
+    private final Supplier<Number> valueSupplier;
+
+
+    /**
+     * Constructor supplies the identity of the metric and the source of its value.
+     *
+     * @param name name of the metric
+     * @param tags tag names and values
+     * @param valueSupplier function that returns the current value
+     */
+    GaugeMetric(String              name,
+                Map<String, String> tags,
+                Supplier<Number>    valueSupplier)
+    {
+        super(name, tags);
+
+        this.valueSupplier = valueSupplier;
+    }
+
+
+    /**
+     * Return the current value of the gauge.
+     *
+     * @return value or NaN if the value is not available
+     */
+    public double getValue()
+    {
+        try
+        {
+            Number value = valueSupplier.get();
+
+            if (value != null)
+            {
+                return value.doubleValue();
+            }
+        }
+        catch (Exception error)
+        {
+            /*
+             * The component has been shut down - nothing to report.
+             */
+        }
+
+        return Double.NaN;
+    }
+
+
+    /**
+     * Return a snapshot of the current value of the metric.
+     *
+     * @return report bean
+     */
+    @Override
+    public PerformanceMetricReport getReport()
+    {
+        PerformanceMetricReport report = super.getReport(METRIC_TYPE);
+        double                  value  = this.getValue();
+
+        if (! Double.isNaN(value))
+        {
+            report.setValue(value);
+        }
+
+        return report;
+    }
+}
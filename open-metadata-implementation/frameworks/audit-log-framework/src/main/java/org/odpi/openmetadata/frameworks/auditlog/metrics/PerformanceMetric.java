@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PerformanceMetric is the base class for the measurements held in the PerformanceMetrics registry.
+ * A metric is identified by its name and a set of tags (name-value pairs) in the same way as a Micrometer meter,
+ * so the metrics can be published to a Micrometer registry without translation.
+ */
+public abstract class PerformanceMetric
+{
+    private final String              name;
+    private final Map<String, String> tags;
+    private final String              metricId;
+
+
+    /**
+     * Constructor supplies the identity of the metric.
+     *
+     * @param name name of the metric
+     * @param tags tag names and values
+     */
+    PerformanceMetric(String              name,
+                      Map<String, String> tags)
+    {
+        this.name     = name;
+        this.tags     = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+        this.metricId = getMetricId(name, tags);
+    }
+
+
+    /**
+     * Return the name of the metric.
+     *
+     * @return name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the tags that distinguish this metric from other metrics with the same name.
+     *
+     * @return map of tag names to tag values
+     */
+    public Map<String, String> getTags()
+    {
+        return tags;
+    }
+
+
+    /**
+     * Return the unique identifier of the metric built from its name and tags.
+     *
+     * @return string identifier
+     */
+    public String getMetricId()
+    {
+        return metricId;
+    }
+
+
+    /**
+     * Return a snapshot of the current value of the metric.
+     *
+     * @return report bean
+     */
+    public abstract PerformanceMetricReport getReport();
+
+
+    /**
+     * Return a report with the name and tags filled in.
+     *
+     * @param metricType type of metric
+     * @return report bean
+     */
+    PerformanceMetricReport getReport(String metricType)
+    {
+        PerformanceMetricReport report = new PerformanceMetricReport();
+
+        report.setName(name);
+        report.setMetricType(metricType);
+        report.setTags(tags);
+
+        return report;
+    }
+
+
+    /**
+     * Build the unique identifier of a metric.
+     *
+     * @param name name of the metric
+     * @param tags tag names and values
+     * @return string identifier
+     */
+    static String getMetricId(String              name,
+                              Map<String, String> tags)
+    {
+        return name + tags;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return getClass().getSimpleName() + "{" +
+                "name='" + name + '\'' +
+                ", tags=" + tags +
+                '}';
+    }
+}
@@ -0,0 +1,310 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * PerformanceMetricReport is a snapshot of a single performance metric.  Timers fill in the count and time
+ * properties; gauges fill in the value.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class PerformanceMetricReport
+{
+    private String              name            = null;
+    private String              metricType      = null;
+    private Map<String, String> tags            = null;
+    private Long                count           = null;
+    private Double              totalTimeMillis = null;
+    private Double              maxTimeMillis   = null;
+    private Double              meanTimeMillis  = null;
+    private Double              value           = null;
+
+
+    /**
+     * Default constructor
+     */
+    public PerformanceMetricReport()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public PerformanceMetricReport(PerformanceMetricReport template)
+    {
+        if (template != null)
+        {
+            name = template.getName();
+            metricType = template.getMetricType();
+            tags = template.getTags();
+            count = template.getCount();
+            totalTimeMillis = template.getTotalTimeMillis();
+            maxTimeMillis = template.getMaxTimeMillis();
+            meanTimeMillis = template.getMeanTimeMillis();
+            value = template.getValue();
+        }
+    }
+
+
+    /**
+     * Return the name of the metric.
+     *
+     * @return name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Set up the name of the metric.
+     *
+     * @param name name
+     */
+    public void setName(String name)
+    {
+        this.name = name;
+    }
+
+
+    /**
+     * Return the type of metric - timer or gauge.
+     *
+     * @return type name
+     */
+    public String getMetricType()
+    {
+        return metricType;
+    }
+
+
+    /**
+     * Set up the type of metric - timer or gauge.
+     *
+     * @param metricType type name
+     */
+    public void setMetricType(String metricType)
+    {
+        this.metricType = metricType;
+    }
+
+
+    /**
+     * Return the tags that distinguish this metric from other metrics with the same name.
+     *
+     * @return map of tag names to tag values
+     */
+    public Map<String, String> getTags()
+    {
+        if (tags == null)
+        {
+            return null;
+        }
+        else if (tags.isEmpty())
+        {
+            return null;
+        }
+
+        return new HashMap<>(tags);
+    }
+
+
+    /**
+     * Set up the tags that distinguish this metric from other metrics with the same name.
+     *
+     * @param tags map of tag names to tag values
+     */
+    public void setTags(Map<String, String> tags)
+    {
+        this.tags = tags;
+    }
+
+
+    /**
+     * Return the number of operations recorded by a timer.
+     *
+     * @return count
+     */
+    public Long getCount()
+    {
+        return count;
+    }
+
+
+    /**
+     * Set up the number of operations recorded by a timer.
+     *
+     * @param count count
+     */
+    public void setCount(Long count)
+    {
+        this.count = count;
+    }
+
+
+    /**
+     * Return the total time taken by the operations recorded by a timer.
+     *
+     * @return milliseconds
+     */
+    public Double getTotalTimeMillis()
+    {
+        return totalTimeMillis;
+    }
+
+
+    /**
+     * Set up the total time taken by the operations recorded by a timer.
+     *
+     * @param totalTimeMillis milliseconds
+     */
+    public void setTotalTimeMillis(Double totalTimeMillis)
+    {
+        this.totalTimeMillis = totalTimeMillis;
+    }
+
+
+    /**
+     * Return the longest time taken by one of the operations recorded by a timer.
+     *
+     * @return milliseconds
+     */
+    public Double getMaxTimeMillis()
+    {
+        return maxTimeMillis;
+    }
+
+
+    /**
+     * Set up the longest time taken by one of the operations recorded by a timer.
+     *
+     * @param maxTimeMillis milliseconds
+     */
+    public void setMaxTimeMillis(Double maxTimeMillis)
+    {
+        this.maxTimeMillis = maxTimeMillis;
+    }
+
+
+    /**
+     * Return the average time taken by the operations recorded by a timer.
+     *
+     * @return milliseconds
+     */
+    public Double getMeanTimeMillis()
+    {
+        return meanTimeMillis;
+    }
+
+
+    /**
+     * Set up the average time taken by the operations recorded by a timer.
+     *
+     * @param meanTimeMillis milliseconds
+     */
+    public void setMeanTimeMillis(Double meanTimeMillis)
+    {
+        this.meanTimeMillis = meanTimeMillis;
+    }
+
+
+    /**
+     * Return the current value of a gauge.
+     *
+     * @return value
+     */
+    public Double getValue()
+    {
+        return value;
+    }
+
+
+    /**
+     * Set up the current value of a gauge.
+     *
+     * @param value value
+     */
+    public void setValue(Double value)
+    {
+        this.value = value;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "PerformanceMetricReport{" +
+                "name='" + name + '\'' +
+                ", metricType='" + metricType + '\'' +
+                ", tags=" + tags +
+                ", count=" + count +
+                ", totalTimeMillis=" + totalTimeMillis +
+                ", maxTimeMillis=" + maxTimeMillis +
+                ", meanTimeMillis=" + meanTimeMillis +
+                ", value=" + value +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        PerformanceMetricReport that = (PerformanceMetricReport) objectToCompare;
+        return Objects.equals(name, that.name) &&
+                       Objects.equals(metricType, that.metricType) &&
+                       Objects.equals(tags, that.tags) &&
+                       Objects.equals(count, that.count) &&
+                       Objects.equals(totalTimeMillis, that.totalTimeMillis) &&
+                       Objects.equals(maxTimeMillis, that.maxTimeMillis) &&
+                       Objects.equals(meanTimeMillis, that.meanTimeMillis) &&
+                       Objects.equals(value, that.value);
+    }
+
+
+    /**
+     * Return hash code based on properties.
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(name, metricType, tags, count, totalTimeMillis, maxTimeMillis, meanTimeMillis, value);
+    }
+}
@@ -0,0 +1,414 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * PerformanceMetrics is the registry of the performance metrics for the components running in the
+ * OMAG Server Platform.  The components record how long their operations take in timers, and register gauges
+ * for values such as queue depths and processing lags.  The registry is held in statics, so it is scoped to
+ * the class loader and shared by all the servers running on the platform; components include the server name
+ * in the tags of their metrics where it is known.
+ * <br><br>
+ * The metrics can be retrieved as a report through the platform services, and are passed to any registered
+ * PerformanceMetricsListener so they can be published to a monitoring system such as Micrometer.
+ * <br><br>
+ * Tags are supplied as a list of alternating tag names and values.
+ */
+public class PerformanceMetrics
+{
+    public static final String METADATA_COLLECTION_REQUEST_METRIC = "egeria.omrs.metadata.collection.requests";
+    public static final String REST_REQUEST_METRIC                = "egeria.rest.requests";
+    public static final String TOPIC_LISTENER_LAG_METRIC          = "egeria.omrs.topic.listener.lag";
+    public static final String TOPIC_LISTENER_QUEUE_DEPTH_METRIC  = "egeria.omrs.topic.listener.queue.depth";
+    public static final String KAFKA_CONSUMER_LAG_METRIC          = "egeria.kafka.consumer.lag";
+    public static final String CONNECTOR_REFRESH_METRIC           = "egeria.integration.connector.refresh";
+
+    private static final Map<String, PerformanceMetric>   metrics   = new ConcurrentHashMap<>();
+    private static final Map<TimerKey, TimerMetric>       timers    = new ConcurrentHashMap<>();
+    private static final List<PerformanceMetricsListener> listeners = new CopyOnWriteArrayList<>();
+    private static volatile boolean                       enabled   = true;
+
+
+    /**
+     * Return whether the timers are recording.
+     *
+     * @return boolean
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+
+    /**
+     * Turn the recording of timings on or off.  Gauges are not affected since they cost nothing until they are read.
+     *
+     * @param enabled boolean
+     */
+    public static void setEnabled(boolean enabled)
+    {
+        PerformanceMetrics.enabled = enabled;
+    }
+
+
+    /**
+     * Return the timer for the supplied name and tags, creating it if this is the first time it is used.
+     * Timers that are already registered are found by their name and tags as supplied, so the tag map and
+     * metric id are only built the first time.  Components that record the same timer repeatedly can also save
+     * the timer to avoid the lookup.
+     *
+     * @param name name of the metric
+     * @param tags alternating tag names and values
+     * @return timer
+     */
+    public static TimerMetric getTimer(String    name,
+                                       String... tags)
+    {
+        TimerMetric timer = timers.get(new TimerKey(name, tags));
+
+        if (timer != null)
+        {
+            return timer;
+        }
+
+        timer = findOrCreateTimer(name, tags);
+
+        if (metrics.get(timer.getMetricId()) == timer)
+        {
+            TimerKey timerKey = new TimerKey(name, tags == null ? null : tags.clone());
+
+            timers.putIfAbsent(timerKey, timer);
+
+            /*
+             * The timer may have been removed from the registry while it was being cached.
+             */
+            if (metrics.get(timer.getMetricId()) != timer)
+            {
+                timers.remove(timerKey, timer);
+            }
+        }
+
+        return timer;
+    }
+
+
+    /**
+     * Return the registered timer for the supplied name and tags, registering a new timer if there is no metric
+     * with the same identity.
+     *
+     * @param name name of the metric
+     * @param tags alternating tag names and values
+     * @return timer
+     */
+    private static TimerMetric findOrCreateTimer(String    name,
+                                                 String... tags)
+    {
+        Map<String, String> tagMap   = getTagMap(tags);
+        String              metricId = PerformanceMetric.getMetricId(name, tagMap);
+        PerformanceMetric   metric   = metrics.get(metricId);
+
+        if (metric == null)
+        {
+            TimerMetric newTimer = new TimerMetric(name, tagMap);
+
+            metric = metrics.putIfAbsent(metricId, newTimer);
+
+            if (metric == null)
+            {
+                notifyRegistered(newTimer);
+
+                return newTimer;
+            }
+        }
+
+        if (metric instanceof TimerMetric registeredTimer)
+        {
+            return registeredTimer;
+        }
+
+        /*
+         * The name is in use by a gauge - the timings are recorded but not reported.
+         */
+        return new TimerMetric(name, tagMap);
+    }
+
+
+    /**
+     * Record the time taken by an operation that started at the supplied time.
+     *
+     * @param startNanoTime value of System.nanoTime() when the operation started
+     * @param name name of the metric
+     * @param tags alternating tag names and values
+     */
+    public static void recordTime(long      startNanoTime,
+                                  String    name,
+                                  String... tags)
+    {
+        if (enabled)
+        {
+            getTimer(name, tags).recordSince(startNanoTime);
+        }
+    }
+
+
+    /**
+     * Register a gauge.  Any existing metric with the same name and tags is replaced.
+     *
+     * @param valueSupplier function that returns the current value
+     * @param name name of the metric
+     * @param tags alternating tag names and values
+     * @return gauge - pass it to removeMetric when the owning component shuts down
+     */
+    public static GaugeMetric registerGauge(Supplier<Number> valueSupplier,
+                                            String           name,
+                                            String...        tags)
+    {
+        GaugeMetric       gauge     = new GaugeMetric(name, getTagMap(tags), valueSupplier);
+        PerformanceMetric oldMetric = metrics.put(gauge.getMetricId(), gauge);
+
+        if (oldMetric != null)
+        {
+            forgetTimer(oldMetric);
+            notifyRemoved(oldMetric);
+        }
+
+        notifyRegistered(gauge);
+
+        return gauge;
+    }
+
+
+    /**
+     * Remove a metric from the registry.  Nothing happens if the metric has already been replaced.
+     *
+     * @param metric metric to remove
+     */
+    public static void removeMetric(PerformanceMetric metric)
+    {
+        if ((metric != null) && (metrics.remove(metric.getMetricId(), metric)))
+        {
+            forgetTimer(metric);
+            notifyRemoved(metric);
+        }
+    }
+
+
+    /**
+     * Return the metrics currently registered.
+     *
+     * @return list of metrics
+     */
+    public static List<PerformanceMetric> getMetrics()
+    {
+        return new ArrayList<>(metrics.values());
+    }
+
+
+    /**
+     * Return a snapshot of the metrics currently registered.
+     *
+     * @return list of reports
+     */
+    public static List<PerformanceMetricReport> getMetricsReport()
+    {
+        List<PerformanceMetricReport> reports = new ArrayList<>();
+
+        for (PerformanceMetric metric : metrics.values())
+        {
+            reports.add(metric.getReport());
+        }
+
+        return reports;
+    }
+
+
+    /**
+     * Register a listener that publishes the metrics.  It is told about the metrics that are already registered.
+     *
+     * @param listener listener
+     */
+    public static void addListener(PerformanceMetricsListener listener)
+    {
+        if (listener != null)
+        {
+            listeners.add(listener);
+
+            for (PerformanceMetric metric : metrics.values())
+            {
+                listener.metricRegistered(metric);
+            }
+        }
+    }
+
+
+    /**
+     * Remove a listener.
+     *
+     * @param listener listener
+     */
+    public static void removeListener(PerformanceMetricsListener listener)
+    {
+        listeners.remove(listener);
+    }
+
+
+    /**
+     * Convert the alternating tag names and values into a map.  A tag name without a value, or with a null value,
+     * is given an empty value.
+     *
+     * @param tags alternating tag names and values
+     * @return map
+     */
+    private static Map<String, String> getTagMap(String... tags)
+    {
+        Map<String, String> tagMap = new LinkedHashMap<>();
+
+        if (tags != null)
+        {
+            for (int i = 0; i < tags.length; i = i + 2)
+            {
+                String value = null;
+
+                if (i + 1 < tags.length)
+                {
+                    value = tags[i + 1];
+                }
+
+                tagMap.put(tags[i], value == null ? "" : value);
+            }
+        }
+
+        return tagMap;
+    }
+
+
+    /**
+     * Remove a timer that is no longer registered from the lookup cache so that it is not returned by getTimer.
+     *
+     * @param metric metric that has been removed from the registry
+     */
+    private static void forgetTimer(PerformanceMetric metric)
+    {
+        if (metric instanceof TimerMetric)
+        {
+            timers.values().removeIf(timer -> timer == metric);
+        }
+    }
+
+
+    /**
+     * Tell the listeners about a new metric.
+     *
+     * @param metric new metric
+     */
+    private static void notifyRegistered(PerformanceMetric metric)
+    {
+        for (PerformanceMetricsListener listener : listeners)
+        {
+            try
+            {
+                listener.metricRegistered(metric);
+            }
+            catch (Exception error)
+            {
+                /*
+                 * A monitoring problem must not disrupt the component that owns the metric.
+                 */
+            }
+        }
+    }
+
+
+    /**
+     * Tell the listeners about a removed metric.
+     *
+     * @param metric removed metric
+     */
+    private static void notifyRemoved(PerformanceMetric metric)
+    {
+        for (PerformanceMetricsListener listener : listeners)
+        {
+            try
+            {
+                listener.metricRemoved(metric);
+            }
+            catch (Exception error)
+            {
+                /*
+                 * A monitoring problem must not disrupt the component that owns the metric.
+                 */
+            }
+        }
+    }
+
+
+    /**
+     * Key of the timer lookup cache.  It holds the name and tags exactly as supplied by the caller, so
+     * finding a registered timer does not need the tag map or metric id to be built.
+     *
+     * @param name name of the metric
+     * @param tags alternating tag names and values
+     */
+    private record TimerKey(String   name,
+                            String[] tags)
+    {
+        /**
+         * Compare the values of the properties.
+         *
+         * @param objectToCompare object
+         * @return boolean result of comparison
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (! (objectToCompare instanceof TimerKey that))
+            {
+                return false;
+            }
+            return Objects.equals(name, that.name) &&
+                           Arrays.equals(tags, that.tags);
+        }
+
+
+        /**
+         * Return a hash code based on the values of the properties.
+         *
+         * @return int
+         */
+        @Override
+        public int hashCode()
+        {
+            return 31 * Objects.hashCode(name) + Arrays.hashCode(tags);
+        }
+
+
+        /**
+         * Return a readable form of the key.
+         *
+         * @return string
+         */
+        @Override
+        public String toString()
+        {
+            return "TimerKey{" +
+                           "name='" + name + '\'' +
+                           ", tags=" + Arrays.toString(tags) +
+                           '}';
+        }
+    }
+}
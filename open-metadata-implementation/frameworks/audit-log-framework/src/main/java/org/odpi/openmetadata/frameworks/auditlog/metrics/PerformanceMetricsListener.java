@@ -0,0 +1,27 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+/**
+ * PerformanceMetricsListener is implemented by a component that publishes the performance metrics to a
+ * monitoring system, such as a Micrometer meter registry.  It is told about each metric as it is added to, and
+ * removed from, the PerformanceMetrics registry.
+ */
+public interface PerformanceMetricsListener
+{
+    /**
+     * A new metric has been added to the registry.
+     *
+     * @param metric new metric
+     */
+    void metricRegistered(PerformanceMetric metric);
+
+
+    /**
+     * A metric has been removed from the registry because its owning component has shut down.
+     *
+     * @param metric removed metric
+     */
+    void metricRemoved(PerformanceMetric metric);
+}
@@ -0,0 +1,127 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TimerMetric records the number of times an operation has run, the total time it has taken and the
+ * longest time it has taken.  The counters are updated without locking so a timer can be used on
+ * the request paths of a production server.
+ */
+public class TimerMetric extends PerformanceMetric
+{
+    public static final String METRIC_TYPE = "timer";
+
+    private final LongAdder  count     = new LongAdder();
+    private final LongAdder  totalTime = new LongAdder();
+    private final AtomicLong maxTime   = new AtomicLong(0);
+
+
+    /**
+     * Constructor supplies the identity of the metric.
+     *
+     * @param name name of the metric
+     * @param tags tag names and values
+     */
+    TimerMetric(String              name,
+                Map<String, String> tags)
+    {
+        super(name, tags);
+    }
+
+
+    /**
+     * Record the time taken by an operation that started at the supplied time.
+     *
+     * @param startNanoTime value of System.nanoTime() when the operation started
+     */
+    public void recordSince(long startNanoTime)
+    {
+        this.record(System.nanoTime() - startNanoTime, TimeUnit.NANOSECONDS);
+    }
+
+
+    /**
+     * Record the time taken by an operation.
+     *
+     * @param duration time taken
+     * @param timeUnit units of the duration
+     */
+    public void record(long     duration,
+                       TimeUnit timeUnit)
+    {
+        long nanoDuration = timeUnit.toNanos(duration);
+
+        if (nanoDuration >= 0)
+        {
+            count.increment();
+            totalTime.add(nanoDuration);
+            maxTime.accumulateAndGet(nanoDuration, Math::max);
+        }
+    }
+
+
+    /**
+     * Return the number of operations recorded.
+     *
+     * @return count
+     */
+    public long getCount()
+    {
+        return count.sum();
+    }
+
+
+    /**
+     * Return the total time taken by the recorded operations.
+     *
+     * @param timeUnit units for the result
+     * @return total time
+     */
+    public double getTotalTime(TimeUnit timeUnit)
+    {
+        return (double) totalTime.sum() / timeUnit.toNanos(1);
+    }
+
+
+    /**
+     * Return the longest time taken by one of the recorded operations.
+     *
+     * @param timeUnit units for the result
+     * @return maximum time
+     */
+    public double getMaxTime(TimeUnit timeUnit)
+    {
+        return (double) maxTime.get() / timeUnit.toNanos(1);
+    }
+
+
+    /**
+     * Return a snapshot of the current value of the metric.
+     *
+     * @return report bean
+     */
+    @Override
+    public PerformanceMetricReport getReport()
+    {
+        PerformanceMetricReport report = super.getReport(METRIC_TYPE);
+        long                    reportCount = this.getCount();
+        double                  reportTotal = this.getTotalTime(TimeUnit.MILLISECONDS);
+
+        report.setCount(reportCount);
+        report.setTotalTimeMillis(reportTotal);
+        report.setMaxTimeMillis(this.getMaxTime(TimeUnit.MILLISECONDS));
+
+        if (reportCount > 0)
+        {
+            report.setMeanTimeMillis(reportTotal / reportCount);
+        }
+
+        return report;
+    }
+}
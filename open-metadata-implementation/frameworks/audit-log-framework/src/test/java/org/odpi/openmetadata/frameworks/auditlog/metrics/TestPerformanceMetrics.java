@@ -0,0 +1,226 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.auditlog.metrics;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that PerformanceMetrics registers, caches and removes its metrics and tells its listeners.
+ */
+public class TestPerformanceMetrics
+{
+    private final List<PerformanceMetric> createdMetrics = new ArrayList<>();
+    private final RecordingListener       listener       = new RecordingListener();
+
+
+    /**
+     * The registry is static so remove everything the test created.
+     */
+    @AfterMethod public void removeMetrics()
+    {
+        PerformanceMetrics.removeListener(listener);
+        PerformanceMetrics.setEnabled(true);
+
+        for (PerformanceMetric metric : createdMetrics)
+        {
+            PerformanceMetrics.removeMetric(metric);
+        }
+
+        createdMetrics.clear();
+    }
+
+
+    /**
+     * The same name and tags return the same registered timer, whether or not the tags are supplied in a
+     * form that has been seen before.
+     */
+    @Test public void testTimerIsReused()
+    {
+        TimerMetric timer = getTimer("test.timer.reuse", "server", "server1", "operation", "find");
+
+        assertSame(PerformanceMetrics.getTimer("test.timer.reuse", "server", "server1", "operation", "find"), timer);
+        assertSame(PerformanceMetrics.getTimer("test.timer.reuse", new String[]{"server", "server1", "operation", "find"}), timer);
+        assertNotSame(PerformanceMetrics.getTimer("test.timer.reuse", "server", "server2", "operation", "find"), timer);
+
+        createdMetrics.add(PerformanceMetrics.getTimer("test.timer.reuse", "server", "server2", "operation", "find"));
+
+        assertEquals(timer.getTags(), Map.of("server", "server1", "operation", "find"));
+    }
+
+
+    /**
+     * A tag without a value, or with a null value, has an empty value so both forms find the same timer.
+     */
+    @Test public void testMissingTagValue()
+    {
+        TimerMetric timer = getTimer("test.timer.missing", "server", null);
+
+        assertEquals(timer.getTags(), Map.of("server", ""));
+        assertSame(PerformanceMetrics.getTimer("test.timer.missing", "server"), timer);
+        assertSame(PerformanceMetrics.getTimer("test.timer.missing", "server", ""), timer);
+    }
+
+
+    /**
+     * Changing the caller's tag array after the timer is cached does not change the cached timer's identity.
+     */
+    @Test public void testCachedTagsAreCopied()
+    {
+        String[]    tags  = new String[]{"server", "server1"};
+        TimerMetric timer = getTimer("test.timer.copy", tags);
+
+        tags[1] = "server2";
+
+        TimerMetric otherTimer = getTimer("test.timer.copy", tags);
+
+        assertNotSame(otherTimer, timer);
+        assertSame(PerformanceMetrics.getTimer("test.timer.copy", "server", "server1"), timer);
+    }
+
+
+    /**
+     * recordTime adds to the timer while recording is enabled and does nothing while it is disabled.
+     */
+    @Test public void testRecordTime()
+    {
+        TimerMetric timer = getTimer("test.timer.record", "server", "server1");
+
+        timer.record(3, TimeUnit.MILLISECONDS);
+        timer.record(1, TimeUnit.MILLISECONDS);
+        PerformanceMetrics.recordTime(System.nanoTime(), "test.timer.record", "server", "server1");
+
+        assertEquals(timer.getCount(), 3);
+        assertTrue(timer.getTotalTime(TimeUnit.MILLISECONDS) >= 4);
+        assertEquals(timer.getMaxTime(TimeUnit.MILLISECONDS), 3.0, 0.5);
+
+        PerformanceMetrics.setEnabled(false);
+        PerformanceMetrics.recordTime(System.nanoTime(), "test.timer.record", "server", "server1");
+
+        assertEquals(timer.getCount(), 3);
+
+        PerformanceMetricReport report = timer.getReport();
+
+        assertEquals(report.getCount().longValue(), 3);
+        assertTrue(report.getMeanTimeMillis() > 1);
+    }
+
+
+    /**
+     * Once a timer is removed, getTimer registers a new timer rather than returning the removed one from its cache.
+     */
+    @Test public void testRemovedTimerIsNotReturned()
+    {
+        TimerMetric timer = getTimer("test.timer.removed", "server", "server1");
+
+        PerformanceMetrics.removeMetric(timer);
+
+        assertTrue(! PerformanceMetrics.getMetrics().contains(timer));
+
+        TimerMetric newTimer = getTimer("test.timer.removed", "server", "server1");
+
+        assertNotSame(newTimer, timer);
+        assertTrue(PerformanceMetrics.getMetrics().contains(newTimer));
+    }
+
+
+    /**
+     * A gauge replaces a timer with the same identity.  The timer returned afterwards records timings but is not
+     * registered, and the gauge is not disturbed.
+     */
+    @Test public void testGaugeReplacesTimer()
+    {
+        TimerMetric timer = getTimer("test.metric.shared", "queue", "queue1");
+        GaugeMetric gauge = PerformanceMetrics.registerGauge(() -> 5, "test.metric.shared", "queue", "queue1");
+
+        createdMetrics.add(gauge);
+
+        TimerMetric unregisteredTimer = PerformanceMetrics.getTimer("test.metric.shared", "queue", "queue1");
+
+        assertNotSame(unregisteredTimer, timer);
+        assertTrue(PerformanceMetrics.getMetrics().contains(gauge));
+        assertTrue(! PerformanceMetrics.getMetrics().contains(unregisteredTimer));
+        assertEquals(gauge.getValue(), 5.0);
+    }
+
+
+    /**
+     * Listeners are told about the metrics already registered, then about each metric as it is registered and removed.
+     */
+    @Test public void testListener()
+    {
+        TimerMetric timer = getTimer("test.listener.timer", "server", "server1");
+
+        PerformanceMetrics.addListener(listener);
+
+        assertTrue(listener.registered.contains(timer));
+
+        GaugeMetric gauge = PerformanceMetrics.registerGauge(() -> 1, "test.listener.gauge", "server", "server1");
+
+        createdMetrics.add(gauge);
+
+        PerformanceMetrics.getTimer("test.listener.timer", "server", "server1");
+
+        assertEquals(listener.registered.stream().filter(metric -> metric == timer).count(), 1);
+        assertTrue(listener.registered.contains(gauge));
+
+        PerformanceMetrics.removeMetric(gauge);
+
+        assertEquals(listener.removed, List.of(gauge));
+
+        PerformanceMetricReport report = gauge.getReport();
+
+        assertEquals(report.getName(), "test.listener.gauge");
+    }
+
+
+    /**
+     * Return a timer and remember it so that it is removed at the end of the test.
+     *
+     * @param name name of the metric
+     * @param tags alternating tag names and values
+     * @return timer
+     */
+    private TimerMetric getTimer(String    name,
+                                 String... tags)
+    {
+        TimerMetric timer = PerformanceMetrics.getTimer(name, tags);
+
+        createdMetrics.add(timer);
+
+        return timer;
+    }
+
+
+    /**
+     * Listener that remembers the metrics it is told about.
+     */
+    private static class RecordingListener implements PerformanceMetricsListener
+    {
+        private final List<PerformanceMetric> registered = new ArrayList<>();
+        private final List<PerformanceMetric> removed    = new ArrayList<>();
+
+        @Override
+        public void metricRegistered(PerformanceMetric metric)
+        {
+            registered.add(metric);
+        }
+
+        @Override
+        public void metricRemoved(PerformanceMetric metric)
+        {
+            removed.add(metric);
+        }
+    }
+}
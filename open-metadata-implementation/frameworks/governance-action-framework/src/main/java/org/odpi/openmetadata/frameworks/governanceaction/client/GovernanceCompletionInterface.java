@@ -75,6 +75,47 @@ public interface GovernanceCompletionInterface
                                                            PropertyServerException;
 
 
+    /**
+     * Request that execution of an engine action is allocated to the caller and that its status is set to IN_PROGRESS.
+     * The claim is only successful if no other caller has claimed the engine action.
+     *
+     * @param userId identifier of calling user
+     * @param engineActionGUID identifier of the engine action request.
+     *
+     * @return latest properties of the claimed engine action
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store or the engine action is already claimed.
+     */
+    EngineActionElement claimAndStartEngineAction(String userId,
+                                                  String engineActionGUID) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException;
+
+
+    /**
+     * Claim and start the approved engine actions for a governance engine that request one of the supported request types.
+     *
+     * @param userId identifier of calling user
+     * @param governanceEngineGUID unique identifier of governance engine
+     * @param supportedRequestTypes request types supported by the caller (null means any request type)
+     * @param maxEngineActions maximum number of engine actions to claim (0 means no limit)
+     *
+     * @return list of claimed engine actions or null
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store.
+     */
+    List<EngineActionElement> claimAndStartEngineActions(String       userId,
+                                                         String       governanceEngineGUID,
+                                                         List<String> supportedRequestTypes,
+                                                         int          maxEngineActions) throws InvalidParameterException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               PropertyServerException;
+
+
     /**
      * Update the status of a specific action target. By default, these values are derived from
      * the values for the governance action service.  However, if the governance action service has to process name
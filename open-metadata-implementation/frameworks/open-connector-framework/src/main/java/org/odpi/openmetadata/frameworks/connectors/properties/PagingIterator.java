@@ -55,6 +55,7 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
     protected int               cachedElementStart   = 0;
     protected List<ElementBase> cachedElementList    = new ArrayList<>();
     protected int               cachedElementPointer = 0;
+    protected boolean           allElementsCached    = false;
 
     protected PropertyIteratorBase iterator = null;
 
@@ -156,6 +157,8 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
                 {
                     this.cachedElementList.add(iterator.cloneElement(templateElement));
                 }
+
+                this.allElementsCached = templateIterator.allElementsCached;
             }
         }
     }
@@ -177,6 +180,14 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
 
         if (cachedElementPointer == cachedElementList.size())
         {
+            if (allElementsCached)
+            {
+                /*
+                 * The cache was primed with the whole list so there is nothing more to retrieve.
+                 */
+                return false;
+            }
+
             try
             {
                 cachedElementList = iterator.getCachedList(cachedElementStart, maxCacheSize);
@@ -244,6 +255,25 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
     }
 
 
+    /**
+     * Prime the cache with the first page of elements.  This is used when the first page has been retrieved from the
+     * property (metadata) server along with the element that owns the list, so it does not need to be retrieved again.
+     * The request is ignored if the iterator has already started to step through the elements.
+     *
+     * @param firstPage elements from the start of the list
+     */
+    public void setFirstPage(List<ElementBase> firstPage)
+    {
+        if ((firstPage != null) && (! firstPage.isEmpty()) &&
+            (cachedElementList != null) && (cachedElementList.isEmpty()) &&
+            (cachedElementStart == 0) && (cachedElementPointer == 0))
+        {
+            cachedElementList = new ArrayList<>(firstPage);
+            allElementsCached = (firstPage.size() >= totalElementCount);
+        }
+    }
+
+
     /**
      * Return the number of elements in the list.
      *
@@ -282,6 +312,7 @@ public class PagingIterator extends PropertyBase implements Iterator<ElementBase
                 ", cachedElementStart=" + cachedElementStart +
                 ", cachedElementList=" + cachedElementList +
                 ", cachedElementPointer=" + cachedElementPointer +
+                ", allElementsCached=" + allElementsCached +
                 '}';
     }
 }
\ No newline at end of file
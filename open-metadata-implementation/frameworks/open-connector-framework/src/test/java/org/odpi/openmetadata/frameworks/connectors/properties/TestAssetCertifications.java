@@ -3,8 +3,13 @@
 package org.odpi.openmetadata.frameworks.connectors.properties;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Certification;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementBase;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.testng.Assert.assertTrue;
 
 
@@ -118,6 +123,69 @@ public class TestAssetCertifications
     }
 
 
+    /**
+     * Return a first page of elements that can be told apart from the ones returned by the mock iterator.
+     *
+     * @param size number of elements
+     * @return list of elements
+     */
+    private List<ElementBase> getFirstPage(int size)
+    {
+        List<ElementBase> firstPage = new ArrayList<>();
+
+        for (int i = 0; i < size; i++)
+        {
+            Certification certification = new Certification();
+
+            certification.setGUID("FirstPageGUID");
+            firstPage.add(certification);
+        }
+
+        return firstPage;
+    }
+
+
+    /**
+     * Validate that a primed first page is returned before the elements retrieved by the iterator, and that the
+     * iterator stops at the end of the first page when it holds the whole list.
+     */
+    @Test public void testFirstPage()
+    {
+        Certifications propertyIterator = getPropertyIterator(3, 100);
+
+        propertyIterator.pagingIterator.setFirstPage(getFirstPage(3));
+
+        int elementCount = 0;
+        while (propertyIterator.hasNext())
+        {
+            assertTrue("FirstPageGUID".equals(propertyIterator.next().getGUID()));
+            elementCount ++;
+        }
+
+        assertTrue(elementCount == 3);
+
+        propertyIterator = getPropertyIterator(5, 100);
+        propertyIterator.pagingIterator.setFirstPage(getFirstPage(2));
+
+        elementCount = 0;
+        while (propertyIterator.hasNext())
+        {
+            Certification certification = propertyIterator.next();
+
+            assertTrue((elementCount < 2) == ("FirstPageGUID".equals(certification.getGUID())));
+            elementCount ++;
+        }
+
+        assertTrue(elementCount == 5);
+
+        propertyIterator = getPropertyIterator(3, 100);
+        propertyIterator.next();
+        propertyIterator.pagingIterator.setFirstPage(getFirstPage(3));
+
+        assertTrue(propertyIterator.next().getGUID() == null);
+    }
+
+
     /**
      * Validate that element count is set.
      */
@@ -11,6 +11,8 @@ import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
 import org.odpi.openmetadata.frameworks.discovery.properties.DataFieldLink;
 import org.odpi.openmetadata.frameworks.discovery.properties.RelatedDataField;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +24,18 @@ import java.util.Map;
  */
 public abstract class DiscoveryAnnotationStore
 {
+    /**
+     * Name of the related property in an exception from addAnnotationsToDiscoveryReport that holds the position of the
+     * annotation that could not be stored.
+     */
+    public static final String ANNOTATION_INDEX_PROPERTY_NAME = "annotationIndex";
+
+    /**
+     * Name of the related property in an exception from addAnnotationsToDiscoveryReport that holds the unique identifiers
+     * of the annotations that were stored before the failing annotation.
+     */
+    public static final String ANNOTATION_GUIDS_PROPERTY_NAME = "annotationGUIDs";
+
     protected String                       userId;
     protected String                       assetGUID;
     protected DiscoveryAnalysisReportStore discoveryReport;
@@ -180,6 +194,160 @@ public abstract class DiscoveryAnnotationStore
                                                                                          PropertyServerException;
 
 
+    /**
+     * Add a list of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The annotations are stored in the order they are supplied.  If one of them can not be stored, the exception
+     * describing the problem is thrown and the annotations after it are not stored.  The related properties of the
+     * exception include the position in the list of the failing annotation (ANNOTATION_INDEX_PROPERTY_NAME) and the
+     * unique identifiers of the annotations stored in front of it (ANNOTATION_GUIDS_PROPERTY_NAME).
+     * <br><br>
+     * This implementation stores each annotation with addAnnotationToDiscoveryReport.  Annotation stores that can
+     * store a list of annotations in a single request override this method.
+     *
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations in the same order as the annotations
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding an annotation to the annotation store.
+     */
+    public List<String>  addAnnotationsToDiscoveryReport(List<Annotation> annotations) throws InvalidParameterException,
+                                                                                            UserNotAuthorizedException,
+                                                                                            PropertyServerException
+    {
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        if (annotations != null)
+        {
+            for (Annotation annotation : annotations)
+            {
+                try
+                {
+                    annotationGUIDs.add(this.addAnnotationToDiscoveryReport(annotation));
+                }
+                catch (InvalidParameterException error)
+                {
+                    InvalidParameterException annotationError = new InvalidParameterException(error.getReportedHTTPCode(),
+                                                                                              error.getReportingClassName(),
+                                                                                              error.getReportingActionDescription(),
+                                                                                              error.getReportedErrorMessage(),
+                                                                                              error.getReportedErrorMessageId(),
+                                                                                              error.getReportedErrorMessageParameters(),
+                                                                                              error.getReportedSystemAction(),
+                                                                                              error.getReportedUserAction(),
+                                                                                              error.getReportedCaughtExceptionClassName(),
+                                                                                              error.getParameterName(),
+                                                                                              this.getAnnotationErrorProperties(error.getRelatedProperties(),
+                                                                                                                               annotationGUIDs));
+                    annotationError.initCause(error);
+                    throw annotationError;
+                }
+                catch (UserNotAuthorizedException error)
+                {
+                    UserNotAuthorizedException annotationError = new UserNotAuthorizedException(error.getReportedHTTPCode(),
+                                                                                                error.getReportingClassName(),
+                                                                                                error.getReportingActionDescription(),
+                                                                                                error.getReportedErrorMessage(),
+                                                                                                error.getReportedErrorMessageId(),
+                                                                                                error.getReportedErrorMessageParameters(),
+                                                                                                error.getReportedSystemAction(),
+                                                                                                error.getReportedUserAction(),
+                                                                                                error.getReportedCaughtExceptionClassName(),
+                                                                                                error.getUserId(),
+                                                                                                this.getAnnotationErrorProperties(error.getRelatedProperties(),
+                                                                                                                                 annotationGUIDs));
+                    annotationError.initCause(error);
+                    throw annotationError;
+                }
+                catch (PropertyServerException error)
+                {
+                    PropertyServerException annotationError = new PropertyServerException(error.getReportedHTTPCode(),
+                                                                                          error.getReportingClassName(),
+                                                                                          error.getReportingActionDescription(),
+                                                                                          error.getReportedErrorMessage(),
+                                                                                          error.getReportedErrorMessageId(),
+                                                                                          error.getReportedErrorMessageParameters(),
+                                                                                          error.getReportedSystemAction(),
+                                                                                          error.getReportedUserAction(),
+                                                                                          error.getReportedCaughtExceptionClassName(),
+                                                                                          this.getAnnotationErrorProperties(error.getRelatedProperties(),
+                                                                                                                           annotationGUIDs));
+                    annotationError.initCause(error);
+                    throw annotationError;
+                }
+            }
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Add the position of the failing annotation and the identifiers of the annotations already stored to the
+     * related properties of an exception.
+     *
+     * @param relatedProperties related properties from the original exception (may be null)
+     * @param annotationGUIDs unique identifiers of the annotations already stored
+     * @return new related properties
+     */
+    private Map<String, Object> getAnnotationErrorProperties(Map<String, Object> relatedProperties,
+                                                             List<String>        annotationGUIDs)
+    {
+        Map<String, Object> annotationErrorProperties = new HashMap<>();
+
+        if (relatedProperties != null)
+        {
+            annotationErrorProperties.putAll(relatedProperties);
+        }
+
+        annotationErrorProperties.put(ANNOTATION_INDEX_PROPERTY_NAME, annotationGUIDs.size());
+        annotationErrorProperties.put(ANNOTATION_GUIDS_PROPERTY_NAME, new ArrayList<>(annotationGUIDs));
+
+        return annotationErrorProperties;
+    }
+
+
+    /**
+     * Add a new annotation to the annotation store as a top level annotation linked directly off of the report
+     * without waiting for its unique identifier.  Annotation stores that support write-behind hold the annotation
+     * and store it with other queued annotations in a single request.  The queued annotations are stored at the
+     * latest when flushQueuedAnnotations is called.  A problem storing a queued annotation may be reported by a later
+     * call to this method or by flushQueuedAnnotations.
+     * <br><br>
+     * This implementation stores the annotation immediately.
+     *
+     * @param annotation annotation object
+     * @throws InvalidParameterException the annotation is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotation to the annotation store.
+     */
+    public void  queueAnnotationForDiscoveryReport(Annotation annotation) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 PropertyServerException
+    {
+        this.addAnnotationToDiscoveryReport(annotation);
+    }
+
+
+    /**
+     * Store any annotations held by queueAnnotationForDiscoveryReport.  The exceptions thrown are the same as for
+     * addAnnotationsToDiscoveryReport, where the position of the failing annotation is counted from the first
+     * annotation queued since the previous flush.
+     * <br><br>
+     * This implementation does not queue annotations so there is nothing to do.
+     *
+     * @return list of unique identifiers of the annotations stored by this call in the order they were queued
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding an annotation to the annotation store.
+     */
+    public List<String>  flushQueuedAnnotations() throws InvalidParameterException,
+                                                         UserNotAuthorizedException,
+                                                         PropertyServerException
+    {
+        return new ArrayList<>();
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
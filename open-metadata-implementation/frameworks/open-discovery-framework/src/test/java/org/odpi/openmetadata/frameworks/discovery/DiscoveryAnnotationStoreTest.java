@@ -0,0 +1,144 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.discovery;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Test the default implementations of the batch and write-behind methods of DiscoveryAnnotationStore, which store
+ * each annotation with addAnnotationToDiscoveryReport.
+ */
+public class DiscoveryAnnotationStoreTest
+{
+    private static final String failingAnnotationType = "FailingAnnotation";
+
+    private DiscoveryAnnotationStore annotationStore   = null;
+    private List<String>             storedAnnotations = null;
+
+
+    /**
+     * Create an annotation store that records the type of each annotation it stores and fails for
+     * annotations of the failing type.
+     *
+     * @throws Exception problem setting up the mock
+     */
+    @BeforeMethod public void createAnnotationStore() throws Exception
+    {
+        annotationStore   = mock(DiscoveryAnnotationStore.class, CALLS_REAL_METHODS);
+        storedAnnotations = new ArrayList<>();
+
+        doAnswer(invocation ->
+        {
+            Annotation annotation = invocation.getArgument(0);
+
+            if (failingAnnotationType.equals(annotation.getAnnotationType()))
+            {
+                throw new PropertyServerException(OCFErrorCode.NULL_CONNECTION.getMessageDefinition(),
+                                                  this.getClass().getName(),
+                                                  "addAnnotationToDiscoveryReport",
+                                                  Collections.singletonMap("testProperty", "testValue"));
+            }
+
+            storedAnnotations.add(annotation.getAnnotationType());
+
+            return annotation.getAnnotationType() + "-guid";
+        }).when(annotationStore).addAnnotationToDiscoveryReport(any());
+    }
+
+
+    /**
+     * Return an annotation of the requested type.
+     *
+     * @param annotationType type of annotation
+     * @return annotation
+     */
+    private Annotation getAnnotation(String annotationType)
+    {
+        Annotation annotation = new Annotation();
+
+        annotation.setAnnotationType(annotationType);
+
+        return annotation;
+    }
+
+
+    /**
+     * The annotations are stored in order and their unique identifiers returned in the same order.
+     *
+     * @throws Exception problem storing the annotations
+     */
+    @Test public void testAddAnnotations() throws Exception
+    {
+        List<String> annotationGUIDs = annotationStore.addAnnotationsToDiscoveryReport(Arrays.asList(getAnnotation("First"),
+                                                                                                     getAnnotation("Second"),
+                                                                                                     getAnnotation("Third")));
+
+        assertEquals(annotationGUIDs, Arrays.asList("First-guid", "Second-guid", "Third-guid"));
+        assertEquals(storedAnnotations, Arrays.asList("First", "Second", "Third"));
+        assertTrue(annotationStore.addAnnotationsToDiscoveryReport(null).isEmpty());
+    }
+
+
+    /**
+     * A failing annotation stops the batch.  The exception identifies the failing annotation and the annotations
+     * already stored, and keeps the related properties of the original exception.
+     */
+    @Test public void testAddAnnotationsFailure()
+    {
+        try
+        {
+            annotationStore.addAnnotationsToDiscoveryReport(Arrays.asList(getAnnotation("First"),
+                                                                          getAnnotation("Second"),
+                                                                          getAnnotation(failingAnnotationType),
+                                                                          getAnnotation("Fourth")));
+            fail("Expected a PropertyServerException");
+        }
+        catch (Exception error)
+        {
+            assertTrue(error instanceof PropertyServerException);
+
+            Map<String, Object> relatedProperties = ((PropertyServerException)error).getRelatedProperties();
+
+            assertEquals(relatedProperties.get(DiscoveryAnnotationStore.ANNOTATION_INDEX_PROPERTY_NAME), 2);
+            assertEquals(relatedProperties.get(DiscoveryAnnotationStore.ANNOTATION_GUIDS_PROPERTY_NAME), Arrays.asList("First-guid", "Second-guid"));
+            assertEquals(relatedProperties.get("testProperty"), "testValue");
+            assertTrue(error.getCause() instanceof PropertyServerException);
+        }
+
+        assertEquals(storedAnnotations, Arrays.asList("First", "Second"));
+    }
+
+
+    /**
+     * Without write-behind, a queued annotation is stored immediately and there is nothing to flush.
+     *
+     * @throws Exception problem storing the annotation
+     */
+    @Test public void testQueueAnnotation() throws Exception
+    {
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("First"));
+
+        assertEquals(storedAnnotations, Collections.singletonList("First"));
+        assertTrue(annotationStore.flushQueuedAnnotations().isEmpty());
+        assertEquals(storedAnnotations.size(), 1);
+    }
+}
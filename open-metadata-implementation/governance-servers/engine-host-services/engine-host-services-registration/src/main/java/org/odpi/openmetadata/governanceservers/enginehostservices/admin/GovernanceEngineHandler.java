@@ -10,12 +10,12 @@ import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.Re
 import org.odpi.openmetadata.accessservices.governanceengine.properties.GovernanceEngineProperties;
 import org.odpi.openmetadata.accessservices.governanceengine.properties.RegisteredGovernanceService;
 import org.odpi.openmetadata.adminservices.configuration.properties.EngineConfig;
+import org.odpi.openmetadata.commonservices.generichandlers.ffdc.GenericHandlersErrorCode;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.*;
 
 import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogGovernanceEvent;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.ActionTargetElement;
-import org.odpi.openmetadata.frameworks.governanceaction.properties.EngineActionStatus;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.RequestSourceElement;
 import org.odpi.openmetadata.governanceservers.enginehostservices.properties.GovernanceEngineStatus;
 import org.odpi.openmetadata.governanceservers.enginehostservices.properties.GovernanceEngineSummary;
@@ -436,7 +436,9 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * Execute the requested governance action on or after the start time.
+     * Execute the requested governance action on or after the start time.  The engine action is claimed and
+     * set to IN_PROGRESS in a single request.  The claim fails if the engine action is not APPROVED or another
+     * engine host has already claimed it.
      *
      * @param engineActionGUID unique identifier of potential governance action to run.
      */
@@ -446,21 +448,79 @@ public abstract class GovernanceEngineHandler
 
         try
         {
-            EngineActionElement latestEngineActionElement = serverClient.getEngineAction(serverUserId, engineActionGUID);
+            EngineActionElement claimedEngineActionElement = serverClient.claimAndStartEngineAction(serverUserId, engineActionGUID);
 
-            if (latestEngineActionElement.getActionStatus() == EngineActionStatus.APPROVED)
+            this.runClaimedEngineAction(claimedEngineActionElement);
+        }
+        catch (Exception error)
+        {
+            if (! this.isClaimedElsewhere(error))
             {
-                serverClient.claimEngineAction(serverUserId, engineActionGUID);
+                auditLog.logException(methodName,
+                                      EngineHostServicesAuditCode.ACTION_PROCESSING_ERROR.getMessageDefinition(methodName,
+                                                                                                               error.getClass().getName(),
+                                                                                                               engineActionGUID,
+                                                                                                               error.getMessage()),
+                                      error);
+            }
+        }
+    }
 
 
-                serverClient.updateEngineActionStatus(serverUserId, engineActionGUID, EngineActionStatus.IN_PROGRESS);
+    /**
+     * Claim and run the approved governance actions for this governance engine that have not been picked up
+     * by any engine host.  This is called once the configuration of the governance engine has been retrieved
+     * since governance actions may have been approved while this engine host was not running.  The governance actions
+     * are claimed a page at a time.
+     */
+    public void executeApprovedEngineActions()
+    {
+        final String methodName = "executeApprovedEngineActions";
 
-                runGovernanceService(engineActionGUID,
-                                     latestEngineActionElement.getRequestType(),
-                                     latestEngineActionElement.getStartTime(),
-                                     latestEngineActionElement.getRequestParameters(),
-                                     latestEngineActionElement.getRequestSourceElements(),
-                                     latestEngineActionElement.getActionTargetElements());
+        List<String> supportedRequestTypes = governanceServiceLookupTable.getGovernanceRequestTypes();
+
+        if ((governanceEngineGUID == null) || (supportedRequestTypes == null))
+        {
+            return;
+        }
+
+        try
+        {
+            List<EngineActionElement> claimedEngineActionElements = serverClient.claimAndStartEngineActions(serverUserId,
+                                                                                                            governanceEngineGUID,
+                                                                                                            supportedRequestTypes,
+                                                                                                            maxPageSize);
+
+            while ((claimedEngineActionElements != null) && (! claimedEngineActionElements.isEmpty()))
+            {
+                for (EngineActionElement claimedEngineActionElement : claimedEngineActionElements)
+                {
+                    try
+                    {
+                        this.runClaimedEngineAction(claimedEngineActionElement);
+                    }
+                    catch (Exception error)
+                    {
+                        auditLog.logException(methodName,
+                                              EngineHostServicesAuditCode.ACTION_PROCESSING_ERROR.getMessageDefinition(methodName,
+                                                                                                                       error.getClass().getName(),
+                                                                                                                       claimedEngineActionElement.getElementHeader().getGUID(),
+                                                                                                                       error.getMessage()),
+                                              error);
+                    }
+                }
+
+                if (claimedEngineActionElements.size() < maxPageSize)
+                {
+                    claimedEngineActionElements = null;
+                }
+                else
+                {
+                    claimedEngineActionElements = serverClient.claimAndStartEngineActions(serverUserId,
+                                                                                          governanceEngineGUID,
+                                                                                          supportedRequestTypes,
+                                                                                          maxPageSize);
+                }
             }
         }
         catch (Exception error)
@@ -468,13 +528,51 @@ public abstract class GovernanceEngineHandler
             auditLog.logException(methodName,
                                   EngineHostServicesAuditCode.ACTION_PROCESSING_ERROR.getMessageDefinition(methodName,
                                                                                                            error.getClass().getName(),
-                                                                                                           engineActionGUID,
+                                                                                                           governanceEngineGUID,
                                                                                                            error.getMessage()),
                                   error);
         }
     }
 
 
+    /**
+     * Start the governance service for an engine action that has been claimed by this engine host.
+     *
+     * @param claimedEngineActionElement engine action returned from the claim request
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the governance engine.
+     */
+    private void runClaimedEngineAction(EngineActionElement claimedEngineActionElement) throws InvalidParameterException,
+                                                                                                UserNotAuthorizedException,
+                                                                                                PropertyServerException
+    {
+        runGovernanceService(claimedEngineActionElement.getElementHeader().getGUID(),
+                             claimedEngineActionElement.getRequestType(),
+                             claimedEngineActionElement.getStartTime(),
+                             claimedEngineActionElement.getRequestParameters(),
+                             claimedEngineActionElement.getRequestSourceElements(),
+                             claimedEngineActionElement.getActionTargetElements());
+    }
+
+
+    /**
+     * Determine whether the claim of an engine action was rejected because another engine host has already claimed it.
+     * This is normal when there are multiple engine hosts running the same governance engine.  The metadata access
+     * server reports this with the INVALID_ENGINE_ACTION_STATUS error from the generic handlers.
+     *
+     * @param error exception returned from the claim request
+     * @return boolean flag
+     */
+    private boolean isClaimedElsewhere(Exception error)
+    {
+        final String alreadyClaimedMessageId = GenericHandlersErrorCode.INVALID_ENGINE_ACTION_STATUS.getMessageDefinition().getMessageId();
+
+        return (error instanceof PropertyServerException) && (alreadyClaimedMessageId.equals(((PropertyServerException) error).getReportedErrorMessageId()));
+    }
+
+
     /**
      * Run an instance of a governance service in its own thread and return the handler (for disconnect processing).
      *
@@ -140,6 +140,7 @@ public class EngineConfigurationRefreshThread implements Runnable
                         try
                         {
                             engineHandler.refreshConfig();
+                            engineHandler.executeApprovedEngineActions();
                         }
                         catch (Exception error)
                         {
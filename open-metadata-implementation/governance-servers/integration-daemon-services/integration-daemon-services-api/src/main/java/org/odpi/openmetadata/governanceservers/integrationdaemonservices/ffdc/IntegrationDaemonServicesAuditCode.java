@@ -557,6 +557,18 @@ public enum IntegrationDaemonServicesAuditCode implements AuditLogMessageSet
                                               "No action is required as long as all the expected integration connectors are started." +
                                                    "If there are any errors reported by the integration connectors then validate the configuration " +
                                                    "of the integration connector and its associated integration group in the metadata server."),
+
+    /**
+     * INTEGRATION-DAEMON-SERVICES-0057 - The value {0} of the {1} option of integration service {2} in integration daemon {3} is not a
+     * positive number; the option is ignored
+     */
+    INVALID_REFRESH_WORKER_COUNT("INTEGRATION-DAEMON-SERVICES-0057",
+                                 OMRSAuditLogRecordSeverity.ERROR,
+                                 "The value {0} of the {1} option of integration service {2} in integration daemon {3} is not a positive number; " +
+                                         "the option is ignored",
+                                 "The integration daemon starts.  The number of threads that refresh its integration connectors is taken from " +
+                                         "the other integration services or is the default.",
+                                 "Correct the option in the integration service configuration and restart the integration daemon."),
     ;
 
 
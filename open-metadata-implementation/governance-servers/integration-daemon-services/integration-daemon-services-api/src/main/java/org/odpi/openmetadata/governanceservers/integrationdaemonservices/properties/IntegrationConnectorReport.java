@@ -36,6 +36,8 @@ public class IntegrationConnectorReport implements Serializable
     private Date                       lastStatusChange         = null;
     private Date                       lastRefreshTime          = null;
     private long                       minMinutesBetweenRefresh = 0L;
+    private long                       lastRefreshDuration      = 0L;
+    private long                       lastRefreshSchedulingLag = 0L;
     private String                     failingExceptionMessage  = null;
     private Map<String, Object>        statistics               = null;
 
@@ -65,6 +67,8 @@ public class IntegrationConnectorReport implements Serializable
             lastStatusChange         = template.getLastStatusChange();
             lastRefreshTime          = template.getLastRefreshTime();
             minMinutesBetweenRefresh = template.getMinMinutesBetweenRefresh();
+            lastRefreshDuration      = template.getLastRefreshDuration();
+            lastRefreshSchedulingLag = template.getLastRefreshSchedulingLag();
             failingExceptionMessage  = template.getFailingExceptionMessage();
             statistics               = template.getStatistics();
         }
@@ -252,6 +256,51 @@ public class IntegrationConnectorReport implements Serializable
     }
 
 
+    /**
+     * Return the time in milliseconds that the last call to refresh took to complete.
+     *
+     * @return duration in milliseconds
+     */
+    public long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Set up the time in milliseconds that the last call to refresh took to complete.
+     *
+     * @param lastRefreshDuration duration in milliseconds
+     */
+    public void setLastRefreshDuration(long lastRefreshDuration)
+    {
+        this.lastRefreshDuration = lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the time in milliseconds between when the last scheduled refresh was due and when it started.
+     * A growing value means that the integration daemon is not keeping up with the refresh intervals of its connectors.
+     *
+     * @return lag in milliseconds
+     */
+    public long getLastRefreshSchedulingLag()
+    {
+        return lastRefreshSchedulingLag;
+    }
+
+
+    /**
+     * Set up the time in milliseconds between when the last scheduled refresh was due and when it started.
+     *
+     * @param lastRefreshSchedulingLag lag in milliseconds
+     */
+    public void setLastRefreshSchedulingLag(long lastRefreshSchedulingLag)
+    {
+        this.lastRefreshSchedulingLag = lastRefreshSchedulingLag;
+    }
+
+
     /**
      * Return the message extracted from an exception returned by the connector.  This is only set if the connectorStatus
      * is FAILED.  The full exception is logged in the server's audit log.
@@ -315,6 +364,8 @@ public class IntegrationConnectorReport implements Serializable
                        ", lastStatusChange=" + lastStatusChange +
                        ", lastRefreshTime=" + lastRefreshTime +
                        ", minMinutesBetweenRefresh=" + minMinutesBetweenRefresh +
+                       ", lastRefreshDuration=" + lastRefreshDuration +
+                       ", lastRefreshSchedulingLag=" + lastRefreshSchedulingLag +
                        ", failingExceptionMessage='" + failingExceptionMessage + '\'' +
                        ", statistics=" + statistics +
                        '}';
@@ -340,6 +391,8 @@ public class IntegrationConnectorReport implements Serializable
         }
         IntegrationConnectorReport that = (IntegrationConnectorReport) objectToCompare;
         return minMinutesBetweenRefresh == that.minMinutesBetweenRefresh &&
+                       lastRefreshDuration == that.lastRefreshDuration &&
+                       lastRefreshSchedulingLag == that.lastRefreshSchedulingLag &&
                        Objects.equals(connectorId, that.connectorId) &&
                        Objects.equals(connectorName, that.connectorName) &&
                        Objects.equals(connection, that.connection) &&
@@ -361,6 +414,7 @@ public class IntegrationConnectorReport implements Serializable
     public int hashCode()
     {
         return Objects.hash(connectorId, connectorName, connection, connectorInstanceId, connectorStatus, lastStatusChange,
-                            lastRefreshTime, minMinutesBetweenRefresh, failingExceptionMessage, statistics);
+                            lastRefreshTime, minMinutesBetweenRefresh, lastRefreshDuration, lastRefreshSchedulingLag,
+                            failingExceptionMessage, statistics);
     }
 }
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.governanceservers.integrationdaemonservices.handle
 
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.RegisteredIntegrationConnectorElement;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetrics;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectionCheckedException;
@@ -22,6 +23,7 @@ import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads
 
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -66,6 +68,8 @@ public class IntegrationConnectorHandler
     private Date                                lastStatusChange                    = null;
     private String                              failingExceptionMessage             = null;
     private Date                                lastRefreshTime                     = null;
+    private long                                lastRefreshDuration                 = 0L;
+    private long                                lastRefreshSchedulingLag            = 0L;
 
 
     /**
@@ -271,6 +275,29 @@ public class IntegrationConnectorHandler
     }
 
 
+    /**
+     * Return the time in milliseconds that the last call to refresh took to complete.
+     *
+     * @return duration in milliseconds
+     */
+    long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the time in milliseconds between when the last scheduled refresh was due and when it started.
+     * This shows whether the integration daemon is keeping up with the connectors' refresh intervals.
+     *
+     * @return lag in milliseconds
+     */
+    long getLastRefreshSchedulingLag()
+    {
+        return lastRefreshSchedulingLag;
+    }
+
+
     /**
      * Return the configured minimum time between calls to refresh.  This gives an indication of when the
      * next refresh is due.  Null means refresh is only called at server start up and in response to an API request.
@@ -519,9 +546,27 @@ public class IntegrationConnectorHandler
      */
     public synchronized void refreshConnector(String   actionDescription,
                                               boolean  firstCall)
+    {
+        this.refreshConnector(actionDescription, firstCall, lastRefreshSchedulingLag);
+    }
+
+
+    /**
+     * Call refresh() on the connector provided it is in the correct state.  This version is called by the
+     * integration daemon's scheduler which supplies how late the refresh is starting.
+     *
+     * @param actionDescription external caller's activity
+     * @param firstCall is this the first call to refresh?
+     * @param schedulingLag time in milliseconds between when the refresh was due and when it started
+     */
+    public synchronized void refreshConnector(String   actionDescription,
+                                              boolean  firstCall,
+                                              long     schedulingLag)
     {
         final String operationName = "refresh";
 
+        this.lastRefreshSchedulingLag = schedulingLag;
+
         try
         {
             if (integrationConnectorStatus == IntegrationConnectorStatus.INITIALIZE_FAILED)
@@ -558,14 +603,24 @@ public class IntegrationConnectorHandler
                 integrationContextRefreshProxy.setRefreshInProgress(false);
                 integrationContext.publishReport();
 
-                if (auditLog != null)
+                Date refreshEnd = new Date();
+
+                this.lastRefreshDuration = refreshEnd.getTime() - refreshStart.getTime();
+
+                if (PerformanceMetrics.isEnabled())
                 {
-                    Date refreshEnd = new Date();
+                    PerformanceMetrics.getTimer(PerformanceMetrics.CONNECTOR_REFRESH_METRIC,
+                                                "server", integrationDaemonName,
+                                                "service", integrationServiceFullName,
+                                                "connector", integrationConnectorName).record(lastRefreshDuration, TimeUnit.MILLISECONDS);
+                }
 
+                if (auditLog != null)
+                {
                     auditLog.logMessage(actionDescription,
                                         IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_REFRESH_COMPLETE.getMessageDefinition(integrationConnectorName,
                                                                                                                                   integrationDaemonName,
-                                                                                                                                  Long.toString(refreshEnd.getTime() - refreshStart.getTime())));
+                                                                                                                                  Long.toString(lastRefreshDuration)));
                 }
             }
 
@@ -127,6 +127,8 @@ public class IntegrationGroupHandler
                     connectorReport.setLastStatusChange(connectorHandler.getLastStatusChange());
                     connectorReport.setLastRefreshTime(connectorHandler.getLastRefreshTime());
                     connectorReport.setMinMinutesBetweenRefresh(connectorHandler.getMinMinutesBetweenRefresh());
+                    connectorReport.setLastRefreshDuration(connectorHandler.getLastRefreshDuration());
+                    connectorReport.setLastRefreshSchedulingLag(connectorHandler.getLastRefreshSchedulingLag());
 
                     connectorReports.add(connectorReport);
                 }
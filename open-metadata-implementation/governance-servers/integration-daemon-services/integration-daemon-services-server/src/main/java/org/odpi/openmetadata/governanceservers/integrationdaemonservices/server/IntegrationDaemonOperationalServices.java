@@ -37,6 +37,13 @@ import java.util.Map;
  */
 public class IntegrationDaemonOperationalServices
 {
+    /**
+     * Integration service option for the number of threads that refresh the integration connectors.  The threads are
+     * shared by all the integration services in the integration daemon, so the largest value set on any of them is used.
+     * The integration daemon thread's default is used if it is not set.
+     */
+    public static final String REFRESH_WORKER_COUNT_OPTION = "refreshWorkerCount";
+
     private final String                         localServerName;               /* Initialized in constructor */
     private final String                         localServerId;                 /* Initialized in constructor */
     private final String                         localServerUserId;             /* Initialized in constructor */
@@ -110,6 +117,7 @@ public class IntegrationDaemonOperationalServices
 
             IntegrationConnectorCacheMap           daemonConnectorHandlers      = new IntegrationConnectorCacheMap();
             Map<String, IntegrationServiceHandler> integrationServiceHandlerMap = new HashMap<>();
+            int                                    refreshWorkerCount           = 0;
 
             if ((staticConfiguration == null) || (staticConfiguration.isEmpty()))
             {
@@ -133,6 +141,8 @@ public class IntegrationDaemonOperationalServices
                         String                    integrationServiceURLMarker = this.getServiceURLMarker(integrationServiceConfig);
                         IntegrationContextManager contextManager              = this.getContextManager(integrationServiceConfig);
 
+                        refreshWorkerCount = Math.max(refreshWorkerCount, this.getRefreshWorkerCount(integrationServiceConfig));
+
                         if (integrationServiceConfig.getDefaultPermittedSynchronization() == null)
                         {
                             auditLog.logMessage(actionDescription,
@@ -289,7 +299,7 @@ public class IntegrationDaemonOperationalServices
             /*
              * Create the thread that calls refresh on all the connectors.
              */
-            integrationDaemonThread = new IntegrationDaemonThread(localServerName, daemonConnectorHandlers, auditLog);
+            integrationDaemonThread = new IntegrationDaemonThread(localServerName, daemonConnectorHandlers, auditLog, refreshWorkerCount);
             integrationDaemonThread.start();
 
             /*
@@ -367,6 +377,49 @@ public class IntegrationDaemonOperationalServices
     }
 
 
+    /**
+     * Return the number of refresh threads requested by an integration service's options.
+     *
+     * @param integrationServiceConfig configuration for the integration service
+     * @return number of threads - 0 if the option is not set or is invalid
+     */
+    private int getRefreshWorkerCount(IntegrationServiceConfig integrationServiceConfig)
+    {
+        final String actionDescription = "initialize";
+
+        Map<String, Object> integrationServiceOptions = integrationServiceConfig.getIntegrationServiceOptions();
+
+        if ((integrationServiceOptions != null) && (integrationServiceOptions.get(REFRESH_WORKER_COUNT_OPTION) != null))
+        {
+            Object optionValue = integrationServiceOptions.get(REFRESH_WORKER_COUNT_OPTION);
+
+            try
+            {
+                int refreshWorkerCount = Integer.parseInt(optionValue.toString());
+
+                if (refreshWorkerCount > 0)
+                {
+                    return refreshWorkerCount;
+                }
+            }
+            catch (NumberFormatException error)
+            {
+                /*
+                 * Logged below.
+                 */
+            }
+
+            auditLog.logMessage(actionDescription,
+                                IntegrationDaemonServicesAuditCode.INVALID_REFRESH_WORKER_COUNT.getMessageDefinition(optionValue.toString(),
+                                                                                                                     REFRESH_WORKER_COUNT_OPTION,
+                                                                                                                     integrationServiceConfig.getIntegrationServiceFullName(),
+                                                                                                                     localServerName));
+        }
+
+        return 0;
+    }
+
+
     /**
      * Return an integration group's name from the configuration.
      *
@@ -11,25 +11,66 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * IntegrationDaemonThread is the class responsible for managing executing integration connectors
  * within an integration daemon.  It manages the automated refresh of the connectors.
  * The connectors are also being refreshed through the REST API.
+ * <p>
+ * The thread acts as a scheduler.  It keeps the time that the next refresh is due for each connector and
+ * passes due refreshes to a bounded pool of worker threads.  The size of the pool is set with the refreshWorkerCount
+ * integration service option.  This means that a slow connector does not delay the refresh of the other connectors.  A connector is never refreshed by more than one worker at a time:
+ * if its refresh is still running when the next one is due, the next refresh waits until it completes.
+ * The time between when a refresh is due and when it starts, along with the time the refresh takes, is recorded
+ * in the connector's handler and is reported in its IntegrationConnectorReport.
  */
 public class IntegrationDaemonThread implements Runnable
 {
     private static final Logger log = LoggerFactory.getLogger(IntegrationDaemonThread.class);
 
+    /*
+     * Default number of threads used to call refresh on the connectors.
+     */
+    private static final int defaultRefreshWorkerCount = 10;
+
+    /*
+     * Maximum time that the scheduler sleeps.  This sets how quickly new connectors are picked up.
+     */
+    private static final long maxSleepTime = 1000L;
+
     private final String                            integrationDaemonName;
     private final IntegrationConnectorCacheMap      connectorHandlers;
     private final AuditLog                          auditLog;
+    private final int                               refreshWorkerCount;
+
+    /*
+     * Time (in milliseconds) when the next refresh is due for each connector, keyed by connector id.
+     * These are only accessed by the scheduler thread.
+     */
+    private final Map<String, Long> nextRefreshTimes = new HashMap<>();
 
+    /*
+     * Connector ids for the refreshes that are queued or running in the worker pool.
+     */
+    private final Set<String> activeRefreshes = ConcurrentHashMap.newKeySet();
 
     private final AtomicBoolean running = new AtomicBoolean(false);
 
+    private ExecutorService refreshWorkers = null;
+
 
     /**
      * Constructor provides access to the variables needed to run the connector.
@@ -41,10 +82,28 @@ public class IntegrationDaemonThread implements Runnable
     public IntegrationDaemonThread(String                       integrationDaemonName,
                                    IntegrationConnectorCacheMap connectorHandlers,
                                    AuditLog                     auditLog)
+    {
+        this(integrationDaemonName, connectorHandlers, auditLog, defaultRefreshWorkerCount);
+    }
+
+
+    /**
+     * Constructor provides access to the variables needed to run the connector.
+     *
+     * @param integrationDaemonName name of this integration daemon server
+     * @param connectorHandlers wrapper for the connector.
+     * @param auditLog logging destination
+     * @param refreshWorkerCount maximum number of connectors that can be refreshed at the same time (0 means use the default)
+     */
+    public IntegrationDaemonThread(String                       integrationDaemonName,
+                                   IntegrationConnectorCacheMap connectorHandlers,
+                                   AuditLog                     auditLog,
+                                   int                          refreshWorkerCount)
     {
         this.integrationDaemonName = integrationDaemonName;
         this.connectorHandlers     = connectorHandlers;
         this.auditLog              = auditLog;
+        this.refreshWorkerCount    = (refreshWorkerCount > 0) ? refreshWorkerCount : defaultRefreshWorkerCount;
     }
 
 
@@ -54,6 +113,16 @@ public class IntegrationDaemonThread implements Runnable
     public void start()
     {
         final String threadName = "::IntegrationDaemonThread";
+        final String workerThreadName = "::IntegrationDaemonRefreshWorker::";
+
+        AtomicInteger workerNumber = new AtomicInteger(0);
+
+        refreshWorkers = new ThreadPoolExecutor(refreshWorkerCount,
+                                                refreshWorkerCount,
+                                                60L,
+                                                TimeUnit.SECONDS,
+                                                new LinkedBlockingQueue<>(),
+                                                runnable -> new Thread(runnable, integrationDaemonName + workerThreadName + workerNumber.incrementAndGet()));
 
         Thread worker = new Thread(this, integrationDaemonName + threadName);
         worker.start();
@@ -66,6 +135,11 @@ public class IntegrationDaemonThread implements Runnable
     public void stop()
     {
         running.set(false);
+
+        if (refreshWorkers != null)
+        {
+            refreshWorkers.shutdown();
+        }
     }
 
 
@@ -84,72 +158,189 @@ public class IntegrationDaemonThread implements Runnable
 
         while (running.get())
         {
-            Date now = new Date();
+            long nextWakeUpTime = this.scheduleDueRefreshes(actionDescription);
+
+            waitToRetry(nextWakeUpTime - System.currentTimeMillis());
+        }
+
+        auditLog.logMessage(actionDescription,
+                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_TERMINATING.getMessageDefinition(integrationDaemonName));
+
+    }
+
 
-            List<IntegrationConnectorHandler> integrationConnectorHandlers = connectorHandlers.getIntegrationConnectorProcessingList();
+    /**
+     * Step through the connectors, passing any that are due for refresh to the worker pool.
+     *
+     * @param actionDescription calling activity
+     * @return time when the scheduler next needs to run
+     */
+    private long scheduleDueRefreshes(String actionDescription)
+    {
+        Date now            = new Date();
+        long nextWakeUpTime = now.getTime() + maxSleepTime;
+
+        List<IntegrationConnectorHandler> integrationConnectorHandlers = connectorHandlers.getIntegrationConnectorProcessingList();
+        Set<String>                       currentConnectorIds          = new HashSet<>();
 
-            if (integrationConnectorHandlers != null)
+        if (integrationConnectorHandlers != null)
+        {
+            for (IntegrationConnectorHandler connectorHandler : integrationConnectorHandlers)
             {
-                for (IntegrationConnectorHandler connectorHandler : connectorHandlers.getIntegrationConnectorProcessingList())
+                if (connectorHandler != null)
                 {
-                    if (connectorHandler != null)
+                    String connectorId = connectorHandler.getIntegrationConnectorId();
+
+                    currentConnectorIds.add(connectorId);
+
+                    if (((connectorHandler.getStartDate() == null) || now.after(connectorHandler.getStartDate())) &&
+                        ((connectorHandler.getStopDate() == null)  || now.before(connectorHandler.getStopDate())))
                     {
-                        if (((connectorHandler.getStartDate() == null) || now.after(connectorHandler.getStartDate())) &&
-                            ((connectorHandler.getStopDate() == null)  || now.before(connectorHandler.getStopDate())))
+                        Long nextRefreshTime = this.getNextRefreshTime(connectorHandler, now.getTime());
+
+                        if (nextRefreshTime != null)
                         {
-                            try
+                            if ((nextRefreshTime <= now.getTime()) && (! activeRefreshes.contains(connectorId)))
                             {
-                                if (connectorHandler.getLastRefreshTime() == null)
+                                this.submitRefresh(connectorHandler, nextRefreshTime, actionDescription);
+
+                                /*
+                                 * The next refresh is scheduled at a fixed rate from when this one was due so that
+                                 * the refresh interval does not drift.  If the connector has fallen behind then
+                                 * the schedule restarts from now.
+                                 */
+                                long interval = connectorHandler.getMinMinutesBetweenRefresh() * 60000;
+
+                                if (interval > 0)
                                 {
-                                    connectorHandler.refreshConnector(actionDescription, true);
+                                    nextRefreshTime = Math.max(nextRefreshTime + interval, now.getTime());
+                                    nextRefreshTimes.put(connectorId, nextRefreshTime);
                                 }
-                                else if (connectorHandler.getMinMinutesBetweenRefresh() > 0)
+                                else
                                 {
-                                    long nextRefreshTime =
-                                            connectorHandler.getLastRefreshTime().getTime() +
-                                                    (connectorHandler.getMinMinutesBetweenRefresh() * 60000);
-
-                                    if (nextRefreshTime < now.getTime())
-                                    {
-                                        connectorHandler.refreshConnector(actionDescription, false);
-                                    }
+                                    nextRefreshTimes.remove(connectorId);
                                 }
                             }
-                            catch (Exception error)
+
+                            if (nextRefreshTime > now.getTime())
                             {
-                                auditLog.logMessage(actionDescription,
-                                                    IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
-                                                                                                                                          error.getClass().getName(),
-                                                                                                                                          error.getMessage()));
+                                nextWakeUpTime = Math.min(nextWakeUpTime, nextRefreshTime);
                             }
                         }
                     }
                 }
             }
-
-            waitToRetry();
         }
 
-        auditLog.logMessage(actionDescription,
-                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_TERMINATING.getMessageDefinition(integrationDaemonName));
+        /*
+         * Forget the schedule for connectors that have been removed from the daemon.
+         */
+        nextRefreshTimes.keySet().retainAll(currentConnectorIds);
 
+        return nextWakeUpTime;
     }
 
 
     /**
-     * Wait before retrying ...
+     * Return the time that the next refresh is due for a connector.  Null means no periodic refresh is needed.
+     *
+     * @param connectorHandler handler for the connector
+     * @param now current time
+     * @return time in milliseconds or null
+     */
+    private Long getNextRefreshTime(IntegrationConnectorHandler connectorHandler,
+                                    long                        now)
+    {
+        Long nextRefreshTime = nextRefreshTimes.get(connectorHandler.getIntegrationConnectorId());
+
+        if (nextRefreshTime == null)
+        {
+            if (connectorHandler.getLastRefreshTime() == null)
+            {
+                /*
+                 * The connector has never been refreshed so the first refresh is due now.
+                 */
+                return now;
+            }
+            else if (connectorHandler.getMinMinutesBetweenRefresh() > 0)
+            {
+                /*
+                 * The connector was refreshed through the REST API (or before the schedule was set up).
+                 */
+                return connectorHandler.getLastRefreshTime().getTime() + (connectorHandler.getMinMinutesBetweenRefresh() * 60000);
+            }
+        }
+
+        return nextRefreshTime;
+    }
+
+
+    /**
+     * Pass the refresh of a connector to the worker pool.
+     *
+     * @param connectorHandler handler for the connector
+     * @param dueTime time that the refresh was due
+     * @param actionDescription calling activity
      */
-    private void waitToRetry()
+    private void submitRefresh(IntegrationConnectorHandler connectorHandler,
+                               long                        dueTime,
+                               String                      actionDescription)
     {
-        final int  sleepTime = 1000;
+        final String connectorId = connectorHandler.getIntegrationConnectorId();
+        final boolean firstCall  = (connectorHandler.getLastRefreshTime() == null);
+
+        activeRefreshes.add(connectorId);
 
         try
         {
-            Thread.sleep(sleepTime);
+            refreshWorkers.execute(() ->
+            {
+                try
+                {
+                    long schedulingLag = Math.max(0L, System.currentTimeMillis() - dueTime);
+
+                    connectorHandler.refreshConnector(actionDescription, firstCall, schedulingLag);
+                }
+                catch (Exception error)
+                {
+                    auditLog.logMessage(actionDescription,
+                                        IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
+                                                                                                                              error.getClass().getName(),
+                                                                                                                              error.getMessage()));
+                }
+                finally
+                {
+                    activeRefreshes.remove(connectorId);
+                }
+            });
         }
-        catch (Exception error)
+        catch (RejectedExecutionException error)
+        {
+            /*
+             * The daemon is shutting down.
+             */
+            activeRefreshes.remove(connectorId);
+        }
+    }
+
+
+    /**
+     * Wait before retrying ...
+     *
+     * @param sleepTime time to wait in milliseconds
+     */
+    private void waitToRetry(long sleepTime)
+    {
+        if (sleepTime > 0)
         {
-            log.error("Ignored exception from sleep - probably ok", error);
+            try
+            {
+                Thread.sleep(Math.min(sleepTime, maxSleepTime));
+            }
+            catch (Exception error)
+            {
+                log.error("Ignored exception from sleep - probably ok", error);
+            }
         }
     }
 }
@@ -0,0 +1,245 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationConnectorCacheMap;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationConnectorHandler;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that IntegrationDaemonThread refreshes its connectors concurrently on a pool of the configured size, and
+ * never refreshes the same connector on two threads at once.  The connector handlers are mocks whose refresh waits
+ * for the test.
+ */
+public class IntegrationDaemonThreadTest
+{
+    private static final long waitTime = 10L;
+
+    private IntegrationConnectorCacheMap connectorHandlers  = null;
+    private IntegrationDaemonThread      daemonThread       = null;
+
+    private final AtomicInteger          activeRefreshes    = new AtomicInteger(0);
+    private final AtomicInteger          maxActiveRefreshes = new AtomicInteger(0);
+    private final List<AtomicInteger>    connectorRefreshes = new ArrayList<>();
+    private final List<AtomicInteger>    connectorOverlaps  = new ArrayList<>();
+
+    private CountDownLatch               releaseRefreshes   = null;
+    private CountDownLatch               startedRefreshes   = null;
+
+
+    /**
+     * Set up an empty set of connectors.
+     */
+    @BeforeMethod public void setUp()
+    {
+        connectorHandlers = new IntegrationConnectorCacheMap();
+        releaseRefreshes  = new CountDownLatch(1);
+
+        activeRefreshes.set(0);
+        maxActiveRefreshes.set(0);
+        connectorRefreshes.clear();
+        connectorOverlaps.clear();
+    }
+
+
+    /**
+     * Stop the daemon thread and release any refresh that is still waiting.
+     */
+    @AfterMethod public void tearDown()
+    {
+        releaseRefreshes.countDown();
+
+        if (daemonThread != null)
+        {
+            daemonThread.stop();
+            daemonThread = null;
+        }
+    }
+
+
+    /**
+     * Return a connector handler that is always due for refresh.  Its refresh records how many refreshes are running
+     * and waits until the test releases it.
+     *
+     * @param connectorId identifier of the connector
+     * @return mock connector handler
+     */
+    private IntegrationConnectorHandler getConnectorHandler(String connectorId)
+    {
+        IntegrationConnectorHandler connectorHandler = mock(IntegrationConnectorHandler.class);
+        AtomicInteger               refreshCount     = new AtomicInteger(0);
+        AtomicInteger               overlapCount     = new AtomicInteger(0);
+        AtomicInteger               runningCount     = new AtomicInteger(0);
+
+        connectorRefreshes.add(refreshCount);
+        connectorOverlaps.add(overlapCount);
+
+        when(connectorHandler.getIntegrationConnectorId()).thenReturn(connectorId);
+
+        doAnswer(invocation ->
+        {
+            if (runningCount.incrementAndGet() > 1)
+            {
+                overlapCount.incrementAndGet();
+            }
+
+            maxActiveRefreshes.accumulateAndGet(activeRefreshes.incrementAndGet(), Math::max);
+            refreshCount.incrementAndGet();
+            startedRefreshes.countDown();
+
+            releaseRefreshes.await(5, TimeUnit.SECONDS);
+
+            activeRefreshes.decrementAndGet();
+            runningCount.decrementAndGet();
+
+            return null;
+        }).when(connectorHandler).refreshConnector(anyString(), anyBoolean(), anyLong());
+
+        connectorHandlers.putHandlerByConnectorId(connectorId, connectorHandler, true);
+
+        return connectorHandler;
+    }
+
+
+    /**
+     * Start the daemon thread with the requested pool size.
+     *
+     * @param refreshWorkerCount number of refresh threads
+     */
+    private void startDaemonThread(int refreshWorkerCount)
+    {
+        daemonThread = new IntegrationDaemonThread("testDaemon", connectorHandlers, mock(AuditLog.class), refreshWorkerCount);
+        daemonThread.start();
+    }
+
+
+    /**
+     * Connectors whose refreshes are slow are refreshed at the same time.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testConcurrentRefresh() throws Exception
+    {
+        startedRefreshes = new CountDownLatch(3);
+
+        getConnectorHandler("connector1");
+        getConnectorHandler("connector2");
+        getConnectorHandler("connector3");
+
+        startDaemonThread(3);
+
+        assertTrue(startedRefreshes.await(5, TimeUnit.SECONDS), "The refreshes did not run at the same time");
+        assertEquals(maxActiveRefreshes.get(), 3);
+    }
+
+
+    /**
+     * No more connectors are refreshed at the same time than there are refresh threads, and the others wait
+     * rather than being dropped.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testPoolSizeLimitsConcurrentRefresh() throws Exception
+    {
+        startedRefreshes = new CountDownLatch(2);
+
+        getConnectorHandler("connector1");
+        getConnectorHandler("connector2");
+        getConnectorHandler("connector3");
+        getConnectorHandler("connector4");
+
+        startDaemonThread(2);
+
+        assertTrue(startedRefreshes.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(waitTime * 20);
+
+        assertEquals(maxActiveRefreshes.get(), 2);
+
+        releaseRefreshes.countDown();
+
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while ((System.currentTimeMillis() < deadline) && (! this.allConnectorsRefreshed()))
+        {
+            Thread.sleep(waitTime);
+        }
+
+        assertTrue(this.allConnectorsRefreshed(), "A connector was not refreshed");
+    }
+
+
+    /**
+     * A connector that is due again while its refresh is still running is not refreshed by a second thread.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testConnectorIsNotRefreshedTwiceAtOnce() throws Exception
+    {
+        startedRefreshes = new CountDownLatch(1);
+
+        getConnectorHandler("connector1");
+
+        startDaemonThread(4);
+
+        assertTrue(startedRefreshes.await(5, TimeUnit.SECONDS));
+
+        /*
+         * The connector is due on every pass of the scheduler since its mock handler never records a refresh.
+         */
+        Thread.sleep(2500);
+
+        assertEquals(connectorRefreshes.get(0).get(), 1);
+
+        releaseRefreshes.countDown();
+
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while ((System.currentTimeMillis() < deadline) && (connectorRefreshes.get(0).get() < 2))
+        {
+            Thread.sleep(waitTime);
+        }
+
+        assertTrue(connectorRefreshes.get(0).get() >= 2, "The connector was not refreshed again");
+        assertEquals(connectorOverlaps.get(0).get(), 0);
+    }
+
+
+    /**
+     * Return whether every connector has been refreshed at least once.
+     *
+     * @return boolean
+     */
+    private boolean allConnectorsRefreshed()
+    {
+        for (AtomicInteger refreshCount : connectorRefreshes)
+        {
+            if (refreshCount.get() == 0)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
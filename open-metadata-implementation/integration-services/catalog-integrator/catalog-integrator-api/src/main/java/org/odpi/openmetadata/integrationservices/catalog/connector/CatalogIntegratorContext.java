@@ -31,6 +31,7 @@ import org.odpi.openmetadata.integrationservices.catalog.ffdc.CatalogIntegratorA
 import org.odpi.openmetadata.integrationservices.catalog.ffdc.CatalogIntegratorErrorCode;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * CatalogIntegratorContext provides a wrapper around the Asset Manager OMAS client.
@@ -618,6 +619,27 @@ public class CatalogIntegratorContext extends IntegrationContext
     }
 
 
+    /**
+     * Return the unique identifiers of the open metadata elements that are correlated with each of a list of
+     * external identifiers.  This resolves a batch of identifiers from the third party technology in one call.
+     *
+     * @param externalIdentifiers identifiers of elements in the external asset manager
+     *
+     * @return map of external identifier to the unique identifiers of its open metadata elements - identifiers with no
+     * correlated elements are omitted; null if none of the identifiers are correlated
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public Map<String, List<String>> getElementGUIDsForExternalIdentifiers(List<String> externalIdentifiers) throws InvalidParameterException,
+                                                                                                                     UserNotAuthorizedException,
+                                                                                                                     PropertyServerException
+    {
+        return assetManagerClient.getElementGUIDsForExternalIdentifiers(userId, assetManagerGUID, assetManagerName, externalIdentifiers);
+    }
+
+
     /**
      * Return the interface for working with connectors to digital resources.
      *
@@ -3,13 +3,22 @@
 
 package org.odpi.openmetadata.integrationservices.search.connector;
 
+import org.odpi.openmetadata.accessservices.assetcatalog.AssetCatalogInterface;
 import org.odpi.openmetadata.accessservices.assetcatalog.eventclient.AssetCatalogEventClient;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.Elements;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.body.SearchParameters;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetListResponse;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.governanceaction.client.OpenMetadataClient;
 import org.odpi.openmetadata.frameworks.integration.client.OpenIntegrationClient;
 import org.odpi.openmetadata.frameworks.integration.context.IntegrationContext;
 import org.odpi.openmetadata.frameworks.integration.contextmanager.PermittedSynchronization;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * SearchIntegratorContext provides a wrapper around the Asset Catalog OMAS client.
  * It provides the simplified interface to open metadata needed by the SearchIntegratorConnector.
@@ -19,6 +28,10 @@ public class SearchIntegratorContext extends IntegrationContext
     private final String integrationServiceName;
     private final AuditLog auditLog;
     private final AssetCatalogEventClient eventClient;
+    private final AssetCatalogInterface assetCatalogClient;
+
+    private static final String ASSET_TYPE_NAME = "Asset";
+    private static final String ALL_VALUES_REGEX = ".*";
 
 
     /**
@@ -31,6 +44,7 @@ public class SearchIntegratorContext extends IntegrationContext
      * @param openIntegrationClient client for calling the metadata server
      * @param openMetadataStoreClient client for calling the metadata server
      * @param assetCatalogEventClient client to access the Asset Catalog OMAS out topic
+     * @param assetCatalogClient client to call the Asset Catalog OMAS REST API
      * @param generateIntegrationReport should the connector generate an integration reports?
      * @param permittedSynchronization the direction of integration permitted by the integration connector
      * @param integrationConnectorGUID unique identifier for the integration connector if it is started via an integration group (otherwise it is
@@ -48,6 +62,7 @@ public class SearchIntegratorContext extends IntegrationContext
                                    OpenIntegrationClient        openIntegrationClient,
                                    OpenMetadataClient           openMetadataStoreClient,
                                    AssetCatalogEventClient      assetCatalogEventClient,
+                                   AssetCatalogInterface        assetCatalogClient,
                                    boolean                      generateIntegrationReport,
                                    PermittedSynchronization     permittedSynchronization,
                                    String                       integrationConnectorGUID,
@@ -73,5 +88,36 @@ public class SearchIntegratorContext extends IntegrationContext
         this.integrationServiceName = integrationServiceName;
         this.auditLog = auditLog;
         this.eventClient = assetCatalogEventClient;
+        this.assetCatalogClient = assetCatalogClient;
+    }
+
+
+    /**
+     * Return a page of the assets that are visible through the Asset Catalog OMAS.  This is used by connectors that
+     * need to rebuild their copy of the catalog rather than wait for the events.
+     *
+     * @param startFrom index of the first asset to return
+     * @param pageSize maximum number of assets to return
+     * @return list of assets - an empty list means there are no more assets
+     * @throws InvalidParameterException the paging parameters are invalid
+     * @throws PropertyServerException there is a problem retrieving the assets
+     */
+    public List<Elements> getAssets(int startFrom,
+                                    int pageSize) throws InvalidParameterException,
+                                                         PropertyServerException {
+        SearchParameters searchParameters = new SearchParameters();
+
+        searchParameters.setFrom(startFrom);
+        searchParameters.setPageSize(pageSize);
+        searchParameters.setEntityTypes(Collections.singletonList(ASSET_TYPE_NAME));
+        searchParameters.setExactMatch(true);
+
+        AssetListResponse response = assetCatalogClient.searchByType(userId, ALL_VALUES_REGEX, searchParameters);
+
+        if ((response == null) || (response.getElementsList() == null)) {
+            return Collections.emptyList();
+        }
+
+        return response.getElementsList();
     }
 }
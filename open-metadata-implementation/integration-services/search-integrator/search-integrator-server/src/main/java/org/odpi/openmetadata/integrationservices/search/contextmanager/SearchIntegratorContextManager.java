@@ -31,6 +31,7 @@ import java.util.Map;
  * the specific implementation of an integration service
  */
 public class SearchIntegratorContextManager extends IntegrationContextManager {
+    private AssetCatalog                      assetCatalogClient;
     private AssetCatalogEventClient           assetCatalogEventClient;
     private AssetCatalogOutTopicEventListener eventListener;
 
@@ -80,11 +81,10 @@ public class SearchIntegratorContextManager extends IntegrationContextManager {
         super.openIntegrationClient = new OpenIntegrationServiceClient(partnerOMASServerName, partnerOMASPlatformRootURL);
         super.openMetadataStoreClient = new OpenMetadataStoreClient(partnerOMASServerName, partnerOMASPlatformRootURL);
 
-        AssetCatalog restClient;
         if (localServerPassword == null) {
-            restClient = new AssetCatalog(partnerOMASServerName, partnerOMASPlatformRootURL);
+            assetCatalogClient = new AssetCatalog(partnerOMASServerName, partnerOMASPlatformRootURL);
         } else {
-            restClient = new AssetCatalog(partnerOMASServerName,
+            assetCatalogClient = new AssetCatalog(partnerOMASServerName,
                     partnerOMASPlatformRootURL,
                     localServerUserId,
                     localServerPassword);
@@ -92,7 +92,7 @@ public class SearchIntegratorContextManager extends IntegrationContextManager {
 
         assetCatalogEventClient = new AssetCatalogEventClient(partnerOMASServerName,
                 partnerOMASPlatformRootURL,
-                restClient,
+                assetCatalogClient,
                 maxPageSize,
                 auditLog,
                 localServerUserId);
@@ -174,6 +174,7 @@ public class SearchIntegratorContextManager extends IntegrationContextManager {
                                                                                     openIntegrationClient,
                                                                                     openMetadataStoreClient,
                                                                                     assetCatalogEventClient,
+                                                                                    assetCatalogClient,
                                                                                     generateIntegrationReport,
                                                                                     permittedSynchronization,
                                                                                     integrationConnectorGUID,
@@ -0,0 +1,142 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.platformservices.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponseBase;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetricReport;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * PerformanceMetricsResponse returns a snapshot of the performance metrics recorded by the components running in a platform.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class PerformanceMetricsResponse extends FFDCResponseBase
+{
+    private List<PerformanceMetricReport> metrics = null;
+
+
+    /**
+     * Default constructor
+     */
+    public PerformanceMetricsResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public PerformanceMetricsResponse(PerformanceMetricsResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            metrics = template.getMetrics();
+        }
+    }
+
+
+    /**
+     * Return the snapshot of each metric (or null if there are no metrics).
+     *
+     * @return list of metric reports
+     */
+    public List<PerformanceMetricReport> getMetrics()
+    {
+        if (metrics == null)
+        {
+            return null;
+        }
+        else if (metrics.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return metrics;
+        }
+    }
+
+
+    /**
+     * Set up the snapshot of each metric.
+     *
+     * @param metrics list of metric reports
+     */
+    public void setMetrics(List<PerformanceMetricReport> metrics)
+    {
+        this.metrics = metrics;
+    }
+
+
+    /**
+     * JSON-like toString
+     *
+     * @return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "PerformanceMetricsResponse{" +
+                "metrics=" + metrics +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        PerformanceMetricsResponse that = (PerformanceMetricsResponse) objectToCompare;
+        return Objects.equals(getMetrics(), that.getMetrics());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getMetrics());
+    }
+}
@@ -10,8 +10,10 @@ import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.*;
 import org.odpi.openmetadata.commonservices.multitenant.OMAGServerPlatformInstanceMap;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorProvider;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetrics;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.serveroperations.properties.ServerStatus;
+import org.odpi.openmetadata.platformservices.rest.PerformanceMetricsResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerListResponse;
 import org.odpi.openmetadata.serveroperations.rest.ServerServicesListResponse;
 import org.odpi.openmetadata.serveroperations.rest.ServerStatusResponse;
@@ -452,6 +454,38 @@ public class OMAGServerPlatformActiveServices
     }
 
 
+    /**
+     * Return a snapshot of the performance metrics recorded by the components running on this OMAG Server Platform.
+     *
+     * @param userId name of the user making the request
+     * @return list of metrics or
+     * UserNotAuthorizedException the supplied userId is not authorized to issue this command.
+     */
+    public PerformanceMetricsResponse getPerformanceMetrics(String userId)
+    {
+        final String   methodName = "getPerformanceMetrics";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        PerformanceMetricsResponse response = new PerformanceMetricsResponse();
+
+        try
+        {
+            OMAGServerPlatformInstanceMap.validateUserAsInvestigatorForPlatform(userId);
+
+            response.setMetrics(PerformanceMetrics.getMetricsReport());
+        }
+        catch (Exception error)
+        {
+            exceptionHandler.captureExceptions(response, error, methodName);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
     /**
      * Shutdown this OMAG Server Platform.
      *
@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.commonservices.ffdc.rest.BooleanResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectorTypeResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGServicesResponse;
+import org.odpi.openmetadata.platformservices.rest.PerformanceMetricsResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerListResponse;
 import org.odpi.openmetadata.serveroperations.rest.ServerServicesListResponse;
 import org.odpi.openmetadata.serveroperations.rest.ServerStatusResponse;
@@ -375,4 +376,31 @@ public class OMAGServerPlatformActiveResource
     {
         return platformAPI.getActiveServiceListForServer(userId, serverName);
     }
+
+
+    /**
+     * Return a snapshot of the performance metrics recorded by the components running on this OMAG Server Platform.
+     *
+     * @param userId name of the user making the request
+     * @return list of metrics or
+     * UserNotAuthorizedException the supplied userId is not authorized to issue this command.
+     */
+    @GetMapping(path = "/metrics")
+    @Operation( summary = "getPerformanceMetrics",
+            description="Return a snapshot of the performance metrics recorded by the components running on this platform.  " +
+                                "These include the time taken by metadata collection and REST requests, the lag and depth of the " +
+                                "topic listener queues and the time taken by integration connector refreshes.",
+            responses = {
+                    @ApiResponse(responseCode = "200",description="list of metrics",
+                            content = @Content(
+                                    mediaType ="application/json",
+                                    schema = @Schema(implementation=PerformanceMetricsResponse.class)
+                            )
+
+                    )
+            })
+    public PerformanceMetricsResponse getPerformanceMetrics(@Parameter(description="calling user") @PathVariable String    userId)
+    {
+        return platformAPI.getPerformanceMetrics(userId);
+    }
 }
@@ -0,0 +1,126 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.platformservices.server.spring;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.GaugeMetric;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetric;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetrics;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetricsListener;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.TimerMetric;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PerformanceMetricsMeterBinder publishes the performance metrics recorded by the components running on the
+ * OMAG Server Platform to the platform's Micrometer meter registry, so they are available through the
+ * actuator endpoints (such as /actuator/prometheus) alongside the JVM and HTTP metrics.
+ */
+@Component
+public class PerformanceMetricsMeterBinder implements MeterBinder, PerformanceMetricsListener
+{
+    private final Map<String, Meter> meters   = new ConcurrentHashMap<>();
+    private volatile MeterRegistry   registry = null;
+
+
+    /**
+     * Called by Spring once the meter registry is available.  The metrics that are already registered are
+     * replayed by the PerformanceMetrics registry.
+     *
+     * @param registry meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry)
+    {
+        this.registry = registry;
+
+        PerformanceMetrics.addListener(this);
+    }
+
+
+    /**
+     * A new metric has been added to the registry.
+     *
+     * @param metric new metric
+     */
+    @Override
+    public void metricRegistered(PerformanceMetric metric)
+    {
+        MeterRegistry meterRegistry = registry;
+
+        if (meterRegistry != null)
+        {
+            Meter meter = null;
+
+            if (metric instanceof TimerMetric timer)
+            {
+                meter = FunctionTimer.builder(timer.getName(),
+                                              timer,
+                                              TimerMetric::getCount,
+                                              timerMetric -> timerMetric.getTotalTime(TimeUnit.NANOSECONDS),
+                                              TimeUnit.NANOSECONDS)
+                                     .tags(getTags(timer))
+                                     .register(meterRegistry);
+            }
+            else if (metric instanceof GaugeMetric gauge)
+            {
+                meter = Gauge.builder(gauge.getName(), gauge, GaugeMetric::getValue)
+                             .tags(getTags(gauge))
+                             .strongReference(true)
+                             .register(meterRegistry);
+            }
+
+            if (meter != null)
+            {
+                meters.put(metric.getMetricId(), meter);
+            }
+        }
+    }
+
+
+    /**
+     * A metric has been removed from the registry because its owning component has shut down.
+     *
+     * @param metric removed metric
+     */
+    @Override
+    public void metricRemoved(PerformanceMetric metric)
+    {
+        MeterRegistry meterRegistry = registry;
+        Meter         meter         = meters.remove(metric.getMetricId());
+
+        if ((meterRegistry != null) && (meter != null))
+        {
+            meterRegistry.remove(meter);
+        }
+    }
+
+
+    /**
+     * Convert the tags of a metric into Micrometer tags.
+     *
+     * @param metric metric
+     * @return list of tags
+     */
+    private List<Tag> getTags(PerformanceMetric metric)
+    {
+        List<Tag> tags = new ArrayList<>();
+
+        for (Map.Entry<String, String> tag : metric.getTags().entrySet())
+        {
+            tags.add(Tag.of(tag.getKey(), tag.getValue()));
+        }
+
+        return tags;
+    }
+}
@@ -0,0 +1,150 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.platformservices.server.spring;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.GaugeMetric;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetric;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetrics;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.TimerMetric;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Verify that PerformanceMetricsMeterBinder publishes the performance metrics to a Micrometer registry.
+ */
+public class TestPerformanceMetricsMeterBinder
+{
+    private final List<PerformanceMetric> createdMetrics = new ArrayList<>();
+
+    private MeterRegistry                 meterRegistry  = null;
+    private PerformanceMetricsMeterBinder binder         = null;
+
+
+    /**
+     * Create a new meter registry and binder for each test.
+     */
+    @BeforeMethod public void createBinder()
+    {
+        meterRegistry = new SimpleMeterRegistry();
+        binder        = new PerformanceMetricsMeterBinder();
+    }
+
+
+    /**
+     * The performance metrics registry is static so remove the binder and everything the test created.
+     */
+    @AfterMethod public void removeMetrics()
+    {
+        PerformanceMetrics.removeListener(binder);
+
+        for (PerformanceMetric metric : createdMetrics)
+        {
+            PerformanceMetrics.removeMetric(metric);
+        }
+
+        createdMetrics.clear();
+    }
+
+
+    /**
+     * Metrics registered before the binder is bound are published when it is bound.
+     */
+    @Test public void testExistingMetricsArePublished()
+    {
+        TimerMetric timer = PerformanceMetrics.getTimer("test.binder.existing", "server", "server1");
+
+        createdMetrics.add(timer);
+        timer.record(2, TimeUnit.MILLISECONDS);
+
+        binder.bindTo(meterRegistry);
+
+        FunctionTimer functionTimer = meterRegistry.find("test.binder.existing").tag("server", "server1").functionTimer();
+
+        assertNotNull(functionTimer);
+        assertEquals(functionTimer.count(), 1.0);
+        assertEquals(functionTimer.totalTime(TimeUnit.MILLISECONDS), 2.0, 0.001);
+    }
+
+
+    /**
+     * A timer registered after the binder is bound is published and the meter reads the timer's current values.
+     */
+    @Test public void testTimerIsPublished()
+    {
+        binder.bindTo(meterRegistry);
+
+        TimerMetric timer = PerformanceMetrics.getTimer("test.binder.timer", "server", "server1", "operation", "find");
+
+        createdMetrics.add(timer);
+
+        FunctionTimer functionTimer = meterRegistry.find("test.binder.timer")
+                                                   .tag("server", "server1")
+                                                   .tag("operation", "find")
+                                                   .functionTimer();
+
+        assertNotNull(functionTimer);
+        assertEquals(functionTimer.count(), 0.0);
+
+        timer.record(5, TimeUnit.MILLISECONDS);
+        timer.record(3, TimeUnit.MILLISECONDS);
+
+        assertEquals(functionTimer.count(), 2.0);
+        assertEquals(functionTimer.totalTime(TimeUnit.MILLISECONDS), 8.0, 0.001);
+    }
+
+
+    /**
+     * A gauge is published while it is registered and removed from the meter registry when it is removed.
+     */
+    @Test public void testGaugeIsPublishedAndRemoved()
+    {
+        binder.bindTo(meterRegistry);
+
+        GaugeMetric gauge = PerformanceMetrics.registerGauge(() -> 7, "test.binder.gauge", "queue", "queue1");
+
+        createdMetrics.add(gauge);
+
+        Gauge meter = meterRegistry.find("test.binder.gauge").tag("queue", "queue1").gauge();
+
+        assertNotNull(meter);
+        assertEquals(meter.value(), 7.0);
+
+        PerformanceMetrics.removeMetric(gauge);
+
+        assertNull(meterRegistry.find("test.binder.gauge").tag("queue", "queue1").gauge());
+    }
+
+
+    /**
+     * Metrics that are registered before the binder is bound to a registry are not lost.
+     */
+    @Test public void testMetricBeforeBind()
+    {
+        GaugeMetric gauge = PerformanceMetrics.registerGauge(() -> 3, "test.binder.unbound", "queue", "queue1");
+
+        createdMetrics.add(gauge);
+
+        binder.metricRegistered(gauge);
+        binder.metricRemoved(gauge);
+
+        binder.bindTo(meterRegistry);
+
+        Gauge meter = meterRegistry.find("test.binder.unbound").tag("queue", "queue1").gauge();
+
+        assertNotNull(meter);
+        assertEquals(meter.value(), 3.0);
+    }
+}
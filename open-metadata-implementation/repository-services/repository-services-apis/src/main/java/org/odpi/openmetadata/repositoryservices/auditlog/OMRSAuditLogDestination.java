@@ -8,12 +8,14 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecordOriginator;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * OMRSAuditLogDestination provides information needed to log records to the configured audit log destinations
@@ -24,6 +26,8 @@ public class OMRSAuditLogDestination extends AuditLogDestination
     private final OMRSAuditLogRecordOriginator omrsOriginator = new OMRSAuditLogRecordOriginator();
     private       List<OMRSAuditLogStore>      auditLogStores = null;
 
+    private final Map<OMRSAuditLogStore, OMRSAuditLogStoreQueue> auditLogStoreQueues = new HashMap<>();
+
     private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogDestination.class);
 
 
@@ -64,6 +68,23 @@ public class OMRSAuditLogDestination extends AuditLogDestination
         if (auditLogStores != null)
         {
             this.auditLogStores = new ArrayList<>(auditLogStores);
+
+            /*
+             * Stores configured with an asynchronous queue are written to by their own writer thread
+             * so that a slow store does not delay the caller.
+             */
+            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            {
+                if (auditLogStore instanceof OMRSAuditLogStoreConnectorBase storeConnector && storeConnector.getAsyncQueueSize() > 0)
+                {
+                    auditLogStoreQueues.put(auditLogStore, new OMRSAuditLogStoreQueue(storeConnector,
+                                                                                      storeConnector.getDestinationName(),
+                                                                                      storeConnector.getAsyncQueueSize(),
+                                                                                      storeConnector.getAsyncBatchSize(),
+                                                                                      storeConnector.getOverflowPolicy(),
+                                                                                      storeConnector.getOverflowSampleInterval()));
+                }
+            }
         }
     }
 
@@ -115,7 +136,13 @@ public class OMRSAuditLogDestination extends AuditLogDestination
         {
             for (OMRSAuditLogStore auditLogStore : auditLogStores)
             {
-                if (auditLogStore != null)
+                OMRSAuditLogStoreQueue auditLogStoreQueue = auditLogStoreQueues.get(auditLogStore);
+
+                if (auditLogStoreQueue != null)
+                {
+                    auditLogStoreQueue.addLogRecord(new OMRSAuditLogRecord(logRecord));
+                }
+                else if (auditLogStore != null)
                 {
                     try
                     {
@@ -156,6 +183,16 @@ public class OMRSAuditLogDestination extends AuditLogDestination
                     auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
                     auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
 
+                    OMRSAuditLogStoreQueue auditLogStoreQueue = auditLogStoreQueues.get(auditLogStore);
+
+                    if (auditLogStoreQueue != null)
+                    {
+                        auditLogStoreReport.setAsyncQueueSize(auditLogStoreQueue.getQueueSize());
+                        auditLogStoreReport.setQueueDepth(auditLogStoreQueue.getQueueDepth());
+                        auditLogStoreReport.setDroppedRecordCount(auditLogStoreQueue.getDroppedRecordCount());
+                        auditLogStoreReport.setOverflowPolicy(auditLogStoreQueue.getOverflowPolicy());
+                    }
+
                     storeReportList.add(auditLogStoreReport);
                 }
             }
@@ -168,4 +205,17 @@ public class OMRSAuditLogDestination extends AuditLogDestination
 
         return report;
     }
+
+
+    /**
+     * Write out any queued log records and stop the writer threads.  Log records received after this call
+     * are written synchronously.
+     */
+    public void disconnect()
+    {
+        for (OMRSAuditLogStoreQueue auditLogStoreQueue : auditLogStoreQueues.values())
+        {
+            auditLogStoreQueue.stop();
+        }
+    }
 }
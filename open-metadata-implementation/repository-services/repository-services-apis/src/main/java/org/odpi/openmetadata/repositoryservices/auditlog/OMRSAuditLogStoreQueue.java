@@ -0,0 +1,371 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * OMRSAuditLogStoreQueue sits in front of an audit log store that is configured for asynchronous writes.
+ * Callers add log records to a bounded queue and a dedicated writer thread takes them from the queue in
+ * batches and passes each batch to the store in a single storeLogRecords call.  When the queue is full, the configured overflow policy decides
+ * whether the caller waits or a record is dropped.
+ */
+class OMRSAuditLogStoreQueue
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogStoreQueue.class);
+
+    /*
+     * Severity names from least to most important.  The dropLowestSeverity overflow policy drops the record whose
+     * severity appears earliest in this list.  Severities that are not listed are treated as the most important.
+     */
+    private static final List<String> SEVERITY_PRIORITY = List.of(OMRSAuditLogRecordSeverity.TRACE.getName(),
+                                                                  OMRSAuditLogRecordSeverity.PERFMON.getName(),
+                                                                  OMRSAuditLogRecordSeverity.ACTIVITY.getName(),
+                                                                  OMRSAuditLogRecordSeverity.INFO.getName(),
+                                                                  OMRSAuditLogRecordSeverity.EVENT.getName(),
+                                                                  OMRSAuditLogRecordSeverity.TYPES.getName(),
+                                                                  OMRSAuditLogRecordSeverity.COHORT.getName(),
+                                                                  OMRSAuditLogRecordSeverity.DECISION.getName(),
+                                                                  OMRSAuditLogRecordSeverity.ASSET.getName(),
+                                                                  OMRSAuditLogRecordSeverity.STARTUP.getName(),
+                                                                  OMRSAuditLogRecordSeverity.SHUTDOWN.getName(),
+                                                                  OMRSAuditLogRecordSeverity.ACTION.getName(),
+                                                                  OMRSAuditLogRecordSeverity.SECURITY.getName(),
+                                                                  OMRSAuditLogRecordSeverity.ERROR.getName(),
+                                                                  OMRSAuditLogRecordSeverity.EXCEPTION.getName());
+
+    private static final long WRITER_POLL_INTERVAL      = 500;
+    private static final long WRITER_SHUTDOWN_WAIT_TIME = 5000;
+
+    private final OMRSAuditLogStoreConnectorBase    auditLogStore;
+    private final BlockingQueue<OMRSAuditLogRecord> queue;
+    private final int                               queueSize;
+    private final int                               batchSize;
+    private final String                            overflowPolicy;
+    private final int                               sampleInterval;
+    private final Thread                            writerThread;
+
+    private final AtomicLong                        overflowCount      = new AtomicLong(0);
+    private final AtomicLong                        droppedRecordCount = new AtomicLong(0);
+    private final ReadWriteLock                     stateLock          = new ReentrantReadWriteLock();
+    private volatile boolean                        isActive           = true;
+
+
+    /**
+     * Create the queue and start the writer thread.
+     *
+     * @param auditLogStore store to write to
+     * @param destinationName name of the store used to name the writer thread
+     * @param queueSize maximum number of records waiting to be written
+     * @param batchSize maximum number of records written to the store in one call
+     * @param overflowPolicy action to take when the queue is full
+     * @param sampleInterval interval between the records kept by the sample overflow policy
+     */
+    OMRSAuditLogStoreQueue(OMRSAuditLogStoreConnectorBase auditLogStore,
+                           String                         destinationName,
+                           int                            queueSize,
+                           int                            batchSize,
+                           String                         overflowPolicy,
+                           int                            sampleInterval)
+    {
+        this.auditLogStore  = auditLogStore;
+        this.queue          = new ArrayBlockingQueue<>(queueSize);
+        this.queueSize      = queueSize;
+        this.batchSize      = Math.max(batchSize, 1);
+        this.overflowPolicy = overflowPolicy;
+        this.sampleInterval = Math.max(sampleInterval, 1);
+
+        this.writerThread = new Thread(this::writeQueuedRecords, "AuditLogWriter:" + destinationName);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+
+    /**
+     * Queue a log record for the writer thread, applying the overflow policy if the queue is full.  Once the
+     * queue has been stopped, the record is written on the caller's thread.  The check that the queue is active
+     * and the queuing of the record happen under the read lock, so stop() can not switch the queue off between
+     * them and leave the record in a queue that is no longer written.
+     *
+     * @param logRecord record to write
+     */
+    void addLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        stateLock.readLock().lock();
+
+        try
+        {
+            if (isActive)
+            {
+                queueLogRecord(logRecord);
+                return;
+            }
+        }
+        finally
+        {
+            stateLock.readLock().unlock();
+        }
+
+        writeLogRecords(List.of(logRecord));
+    }
+
+
+    /**
+     * Add a log record to the queue, applying the overflow policy if the queue is full.
+     *
+     * @param logRecord record to write
+     */
+    private void queueLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        if (queue.offer(logRecord))
+        {
+            return;
+        }
+
+        if (OMRSAuditLogStoreProviderBase.dropLowestSeverityOverflowPolicy.equals(overflowPolicy))
+        {
+            dropLowestSeverity(logRecord);
+        }
+        else if (OMRSAuditLogStoreProviderBase.sampleOverflowPolicy.equals(overflowPolicy))
+        {
+            sample(logRecord);
+        }
+        else
+        {
+            try
+            {
+                queue.put(logRecord);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+                droppedRecordCount.incrementAndGet();
+            }
+        }
+    }
+
+
+    /**
+     * Return the maximum number of records that can wait in the queue.
+     *
+     * @return queue size
+     */
+    int getQueueSize()
+    {
+        return queueSize;
+    }
+
+
+    /**
+     * Return the number of records currently waiting to be written.
+     *
+     * @return queue depth
+     */
+    int getQueueDepth()
+    {
+        return queue.size();
+    }
+
+
+    /**
+     * Return the number of records that have been dropped because the queue was full.
+     *
+     * @return dropped record count
+     */
+    long getDroppedRecordCount()
+    {
+        return droppedRecordCount.get();
+    }
+
+
+    /**
+     * Return the name of the overflow policy.
+     *
+     * @return policy name
+     */
+    String getOverflowPolicy()
+    {
+        return overflowPolicy;
+    }
+
+
+    /**
+     * Stop the writer thread once it has written the records already in the queue.  Records added after
+     * this call are written synchronously.  The write lock waits for any caller that is part way through
+     * queuing a record, so every queued record is seen by the writer thread or the final drain below.
+     * The writer thread is not interrupted because some stores
+     * do not tolerate an interrupt part way through a write.  If the writer thread is still running after
+     * the wait, it is left to finish the queue on its own so that records are not written twice or out of order.
+     */
+    void stop()
+    {
+        stateLock.writeLock().lock();
+
+        try
+        {
+            isActive = false;
+        }
+        finally
+        {
+            stateLock.writeLock().unlock();
+        }
+
+        try
+        {
+            writerThread.join(WRITER_SHUTDOWN_WAIT_TIME);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writerThread.isAlive())
+        {
+            log.warn("Audit log writer " + writerThread.getName() + " is still writing " + queue.size() + " queued records");
+            return;
+        }
+
+        /*
+         * Write anything that arrived after the writer thread last checked the queue.
+         */
+        List<OMRSAuditLogRecord> remainingRecords = new ArrayList<>();
+        queue.drainTo(remainingRecords);
+
+        if (! remainingRecords.isEmpty())
+        {
+            writeLogRecords(remainingRecords);
+        }
+    }
+
+
+    /**
+     * The queue is full: drop either the new record or the queued record with the lowest severity.
+     *
+     * @param logRecord new record
+     */
+    private synchronized void dropLowestSeverity(OMRSAuditLogRecord logRecord)
+    {
+        OMRSAuditLogRecord lowestRecord   = logRecord;
+        int                lowestPriority = getPriority(logRecord);
+
+        for (OMRSAuditLogRecord queuedRecord : queue)
+        {
+            int priority = getPriority(queuedRecord);
+
+            if (priority < lowestPriority)
+            {
+                lowestRecord   = queuedRecord;
+                lowestPriority = priority;
+            }
+        }
+
+        droppedRecordCount.incrementAndGet();
+
+        if (lowestRecord != logRecord && queue.remove(lowestRecord) && ! queue.offer(logRecord))
+        {
+            /*
+             * Another caller took the freed space.
+             */
+            droppedRecordCount.incrementAndGet();
+        }
+    }
+
+
+    /**
+     * The queue is full: keep one in every sample interval records by replacing the oldest queued record.
+     *
+     * @param logRecord new record
+     */
+    private void sample(OMRSAuditLogRecord logRecord)
+    {
+        droppedRecordCount.incrementAndGet();
+
+        if (overflowCount.incrementAndGet() % sampleInterval == 0)
+        {
+            queue.poll();
+
+            if (! queue.offer(logRecord))
+            {
+                droppedRecordCount.incrementAndGet();
+            }
+        }
+    }
+
+
+    /**
+     * Return the position of the record's severity in the priority list.
+     *
+     * @param logRecord log record
+     * @return priority - higher is more important
+     */
+    private int getPriority(OMRSAuditLogRecord logRecord)
+    {
+        int priority = SEVERITY_PRIORITY.indexOf(logRecord.getSeverity());
+
+        return priority < 0 ? SEVERITY_PRIORITY.size() : priority;
+    }
+
+
+    /**
+     * Body of the writer thread.  It waits for records and writes them to the store a batch at a time.
+     */
+    private void writeQueuedRecords()
+    {
+        List<OMRSAuditLogRecord> batch = new ArrayList<>(batchSize);
+
+        while (isActive || ! queue.isEmpty())
+        {
+            try
+            {
+                OMRSAuditLogRecord firstRecord = queue.poll(WRITER_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+
+                if (firstRecord != null)
+                {
+                    batch.add(firstRecord);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Audit log writer interrupted while waiting for records");
+            }
+
+            if (! batch.isEmpty())
+            {
+                writeLogRecords(batch);
+                batch.clear();
+            }
+        }
+    }
+
+
+    /**
+     * Write a batch of records to the store.
+     *
+     * @param logRecords records to write
+     */
+    private void writeLogRecords(List<OMRSAuditLogRecord> logRecords)
+    {
+        try
+        {
+            auditLogStore.storeLogRecords(logRecords);
+        }
+        catch (Exception error)
+        {
+            log.error("Error: " + error + " writing " + logRecords.size() + " audit log records to destination " + auditLogStore.getClass().getName());
+        }
+    }
+}
@@ -28,6 +28,10 @@ public class OMRSAuditLogStoreReport implements Serializable
     private String       destinationName     = null;
     private List<String> supportedSeverities = null;
     private String       implementationClass = null;
+    private int          asyncQueueSize      = 0;
+    private int          queueDepth          = 0;
+    private long         droppedRecordCount  = 0;
+    private String       overflowPolicy      = null;
 
 
     /**
@@ -50,6 +54,10 @@ public class OMRSAuditLogStoreReport implements Serializable
             destinationName = template.getDestinationName();
             supportedSeverities = template.getSupportedSeverities();
             implementationClass = template.getImplementationClass();
+            asyncQueueSize = template.getAsyncQueueSize();
+            queueDepth = template.getQueueDepth();
+            droppedRecordCount = template.getDroppedRecordCount();
+            overflowPolicy = template.getOverflowPolicy();
         }
     }
 
@@ -129,6 +137,94 @@ public class OMRSAuditLogStoreReport implements Serializable
     }
 
 
+    /**
+     * Return the size of the queue in front of this audit log store.  Zero means records are written synchronously.
+     *
+     * @return queue size
+     */
+    public int getAsyncQueueSize()
+    {
+        return asyncQueueSize;
+    }
+
+
+    /**
+     * Set up the size of the queue in front of this audit log store.  Zero means records are written synchronously.
+     *
+     * @param asyncQueueSize queue size
+     */
+    public void setAsyncQueueSize(int asyncQueueSize)
+    {
+        this.asyncQueueSize = asyncQueueSize;
+    }
+
+
+    /**
+     * Return the number of log records waiting to be written to this audit log store when the report was created.
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth()
+    {
+        return queueDepth;
+    }
+
+
+    /**
+     * Set up the number of log records waiting to be written to this audit log store.
+     *
+     * @param queueDepth queue depth
+     */
+    public void setQueueDepth(int queueDepth)
+    {
+        this.queueDepth = queueDepth;
+    }
+
+
+    /**
+     * Return the number of log records that were not written to this audit log store because its queue was full.
+     *
+     * @return count
+     */
+    public long getDroppedRecordCount()
+    {
+        return droppedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records that were not written to this audit log store because its queue was full.
+     *
+     * @param droppedRecordCount count
+     */
+    public void setDroppedRecordCount(long droppedRecordCount)
+    {
+        this.droppedRecordCount = droppedRecordCount;
+    }
+
+
+    /**
+     * Return the action taken when the queue for this audit log store is full - null if there is no queue.
+     *
+     * @return overflow policy name
+     */
+    public String getOverflowPolicy()
+    {
+        return overflowPolicy;
+    }
+
+
+    /**
+     * Set up the action taken when the queue for this audit log store is full - null if there is no queue.
+     *
+     * @param overflowPolicy overflow policy name
+     */
+    public void setOverflowPolicy(String overflowPolicy)
+    {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -141,6 +237,10 @@ public class OMRSAuditLogStoreReport implements Serializable
                 "destinationName='" + destinationName + '\'' +
                 ", supportedSeverities=" + supportedSeverities +
                 ", implementationClass='" + implementationClass + '\'' +
+                ", asyncQueueSize=" + asyncQueueSize +
+                ", queueDepth=" + queueDepth +
+                ", droppedRecordCount=" + droppedRecordCount +
+                ", overflowPolicy='" + overflowPolicy + '\'' +
                 '}';
     }
 
@@ -163,9 +263,13 @@ public class OMRSAuditLogStoreReport implements Serializable
             return false;
         }
         OMRSAuditLogStoreReport that = (OMRSAuditLogStoreReport) objectToCompare;
-        return Objects.equals(destinationName, that.destinationName) &&
+        return asyncQueueSize == that.asyncQueueSize &&
+                queueDepth == that.queueDepth &&
+                droppedRecordCount == that.droppedRecordCount &&
+                Objects.equals(destinationName, that.destinationName) &&
                 Objects.equals(supportedSeverities, that.supportedSeverities) &&
-                Objects.equals(implementationClass, that.implementationClass);
+                Objects.equals(implementationClass, that.implementationClass) &&
+                Objects.equals(overflowPolicy, that.overflowPolicy);
     }
 
 
@@ -177,6 +281,7 @@ public class OMRSAuditLogStoreReport implements Serializable
     @Override
     public int hashCode()
     {
-        return Objects.hash(destinationName, supportedSeverities, implementationClass);
+        return Objects.hash(destinationName, supportedSeverities, implementationClass, asyncQueueSize, queueDepth,
+                            droppedRecordCount, overflowPolicy);
     }
 }
@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventEncoding;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * OMRSEventPayloadCodec converts OMRS event beans to and from the string payloads that are passed to the
+ * event bus connectors.  JSON events are sent unchanged so that they can be read by any member of the cohort.
+ * Compact events are preceded by a short header that identifies the protocol version and encoding:
+ * <pre>
+ *     &#64;&lt;protocol version ordinal&gt;&lt;encoding wire code&gt;:&lt;base64 payload&gt;
+ * </pre>
+ * The header is never valid JSON so a receiver is able to detect the encoding of each event and
+ * a cohort can contain a mixture of senders using different encodings.
+ */
+public class OMRSEventPayloadCodec
+{
+    private static final char   headerMarker    = '@';
+    private static final char   headerSeparator = ':';
+
+    private static final ObjectMapper JSON_MAPPER  = new ObjectMapper();
+    private static final ObjectReader JSON_READER  = JSON_MAPPER.reader();
+    private static final ObjectWriter JSON_WRITER  = JSON_MAPPER.writer();
+
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+    private static final ObjectReader SMILE_READER = SMILE_MAPPER.reader();
+    private static final ObjectWriter SMILE_WRITER = SMILE_MAPPER.writer();
+
+    private final OMRSEventProtocolVersion protocolVersion;
+    private final OMRSEventEncoding        encoding;
+
+
+    /**
+     * Constructor supplies the protocol version and encoding used for outbound events.
+     *
+     * @param protocolVersion version of the event payload
+     * @param encoding encoding to use on outbound events
+     */
+    public OMRSEventPayloadCodec(OMRSEventProtocolVersion protocolVersion,
+                                 OMRSEventEncoding        encoding)
+    {
+        this.protocolVersion = protocolVersion;
+        this.encoding        = encoding;
+    }
+
+
+    /**
+     * Return the encoding used for outbound events.
+     *
+     * @return encoding enum
+     */
+    public OMRSEventEncoding getEncoding()
+    {
+        return encoding;
+    }
+
+
+    /**
+     * Convert an event bean into a string payload using the configured encoding.
+     *
+     * @param event event bean
+     * @return string payload for the event bus
+     * @throws IOException problem serializing the bean
+     */
+    public String encode(OMRSEventBean event) throws IOException
+    {
+        return this.encode(event, encoding);
+    }
+
+
+    /**
+     * Convert an event bean into a string payload using the requested encoding.
+     *
+     * @param event event bean
+     * @param requestedEncoding encoding to use
+     * @return string payload for the event bus
+     * @throws IOException problem serializing the bean
+     */
+    public String encode(OMRSEventBean     event,
+                         OMRSEventEncoding requestedEncoding) throws IOException
+    {
+        if ((requestedEncoding == null) || (requestedEncoding == OMRSEventEncoding.JSON))
+        {
+            return JSON_WRITER.writeValueAsString(event);
+        }
+
+        byte[] payload;
+
+        if (requestedEncoding == OMRSEventEncoding.COMPRESSED)
+        {
+            ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+
+            try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(byteStream))
+            {
+                SMILE_WRITER.writeValue(deflaterStream, event);
+            }
+
+            payload = byteStream.toByteArray();
+        }
+        else
+        {
+            payload = SMILE_WRITER.writeValueAsBytes(event);
+        }
+
+        return String.valueOf(headerMarker) +
+                       protocolVersion.getOrdinal() +
+                       requestedEncoding.getWireCode() +
+                       headerSeparator +
+                       Base64.getEncoder().encodeToString(payload);
+    }
+
+
+    /**
+     * Parse a string payload from the event bus into an event bean.  The encoding is detected from the payload.
+     *
+     * @param event string payload
+     * @return event bean
+     * @throws IOException the payload is not recognized or can not be parsed
+     */
+    public OMRSEventBean decode(String event) throws IOException
+    {
+        if ((event.isEmpty()) || (event.charAt(0) != headerMarker))
+        {
+            return JSON_READER.readValue(event, OMRSEventBean.class);
+        }
+
+        int separatorIndex = event.indexOf(headerSeparator);
+
+        if (separatorIndex < 3)
+        {
+            throw new IOException("Malformed OMRS event header");
+        }
+
+        OMRSEventEncoding eventEncoding = OMRSEventEncoding.getEncoding(event.charAt(separatorIndex - 1));
+        String            eventVersion  = event.substring(1, separatorIndex - 1);
+
+        if ((eventEncoding == null) || (eventEncoding == OMRSEventEncoding.JSON))
+        {
+            throw new IOException("Unsupported OMRS event encoding: " + event.charAt(separatorIndex - 1));
+        }
+
+        if (! Integer.toString(protocolVersion.getOrdinal()).equals(eventVersion))
+        {
+            throw new IOException("Unsupported OMRS event protocol version: " + eventVersion);
+        }
+
+        byte[] payload = Base64.getDecoder().decode(event.substring(separatorIndex + 1));
+
+        if (eventEncoding == OMRSEventEncoding.COMPRESSED)
+        {
+            try (InputStream inflaterStream = new InflaterInputStream(new ByteArrayInputStream(payload)))
+            {
+                return SMILE_READER.readValue(inflaterStream, OMRSEventBean.class);
+            }
+        }
+
+        return SMILE_READER.readValue(payload, OMRSEventBean.class);
+    }
+}
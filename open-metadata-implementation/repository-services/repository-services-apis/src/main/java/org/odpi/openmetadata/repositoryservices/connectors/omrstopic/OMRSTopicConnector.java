@@ -2,9 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDescription;
@@ -15,12 +12,17 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventEncoding;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
 import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1RegistrySection;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
@@ -28,9 +30,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -58,6 +64,19 @@ import java.util.concurrent.CompletionException;
  *         connectors that implement OpenMetadataTopic.
  *     </li>
  * </ul>
+ * <p>
+ *     Each listener has its own OMRSTopicListenerQueue that filters the events against the listener's subscription
+ *     (if it implements OMRSTopicListenerSubscription) and passes them to the listener.  By default, the events are
+ *     passed to the listeners on the thread that received them.  If the listenerQueueSize configuration property is
+ *     set, each listener receives its events on its own thread.
+ * </p>
+ * <p>
+ *     Events are sent as JSON unless the eventEncoding configuration property requests a compact encoding.
+ *     Registry events are always sent as JSON and advertise the encodings that this member can decode.  A compact
+ *     encoding is only used for type and instance events while every member seen on the topic has advertised
+ *     support for it.  A member that has not advertised its encodings (for example, a back-level server, or
+ *     one that has not registered since this server started) switches this server back to JSON.
+ * </p>
  */
 public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                                                                  VirtualConnectorExtension,
@@ -66,20 +85,26 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 {
     private static final Logger       log      = LoggerFactory.getLogger(OMRSTopicConnector.class);
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.reader();
-    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
-
     private static final String unknownTopicName = "<Unknown>";
 
+    private static final int    defaultListenerQueueSize = 0;
+
     private List<Connector> embeddedConnectors = null;
 
-    private final List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
-    private final List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
+    private final List<OMRSTopicListenerQueue>     listenerQueues     = new CopyOnWriteArrayList<>();
+    private final List<OpenMetadataTopicConnector> eventBusConnectors = new ArrayList<>();
 
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = unknownTopicName;
     private OMRSEventProtocolVersion  eventProtocolVersion = OMRSEventProtocolVersion.V1;
+    private OMRSEventEncoding         eventEncoding        = OMRSEventEncoding.JSON;
+    private OMRSEventPayloadCodec     payloadCodec         = new OMRSEventPayloadCodec(eventProtocolVersion, eventEncoding);
+
+    /*
+     * Map from the metadata collection id of each member seen on the topic to whether it can decode the
+     * configured event encoding.
+     */
+    private final Map<String, Boolean> memberEncodingSupport = new ConcurrentHashMap<>();
 
     protected AuditLog auditLog = null;
 
@@ -147,6 +172,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         if (eventProtocolVersion != null)
         {
             this.eventProtocolVersion = eventProtocolVersion;
+            this.payloadCodec = new OMRSEventPayloadCodec(eventProtocolVersion, eventEncoding);
         }
     }
 
@@ -163,7 +189,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener, auditLog));
+            this.addListenerQueue(new OMRSTopicListenerWrapper(topicListener, auditLog),
+                                  topicListener.getClass().getName(),
+                                  topicListener);
         }
         else
         {
@@ -189,9 +217,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
-                                                                    serviceName,
-                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            this.addListenerQueue(new OMRSTopicListenerWrapper(topicListener,
+                                                               serviceName,
+                                                               auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)),
+                                  serviceName,
+                                  topicListener);
         }
         else
         {
@@ -217,9 +247,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
-                                                                    serviceName,
-                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            this.addListenerQueue(new OMRSTopicListenerWrapper(topicListener,
+                                                               serviceName,
+                                                               auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)),
+                                  serviceName,
+                                  topicListener);
         }
         else
         {
@@ -232,6 +264,75 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Create the queue that passes events to a newly registered listener.
+     *
+     * @param topicListenerWrapper wrapper for the registered listener
+     * @param listenerName name of the listener used in diagnostics
+     * @param topicListener registered listener - it may define a subscription
+     */
+    private void addListenerQueue(OMRSTopicListenerWrapper topicListenerWrapper,
+                                  String                   listenerName,
+                                  Object                   topicListener)
+    {
+        OMRSTopicListenerSubscription subscription = null;
+
+        if (topicListener instanceof OMRSTopicListenerSubscription listenerSubscription)
+        {
+            subscription = listenerSubscription;
+        }
+
+        listenerQueues.add(new OMRSTopicListenerQueue(topicListenerWrapper,
+                                                      listenerName,
+                                                      subscription,
+                                                      topicName,
+                                                      this.getListenerQueueSize(),
+                                                      auditLog));
+    }
+
+
+    /**
+     * Return the size of the queue for each listener from the configuration properties.
+     *
+     * @return queue size - 0 means events are passed to the listeners on the thread that receives them
+     */
+    private int getListenerQueueSize()
+    {
+        if (super.connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
+
+            if ((configurationProperties != null) &&
+                (configurationProperties.get(OMRSTopicProvider.LISTENER_QUEUE_SIZE_PROPERTY_NAME) != null))
+            {
+                Object queueSizeProperty = configurationProperties.get(OMRSTopicProvider.LISTENER_QUEUE_SIZE_PROPERTY_NAME);
+
+                try
+                {
+                    return Integer.parseInt(queueSizeProperty.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    log.debug("Ignoring invalid listener queue size: " + queueSizeProperty);
+                }
+            }
+        }
+
+        return defaultListenerQueueSize;
+    }
+
+
+    /**
+     * Return the queues that pass events to the registered listeners.  They show how far behind each listener is.
+     *
+     * @return list of listener queues
+     */
+    public List<OMRSTopicListenerQueue> getListenerQueues()
+    {
+        return Collections.unmodifiableList(new ArrayList<>(listenerQueues));
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      * OMRSTopicConnector needs to pass on the start() to its embedded connectors.
@@ -252,6 +353,31 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         log.debug("Initializing OMRSTopicConnector: " + connectionName);
 
+        /*
+         * Pick up the encoding to use for outbound events.  Inbound events are always accepted in any encoding.
+         */
+        if (super.connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
+
+            if ((configurationProperties != null) &&
+                        (configurationProperties.get(OMRSTopicProvider.EVENT_ENCODING_PROPERTY_NAME) != null))
+            {
+                Object            encodingProperty  = configurationProperties.get(OMRSTopicProvider.EVENT_ENCODING_PROPERTY_NAME);
+                OMRSEventEncoding requestedEncoding = OMRSEventEncoding.getEncoding(encodingProperty.toString());
+
+                if (requestedEncoding != null)
+                {
+                    eventEncoding = requestedEncoding;
+                    payloadCodec = new OMRSEventPayloadCodec(eventProtocolVersion, eventEncoding);
+                }
+                else
+                {
+                    log.debug("Ignoring unrecognized event encoding: " + encodingProperty);
+                }
+            }
+        }
+
         /*
          * Step through the embedded connectors, selecting only the OpenMetadataTopicConnectors
          * to use.
@@ -278,6 +404,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
                         topicName = realTopicConnector.registerListener(this);
 
+                        for (OMRSTopicListenerQueue listenerQueue : listenerQueues)
+                        {
+                            listenerQueue.setTopicName(topicName);
+                        }
+
                         this.eventBusConnectors.add(realTopicConnector);
 
                         if (auditLog != null)
@@ -356,7 +487,25 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
         {
-            return this.sendEvent(registryEvent.getOMRSEventV1(), true);
+            /*
+             * Registry events are always sent as JSON so that back-level members are able to register with the cohort.
+             * They advertise the encodings that this member is able to decode.
+             */
+            OMRSEventV1 eventV1 = registryEvent.getOMRSEventV1();
+
+            if ((eventV1 != null) && (eventV1.getRegistryEventSection() != null))
+            {
+                List<String> supportedEncodings = new ArrayList<>();
+
+                for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+                {
+                    supportedEncodings.add(encoding.getName());
+                }
+
+                eventV1.getRegistryEventSection().setSupportedEncodings(supportedEncodings);
+            }
+
+            return this.sendEvent(eventV1, OMRSEventEncoding.JSON, true);
         }
         else
         {
@@ -380,7 +529,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
         {
-            return this.sendEvent(typeDefEvent.getOMRSEventV1(), false);
+            return this.sendEvent(typeDefEvent.getOMRSEventV1(), this.getOutboundEncoding(), false);
         }
         else
         {
@@ -404,7 +553,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
         {
-            this.sendEvent(instanceEvent.getOMRSEventV1(), true);
+            this.sendEvent(instanceEvent.getOMRSEventV1(), this.getOutboundEncoding(), true);
         }
         else
         {
@@ -413,19 +562,78 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the encoding to use for type and instance events.  The configured encoding is only used once at
+     * least one member has advertised its encodings and every member seen on the topic is able to decode it.
+     *
+     * @return encoding
+     */
+    OMRSEventEncoding getOutboundEncoding()
+    {
+        if ((eventEncoding == OMRSEventEncoding.JSON) ||
+            (memberEncodingSupport.isEmpty()) ||
+            (memberEncodingSupport.containsValue(Boolean.FALSE)))
+        {
+            return OMRSEventEncoding.JSON;
+        }
+
+        return eventEncoding;
+    }
+
+
+    /**
+     * Record the encodings supported by the originator of an inbound event.  Registry events carry the
+     * advertised encodings (or none for back-level members).  Any other event from a member that has not yet
+     * been seen marks it as unable to decode compact events until it registers.
+     *
+     * @param event inbound event
+     */
+    void recordMemberEncodings(OMRSEventV1 event)
+    {
+        if ((event.getOriginator() == null) || (event.getOriginator().getMetadataCollectionId() == null))
+        {
+            return;
+        }
+
+        String                     metadataCollectionId = event.getOriginator().getMetadataCollectionId();
+        OMRSEventV1RegistrySection registrySection      = event.getRegistryEventSection();
+
+        if ((event.getEventCategory() == OMRSEventCategory.REGISTRY) && (registrySection != null))
+        {
+            if (registrySection.getRegistryEventType() == OMRSRegistryEventType.UN_REGISTRATION_EVENT)
+            {
+                memberEncodingSupport.remove(metadataCollectionId);
+            }
+            else if (registrySection.getRegistryEventType() != OMRSRegistryEventType.REGISTRATION_ERROR_EVENT)
+            {
+                List<String> supportedEncodings = registrySection.getSupportedEncodings();
+
+                memberEncodingSupport.put(metadataCollectionId,
+                                          (supportedEncodings != null) && (supportedEncodings.contains(eventEncoding.getName())));
+            }
+        }
+        else
+        {
+            memberEncodingSupport.putIfAbsent(metadataCollectionId, Boolean.FALSE);
+        }
+    }
+
+
     /**
      * Sends the supplied event outbound to the OMRSTopicListeners using the event bus connectors.
      *
      * @param event    OMRSEvent object containing the event properties
+     * @param encoding encoding to use for the event payload
      * @param logEvent should an audit log message be created?
      */
-    private CompletableFuture<Boolean> sendEvent(OMRSEventV1 event,
-                                                 boolean     logEvent)
+    private CompletableFuture<Boolean> sendEvent(OMRSEventV1       event,
+                                                 OMRSEventEncoding encoding,
+                                                 boolean           logEvent)
     {
         final String methodName = "sendEvent";
         if (event != null)
         {
-            return CompletableFuture.supplyAsync(() -> sendEventTask(event, logEvent));
+            return CompletableFuture.supplyAsync(() -> sendEventTask(event, encoding, logEvent));
         }
         else
         {
@@ -437,13 +645,14 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         }
     }
 
-    private boolean sendEventTask(OMRSEventV1 event,
-                                  boolean logEvent)
+    private boolean sendEventTask(OMRSEventV1       event,
+                                  OMRSEventEncoding encoding,
+                                  boolean           logEvent)
     {
         final String methodName = "sendEventTask";
         try
         {
-            String eventString = OBJECT_WRITER.writeValueAsString(event);
+            String eventString = payloadCodec.encode(event, encoding);
 
             if ((auditLog != null) && logEvent)
             {
@@ -492,11 +701,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             OMRSEventBean   eventBean = null;
 
             /*
-             * Parse the string (JSON) event into a bean.
+             * Parse the string (JSON or compact) event into a bean.
              */
             try
             {
-                eventBean = OBJECT_READER.readValue(event, OMRSEventBean.class);
+                eventBean = payloadCodec.decode(event);
             }
             catch (Exception   exception)
             {
@@ -510,33 +719,40 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
 
             /*
-             * If the event bean is successfully created then pass it on to the registered listeners.
+             * If the event bean is successfully created then pass it on to the registered listeners.  The event is
+             * inbound and so read-only, which means one event object is shared by all listeners, even those that
+             * run on their own threads.
              */
-            if (eventBean instanceof OMRSEventV1)
+            if (eventBean instanceof OMRSEventV1 eventV1)
             {
-                OMRSEventBean finalEventBean = eventBean;
-                //internalTopicListeners.parallelStream().forEach((topicListener) ->
-                for (OMRSTopicListener topicListener : internalTopicListeners)
+                this.recordMemberEncodings(eventV1);
+
+                OMRSEvent omrsEvent = this.getOMRSEvent(eventV1);
+
+                if (omrsEvent != null)
                 {
-                    try
+                    for (OMRSTopicListenerQueue listenerQueue : listenerQueues)
                     {
-                        this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
-                    }
-                    catch (Exception  error)
-                    {
-                        log.debug("Unable to pass event to one of the topic listeners");
-
-                        if (auditLog != null)
+                        try
                         {
-                            auditLog.logException(methodName,
-                                                  OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
-                                                                                                            error.toString(),
-                                                                                                            topicListener.toString()),
-                                                  event,
-                                                  error);
+                            listenerQueue.addEvent(omrsEvent);
+                        }
+                        catch (Exception  error)
+                        {
+                            log.debug("Unable to pass event to one of the topic listeners");
+
+                            if (auditLog != null)
+                            {
+                                auditLog.logException(methodName,
+                                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
+                                                                                                                error.toString(),
+                                                                                                                listenerQueue.getListenerName()),
+                                                      event,
+                                                      error);
+                            }
                         }
                     }
-                } //);
+                }
             }
         }
         else
@@ -552,15 +768,14 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
 
     /**
-     * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
+     * Convert the OMRS Event bean into the event object for its category.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
      * is an extension from a newer version of the protocol and can be ignored.
      *
      * @param event Version 1 of the OMRSEvent that defines the category and payload of the incoming event.
-     * @param topicListener listener that will receive the event.
+     * @return event to pass to the listeners or null if the event is not recognized
      */
-    private void processOMRSEvent(OMRSEventV1        event,
-                                  OMRSTopicListener  topicListener)
+    private OMRSEvent getOMRSEvent(OMRSEventV1 event)
     {
         String   actionDescription = "Process Incoming Event";
 
@@ -575,16 +790,13 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             switch (event.getEventCategory())
             {
                 case REGISTRY:
-                    topicListener.processRegistryEvent(new OMRSRegistryEvent(event));
-                    break;
+                    return new OMRSRegistryEvent(event);
 
                 case TYPEDEF:
-                    topicListener.processTypeDefEvent(new OMRSTypeDefEvent(event));
-                    break;
+                    return new OMRSTypeDefEvent(event);
 
                 case INSTANCE:
-                    topicListener.processInstanceEvent(new OMRSInstanceEvent(event));
-                    break;
+                    return new OMRSInstanceEvent(event);
 
                 default:
                     /*
@@ -614,6 +826,8 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
             log.debug("Null OMRS Event received :(");
         }
+
+        return null;
     }
 
     /**
@@ -627,6 +841,14 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         super.disconnectConnectors(this.embeddedConnectors);
         super.disconnect();
 
+        /*
+         * Let the listeners finish the events that arrived before the event bus connectors were disconnected.
+         */
+        for (OMRSTopicListenerQueue listenerQueue : listenerQueues)
+        {
+            listenerQueue.stop();
+        }
+
         final String actionDescription = "Disconnect OMRS Topic Connector";
 
         if ((auditLog != null) && (! unknownTopicName.equals(topicName)))
@@ -16,9 +16,10 @@ import java.util.List;
 
 /**
  * OMRSTopicListenerBase provides a base class for a topic listener, so it only needs to
- * override the methods for the events it cares about.
+ * override the methods for the events it cares about.  A subclass can also override the
+ * OMRSTopicListenerSubscription methods so that events it ignores are filtered out before they are queued for it.
  */
-public class OMRSTopicListenerBase implements OMRSTopicListener
+public class OMRSTopicListenerBase implements OMRSTopicListener, OMRSTopicListenerSubscription
 {
     private static final Logger log = LoggerFactory.getLogger(OMRSTopicListenerBase.class);
 
@@ -0,0 +1,455 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.GaugeMetric;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetrics;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OMRSTopicListenerQueue sits between the OMRSTopicConnector and one of its registered listeners.  Events that
+ * match the listener's subscription are added to a bounded queue and passed to the listener on a dedicated
+ * delivery thread, so a slow listener does not hold up the other listeners.  The events are delivered in the order
+ * they were received.  When the queue is full, the thread receiving events from the topic waits for space rather
+ * than dropping the event.  The queue also records how far behind the topic the listener is running, and
+ * publishes this lag and the queue depth as gauges in the performance metrics.
+ */
+public class OMRSTopicListenerQueue
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSTopicListenerQueue.class);
+
+    private static final long DELIVERY_POLL_INTERVAL      = 500;
+    private static final long DELIVERY_SHUTDOWN_WAIT_TIME = 5000;
+    private static final long LAG_REPORT_THRESHOLD        = 60000;
+    private static final long LAG_REPORT_INTERVAL         = 300000;
+
+    private final OMRSTopicListener          topicListener;
+    private final String                     listenerName;
+    private final Set<OMRSEventCategory>     subscribedEventCategories;
+    private final Set<String>                subscribedInstanceTypeNames;
+    private final AuditLog                   auditLog;
+    private final int                        queueSize;
+    private final BlockingQueue<QueuedEvent> queue;
+    private final Thread                     deliveryThread;
+
+    private final AtomicLong                 eventsDelivered = new AtomicLong(0);
+    private final AtomicLong                 eventsFiltered  = new AtomicLong(0);
+    private volatile long                    lastLag         = 0;
+    private volatile long                    maxLag          = 0;
+    private volatile long                    lastLagReport   = 0;
+    private volatile String                  topicName;
+    private volatile boolean                 isActive        = true;
+    private GaugeMetric                      lagGauge        = null;
+    private GaugeMetric                      depthGauge      = null;
+
+
+    /**
+     * Create the queue for a listener and start its delivery thread.
+     *
+     * @param topicListener listener to pass the events to
+     * @param listenerName name of the listener (typically the name of its service) used in diagnostics
+     * @param subscription events that the listener wants (null for all events)
+     * @param topicName name of the topic that the events come from
+     * @param queueSize maximum number of events waiting for the listener - 0 means the events are passed to the
+     *                  listener on the thread that receives them
+     * @param auditLog logging destination
+     */
+    OMRSTopicListenerQueue(OMRSTopicListener             topicListener,
+                           String                        listenerName,
+                           OMRSTopicListenerSubscription subscription,
+                           String                        topicName,
+                           int                           queueSize,
+                           AuditLog                      auditLog)
+    {
+        this.topicListener = topicListener;
+        this.listenerName  = listenerName;
+        this.topicName     = topicName;
+        this.auditLog      = auditLog;
+        this.queueSize     = Math.max(queueSize, 0);
+
+        if ((subscription != null) && (subscription.getSubscribedEventCategories() != null))
+        {
+            this.subscribedEventCategories = new HashSet<>(subscription.getSubscribedEventCategories());
+        }
+        else
+        {
+            this.subscribedEventCategories = null;
+        }
+
+        if ((subscription != null) && (subscription.getSubscribedInstanceTypeNames() != null))
+        {
+            this.subscribedInstanceTypeNames = new HashSet<>(subscription.getSubscribedInstanceTypeNames());
+        }
+        else
+        {
+            this.subscribedInstanceTypeNames = null;
+        }
+
+        if (this.queueSize > 0)
+        {
+            this.queue          = new ArrayBlockingQueue<>(this.queueSize);
+            this.deliveryThread = new Thread(this::deliverQueuedEvents, "OMRSTopicListener:" + listenerName);
+            this.deliveryThread.setDaemon(true);
+            this.deliveryThread.start();
+        }
+        else
+        {
+            this.queue          = null;
+            this.deliveryThread = null;
+        }
+
+        this.registerGauges();
+    }
+
+
+    /**
+     * Return the name of the listener.
+     *
+     * @return name
+     */
+    public String getListenerName()
+    {
+        return listenerName;
+    }
+
+
+    /**
+     * Return the maximum number of events that can wait for the listener.  Zero means that events are
+     * passed to the listener on the thread that received them.
+     *
+     * @return queue size
+     */
+    public int getQueueSize()
+    {
+        return queueSize;
+    }
+
+
+    /**
+     * Return the number of events waiting for the listener.
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth()
+    {
+        if (queue == null)
+        {
+            return 0;
+        }
+
+        return queue.size();
+    }
+
+
+    /**
+     * Return the number of events passed to the listener.
+     *
+     * @return count
+     */
+    public long getEventsDelivered()
+    {
+        return eventsDelivered.get();
+    }
+
+
+    /**
+     * Return the number of events that were not passed to the listener because they did not match its subscription.
+     *
+     * @return count
+     */
+    public long getEventsFiltered()
+    {
+        return eventsFiltered.get();
+    }
+
+
+    /**
+     * Return the time between receiving the most recently delivered event and passing it to the listener.
+     *
+     * @return milliseconds
+     */
+    public long getLastLag()
+    {
+        return lastLag;
+    }
+
+
+    /**
+     * Return the longest time that an event has waited for the listener.
+     *
+     * @return milliseconds
+     */
+    public long getMaxLag()
+    {
+        return maxLag;
+    }
+
+
+    /**
+     * Set up the name of the topic once it is known.
+     *
+     * @param topicName name of topic
+     */
+    void setTopicName(String topicName)
+    {
+        this.topicName = topicName;
+
+        this.registerGauges();
+    }
+
+
+    /**
+     * Pass an event to the listener if it matches the listener's subscription.  Inbound events are read-only so
+     * the same event object may be passed to every listener queue.
+     *
+     * @param event event received from the topic
+     * @return boolean indicating whether the event was accepted
+     */
+    boolean addEvent(OMRSEvent event)
+    {
+        if (! this.isSubscribed(event))
+        {
+            eventsFiltered.incrementAndGet();
+            return false;
+        }
+
+        if ((queue == null) || (! isActive))
+        {
+            this.deliverEvent(event, System.currentTimeMillis());
+            return true;
+        }
+
+        try
+        {
+            queue.put(new QueuedEvent(event, System.currentTimeMillis()));
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            /*
+             * The event is not lost - it is passed to the listener on this thread instead.
+             */
+            this.deliverEvent(event, System.currentTimeMillis());
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Stop the delivery thread once it has passed the events already in the queue to the listener.  Events added after this
+     * call are passed to the listener on the thread that adds them.
+     */
+    void stop()
+    {
+        isActive = false;
+
+        this.removeGauges();
+
+        if (deliveryThread != null)
+        {
+            try
+            {
+                deliveryThread.join(DELIVERY_SHUTDOWN_WAIT_TIME);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Publish the lag and queue depth in the performance metrics.  The gauges are tagged with the topic name
+     * so they are replaced when the topic name is known.
+     */
+    private synchronized void registerGauges()
+    {
+        this.removeGauges();
+
+        if (isActive)
+        {
+            lagGauge   = PerformanceMetrics.registerGauge(this::getLastLag,
+                                                          PerformanceMetrics.TOPIC_LISTENER_LAG_METRIC,
+                                                          "listener", listenerName,
+                                                          "topic", topicName);
+            depthGauge = PerformanceMetrics.registerGauge(this::getQueueDepth,
+                                                          PerformanceMetrics.TOPIC_LISTENER_QUEUE_DEPTH_METRIC,
+                                                          "listener", listenerName,
+                                                          "topic", topicName);
+        }
+    }
+
+
+    /**
+     * Remove the lag and queue depth from the performance metrics.
+     */
+    private synchronized void removeGauges()
+    {
+        PerformanceMetrics.removeMetric(lagGauge);
+        PerformanceMetrics.removeMetric(depthGauge);
+
+        lagGauge   = null;
+        depthGauge = null;
+    }
+
+
+    /**
+     * Test whether the event matches the listener's subscription.
+     *
+     * @param event event received from the topic
+     * @return boolean
+     */
+    private boolean isSubscribed(OMRSEvent event)
+    {
+        if ((subscribedEventCategories != null) && (! subscribedEventCategories.contains(event.getEventCategory())))
+        {
+            return false;
+        }
+
+        if ((subscribedInstanceTypeNames != null) && (event instanceof OMRSInstanceEvent instanceEvent))
+        {
+            String typeDefName = instanceEvent.getTypeDefName();
+
+            return (typeDefName == null) || (subscribedInstanceTypeNames.contains(typeDefName));
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Body of the delivery thread.  It waits for events and passes them to the listener one at a time.
+     */
+    private void deliverQueuedEvents()
+    {
+        while (isActive || (! queue.isEmpty()))
+        {
+            try
+            {
+                QueuedEvent queuedEvent = queue.poll(DELIVERY_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+
+                if (queuedEvent != null)
+                {
+                    this.deliverEvent(queuedEvent.event, queuedEvent.receivedTime);
+                }
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Topic listener delivery thread for " + listenerName + " interrupted while waiting for events");
+            }
+        }
+    }
+
+
+    /**
+     * Pass a single event to the listener and record the lag.
+     *
+     * @param event event to pass on
+     * @param receivedTime time the event was received from the topic
+     */
+    private void deliverEvent(OMRSEvent event,
+                              long      receivedTime)
+    {
+        final String methodName = "deliverEvent";
+
+        this.recordLag(System.currentTimeMillis() - receivedTime);
+
+        try
+        {
+            if (event instanceof OMRSRegistryEvent registryEvent)
+            {
+                topicListener.processRegistryEvent(registryEvent);
+            }
+            else if (event instanceof OMRSTypeDefEvent typeDefEvent)
+            {
+                topicListener.processTypeDefEvent(typeDefEvent);
+            }
+            else if (event instanceof OMRSInstanceEvent instanceEvent)
+            {
+                topicListener.processInstanceEvent(instanceEvent);
+            }
+
+            eventsDelivered.incrementAndGet();
+        }
+        catch (Exception error)
+        {
+            log.debug("Unable to pass event to topic listener " + listenerName);
+
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event.toString(),
+                                                                                                error.toString(),
+                                                                                                listenerName),
+                                      event.toString(),
+                                      error);
+            }
+        }
+    }
+
+
+    /**
+     * Record the time an event waited for the listener and log a message if the listener is falling behind.
+     *
+     * @param lag milliseconds between receiving the event and passing it to the listener
+     */
+    private void recordLag(long lag)
+    {
+        final String methodName = "recordLag";
+
+        lastLag = lag;
+
+        if (lag > maxLag)
+        {
+            maxLag = lag;
+        }
+
+        long now = System.currentTimeMillis();
+
+        if ((lag > LAG_REPORT_THRESHOLD) && (now - lastLagReport > LAG_REPORT_INTERVAL) && (auditLog != null))
+        {
+            lastLagReport = now;
+
+            auditLog.logMessage(methodName,
+                                OMRSAuditCode.OMRS_TOPIC_LISTENER_LAGGING.getMessageDefinition(listenerName,
+                                                                                               topicName,
+                                                                                               Long.toString(lag),
+                                                                                               Integer.toString(this.getQueueDepth())));
+        }
+    }
+
+
+    /**
+     * An event waiting for the listener.
+     */
+    private static class QueuedEvent
+    {
+        private final OMRSEvent event;
+        private final long      receivedTime;
+
+        QueuedEvent(OMRSEvent event,
+                    long      receivedTime)
+        {
+            this.event        = event;
+            this.receivedTime = receivedTime;
+        }
+    }
+}
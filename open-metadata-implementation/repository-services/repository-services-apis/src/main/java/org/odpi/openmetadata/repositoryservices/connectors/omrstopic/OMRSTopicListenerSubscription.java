@@ -0,0 +1,38 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+
+import java.util.Set;
+
+/**
+ * OMRSTopicListenerSubscription is implemented by a topic listener that only needs some of the events
+ * received on the topic.  The OMRSTopicConnector filters the events against the subscription before they are
+ * queued for the listener, so the listener's thread is not occupied with events it ignores.
+ */
+public interface OMRSTopicListenerSubscription
+{
+    /**
+     * Return the categories of event that the listener processes.
+     *
+     * @return set of event categories or null for all categories
+     */
+    default Set<OMRSEventCategory> getSubscribedEventCategories()
+    {
+        return null;
+    }
+
+
+    /**
+     * Return the names of the types of instance that the listener processes.  Only instance events are
+     * filtered by type.  Subtypes are not matched automatically so each type name of interest must be listed.
+     * Instance events that do not identify a type (such as batch events) are always passed to the listener.
+     *
+     * @return set of type names or null for all types
+     */
+    default Set<String> getSubscribedInstanceTypeNames()
+    {
+        return null;
+    }
+}
@@ -13,7 +13,7 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 /**
  * OMRSTopicListenerWrapper is a class that wraps a real OMRSTopicListener when it registers with the
  * OMRSTopicConnector.  Its sole purpose is to catch exceptions from the real OMRSTopicListener and create
- * diagnostics.  The listeners are called in parallel with no mechanism for the connector to properly
+ * diagnostics.  Each listener is called on its own thread with no mechanism for the connector to properly
  * manage errors from the listener so this wrapper has been installed.  If the real OMRSTopicListener
  * has been implemented properly then no errors should be handled by this wrapper class
  */
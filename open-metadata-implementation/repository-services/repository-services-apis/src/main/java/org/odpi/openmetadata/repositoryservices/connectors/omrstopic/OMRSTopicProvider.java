@@ -11,6 +11,22 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
  */
 public class OMRSTopicProvider extends ConnectorProviderBase
 {
+    /**
+     * Name of the configuration property that selects the encoding of outbound events - see OMRSEventEncoding.
+     * The default is JSON.  A compact encoding is only used while every member of the cohort has advertised
+     * support for it in its registry events.
+     */
+    public static final String EVENT_ENCODING_PROPERTY_NAME = "eventEncoding";
+
+    /**
+     * Name of the configuration property that sets the number of inbound events that can wait for each listener.
+     * The default of 0 passes the events to the listeners on the thread that received them from the event bus, so
+     * the event bus only treats an event as processed once every listener has processed it.  A larger value gives
+     * each listener its own thread, but the event bus may then commit an event that is still queued, and it is
+     * lost if the server stops before the listener processes it.
+     */
+    public static final String LISTENER_QUEUE_SIZE_PROPERTY_NAME = "listenerQueueSize";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -0,0 +1,19 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+
+/**
+ * OpenMetadataArchiveInstanceBatchProcessor receives the instances from an OpenMetadataArchiveStreamingStore.
+ */
+public interface OpenMetadataArchiveInstanceBatchProcessor
+{
+    /**
+     * Process a batch of instances read from the archive.
+     *
+     * @param instanceBatch instance store containing a subset of the archive's instances
+     */
+    void processInstanceBatch(OpenMetadataArchiveInstanceStore instanceBatch);
+}
@@ -0,0 +1,38 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+
+/**
+ * OpenMetadataArchiveStreamingStore is an optional interface for an open metadata archive store connector that is
+ * able to return the instances in its archive in batches rather than as a single object graph.  This allows
+ * large archives to be loaded without holding the whole of the instance store in memory.
+ * The archive header (properties and type store) is still returned as a single object since it is typically small.
+ */
+public interface OpenMetadataArchiveStreamingStore
+{
+    /**
+     * Return the archive properties and type store of the archive.  The instance store is not returned.
+     *
+     * @return OpenMetadataArchive object with no instance store
+     * @throws RepositoryErrorException there is a problem accessing the archive
+     */
+    OpenMetadataArchive getArchiveHeader() throws RepositoryErrorException;
+
+
+    /**
+     * Pass the contents of the archive's instance store to the batch processor.  Each batch contains at
+     * most batchSize elements and only one kind of element (entities, relationships or classifications).
+     * All of the entities are passed before the relationships, and the relationships before the classifications,
+     * whatever the order of these sections in the archive.  Within a section, elements are passed in archive order.
+     *
+     * @param batchSize maximum number of elements in a batch
+     * @param batchProcessor receiver of each batch
+     * @throws RepositoryErrorException there is a problem accessing the archive
+     */
+    void processArchiveInstances(int                                       batchSize,
+                                 OpenMetadataArchiveInstanceBatchProcessor batchProcessor) throws RepositoryErrorException;
+}
@@ -16,6 +16,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorEx
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -33,8 +34,15 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
 
     private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer();
 
+    private static final int DEFAULT_ASYNC_BATCH_SIZE           = 100;
+    private static final int DEFAULT_OVERFLOW_SAMPLE_INTERVAL   = 10;
+
     private String        destinationName = "<Unknown";
     private List<String>  supportedSeverities = null;
+    private int           asyncQueueSize = 0;
+    private int           asyncBatchSize = DEFAULT_ASYNC_BATCH_SIZE;
+    private String        overflowPolicy = OMRSAuditLogStoreProviderBase.blockOverflowPolicy;
+    private int           overflowSampleInterval = DEFAULT_OVERFLOW_SAMPLE_INTERVAL;
 
 
     /**
@@ -67,6 +75,51 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
     }
 
 
+    /**
+     * Return the size of the queue used to pass log records to this destination asynchronously.
+     * Zero means the records are written synchronously.
+     *
+     * @return queue size
+     */
+    public int getAsyncQueueSize()
+    {
+        return asyncQueueSize;
+    }
+
+
+    /**
+     * Return the maximum number of queued records that are taken from the queue at a time.
+     *
+     * @return batch size
+     */
+    public int getAsyncBatchSize()
+    {
+        return asyncBatchSize;
+    }
+
+
+    /**
+     * Return the action to take when the queue is full (see OMRSAuditLogStoreProviderBase).
+     *
+     * @return overflow policy name
+     */
+    public String getOverflowPolicy()
+    {
+        return overflowPolicy;
+    }
+
+
+    /**
+     * Return the interval between the records that are kept by the sample overflow policy.
+     *
+     * @return sample interval
+     */
+    public int getOverflowSampleInterval()
+    {
+        return overflowSampleInterval;
+    }
+
+
     /**
      * Store the audit log record in the audit log store.
      *
@@ -94,6 +147,61 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
     }
 
 
+    /**
+     * Store a batch of audit log records in the audit log store.  This is called by the writer thread of a store
+     * configured for asynchronous writes.  The default implementation stores each record in turn and a store that
+     * can write several records more cheaply than one at a time should override it.  A failure to store one record
+     * does not prevent the rest of the batch from being stored; the error is reported once the whole batch has
+     * been processed, with store errors taking precedence over invalid records.
+     *
+     * @param logRecords log records to store
+     * @return unique identifiers assigned to the log records that were stored
+     * @throws InvalidParameterException indicates that one of the log records is invalid.
+     * @throws RepositoryErrorException  indicates that the audit log store is not available or has an error.
+     */
+    public List<String> storeLogRecords(List<OMRSAuditLogRecord> logRecords) throws InvalidParameterException,
+                                                                                    RepositoryErrorException
+    {
+        List<String>              logRecordGUIDs = new ArrayList<>();
+        InvalidParameterException parameterError = null;
+        RepositoryErrorException  storeError     = null;
+
+        for (OMRSAuditLogRecord logRecord : logRecords)
+        {
+            try
+            {
+                logRecordGUIDs.add(this.storeLogRecord(logRecord));
+            }
+            catch (InvalidParameterException error)
+            {
+                if (parameterError == null)
+                {
+                    parameterError = error;
+                }
+            }
+            catch (RepositoryErrorException error)
+            {
+                if (storeError == null)
+                {
+                    storeError = error;
+                }
+            }
+        }
+
+        if (storeError != null)
+        {
+            throw storeError;
+        }
+
+        if (parameterError != null)
+        {
+            throw parameterError;
+        }
+
+        return logRecordGUIDs;
+    }
+
+
     /**
      * Retrieve a specific audit log record.
      *
@@ -374,7 +482,66 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
                         }
                     }
                 }
+
+                asyncQueueSize = getIntegerProperty(configurationProperties,
+                                                    OMRSAuditLogStoreProviderBase.asyncQueueSizeProperty,
+                                                    asyncQueueSize);
+                asyncBatchSize = getIntegerProperty(configurationProperties,
+                                                    OMRSAuditLogStoreProviderBase.asyncBatchSizeProperty,
+                                                    asyncBatchSize);
+                overflowSampleInterval = getIntegerProperty(configurationProperties,
+                                                            OMRSAuditLogStoreProviderBase.overflowSampleIntervalProperty,
+                                                            overflowSampleInterval);
+
+                Object overflowPolicyProperty = configurationProperties.get(OMRSAuditLogStoreProviderBase.overflowPolicyProperty);
+
+                if (OMRSAuditLogStoreProviderBase.dropLowestSeverityOverflowPolicy.equals(overflowPolicyProperty) ||
+                    OMRSAuditLogStoreProviderBase.sampleOverflowPolicy.equals(overflowPolicyProperty))
+                {
+                    overflowPolicy = overflowPolicyProperty.toString();
+                }
+                else if (overflowPolicyProperty != null)
+                {
+                    // Ignore - the caller will wait for space in the queue rather than lose records.
+                    log.debug("Ignored unrecognized overflow policy {}", overflowPolicyProperty);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Extract a positive integer configuration property.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or is not a positive number
+     * @return property value
+     */
+    private int getIntegerProperty(Map<String, Object> configurationProperties,
+                                   String              propertyName,
+                                   int                 defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue != null)
+        {
+            try
+            {
+                int value = Integer.parseInt(propertyValue.toString());
+
+                if (value > 0)
+                {
+                    return value;
+                }
+            }
+            catch (NumberFormatException error)
+            {
+                // Ignore - the default value is used.
+                log.debug("Ignored value {} for property {}", propertyValue, propertyName);
             }
         }
+
+        return defaultValue;
     }
 }
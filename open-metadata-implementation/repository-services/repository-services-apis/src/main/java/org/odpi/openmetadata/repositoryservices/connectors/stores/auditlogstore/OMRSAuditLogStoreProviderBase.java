@@ -21,6 +21,44 @@ public abstract class OMRSAuditLogStoreProviderBase extends ConnectorProviderBas
      */
     public static final String  supportedSeveritiesProperty = "supportedSeverities";
 
+    /**
+     * Property name of the size of the queue that decouples the callers of the audit log from this store.
+     * The records are written to the store by a dedicated thread.  Zero (the default) means the records
+     * are written synchronously on the caller's thread.
+     */
+    public static final String  asyncQueueSizeProperty = "asyncQueueSize";
+
+    /**
+     * Property name of the maximum number of records the writer thread takes from the queue at a time.
+     */
+    public static final String  asyncBatchSizeProperty = "asyncBatchSize";
+
+    /**
+     * Property name of the action to take when the queue is full - see the overflow policy values below.
+     */
+    public static final String  overflowPolicyProperty = "overflowPolicy";
+
+    /**
+     * Property name of the sampling interval used by the sample overflow policy.
+     */
+    public static final String  overflowSampleIntervalProperty = "overflowSampleInterval";
+
+    /**
+     * Overflow policy value: the caller waits for space in the queue.  This is the default.
+     */
+    public static final String  blockOverflowPolicy = "block";
+
+    /**
+     * Overflow policy value: the record with the lowest severity (the new record or a queued one) is dropped.
+     */
+    public static final String  dropLowestSeverityOverflowPolicy = "dropLowestSeverity";
+
+    /**
+     * Overflow policy value: one in every overflowSampleInterval records that arrive while the queue is full
+     * replaces the oldest queued record.  The others are dropped.
+     */
+    public static final String  sampleOverflowPolicy = "sample";
+
     /**
      * Default Constructor
      */
@@ -42,6 +80,10 @@ public abstract class OMRSAuditLogStoreProviderBase extends ConnectorProviderBas
         List<String> recognizedConfigurationProperties = new ArrayList<>();
 
         recognizedConfigurationProperties.add(supportedSeveritiesProperty);
+        recognizedConfigurationProperties.add(asyncQueueSizeProperty);
+        recognizedConfigurationProperties.add(asyncBatchSizeProperty);
+        recognizedConfigurationProperties.add(overflowPolicyProperty);
+        recognizedConfigurationProperties.add(overflowSampleIntervalProperty);
 
         return recognizedConfigurationProperties;
     }
@@ -354,10 +354,30 @@ public abstract class OMRSEvent
      */
     public void setEventOriginator(OMRSEventOriginator eventOriginator)
     {
+        final String methodName = "setEventOriginator";
+
+        this.validateOutboundEvent(methodName);
+
         this.eventOriginator = eventOriginator;
     }
 
 
+    /**
+     * Inbound events are shared by all the listeners that receive them (possibly on different threads) and so
+     * they can not be changed.  This method is called by each setter to reject changes to an inbound event.
+     *
+     * @param methodName calling method
+     * @throws UnsupportedOperationException the event is inbound
+     */
+    protected void validateOutboundEvent(String methodName)
+    {
+        if (eventDirection == OMRSEventDirection.INBOUND)
+        {
+            throw new UnsupportedOperationException(methodName + " can not change an inbound " + eventCategory + " event");
+        }
+    }
+
+
     /**
      * Return whether this is an inbound or outbound event.  This is used for messages.
      *
@@ -0,0 +1,170 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.events;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * OMRSEventEncoding describes how an OMRS event payload is encoded when it is placed on the cohort topic.
+ * The payload structure is still defined by the OMRSEventProtocolVersion.  JSON is the original encoding and is
+ * understood by every member of the cohort.  The compact encodings use the Jackson Smile binary format
+ * (optionally compressed) and are only understood by servers at this level or above.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum OMRSEventEncoding implements Serializable
+{
+    /**
+     * JSON text - the original encoding.
+     */
+    JSON      (0, ' ', "JSON",       "JSON text encoding understood by all cohort members."),
+
+    /**
+     * Smile binary encoding of the event bean.
+     */
+    COMPACT   (1, 'S', "Compact",    "Jackson Smile binary encoding of the event bean."),
+
+    /**
+     * Smile binary encoding of the event bean compressed with deflate.
+     */
+    COMPRESSED(2, 'Z', "Compressed", "Jackson Smile binary encoding of the event bean, compressed with deflate.");
+
+    private static final long     serialVersionUID = 1L;
+
+    private final int    ordinal;
+    private final char   wireCode;
+    private final String name;
+    private final String description;
+
+
+    /**
+     * Typical Constructor
+     *
+     * @param ordinal index number
+     * @param wireCode character used in the event header to identify the encoding
+     * @param name short name
+     * @param description longer explanation
+     */
+    OMRSEventEncoding(int ordinal, char wireCode, String name, String description)
+    {
+        /*
+         * Save the values supplied
+         */
+        this.ordinal = ordinal;
+        this.wireCode = wireCode;
+        this.name = name;
+        this.description = description;
+    }
+
+
+    /**
+     * Return the code for this enum instance
+     *
+     * @return int encoding code
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the character used in the event header to identify this encoding.
+     *
+     * @return char
+     */
+    public char getWireCode()
+    {
+        return wireCode;
+    }
+
+
+    /**
+     * Return the default symbol for this enum instance.
+     *
+     * @return String default symbol
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the default description for this enum instance.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the encoding with the matching name (case-insensitive).  Null is returned if the name is not recognized.
+     *
+     * @param name name of the encoding
+     * @return matching enum or null
+     */
+    public static OMRSEventEncoding getEncoding(String name)
+    {
+        if (name != null)
+        {
+            for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+            {
+                if (encoding.getName().equalsIgnoreCase(name.trim()) || encoding.name().equalsIgnoreCase(name.trim()))
+                {
+                    return encoding;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the encoding with the matching wire code.  Null is returned if the code is not recognized.
+     *
+     * @param wireCode character from the event header
+     * @return matching enum or null
+     */
+    public static OMRSEventEncoding getEncoding(char wireCode)
+    {
+        for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+        {
+            if (encoding.getWireCode() == wireCode)
+            {
+                return encoding;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventEncoding{" +
+                "ordinal=" + ordinal +
+                ", wireCode=" + wireCode +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
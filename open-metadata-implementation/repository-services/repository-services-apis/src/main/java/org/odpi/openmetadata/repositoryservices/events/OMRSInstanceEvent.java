@@ -390,6 +390,10 @@ public class OMRSInstanceEvent extends OMRSEvent
      */
     public void setHomeMetadataCollectionId(String homeMetadataCollectionId)
     {
+        final String methodName = "setHomeMetadataCollectionId";
+
+        this.validateOutboundEvent(methodName);
+
         this.homeMetadataCollectionId = homeMetadataCollectionId;
     }
 
@@ -402,6 +406,10 @@ public class OMRSInstanceEvent extends OMRSEvent
      */
     public void setOriginalHomeMetadataCollectionId(String originalHomeMetadataCollectionId)
     {
+        final String methodName = "setOriginalHomeMetadataCollectionId";
+
+        this.validateOutboundEvent(methodName);
+
         this.originalHomeMetadataCollectionId = originalHomeMetadataCollectionId;
     }
 
@@ -413,6 +421,10 @@ public class OMRSInstanceEvent extends OMRSEvent
      */
     public void setOriginalTypeDefSummary(TypeDefSummary originalTypeDefSummary)
     {
+        final String methodName = "setOriginalTypeDefSummary";
+
+        this.validateOutboundEvent(methodName);
+
         this.originalTypeDefSummary = originalTypeDefSummary;
     }
 
@@ -425,6 +437,10 @@ public class OMRSInstanceEvent extends OMRSEvent
      */
     public void setOriginalInstanceGUID(String originalInstanceGUID)
     {
+        final String methodName = "setOriginalInstanceGUID";
+
+        this.validateOutboundEvent(methodName);
+
         this.originalInstanceGUID = originalInstanceGUID;
     }
 
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Date;
+import java.util.List;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
@@ -30,6 +31,7 @@ public class OMRSEventV1RegistrySection implements Serializable
     private Date                  registrationTimestamp  = null;
     private String                metadataCollectionName = null;
     private Connection            remoteConnection       = null;
+    private List<String>          supportedEncodings     = null;
 
 
     /**
@@ -128,6 +130,29 @@ public class OMRSEventV1RegistrySection implements Serializable
     }
 
 
+    /**
+     * Return the names of the event encodings that the sending member is able to decode.  Null means the sender
+     * is back-level and only understands JSON.
+     *
+     * @return list of encoding names
+     */
+    public List<String> getSupportedEncodings()
+    {
+        return supportedEncodings;
+    }
+
+
+    /**
+     * Set up the names of the event encodings that the sending member is able to decode.
+     *
+     * @param supportedEncodings list of encoding names
+     */
+    public void setSupportedEncodings(List<String> supportedEncodings)
+    {
+        this.supportedEncodings = supportedEncodings;
+    }
+
+
     /**
      * JSON-style toString.
      *
@@ -141,6 +166,7 @@ public class OMRSEventV1RegistrySection implements Serializable
                        ", registrationTimestamp=" + registrationTimestamp +
                        ", metadataCollectionName='" + metadataCollectionName + '\'' +
                        ", remoteConnection=" + remoteConnection +
+                       ", supportedEncodings=" + supportedEncodings +
                        '}';
     }
 }
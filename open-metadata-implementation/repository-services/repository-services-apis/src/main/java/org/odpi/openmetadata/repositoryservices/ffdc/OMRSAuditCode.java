@@ -955,6 +955,17 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                                  "This exception is remembered and the connector will not call this method again until this local server is restarted.",
                                          "Verify that the repository is known not to support the requested function."),
 
+    /**
+     * OMRS-AUDIT-0138 - The {0} topic listener on topic {1} is processing events {2} milliseconds after they were received and has {3} events waiting
+     */
+    OMRS_TOPIC_LISTENER_LAGGING("OMRS-AUDIT-0138",
+                                OMRSAuditLogRecordSeverity.ACTION,
+                                "The {0} topic listener on topic {1} is processing events {2} milliseconds after they were received and has {3} events waiting",
+                                "The listener is not keeping up with the events arriving on the topic.  Events for this listener are queued " +
+                                        "and, once its queue is full, the topic waits for the listener before passing on more events.",
+                                "Review the processing in the listener's service, and the size of the listener queue in the configuration " +
+                                        "of the OMRS Topic Connector."),
+
     /**
      * OMRS-AUDIT-0201 - Server {1} in cohort {0} that hosts metadata collection {2} has detected that TypeDef {3} ({4}) in the local
      * server conflicts with TypeDef {5} ({6}) in the remote server
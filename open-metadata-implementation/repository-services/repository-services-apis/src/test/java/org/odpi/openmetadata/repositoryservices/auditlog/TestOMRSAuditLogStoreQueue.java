@@ -0,0 +1,304 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that OMRSAuditLogStoreQueue writes queued records to the store and applies the overflow policies.
+ */
+public class TestOMRSAuditLogStoreQueue
+{
+    private static final long WAIT_TIME = 10000;
+
+
+    /**
+     * Records are written to the store by the writer thread and any records left are written by stop().
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testRecordsAreWritten() throws Exception
+    {
+        RecordingStore         store = new RecordingStore(null);
+        OMRSAuditLogStoreQueue queue = new OMRSAuditLogStoreQueue(store, "test", 10, 3,
+                                                                  OMRSAuditLogStoreProviderBase.blockOverflowPolicy, 1);
+
+        for (int i = 0; i < 20; i++)
+        {
+            queue.addLogRecord(getLogRecord("record" + i, OMRSAuditLogRecordSeverity.INFO));
+        }
+
+        queue.stop();
+
+        assertEquals(store.storedRecords.size(), 20);
+        assertEquals(store.storedRecords.get(19), "record19");
+        assertEquals(queue.getDroppedRecordCount(), 0);
+
+        queue.addLogRecord(getLogRecord("afterStop", OMRSAuditLogRecordSeverity.INFO));
+
+        assertEquals(store.storedRecords.get(20), "afterStop");
+    }
+
+
+    /**
+     * Records added by other threads while the queue is stopping are all written, either by the writer thread,
+     * by the final drain in stop() or on the caller's thread once the queue has stopped.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testRecordsAddedDuringStopAreWritten() throws Exception
+    {
+        final int producerCount      = 8;
+        final int recordsPerProducer = 500;
+
+        for (int attempt = 0; attempt < 20; attempt++)
+        {
+            RecordingStore         store          = new RecordingStore(null);
+            OMRSAuditLogStoreQueue queue          = new OMRSAuditLogStoreQueue(store, "test", 50, 10,
+                                                                               OMRSAuditLogStoreProviderBase.blockOverflowPolicy, 1);
+            CountDownLatch         startProducers = new CountDownLatch(1);
+            List<Thread>           producers      = new ArrayList<>();
+
+            for (int producer = 0; producer < producerCount; producer++)
+            {
+                final String producerName = "producer" + producer;
+
+                Thread producerThread = new Thread(() ->
+                {
+                    try
+                    {
+                        startProducers.await(WAIT_TIME, TimeUnit.MILLISECONDS);
+                    }
+                    catch (InterruptedException error)
+                    {
+                        return;
+                    }
+
+                    for (int i = 0; i < recordsPerProducer; i++)
+                    {
+                        queue.addLogRecord(getLogRecord(producerName + ":" + i, OMRSAuditLogRecordSeverity.INFO));
+                    }
+                });
+
+                producerThread.start();
+                producers.add(producerThread);
+            }
+
+            startProducers.countDown();
+            queue.stop();
+
+            for (Thread producerThread : producers)
+            {
+                producerThread.join(WAIT_TIME);
+            }
+
+            assertEquals(store.storedRecords.size(), producerCount * recordsPerProducer);
+            assertEquals(queue.getQueueDepth(), 0);
+        }
+    }
+
+
+    /**
+     * The writer thread passes the records it takes from the queue to the store a batch at a time.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testRecordsAreWrittenInBatches() throws Exception
+    {
+        CountDownLatch         releaseStore = new CountDownLatch(1);
+        RecordingStore         store        = new RecordingStore(releaseStore);
+        OMRSAuditLogStoreQueue queue        = new OMRSAuditLogStoreQueue(store, "test", 10, 3,
+                                                                         OMRSAuditLogStoreProviderBase.blockOverflowPolicy, 1);
+
+        queue.addLogRecord(getLogRecord("inProgress", OMRSAuditLogRecordSeverity.INFO));
+        assertTrue(store.writeStarted.await(WAIT_TIME, TimeUnit.MILLISECONDS));
+
+        for (int i = 0; i < 5; i++)
+        {
+            queue.addLogRecord(getLogRecord("record" + i, OMRSAuditLogRecordSeverity.INFO));
+        }
+
+        releaseStore.countDown();
+        queue.stop();
+
+        assertEquals(store.batchSizes, List.of(1, 3, 2));
+        assertEquals(store.storedRecords, List.of("inProgress", "record0", "record1", "record2", "record3", "record4"));
+    }
+
+
+    /**
+     * If the writer thread is still busy when stop() gives up waiting, the queued records are left for the
+     * writer thread rather than being written a second time by the caller.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testStopLeavesQueueToBusyWriter() throws Exception
+    {
+        CountDownLatch         releaseStore = new CountDownLatch(1);
+        RecordingStore         store        = new RecordingStore(releaseStore);
+        OMRSAuditLogStoreQueue queue        = new OMRSAuditLogStoreQueue(store, "test", 10, 1,
+                                                                         OMRSAuditLogStoreProviderBase.blockOverflowPolicy, 1);
+
+        queue.addLogRecord(getLogRecord("inProgress", OMRSAuditLogRecordSeverity.INFO));
+        assertTrue(store.writeStarted.await(WAIT_TIME, TimeUnit.MILLISECONDS));
+
+        queue.addLogRecord(getLogRecord("queued1", OMRSAuditLogRecordSeverity.INFO));
+        queue.addLogRecord(getLogRecord("queued2", OMRSAuditLogRecordSeverity.INFO));
+
+        queue.stop();
+
+        assertTrue(store.storedRecords.isEmpty());
+        assertEquals(queue.getQueueDepth(), 2);
+
+        releaseStore.countDown();
+
+        long deadline = System.currentTimeMillis() + WAIT_TIME;
+
+        while (store.storedRecords.size() < 3 && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(10);
+        }
+
+        assertEquals(store.storedRecords, List.of("inProgress", "queued1", "queued2"));
+    }
+
+
+    /**
+     * When the queue is full, the record with the lowest severity is dropped.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testDropLowestSeverity() throws Exception
+    {
+        CountDownLatch         releaseStore = new CountDownLatch(1);
+        RecordingStore         store        = new RecordingStore(releaseStore);
+        OMRSAuditLogStoreQueue queue        = new OMRSAuditLogStoreQueue(store, "test", 2, 1,
+                                                                         OMRSAuditLogStoreProviderBase.dropLowestSeverityOverflowPolicy, 1);
+
+        queue.addLogRecord(getLogRecord("inProgress", OMRSAuditLogRecordSeverity.INFO));
+        assertTrue(store.writeStarted.await(WAIT_TIME, TimeUnit.MILLISECONDS));
+
+        queue.addLogRecord(getLogRecord("information", OMRSAuditLogRecordSeverity.INFO));
+        queue.addLogRecord(getLogRecord("error", OMRSAuditLogRecordSeverity.ERROR));
+        queue.addLogRecord(getLogRecord("exception", OMRSAuditLogRecordSeverity.EXCEPTION));
+        queue.addLogRecord(getLogRecord("trace", OMRSAuditLogRecordSeverity.TRACE));
+
+        assertEquals(queue.getQueueDepth(), 2);
+        assertEquals(queue.getDroppedRecordCount(), 2);
+
+        releaseStore.countDown();
+        queue.stop();
+
+        assertEquals(store.storedRecords, List.of("inProgress", "error", "exception"));
+    }
+
+
+    /**
+     * When the queue is full, one in every sample interval records replaces the oldest queued record.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testSample() throws Exception
+    {
+        CountDownLatch         releaseStore = new CountDownLatch(1);
+        RecordingStore         store        = new RecordingStore(releaseStore);
+        OMRSAuditLogStoreQueue queue        = new OMRSAuditLogStoreQueue(store, "test", 2, 1,
+                                                                         OMRSAuditLogStoreProviderBase.sampleOverflowPolicy, 3);
+
+        queue.addLogRecord(getLogRecord("inProgress", OMRSAuditLogRecordSeverity.INFO));
+        assertTrue(store.writeStarted.await(WAIT_TIME, TimeUnit.MILLISECONDS));
+
+        for (int i = 1; i <= 8; i++)
+        {
+            queue.addLogRecord(getLogRecord("record" + i, OMRSAuditLogRecordSeverity.INFO));
+        }
+
+        assertEquals(queue.getDroppedRecordCount(), 6);
+
+        releaseStore.countDown();
+        queue.stop();
+
+        assertEquals(store.storedRecords, List.of("inProgress", "record5", "record8"));
+    }
+
+
+    /**
+     * Create a log record.
+     *
+     * @param messageId identifier of the record used to check the order of writes
+     * @param severity severity of the record
+     * @return log record
+     */
+    private OMRSAuditLogRecord getLogRecord(String                     messageId,
+                                            OMRSAuditLogRecordSeverity severity)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setMessageId(messageId);
+        logRecord.setSeverity(severity.getName());
+
+        return logRecord;
+    }
+
+
+    /**
+     * Audit log store that remembers the records and batch sizes written to it.  If a latch is supplied,
+     * the store waits for it before completing each write.
+     */
+    private static class RecordingStore extends OMRSAuditLogStoreConnectorBase
+    {
+        private final List<String>   storedRecords = new CopyOnWriteArrayList<>();
+        private final List<Integer>  batchSizes    = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writeStarted  = new CountDownLatch(1);
+        private final CountDownLatch releaseStore;
+
+        RecordingStore(CountDownLatch releaseStore)
+        {
+            this.releaseStore = releaseStore;
+        }
+
+        @Override
+        public List<String> storeLogRecords(List<OMRSAuditLogRecord> logRecords) throws InvalidParameterException,
+                                                                                        RepositoryErrorException
+        {
+            batchSizes.add(logRecords.size());
+            return super.storeLogRecords(logRecords);
+        }
+
+        @Override
+        public String storeLogRecord(OMRSAuditLogRecord logRecord)
+        {
+            writeStarted.countDown();
+
+            try
+            {
+                if (releaseStore != null)
+                {
+                    releaseStore.await(WAIT_TIME, TimeUnit.MILLISECONDS);
+                }
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            storedRecords.add(logRecord.getMessageId());
+            return logRecord.getGUID();
+        }
+    }
+}
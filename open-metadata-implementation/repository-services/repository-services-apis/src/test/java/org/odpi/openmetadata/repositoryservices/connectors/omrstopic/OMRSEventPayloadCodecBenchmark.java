@@ -0,0 +1,197 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventEncoding;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Serialization benchmark for the OMRS event encodings.  It measures the payload size and the encode and decode
+ * time of small, medium and large instance events in each encoding and logs the results.  Only the payload sizes
+ * are asserted since the timings depend on the machine.
+ * <p>
+ * The class name does not match the test search pattern so the benchmark does not run as part of the build.
+ * Run it explicitly with TestNG, for example: java org.testng.TestNG -testclass
+ * org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSEventPayloadCodecBenchmark
+ */
+public class OMRSEventPayloadCodecBenchmark
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSEventPayloadCodecBenchmark.class);
+
+    private static final int warmUpIterations = 1000;
+    private static final int iterations       = 5000;
+
+
+    /**
+     * Build an instance event with the requested number of properties and classifications.
+     *
+     * @param propertyCount number of string properties
+     * @param classificationCount number of classifications
+     * @return event bean
+     */
+    private OMRSEventV1 getTestEvent(int propertyCount,
+                                     int classificationCount)
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        for (int i = 0; i < propertyCount; i++)
+        {
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+            propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            propertyValue.setPrimitiveValue("A description of the asset that is reasonably typical in length " + i);
+            propertyValue.setTypeName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+            propertyValue.setTypeGUID(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getGUID());
+
+            properties.setProperty("property" + i, propertyValue);
+        }
+
+        List<Classification> classifications = new ArrayList<>();
+
+        for (int i = 0; i < classificationCount; i++)
+        {
+            Classification classification = new Classification();
+
+            classification.setName("Classification" + i);
+            classification.setCreatedBy("BenchmarkUser");
+            classification.setCreateTime(new Date(27));
+            classification.setProperties(properties);
+
+            classifications.add(classification);
+        }
+
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID("0a9b5e8c-61c8-4d44-9c5b-2f5a4d1b3a77");
+        entity.setMetadataCollectionId("f3e1f6c2-9a4d-4c8b-8b3e-7d6f3a2b1c0d");
+        entity.setCreatedBy("BenchmarkUser");
+        entity.setCreateTime(new Date(27));
+        entity.setVersion(3L);
+        entity.setProperties(properties);
+        entity.setClassifications(classifications);
+
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+
+        instanceSection.setEventType(OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+        instanceSection.setInstanceGUID(entity.getGUID());
+        instanceSection.setEntity(entity);
+
+        OMRSEventV1 event = new OMRSEventV1();
+
+        event.setTimestamp(new Date(42));
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+        event.setInstanceEventSection(instanceSection);
+
+        return event;
+    }
+
+
+    /**
+     * Measure each encoding for a small entity.
+     *
+     * @throws Exception encoding error
+     */
+    @Test public void benchmarkSmallEvent() throws Exception
+    {
+        runBenchmark("small", getTestEvent(5, 0));
+    }
+
+
+    /**
+     * Measure each encoding for a medium-sized entity.
+     *
+     * @throws Exception encoding error
+     */
+    @Test public void benchmarkMediumEvent() throws Exception
+    {
+        runBenchmark("medium", getTestEvent(30, 2));
+    }
+
+
+    /**
+     * Measure each encoding for a large entity.
+     *
+     * @throws Exception encoding error
+     */
+    @Test public void benchmarkLargeEvent() throws Exception
+    {
+        runBenchmark("large", getTestEvent(200, 5));
+    }
+
+
+    /**
+     * Encode and decode the event repeatedly in each encoding and log the payload size and average times.
+     *
+     * @param eventSize label for the event
+     * @param event event to measure
+     * @throws Exception encoding error
+     */
+    private void runBenchmark(String      eventSize,
+                              OMRSEventV1 event) throws Exception
+    {
+        int jsonPayloadSize = 0;
+
+        for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+        {
+            OMRSEventPayloadCodec codec   = new OMRSEventPayloadCodec(OMRSEventProtocolVersion.V1, encoding);
+            String                payload = codec.encode(event);
+
+            for (int i = 0; i < warmUpIterations; i++)
+            {
+                codec.decode(codec.encode(event));
+            }
+
+            long encodeStart = System.nanoTime();
+
+            for (int i = 0; i < iterations; i++)
+            {
+                codec.encode(event);
+            }
+
+            long encodeTime  = System.nanoTime() - encodeStart;
+            long decodeStart = System.nanoTime();
+
+            for (int i = 0; i < iterations; i++)
+            {
+                codec.decode(payload);
+            }
+
+            long decodeTime = System.nanoTime() - decodeStart;
+
+            log.info("{} event, {} encoding: payload {} bytes, encode {} ns/op, decode {} ns/op",
+                     eventSize,
+                     encoding.getName(),
+                     payload.length(),
+                     encodeTime / iterations,
+                     decodeTime / iterations);
+
+            if (encoding == OMRSEventEncoding.JSON)
+            {
+                jsonPayloadSize = payload.length();
+            }
+            else if (encoding == OMRSEventEncoding.COMPRESSED)
+            {
+                assertTrue(payload.length() < jsonPayloadSize);
+            }
+        }
+    }
+}
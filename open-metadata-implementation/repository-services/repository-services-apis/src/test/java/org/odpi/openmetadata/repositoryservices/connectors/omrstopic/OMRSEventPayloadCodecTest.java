@@ -0,0 +1,160 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventEncoding;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that OMRS events survive the round trip through each of the supported encodings and that a
+ * receiver is able to decode events regardless of the encoding chosen by the sender.
+ */
+public class OMRSEventPayloadCodecTest
+{
+    /**
+     * Build an instance event with a reasonably sized entity.
+     *
+     * @return event bean
+     */
+    private OMRSEventV1 getTestEvent()
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        for (int i = 0; i < 20; i++)
+        {
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+            propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            propertyValue.setPrimitiveValue("TestValue" + i);
+            propertyValue.setTypeName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+            propertyValue.setTypeGUID(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getGUID());
+
+            properties.setProperty("testProperty" + i, propertyValue);
+        }
+
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID("TestGUID");
+        entity.setMetadataCollectionId("TestMetadataCollectionId");
+        entity.setCreatedBy("TestUser");
+        entity.setCreateTime(new Date(27));
+        entity.setVersion(3L);
+        entity.setProperties(properties);
+
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+
+        instanceSection.setEventType(OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        instanceSection.setInstanceGUID("TestGUID");
+        instanceSection.setEntity(entity);
+
+        OMRSEventV1 event = new OMRSEventV1();
+
+        event.setTimestamp(new Date(42));
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+        event.setInstanceEventSection(instanceSection);
+
+        return event;
+    }
+
+
+    /**
+     * Validate that each encoding can be decoded by a receiver configured with any encoding.
+     */
+    @Test public void testRoundTrip()
+    {
+        OMRSEventV1 event = getTestEvent();
+
+        OMRSEventPayloadCodec receiver = new OMRSEventPayloadCodec(OMRSEventProtocolVersion.V1, OMRSEventEncoding.JSON);
+
+        for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+        {
+            OMRSEventPayloadCodec sender = new OMRSEventPayloadCodec(OMRSEventProtocolVersion.V1, encoding);
+
+            try
+            {
+                OMRSEventBean result = receiver.decode(sender.encode(event));
+
+                assertTrue(result instanceof OMRSEventV1);
+                assertEquals(((OMRSEventV1) result).getEventCategory(), OMRSEventCategory.INSTANCE);
+                assertEquals(((OMRSEventV1) result).getTimestamp(), event.getTimestamp());
+                assertEquals(((OMRSEventV1) result).getInstanceEventSection().getEntity(),
+                             event.getInstanceEventSection().getEntity());
+            }
+            catch (Exception exc)
+            {
+                fail("Exception for " + encoding + ": " + exc.getMessage());
+            }
+        }
+    }
+
+
+    /**
+     * Validate that the JSON encoding is unchanged and the compressed encoding is smaller.
+     */
+    @Test public void testPayloadFormat()
+    {
+        OMRSEventV1 event = getTestEvent();
+
+        try
+        {
+            String jsonPayload       = new OMRSEventPayloadCodec(OMRSEventProtocolVersion.V1, OMRSEventEncoding.JSON).encode(event);
+            String compressedPayload = new OMRSEventPayloadCodec(OMRSEventProtocolVersion.V1, OMRSEventEncoding.COMPRESSED).encode(event);
+
+            assertTrue(jsonPayload.startsWith("{"));
+            assertTrue(compressedPayload.startsWith("@1Z:"));
+            assertTrue(compressedPayload.length() < jsonPayload.length());
+            assertNotEquals(jsonPayload, compressedPayload);
+        }
+        catch (Exception exc)
+        {
+            fail("Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Validate that an unknown header is rejected.
+     */
+    @Test public void testUnknownHeader()
+    {
+        OMRSEventPayloadCodec receiver = new OMRSEventPayloadCodec(OMRSEventProtocolVersion.V1, OMRSEventEncoding.JSON);
+
+        try
+        {
+            receiver.decode("@9S:AAAA");
+            fail("Unknown protocol version accepted");
+        }
+        catch (Exception exc)
+        {
+            assertTrue(exc.getMessage().contains("protocol version"));
+        }
+
+        try
+        {
+            receiver.decode("@1Q:AAAA");
+            fail("Unknown encoding accepted");
+        }
+        catch (Exception exc)
+        {
+            assertTrue(exc.getMessage().contains("encoding"));
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventEncoding;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1RegistrySection;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that OMRSTopicConnector only sends compact events once every member seen on the topic has advertised
+ * support for the configured encoding.
+ */
+public class TestOMRSTopicConnectorEncoding
+{
+    private RecordingTopicConnector eventBus       = null;
+    private OMRSTopicConnector      topicConnector = null;
+
+
+    /**
+     * Start a topic connector configured for the compressed encoding.
+     *
+     * @throws ConnectorCheckedException unable to start
+     */
+    @BeforeMethod public void startConnector() throws ConnectorCheckedException
+    {
+        Connection connection = new Connection();
+
+        connection.setConfigurationProperties(Map.of(OMRSTopicProvider.EVENT_ENCODING_PROPERTY_NAME,
+                                                     OMRSEventEncoding.COMPRESSED.getName()));
+
+        eventBus = new RecordingTopicConnector();
+        eventBus.initialize("TestEventBus", new ConnectionProperties(new Connection()));
+
+        topicConnector = new OMRSTopicConnector();
+        topicConnector.initialize("TestTopicConnector", new ConnectionProperties(connection));
+        topicConnector.initializeEmbeddedConnectors(List.of(eventBus));
+        topicConnector.start();
+    }
+
+
+    /**
+     * Stop the connectors.
+     *
+     * @throws ConnectorCheckedException unable to stop
+     */
+    @AfterMethod public void stopConnector() throws ConnectorCheckedException
+    {
+        topicConnector.disconnect();
+        eventBus.disconnect();
+    }
+
+
+    /**
+     * Registry events are JSON and advertise the supported encodings.
+     *
+     * @throws Exception unable to send
+     */
+    @Test public void testRegistryEventAdvertisesEncodings() throws Exception
+    {
+        topicConnector.sendRegistryEvent(new OMRSRegistryEvent(OMRSRegistryEventType.REFRESH_REGISTRATION_REQUEST)).join();
+
+        String payload = eventBus.sentEvents.get(0);
+
+        assertTrue(payload.startsWith("{"));
+        assertTrue(payload.contains("\"supportedEncodings\""));
+        assertTrue(payload.contains(OMRSEventEncoding.COMPRESSED.getName()));
+    }
+
+
+    /**
+     * The compressed encoding is used only while every member seen has advertised it.
+     *
+     * @throws Exception unable to send
+     */
+    @Test public void testNegotiation() throws Exception
+    {
+        assertTrue(sendTypeDefEvent().startsWith("{"));
+
+        topicConnector.processEvent(getRegistryEvent("member1", OMRSRegistryEventType.REGISTRATION_EVENT, true));
+        assertTrue(sendTypeDefEvent().startsWith("@1Z:"));
+
+        topicConnector.processEvent(getRegistryEvent("member2", OMRSRegistryEventType.RE_REGISTRATION_EVENT, false));
+        assertTrue(sendTypeDefEvent().startsWith("{"));
+
+        topicConnector.processEvent(getRegistryEvent("member2", OMRSRegistryEventType.UN_REGISTRATION_EVENT, false));
+        assertTrue(sendTypeDefEvent().startsWith("@1Z:"));
+
+        topicConnector.processEvent(getTypeDefEvent("member3"));
+        assertTrue(sendTypeDefEvent().startsWith("{"));
+
+        topicConnector.processEvent(getRegistryEvent("member3", OMRSRegistryEventType.RE_REGISTRATION_EVENT, true));
+        assertTrue(sendTypeDefEvent().startsWith("@1Z:"));
+
+        assertEquals(eventBus.sentEvents.size(), 6);
+    }
+
+
+    /**
+     * Send a type event and return its payload.
+     *
+     * @return payload placed on the event bus
+     * @throws ConnectorCheckedException unable to send
+     */
+    private String sendTypeDefEvent() throws ConnectorCheckedException
+    {
+        int eventCount = eventBus.sentEvents.size();
+
+        topicConnector.sendTypeDefEvent(new OMRSTypeDefEvent(OMRSTypeDefEventType.DELETED_TYPEDEF_EVENT, "guid", "name")).join();
+
+        return eventBus.sentEvents.get(eventCount);
+    }
+
+
+    /**
+     * Return the JSON payload of a registry event from another member.
+     *
+     * @param metadataCollectionId id of the member
+     * @param eventType type of registry event
+     * @param advertiseEncodings is the member at a level that advertises its encodings?
+     * @return payload
+     * @throws Exception unable to encode
+     */
+    private String getRegistryEvent(String                metadataCollectionId,
+                                    OMRSRegistryEventType eventType,
+                                    boolean               advertiseEncodings) throws Exception
+    {
+        OMRSEventV1RegistrySection registrySection = new OMRSEventV1RegistrySection();
+
+        registrySection.setRegistryEventType(eventType);
+
+        if (advertiseEncodings)
+        {
+            List<String> supportedEncodings = new ArrayList<>();
+
+            for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+            {
+                supportedEncodings.add(encoding.getName());
+            }
+
+            registrySection.setSupportedEncodings(supportedEncodings);
+        }
+
+        OMRSEventV1 event = getEvent(metadataCollectionId, OMRSEventCategory.REGISTRY);
+
+        event.setRegistryEventSection(registrySection);
+
+        return new OMRSEventPayloadCodec(OMRSEventProtocolVersion.V1, OMRSEventEncoding.JSON).encode(event);
+    }
+
+
+    /**
+     * Return the JSON payload of a type event from another member.
+     *
+     * @param metadataCollectionId id of the member
+     * @return payload
+     * @throws Exception unable to encode
+     */
+    private String getTypeDefEvent(String metadataCollectionId) throws Exception
+    {
+        OMRSEventV1 event = new OMRSTypeDefEvent(OMRSTypeDefEventType.DELETED_TYPEDEF_EVENT, "guid", "name").getOMRSEventV1();
+
+        event.setOriginator(getEvent(metadataCollectionId, OMRSEventCategory.TYPEDEF).getOriginator());
+
+        return new OMRSEventPayloadCodec(OMRSEventProtocolVersion.V1, OMRSEventEncoding.JSON).encode(event);
+    }
+
+
+    /**
+     * Return an event bean from the requested member.
+     *
+     * @param metadataCollectionId id of the member
+     * @param eventCategory category of event
+     * @return event bean
+     */
+    private OMRSEventV1 getEvent(String            metadataCollectionId,
+                                 OMRSEventCategory eventCategory)
+    {
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+
+        originator.setMetadataCollectionId(metadataCollectionId);
+
+        OMRSEventV1 event = new OMRSEventV1();
+
+        event.setOriginator(originator);
+        event.setEventCategory(eventCategory);
+
+        return event;
+    }
+
+
+    /**
+     * Event bus connector that records the events sent and never receives any.
+     */
+    static class RecordingTopicConnector extends OpenMetadataTopicConnector
+    {
+        final List<String> sentEvents = Collections.synchronizedList(new ArrayList<>());
+
+
+        /**
+         * Record the event.
+         *
+         * @param event event to send
+         */
+        @Override
+        public void sendEvent(String event)
+        {
+            sentEvents.add(event);
+        }
+    }
+}
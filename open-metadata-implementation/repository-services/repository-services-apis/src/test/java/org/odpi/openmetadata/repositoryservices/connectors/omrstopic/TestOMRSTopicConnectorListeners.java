@@ -0,0 +1,145 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventEncoding;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that OMRSTopicConnector passes one read-only event object to all of its listeners.
+ */
+public class TestOMRSTopicConnectorListeners
+{
+    /**
+     * Listeners running on their own threads receive the same inbound event, and it can not be changed.
+     *
+     * @throws Exception problem with the connectors
+     */
+    @Test public void testInboundEventIsShared() throws Exception
+    {
+        Connection connection = new Connection();
+
+        connection.setConfigurationProperties(Map.of(OMRSTopicProvider.LISTENER_QUEUE_SIZE_PROPERTY_NAME, 5));
+
+        TestOMRSTopicConnectorEncoding.RecordingTopicConnector eventBus = new TestOMRSTopicConnectorEncoding.RecordingTopicConnector();
+
+        eventBus.initialize("TestEventBus", new ConnectionProperties(new Connection()));
+
+        OMRSTopicConnector topicConnector = new OMRSTopicConnector();
+
+        topicConnector.initialize("TestTopicConnector", new ConnectionProperties(connection));
+        topicConnector.setAuditLog(new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null));
+        topicConnector.initializeEmbeddedConnectors(List.of(eventBus));
+
+        RecordingListener firstListener  = new RecordingListener();
+        RecordingListener secondListener = new RecordingListener();
+
+        topicConnector.registerListener(firstListener, "FirstService");
+        topicConnector.registerListener(secondListener, "SecondService");
+        topicConnector.start();
+
+        OMRSEventV1         event      = new OMRSTypeDefEvent(OMRSTypeDefEventType.DELETED_TYPEDEF_EVENT, "guid", "name").getOMRSEventV1();
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+
+        originator.setMetadataCollectionId("member1");
+        event.setOriginator(originator);
+
+        topicConnector.processEvent(new OMRSEventPayloadCodec(OMRSEventProtocolVersion.V1, OMRSEventEncoding.JSON).encode(event));
+
+        /*
+         * Disconnect waits for the listeners to finish the events already received.
+         */
+        topicConnector.disconnect();
+        eventBus.disconnect();
+
+        assertEquals(firstListener.receivedEvents.size(), 1);
+        assertEquals(secondListener.receivedEvents.size(), 1);
+        assertSame(firstListener.receivedEvents.get(0), secondListener.receivedEvents.get(0));
+
+        try
+        {
+            firstListener.receivedEvents.get(0).setEventOriginator(new OMRSEventOriginator());
+            fail("An inbound event was changed");
+        }
+        catch (UnsupportedOperationException expected)
+        {
+            // the event is shared so it is read-only
+        }
+    }
+
+
+    /**
+     * An instance event built from an inbound event rejects changes, while an outbound event can be set up.
+     */
+    @Test public void testInboundInstanceEventIsReadOnly()
+    {
+        OMRSEventV1 event = new OMRSEventV1();
+
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+
+        OMRSInstanceEvent inboundEvent = new OMRSInstanceEvent(event);
+
+        try
+        {
+            inboundEvent.setHomeMetadataCollectionId("testMetadataCollectionId");
+            fail("An inbound event was changed");
+        }
+        catch (UnsupportedOperationException expected)
+        {
+            // the event is shared so it is read-only
+        }
+
+        OMRSTypeDefEvent outboundEvent = new OMRSTypeDefEvent(OMRSTypeDefEventType.DELETED_TYPEDEF_EVENT, "guid", "name");
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+
+        outboundEvent.setEventOriginator(originator);
+
+        assertSame(outboundEvent.getEventOriginator(), originator);
+    }
+
+
+    /**
+     * Listener that remembers the type events it receives.
+     */
+    private static class RecordingListener implements OMRSTopicListener
+    {
+        private final List<OMRSTypeDefEvent> receivedEvents = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void processRegistryEvent(OMRSRegistryEvent event)
+        {
+        }
+
+        @Override
+        public void processTypeDefEvent(OMRSTypeDefEvent event)
+        {
+            receivedEvents.add(event);
+        }
+
+        @Override
+        public void processInstanceEvent(OMRSInstanceEvent event)
+        {
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that OMRSTopicListenerQueue passes the subscribed events to its listener in order.
+ */
+public class TestOMRSTopicListenerQueue
+{
+    /**
+     * Events are passed to the listener by the delivery thread and any events left are passed before stop() returns.
+     */
+    @Test public void testEventsAreDelivered()
+    {
+        RecordingListener      listener = new RecordingListener(null, null);
+        OMRSTopicListenerQueue queue    = new OMRSTopicListenerQueue(listener, "test", listener, "topic", 5, null);
+
+        for (int i = 0; i < 20; i++)
+        {
+            queue.addEvent(getInstanceEvent("Asset", "guid" + i));
+        }
+
+        queue.stop();
+
+        assertEquals(listener.receivedEvents.size(), 20);
+        assertEquals(listener.receivedEvents.get(19), "guid19");
+        assertEquals(queue.getEventsDelivered(), 20);
+        assertEquals(queue.getQueueDepth(), 0);
+    }
+
+
+    /**
+     * A queue size of zero passes the events to the listener on the caller's thread.
+     */
+    @Test public void testSynchronousDelivery()
+    {
+        RecordingListener      listener = new RecordingListener(null, null);
+        OMRSTopicListenerQueue queue    = new OMRSTopicListenerQueue(listener, "test", listener, "topic", 0, null);
+
+        queue.addEvent(getInstanceEvent("Asset", "guid1"));
+
+        assertEquals(listener.receivedEvents, List.of("guid1"));
+        assertEquals(queue.getQueueSize(), 0);
+
+        queue.stop();
+    }
+
+
+    /**
+     * Events that do not match the subscription are not passed to the listener.
+     */
+    @Test public void testSubscriptionFilter()
+    {
+        RecordingListener      listener = new RecordingListener(Set.of(OMRSEventCategory.INSTANCE), Set.of("Asset"));
+        OMRSTopicListenerQueue queue    = new OMRSTopicListenerQueue(listener, "test", listener, "topic", 5, null);
+
+        assertFalse(queue.addEvent(new OMRSRegistryEvent(OMRSRegistryEventType.REFRESH_REGISTRATION_REQUEST)));
+        assertFalse(queue.addEvent(getInstanceEvent("GlossaryTerm", "guid1")));
+        assertTrue(queue.addEvent(getInstanceEvent("Asset", "guid2")));
+        assertTrue(queue.addEvent(getInstanceEvent(null, "guid3")));
+
+        queue.stop();
+
+        assertEquals(listener.receivedEvents, List.of("guid2", "guid3"));
+        assertEquals(queue.getEventsFiltered(), 2);
+    }
+
+
+    /**
+     * Build an instance event.
+     *
+     * @param typeDefName name of the instance's type
+     * @param instanceGUID unique identifier of the instance
+     * @return event
+     */
+    private OMRSInstanceEvent getInstanceEvent(String typeDefName,
+                                               String instanceGUID)
+    {
+        return new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT, null, typeDefName, instanceGUID);
+    }
+
+
+    /**
+     * Listener that remembers the instance GUIDs of the events it receives.
+     */
+    private static class RecordingListener implements OMRSTopicListener, OMRSTopicListenerSubscription
+    {
+        private final List<String>           receivedEvents = new CopyOnWriteArrayList<>();
+        private final Set<OMRSEventCategory> eventCategories;
+        private final Set<String>            typeNames;
+
+        RecordingListener(Set<OMRSEventCategory> eventCategories,
+                          Set<String>            typeNames)
+        {
+            this.eventCategories = eventCategories;
+            this.typeNames       = typeNames;
+        }
+
+        @Override
+        public Set<OMRSEventCategory> getSubscribedEventCategories()
+        {
+            return eventCategories;
+        }
+
+        @Override
+        public Set<String> getSubscribedInstanceTypeNames()
+        {
+            return typeNames;
+        }
+
+        @Override
+        public void processRegistryEvent(OMRSRegistryEvent event)
+        {
+            receivedEvents.add(event.getRegistryEventType().getName());
+        }
+
+        @Override
+        public void processTypeDefEvent(OMRSTypeDefEvent event)
+        {
+            receivedEvents.add(event.getTypeDefEventType().getName());
+        }
+
+        @Override
+        public void processInstanceEvent(OMRSInstanceEvent event)
+        {
+            receivedEvents.add(event.getInstanceGUID());
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.p
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStreamingStore;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
@@ -24,6 +25,13 @@ import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconten
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * OMRSArchiveManager manages the loading and unloading of open metadata archives from the local OMRS repository.
@@ -31,6 +39,16 @@ import java.util.List;
  */
 public class OMRSArchiveManager
 {
+    /*
+     * Controls for loading instances.  Streamed archives are read in batches of instanceBatchSize elements.
+     * The instances in a batch are passed to the local repository on up to maxLoaderThreads threads, with
+     * at least minSliceSize instances per thread.  All the instances for the same entity or relationship are passed on
+     * the same thread, in the order they appear in the archive.
+     */
+    private static final int instanceBatchSize = 1000;
+    private static final int maxLoaderThreads  = 4;
+    private static final int minSliceSize      = 50;
+
     private String                                  localMetadataCollectionId   = null;
     private List<OpenMetadataArchiveStoreConnector> openMetadataArchiveStores   = new ArrayList<>();
     private OMRSRepositoryContentManager            repositoryContentManager    = null;
@@ -151,7 +169,8 @@ public class OMRSArchiveManager
 
     /**
      * Unpack and process the contents an open metadata archive , passing its contents to the local
-     * repository (if it exists).
+     * repository (if it exists).  Archive stores that support streaming have their instances
+     * passed to the local repository in batches so that the whole instance store is never held in memory.
      *
      * @param archiveStore open metadata archive  to process
      * @param archiveSource source of the archive - such as file name
@@ -164,7 +183,11 @@ public class OMRSArchiveManager
                                                  OMRSTypeDefEventProcessorInterface   typeDefProcessor,
                                                  OMRSInstanceEventProcessorInterface  instanceProcessor) throws RepositoryErrorException
     {
-        if (archiveStore != null)
+        if (archiveStore instanceof OpenMetadataArchiveStreamingStore)
+        {
+            processStreamingArchiveStore((OpenMetadataArchiveStreamingStore) archiveStore, archiveSource, typeDefProcessor, instanceProcessor);
+        }
+        else if (archiveStore != null)
         {
             /*
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
@@ -186,6 +209,80 @@ public class OMRSArchiveManager
     }
 
 
+    /**
+     * Process an archive store that is able to stream its instances.  The archive header and type store are
+     * processed first, followed by each batch of instances as it is read from the store.
+     *
+     * @param archiveStore open metadata archive  to process
+     * @param archiveSource source of the archive - such as file name
+     * @param typeDefProcessor receiver of new TypeDefs
+     * @param instanceProcessor receiver of new instances
+     * @throws RepositoryErrorException there is a problem accessing the archive
+     */
+    private void processStreamingArchiveStore(OpenMetadataArchiveStreamingStore    archiveStore,
+                                              String                               archiveSource,
+                                              OMRSTypeDefEventProcessorInterface   typeDefProcessor,
+                                              OMRSInstanceEventProcessorInterface  instanceProcessor) throws RepositoryErrorException
+    {
+        final String     actionDescription = "Process Open Metadata Archive";
+
+        OpenMetadataArchive archiveHeader = archiveStore.getArchiveHeader();
+
+        if (archiveHeader == null)
+        {
+            auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
+            return;
+        }
+
+        OpenMetadataArchiveProperties archiveProperties = archiveHeader.getArchiveProperties();
+
+        if (archiveProperties != null)
+        {
+            auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
+
+            OpenMetadataArchiveTypeStore archiveTypeStore = archiveHeader.getArchiveTypeStore();
+            int                          typeCount        = 0;
+            AtomicInteger                instanceCount    = new AtomicInteger(0);
+
+            if (archiveTypeStore != null)
+            {
+                typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
+            }
+
+            if (instanceProcessor != null)
+            {
+                ExecutorService loadExecutor = this.getLoadExecutor();
+
+                try
+                {
+                    archiveStore.processArchiveInstances(instanceBatchSize,
+                                                         instanceBatch -> instanceCount.addAndGet(this.processInstanceStore(archiveProperties,
+                                                                                                                            instanceBatch,
+                                                                                                                            instanceProcessor,
+                                                                                                                            loadExecutor)));
+                }
+                finally
+                {
+                    loadExecutor.shutdown();
+                }
+            }
+            else
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NO_INSTANCE_PROCESSOR.getMessageDefinition());
+            }
+
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
+                                                                                     Integer.toString(instanceCount.get()),
+                                                                                     archiveProperties.getArchiveName()));
+        }
+        else
+        {
+            auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+        }
+    }
+
+
     /**
      * Step through the content of an open metadata archive, passing its contents to the local repository (if it
      * exists).
@@ -223,7 +320,23 @@ public class OMRSArchiveManager
 
             if (archiveInstanceStore != null)
             {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
+                if (instanceProcessor != null)
+                {
+                    ExecutorService loadExecutor = this.getLoadExecutor();
+
+                    try
+                    {
+                        instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor, loadExecutor);
+                    }
+                    finally
+                    {
+                        loadExecutor.shutdown();
+                    }
+                }
+                else
+                {
+                    auditLog.logMessage(actionDescription, OMRSAuditCode.NO_INSTANCE_PROCESSOR.getMessageDefinition());
+                }
             }
 
             auditLog.logMessage(actionDescription,
@@ -238,6 +351,19 @@ public class OMRSArchiveManager
     }
 
 
+    /**
+     * Return the thread pool used to pass instances to the local repository while an archive is loaded.
+     *
+     * @return executor service - the caller must shut it down
+     */
+    private ExecutorService getLoadExecutor()
+    {
+        int loaderThreadCount = Math.max(1, Math.min(maxLoaderThreads, Runtime.getRuntime().availableProcessors()));
+
+        return Executors.newFixedThreadPool(loaderThreadCount);
+    }
+
+
     /**
      * The TypeStore is in two parts.  First there is an optional list of patches to existing TypeDefs.
      * Then an optional list of new TypeDefs.  It is possible that this archive has been processed before
@@ -348,7 +474,10 @@ public class OMRSArchiveManager
 
     /**
      * The InstanceStore is in three parts: an optional list of entities followed by an optional list
-     * of relationships followed by an optional list of classifications.
+     * of relationships followed by an optional list of classifications.  The instances in each part are passed to the
+     * local repository in parallel, with the instances for the same element kept in order on the same thread.  Each part
+     * is complete before the next one starts so that relationships and classifications are processed after the
+     * entities they refer to.
      *
      * It is possible that this archive has been processed before
      * and so any duplicates detected are ignored.  However, conflicting instances are detected.
@@ -356,191 +485,318 @@ public class OMRSArchiveManager
      *
      * @param archiveProperties properties describing the archive used in logging
      * @param archiveInstanceStore the instance store to process
-     * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
-     *                          if there is no local repository configured for this server.
+     * @param instanceProcessor the processor to add the instances to the local repository.
+     * @param loadExecutor thread pool used to pass the instances to the local repository
      * @return instance count
      */
     private int  processInstanceStore(OpenMetadataArchiveProperties             archiveProperties,
                                       OpenMetadataArchiveInstanceStore          archiveInstanceStore,
-                                      OMRSInstanceEventProcessorInterface       instanceProcessor)
+                                      OMRSInstanceEventProcessorInterface       instanceProcessor,
+                                      ExecutorService                           loadExecutor)
     {
         List<EntityDetail>                  entities        = archiveInstanceStore.getEntities();
         List<Relationship>                  relationships   = archiveInstanceStore.getRelationships();
         List<ClassificationEntityExtension> classifications = archiveInstanceStore.getClassifications();
         int                                 instanceCount   = 0;
 
-        if (instanceProcessor != null)
+        final String                 homeMetadataCollectionId   = archiveProperties.getArchiveGUID();
+        final String                 archiveName                = archiveProperties.getArchiveName();
+        final String                 originatorServerType       = this.getOriginatorServerType(archiveProperties);
+        final InstanceProvenanceType provenanceType             = this.getProvenanceType(archiveProperties);
+        final Date                   archiveCreationTime        = archiveProperties.getCreationDate();
+        final String                 originatorName             = archiveProperties.getOriginatorName();
+        final String                 archiveVersion             = archiveProperties.getArchiveVersion();
+        final String                 originatorOrganizationName = archiveProperties.getOriginatorOrganization();
+        final String                 originatorLicense          = archiveProperties.getOriginatorLicense();
+
+        final String archiveId = originatorName + " (" + archiveVersion + ")";
+
+        if (entities != null)
         {
-            String                 homeMetadataCollectionId   = archiveProperties.getArchiveGUID();
-            String                 archiveName                = archiveProperties.getArchiveName();
-            String                 originatorServerType       = OpenMetadataArchiveType.CONTENT_PACK.getName();
-            InstanceProvenanceType provenanceType             = InstanceProvenanceType.CONTENT_PACK;
-            Date                   archiveCreationTime        = archiveProperties.getCreationDate();
-            String                 originatorName             = archiveProperties.getOriginatorName();
-            String                 archiveVersion             = archiveProperties.getArchiveVersion();
-            String                 originatorOrganizationName = archiveProperties.getOriginatorOrganization();
-            String                 originatorLicense          = archiveProperties.getOriginatorLicense();
+            instanceCount += this.processInstances(entities, loadExecutor, InstanceHeader::getGUID, entity ->
+            {
+                this.setInstanceAuditHeader(localMetadataCollectionId,
+                                            homeMetadataCollectionId,
+                                            archiveName,
+                                            originatorName,
+                                            archiveCreationTime,
+                                            provenanceType,
+                                            originatorLicense,
+                                            entity);
+
+                /*
+                 * There is no need to support delete in archive because the elements are
+                 * reference copies and can be deleted from the receiving repositories.
+                 */
+                if (entity.getVersion() == 1L)
+                {
+                    instanceProcessor.processNewEntityEvent(archiveId,
+                                                            homeMetadataCollectionId,
+                                                            archiveName,
+                                                            originatorServerType,
+                                                            originatorOrganizationName,
+                                                            entity);
+                }
+                else
+                {
+                    instanceProcessor.processUpdatedEntityEvent(archiveId,
+                                                                homeMetadataCollectionId,
+                                                                archiveName,
+                                                                originatorServerType,
+                                                                originatorOrganizationName,
+                                                                null,
+                                                                entity);
+                }
+            });
+        }
 
-            String archiveId = originatorName + " (" + archiveVersion + ")";
+        if (relationships != null)
+        {
+            instanceCount += this.processInstances(relationships, loadExecutor, InstanceHeader::getGUID, relationship ->
+            {
+                this.setInstanceAuditHeader(localMetadataCollectionId,
+                                            homeMetadataCollectionId,
+                                            archiveName,
+                                            originatorName,
+                                            archiveCreationTime,
+                                            provenanceType,
+                                            originatorLicense,
+                                            relationship);
+
+                /*
+                 * There is no need to support delete in archive because the elements are
+                 * reference copies and can be deleted from the receiving repositories.
+                 */
+                if (relationship.getVersion() == 1L)
+                {
+                    instanceProcessor.processNewRelationshipEvent(archiveId,
+                                                                  homeMetadataCollectionId,
+                                                                  archiveName,
+                                                                  originatorServerType,
+                                                                  originatorOrganizationName,
+                                                                  relationship);
+                }
+                else
+                {
+                    instanceProcessor.processUpdatedRelationshipEvent(archiveId,
+                                                                      homeMetadataCollectionId,
+                                                                      archiveName,
+                                                                      originatorServerType,
+                                                                      originatorOrganizationName,
+                                                                      null,
+                                                                      relationship);
+                }
+            });
+        }
+
+        if ((instanceProcessor instanceof OMRSInstanceEventProcessorClassificationExtension) && (classifications != null))
+        {
+            OMRSInstanceEventProcessorClassificationExtension classificationInstanceProcessor = (OMRSInstanceEventProcessorClassificationExtension)instanceProcessor;
+
+            instanceCount += this.processInstances(classifications, loadExecutor, this::getClassifiedEntityGUID, classificationEntityExtension ->
+            {
+                Classification classification = classificationEntityExtension.getClassification();
+
+                this.setInstanceAuditHeader(localMetadataCollectionId,
+                                            homeMetadataCollectionId,
+                                            archiveName,
+                                            originatorName,
+                                            archiveCreationTime,
+                                            provenanceType,
+                                            originatorLicense,
+                                            classification);
 
-            if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
+                classificationEntityExtension.setClassification(classification);
+
+                if (classification.getVersion() == 1L)
+                {
+                    classificationInstanceProcessor.processClassifiedEntityEvent(archiveId,
+                                                                                 homeMetadataCollectionId,
+                                                                                 archiveName,
+                                                                                 originatorServerType,
+                                                                                 originatorOrganizationName,
+                                                                                 classificationEntityExtension.getEntityToClassify(),
+                                                                                 classification);
+                }
+                else
+                {
+                    classificationInstanceProcessor.processReclassifiedEntityEvent(archiveId,
+                                                                                   homeMetadataCollectionId,
+                                                                                   archiveName,
+                                                                                   originatorServerType,
+                                                                                   originatorOrganizationName,
+                                                                                   classificationEntityExtension.getEntityToClassify(),
+                                                                                   null,
+                                                                                   classification);
+                }
+            });
+        }
+
+        return instanceCount;
+    }
+
+
+    /**
+     * Pass a list of instances to the local repository using the threads of the load executor.  The list is
+     * split into one slice per thread and the method returns once all the slices are processed.  The instances are
+     * assigned to a slice by their key so that all the instances with the same key are processed on the same thread,
+     * in the order they appear in the list.  This means that changes to the same element can not overtake one another.
+     *
+     * @param instances list of instances from the archive
+     * @param loadExecutor thread pool
+     * @param instanceKey function to return the unique identifier of the element that an instance changes
+     * @param instanceLoader function to pass a single instance to the local repository
+     * @param <T> type of instance
+     * @return count of the instances processed
+     */
+    private <T> int processInstances(List<T>              instances,
+                                     ExecutorService      loadExecutor,
+                                     Function<T, String>  instanceKey,
+                                     Consumer<T>          instanceLoader)
+    {
+        List<T> nonNullInstances = new ArrayList<>();
+
+        for (T instance : instances)
+        {
+            if (instance != null)
             {
-                provenanceType       = InstanceProvenanceType.EXPORT_ARCHIVE;
-                originatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
+                nonNullInstances.add(instance);
             }
-            else if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.REPOSITORY_BACKUP)
+        }
+
+        int sliceCount = Math.min(maxLoaderThreads, nonNullInstances.size() / minSliceSize);
+
+        if (sliceCount <= 1)
+        {
+            nonNullInstances.forEach(instanceLoader);
+        }
+        else
+        {
+            List<List<T>> slices = new ArrayList<>();
+
+            for (int sliceNumber = 0; sliceNumber < sliceCount; sliceNumber++)
             {
-                provenanceType       = InstanceProvenanceType.LOCAL_COHORT;
-                originatorServerType = OpenMetadataArchiveType.REPOSITORY_BACKUP.getName();
+                slices.add(new ArrayList<>());
             }
 
-            if (entities != null)
+            for (T instance : nonNullInstances)
             {
-                for (EntityDetail entity : entities)
-                {
-                    if (entity != null)
-                    {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    entity);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (entity.getVersion() == 1L)
-                        {
-                            instanceProcessor.processNewEntityEvent(archiveId,
-                                                                    homeMetadataCollectionId,
-                                                                    archiveName,
-                                                                    originatorServerType,
-                                                                    originatorOrganizationName,
-                                                                    entity);
-                        }
-                        else
-                        {
-                            instanceProcessor.processUpdatedEntityEvent(archiveId,
-                                                                        homeMetadataCollectionId,
-                                                                        archiveName,
-                                                                        originatorServerType,
-                                                                        originatorOrganizationName,
-                                                                        null,
-                                                                        entity);
-                        }
-
-                        instanceCount++;
-                    }
-                }
+                slices.get(this.getSliceNumber(instanceKey.apply(instance), sliceCount)).add(instance);
             }
 
-            if (relationships != null)
+            List<Future<?>> sliceResults = new ArrayList<>();
+
+            for (List<T> slice : slices)
             {
-                for (Relationship relationship : relationships)
+                if (! slice.isEmpty())
                 {
-                    if (relationship != null)
-                    {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    relationship);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (relationship.getVersion() == 1L)
-                        {
-                            instanceProcessor.processNewRelationshipEvent(archiveId,
-                                                                          homeMetadataCollectionId,
-                                                                          archiveName,
-                                                                          originatorServerType,
-                                                                          originatorOrganizationName,
-                                                                          relationship);
-                        }
-                        else
-                        {
-                            instanceProcessor.processUpdatedRelationshipEvent(archiveId,
-                                                                              homeMetadataCollectionId,
-                                                                              archiveName,
-                                                                              originatorServerType,
-                                                                              originatorOrganizationName,
-                                                                              null,
-                                                                              relationship);
-                        }
-
-                        instanceCount ++;
-                    }
+                    sliceResults.add(loadExecutor.submit(() -> slice.forEach(instanceLoader)));
                 }
             }
 
-            if (instanceProcessor instanceof OMRSInstanceEventProcessorClassificationExtension)
+            for (Future<?> sliceResult : sliceResults)
             {
-                OMRSInstanceEventProcessorClassificationExtension classificationInstanceProcessor = (OMRSInstanceEventProcessorClassificationExtension)instanceProcessor;
+                try
+                {
+                    sliceResult.get();
+                }
+                catch (InterruptedException interruptedException)
+                {
+                    Thread.currentThread().interrupt();
 
-                if (classifications != null)
+                    throw new IllegalStateException(interruptedException);
+                }
+                catch (ExecutionException executionException)
                 {
-                    for (ClassificationEntityExtension classificationEntityExtension : classifications)
+                    if (executionException.getCause() instanceof RuntimeException)
                     {
-                        if (classificationEntityExtension != null)
-                        {
-                            Classification classification = classificationEntityExtension.getClassification();
-
-                            this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                        homeMetadataCollectionId,
-                                                        archiveName,
-                                                        originatorName,
-                                                        archiveCreationTime,
-                                                        provenanceType,
-                                                        originatorLicense,
-                                                        classification);
-
-                            classificationEntityExtension.setClassification(classification);
-
-                            if (classification.getVersion() == 1L)
-                            {
-                                classificationInstanceProcessor.processClassifiedEntityEvent(archiveId,
-                                                                                             homeMetadataCollectionId,
-                                                                                             archiveName,
-                                                                                             originatorServerType,
-                                                                                             originatorOrganizationName,
-                                                                                             classificationEntityExtension.getEntityToClassify(),
-                                                                                             classification);
-                            }
-                            else
-                            {
-                                classificationInstanceProcessor.processReclassifiedEntityEvent(archiveId,
-                                                                                               homeMetadataCollectionId,
-                                                                                               archiveName,
-                                                                                               originatorServerType,
-                                                                                               originatorOrganizationName,
-                                                                                               classificationEntityExtension.getEntityToClassify(),
-                                                                                               null,
-                                                                                               classification);
-                            }
-
-                            instanceCount ++;
-                        }
+                        throw (RuntimeException) executionException.getCause();
                     }
+
+                    throw new IllegalStateException(executionException.getCause());
                 }
             }
         }
-        else
+
+        return nonNullInstances.size();
+    }
+
+
+    /**
+     * Return the slice that an instance is processed in.
+     *
+     * @param key unique identifier of the element that the instance changes - may be null
+     * @param sliceCount number of slices
+     * @return slice number
+     */
+    private int getSliceNumber(String key,
+                               int    sliceCount)
+    {
+        if (key == null)
         {
-            final String actionDescription = "Processing instances from archive";
+            return 0;
+        }
 
-            auditLog.logMessage(actionDescription, OMRSAuditCode.NO_INSTANCE_PROCESSOR.getMessageDefinition());
+        return Math.floorMod(key.hashCode(), sliceCount);
+    }
+
+
+    /**
+     * Return the unique identifier of the entity that a classification from the archive is attached to.
+     *
+     * @param classificationEntityExtension classification from the archive
+     * @return entity GUID or null if the entity is missing
+     */
+    private String getClassifiedEntityGUID(ClassificationEntityExtension classificationEntityExtension)
+    {
+        if (classificationEntityExtension.getEntityToClassify() != null)
+        {
+            return classificationEntityExtension.getEntityToClassify().getGUID();
         }
 
-        return instanceCount;
+        return null;
+    }
+
+
+    /**
+     * Return the provenance type to use for the instances in the archive.
+     *
+     * @param archiveProperties header of the archive
+     * @return provenance type
+     */
+    private InstanceProvenanceType getProvenanceType(OpenMetadataArchiveProperties archiveProperties)
+    {
+        if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
+        {
+            return InstanceProvenanceType.EXPORT_ARCHIVE;
+        }
+        else if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.REPOSITORY_BACKUP)
+        {
+            return InstanceProvenanceType.LOCAL_COHORT;
+        }
+
+        return InstanceProvenanceType.CONTENT_PACK;
+    }
+
+
+    /**
+     * Return the server type to use as the originator of the instances in the archive.
+     *
+     * @param archiveProperties header of the archive
+     * @return archive type name
+     */
+    private String getOriginatorServerType(OpenMetadataArchiveProperties archiveProperties)
+    {
+        if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
+        {
+            return OpenMetadataArchiveType.METADATA_EXPORT.getName();
+        }
+        else if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.REPOSITORY_BACKUP)
+        {
+            return OpenMetadataArchiveType.REPOSITORY_BACKUP.getName();
+        }
+
+        return OpenMetadataArchiveType.CONTENT_PACK.getName();
     }
 
 
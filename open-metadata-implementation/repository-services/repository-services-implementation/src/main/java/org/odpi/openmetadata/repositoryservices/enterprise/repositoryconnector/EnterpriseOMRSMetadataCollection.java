@@ -19,11 +19,15 @@ import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.c
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.ParallelFederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.SequentialFederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.*;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.paging.FederatedQueryCursor;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.paging.FederatedQueryCursorCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.paging.FederatedQueryKey;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.*;
+import java.util.function.Function;
 
 
 /**
@@ -62,6 +66,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     private final EnterpriseOMRSRepositoryConnector enterpriseParentConnector;
     private final String                            localMetadataCollectionId;
     private final AuditLog                          auditLog;
+    private final FederatedQueryCursorCache         cursorCache = new FederatedQueryCursorCache();
 
 
     /**
@@ -1241,6 +1246,20 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                     repositoryValidator,
                                                                                                     methodName);
 
+        FederatedQueryCursor<Relationship> cursor = this.getCursor(fromRelationshipElement,
+                                                                   pageSize,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   Relationship::getProperties,
+                                                                   methodName,
+                                                                   userId,
+                                                                   entityGUID,
+                                                                   relationshipTypeGUID,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime);
+
+        executor.setCursor(cursor);
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1248,6 +1267,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
+        cursorCache.saveCursor(cursor);
+
         List<Relationship> results = executor.getResults(enterpriseParentConnector);
 
         if ((results == null) || (results.isEmpty()))
@@ -1362,6 +1383,22 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                               repositoryValidator,
                                                                                               methodName);
 
+        FederatedQueryCursor<EntityDetail> cursor = this.getCursor(fromEntityElement,
+                                                                   pageSize,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   EntityDetail::getProperties,
+                                                                   methodName,
+                                                                   userId,
+                                                                   entityTypeGUID,
+                                                                   matchProperties,
+                                                                   matchCriteria,
+                                                                   limitResultsByStatus,
+                                                                   limitResultsByClassification,
+                                                                   asOfTime);
+
+        executor.setCursor(cursor);
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1369,6 +1406,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
+        cursorCache.saveCursor(cursor);
+
         return executor.getResults(enterpriseParentConnector, this);
     }
 
@@ -1468,6 +1507,22 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                           repositoryValidator,
                                                                           methodName);
 
+        FederatedQueryCursor<EntityDetail> cursor = this.getCursor(fromEntityElement,
+                                                                   pageSize,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   EntityDetail::getProperties,
+                                                                   methodName,
+                                                                   userId,
+                                                                   entityTypeGUID,
+                                                                   entitySubtypeGUIDs,
+                                                                   matchProperties,
+                                                                   limitResultsByStatus,
+                                                                   matchClassifications,
+                                                                   asOfTime);
+
+        executor.setCursor(cursor);
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1475,6 +1530,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
+        cursorCache.saveCursor(cursor);
+
         return executor.getResults(enterpriseParentConnector, this);
     }
 
@@ -1580,6 +1637,22 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                           repositoryValidator,
                                                                                                           methodName);
 
+        FederatedQueryCursor<EntityDetail> cursor = this.getCursor(fromEntityElement,
+                                                                   pageSize,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   EntityDetail::getProperties,
+                                                                   methodName,
+                                                                   userId,
+                                                                   entityTypeGUID,
+                                                                   classificationName,
+                                                                   matchClassificationProperties,
+                                                                   matchCriteria,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime);
+
+        executor.setCursor(cursor);
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1587,6 +1660,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
+        cursorCache.saveCursor(cursor);
+
         return executor.getResults(enterpriseParentConnector, this);
     }
 
@@ -1687,6 +1762,21 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         repositoryValidator,
                                                                                                         methodName);
 
+        FederatedQueryCursor<EntityDetail> cursor = this.getCursor(fromEntityElement,
+                                                                   pageSize,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   EntityDetail::getProperties,
+                                                                   methodName,
+                                                                   userId,
+                                                                   entityTypeGUID,
+                                                                   searchCriteria,
+                                                                   limitResultsByStatus,
+                                                                   limitResultsByClassification,
+                                                                   asOfTime);
+
+        executor.setCursor(cursor);
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1694,6 +1784,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
+        cursorCache.saveCursor(cursor);
+
         return executor.getResults(enterpriseParentConnector, this);
     }
 
@@ -1941,6 +2033,21 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                     repositoryValidator,
                                                                                     methodName);
 
+        FederatedQueryCursor<Relationship> cursor = this.getCursor(fromRelationshipElement,
+                                                                   pageSize,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   Relationship::getProperties,
+                                                                   methodName,
+                                                                   userId,
+                                                                   relationshipTypeGUID,
+                                                                   relationshipSubtypeGUIDs,
+                                                                   matchProperties,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime);
+
+        executor.setCursor(cursor);
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -1948,6 +2055,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
+        cursorCache.saveCursor(cursor);
+
         return executor.getResults(enterpriseParentConnector);
     }
 
@@ -2046,6 +2155,21 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         repositoryValidator,
                                                                                                         methodName);
 
+        FederatedQueryCursor<Relationship> cursor = this.getCursor(fromRelationshipElement,
+                                                                   pageSize,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   Relationship::getProperties,
+                                                                   methodName,
+                                                                   userId,
+                                                                   relationshipTypeGUID,
+                                                                   matchProperties,
+                                                                   matchCriteria,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime);
+
+        executor.setCursor(cursor);
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -2053,6 +2177,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
+        cursorCache.saveCursor(cursor);
+
         return executor.getResults(enterpriseParentConnector);
     }
 
@@ -2149,6 +2275,20 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                                   repositoryValidator,
                                                                                                                   methodName);
 
+        FederatedQueryCursor<Relationship> cursor = this.getCursor(fromRelationshipElement,
+                                                                   pageSize,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   Relationship::getProperties,
+                                                                   methodName,
+                                                                   userId,
+                                                                   relationshipTypeGUID,
+                                                                   searchCriteria,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime);
+
+        executor.setCursor(cursor);
+
         /*
          * Ready to process the request.  Create requests occur in the first repository that accepts the call.
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
@@ -2156,6 +2296,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
+        cursorCache.saveCursor(cursor);
+
         return executor.getResults(enterpriseParentConnector);
     }
 
@@ -4933,6 +5075,42 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the cursor for a page of a federated query.  A request for the page that follows the last page returned
+     * for the same query carries on from where that page finished.  No cursor is used when the page size is unrestricted.
+     *
+     * @param startingElement starting element of the page
+     * @param pageSize maximum number of results in the page
+     * @param sequencingProperty property used for ordering (optional)
+     * @param sequencingOrder ordering of results
+     * @param propertiesGetter function returning the properties of an instance
+     * @param methodName calling method
+     * @param queryParameters the other parameters of the query
+     * @param <T> type of instance returned by the query
+     * @return cursor or null
+     */
+    private <T extends InstanceHeader> FederatedQueryCursor<T> getCursor(int                             startingElement,
+                                                                         int                             pageSize,
+                                                                         String                          sequencingProperty,
+                                                                         SequencingOrder                 sequencingOrder,
+                                                                         Function<T, InstanceProperties> propertiesGetter,
+                                                                         String                          methodName,
+                                                                         Object...                       queryParameters)
+    {
+        if (pageSize <= 0)
+        {
+            return null;
+        }
+
+        FederatedQueryKey queryKey = new FederatedQueryKey(methodName, sequencingProperty, sequencingOrder, queryParameters);
+
+        return cursorCache.getCursor(queryKey,
+                                     startingElement,
+                                     pageSize,
+                                     FederatedQueryCursor.getComparator(sequencingProperty, sequencingOrder, propertiesGetter));
+    }
+
+
     /**
      * Verify that a cohort member's metadata collection is not null.
      *
@@ -12,12 +12,14 @@ import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.E
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * EntitiesAccumulator accumulates and validates entities received from a collection of open metadata
  * repositories.  It removes duplicates from the list by choosing the latest entity details object.
+ * The results are returned in the order that they were first received.
  *
  * This class may be called simultaneously from different threads, so it must be thread-safe.
  */
@@ -26,7 +28,7 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
     /*
      * Map of entityGUID to entity detail retrieved from the repositories
      */
-    private final Map<String, EntityDetail>         accumulatedEntities        = new HashMap<>();
+    private final Map<String, EntityDetail>         accumulatedEntities        = new LinkedHashMap<>();
     private final Map<String, List<Classification>> accumulatedClassifications = new HashMap<>();
     private final Map<String, List<String>>         accumulatedEntitySources   = new HashMap<>();
 
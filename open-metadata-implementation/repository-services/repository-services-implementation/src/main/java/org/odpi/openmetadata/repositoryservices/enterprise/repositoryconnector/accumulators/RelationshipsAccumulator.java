@@ -8,19 +8,20 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * RelationshipsAccumulator accumulates and validates relationships received from a collection of open metadata
  * repositories.  It removes duplicates from the list by choosing the latest version.
+ * The results are returned in the order that they were first received.
  *
  * This class may be called simultaneously from different threads so it must be thread-safe.
  */
 public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
 {
-    private final Map<String, Relationship> accumulatedRelationships   = new HashMap<>();
+    private final Map<String, Relationship> accumulatedRelationships   = new LinkedHashMap<>();
 
 
     /**
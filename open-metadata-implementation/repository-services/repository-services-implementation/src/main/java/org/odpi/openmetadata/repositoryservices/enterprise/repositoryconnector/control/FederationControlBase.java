@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.metrics.PerformanceMetrics;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
@@ -24,6 +25,8 @@ import java.util.List;
  * until the executor tells it to stop, or it runs out of registered repositories.
  *
  * The caller (enterprise connector) then requests the response from the executor.
+ *
+ * The time taken by each repository to handle its part of the request is recorded in the performance metrics.
  */
 public abstract class FederationControlBase implements FederationControl
 {
@@ -63,6 +66,80 @@ public abstract class FederationControlBase implements FederationControl
     public abstract void executeCommand(RepositoryExecutor   executor) throws RepositoryErrorException;
 
 
+    /**
+     * Pass the request to a repository and record how long it takes.
+     *
+     * @param executor command to execute
+     * @param cohortConnector connector to the repository
+     * @param metadataCollectionId identifier for the metadata collection
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    boolean issueRequestToRepository(RepositoryExecutor      executor,
+                                     OMRSRepositoryConnector cohortConnector,
+                                     String                  metadataCollectionId,
+                                     OMRSMetadataCollection  metadataCollection)
+    {
+        long startTime = System.nanoTime();
+
+        try
+        {
+            return executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+        }
+        finally
+        {
+            this.recordRepositoryTime(startTime, cohortConnector, metadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Pass a request to augment a result to a repository and record how long it takes.
+     *
+     * @param executor command to execute
+     * @param resultGUID unique identifier of result.
+     * @param cohortConnector connector to the repository
+     * @param metadataCollectionId identifier for the metadata collection
+     * @param metadataCollection metadata collection object for the repository
+     */
+    void augmentResultFromRepository(RepositoryExecutor      executor,
+                                     String                  resultGUID,
+                                     OMRSRepositoryConnector cohortConnector,
+                                     String                  metadataCollectionId,
+                                     OMRSMetadataCollection  metadataCollection)
+    {
+        long startTime = System.nanoTime();
+
+        try
+        {
+            executor.augmentResultFromRepository(resultGUID, metadataCollectionId, metadataCollection);
+        }
+        finally
+        {
+            this.recordRepositoryTime(startTime, cohortConnector, metadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Record the time taken by a repository in the performance metrics.
+     *
+     * @param startTime System.nanoTime() when the request was issued
+     * @param cohortConnector connector to the repository
+     * @param metadataCollectionId identifier for the metadata collection
+     */
+    private void recordRepositoryTime(long                    startTime,
+                                      OMRSRepositoryConnector cohortConnector,
+                                      String                  metadataCollectionId)
+    {
+        PerformanceMetrics.recordTime(startTime,
+                                      PerformanceMetrics.METADATA_COLLECTION_REQUEST_METRIC,
+                                      "repository", cohortConnector.getRepositoryName(),
+                                      "metadataCollectionId", metadataCollectionId,
+                                      "operation", methodName);
+    }
+
+
     /**
      * Verify that a cohort member's metadata collection is not null.
      *
@@ -57,7 +57,7 @@ public class SequentialFederationControl extends FederationControlBase
 
                     if (metadataCollectionId != null)
                     {
-                        if (executor.issueRequestToRepository(metadataCollectionId, metadataCollection))
+                        if (this.issueRequestToRepository(executor, cohortConnector, metadataCollectionId, metadataCollection))
                         {
                             /*
                              * The executor returns true if it has all the results it needs.
@@ -89,7 +89,7 @@ public class SequentialFederationControl extends FederationControlBase
 
                             if (metadataCollectionId != null)
                             {
-                                executor.augmentResultFromRepository(resultGUID, metadataCollectionId, metadataCollection);
+                                this.augmentResultFromRepository(executor, resultGUID, cohortConnector, metadataCollectionId, metadataCollection);
                             }
                         }
                     }
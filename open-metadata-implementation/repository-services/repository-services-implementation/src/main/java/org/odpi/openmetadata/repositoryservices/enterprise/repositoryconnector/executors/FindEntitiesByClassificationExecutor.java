@@ -150,19 +150,23 @@ public class FindEntitiesByClassificationExecutor extends PageableEntityReposito
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindEntitiesByClassificationExecutor(userId,
-                                                        instanceTypeGUID,
-                                                        classificationName,
-                                                        matchClassificationProperties,
-                                                        matchCriteria,
-                                                        startingElement,
-                                                        limitResultsByStatus,
-                                                        asOfTime,
-                                                        sequencingProperty,
-                                                        sequencingOrder,
-                                                        pageSize,
-                                                        accumulator,
-                                                        methodName);
+        FindEntitiesByClassificationExecutor clone = new FindEntitiesByClassificationExecutor(userId,
+                                                                                              instanceTypeGUID,
+                                                                                              classificationName,
+                                                                                              matchClassificationProperties,
+                                                                                              matchCriteria,
+                                                                                              startingElement,
+                                                                                              limitResultsByStatus,
+                                                                                              asOfTime,
+                                                                                              sequencingProperty,
+                                                                                              sequencingOrder,
+                                                                                              pageSize,
+                                                                                              accumulator,
+                                                                                              methodName);
+
+        clone.setCursor(cursor);
+
+        return clone;
     }
 
 
@@ -181,19 +185,19 @@ public class FindEntitiesByClassificationExecutor extends PageableEntityReposito
             /*
              * Issue the request
              */
-            List<EntityDetail> results = metadataCollection.findEntitiesByClassification(userId,
-                                                                                         instanceTypeGUID,
-                                                                                         classificationName,
-                                                                                         matchClassificationProperties,
-                                                                                         matchCriteria,
-                                                                                         startingElement,
-                                                                                         limitResultsByStatus,
-                                                                                         asOfTime,
-                                                                                         sequencingProperty,
-                                                                                         sequencingOrder,
-                                                                                         pageSize);
-
-            accumulator.addEntities(results, metadataCollectionId);
+            super.queryRepository(metadataCollectionId,
+                                  metadataCollection,
+                                  (repository, fromElement, elementCount) -> repository.findEntitiesByClassification(userId,
+                                                                                                                     instanceTypeGUID,
+                                                                                                                     classificationName,
+                                                                                                                     matchClassificationProperties,
+                                                                                                                     matchCriteria,
+                                                                                                                     fromElement,
+                                                                                                                     limitResultsByStatus,
+                                                                                                                     asOfTime,
+                                                                                                                     sequencingProperty,
+                                                                                                                     sequencingOrder,
+                                                                                                                     elementCount));
 
         }
         catch (InvalidParameterException error)
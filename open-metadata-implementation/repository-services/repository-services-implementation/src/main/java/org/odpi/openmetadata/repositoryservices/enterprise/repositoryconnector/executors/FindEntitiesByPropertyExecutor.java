@@ -149,19 +149,23 @@ public class FindEntitiesByPropertyExecutor extends PageableEntityRepositoryExec
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindEntitiesByPropertyExecutor(userId,
-                                                  instanceTypeGUID,
-                                                  matchProperties,
-                                                  matchCriteria,
-                                                  startingElement,
-                                                  limitResultsByStatus,
-                                                  limitResultsByClassification,
-                                                  asOfTime,
-                                                  sequencingProperty,
-                                                  sequencingOrder,
-                                                  pageSize,
-                                                  accumulator,
-                                                  methodName);
+        FindEntitiesByPropertyExecutor clone = new FindEntitiesByPropertyExecutor(userId,
+                                                                                  instanceTypeGUID,
+                                                                                  matchProperties,
+                                                                                  matchCriteria,
+                                                                                  startingElement,
+                                                                                  limitResultsByStatus,
+                                                                                  limitResultsByClassification,
+                                                                                  asOfTime,
+                                                                                  sequencingProperty,
+                                                                                  sequencingOrder,
+                                                                                  pageSize,
+                                                                                  accumulator,
+                                                                                  methodName);
+
+        clone.setCursor(cursor);
+
+        return clone;
     }
 
 
@@ -180,19 +184,19 @@ public class FindEntitiesByPropertyExecutor extends PageableEntityRepositoryExec
             /*
              * Issue the request
              */
-            List<EntityDetail> results = metadataCollection.findEntitiesByProperty(userId,
-                                                                                   instanceTypeGUID,
-                                                                                   matchProperties,
-                                                                                   matchCriteria,
-                                                                                   startingElement,
-                                                                                   limitResultsByStatus,
-                                                                                   limitResultsByClassification,
-                                                                                   asOfTime,
-                                                                                   sequencingProperty,
-                                                                                   sequencingOrder,
-                                                                                   pageSize);
-
-            accumulator.addEntities(results, metadataCollectionId);
+            super.queryRepository(metadataCollectionId,
+                                  metadataCollection,
+                                  (repository, fromElement, elementCount) -> repository.findEntitiesByProperty(userId,
+                                                                                                               instanceTypeGUID,
+                                                                                                               matchProperties,
+                                                                                                               matchCriteria,
+                                                                                                               fromElement,
+                                                                                                               limitResultsByStatus,
+                                                                                                               limitResultsByClassification,
+                                                                                                               asOfTime,
+                                                                                                               sequencingProperty,
+                                                                                                               sequencingOrder,
+                                                                                                               elementCount));
         }
         catch (InvalidParameterException error)
         {
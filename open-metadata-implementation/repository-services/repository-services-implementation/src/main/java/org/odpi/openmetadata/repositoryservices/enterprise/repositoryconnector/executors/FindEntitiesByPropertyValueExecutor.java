@@ -144,18 +144,22 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindEntitiesByPropertyValueExecutor(userId,
-                                                       instanceTypeGUID,
-                                                       searchCriteria,
-                                                       startingElement,
-                                                       limitResultsByStatus,
-                                                       limitResultsByClassification,
-                                                       asOfTime,
-                                                       sequencingProperty,
-                                                       sequencingOrder,
-                                                       pageSize,
-                                                       accumulator,
-                                                       methodName);
+        FindEntitiesByPropertyValueExecutor clone = new FindEntitiesByPropertyValueExecutor(userId,
+                                                                                            instanceTypeGUID,
+                                                                                            searchCriteria,
+                                                                                            startingElement,
+                                                                                            limitResultsByStatus,
+                                                                                            limitResultsByClassification,
+                                                                                            asOfTime,
+                                                                                            sequencingProperty,
+                                                                                            sequencingOrder,
+                                                                                            pageSize,
+                                                                                            accumulator,
+                                                                                            methodName);
+
+        clone.setCursor(cursor);
+
+        return clone;
     }
 
 
@@ -174,18 +178,18 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
             /*
              * Issue the request
              */
-            List<EntityDetail> results = metadataCollection.findEntitiesByPropertyValue(userId,
-                                                                                        instanceTypeGUID,
-                                                                                        searchCriteria,
-                                                                                        startingElement,
-                                                                                        limitResultsByStatus,
-                                                                                        limitResultsByClassification,
-                                                                                        asOfTime,
-                                                                                        sequencingProperty,
-                                                                                        sequencingOrder,
-                                                                                        pageSize);
-
-            accumulator.addEntities(results, metadataCollectionId);
+            super.queryRepository(metadataCollectionId,
+                                  metadataCollection,
+                                  (repository, fromElement, elementCount) -> repository.findEntitiesByPropertyValue(userId,
+                                                                                                                    instanceTypeGUID,
+                                                                                                                    searchCriteria,
+                                                                                                                    fromElement,
+                                                                                                                    limitResultsByStatus,
+                                                                                                                    limitResultsByClassification,
+                                                                                                                    asOfTime,
+                                                                                                                    sequencingProperty,
+                                                                                                                    sequencingOrder,
+                                                                                                                    elementCount));
         }
         catch (InvalidParameterException error)
         {
@@ -152,19 +152,23 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindEntitiesExecutor(userId,
-                                        instanceTypeGUID,
-                                        instanceSubtypeGUIDs,
-                                        matchProperties,
-                                        startingElement,
-                                        limitResultsByStatus,
-                                        matchClassifications,
-                                        asOfTime,
-                                        sequencingProperty,
-                                        sequencingOrder,
-                                        pageSize,
-                                        accumulator,
-                                        methodName);
+        FindEntitiesExecutor clone = new FindEntitiesExecutor(userId,
+                                                              instanceTypeGUID,
+                                                              instanceSubtypeGUIDs,
+                                                              matchProperties,
+                                                              startingElement,
+                                                              limitResultsByStatus,
+                                                              matchClassifications,
+                                                              asOfTime,
+                                                              sequencingProperty,
+                                                              sequencingOrder,
+                                                              pageSize,
+                                                              accumulator,
+                                                              methodName);
+
+        clone.setCursor(cursor);
+
+        return clone;
     }
 
 
@@ -183,19 +187,19 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
             /*
              * Issue the request
              */
-            List<EntityDetail> results = metadataCollection.findEntities(userId,
-                                                                         instanceTypeGUID,
-                                                                         instanceSubtypeGUIDs,
-                                                                         matchProperties,
-                                                                         startingElement,
-                                                                         limitResultsByStatus,
-                                                                         matchClassifications,
-                                                                         asOfTime,
-                                                                         sequencingProperty,
-                                                                         sequencingOrder,
-                                                                         pageSize);
-
-            accumulator.addEntities(results, metadataCollectionId);
+            super.queryRepository(metadataCollectionId,
+                                  metadataCollection,
+                                  (repository, fromElement, elementCount) -> repository.findEntities(userId,
+                                                                                                     instanceTypeGUID,
+                                                                                                     instanceSubtypeGUIDs,
+                                                                                                     matchProperties,
+                                                                                                     fromElement,
+                                                                                                     limitResultsByStatus,
+                                                                                                     matchClassifications,
+                                                                                                     asOfTime,
+                                                                                                     sequencingProperty,
+                                                                                                     sequencingOrder,
+                                                                                                     elementCount));
         }
         catch (InvalidParameterException error)
         {
@@ -22,7 +22,7 @@ import java.util.List;
  * FindRelationshipsByPropertyExecutor is the executor for the findRelationshipsByProperty request.
  * This request can be issued in parallel - the call to each request potentially running in a different thread.
  */
-public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecutorBase
+public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecutorBase<Relationship>
 {
     private final InstanceProperties matchProperties;
     private final MatchCriteria      matchCriteria;
@@ -154,18 +154,36 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindRelationshipsByPropertyExecutor(userId,
-                                                       instanceTypeGUID,
-                                                       matchProperties,
-                                                       matchCriteria,
-                                                       startingElement,
-                                                       limitResultsByStatus,
-                                                       asOfTime,
-                                                       sequencingProperty,
-                                                       sequencingOrder,
-                                                       pageSize,
-                                                       accumulator,
-                                                       methodName);
+        FindRelationshipsByPropertyExecutor clone = new FindRelationshipsByPropertyExecutor(userId,
+                                                                                            instanceTypeGUID,
+                                                                                            matchProperties,
+                                                                                            matchCriteria,
+                                                                                            startingElement,
+                                                                                            limitResultsByStatus,
+                                                                                            asOfTime,
+                                                                                            sequencingProperty,
+                                                                                            sequencingOrder,
+                                                                                            pageSize,
+                                                                                            accumulator,
+                                                                                            methodName);
+
+        clone.setCursor(cursor);
+
+        return clone;
+    }
+
+
+    /**
+     * Pass the results from a repository to the accumulator.
+     *
+     * @param results results from the repository
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    @Override
+    void addResults(List<Relationship> results,
+                    String             metadataCollectionId)
+    {
+        accumulator.addRelationships(results, metadataCollectionId);
     }
 
 
@@ -184,18 +202,18 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
             /*
              * Issue the request
              */
-            List<Relationship> results = metadataCollection.findRelationshipsByProperty(userId,
-                                                                                        instanceTypeGUID,
-                                                                                        matchProperties,
-                                                                                        matchCriteria,
-                                                                                        startingElement,
-                                                                                        limitResultsByStatus,
-                                                                                        asOfTime,
-                                                                                        sequencingProperty,
-                                                                                        sequencingOrder,
-                                                                                        pageSize);
-
-            accumulator.addRelationships(results, metadataCollectionId);
+            super.queryRepository(metadataCollectionId,
+                                  metadataCollection,
+                                  (repository, fromElement, elementCount) -> repository.findRelationshipsByProperty(userId,
+                                                                                                                    instanceTypeGUID,
+                                                                                                                    matchProperties,
+                                                                                                                    matchCriteria,
+                                                                                                                    fromElement,
+                                                                                                                    limitResultsByStatus,
+                                                                                                                    asOfTime,
+                                                                                                                    sequencingProperty,
+                                                                                                                    sequencingOrder,
+                                                                                                                    elementCount));
         }
         catch (InvalidParameterException error)
         {
@@ -20,7 +20,7 @@ import java.util.List;
  * FindRelationshipsByPropertyValueExecutor is the executor for the findRelationshipsByPropertyValue request.
  * This request can be issued in parallel - the call to each request potentially running in a different thread.
  */
-public class FindRelationshipsByPropertyValueExecutor extends PageableRepositoryExecutorBase
+public class FindRelationshipsByPropertyValueExecutor extends PageableRepositoryExecutorBase<Relationship>
 {
     private final String searchCriteria;
 
@@ -144,17 +144,35 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindRelationshipsByPropertyValueExecutor(userId,
-                                                            instanceTypeGUID,
-                                                            searchCriteria,
-                                                            startingElement,
-                                                            limitResultsByStatus,
-                                                            asOfTime,
-                                                            sequencingProperty,
-                                                            sequencingOrder,
-                                                            pageSize,
-                                                            accumulator,
-                                                            methodName);
+        FindRelationshipsByPropertyValueExecutor clone = new FindRelationshipsByPropertyValueExecutor(userId,
+                                                                                                      instanceTypeGUID,
+                                                                                                      searchCriteria,
+                                                                                                      startingElement,
+                                                                                                      limitResultsByStatus,
+                                                                                                      asOfTime,
+                                                                                                      sequencingProperty,
+                                                                                                      sequencingOrder,
+                                                                                                      pageSize,
+                                                                                                      accumulator,
+                                                                                                      methodName);
+
+        clone.setCursor(cursor);
+
+        return clone;
+    }
+
+
+    /**
+     * Pass the results from a repository to the accumulator.
+     *
+     * @param results results from the repository
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    @Override
+    void addResults(List<Relationship> results,
+                    String             metadataCollectionId)
+    {
+        accumulator.addRelationships(results, metadataCollectionId);
     }
 
 
@@ -173,17 +191,17 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
             /*
              * Issue the request
              */
-            List<Relationship> results = metadataCollection.findRelationshipsByPropertyValue(userId,
-                                                                                             instanceTypeGUID,
-                                                                                             searchCriteria,
-                                                                                             startingElement,
-                                                                                             limitResultsByStatus,
-                                                                                             asOfTime,
-                                                                                             sequencingProperty,
-                                                                                             sequencingOrder,
-                                                                                             pageSize);
-
-            accumulator.addRelationships(results, metadataCollectionId);
+            super.queryRepository(metadataCollectionId,
+                                  metadataCollection,
+                                  (repository, fromElement, elementCount) -> repository.findRelationshipsByPropertyValue(userId,
+                                                                                                                         instanceTypeGUID,
+                                                                                                                         searchCriteria,
+                                                                                                                         fromElement,
+                                                                                                                         limitResultsByStatus,
+                                                                                                                         asOfTime,
+                                                                                                                         sequencingProperty,
+                                                                                                                         sequencingOrder,
+                                                                                                                         elementCount));
         }
         catch (InvalidParameterException error)
         {
@@ -21,7 +21,7 @@ import java.util.List;
  * FindRelationshipsExecutor is the executor for the findRelationships request.
  * This request can be issued in parallel - the call to each request potentially running in a different thread.
  */
-public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
+public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase<Relationship>
 {
     private final SearchProperties matchProperties;
     private final List<String>     instanceSubtypeGUIDs;
@@ -152,18 +152,36 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindRelationshipsExecutor(userId,
-                                             instanceTypeGUID,
-                                             instanceSubtypeGUIDs,
-                                             matchProperties,
-                                             startingElement,
-                                             limitResultsByStatus,
-                                             asOfTime,
-                                             sequencingProperty,
-                                             sequencingOrder,
-                                             pageSize,
-                                             accumulator,
-                                             methodName);
+        FindRelationshipsExecutor clone = new FindRelationshipsExecutor(userId,
+                                                                        instanceTypeGUID,
+                                                                        instanceSubtypeGUIDs,
+                                                                        matchProperties,
+                                                                        startingElement,
+                                                                        limitResultsByStatus,
+                                                                        asOfTime,
+                                                                        sequencingProperty,
+                                                                        sequencingOrder,
+                                                                        pageSize,
+                                                                        accumulator,
+                                                                        methodName);
+
+        clone.setCursor(cursor);
+
+        return clone;
+    }
+
+
+    /**
+     * Pass the results from a repository to the accumulator.
+     *
+     * @param results results from the repository
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    @Override
+    void addResults(List<Relationship> results,
+                    String             metadataCollectionId)
+    {
+        accumulator.addRelationships(results, metadataCollectionId);
     }
 
 
@@ -182,18 +200,18 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
             /*
              * Issue the request
              */
-            List<Relationship> results = metadataCollection.findRelationships(userId,
-                                                                              instanceTypeGUID,
-                                                                              instanceSubtypeGUIDs,
-                                                                              matchProperties,
-                                                                              startingElement,
-                                                                              limitResultsByStatus,
-                                                                              asOfTime,
-                                                                              sequencingProperty,
-                                                                              sequencingOrder,
-                                                                              pageSize);
-
-            accumulator.addRelationships(results, metadataCollectionId);
+            super.queryRepository(metadataCollectionId,
+                                  metadataCollection,
+                                  (repository, fromElement, elementCount) -> repository.findRelationships(userId,
+                                                                                                          instanceTypeGUID,
+                                                                                                          instanceSubtypeGUIDs,
+                                                                                                          matchProperties,
+                                                                                                          fromElement,
+                                                                                                          limitResultsByStatus,
+                                                                                                          asOfTime,
+                                                                                                          sequencingProperty,
+                                                                                                          sequencingOrder,
+                                                                                                          elementCount));
         }
         catch (InvalidParameterException error)
         {
@@ -20,7 +20,7 @@ import java.util.List;
  * GetRelationshipsForEntityExecutor is the executor for the getRelationshipsForEntity request.
  * This request can be issued in parallel - the call to each request potentially running in a different thread.
  */
-public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecutorBase
+public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecutorBase<Relationship>
 {
     private final String                   entityGUID;
     private final RelationshipsAccumulator accumulator;
@@ -139,17 +139,35 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new GetRelationshipsForEntityExecutor(userId,
-                                                     entityGUID,
-                                                     instanceTypeGUID,
-                                                     startingElement,
-                                                     limitResultsByStatus,
-                                                     asOfTime,
-                                                     sequencingProperty,
-                                                     sequencingOrder,
-                                                     pageSize,
-                                                     accumulator,
-                                                     methodName);
+        GetRelationshipsForEntityExecutor clone = new GetRelationshipsForEntityExecutor(userId,
+                                                                                        entityGUID,
+                                                                                        instanceTypeGUID,
+                                                                                        startingElement,
+                                                                                        limitResultsByStatus,
+                                                                                        asOfTime,
+                                                                                        sequencingProperty,
+                                                                                        sequencingOrder,
+                                                                                        pageSize,
+                                                                                        accumulator,
+                                                                                        methodName);
+
+        clone.setCursor(cursor);
+
+        return clone;
+    }
+
+
+    /**
+     * Pass the results from a repository to the accumulator.
+     *
+     * @param results results from the repository
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    @Override
+    void addResults(List<Relationship> results,
+                    String             metadataCollectionId)
+    {
+        accumulator.addRelationships(results, metadataCollectionId);
     }
 
 
@@ -168,17 +186,17 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
             /*
              * Issue the request
              */
-            List<Relationship> results = metadataCollection.getRelationshipsForEntity(userId,
-                                                                                      entityGUID,
-                                                                                      instanceTypeGUID,
-                                                                                      startingElement,
-                                                                                      limitResultsByStatus,
-                                                                                      asOfTime,
-                                                                                      sequencingProperty,
-                                                                                      sequencingOrder,
-                                                                                      pageSize);
-
-            accumulator.addRelationships(results, metadataCollectionId);
+            super.queryRepository(metadataCollectionId,
+                                  metadataCollection,
+                                  (repository, fromElement, elementCount) -> repository.getRelationshipsForEntity(userId,
+                                                                                                                  entityGUID,
+                                                                                                                  instanceTypeGUID,
+                                                                                                                  fromElement,
+                                                                                                                  limitResultsByStatus,
+                                                                                                                  asOfTime,
+                                                                                                                  sequencingProperty,
+                                                                                                                  sequencingOrder,
+                                                                                                                  elementCount));
         }
         catch (InvalidParameterException error)
         {
@@ -25,7 +25,7 @@ import java.util.List;
  * second phase of retrieving a list of entities where repositories that have not returned an entity instance are called to see if they have
  * disconnected home classifications to add to these entities.
  */
-public abstract class PageableEntityRepositoryExecutorBase extends PageableRepositoryExecutorBase
+public abstract class PageableEntityRepositoryExecutorBase extends PageableRepositoryExecutorBase<EntityDetail>
 {
     EntitiesAccumulator accumulator;
 
@@ -84,10 +84,26 @@ public abstract class PageableEntityRepositoryExecutorBase extends PageableRepos
     @Override
     public List<String> getResultsForAugmentation()
     {
+        mergeCursorPage();
+
         return accumulator.getResultsForAugmentation();
     }
 
 
+    /**
+     * Pass the results from a repository to the accumulator.
+     *
+     * @param results results from the repository
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    @Override
+    void addResults(List<EntityDetail> results,
+                    String             metadataCollectionId)
+    {
+        accumulator.addEntities(results, metadataCollectionId);
+    }
+
+
     /**
      * Perform the required action to augment a result.
      *
@@ -3,22 +3,32 @@
 package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
 
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.QueryInstanceAccumulatorBase;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.paging.FederatedQueryCursor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
 import java.util.List;
 
 /**
- * CloneableRepositoryExecutorBase provides a base class for executors that can be cloned and run in
- * parallel so the call to each repository runs in a different thread.
+ * PageableRepositoryExecutorBase provides a base class for executors that return a page of instances.
+ * If a cursor is supplied, each repository is asked only for the results that it has not already supplied on
+ * earlier pages and the page is merged from the results of all the repositories before it is passed to
+ * the accumulator.
+ *
+ * @param <T> type of instance returned by the request
  */
-abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecutorBase
+abstract class PageableRepositoryExecutorBase<T extends InstanceHeader> extends CloneableRepositoryExecutorBase
 {
     private final QueryInstanceAccumulatorBase queryInstanceAccumulator;
 
+    FederatedQueryCursor<T> cursor     = null;
+    private boolean         pageMerged = false;
+
     int  startingElement;
     int  pageSize;
 
@@ -101,4 +111,124 @@ abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecuto
         queryInstanceAccumulator.throwCapturedTypeErrorException();
         queryInstanceAccumulator.throwCapturedPagingErrorException();
     }
+
+
+    /**
+     * Set up the cursor that tracks the position of each repository in the results of this query.
+     *
+     * @param cursor cursor for the page requested
+     */
+    public void setCursor(FederatedQueryCursor<T> cursor)
+    {
+        this.cursor = cursor;
+    }
+
+
+    /**
+     * Issue the query to a repository.  Without a cursor, the requested page is retrieved from the repository and
+     * passed straight to the accumulator.  With a cursor, the results are held by the cursor until all the
+     * repositories have been called.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @param query request to issue to the repository
+     * @throws Exception error from the repository
+     */
+    void queryRepository(String                                  metadataCollectionId,
+                         OMRSMetadataCollection                  metadataCollection,
+                         FederatedQueryCursor.RepositoryQuery<T> query) throws Exception
+    {
+        if (cursor == null)
+        {
+            addResults(query.getResults(metadataCollection, startingElement, pageSize), metadataCollectionId);
+        }
+        else
+        {
+            cursor.fetchResults(metadataCollectionId, metadataCollection, query);
+        }
+    }
+
+
+    /**
+     * Pass the results from a repository to the accumulator.
+     *
+     * @param results results from the repository
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     */
+    abstract void addResults(List<T> results,
+                             String  metadataCollectionId);
+
+
+    /**
+     * Once all the repositories have been called, merge the page from the results held by the cursor
+     * and pass it to the accumulator.  This is called before any augmentation of the results so only
+     * the results in the page are augmented.
+     */
+    void mergeCursorPage()
+    {
+        if ((cursor != null) && (! pageMerged))
+        {
+            pageMerged = true;
+            cursor.mergePage(this::addResults, this::captureCursorException);
+        }
+    }
+
+
+    /**
+     * Save an exception from a repository that was asked for more results while the page was merged.  It is
+     * captured in the accumulator in the same way as an exception from the first request to the repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param error exception from the repository
+     */
+    private void captureCursorException(String    metadataCollectionId,
+                                        Exception error)
+    {
+        if (error instanceof InvalidParameterException invalidParameterException)
+        {
+            queryInstanceAccumulator.captureException(metadataCollectionId, invalidParameterException);
+        }
+        else if (error instanceof FunctionNotSupportedException functionNotSupportedException)
+        {
+            queryInstanceAccumulator.captureException(metadataCollectionId, functionNotSupportedException);
+        }
+        else if (error instanceof TypeErrorException typeErrorException)
+        {
+            queryInstanceAccumulator.captureException(metadataCollectionId, typeErrorException);
+        }
+        else if (error instanceof PropertyErrorException propertyErrorException)
+        {
+            queryInstanceAccumulator.captureException(metadataCollectionId, propertyErrorException);
+        }
+        else if (error instanceof PagingErrorException pagingErrorException)
+        {
+            queryInstanceAccumulator.captureException(metadataCollectionId, pagingErrorException);
+        }
+        else if (error instanceof RepositoryErrorException repositoryErrorException)
+        {
+            queryInstanceAccumulator.captureException(metadataCollectionId, repositoryErrorException);
+        }
+        else if (error instanceof UserNotAuthorizedException userNotAuthorizedException)
+        {
+            queryInstanceAccumulator.captureException(metadataCollectionId, userNotAuthorizedException);
+        }
+        else
+        {
+            queryInstanceAccumulator.captureGenericException(methodName, metadataCollectionId, error);
+        }
+    }
+
+
+    /**
+     * All repositories have been called.  Merge the page of results if a cursor is in use.
+     *
+     * @return null because no augmentation of results is required
+     */
+    @Override
+    public List<String> getResultsForAugmentation()
+    {
+        mergeCursorPage();
+
+        return null;
+    }
 }
@@ -0,0 +1,514 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.paging;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * FederatedQueryCursor remembers how far a paged federated query has read through the results of each member of
+ * the cohort.  Without it, every page of a federated query asks every repository for the same startingElement and
+ * pageSize, which skips or repeats results once the pages are merged.  With it, each repository is asked only for
+ * the results it has not yet supplied and the results from all the repositories are merged in the requested
+ * sequencing order before the page is cut.
+ * <p>
+ * A cursor is used by one request at a time.  Between requests it is held in the FederatedQueryCursorCache
+ * under the query and the position of the next page.  A cursor where a repository failed part way through a page
+ * is not kept, so the next page starts again with a new cursor.
+ *
+ * @param <T> type of instance returned by the query
+ */
+public class FederatedQueryCursor<T extends InstanceHeader>
+{
+    /*
+     * The largest number of results requested from a repository in a single call.
+     */
+    private static final int MAX_FETCH_SIZE = 1000;
+
+    /*
+     * The number of GUIDs remembered to skip copies of an instance returned on an earlier page.  Copies of an
+     * instance from different repositories are next to each other in the merged results of an ordered query,
+     * so only the most recent GUIDs are needed.
+     */
+    private static final int MAX_RETURNED_GUIDS = 10000;
+
+    private final FederatedQueryKey              queryKey;
+    private final Comparator<T>                  comparator;
+    private final Map<String, MemberPosition<T>> members       = new LinkedHashMap<>();
+    private final Set<String>                    returnedGUIDs = Collections.newSetFromMap(new LinkedHashMap<>()
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest)
+        {
+            return size() > MAX_RETURNED_GUIDS;
+        }
+    });
+
+    private int     position     = 0;
+    private int     pageStart    = 0;
+    private int     pageSize     = 0;
+    private boolean failed       = false;
+    private long    lastUsedTime = System.currentTimeMillis();
+
+
+    /**
+     * Retrieves a range of results from one repository.
+     *
+     * @param <T> type of instance returned by the query
+     */
+    @FunctionalInterface
+    public interface RepositoryQuery<T>
+    {
+        /**
+         * Issue the query to a repository.
+         *
+         * @param metadataCollection metadata collection for the repository
+         * @param fromElement starting element of the results from this repository
+         * @param pageSize maximum number of results to return
+         * @return list of results or null if there are no more results
+         * @throws Exception error from the repository
+         */
+        List<T> getResults(OMRSMetadataCollection metadataCollection,
+                           int                    fromElement,
+                           int                    pageSize) throws Exception;
+    }
+
+
+    /**
+     * Create a cursor for a new query.
+     *
+     * @param queryKey identity of the query - the method name, user and all the query parameters except paging
+     * @param comparator ordering of the results
+     */
+    public FederatedQueryCursor(FederatedQueryKey queryKey,
+                                Comparator<T>     comparator)
+    {
+        this.queryKey   = queryKey;
+        this.comparator = comparator;
+    }
+
+
+    /**
+     * Return the comparator that orders results in the same way as the repositories are asked to order them.
+     *
+     * @param sequencingProperty property used for ordering (optional)
+     * @param sequencingOrder ordering of results
+     * @param propertiesGetter function returning the properties of an instance
+     * @param <T> type of instance returned by the query
+     * @return comparator
+     */
+    public static <T extends InstanceHeader> Comparator<T> getComparator(String                          sequencingProperty,
+                                                                         SequencingOrder                 sequencingOrder,
+                                                                         Function<T, InstanceProperties> propertiesGetter)
+    {
+        if ((sequencingOrder == null) || (sequencingOrder == SequencingOrder.ANY))
+        {
+            return (one, two) -> 0;
+        }
+
+        if ((sequencingOrder == SequencingOrder.PROPERTY_ASCENDING) || (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING))
+        {
+            return (one, two) -> OMRSRepositoryContentHelper.compareProperties(propertiesGetter.apply(one),
+                                                                               propertiesGetter.apply(two),
+                                                                               sequencingProperty,
+                                                                               sequencingOrder);
+        }
+
+        return (one, two) -> OMRSRepositoryContentHelper.compareInstances(one, two, sequencingOrder);
+    }
+
+
+    /**
+     * Return the identity of the query.
+     *
+     * @return query key
+     */
+    public FederatedQueryKey getQueryKey()
+    {
+        return queryKey;
+    }
+
+
+    /**
+     * Return the position in the merged results of the next page.
+     *
+     * @return element number
+     */
+    public synchronized int getPosition()
+    {
+        return position;
+    }
+
+
+    /**
+     * Return the time this cursor was last used.
+     *
+     * @return milliseconds since the epoch
+     */
+    public synchronized long getLastUsedTime()
+    {
+        return lastUsedTime;
+    }
+
+
+    /**
+     * Return whether a repository failed while the last page was merged.  The cursor no longer knows where that
+     * repository's results should continue from.
+     *
+     * @return boolean
+     */
+    public synchronized boolean hasFailed()
+    {
+        return failed;
+    }
+
+
+    /**
+     * Return whether all the repositories have returned all of their results.
+     *
+     * @return boolean
+     */
+    public synchronized boolean isExhausted()
+    {
+        for (MemberPosition<T> member : members.values())
+        {
+            if ((! member.exhausted) || (! member.buffer.isEmpty()))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Prepare for the next page.  If the cursor has not yet reached the starting element (a new cursor
+     * for a page after the first) the intervening results are merged and discarded.
+     *
+     * @param startingElement starting element of the page in the merged results
+     * @param pageSize maximum number of results in the page
+     */
+    public synchronized void startPage(int startingElement,
+                                       int pageSize)
+    {
+        this.pageStart    = Math.max(startingElement, position);
+        this.pageSize     = pageSize;
+        this.lastUsedTime = System.currentTimeMillis();
+
+        for (MemberPosition<T> member : members.values())
+        {
+            member.metadataCollection = null;
+            member.query              = null;
+        }
+    }
+
+
+    /**
+     * Retrieve the results from a repository that are needed for the current page.  Nothing is requested if
+     * the repository has no more results or the results it has already supplied are enough to fill the page.
+     * A repository that was not part of the cohort when the cursor was created is not asked.
+     *
+     * @param metadataCollectionId unique identifier of the repository's metadata collection
+     * @param metadataCollection metadata collection for the repository
+     * @param query request to issue to the repository
+     * @throws Exception error from the repository
+     */
+    public void fetchResults(String                 metadataCollectionId,
+                             OMRSMetadataCollection metadataCollection,
+                             RepositoryQuery<T>     query) throws Exception
+    {
+        MemberPosition<T> member;
+        int               fromElement;
+        int               fetchSize;
+
+        synchronized (this)
+        {
+            member = members.get(metadataCollectionId);
+
+            if (member == null)
+            {
+                if (position > 0)
+                {
+                    return;
+                }
+
+                member = new MemberPosition<>();
+                members.put(metadataCollectionId, member);
+            }
+
+            if (member.exhausted)
+            {
+                member.metadataCollection = metadataCollection;
+                member.query              = query;
+                return;
+            }
+
+            fromElement = member.nextElement;
+            fetchSize   = Math.min(pageStart - position + pageSize - member.buffer.size(), Math.max(pageSize, MAX_FETCH_SIZE));
+        }
+
+        List<T> results = null;
+
+        if (fetchSize > 0)
+        {
+            results = query.getResults(metadataCollection, fromElement, fetchSize);
+        }
+
+        synchronized (this)
+        {
+            if (fetchSize > 0)
+            {
+                member.saveResults(results, fetchSize);
+            }
+
+            member.metadataCollection = metadataCollection;
+            member.query              = query;
+        }
+    }
+
+
+    /**
+     * Merge the results from the repositories that responded to this request and pass the results for the page to
+     * the consumer in order.  Results already returned on an earlier page are skipped.  If a repository runs out of
+     * buffered results part way through the merge, more results are requested from it.  The cursor is not locked while
+     * the repository is called.  An error from the repository ends its results for this page and is passed to the
+     * error handler once the page is complete.
+     *
+     * @param consumer receives each result (as a single element list) along with the metadata collection id of the
+     *                 repository that supplied it.  Repositories that supplied nothing for the page receive an empty list.
+     * @param errorHandler receives the metadata collection id and exception of each repository that failed
+     */
+    public void mergePage(BiConsumer<List<T>, String>   consumer,
+                          BiConsumer<String, Exception> errorHandler)
+    {
+        Set<String>            pageGUIDs   = new HashSet<>();
+        List<T>                pageResults = new ArrayList<>();
+        List<String>           pageSources = new ArrayList<>();
+        Map<String, Exception> errors      = new LinkedHashMap<>();
+
+        String memberToRefill = this.mergeBufferedResults(pageGUIDs, pageResults, pageSources);
+
+        while (memberToRefill != null)
+        {
+            this.refillBuffer(memberToRefill, errors);
+
+            memberToRefill = this.mergeBufferedResults(pageGUIDs, pageResults, pageSources);
+        }
+
+        List<String> respondingMembers = new ArrayList<>();
+
+        synchronized (this)
+        {
+            for (Map.Entry<String, MemberPosition<T>> entry : members.entrySet())
+            {
+                if (entry.getValue().query != null)
+                {
+                    respondingMembers.add(entry.getKey());
+                }
+            }
+
+            lastUsedTime = System.currentTimeMillis();
+        }
+
+        for (int i = 0; i < pageResults.size(); i++)
+        {
+            consumer.accept(List.of(pageResults.get(i)), pageSources.get(i));
+        }
+
+        for (String memberId : respondingMembers)
+        {
+            if (! pageSources.contains(memberId))
+            {
+                consumer.accept(new ArrayList<>(), memberId);
+            }
+        }
+
+        for (Map.Entry<String, Exception> error : errors.entrySet())
+        {
+            errorHandler.accept(error.getKey(), error.getValue());
+        }
+    }
+
+
+    /**
+     * Merge the buffered results into the page until the page is full, all the repositories have run out of results,
+     * or a repository that may have more results has nothing buffered.
+     *
+     * @param pageGUIDs unique identifiers of the instances in the page
+     * @param pageResults results in the page
+     * @param pageSources metadata collection ids of the repositories that supplied each result
+     * @return metadata collection id of the repository that needs more results buffered, or null if the merge is complete
+     */
+    private synchronized String mergeBufferedResults(Set<String>  pageGUIDs,
+                                                     List<T>      pageResults,
+                                                     List<String> pageSources)
+    {
+        while (position < pageStart + pageSize)
+        {
+            String            headMemberId = null;
+            MemberPosition<T> headMember   = null;
+
+            for (Map.Entry<String, MemberPosition<T>> entry : members.entrySet())
+            {
+                MemberPosition<T> member = entry.getValue();
+
+                if (member.query != null)
+                {
+                    if (member.buffer.isEmpty())
+                    {
+                        if (! member.exhausted)
+                        {
+                            return entry.getKey();
+                        }
+                    }
+                    else if ((headMember == null) || (comparator.compare(member.buffer.peekFirst(), headMember.buffer.peekFirst()) < 0))
+                    {
+                        headMemberId = entry.getKey();
+                        headMember   = member;
+                    }
+                }
+            }
+
+            if (headMember == null)
+            {
+                break;
+            }
+
+            T      result = headMember.buffer.pollFirst();
+            String guid   = result.getGUID();
+
+            if (pageGUIDs.contains(guid))
+            {
+                /*
+                 * Another copy of an instance already in this page - the accumulator picks the best version.
+                 */
+                pageResults.add(result);
+                pageSources.add(headMemberId);
+            }
+            else if (! returnedGUIDs.contains(guid))
+            {
+                returnedGUIDs.add(guid);
+
+                if (position >= pageStart)
+                {
+                    pageGUIDs.add(guid);
+                    pageResults.add(result);
+                    pageSources.add(headMemberId);
+                }
+
+                position++;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Request more results from a repository that has run out of buffered results.  The cursor is only locked while
+     * the request is set up and the results are saved.  An error from the repository is saved for the error handler
+     * and the repository is treated as having no more results.  The cursor is marked as failed so that it is not
+     * used for the next page.
+     *
+     * @param memberId metadata collection id of the repository
+     * @param errors map of metadata collection id to the exception from the repository
+     */
+    private void refillBuffer(String                 memberId,
+                              Map<String, Exception> errors)
+    {
+        MemberPosition<T>      member;
+        OMRSMetadataCollection metadataCollection;
+        RepositoryQuery<T>     query;
+        int                    fromElement;
+        int                    fetchSize;
+
+        synchronized (this)
+        {
+            member             = members.get(memberId);
+            metadataCollection = member.metadataCollection;
+            query              = member.query;
+            fromElement        = member.nextElement;
+            fetchSize          = Math.min(Math.max(pageStart + pageSize - position, 1), Math.max(pageSize, MAX_FETCH_SIZE));
+        }
+
+        try
+        {
+            List<T> results = query.getResults(metadataCollection, fromElement, fetchSize);
+
+            synchronized (this)
+            {
+                member.saveResults(results, fetchSize);
+            }
+        }
+        catch (Exception error)
+        {
+            synchronized (this)
+            {
+                member.exhausted = true;
+                failed           = true;
+            }
+
+            errors.put(memberId, error);
+        }
+    }
+
+
+    /**
+     * The position of the cursor in the results from one repository.
+     *
+     * @param <T> type of instance returned by the query
+     */
+    private static class MemberPosition<T>
+    {
+        private final Deque<T>         buffer             = new ArrayDeque<>();
+        private int                    nextElement        = 0;
+        private boolean                exhausted          = false;
+        private OMRSMetadataCollection metadataCollection = null;
+        private RepositoryQuery<T>     query              = null;
+
+
+        /**
+         * Add the results returned by the repository to the buffer.
+         *
+         * @param results results from the repository
+         * @param fetchSize number of results requested
+         */
+        private void saveResults(List<T> results,
+                                 int     fetchSize)
+        {
+            if (results == null)
+            {
+                exhausted = true;
+                return;
+            }
+
+            for (T result : results)
+            {
+                if (result != null)
+                {
+                    buffer.addLast(result);
+                }
+            }
+
+            nextElement += results.size();
+            exhausted = results.size() < fetchSize;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.paging;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FederatedQueryCursorCache holds the cursors of the paged federated queries that are in progress.  A cursor is
+ * stored under its query and the position of the next page, so a request for that page carries on from where the
+ * previous page finished.  A request for any other page starts a new cursor.  The least recently used cursors are
+ * removed when the cache is full, and cursors that have not been used for a while are discarded.
+ * The cache key is built from the FederatedQueryKey, which compares the query parameters by value, and the position.
+ */
+public class FederatedQueryCursorCache
+{
+    private static final int  DEFAULT_MAX_CURSORS  = 100;
+    private static final long DEFAULT_TIME_TO_LIVE = 5 * 60 * 1000;
+
+    private final long                                   timeToLive;
+    private final Map<CursorKey, FederatedQueryCursor<?>> cursors;
+
+
+    /**
+     * Create a cache with the default size and time to live.
+     */
+    public FederatedQueryCursorCache()
+    {
+        this(DEFAULT_MAX_CURSORS, DEFAULT_TIME_TO_LIVE);
+    }
+
+
+    /**
+     * Create a cache.
+     *
+     * @param maxCursors maximum number of cursors held
+     * @param timeToLive milliseconds a cursor may be unused before it is discarded
+     */
+    public FederatedQueryCursorCache(int  maxCursors,
+                                     long timeToLive)
+    {
+        this.timeToLive = timeToLive;
+        this.cursors    = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CursorKey, FederatedQueryCursor<?>> eldest)
+            {
+                return size() > maxCursors;
+            }
+        };
+    }
+
+
+    /**
+     * Return the cursor to use for a page of a query.  The cursor is removed from the cache while it is in use
+     * so that it is not used by two requests at once.
+     *
+     * @param queryKey identity of the query
+     * @param startingElement starting element of the page in the merged results
+     * @param pageSize maximum number of results in the page
+     * @param comparator ordering of the results - used if a new cursor is needed
+     * @param <T> type of instance returned by the query
+     * @return cursor ready for the page
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends InstanceHeader> FederatedQueryCursor<T> getCursor(FederatedQueryKey queryKey,
+                                                                        int               startingElement,
+                                                                        int               pageSize,
+                                                                        Comparator<T>     comparator)
+    {
+        FederatedQueryCursor<T> cursor;
+
+        synchronized (cursors)
+        {
+            cursor = (FederatedQueryCursor<T>) cursors.remove(new CursorKey(queryKey, startingElement));
+        }
+
+        if ((cursor == null) || (System.currentTimeMillis() - cursor.getLastUsedTime() > timeToLive))
+        {
+            cursor = new FederatedQueryCursor<>(queryKey, comparator);
+        }
+
+        cursor.startPage(startingElement, pageSize);
+
+        return cursor;
+    }
+
+
+    /**
+     * Return a cursor to the cache once its page is complete.  Cursors with no more results, or where a repository
+     * failed during the page, are not kept.
+     *
+     * @param cursor cursor to save
+     */
+    public void saveCursor(FederatedQueryCursor<?> cursor)
+    {
+        if ((cursor != null) && (! cursor.isExhausted()) && (! cursor.hasFailed()))
+        {
+            synchronized (cursors)
+            {
+                cursors.values().removeIf(cachedCursor -> System.currentTimeMillis() - cachedCursor.getLastUsedTime() > timeToLive);
+                cursors.put(new CursorKey(cursor.getQueryKey(), cursor.getPosition()), cursor);
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of cursors in the cache.
+     *
+     * @return count
+     */
+    public int getCursorCount()
+    {
+        synchronized (cursors)
+        {
+            return cursors.size();
+        }
+    }
+
+
+    /**
+     * The key of a cursor in the cache: the query and the position of the next page.
+     *
+     * @param queryKey identity of the query
+     * @param position position of the next page
+     */
+    private record CursorKey(FederatedQueryKey queryKey,
+                             int               position)
+    {
+    }
+}
@@ -0,0 +1,107 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.paging;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * FederatedQueryKey identifies a federated query independently of the page requested.  Two keys are equal when
+ * they are for the same method and have equal values for each of the query parameters.  The parameters are compared
+ * with their equals methods, so the OMRS beans used as match properties and criteria are compared field by field.
+ */
+public class FederatedQueryKey
+{
+    private final String          methodName;
+    private final String          sequencingProperty;
+    private final SequencingOrder sequencingOrder;
+    private final List<Object>    queryParameters;
+
+
+    /**
+     * Create the key for a query.
+     *
+     * @param methodName name of the query method
+     * @param sequencingProperty property used for ordering (optional)
+     * @param sequencingOrder ordering of results
+     * @param queryParameters the other parameters of the query, except paging, in the order they are passed
+     */
+    public FederatedQueryKey(String          methodName,
+                             String          sequencingProperty,
+                             SequencingOrder sequencingOrder,
+                             Object...       queryParameters)
+    {
+        this.methodName         = methodName;
+        this.sequencingProperty = sequencingProperty;
+        this.sequencingOrder    = sequencingOrder;
+        this.queryParameters    = Arrays.asList(queryParameters.clone());
+    }
+
+
+    /**
+     * Return the name of the query method.
+     *
+     * @return method name
+     */
+    public String getMethodName()
+    {
+        return methodName;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "FederatedQueryKey{" +
+                "methodName='" + methodName + '\'' +
+                ", sequencingProperty='" + sequencingProperty + '\'' +
+                ", sequencingOrder=" + sequencingOrder +
+                ", queryParameters=" + queryParameters +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        FederatedQueryKey that = (FederatedQueryKey) objectToCompare;
+        return Objects.equals(methodName, that.methodName) &&
+                Objects.equals(sequencingProperty, that.sequencingProperty) &&
+                sequencingOrder == that.sequencingOrder &&
+                Objects.equals(queryParameters, that.queryParameters);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(methodName, sequencingProperty, sequencingOrder, queryParameters);
+    }
+}
@@ -0,0 +1,9 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+/**
+ * The paging classes keep track of paged federated queries.  A cursor records how far each member of the cohort
+ * has been read, so each page of results is merged from the members in the requested order and continues from
+ * where the previous page finished.
+ */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.paging;
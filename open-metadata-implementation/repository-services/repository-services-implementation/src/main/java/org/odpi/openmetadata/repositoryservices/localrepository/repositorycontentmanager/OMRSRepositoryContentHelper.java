@@ -2566,9 +2566,9 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
      * @param sequencingOrder nominated non-property sort order
      * @return sort result
      */
-    private static int  compareInstances(InstanceHeader  one,
-                                         InstanceHeader  two,
-                                         SequencingOrder sequencingOrder)
+    public static int  compareInstances(InstanceHeader  one,
+                                        InstanceHeader  two,
+                                        SequencingOrder sequencingOrder)
     {
 
         int sortResult;
@@ -2685,10 +2685,10 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
      * @param sequencingOrder ascending or descending order
      * @return sort result
      */
-    private static int  compareProperties(InstanceProperties     instance1Properties,
-                                          InstanceProperties     instance2Properties,
-                                          String                 propertyName,
-                                          SequencingOrder        sequencingOrder)
+    public static int  compareProperties(InstanceProperties     instance1Properties,
+                                         InstanceProperties     instance2Properties,
+                                         String                 propertyName,
+                                         SequencingOrder        sequencingOrder)
     {
 
         // todo need to add support for properties in the instance header eg createdBy
@@ -0,0 +1,261 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.paging;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that FederatedQueryCursor merges the results of several repositories into consecutive pages.
+ */
+public class FederatedQueryCursorTest
+{
+    private static final FederatedQueryKey QUERY_KEY = new FederatedQueryKey("findEntities", null, SequencingOrder.GUID, "testUser");
+
+
+    /**
+     * Paging through the cursor cache returns every instance once, in order, and each repository is only asked
+     * for the results it has not already supplied.
+     *
+     * @throws Exception problem in test
+     */
+    @Test
+    public void testPagesAreConsecutive() throws Exception
+    {
+        FederatedQueryCursorCache cache       = new FederatedQueryCursorCache();
+        TestRepository            repository1 = new TestRepository("a", "c", "d", "g", "h");
+        TestRepository            repository2 = new TestRepository("b", "c", "e", "f");
+        List<String>              allResults  = new ArrayList<>();
+        List<String>              page        = null;
+
+        for (int startingElement = 0; (page == null) || (page.size() == 3); startingElement = startingElement + 3)
+        {
+            FederatedQueryCursor<EntityDetail> cursor = cache.getCursor(QUERY_KEY, startingElement, 3, getComparator());
+
+            cursor.fetchResults("repository1", null, repository1);
+            cursor.fetchResults("repository2", null, repository2);
+
+            page = getPage(cursor);
+
+            assertTrue(page.size() <= 3, page.toString());
+            allResults.addAll(page);
+
+            cache.saveCursor(cursor);
+        }
+
+        assertEquals(allResults, List.of("a", "b", "c", "d", "e", "f", "g", "h"));
+        assertEquals(repository1.elementsReturned, 5);
+        assertEquals(repository2.elementsReturned, 4);
+        assertEquals(cache.getCursorCount(), 0);
+    }
+
+
+    /**
+     * A request for a page that does not follow a cached cursor starts a new cursor that skips the earlier results.
+     *
+     * @throws Exception problem in test
+     */
+    @Test
+    public void testPageWithoutCursor() throws Exception
+    {
+        FederatedQueryCursorCache          cache  = new FederatedQueryCursorCache();
+        FederatedQueryCursor<EntityDetail> cursor = cache.getCursor(QUERY_KEY, 4, 2, getComparator());
+
+        cursor.fetchResults("repository1", null, new TestRepository("a", "c", "d", "g", "h"));
+        cursor.fetchResults("repository2", null, new TestRepository("b", "c", "e", "f"));
+
+        assertEquals(getPage(cursor), List.of("e", "f"));
+    }
+
+
+    /**
+     * A repository that fails while the page is merged is reported to the error handler, the rest of the page comes
+     * from the other repositories and the cursor is not kept for the next page.  The repositories hold copies of the
+     * same instances, so the second page needs more results from the second repository part way through the merge.
+     * The cursor must not be locked while the repository is called.
+     *
+     * @throws Exception problem in test
+     */
+    @Test
+    public void testRepositoryFailsDuringMerge() throws Exception
+    {
+        FederatedQueryCursorCache          cache       = new FederatedQueryCursorCache();
+        TestRepository                     repository1 = new TestRepository("a", "b", "c", "d", "e");
+        TestRepository                     repository2 = new TestRepository("a", "b", "c", "d", "e");
+        FederatedQueryCursor<EntityDetail> cursor      = cache.getCursor(QUERY_KEY, 0, 2, getComparator());
+
+        cursor.fetchResults("repository1", null, repository1);
+        cursor.fetchResults("repository2", null, repository2);
+
+        assertEquals(getPage(cursor), List.of("a", "a", "b"));
+
+        cache.saveCursor(cursor);
+
+        cursor = cache.getCursor(QUERY_KEY, 2, 2, getComparator());
+
+        cursor.fetchResults("repository1", null, repository1);
+        cursor.fetchResults("repository2", null, repository2);
+
+        repository2.cursor  = cursor;
+        repository2.failure = new RepositoryErrorException(OMRSErrorCode.NULL_ENTERPRISE_METADATA_COLLECTION.getMessageDefinition(),
+                                                           this.getClass().getName(),
+                                                           "testRepositoryFailsDuringMerge");
+
+        List<String>           page   = new ArrayList<>();
+        Map<String, Exception> errors = new HashMap<>();
+
+        cursor.mergePage((results, metadataCollectionId) -> results.forEach(entity -> page.add(entity.getGUID())), errors::put);
+
+        assertEquals(page, List.of("c", "c", "d"));
+        assertEquals(errors.keySet(), Set.of("repository2"));
+        assertTrue(errors.get("repository2") instanceof RepositoryErrorException);
+        assertTrue(cursor.hasFailed());
+
+        cache.saveCursor(cursor);
+
+        assertEquals(cache.getCursorCount(), 0);
+    }
+
+
+    /**
+     * Queries with equal parameters share a key, even when the parameters are different objects.
+     */
+    @Test
+    public void testQueryKey()
+    {
+        Date asOfTime = new Date();
+
+        FederatedQueryKey key1 = new FederatedQueryKey("findEntitiesByProperty", "name", SequencingOrder.PROPERTY_ASCENDING,
+                                                       "testUser", getProperties("one"), new Date(asOfTime.getTime()));
+        FederatedQueryKey key2 = new FederatedQueryKey("findEntitiesByProperty", "name", SequencingOrder.PROPERTY_ASCENDING,
+                                                       "testUser", getProperties("one"), new Date(asOfTime.getTime()));
+        FederatedQueryKey key3 = new FederatedQueryKey("findEntitiesByProperty", "name", SequencingOrder.PROPERTY_ASCENDING,
+                                                       "testUser", getProperties("two"), new Date(asOfTime.getTime()));
+
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+        assertNotEquals(key1, key3);
+        assertNotEquals(key1, new FederatedQueryKey("findEntitiesByProperty", "name", SequencingOrder.PROPERTY_DESCENDING,
+                                                    "testUser", getProperties("one"), new Date(asOfTime.getTime())));
+    }
+
+
+    /**
+     * Return match properties with a single string property.
+     *
+     * @param name value of the name property
+     * @return properties
+     */
+    private InstanceProperties getProperties(String name)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(name);
+
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("name", propertyValue);
+
+        return properties;
+    }
+
+
+    /**
+     * Return the comparator for GUID order.
+     *
+     * @return comparator
+     */
+    private Comparator<EntityDetail> getComparator()
+    {
+        return FederatedQueryCursor.getComparator(null, SequencingOrder.GUID, EntityDetail::getProperties);
+    }
+
+
+    /**
+     * Merge the page and return the GUIDs of the instances passed to the consumer.
+     *
+     * @param cursor cursor for the page
+     * @return list of GUIDs
+     */
+    private List<String> getPage(FederatedQueryCursor<EntityDetail> cursor)
+    {
+        List<String> page = new ArrayList<>();
+
+        cursor.mergePage((results, metadataCollectionId) -> results.forEach(entity -> page.add(entity.getGUID())),
+                         (metadataCollectionId, error) -> fail("Unexpected error from " + metadataCollectionId));
+
+        return page;
+    }
+
+
+    /**
+     * Repository that returns a range from a sorted list of entities.  It checks that the cursor is not locked
+     * while it is called.
+     */
+    private static class TestRepository implements FederatedQueryCursor.RepositoryQuery<EntityDetail>
+    {
+        private final List<EntityDetail> entities         = new ArrayList<>();
+        private       int                elementsReturned = 0;
+        private       Exception          failure          = null;
+        private       Object             cursor           = null;
+
+        TestRepository(String... guids)
+        {
+            for (String guid : guids)
+            {
+                EntityDetail entity = new EntityDetail();
+
+                entity.setGUID(guid);
+                entities.add(entity);
+            }
+        }
+
+        @Override
+        public List<EntityDetail> getResults(OMRSMetadataCollection metadataCollection,
+                                             int                    fromElement,
+                                             int                    pageSize) throws Exception
+        {
+            if ((cursor != null) && (Thread.holdsLock(cursor)))
+            {
+                throw new IllegalStateException("Repository called while the cursor is locked");
+            }
+
+            if (failure != null)
+            {
+                throw failure;
+            }
+
+            if (fromElement >= entities.size())
+            {
+                return null;
+            }
+
+            List<EntityDetail> results = entities.subList(fromElement, Math.min(fromElement + pageSize, entities.size()));
+
+            elementsReturned = elementsReturned + results.size();
+
+            return new ArrayList<>(results);
+        }
+    }
+}
@@ -29,5 +29,10 @@ public class OMAGServerProperties {
      * USED ONLY TO EXPERIMENT DUE TO UNDERLYING SPRING YAML CONFIGURATION PROCESSING BEHAVIOUR THAT COMPROMISES THE CURRENT FUNCTIONALITY.
      */
     private OMAGServerConfig serverConfig;
+    /**
+     * Run the inbound REST requests on virtual threads rather than the fixed pool of Tomcat worker threads.
+     * Requires Java 21 or later - with an earlier Java runtime the Tomcat worker pool is still used.
+     */
+    private boolean virtualThreads = false;
 
 }
@@ -0,0 +1,82 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.serverchassis.springboot.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class provides the configuration bean that runs the inbound REST requests on virtual threads.  It is only active when
+ * the application property `omag.virtual-threads` is set to true.  The REST requests of the OMAG services spend most of their
+ * time waiting for calls to remote servers and repositories, so a virtual thread per request means the number of
+ * requests in progress is no longer limited by the size of the Tomcat worker pool.
+ * The platform is built for Java 17, so the virtual thread executor is located at runtime.  If the Java runtime does not
+ * support virtual threads, a warning is logged and the Tomcat worker pool is used.
+ */
+@Configuration
+@ConditionalOnProperty(name = "omag.virtual-threads", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfiguration.class);
+    private static final String virtualThreadExecutorFactoryMethod = "newVirtualThreadPerTaskExecutor";
+
+    /**
+     * Provides the customizer that replaces the Tomcat worker pool with a virtual thread per request.
+     *
+     * @return TomcatProtocolHandlerCustomizer instance
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return getProtocolHandlerCustomizer(createVirtualThreadExecutor());
+    }
+
+    /**
+     * Return the customizer that installs the supplied executor, or leaves the Tomcat worker pool in place if there is none.
+     *
+     * @param virtualThreadExecutor executor or null if the Java runtime does not support virtual threads
+     * @return TomcatProtocolHandlerCustomizer instance
+     */
+    static TomcatProtocolHandlerCustomizer<ProtocolHandler> getProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> {
+            if (virtualThreadExecutor != null) {
+                log.info("REST requests will run on virtual threads");
+                protocolHandler.setExecutor(virtualThreadExecutor);
+            }
+        };
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task.
+     *
+     * @return executor or null if the Java runtime does not support virtual threads
+     */
+    static ExecutorService createVirtualThreadExecutor() {
+        return createVirtualThreadExecutor(Executors.class);
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task using the newVirtualThreadPerTaskExecutor method of the supplied class.
+     *
+     * @param executorFactory class with a static newVirtualThreadPerTaskExecutor method
+     * @return executor or null if the factory method is missing or fails
+     */
+    static ExecutorService createVirtualThreadExecutor(Class<?> executorFactory) {
+        try {
+            return (ExecutorService) executorFactory.getMethod(virtualThreadExecutorFactoryMethod).invoke(null);
+        } catch (NoSuchMethodException error) {
+            log.warn("Virtual threads requested but Java {} does not support them - using the Tomcat worker pool", Runtime.version());
+        } catch (ReflectiveOperationException error) {
+            log.warn("Unable to create the virtual thread executor - using the Tomcat worker pool", error);
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.serverchassis.springboot.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Verify that VirtualThreadConfiguration keeps the Tomcat worker pool when the virtual thread executor can not be created.
+ */
+class VirtualThreadConfigurationTest {
+
+    /**
+     * Factory whose executor method is available.
+     */
+    public static class AvailableExecutorFactory {
+        static final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        public static ExecutorService newVirtualThreadPerTaskExecutor() {
+            return executor;
+        }
+    }
+
+    /**
+     * Factory whose executor method fails, as it does when virtual threads are a preview feature that is not enabled.
+     */
+    public static class FailingExecutorFactory {
+        public static ExecutorService newVirtualThreadPerTaskExecutor() {
+            throw new UnsupportedOperationException("Preview features are not enabled");
+        }
+    }
+
+    @Test
+    void executorIsCreatedWhenAvailable() {
+        assertSame(AvailableExecutorFactory.executor, VirtualThreadConfiguration.createVirtualThreadExecutor(AvailableExecutorFactory.class));
+
+        AvailableExecutorFactory.executor.shutdown();
+    }
+
+    @Test
+    void noExecutorWhenRuntimeHasNoVirtualThreads() {
+        assertNull(VirtualThreadConfiguration.createVirtualThreadExecutor(Object.class));
+    }
+
+    @Test
+    void noExecutorWhenFactoryMethodFails() {
+        assertNull(VirtualThreadConfiguration.createVirtualThreadExecutor(FailingExecutorFactory.class));
+    }
+
+    @Test
+    void defaultExecutorMatchesJavaRuntime() {
+        ExecutorService executor = VirtualThreadConfiguration.createVirtualThreadExecutor();
+
+        if (Runtime.version().feature() >= 21) {
+            assertNotNull(executor);
+            executor.shutdown();
+        } else {
+            assertNull(executor);
+        }
+    }
+
+    @Test
+    void workerPoolIsKeptWithoutExecutor() {
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+
+        VirtualThreadConfiguration.getProtocolHandlerCustomizer(null).customize(protocolHandler);
+
+        verify(protocolHandler, never()).setExecutor(any());
+    }
+
+    @Test
+    void executorIsInstalled() {
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        VirtualThreadConfiguration.getProtocolHandlerCustomizer(executor).customize(protocolHandler);
+
+        verify(protocolHandler).setExecutor(executor);
+        executor.shutdown();
+    }
+}
@@ -55,6 +55,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -70,6 +71,19 @@ public class RexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * The type information for a repository server is retrieved again once it is older than this
+     * interval (in milliseconds).  The TypeExplorer is only rebuilt if the TypeDef versions have changed.
+     */
+    private static final long TYPE_EXPLORER_REVALIDATION_INTERVAL = 60000;
+
+    /*
+     * Entity neighborhoods are reused for this time (in milliseconds) so that repeated clicks on the
+     * same entity do not repeat the remote query.  At most NEIGHBORHOOD_CACHE_SIZE neighborhoods are kept.
+     */
+    private static final long NEIGHBORHOOD_CACHE_TIME_TO_LIVE = 10000;
+    private static final int  NEIGHBORHOOD_CACHE_SIZE         = 200;
+
 
     /*
      * viewServiceOptions should have been validated in the Admin layer.
@@ -113,6 +127,16 @@ public class RexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    private final Map<String, RepositoryCacheEntry>   repositoryCache   = new ConcurrentHashMap<>();   // map is keyed using serverName+platformRootURL+enterpriseOption+userId
+    private final Map<String, NeighborhoodCacheEntry> neighborhoodCache = new LinkedHashMap<>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, NeighborhoodCacheEntry> eldest)
+        {
+            return size() > NEIGHBORHOOD_CACHE_SIZE;
+        }
+    };
+
 
 
 
@@ -282,74 +306,320 @@ public class RexViewHandler
                 repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
             }
 
-            TypeExplorer tex = new TypeExplorer();
+            return getRepositoryCacheEntry(userId,
+                                           repositoryServerName,
+                                           platformRootURL,
+                                           enterpriseOption,
+                                           repositoryServicesClient).typeExplorer;
+        }
+
+
+        catch (UserNotAuthorizedException e)
+        {
+            throw RexExceptionHandler.mapOMRSUserNotAuthorizedException(this.getClass().getName(), methodName, e);
+        }
+        catch (RepositoryErrorException e)
+        {
+            throw RexExceptionHandler.mapOMRSRepositoryErrorException(this.getClass().getName(), methodName, e);
+        }
+        catch (InvalidParameterException e)
+        {
+            throw RexExceptionHandler.mapOMRSInvalidParameterException(this.getClass().getName(), methodName, e);
+        }
+
+
+    }
+
+    /**
+     * Return the cached type information and metadata collection id for a repository server, refreshing them
+     * if they have not been validated within the type explorer revalidation interval.  When the refreshed
+     * TypeDefs have the same versions as the cached ones, the existing TypeExplorer is kept rather than rebuilt.
+     * Entries are cached per user so that the repository server authorizes each user's access to the types.
+     *
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformRootURL The root URL of the platform running the repository server
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param repositoryServicesClient client for the repository server
+     * @return cache entry for the repository server
+     *
+     * Exceptions
+     * @throws InvalidParameterException  the userId is null
+     * @throws RepositoryErrorException  there is a problem communicating with the repository server
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation
+     */
+    private RepositoryCacheEntry getRepositoryCacheEntry(String                           userId,
+                                                         String                           repositoryServerName,
+                                                         String                           platformRootURL,
+                                                         boolean                          enterpriseOption,
+                                                         MetadataCollectionServicesClient repositoryServicesClient)
+    throws
+        InvalidParameterException,
+        RepositoryErrorException,
+        UserNotAuthorizedException
+    {
+        String               serverKey   = repositoryServerName + platformRootURL + enterpriseOption;
+        String               cacheKey    = serverKey + "|" + userId;
+        RepositoryCacheEntry cachedEntry = repositoryCache.get(cacheKey);
+        long                 now         = this.getCurrentTime();
+
+        if (cachedEntry != null && now - cachedEntry.lastValidated < TYPE_EXPLORER_REVALIDATION_INTERVAL)
+        {
+            return cachedEntry;
+        }
+
+        TypeDefGallery typeDefGallery       = repositoryServicesClient.getAllTypes(userId);
+        String         typeDefVersions      = getTypeDefVersions(typeDefGallery);
+        String         metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
+        TypeExplorer   typeExplorer;
+
+        if (cachedEntry != null && typeDefVersions.equals(cachedEntry.typeDefVersions))
+        {
+            typeExplorer = cachedEntry.typeExplorer;
+        }
+        else
+        {
+            log.debug("Building type explorer for server " + repositoryServerName + " on platform " + platformRootURL);
 
-            TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
+            typeExplorer = buildTypeExplorer(typeDefGallery, repositoryServerName, platformRootURL);
 
-            List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
-            for (TypeDef typeDef : typeDefs)
+            /*
+             * The types have changed so the instances cached for this server may no longer be valid for any user.
+             */
+            synchronized (neighborhoodCache)
             {
-                TypeDefCategory tdCat = typeDef.getCategory();
-                switch (tdCat)
-                {
-                    case ENTITY_DEF:
-                        EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
-                        tex.addEntityExplorer(typeDef.getName(), eex);
-                        break;
-                    case RELATIONSHIP_DEF:
-                        RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
-                        tex.addRelationshipExplorer(typeDef.getName(), rex);
-                        break;
-                    case CLASSIFICATION_DEF:
-                        ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
-                        tex.addClassificationExplorer(typeDef.getName(), cex);
-                        break;
-                    default:
-                        // Ignore this typeDef and continue with next
-                        break;
-                }
+                neighborhoodCache.keySet().removeIf(key -> key.startsWith(serverKey + "|"));
             }
+        }
+
+        RepositoryCacheEntry refreshedEntry = new RepositoryCacheEntry(typeExplorer, typeDefVersions, metadataCollectionId, now);
+        repositoryCache.put(cacheKey, refreshedEntry);
+
+        return refreshedEntry;
+    }
+
+
+    /**
+     * Return the metadataCollectionId of the repository server, using the value cached alongside its type information.
+     *
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformRootURL The root URL of the platform running the repository server
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param repositoryServicesClient client for the repository server
+     * @return metadataCollectionId
+     *
+     * Exceptions
+     * @throws InvalidParameterException  the userId is null
+     * @throws RepositoryErrorException  there is a problem communicating with the repository server
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation
+     */
+    String getMetadataCollectionId(String                           userId,
+                                   String                           repositoryServerName,
+                                   String                           platformRootURL,
+                                   boolean                          enterpriseOption,
+                                   MetadataCollectionServicesClient repositoryServicesClient)
+    throws
+        InvalidParameterException,
+        RepositoryErrorException,
+        UserNotAuthorizedException
+    {
+        return getRepositoryCacheEntry(userId,
+                                       repositoryServerName,
+                                       platformRootURL,
+                                       enterpriseOption,
+                                       repositoryServicesClient).metadataCollectionId;
+    }
 
-            // Include EnumDefs in the TEX
-            List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
-            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+
+    /**
+     * Build a TypeExplorer from the TypeDefs retrieved from the repository server.
+     *
+     * @param typeDefGallery TypeDefs and AttributeTypeDefs from the repository server
+     * @param repositoryServerName The name of the repository server (for error logging)
+     * @param platformRootURL The root URL of the platform running the repository server (for error logging)
+     * @return resolved TypeExplorer
+     *
+     * Exceptions
+     * @throws RepositoryErrorException  the types returned by the repository server could not be resolved
+     */
+    private TypeExplorer buildTypeExplorer(TypeDefGallery typeDefGallery,
+                                           String         repositoryServerName,
+                                           String         platformRootURL)
+    throws
+        RepositoryErrorException
+    {
+        TypeExplorer tex = new TypeExplorer();
+
+        List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
+        for (TypeDef typeDef : typeDefs)
+        {
+            TypeDefCategory tdCat = typeDef.getCategory();
+            switch (tdCat)
             {
-                AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
-                switch (tdCat)
-                {
-                    case ENUM_DEF:
-                        tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
-                        break;
-                    default:
-                        // Ignore this AttributeTypeDef and continue with next
-                        break;
-                }
+                case ENTITY_DEF:
+                    EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
+                    tex.addEntityExplorer(typeDef.getName(), eex);
+                    break;
+                case RELATIONSHIP_DEF:
+                    RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
+                    tex.addRelationshipExplorer(typeDef.getName(), rex);
+                    break;
+                case CLASSIFICATION_DEF:
+                    ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
+                    tex.addClassificationExplorer(typeDef.getName(), cex);
+                    break;
+                default:
+                    // Ignore this typeDef and continue with next
+                    break;
             }
+        }
 
-            // All typeDefs processed, resolve linkages and return the TEX object
-            // The platformRootURL and repositoryName are passed in only for error logging
-            tex.resolve(platformRootURL, repositoryServerName);
-            return tex;
-
+        // Include EnumDefs in the TEX
+        List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
+        for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+        {
+            AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
+            switch (tdCat)
+            {
+                case ENUM_DEF:
+                    tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
+                    break;
+                default:
+                    // Ignore this AttributeTypeDef and continue with next
+                    break;
+            }
         }
 
+        // All typeDefs processed, resolve linkages and return the TEX object
+        // The platformRootURL and repositoryName are passed in only for error logging
+        tex.resolve(platformRootURL, repositoryServerName);
+        return tex;
+    }
 
-        catch (UserNotAuthorizedException e)
+
+    /**
+     * Return a string that identifies the versions of all the TypeDefs and AttributeTypeDefs in the gallery.
+     * It changes whenever a type is added, removed or updated.
+     *
+     * @param typeDefGallery TypeDefs and AttributeTypeDefs from the repository server
+     * @return version string
+     */
+    private String getTypeDefVersions(TypeDefGallery typeDefGallery)
+    {
+        List<String> typeVersions = new ArrayList<>();
+
+        if (typeDefGallery.getTypeDefs() != null)
         {
-            throw RexExceptionHandler.mapOMRSUserNotAuthorizedException(this.getClass().getName(), methodName, e);
+            for (TypeDef typeDef : typeDefGallery.getTypeDefs())
+            {
+                typeVersions.add(typeDef.getGUID() + ":" + typeDef.getVersion());
+            }
         }
-        catch (RepositoryErrorException e)
+
+        if (typeDefGallery.getAttributeTypeDefs() != null)
         {
-            throw RexExceptionHandler.mapOMRSRepositoryErrorException(this.getClass().getName(), methodName, e);
+            for (AttributeTypeDef attributeTypeDef : typeDefGallery.getAttributeTypeDefs())
+            {
+                typeVersions.add(attributeTypeDef.getGUID() + ":" + attributeTypeDef.getVersion());
+            }
         }
-        catch (InvalidParameterException e)
+
+        Collections.sort(typeVersions);
+
+        return String.join(",", typeVersions);
+    }
+
+
+    /**
+     * Retrieve the neighborhood surrounding an entity, using a recently retrieved copy if one is cached.
+     * Neighborhoods are cached per user for the neighborhood cache time to live so that repeated expansion
+     * of the same entity from the UI does not repeat the remote query.
+     *
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformRootURL The root URL of the platform running the repository server
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param repositoryServicesClient client for the repository server
+     * @param entityGUID the identity of the entity from which to traverse
+     * @param entityTypeGUIDs the GUIDs of entity types to filter the neighborhood
+     * @param relationshipTypeGUIDs the GUIDs of relationship types to filter the neighborhood
+     * @param classificationNames the names of classification types to filter the neighborhood
+     * @param asOfTime  return the entities and relationships at this date, if null then now.
+     * @param depth the depth to which the method should traverse
+     * @return instance graph
+     *
+     * Exceptions
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws RepositoryErrorException  there is a problem communicating with the repository server
+     * @throws TypeErrorException  one of the type GUIDs is not known
+     * @throws EntityNotKnownException  the entity is not known
+     * @throws PropertyErrorException  a classification name is not known
+     * @throws FunctionNotSupportedException  the repository does not support asOfTime queries
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation
+     */
+    private InstanceGraph getEntityNeighborhood(String                           userId,
+                                                String                           repositoryServerName,
+                                                String                           platformRootURL,
+                                                boolean                          enterpriseOption,
+                                                MetadataCollectionServicesClient repositoryServicesClient,
+                                                String                           entityGUID,
+                                                List<String>                     entityTypeGUIDs,
+                                                List<String>                     relationshipTypeGUIDs,
+                                                List<String>                     classificationNames,
+                                                Date                             asOfTime,
+                                                int                              depth)
+    throws
+        InvalidParameterException,
+        RepositoryErrorException,
+        TypeErrorException,
+        EntityNotKnownException,
+        PropertyErrorException,
+        FunctionNotSupportedException,
+        UserNotAuthorizedException
+    {
+        String cacheKey = repositoryServerName + platformRootURL + enterpriseOption
+                                  + "|" + userId
+                                  + "|" + entityGUID
+                                  + "|" + depth
+                                  + "|" + (asOfTime == null ? "now" : asOfTime.getTime())
+                                  + "|" + entityTypeGUIDs
+                                  + "|" + relationshipTypeGUIDs
+                                  + "|" + classificationNames;
+
+        long now = this.getCurrentTime();
+
+        synchronized (neighborhoodCache)
         {
-            throw RexExceptionHandler.mapOMRSInvalidParameterException(this.getClass().getName(), methodName, e);
+            NeighborhoodCacheEntry cachedEntry = neighborhoodCache.get(cacheKey);
+
+            if (cachedEntry != null && now - cachedEntry.retrievalTime < NEIGHBORHOOD_CACHE_TIME_TO_LIVE)
+            {
+                return cachedEntry.instanceGraph;
+            }
         }
 
+        InstanceGraph instanceGraph = repositoryServicesClient.getEntityNeighborhood(userId,
+                                                                                     entityGUID,
+                                                                                     entityTypeGUIDs,
+                                                                                     relationshipTypeGUIDs,
+                                                                                     null,
+                                                                                     classificationNames,
+                                                                                     asOfTime,
+                                                                                     depth);
 
+        if (instanceGraph != null)
+        {
+            synchronized (neighborhoodCache)
+            {
+                neighborhoodCache.put(cacheKey, new NeighborhoodCacheEntry(instanceGraph, now));
+            }
+        }
+
+        return instanceGraph;
     }
 
+
     /**
      * Retrieve entity (by GUID) from the repository server
      * @param userId  userId under which the request is performed
@@ -401,7 +671,11 @@ public class RexViewHandler
              * Find the metadataCollectionId of the repository - this is used later to determine whether
              * each returned entity is homed in the metadataCollection owned by this repository, or not.
              */
-            String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
+            String metadataCollectionId = this.getMetadataCollectionId(userId,
+                                                                       repositoryServerName,
+                                                                       platformRootURL,
+                                                                       enterpriseOption,
+                                                                       repositoryServicesClient);
 
 
 
@@ -519,7 +793,11 @@ public class RexViewHandler
              * Find the metadataCollectionId of the repository - this is used later to determine whether
              * each returned entity is homed in the metadataCollection owned by this repository, or not.
              */
-            String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
+            String metadataCollectionId = this.getMetadataCollectionId(userId,
+                                                                       repositoryServerName,
+                                                                       platformRootURL,
+                                                                       enterpriseOption,
+                                                                       repositoryServicesClient);
 
 
             Relationship relationship = null;
@@ -659,7 +937,11 @@ public class RexViewHandler
              * Find the metadataCollectionId of the repository - this is used later to determine whether
              * each returned entity is homed in the metadataCollection owned by this repository, or not.
              */
-            String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
+            String metadataCollectionId = this.getMetadataCollectionId(userId,
+                                                                       repositoryServerName,
+                                                                       platformRootURL,
+                                                                       enterpriseOption,
+                                                                       repositoryServicesClient);
 
 
             TypeExplorer typeExplorer = getTypeExplorer(userId,
@@ -815,7 +1097,11 @@ public class RexViewHandler
              * Find the metadataCollectionId of the repository - this is used later to determine whether
              * each returned entity is homed in the metadataCollection owned by this repository, or not.
              */
-            String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
+            String metadataCollectionId = this.getMetadataCollectionId(userId,
+                                                                       repositoryServerName,
+                                                                       platformRootURL,
+                                                                       enterpriseOption,
+                                                                       repositoryServicesClient);
 
 
             TypeExplorer typeExplorer = getTypeExplorer(userId,
@@ -1024,14 +1310,17 @@ public class RexViewHandler
                 if (asOfTime != 0) {
                     asOfTimeDate = new Date(asOfTime);
                 }
-                instGraph = repositoryServicesClient.getEntityNeighborhood(userId,
-                                                                           entityGUID,
-                                                                           null,
-                                                                           null,
-                                                                           null,
-                                                                           null,
-                                                                           asOfTimeDate,
-                                                                           depth);
+                instGraph = this.getEntityNeighborhood(userId,
+                                                       repositoryServerName,
+                                                       platformRootURL,
+                                                       enterpriseOption,
+                                                       repositoryServicesClient,
+                                                       entityGUID,
+                                                       null,
+                                                       null,
+                                                       null,
+                                                       asOfTimeDate,
+                                                       depth);
             }
 
 
@@ -1274,7 +1563,11 @@ public class RexViewHandler
              * Find the metadataCollectionId of the repository - this is used later to determine whether
              * each returned entity is homed in the metadataCollection owned by this repository, or not.
              */
-            String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
+            String metadataCollectionId = this.getMetadataCollectionId(userId,
+                                                                       repositoryServerName,
+                                                                       platformRootURL,
+                                                                       enterpriseOption,
+                                                                       repositoryServicesClient);
 
 
 
@@ -1293,14 +1586,17 @@ public class RexViewHandler
             if (depth > 0)
             {
 
-                instGraph = repositoryServicesClient.getEntityNeighborhood(userId,
-                                                                           entityGUID,
-                                                                           entityTypeGUIDs,
-                                                                           relationshipTypeGUIDs,
-                                                                           null,
-                                                                           classificationNames,
-                                                                           asOfTimeDate,
-                                                                           depth);
+                instGraph = this.getEntityNeighborhood(userId,
+                                                       repositoryServerName,
+                                                       platformRootURL,
+                                                       enterpriseOption,
+                                                       repositoryServicesClient,
+                                                       entityGUID,
+                                                       entityTypeGUIDs,
+                                                       relationshipTypeGUIDs,
+                                                       classificationNames,
+                                                       asOfTimeDate,
+                                                       depth);
             }
 
 
@@ -1919,4 +2215,56 @@ public class RexViewHandler
 
     }
 
+
+
+    /**
+     * Return the current time used to age the cached type information and neighborhoods.
+     *
+     * @return milliseconds since the epoch
+     */
+    long getCurrentTime()
+    {
+        return System.currentTimeMillis();
+    }
+
+
+
+    /**
+     * The type information and metadataCollectionId retrieved from a repository server.
+     */
+    private static class RepositoryCacheEntry
+    {
+        private final TypeExplorer typeExplorer;
+        private final String       typeDefVersions;
+        private final String       metadataCollectionId;
+        private final long         lastValidated;
+
+        RepositoryCacheEntry(TypeExplorer typeExplorer,
+                             String       typeDefVersions,
+                             String       metadataCollectionId,
+                             long         lastValidated)
+        {
+            this.typeExplorer         = typeExplorer;
+            this.typeDefVersions      = typeDefVersions;
+            this.metadataCollectionId = metadataCollectionId;
+            this.lastValidated        = lastValidated;
+        }
+    }
+
+
+    /**
+     * An entity neighborhood retrieved from a repository server.
+     */
+    private static class NeighborhoodCacheEntry
+    {
+        private final InstanceGraph instanceGraph;
+        private final long          retrievalTime;
+
+        NeighborhoodCacheEntry(InstanceGraph instanceGraph,
+                               long          retrievalTime)
+        {
+            this.instanceGraph = instanceGraph;
+            this.retrievalTime = retrievalTime;
+        }
+    }
 }
@@ -0,0 +1,169 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.rex.handlers;
+
+import org.odpi.openmetadata.repositoryservices.clients.MetadataCollectionServicesClient;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EnumDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that RexViewHandler caches the type information and metadataCollectionId of a repository server
+ * per user and refreshes them once the revalidation interval has passed.
+ */
+public class RexViewHandlerCacheTest
+{
+    private static final String serverName      = "testServer";
+    private static final String platformRootURL = "https://localhost:9443";
+
+    private TestRexViewHandler               handler = null;
+    private MetadataCollectionServicesClient client  = null;
+
+
+    /**
+     * Set up a handler with a controllable clock and a client that returns a minimal set of types.
+     *
+     * @throws Exception problem setting up the mock
+     */
+    @BeforeMethod public void setUp() throws Exception
+    {
+        handler = new TestRexViewHandler();
+        client  = mock(MetadataCollectionServicesClient.class);
+
+        EntityDef entityDef = new EntityDef();
+
+        entityDef.setGUID("testEntityTypeGUID");
+        entityDef.setName("TestEntity");
+        entityDef.setVersion(1);
+
+        EnumDef enumDef = new EnumDef();
+
+        enumDef.setGUID("testEnumTypeGUID");
+        enumDef.setName("TestEnum");
+        enumDef.setVersion(1);
+
+        TypeDefGallery typeDefGallery = new TypeDefGallery();
+
+        typeDefGallery.setTypeDefs(List.of(entityDef));
+        typeDefGallery.setAttributeTypeDefs(List.of(enumDef));
+
+        when(client.getAllTypes(anyString())).thenReturn(typeDefGallery);
+        when(client.getMetadataCollectionId(anyString())).thenReturn("testMetadataCollectionId");
+    }
+
+
+    /**
+     * A second request from the same user within the revalidation interval is served from the cache.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testCacheHit() throws Exception
+    {
+        assertEquals(handler.getMetadataCollectionId("user1", serverName, platformRootURL, false, client), "testMetadataCollectionId");
+
+        handler.currentTime += 1000;
+
+        assertEquals(handler.getMetadataCollectionId("user1", serverName, platformRootURL, false, client), "testMetadataCollectionId");
+
+        verify(client, times(1)).getAllTypes("user1");
+        verify(client, times(1)).getMetadataCollectionId("user1");
+    }
+
+
+    /**
+     * Once the revalidation interval has passed, the types and metadataCollectionId are retrieved again.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testExpiry() throws Exception
+    {
+        handler.getMetadataCollectionId("user1", serverName, platformRootURL, false, client);
+
+        handler.currentTime += 60000;
+
+        handler.getMetadataCollectionId("user1", serverName, platformRootURL, false, client);
+
+        verify(client, times(2)).getAllTypes("user1");
+        verify(client, times(2)).getMetadataCollectionId("user1");
+    }
+
+
+    /**
+     * Each user's request is authorized by the repository server, even when another user has a cached entry.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testPerUserIsolation() throws Exception
+    {
+        when(client.getAllTypes("user2")).thenThrow(new UserNotAuthorizedException(403,
+                                                                                    this.getClass().getName(),
+                                                                                    "getAllTypes",
+                                                                                    "user2 is not authorized",
+                                                                                    "TEST-403-001",
+                                                                                    null,
+                                                                                    null,
+                                                                                    null,
+                                                                                    null,
+                                                                                    "user2",
+                                                                                    null));
+
+        handler.getMetadataCollectionId("user1", serverName, platformRootURL, false, client);
+
+        try
+        {
+            handler.getMetadataCollectionId("user2", serverName, platformRootURL, false, client);
+            fail("user2 was served user1's cached entry");
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            assertEquals(error.getUserId(), "user2");
+        }
+
+        handler.getMetadataCollectionId("user1", serverName, platformRootURL, false, client);
+
+        verify(client, times(1)).getAllTypes("user1");
+        verify(client, times(1)).getAllTypes("user2");
+    }
+
+
+    /**
+     * The enterprise and local views of the same server are cached separately.
+     *
+     * @throws Exception problem in test
+     */
+    @Test public void testEnterpriseOption() throws Exception
+    {
+        handler.getMetadataCollectionId("user1", serverName, platformRootURL, false, client);
+        handler.getMetadataCollectionId("user1", serverName, platformRootURL, true, client);
+
+        verify(client, times(2)).getAllTypes("user1");
+    }
+
+
+    /**
+     * RexViewHandler with a clock that the test moves forward.
+     */
+    private static class TestRexViewHandler extends RexViewHandler
+    {
+        private long currentTime = 1000000;
+
+        @Override
+        long getCurrentTime()
+        {
+            return currentTime;
+        }
+    }
+}